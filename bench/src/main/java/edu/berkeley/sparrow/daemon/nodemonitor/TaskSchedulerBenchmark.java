@@ -0,0 +1,104 @@
+package edu.berkeley.sparrow.daemon.nodemonitor;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.configuration.PropertiesConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.common.collect.Lists;
+
+import edu.berkeley.sparrow.daemon.util.TResources;
+import edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest;
+import edu.berkeley.sparrow.thrift.TFullTaskId;
+import edu.berkeley.sparrow.thrift.THostPort;
+import edu.berkeley.sparrow.thrift.TResourceVector;
+import edu.berkeley.sparrow.thrift.TUserGroupInfo;
+
+/**
+ * Measures the node monitor's cost of queueing reservations and of handling task completions,
+ * using the FIFO task scheduler.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TaskSchedulerBenchmark {
+  private static final String APP_ID = "app";
+  private static final TUserGroupInfo USER = new TUserGroupInfo("user", "group");
+  private static final TResourceVector RESOURCES = TResources.createResourceVector(1024, 1);
+  private static final THostPort SCHEDULER_ADDRESS = new THostPort("10.255.255.1", 20503);
+  private static final InetSocketAddress BACKEND_ADDRESS =
+      new InetSocketAddress("127.0.0.1", 20101);
+
+  /**
+   * Counts runnable tasks rather than requesting them from a scheduler, so that only the node
+   * monitor's own queueing work is measured. The task scheduler still does its usual bookkeeping
+   * (metrics, per-user queue limits, tracing) before handing the reservation over.
+   */
+  private static class CountingGetTaskHandler implements TaskScheduler.GetTaskHandler {
+    public int runnableTasks = 0;
+    /** Tasks that have been launched but not yet reported finished to the task scheduler. */
+    public int runningTasks = 0;
+
+    @Override
+    public void getTask(TaskSpec taskReservation) {
+      runnableTasks++;
+      runningTasks++;
+    }
+  }
+
+  @Param({"1", "10", "100"})
+  public int reservationsPerRequest;
+
+  @Param({"4", "16"})
+  public int slots;
+
+  private FifoTaskScheduler scheduler;
+  private CountingGetTaskHandler getTaskHandler;
+  private List<TFullTaskId> finishedTasks;
+  private int requestNumber = 0;
+
+  @Setup
+  public void setUp() {
+    scheduler = new FifoTaskScheduler(slots);
+    getTaskHandler = new CountingGetTaskHandler();
+    scheduler.setGetTaskHandler(getTaskHandler);
+    scheduler.initialize(TResources.createResourceVector(1024 * slots, slots),
+                         new PropertiesConfiguration(), 20502);
+    finishedTasks = Lists.newArrayList(new TFullTaskId("task", "", APP_ID, SCHEDULER_ADDRESS));
+  }
+
+  /**
+   * Enqueues the reservations for one request, and then completes each launched task (which
+   * launches the next queued reservation) until none are running, so that the queue is empty at
+   * the end of each invocation.
+   */
+  @Benchmark
+  public int submitAndCompleteReservations() {
+    String requestId = Integer.toString(requestNumber++);
+    scheduler.submitTaskReservations(new TEnqueueTaskReservationsRequest(
+        APP_ID, USER, requestId, RESOURCES, SCHEDULER_ADDRESS, reservationsPerRequest),
+        BACKEND_ADDRESS);
+    finishedTasks.get(0).setRequestId(requestId);
+    while (getTaskHandler.runningTasks > 0) {
+      // Decrement first: finishing a task may synchronously launch the next reservation.
+      getTaskHandler.runningTasks--;
+      scheduler.tasksFinished(finishedTasks);
+    }
+    return getTaskHandler.runnableTasks;
+  }
+}
@@ -0,0 +1,139 @@
+package edu.berkeley.sparrow.daemon.scheduler;
+
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+import edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest;
+import edu.berkeley.sparrow.thrift.THostPort;
+import edu.berkeley.sparrow.thrift.TPlacementPreference;
+import edu.berkeley.sparrow.thrift.TResourceVector;
+import edu.berkeley.sparrow.thrift.TSchedulingRequest;
+import edu.berkeley.sparrow.thrift.TTaskSpec;
+import edu.berkeley.sparrow.thrift.TUserGroupInfo;
+
+/**
+ * Measures the cost of placing a job's reservations, and of assigning tasks to the node
+ * monitors that respond to them, for the unconstrained and constrained task placers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TaskPlacerBenchmark {
+  private static final THostPort SCHEDULER_ADDRESS = new THostPort("10.255.255.1", 20503);
+  private static final double PROBE_RATIO = 2;
+  /** Number of preferred nodes for each task in constrained jobs. */
+  private static final int PREFERRED_NODES_PER_TASK = 3;
+
+  @Param({"100", "1000", "10000"})
+  public int clusterSize;
+
+  /** Kept small enough that every reservation fits on a distinct node. */
+  @Param({"1", "10", "40"})
+  public int tasksPerJob;
+
+  @Param({"unconstrained", "constrained"})
+  public String placer;
+
+  private List<InetSocketAddress> nodes;
+  private Map<InetSocketAddress, THostPort> nodeHostPorts;
+  private TSchedulingRequest request;
+  private int requestNumber = 0;
+
+  @Setup
+  public void setUp() {
+    nodes = Lists.newArrayList();
+    nodeHostPorts = Maps.newHashMap();
+    for (int i = 0; i < clusterSize; ++i) {
+      InetSocketAddress node = new InetSocketAddress(
+          "10." + (i >> 16) + "." + ((i >> 8) & 0xff) + "." + (i & 0xff), 20502);
+      nodes.add(node);
+      nodeHostPorts.put(node, new THostPort(node.getAddress().getHostAddress(), node.getPort()));
+    }
+
+    Random random = new Random(0);
+    List<TTaskSpec> tasks = Lists.newArrayList();
+    for (int i = 0; i < tasksPerJob; ++i) {
+      TPlacementPreference preference = new TPlacementPreference();
+      if (placer.equals("constrained")) {
+        for (int j = 0; j < PREFERRED_NODES_PER_TASK; ++j) {
+          InetSocketAddress node = nodes.get(random.nextInt(nodes.size()));
+          preference.addToNodes(node.getAddress().getHostAddress());
+        }
+      }
+      tasks.add(new TTaskSpec("task " + i, preference, new TResourceVector(1024, 1),
+                              ByteBuffer.allocate(8)));
+    }
+    request = new TSchedulingRequest("app", tasks, new TUserGroupInfo("user", "group"));
+  }
+
+  private TaskPlacer createTaskPlacer(String requestId) {
+    if (placer.equals("constrained")) {
+      return new ConstrainedTaskPlacer(requestId, PROBE_RATIO);
+    }
+    return new UnconstrainedTaskPlacer(requestId, PROBE_RATIO);
+  }
+
+  /** Creates the reservations for one job. */
+  @Benchmark
+  public Map<InetSocketAddress, TEnqueueTaskReservationsRequest> placeJob() {
+    String requestId = Integer.toString(requestNumber++);
+    return createTaskPlacer(requestId).getEnqueueTaskReservationsRequests(
+        request, requestId, nodes, SCHEDULER_ADDRESS);
+  }
+
+  /**
+   * Creates the reservations for one job, and then calls assignTask() once for each
+   * reservation, as the node monitors holding the reservations would.
+   */
+  @Benchmark
+  public int placeAndAssignJob() {
+    String requestId = Integer.toString(requestNumber++);
+    TaskPlacer taskPlacer = createTaskPlacer(requestId);
+    Map<InetSocketAddress, TEnqueueTaskReservationsRequest> reservations =
+        taskPlacer.getEnqueueTaskReservationsRequests(
+            request, requestId, nodes, SCHEDULER_ADDRESS);
+    int launchedTasks = 0;
+    for (Entry<InetSocketAddress, TEnqueueTaskReservationsRequest> entry :
+         reservations.entrySet()) {
+      THostPort nodeMonitor = nodeHostPorts.get(entry.getKey());
+      for (int i = 0; i < entry.getValue().getNumTasks(); ++i) {
+        launchedTasks += taskPlacer.assignTask(nodeMonitor).size();
+      }
+    }
+    return launchedTasks;
+  }
+
+  /**
+   * Same as {@link #placeAndAssignJob()}, but with several threads placing jobs at once, as
+   * the scheduler does when many frontends submit concurrently.
+   */
+  @Benchmark
+  @Threads(4)
+  public int placeAndAssignJobConcurrently() {
+    return placeAndAssignJob();
+  }
+}
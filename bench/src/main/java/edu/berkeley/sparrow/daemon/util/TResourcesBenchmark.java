@@ -0,0 +1,75 @@
+package edu.berkeley.sparrow.daemon.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.berkeley.sparrow.thrift.TResourceUsage;
+import edu.berkeley.sparrow.thrift.TResourceVector;
+
+/**
+ * Measures the {@link TResources} operations used when accounting for resource usage at node
+ * monitors and when comparing node monitor loads.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TResourcesBenchmark {
+  private TResourceVector total;
+  private TResourceVector task;
+  private TResourceUsage usage1;
+  private TResourceUsage usage2;
+  private TResources.CPUThenQueueComparator comparator = new TResources.CPUThenQueueComparator();
+
+  @Setup
+  public void setUp() {
+    total = TResources.createResourceVector(16 * 1024, 8);
+    task = TResources.createResourceVector(1024, 1);
+    usage1 = TResources.createResourceUsage(TResources.createResourceVector(2048, 2), 3);
+    usage2 = TResources.createResourceUsage(TResources.createResourceVector(2048, 2), 5);
+  }
+
+  /** Adds and then removes a task's resources in place, as the node monitor does. */
+  @Benchmark
+  public TResourceVector addToAndSubtractFrom() {
+    TResources.addTo(total, task);
+    return TResources.subtractFrom(total, task);
+  }
+
+  @Benchmark
+  public TResourceVector add() {
+    return TResources.add(total, task);
+  }
+
+  @Benchmark
+  public TResourceVector subtract() {
+    return TResources.subtract(total, task);
+  }
+
+  @Benchmark
+  public boolean isLessThanOrEqualTo() {
+    return TResources.isLessThanOrEqualTo(task, total);
+  }
+
+  @Benchmark
+  public TResourceVector cloneVector() {
+    return TResources.clone(task);
+  }
+
+  @Benchmark
+  public int compareUsage() {
+    return comparator.compare(usage1, usage2);
+  }
+}
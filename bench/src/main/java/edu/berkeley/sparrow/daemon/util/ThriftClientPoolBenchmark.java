@@ -0,0 +1,80 @@
+package edu.berkeley.sparrow.daemon.util;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.common.collect.Lists;
+
+import edu.berkeley.sparrow.thrift.InternalService;
+
+/**
+ * Measures the cost of borrowing a client from a {@link ThriftClientPool} and returning it,
+ * which the scheduler does for every node monitor it sends reservations to.
+ *
+ * Clients are created with unconnected sockets, so no servers need to be running.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ThriftClientPoolBenchmark {
+  /** Number of distinct addresses that clients are borrowed for. */
+  @Param({"1", "100"})
+  public int numAddresses;
+
+  private ThriftClientPool<InternalService.AsyncClient> pool;
+  private List<InetSocketAddress> addresses;
+
+  /** Index of the next address to use; per thread, so threads don't contend on it. */
+  @State(Scope.Thread)
+  public static class Cursor {
+    public int next = 0;
+  }
+
+  @Setup
+  public void setUp() throws Exception {
+    pool = new ThriftClientPool<InternalService.AsyncClient>(
+        new ThriftClientPool.InternalServiceMakerFactory());
+    addresses = Lists.newArrayList();
+    for (int i = 0; i < numAddresses; ++i) {
+      addresses.add(new InetSocketAddress("10.0." + (i >> 8) + "." + (i & 0xff), 20502));
+    }
+    // Fill the pool, so that the measurement doesn't include creating clients.
+    for (InetSocketAddress address : addresses) {
+      pool.returnClient(address, pool.borrowClient(address));
+    }
+  }
+
+  @Benchmark
+  public InternalService.AsyncClient borrowAndReturn(Cursor cursor) throws Exception {
+    InetSocketAddress address = addresses.get(cursor.next);
+    cursor.next = (cursor.next + 1) % addresses.size();
+    InternalService.AsyncClient client = pool.borrowClient(address);
+    pool.returnClient(address, client);
+    return client;
+  }
+
+  /** Same as {@link #borrowAndReturn}, but with several threads sharing the pool. */
+  @Benchmark
+  @Threads(4)
+  public InternalService.AsyncClient borrowAndReturnConcurrently(Cursor cursor)
+      throws Exception {
+    return borrowAndReturn(cursor);
+  }
+}
@@ -33,12 +33,16 @@ public class FrontendService {
 
     public void frontendMessage(edu.berkeley.sparrow.thrift.TFullTaskId taskId, int status, ByteBuffer message) throws org.apache.thrift.TException;
 
+    public void tasksLaunched(Map<String,List<String>> launchedTasks) throws org.apache.thrift.TException;
+
   }
 
   public interface AsyncIface {
 
     public void frontendMessage(edu.berkeley.sparrow.thrift.TFullTaskId taskId, int status, ByteBuffer message, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.frontendMessage_call> resultHandler) throws org.apache.thrift.TException;
 
+    public void tasksLaunched(Map<String,List<String>> launchedTasks, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.tasksLaunched_call> resultHandler) throws org.apache.thrift.TException;
+
   }
 
   public static class Client extends org.apache.thrift.TServiceClient implements Iface {
@@ -83,6 +87,26 @@ public class FrontendService {
       return;
     }
 
+    public void tasksLaunched(Map<String,List<String>> launchedTasks) throws org.apache.thrift.TException
+    {
+      send_tasksLaunched(launchedTasks);
+      recv_tasksLaunched();
+    }
+
+    public void send_tasksLaunched(Map<String,List<String>> launchedTasks) throws org.apache.thrift.TException
+    {
+      tasksLaunched_args args = new tasksLaunched_args();
+      args.setLaunchedTasks(launchedTasks);
+      sendBase("tasksLaunched", args);
+    }
+
+    public void recv_tasksLaunched() throws org.apache.thrift.TException
+    {
+      tasksLaunched_result result = new tasksLaunched_result();
+      receiveBase(result, "tasksLaunched");
+      return;
+    }
+
   }
   public static class AsyncClient extends org.apache.thrift.async.TAsyncClient implements AsyncIface {
     public static class Factory implements org.apache.thrift.async.TAsyncClientFactory<AsyncClient> {
@@ -139,6 +163,38 @@ public class FrontendService {
       }
     }
 
+    public void tasksLaunched(Map<String,List<String>> launchedTasks, org.apache.thrift.async.AsyncMethodCallback<tasksLaunched_call> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      tasksLaunched_call method_call = new tasksLaunched_call(launchedTasks, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class tasksLaunched_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private Map<String,List<String>> launchedTasks;
+      public tasksLaunched_call(Map<String,List<String>> launchedTasks, org.apache.thrift.async.AsyncMethodCallback<tasksLaunched_call> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.launchedTasks = launchedTasks;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("tasksLaunched", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        tasksLaunched_args args = new tasksLaunched_args();
+        args.setLaunchedTasks(launchedTasks);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public void getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        (new Client(prot)).recv_tasksLaunched();
+      }
+    }
+
   }
 
   public static class Processor<I extends Iface> extends org.apache.thrift.TBaseProcessor<I> implements org.apache.thrift.TProcessor {
@@ -153,6 +209,7 @@ public class FrontendService {
 
     private static <I extends Iface> Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> getProcessMap(Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> processMap) {
       processMap.put("frontendMessage", new frontendMessage());
+      processMap.put("tasksLaunched", new tasksLaunched());
       return processMap;
     }
 
@@ -172,6 +229,22 @@ public class FrontendService {
       }
     }
 
+    private static class tasksLaunched<I extends Iface> extends org.apache.thrift.ProcessFunction<I, tasksLaunched_args> {
+      public tasksLaunched() {
+        super("tasksLaunched");
+      }
+
+      protected tasksLaunched_args getEmptyArgsInstance() {
+        return new tasksLaunched_args();
+      }
+
+      protected tasksLaunched_result getResult(I iface, tasksLaunched_args args) throws org.apache.thrift.TException {
+        tasksLaunched_result result = new tasksLaunched_result();
+        iface.tasksLaunched(args.launchedTasks);
+        return result;
+      }
+    }
+
   }
 
   public static class frontendMessage_args implements org.apache.thrift.TBase<frontendMessage_args, frontendMessage_args._Fields>, java.io.Serializable, Cloneable   {
@@ -982,4 +1055,699 @@ public class FrontendService {
 
   }
 
+  public static class tasksLaunched_args implements org.apache.thrift.TBase<tasksLaunched_args, tasksLaunched_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("tasksLaunched_args");
+
+    private static final org.apache.thrift.protocol.TField LAUNCHED_TASKS_FIELD_DESC = new org.apache.thrift.protocol.TField("launchedTasks", org.apache.thrift.protocol.TType.MAP, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new tasksLaunched_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new tasksLaunched_argsTupleSchemeFactory());
+    }
+
+    public Map<String,List<String>> launchedTasks; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      LAUNCHED_TASKS((short)1, "launchedTasks");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // LAUNCHED_TASKS
+            return LAUNCHED_TASKS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.LAUNCHED_TASKS, new org.apache.thrift.meta_data.FieldMetaData("launchedTasks", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.MapMetaData(org.apache.thrift.protocol.TType.MAP, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING), 
+              new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+                  new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(tasksLaunched_args.class, metaDataMap);
+    }
+
+    public tasksLaunched_args() {
+    }
+
+    public tasksLaunched_args(
+      Map<String,List<String>> launchedTasks)
+    {
+      this();
+      this.launchedTasks = launchedTasks;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public tasksLaunched_args(tasksLaunched_args other) {
+      if (other.isSetLaunchedTasks()) {
+        Map<String,List<String>> __this__launchedTasks = new HashMap<String,List<String>>();
+        for (Map.Entry<String, List<String>> other_element : other.launchedTasks.entrySet()) {
+
+          String other_element_key = other_element.getKey();
+          List<String> other_element_value = other_element.getValue();
+
+          String __this__launchedTasks_copy_key = other_element_key;
+
+          List<String> __this__launchedTasks_copy_value = new ArrayList<String>();
+          for (String other_element_value_element : other_element_value) {
+            __this__launchedTasks_copy_value.add(other_element_value_element);
+          }
+
+          __this__launchedTasks.put(__this__launchedTasks_copy_key, __this__launchedTasks_copy_value);
+        }
+        this.launchedTasks = __this__launchedTasks;
+      }
+    }
+
+    public tasksLaunched_args deepCopy() {
+      return new tasksLaunched_args(this);
+    }
+
+    public void clear() {
+      this.launchedTasks = null;
+    }
+
+    public int getLaunchedTasksSize() {
+      return (this.launchedTasks == null) ? 0 : this.launchedTasks.size();
+    }
+
+    public void putToLaunchedTasks(String key, List<String> val) {
+      if (this.launchedTasks == null) {
+        this.launchedTasks = new HashMap<String,List<String>>();
+      }
+      this.launchedTasks.put(key, val);
+    }
+
+    public Map<String,List<String>> getLaunchedTasks() {
+      return this.launchedTasks;
+    }
+
+    public tasksLaunched_args setLaunchedTasks(Map<String,List<String>> launchedTasks) {
+      this.launchedTasks = launchedTasks;
+      return this;
+    }
+
+    public void unsetLaunchedTasks() {
+      this.launchedTasks = null;
+    }
+
+    /** Returns true if field launchedTasks is set (has been assigned a value) and false otherwise */
+    public boolean isSetLaunchedTasks() {
+      return this.launchedTasks != null;
+    }
+
+    public void setLaunchedTasksIsSet(boolean value) {
+      if (!value) {
+        this.launchedTasks = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case LAUNCHED_TASKS:
+        if (value == null) {
+          unsetLaunchedTasks();
+        } else {
+          setLaunchedTasks((Map<String,List<String>>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case LAUNCHED_TASKS:
+        return getLaunchedTasks();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case LAUNCHED_TASKS:
+        return isSetLaunchedTasks();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof tasksLaunched_args)
+        return this.equals((tasksLaunched_args)that);
+      return false;
+    }
+
+    public boolean equals(tasksLaunched_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_launchedTasks = true && this.isSetLaunchedTasks();
+      boolean that_present_launchedTasks = true && that.isSetLaunchedTasks();
+      if (this_present_launchedTasks || that_present_launchedTasks) {
+        if (!(this_present_launchedTasks && that_present_launchedTasks))
+          return false;
+        if (!this.launchedTasks.equals(that.launchedTasks))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(tasksLaunched_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      tasksLaunched_args typedOther = (tasksLaunched_args)other;
+
+      lastComparison = Boolean.valueOf(isSetLaunchedTasks()).compareTo(typedOther.isSetLaunchedTasks());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetLaunchedTasks()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.launchedTasks, typedOther.launchedTasks);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("tasksLaunched_args(");
+      boolean first = true;
+
+      sb.append("launchedTasks:");
+      if (this.launchedTasks == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.launchedTasks);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private static class tasksLaunched_argsStandardSchemeFactory implements SchemeFactory {
+      public tasksLaunched_argsStandardScheme getScheme() {
+        return new tasksLaunched_argsStandardScheme();
+      }
+    }
+
+    private static class tasksLaunched_argsStandardScheme extends StandardScheme<tasksLaunched_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, tasksLaunched_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // LAUNCHED_TASKS
+              if (schemeField.type == org.apache.thrift.protocol.TType.MAP) {
+                {
+                  org.apache.thrift.protocol.TMap _map32 = iprot.readMapBegin();
+                  struct.launchedTasks = new HashMap<String,List<String>>(2*_map32.size);
+                  for (int _i33 = 0; _i33 < _map32.size; ++_i33)
+                  {
+                    String _key34; // required
+                    List<String> _val35; // required
+                    _key34 = iprot.readString();
+                    {
+                      org.apache.thrift.protocol.TList _list36 = iprot.readListBegin();
+                      _val35 = new ArrayList<String>(_list36.size);
+                      for (int _i37 = 0; _i37 < _list36.size; ++_i37)
+                      {
+                        String _elem38; // required
+                        _elem38 = iprot.readString();
+                        _val35.add(_elem38);
+                      }
+                      iprot.readListEnd();
+                    }
+                    struct.launchedTasks.put(_key34, _val35);
+                  }
+                  iprot.readMapEnd();
+                }
+                struct.setLaunchedTasksIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, tasksLaunched_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.launchedTasks != null) {
+          oprot.writeFieldBegin(LAUNCHED_TASKS_FIELD_DESC);
+          {
+            oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.LIST, struct.launchedTasks.size()));
+            for (Map.Entry<String, List<String>> _iter39 : struct.launchedTasks.entrySet())
+            {
+              oprot.writeString(_iter39.getKey());
+              {
+                oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, _iter39.getValue().size()));
+                for (String _iter40 : _iter39.getValue())
+                {
+                  oprot.writeString(_iter40);
+                }
+                oprot.writeListEnd();
+              }
+            }
+            oprot.writeMapEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class tasksLaunched_argsTupleSchemeFactory implements SchemeFactory {
+      public tasksLaunched_argsTupleScheme getScheme() {
+        return new tasksLaunched_argsTupleScheme();
+      }
+    }
+
+    private static class tasksLaunched_argsTupleScheme extends TupleScheme<tasksLaunched_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, tasksLaunched_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetLaunchedTasks()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetLaunchedTasks()) {
+          {
+            oprot.writeI32(struct.launchedTasks.size());
+            for (Map.Entry<String, List<String>> _iter41 : struct.launchedTasks.entrySet())
+            {
+              oprot.writeString(_iter41.getKey());
+              {
+                oprot.writeI32(_iter41.getValue().size());
+                for (String _iter42 : _iter41.getValue())
+                {
+                  oprot.writeString(_iter42);
+                }
+              }
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, tasksLaunched_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TMap _map43 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.LIST, iprot.readI32());
+            struct.launchedTasks = new HashMap<String,List<String>>(2*_map43.size);
+            for (int _i44 = 0; _i44 < _map43.size; ++_i44)
+            {
+              String _key45; // required
+              List<String> _val46; // required
+              _key45 = iprot.readString();
+              {
+                org.apache.thrift.protocol.TList _list47 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+                _val46 = new ArrayList<String>(_list47.size);
+                for (int _i48 = 0; _i48 < _list47.size; ++_i48)
+                {
+                  String _elem49; // required
+                  _elem49 = iprot.readString();
+                  _val46.add(_elem49);
+                }
+              }
+              struct.launchedTasks.put(_key45, _val46);
+            }
+          }
+          struct.setLaunchedTasksIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class tasksLaunched_result implements org.apache.thrift.TBase<tasksLaunched_result, tasksLaunched_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("tasksLaunched_result");
+
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new tasksLaunched_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new tasksLaunched_resultTupleSchemeFactory());
+    }
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(tasksLaunched_result.class, metaDataMap);
+    }
+
+    public tasksLaunched_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public tasksLaunched_result(tasksLaunched_result other) {
+    }
+
+    public tasksLaunched_result deepCopy() {
+      return new tasksLaunched_result(this);
+    }
+
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof tasksLaunched_result)
+        return this.equals((tasksLaunched_result)that);
+      return false;
+    }
+
+    public boolean equals(tasksLaunched_result that) {
+      if (that == null)
+        return false;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(tasksLaunched_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      tasksLaunched_result typedOther = (tasksLaunched_result)other;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("tasksLaunched_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private static class tasksLaunched_resultStandardSchemeFactory implements SchemeFactory {
+      public tasksLaunched_resultStandardScheme getScheme() {
+        return new tasksLaunched_resultStandardScheme();
+      }
+    }
+
+    private static class tasksLaunched_resultStandardScheme extends StandardScheme<tasksLaunched_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, tasksLaunched_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, tasksLaunched_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class tasksLaunched_resultTupleSchemeFactory implements SchemeFactory {
+      public tasksLaunched_resultTupleScheme getScheme() {
+        return new tasksLaunched_resultTupleScheme();
+      }
+    }
+
+    private static class tasksLaunched_resultTupleScheme extends TupleScheme<tasksLaunched_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, tasksLaunched_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, tasksLaunched_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+      }
+    }
+
+  }
+
 }
@@ -31,13 +31,13 @@ public class GetTaskService {
 
   public interface Iface {
 
-    public List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> getTask(String requestId, edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress) throws org.apache.thrift.TException;
+    public List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> getTask(String requestId, edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress, edu.berkeley.sparrow.thrift.TTraceContext traceContext, edu.berkeley.sparrow.thrift.TNodeLoad nodeLoad, edu.berkeley.sparrow.thrift.THostPort originalNodeMonitor) throws org.apache.thrift.TException;
 
   }
 
   public interface AsyncIface {
 
-    public void getTask(String requestId, edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.getTask_call> resultHandler) throws org.apache.thrift.TException;
+    public void getTask(String requestId, edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress, edu.berkeley.sparrow.thrift.TTraceContext traceContext, edu.berkeley.sparrow.thrift.TNodeLoad nodeLoad, edu.berkeley.sparrow.thrift.THostPort originalNodeMonitor, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.getTask_call> resultHandler) throws org.apache.thrift.TException;
 
   }
 
@@ -61,17 +61,20 @@ public class GetTaskService {
       super(iprot, oprot);
     }
 
-    public List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> getTask(String requestId, edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress) throws org.apache.thrift.TException
+    public List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> getTask(String requestId, edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress, edu.berkeley.sparrow.thrift.TTraceContext traceContext, edu.berkeley.sparrow.thrift.TNodeLoad nodeLoad, edu.berkeley.sparrow.thrift.THostPort originalNodeMonitor) throws org.apache.thrift.TException
     {
-      send_getTask(requestId, nodeMonitorAddress);
+      send_getTask(requestId, nodeMonitorAddress, traceContext, nodeLoad, originalNodeMonitor);
       return recv_getTask();
     }
 
-    public void send_getTask(String requestId, edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress) throws org.apache.thrift.TException
+    public void send_getTask(String requestId, edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress, edu.berkeley.sparrow.thrift.TTraceContext traceContext, edu.berkeley.sparrow.thrift.TNodeLoad nodeLoad, edu.berkeley.sparrow.thrift.THostPort originalNodeMonitor) throws org.apache.thrift.TException
     {
       getTask_args args = new getTask_args();
       args.setRequestId(requestId);
       args.setNodeMonitorAddress(nodeMonitorAddress);
+      args.setTraceContext(traceContext);
+      args.setNodeLoad(nodeLoad);
+      args.setOriginalNodeMonitor(originalNodeMonitor);
       sendBase("getTask", args);
     }
 
@@ -103,9 +106,9 @@ public class GetTaskService {
       super(protocolFactory, clientManager, transport);
     }
 
-    public void getTask(String requestId, edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress, org.apache.thrift.async.AsyncMethodCallback<getTask_call> resultHandler) throws org.apache.thrift.TException {
+    public void getTask(String requestId, edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress, edu.berkeley.sparrow.thrift.TTraceContext traceContext, edu.berkeley.sparrow.thrift.TNodeLoad nodeLoad, edu.berkeley.sparrow.thrift.THostPort originalNodeMonitor, org.apache.thrift.async.AsyncMethodCallback<getTask_call> resultHandler) throws org.apache.thrift.TException {
       checkReady();
-      getTask_call method_call = new getTask_call(requestId, nodeMonitorAddress, resultHandler, this, ___protocolFactory, ___transport);
+      getTask_call method_call = new getTask_call(requestId, nodeMonitorAddress, traceContext, nodeLoad, originalNodeMonitor, resultHandler, this, ___protocolFactory, ___transport);
       this.___currentMethod = method_call;
       ___manager.call(method_call);
     }
@@ -113,10 +116,16 @@ public class GetTaskService {
     public static class getTask_call extends org.apache.thrift.async.TAsyncMethodCall {
       private String requestId;
       private edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress;
-      public getTask_call(String requestId, edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress, org.apache.thrift.async.AsyncMethodCallback<getTask_call> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+      private edu.berkeley.sparrow.thrift.TTraceContext traceContext;
+      private edu.berkeley.sparrow.thrift.TNodeLoad nodeLoad;
+      private edu.berkeley.sparrow.thrift.THostPort originalNodeMonitor;
+      public getTask_call(String requestId, edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress, edu.berkeley.sparrow.thrift.TTraceContext traceContext, edu.berkeley.sparrow.thrift.TNodeLoad nodeLoad, edu.berkeley.sparrow.thrift.THostPort originalNodeMonitor, org.apache.thrift.async.AsyncMethodCallback<getTask_call> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
         super(client, protocolFactory, transport, resultHandler, false);
         this.requestId = requestId;
         this.nodeMonitorAddress = nodeMonitorAddress;
+        this.traceContext = traceContext;
+        this.nodeLoad = nodeLoad;
+        this.originalNodeMonitor = originalNodeMonitor;
       }
 
       public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
@@ -124,6 +133,9 @@ public class GetTaskService {
         getTask_args args = new getTask_args();
         args.setRequestId(requestId);
         args.setNodeMonitorAddress(nodeMonitorAddress);
+        args.setTraceContext(traceContext);
+        args.setNodeLoad(nodeLoad);
+        args.setOriginalNodeMonitor(originalNodeMonitor);
         args.write(prot);
         prot.writeMessageEnd();
       }
@@ -166,7 +178,7 @@ public class GetTaskService {
 
       protected getTask_result getResult(I iface, getTask_args args) throws org.apache.thrift.TException {
         getTask_result result = new getTask_result();
-        result.success = iface.getTask(args.requestId, args.nodeMonitorAddress);
+        result.success = iface.getTask(args.requestId, args.nodeMonitorAddress, args.traceContext, args.nodeLoad, args.originalNodeMonitor);
         return result;
       }
     }
@@ -178,6 +190,9 @@ public class GetTaskService {
 
     private static final org.apache.thrift.protocol.TField REQUEST_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("requestId", org.apache.thrift.protocol.TType.STRING, (short)1);
     private static final org.apache.thrift.protocol.TField NODE_MONITOR_ADDRESS_FIELD_DESC = new org.apache.thrift.protocol.TField("nodeMonitorAddress", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+    private static final org.apache.thrift.protocol.TField TRACE_CONTEXT_FIELD_DESC = new org.apache.thrift.protocol.TField("traceContext", org.apache.thrift.protocol.TType.STRUCT, (short)3);
+    private static final org.apache.thrift.protocol.TField NODE_LOAD_FIELD_DESC = new org.apache.thrift.protocol.TField("nodeLoad", org.apache.thrift.protocol.TType.STRUCT, (short)4);
+    private static final org.apache.thrift.protocol.TField ORIGINAL_NODE_MONITOR_FIELD_DESC = new org.apache.thrift.protocol.TField("originalNodeMonitor", org.apache.thrift.protocol.TType.STRUCT, (short)5);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
@@ -187,11 +202,17 @@ public class GetTaskService {
 
     public String requestId; // required
     public edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress; // required
+    public edu.berkeley.sparrow.thrift.TTraceContext traceContext; // required
+    public edu.berkeley.sparrow.thrift.TNodeLoad nodeLoad; // required
+    public edu.berkeley.sparrow.thrift.THostPort originalNodeMonitor; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       REQUEST_ID((short)1, "requestId"),
-      NODE_MONITOR_ADDRESS((short)2, "nodeMonitorAddress");
+      NODE_MONITOR_ADDRESS((short)2, "nodeMonitorAddress"),
+      TRACE_CONTEXT((short)3, "traceContext"),
+      NODE_LOAD((short)4, "nodeLoad"),
+      ORIGINAL_NODE_MONITOR((short)5, "originalNodeMonitor");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -210,6 +231,12 @@ public class GetTaskService {
             return REQUEST_ID;
           case 2: // NODE_MONITOR_ADDRESS
             return NODE_MONITOR_ADDRESS;
+          case 3: // TRACE_CONTEXT
+            return TRACE_CONTEXT;
+          case 4: // NODE_LOAD
+            return NODE_LOAD;
+          case 5: // ORIGINAL_NODE_MONITOR
+            return ORIGINAL_NODE_MONITOR;
           default:
             return null;
         }
@@ -257,6 +284,12 @@ public class GetTaskService {
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       tmpMap.put(_Fields.NODE_MONITOR_ADDRESS, new org.apache.thrift.meta_data.FieldMetaData("nodeMonitorAddress", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, edu.berkeley.sparrow.thrift.THostPort.class)));
+      tmpMap.put(_Fields.TRACE_CONTEXT, new org.apache.thrift.meta_data.FieldMetaData("traceContext", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, edu.berkeley.sparrow.thrift.TTraceContext.class)));
+      tmpMap.put(_Fields.NODE_LOAD, new org.apache.thrift.meta_data.FieldMetaData("nodeLoad", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, edu.berkeley.sparrow.thrift.TNodeLoad.class)));
+      tmpMap.put(_Fields.ORIGINAL_NODE_MONITOR, new org.apache.thrift.meta_data.FieldMetaData("originalNodeMonitor", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, edu.berkeley.sparrow.thrift.THostPort.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
       org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getTask_args.class, metaDataMap);
     }
@@ -266,11 +299,17 @@ public class GetTaskService {
 
     public getTask_args(
       String requestId,
-      edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress)
+      edu.berkeley.sparrow.thrift.THostPort nodeMonitorAddress,
+      edu.berkeley.sparrow.thrift.TTraceContext traceContext,
+      edu.berkeley.sparrow.thrift.TNodeLoad nodeLoad,
+      edu.berkeley.sparrow.thrift.THostPort originalNodeMonitor)
     {
       this();
       this.requestId = requestId;
       this.nodeMonitorAddress = nodeMonitorAddress;
+      this.traceContext = traceContext;
+      this.nodeLoad = nodeLoad;
+      this.originalNodeMonitor = originalNodeMonitor;
     }
 
     /**
@@ -283,6 +322,15 @@ public class GetTaskService {
       if (other.isSetNodeMonitorAddress()) {
         this.nodeMonitorAddress = new edu.berkeley.sparrow.thrift.THostPort(other.nodeMonitorAddress);
       }
+      if (other.isSetTraceContext()) {
+        this.traceContext = new edu.berkeley.sparrow.thrift.TTraceContext(other.traceContext);
+      }
+      if (other.isSetNodeLoad()) {
+        this.nodeLoad = new edu.berkeley.sparrow.thrift.TNodeLoad(other.nodeLoad);
+      }
+      if (other.isSetOriginalNodeMonitor()) {
+        this.originalNodeMonitor = new edu.berkeley.sparrow.thrift.THostPort(other.originalNodeMonitor);
+      }
     }
 
     public getTask_args deepCopy() {
@@ -292,6 +340,9 @@ public class GetTaskService {
     public void clear() {
       this.requestId = null;
       this.nodeMonitorAddress = null;
+      this.traceContext = null;
+      this.nodeLoad = null;
+      this.originalNodeMonitor = null;
     }
 
     public String getRequestId() {
@@ -342,6 +393,78 @@ public class GetTaskService {
       }
     }
 
+    public edu.berkeley.sparrow.thrift.TTraceContext getTraceContext() {
+      return this.traceContext;
+    }
+
+    public getTask_args setTraceContext(edu.berkeley.sparrow.thrift.TTraceContext traceContext) {
+      this.traceContext = traceContext;
+      return this;
+    }
+
+    public void unsetTraceContext() {
+      this.traceContext = null;
+    }
+
+    /** Returns true if field traceContext is set (has been assigned a value) and false otherwise */
+    public boolean isSetTraceContext() {
+      return this.traceContext != null;
+    }
+
+    public void setTraceContextIsSet(boolean value) {
+      if (!value) {
+        this.traceContext = null;
+      }
+    }
+
+    public edu.berkeley.sparrow.thrift.TNodeLoad getNodeLoad() {
+      return this.nodeLoad;
+    }
+
+    public getTask_args setNodeLoad(edu.berkeley.sparrow.thrift.TNodeLoad nodeLoad) {
+      this.nodeLoad = nodeLoad;
+      return this;
+    }
+
+    public void unsetNodeLoad() {
+      this.nodeLoad = null;
+    }
+
+    /** Returns true if field nodeLoad is set (has been assigned a value) and false otherwise */
+    public boolean isSetNodeLoad() {
+      return this.nodeLoad != null;
+    }
+
+    public void setNodeLoadIsSet(boolean value) {
+      if (!value) {
+        this.nodeLoad = null;
+      }
+    }
+
+    public edu.berkeley.sparrow.thrift.THostPort getOriginalNodeMonitor() {
+      return this.originalNodeMonitor;
+    }
+
+    public getTask_args setOriginalNodeMonitor(edu.berkeley.sparrow.thrift.THostPort originalNodeMonitor) {
+      this.originalNodeMonitor = originalNodeMonitor;
+      return this;
+    }
+
+    public void unsetOriginalNodeMonitor() {
+      this.originalNodeMonitor = null;
+    }
+
+    /** Returns true if field originalNodeMonitor is set (has been assigned a value) and false otherwise */
+    public boolean isSetOriginalNodeMonitor() {
+      return this.originalNodeMonitor != null;
+    }
+
+    public void setOriginalNodeMonitorIsSet(boolean value) {
+      if (!value) {
+        this.originalNodeMonitor = null;
+      }
+    }
+
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
       case REQUEST_ID:
@@ -360,6 +483,30 @@ public class GetTaskService {
         }
         break;
 
+      case TRACE_CONTEXT:
+        if (value == null) {
+          unsetTraceContext();
+        } else {
+          setTraceContext((edu.berkeley.sparrow.thrift.TTraceContext)value);
+        }
+        break;
+
+      case NODE_LOAD:
+        if (value == null) {
+          unsetNodeLoad();
+        } else {
+          setNodeLoad((edu.berkeley.sparrow.thrift.TNodeLoad)value);
+        }
+        break;
+
+      case ORIGINAL_NODE_MONITOR:
+        if (value == null) {
+          unsetOriginalNodeMonitor();
+        } else {
+          setOriginalNodeMonitor((edu.berkeley.sparrow.thrift.THostPort)value);
+        }
+        break;
+
       }
     }
 
@@ -371,6 +518,15 @@ public class GetTaskService {
       case NODE_MONITOR_ADDRESS:
         return getNodeMonitorAddress();
 
+      case TRACE_CONTEXT:
+        return getTraceContext();
+
+      case NODE_LOAD:
+        return getNodeLoad();
+
+      case ORIGINAL_NODE_MONITOR:
+        return getOriginalNodeMonitor();
+
       }
       throw new IllegalStateException();
     }
@@ -386,6 +542,12 @@ public class GetTaskService {
         return isSetRequestId();
       case NODE_MONITOR_ADDRESS:
         return isSetNodeMonitorAddress();
+      case TRACE_CONTEXT:
+        return isSetTraceContext();
+      case NODE_LOAD:
+        return isSetNodeLoad();
+      case ORIGINAL_NODE_MONITOR:
+        return isSetOriginalNodeMonitor();
       }
       throw new IllegalStateException();
     }
@@ -421,6 +583,33 @@ public class GetTaskService {
           return false;
       }
 
+      boolean this_present_traceContext = true && this.isSetTraceContext();
+      boolean that_present_traceContext = true && that.isSetTraceContext();
+      if (this_present_traceContext || that_present_traceContext) {
+        if (!(this_present_traceContext && that_present_traceContext))
+          return false;
+        if (!this.traceContext.equals(that.traceContext))
+          return false;
+      }
+
+      boolean this_present_nodeLoad = true && this.isSetNodeLoad();
+      boolean that_present_nodeLoad = true && that.isSetNodeLoad();
+      if (this_present_nodeLoad || that_present_nodeLoad) {
+        if (!(this_present_nodeLoad && that_present_nodeLoad))
+          return false;
+        if (!this.nodeLoad.equals(that.nodeLoad))
+          return false;
+      }
+
+      boolean this_present_originalNodeMonitor = true && this.isSetOriginalNodeMonitor();
+      boolean that_present_originalNodeMonitor = true && that.isSetOriginalNodeMonitor();
+      if (this_present_originalNodeMonitor || that_present_originalNodeMonitor) {
+        if (!(this_present_originalNodeMonitor && that_present_originalNodeMonitor))
+          return false;
+        if (!this.originalNodeMonitor.equals(that.originalNodeMonitor))
+          return false;
+      }
+
       return true;
     }
 
@@ -457,6 +646,36 @@ public class GetTaskService {
           return lastComparison;
         }
       }
+      lastComparison = Boolean.valueOf(isSetTraceContext()).compareTo(typedOther.isSetTraceContext());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetTraceContext()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.traceContext, typedOther.traceContext);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetNodeLoad()).compareTo(typedOther.isSetNodeLoad());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetNodeLoad()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.nodeLoad, typedOther.nodeLoad);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetOriginalNodeMonitor()).compareTo(typedOther.isSetOriginalNodeMonitor());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetOriginalNodeMonitor()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.originalNodeMonitor, typedOther.originalNodeMonitor);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -492,6 +711,30 @@ public class GetTaskService {
         sb.append(this.nodeMonitorAddress);
       }
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("traceContext:");
+      if (this.traceContext == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.traceContext);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("nodeLoad:");
+      if (this.nodeLoad == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.nodeLoad);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("originalNodeMonitor:");
+      if (this.originalNodeMonitor == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.originalNodeMonitor);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -551,6 +794,33 @@ public class GetTaskService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
+            case 3: // TRACE_CONTEXT
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.traceContext = new edu.berkeley.sparrow.thrift.TTraceContext();
+                struct.traceContext.read(iprot);
+                struct.setTraceContextIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // NODE_LOAD
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.nodeLoad = new edu.berkeley.sparrow.thrift.TNodeLoad();
+                struct.nodeLoad.read(iprot);
+                struct.setNodeLoadIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 5: // ORIGINAL_NODE_MONITOR
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.originalNodeMonitor = new edu.berkeley.sparrow.thrift.THostPort();
+                struct.originalNodeMonitor.read(iprot);
+                struct.setOriginalNodeMonitorIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -576,6 +846,21 @@ public class GetTaskService {
           struct.nodeMonitorAddress.write(oprot);
           oprot.writeFieldEnd();
         }
+        if (struct.traceContext != null) {
+          oprot.writeFieldBegin(TRACE_CONTEXT_FIELD_DESC);
+          struct.traceContext.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.nodeLoad != null) {
+          oprot.writeFieldBegin(NODE_LOAD_FIELD_DESC);
+          struct.nodeLoad.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.originalNodeMonitor != null) {
+          oprot.writeFieldBegin(ORIGINAL_NODE_MONITOR_FIELD_DESC);
+          struct.originalNodeMonitor.write(oprot);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
@@ -600,19 +885,37 @@ public class GetTaskService {
         if (struct.isSetNodeMonitorAddress()) {
           optionals.set(1);
         }
-        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetTraceContext()) {
+          optionals.set(2);
+        }
+        if (struct.isSetNodeLoad()) {
+          optionals.set(3);
+        }
+        if (struct.isSetOriginalNodeMonitor()) {
+          optionals.set(4);
+        }
+        oprot.writeBitSet(optionals, 5);
         if (struct.isSetRequestId()) {
           oprot.writeString(struct.requestId);
         }
         if (struct.isSetNodeMonitorAddress()) {
           struct.nodeMonitorAddress.write(oprot);
         }
+        if (struct.isSetTraceContext()) {
+          struct.traceContext.write(oprot);
+        }
+        if (struct.isSetNodeLoad()) {
+          struct.nodeLoad.write(oprot);
+        }
+        if (struct.isSetOriginalNodeMonitor()) {
+          struct.originalNodeMonitor.write(oprot);
+        }
       }
 
       @Override
       public void read(org.apache.thrift.protocol.TProtocol prot, getTask_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(5);
         if (incoming.get(0)) {
           struct.requestId = iprot.readString();
           struct.setRequestIdIsSet(true);
@@ -622,6 +925,21 @@ public class GetTaskService {
           struct.nodeMonitorAddress.read(iprot);
           struct.setNodeMonitorAddressIsSet(true);
         }
+        if (incoming.get(2)) {
+          struct.traceContext = new edu.berkeley.sparrow.thrift.TTraceContext();
+          struct.traceContext.read(iprot);
+          struct.setTraceContextIsSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.nodeLoad = new edu.berkeley.sparrow.thrift.TNodeLoad();
+          struct.nodeLoad.read(iprot);
+          struct.setNodeLoadIsSet(true);
+        }
+        if (incoming.get(4)) {
+          struct.originalNodeMonitor = new edu.berkeley.sparrow.thrift.THostPort();
+          struct.originalNodeMonitor.read(iprot);
+          struct.setOriginalNodeMonitorIsSet(true);
+        }
       }
     }
 
@@ -934,14 +1252,14 @@ public class GetTaskService {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
                 {
-                  org.apache.thrift.protocol.TList _list0 = iprot.readListBegin();
-                  struct.success = new ArrayList<edu.berkeley.sparrow.thrift.TTaskLaunchSpec>(_list0.size);
-                  for (int _i1 = 0; _i1 < _list0.size; ++_i1)
+                  org.apache.thrift.protocol.TList _list16 = iprot.readListBegin();
+                  struct.success = new ArrayList<edu.berkeley.sparrow.thrift.TTaskLaunchSpec>(_list16.size);
+                  for (int _i17 = 0; _i17 < _list16.size; ++_i17)
                   {
-                    edu.berkeley.sparrow.thrift.TTaskLaunchSpec _elem2; // required
-                    _elem2 = new edu.berkeley.sparrow.thrift.TTaskLaunchSpec();
-                    _elem2.read(iprot);
-                    struct.success.add(_elem2);
+                    edu.berkeley.sparrow.thrift.TTaskLaunchSpec _elem18; // required
+                    _elem18 = new edu.berkeley.sparrow.thrift.TTaskLaunchSpec();
+                    _elem18.read(iprot);
+                    struct.success.add(_elem18);
                   }
                   iprot.readListEnd();
                 }
@@ -969,9 +1287,9 @@ public class GetTaskService {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
           {
             oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
-            for (edu.berkeley.sparrow.thrift.TTaskLaunchSpec _iter3 : struct.success)
+            for (edu.berkeley.sparrow.thrift.TTaskLaunchSpec _iter19 : struct.success)
             {
-              _iter3.write(oprot);
+              _iter19.write(oprot);
             }
             oprot.writeListEnd();
           }
@@ -1002,9 +1320,9 @@ public class GetTaskService {
         if (struct.isSetSuccess()) {
           {
             oprot.writeI32(struct.success.size());
-            for (edu.berkeley.sparrow.thrift.TTaskLaunchSpec _iter4 : struct.success)
+            for (edu.berkeley.sparrow.thrift.TTaskLaunchSpec _iter20 : struct.success)
             {
-              _iter4.write(oprot);
+              _iter20.write(oprot);
             }
           }
         }
@@ -1016,14 +1334,14 @@ public class GetTaskService {
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
           {
-            org.apache.thrift.protocol.TList _list5 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-            struct.success = new ArrayList<edu.berkeley.sparrow.thrift.TTaskLaunchSpec>(_list5.size);
-            for (int _i6 = 0; _i6 < _list5.size; ++_i6)
+            org.apache.thrift.protocol.TList _list21 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<edu.berkeley.sparrow.thrift.TTaskLaunchSpec>(_list21.size);
+            for (int _i22 = 0; _i22 < _list21.size; ++_i22)
             {
-              edu.berkeley.sparrow.thrift.TTaskLaunchSpec _elem7; // required
-              _elem7 = new edu.berkeley.sparrow.thrift.TTaskLaunchSpec();
-              _elem7.read(iprot);
-              struct.success.add(_elem7);
+              edu.berkeley.sparrow.thrift.TTaskLaunchSpec _elem23; // required
+              _elem23 = new edu.berkeley.sparrow.thrift.TTaskLaunchSpec();
+              _elem23.read(iprot);
+              struct.success.add(_elem23);
             }
           }
           struct.setSuccessIsSet(true);
@@ -31,18 +31,34 @@ public class InternalService {
 
   public interface Iface {
 
-    public boolean enqueueTaskReservations(edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest request) throws org.apache.thrift.TException;
+    public edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsResponse enqueueTaskReservations(edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest request) throws org.apache.thrift.TException;
+
+    public edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsResponse enqueueTaskReservationsBatch(List<edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest> requests) throws org.apache.thrift.TException;
+
+    public boolean releaseGangReservations(String requestId, int numReservations, List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> tasks) throws org.apache.thrift.TException;
 
     public Map<String,edu.berkeley.sparrow.thrift.TResourceUsage> getLoad(String app, String requestId) throws org.apache.thrift.TException;
 
+    public List<edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest> stealTaskReservations(List<String> appIds, int maxReservations, String leaseId) throws org.apache.thrift.TException;
+
+    public boolean confirmStolenReservations(String leaseId) throws org.apache.thrift.TException;
+
   }
 
   public interface AsyncIface {
 
     public void enqueueTaskReservations(edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest request, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.enqueueTaskReservations_call> resultHandler) throws org.apache.thrift.TException;
 
+    public void enqueueTaskReservationsBatch(List<edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest> requests, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.enqueueTaskReservationsBatch_call> resultHandler) throws org.apache.thrift.TException;
+
+    public void releaseGangReservations(String requestId, int numReservations, List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> tasks, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.releaseGangReservations_call> resultHandler) throws org.apache.thrift.TException;
+
     public void getLoad(String app, String requestId, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.getLoad_call> resultHandler) throws org.apache.thrift.TException;
 
+    public void stealTaskReservations(List<String> appIds, int maxReservations, String leaseId, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.stealTaskReservations_call> resultHandler) throws org.apache.thrift.TException;
+
+    public void confirmStolenReservations(String leaseId, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.confirmStolenReservations_call> resultHandler) throws org.apache.thrift.TException;
+
   }
 
   public static class Client extends org.apache.thrift.TServiceClient implements Iface {
@@ -65,7 +81,7 @@ public class InternalService {
       super(iprot, oprot);
     }
 
-    public boolean enqueueTaskReservations(edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest request) throws org.apache.thrift.TException
+    public edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsResponse enqueueTaskReservations(edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest request) throws org.apache.thrift.TException
     {
       send_enqueueTaskReservations(request);
       return recv_enqueueTaskReservations();
@@ -78,7 +94,7 @@ public class InternalService {
       sendBase("enqueueTaskReservations", args);
     }
 
-    public boolean recv_enqueueTaskReservations() throws org.apache.thrift.TException
+    public edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsResponse recv_enqueueTaskReservations() throws org.apache.thrift.TException
     {
       enqueueTaskReservations_result result = new enqueueTaskReservations_result();
       receiveBase(result, "enqueueTaskReservations");
@@ -88,6 +104,54 @@ public class InternalService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "enqueueTaskReservations failed: unknown result");
     }
 
+    public edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsResponse enqueueTaskReservationsBatch(List<edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest> requests) throws org.apache.thrift.TException
+    {
+      send_enqueueTaskReservationsBatch(requests);
+      return recv_enqueueTaskReservationsBatch();
+    }
+
+    public void send_enqueueTaskReservationsBatch(List<edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest> requests) throws org.apache.thrift.TException
+    {
+      enqueueTaskReservationsBatch_args args = new enqueueTaskReservationsBatch_args();
+      args.setRequests(requests);
+      sendBase("enqueueTaskReservationsBatch", args);
+    }
+
+    public edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsResponse recv_enqueueTaskReservationsBatch() throws org.apache.thrift.TException
+    {
+      enqueueTaskReservationsBatch_result result = new enqueueTaskReservationsBatch_result();
+      receiveBase(result, "enqueueTaskReservationsBatch");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "enqueueTaskReservationsBatch failed: unknown result");
+    }
+
+    public boolean releaseGangReservations(String requestId, int numReservations, List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> tasks) throws org.apache.thrift.TException
+    {
+      send_releaseGangReservations(requestId, numReservations, tasks);
+      return recv_releaseGangReservations();
+    }
+
+    public void send_releaseGangReservations(String requestId, int numReservations, List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> tasks) throws org.apache.thrift.TException
+    {
+      releaseGangReservations_args args = new releaseGangReservations_args();
+      args.setRequestId(requestId);
+      args.setNumReservations(numReservations);
+      args.setTasks(tasks);
+      sendBase("releaseGangReservations", args);
+    }
+
+    public boolean recv_releaseGangReservations() throws org.apache.thrift.TException
+    {
+      releaseGangReservations_result result = new releaseGangReservations_result();
+      receiveBase(result, "releaseGangReservations");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "releaseGangReservations failed: unknown result");
+    }
+
     public Map<String,edu.berkeley.sparrow.thrift.TResourceUsage> getLoad(String app, String requestId) throws org.apache.thrift.TException
     {
       send_getLoad(app, requestId);
@@ -112,6 +176,54 @@ public class InternalService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getLoad failed: unknown result");
     }
 
+    public List<edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest> stealTaskReservations(List<String> appIds, int maxReservations, String leaseId) throws org.apache.thrift.TException
+    {
+      send_stealTaskReservations(appIds, maxReservations, leaseId);
+      return recv_stealTaskReservations();
+    }
+
+    public void send_stealTaskReservations(List<String> appIds, int maxReservations, String leaseId) throws org.apache.thrift.TException
+    {
+      stealTaskReservations_args args = new stealTaskReservations_args();
+      args.setAppIds(appIds);
+      args.setMaxReservations(maxReservations);
+      args.setLeaseId(leaseId);
+      sendBase("stealTaskReservations", args);
+    }
+
+    public List<edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest> recv_stealTaskReservations() throws org.apache.thrift.TException
+    {
+      stealTaskReservations_result result = new stealTaskReservations_result();
+      receiveBase(result, "stealTaskReservations");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "stealTaskReservations failed: unknown result");
+    }
+
+    public boolean confirmStolenReservations(String leaseId) throws org.apache.thrift.TException
+    {
+      send_confirmStolenReservations(leaseId);
+      return recv_confirmStolenReservations();
+    }
+
+    public void send_confirmStolenReservations(String leaseId) throws org.apache.thrift.TException
+    {
+      confirmStolenReservations_args args = new confirmStolenReservations_args();
+      args.setLeaseId(leaseId);
+      sendBase("confirmStolenReservations", args);
+    }
+
+    public boolean recv_confirmStolenReservations() throws org.apache.thrift.TException
+    {
+      confirmStolenReservations_result result = new confirmStolenReservations_result();
+      receiveBase(result, "confirmStolenReservations");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "confirmStolenReservations failed: unknown result");
+    }
+
   }
   public static class AsyncClient extends org.apache.thrift.async.TAsyncClient implements AsyncIface {
     public static class Factory implements org.apache.thrift.async.TAsyncClientFactory<AsyncClient> {
@@ -152,7 +264,7 @@ public class InternalService {
         prot.writeMessageEnd();
       }
 
-      public boolean getResult() throws org.apache.thrift.TException {
+      public edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsResponse getResult() throws org.apache.thrift.TException {
         if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
           throw new IllegalStateException("Method call not finished!");
         }
@@ -162,6 +274,76 @@ public class InternalService {
       }
     }
 
+    public void enqueueTaskReservationsBatch(List<edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest> requests, org.apache.thrift.async.AsyncMethodCallback<enqueueTaskReservationsBatch_call> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      enqueueTaskReservationsBatch_call method_call = new enqueueTaskReservationsBatch_call(requests, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class enqueueTaskReservationsBatch_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private List<edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest> requests;
+      public enqueueTaskReservationsBatch_call(List<edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest> requests, org.apache.thrift.async.AsyncMethodCallback<enqueueTaskReservationsBatch_call> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.requests = requests;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("enqueueTaskReservationsBatch", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        enqueueTaskReservationsBatch_args args = new enqueueTaskReservationsBatch_args();
+        args.setRequests(requests);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsResponse getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_enqueueTaskReservationsBatch();
+      }
+    }
+
+    public void releaseGangReservations(String requestId, int numReservations, List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> tasks, org.apache.thrift.async.AsyncMethodCallback<releaseGangReservations_call> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      releaseGangReservations_call method_call = new releaseGangReservations_call(requestId, numReservations, tasks, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class releaseGangReservations_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String requestId;
+      private int numReservations;
+      private List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> tasks;
+      public releaseGangReservations_call(String requestId, int numReservations, List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> tasks, org.apache.thrift.async.AsyncMethodCallback<releaseGangReservations_call> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.requestId = requestId;
+        this.numReservations = numReservations;
+        this.tasks = tasks;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("releaseGangReservations", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        releaseGangReservations_args args = new releaseGangReservations_args();
+        args.setRequestId(requestId);
+        args.setNumReservations(numReservations);
+        args.setTasks(tasks);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public boolean getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_releaseGangReservations();
+      }
+    }
+
     public void getLoad(String app, String requestId, org.apache.thrift.async.AsyncMethodCallback<getLoad_call> resultHandler) throws org.apache.thrift.TException {
       checkReady();
       getLoad_call method_call = new getLoad_call(app, requestId, resultHandler, this, ___protocolFactory, ___transport);
@@ -197,6 +379,76 @@ public class InternalService {
       }
     }
 
+    public void stealTaskReservations(List<String> appIds, int maxReservations, String leaseId, org.apache.thrift.async.AsyncMethodCallback<stealTaskReservations_call> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      stealTaskReservations_call method_call = new stealTaskReservations_call(appIds, maxReservations, leaseId, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class stealTaskReservations_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private List<String> appIds;
+      private int maxReservations;
+      private String leaseId;
+      public stealTaskReservations_call(List<String> appIds, int maxReservations, String leaseId, org.apache.thrift.async.AsyncMethodCallback<stealTaskReservations_call> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.appIds = appIds;
+        this.maxReservations = maxReservations;
+        this.leaseId = leaseId;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("stealTaskReservations", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        stealTaskReservations_args args = new stealTaskReservations_args();
+        args.setAppIds(appIds);
+        args.setMaxReservations(maxReservations);
+        args.setLeaseId(leaseId);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public List<edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest> getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_stealTaskReservations();
+      }
+    }
+
+    public void confirmStolenReservations(String leaseId, org.apache.thrift.async.AsyncMethodCallback<confirmStolenReservations_call> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      confirmStolenReservations_call method_call = new confirmStolenReservations_call(leaseId, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class confirmStolenReservations_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String leaseId;
+      public confirmStolenReservations_call(String leaseId, org.apache.thrift.async.AsyncMethodCallback<confirmStolenReservations_call> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.leaseId = leaseId;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("confirmStolenReservations", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        confirmStolenReservations_args args = new confirmStolenReservations_args();
+        args.setLeaseId(leaseId);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public boolean getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_confirmStolenReservations();
+      }
+    }
+
   }
 
   public static class Processor<I extends Iface> extends org.apache.thrift.TBaseProcessor<I> implements org.apache.thrift.TProcessor {
@@ -211,7 +463,11 @@ public class InternalService {
 
     private static <I extends Iface> Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> getProcessMap(Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> processMap) {
       processMap.put("enqueueTaskReservations", new enqueueTaskReservations());
+      processMap.put("enqueueTaskReservationsBatch", new enqueueTaskReservationsBatch());
+      processMap.put("releaseGangReservations", new releaseGangReservations());
       processMap.put("getLoad", new getLoad());
+      processMap.put("stealTaskReservations", new stealTaskReservations());
+      processMap.put("confirmStolenReservations", new confirmStolenReservations());
       return processMap;
     }
 
@@ -227,6 +483,38 @@ public class InternalService {
       protected enqueueTaskReservations_result getResult(I iface, enqueueTaskReservations_args args) throws org.apache.thrift.TException {
         enqueueTaskReservations_result result = new enqueueTaskReservations_result();
         result.success = iface.enqueueTaskReservations(args.request);
+        return result;
+      }
+    }
+
+    private static class enqueueTaskReservationsBatch<I extends Iface> extends org.apache.thrift.ProcessFunction<I, enqueueTaskReservationsBatch_args> {
+      public enqueueTaskReservationsBatch() {
+        super("enqueueTaskReservationsBatch");
+      }
+
+      protected enqueueTaskReservationsBatch_args getEmptyArgsInstance() {
+        return new enqueueTaskReservationsBatch_args();
+      }
+
+      protected enqueueTaskReservationsBatch_result getResult(I iface, enqueueTaskReservationsBatch_args args) throws org.apache.thrift.TException {
+        enqueueTaskReservationsBatch_result result = new enqueueTaskReservationsBatch_result();
+        result.success = iface.enqueueTaskReservationsBatch(args.requests);
+        return result;
+      }
+    }
+
+    private static class releaseGangReservations<I extends Iface> extends org.apache.thrift.ProcessFunction<I, releaseGangReservations_args> {
+      public releaseGangReservations() {
+        super("releaseGangReservations");
+      }
+
+      protected releaseGangReservations_args getEmptyArgsInstance() {
+        return new releaseGangReservations_args();
+      }
+
+      protected releaseGangReservations_result getResult(I iface, releaseGangReservations_args args) throws org.apache.thrift.TException {
+        releaseGangReservations_result result = new releaseGangReservations_result();
+        result.success = iface.releaseGangReservations(args.requestId, args.numReservations, args.tasks);
         result.setSuccessIsSet(true);
         return result;
       }
@@ -248,6 +536,39 @@ public class InternalService {
       }
     }
 
+    private static class stealTaskReservations<I extends Iface> extends org.apache.thrift.ProcessFunction<I, stealTaskReservations_args> {
+      public stealTaskReservations() {
+        super("stealTaskReservations");
+      }
+
+      protected stealTaskReservations_args getEmptyArgsInstance() {
+        return new stealTaskReservations_args();
+      }
+
+      protected stealTaskReservations_result getResult(I iface, stealTaskReservations_args args) throws org.apache.thrift.TException {
+        stealTaskReservations_result result = new stealTaskReservations_result();
+        result.success = iface.stealTaskReservations(args.appIds, args.maxReservations, args.leaseId);
+        return result;
+      }
+    }
+
+    private static class confirmStolenReservations<I extends Iface> extends org.apache.thrift.ProcessFunction<I, confirmStolenReservations_args> {
+      public confirmStolenReservations() {
+        super("confirmStolenReservations");
+      }
+
+      protected confirmStolenReservations_args getEmptyArgsInstance() {
+        return new confirmStolenReservations_args();
+      }
+
+      protected confirmStolenReservations_result getResult(I iface, confirmStolenReservations_args args) throws org.apache.thrift.TException {
+        confirmStolenReservations_result result = new confirmStolenReservations_result();
+        result.success = iface.confirmStolenReservations(args.leaseId);
+        result.setSuccessIsSet(true);
+        return result;
+      }
+    }
+
   }
 
   public static class enqueueTaskReservations_args implements org.apache.thrift.TBase<enqueueTaskReservations_args, enqueueTaskReservations_args._Fields>, java.io.Serializable, Cloneable   {
@@ -607,7 +928,7 @@ public class InternalService {
   public static class enqueueTaskReservations_result implements org.apache.thrift.TBase<enqueueTaskReservations_result, enqueueTaskReservations_result._Fields>, java.io.Serializable, Cloneable   {
     private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("enqueueTaskReservations_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.BOOL, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
@@ -615,7 +936,7 @@ public class InternalService {
       schemes.put(TupleScheme.class, new enqueueTaskReservations_resultTupleSchemeFactory());
     }
 
-    public boolean success; // required
+    public edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsResponse success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -676,13 +997,11 @@ public class InternalService {
     }
 
     // isset id assignments
-    private static final int __SUCCESS_ISSET_ID = 0;
-    private BitSet __isset_bit_vector = new BitSet(1);
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsResponse.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
       org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(enqueueTaskReservations_result.class, metaDataMap);
     }
@@ -691,20 +1010,19 @@ public class InternalService {
     }
 
     public enqueueTaskReservations_result(
-      boolean success)
+      edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsResponse success)
     {
       this();
       this.success = success;
-      setSuccessIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
     public enqueueTaskReservations_result(enqueueTaskReservations_result other) {
-      __isset_bit_vector.clear();
-      __isset_bit_vector.or(other.__isset_bit_vector);
-      this.success = other.success;
+      if (other.isSetSuccess()) {
+        this.success = new edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsResponse(other.success);
+      }
     }
 
     public enqueueTaskReservations_result deepCopy() {
@@ -712,31 +1030,31 @@ public class InternalService {
     }
 
     public void clear() {
-      setSuccessIsSet(false);
-      this.success = false;
+      this.success = null;
     }
 
-    public boolean isSuccess() {
+    public edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsResponse getSuccess() {
       return this.success;
     }
 
-    public enqueueTaskReservations_result setSuccess(boolean success) {
+    public enqueueTaskReservations_result setSuccess(edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsResponse success) {
       this.success = success;
-      setSuccessIsSet(true);
       return this;
     }
 
     public void unsetSuccess() {
-      __isset_bit_vector.clear(__SUCCESS_ISSET_ID);
+      this.success = null;
     }
 
     /** Returns true if field success is set (has been assigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return __isset_bit_vector.get(__SUCCESS_ISSET_ID);
+      return this.success != null;
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_bit_vector.set(__SUCCESS_ISSET_ID, value);
+      if (!value) {
+        this.success = null;
+      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
@@ -745,7 +1063,7 @@ public class InternalService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((Boolean)value);
+          setSuccess((edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsResponse)value);
         }
         break;
 
@@ -755,7 +1073,7 @@ public class InternalService {
     public Object getFieldValue(_Fields field) {
       switch (field) {
       case SUCCESS:
-        return Boolean.valueOf(isSuccess());
+        return getSuccess();
 
       }
       throw new IllegalStateException();
@@ -787,12 +1105,12 @@ public class InternalService {
       if (that == null)
         return false;
 
-      boolean this_present_success = true;
-      boolean that_present_success = true;
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
       if (this_present_success || that_present_success) {
         if (!(this_present_success && that_present_success))
           return false;
-        if (this.success != that.success)
+        if (!this.success.equals(that.success))
           return false;
       }
 
@@ -843,7 +1161,11 @@ public class InternalService {
       boolean first = true;
 
       sb.append("success:");
-      sb.append(this.success);
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
       first = false;
       sb.append(")");
       return sb.toString();
@@ -888,8 +1210,9 @@ public class InternalService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
-                struct.success = iprot.readBool();
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsResponse();
+                struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -910,9 +1233,11 @@ public class InternalService {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-        oprot.writeBool(struct.success);
-        oprot.writeFieldEnd();
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
@@ -936,7 +1261,7 @@ public class InternalService {
         }
         oprot.writeBitSet(optionals, 1);
         if (struct.isSetSuccess()) {
-          oprot.writeBool(struct.success);
+          struct.success.write(oprot);
         }
       }
 
@@ -945,7 +1270,8 @@ public class InternalService {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.success = iprot.readBool();
+          struct.success = new edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsResponse();
+          struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
       }
@@ -953,25 +1279,22 @@ public class InternalService {
 
   }
 
-  public static class getLoad_args implements org.apache.thrift.TBase<getLoad_args, getLoad_args._Fields>, java.io.Serializable, Cloneable   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getLoad_args");
+  public static class enqueueTaskReservationsBatch_args implements org.apache.thrift.TBase<enqueueTaskReservationsBatch_args, enqueueTaskReservationsBatch_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("enqueueTaskReservationsBatch_args");
 
-    private static final org.apache.thrift.protocol.TField APP_FIELD_DESC = new org.apache.thrift.protocol.TField("app", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField REQUEST_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("requestId", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField REQUESTS_FIELD_DESC = new org.apache.thrift.protocol.TField("requests", org.apache.thrift.protocol.TType.LIST, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getLoad_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getLoad_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new enqueueTaskReservationsBatch_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new enqueueTaskReservationsBatch_argsTupleSchemeFactory());
     }
 
-    public String app; // required
-    public String requestId; // required
+    public List<edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest> requests; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      APP((short)1, "app"),
-      REQUEST_ID((short)2, "requestId");
+      REQUESTS((short)1, "requests");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -986,10 +1309,8 @@ public class InternalService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // APP
-            return APP;
-          case 2: // REQUEST_ID
-            return REQUEST_ID;
+          case 1: // REQUESTS
+            return REQUESTS;
           default:
             return null;
         }
@@ -1033,110 +1354,90 @@ public class InternalService {
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.APP, new org.apache.thrift.meta_data.FieldMetaData("app", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.REQUEST_ID, new org.apache.thrift.meta_data.FieldMetaData("requestId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.REQUESTS, new org.apache.thrift.meta_data.FieldMetaData("requests", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest.class))));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getLoad_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(enqueueTaskReservationsBatch_args.class, metaDataMap);
     }
 
-    public getLoad_args() {
+    public enqueueTaskReservationsBatch_args() {
     }
 
-    public getLoad_args(
-      String app,
-      String requestId)
+    public enqueueTaskReservationsBatch_args(
+      List<edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest> requests)
     {
       this();
-      this.app = app;
-      this.requestId = requestId;
+      this.requests = requests;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getLoad_args(getLoad_args other) {
-      if (other.isSetApp()) {
-        this.app = other.app;
-      }
-      if (other.isSetRequestId()) {
-        this.requestId = other.requestId;
+    public enqueueTaskReservationsBatch_args(enqueueTaskReservationsBatch_args other) {
+      if (other.isSetRequests()) {
+        List<edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest> __this__requests = new ArrayList<edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest>();
+        for (edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest other_element : other.requests) {
+          __this__requests.add(new edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest(other_element));
+        }
+        this.requests = __this__requests;
       }
     }
 
-    public getLoad_args deepCopy() {
-      return new getLoad_args(this);
+    public enqueueTaskReservationsBatch_args deepCopy() {
+      return new enqueueTaskReservationsBatch_args(this);
     }
 
     public void clear() {
-      this.app = null;
-      this.requestId = null;
-    }
-
-    public String getApp() {
-      return this.app;
+      this.requests = null;
     }
 
-    public getLoad_args setApp(String app) {
-      this.app = app;
-      return this;
-    }
-
-    public void unsetApp() {
-      this.app = null;
+    public int getRequestsSize() {
+      return (this.requests == null) ? 0 : this.requests.size();
     }
 
-    /** Returns true if field app is set (has been assigned a value) and false otherwise */
-    public boolean isSetApp() {
-      return this.app != null;
+    public java.util.Iterator<edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest> getRequestsIterator() {
+      return (this.requests == null) ? null : this.requests.iterator();
     }
 
-    public void setAppIsSet(boolean value) {
-      if (!value) {
-        this.app = null;
+    public void addToRequests(edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest elem) {
+      if (this.requests == null) {
+        this.requests = new ArrayList<edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest>();
       }
+      this.requests.add(elem);
     }
 
-    public String getRequestId() {
-      return this.requestId;
+    public List<edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest> getRequests() {
+      return this.requests;
     }
 
-    public getLoad_args setRequestId(String requestId) {
-      this.requestId = requestId;
+    public enqueueTaskReservationsBatch_args setRequests(List<edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest> requests) {
+      this.requests = requests;
       return this;
     }
 
-    public void unsetRequestId() {
-      this.requestId = null;
+    public void unsetRequests() {
+      this.requests = null;
     }
 
-    /** Returns true if field requestId is set (has been assigned a value) and false otherwise */
-    public boolean isSetRequestId() {
-      return this.requestId != null;
+    /** Returns true if field requests is set (has been assigned a value) and false otherwise */
+    public boolean isSetRequests() {
+      return this.requests != null;
     }
 
-    public void setRequestIdIsSet(boolean value) {
+    public void setRequestsIsSet(boolean value) {
       if (!value) {
-        this.requestId = null;
+        this.requests = null;
       }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case APP:
-        if (value == null) {
-          unsetApp();
-        } else {
-          setApp((String)value);
-        }
-        break;
-
-      case REQUEST_ID:
+      case REQUESTS:
         if (value == null) {
-          unsetRequestId();
+          unsetRequests();
         } else {
-          setRequestId((String)value);
+          setRequests((List<edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest>)value);
         }
         break;
 
@@ -1145,11 +1446,8 @@ public class InternalService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case APP:
-        return getApp();
-
-      case REQUEST_ID:
-        return getRequestId();
+      case REQUESTS:
+        return getRequests();
 
       }
       throw new IllegalStateException();
@@ -1162,10 +1460,8 @@ public class InternalService {
       }
 
       switch (field) {
-      case APP:
-        return isSetApp();
-      case REQUEST_ID:
-        return isSetRequestId();
+      case REQUESTS:
+        return isSetRequests();
       }
       throw new IllegalStateException();
     }
@@ -1174,30 +1470,21 @@ public class InternalService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getLoad_args)
-        return this.equals((getLoad_args)that);
+      if (that instanceof enqueueTaskReservationsBatch_args)
+        return this.equals((enqueueTaskReservationsBatch_args)that);
       return false;
     }
 
-    public boolean equals(getLoad_args that) {
+    public boolean equals(enqueueTaskReservationsBatch_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_app = true && this.isSetApp();
-      boolean that_present_app = true && that.isSetApp();
-      if (this_present_app || that_present_app) {
-        if (!(this_present_app && that_present_app))
-          return false;
-        if (!this.app.equals(that.app))
-          return false;
-      }
-
-      boolean this_present_requestId = true && this.isSetRequestId();
-      boolean that_present_requestId = true && that.isSetRequestId();
-      if (this_present_requestId || that_present_requestId) {
-        if (!(this_present_requestId && that_present_requestId))
+      boolean this_present_requests = true && this.isSetRequests();
+      boolean that_present_requests = true && that.isSetRequests();
+      if (this_present_requests || that_present_requests) {
+        if (!(this_present_requests && that_present_requests))
           return false;
-        if (!this.requestId.equals(that.requestId))
+        if (!this.requests.equals(that.requests))
           return false;
       }
 
@@ -1209,30 +1496,20 @@ public class InternalService {
       return 0;
     }
 
-    public int compareTo(getLoad_args other) {
+    public int compareTo(enqueueTaskReservationsBatch_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      getLoad_args typedOther = (getLoad_args)other;
+      enqueueTaskReservationsBatch_args typedOther = (enqueueTaskReservationsBatch_args)other;
 
-      lastComparison = Boolean.valueOf(isSetApp()).compareTo(typedOther.isSetApp());
+      lastComparison = Boolean.valueOf(isSetRequests()).compareTo(typedOther.isSetRequests());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetApp()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.app, typedOther.app);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetRequestId()).compareTo(typedOther.isSetRequestId());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetRequestId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.requestId, typedOther.requestId);
+      if (isSetRequests()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.requests, typedOther.requests);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -1254,22 +1531,14 @@ public class InternalService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getLoad_args(");
+      StringBuilder sb = new StringBuilder("enqueueTaskReservationsBatch_args(");
       boolean first = true;
 
-      sb.append("app:");
-      if (this.app == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.app);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("requestId:");
-      if (this.requestId == null) {
+      sb.append("requests:");
+      if (this.requests == null) {
         sb.append("null");
       } else {
-        sb.append(this.requestId);
+        sb.append(this.requests);
       }
       first = false;
       sb.append(")");
@@ -1296,15 +1565,15 @@ public class InternalService {
       }
     }
 
-    private static class getLoad_argsStandardSchemeFactory implements SchemeFactory {
-      public getLoad_argsStandardScheme getScheme() {
-        return new getLoad_argsStandardScheme();
+    private static class enqueueTaskReservationsBatch_argsStandardSchemeFactory implements SchemeFactory {
+      public enqueueTaskReservationsBatch_argsStandardScheme getScheme() {
+        return new enqueueTaskReservationsBatch_argsStandardScheme();
       }
     }
 
-    private static class getLoad_argsStandardScheme extends StandardScheme<getLoad_args> {
+    private static class enqueueTaskReservationsBatch_argsStandardScheme extends StandardScheme<enqueueTaskReservationsBatch_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getLoad_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, enqueueTaskReservationsBatch_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -1314,18 +1583,21 @@ public class InternalService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // APP
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.app = iprot.readString();
-                struct.setAppIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 2: // REQUEST_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.requestId = iprot.readString();
-                struct.setRequestIdIsSet(true);
+            case 1: // REQUESTS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list50 = iprot.readListBegin();
+                  struct.requests = new ArrayList<edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest>(_list50.size);
+                  for (int _i51 = 0; _i51 < _list50.size; ++_i51)
+                  {
+                    edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest _elem52; // required
+                    _elem52 = new edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest();
+                    _elem52.read(iprot);
+                    struct.requests.add(_elem52);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setRequestsIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -1341,18 +1613,20 @@ public class InternalService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getLoad_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, enqueueTaskReservationsBatch_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.app != null) {
-          oprot.writeFieldBegin(APP_FIELD_DESC);
-          oprot.writeString(struct.app);
-          oprot.writeFieldEnd();
-        }
-        if (struct.requestId != null) {
-          oprot.writeFieldBegin(REQUEST_ID_FIELD_DESC);
-          oprot.writeString(struct.requestId);
+        if (struct.requests != null) {
+          oprot.writeFieldBegin(REQUESTS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.requests.size()));
+            for (edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest _iter53 : struct.requests)
+            {
+              _iter53.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -1361,62 +1635,68 @@ public class InternalService {
 
     }
 
-    private static class getLoad_argsTupleSchemeFactory implements SchemeFactory {
-      public getLoad_argsTupleScheme getScheme() {
-        return new getLoad_argsTupleScheme();
+    private static class enqueueTaskReservationsBatch_argsTupleSchemeFactory implements SchemeFactory {
+      public enqueueTaskReservationsBatch_argsTupleScheme getScheme() {
+        return new enqueueTaskReservationsBatch_argsTupleScheme();
       }
     }
 
-    private static class getLoad_argsTupleScheme extends TupleScheme<getLoad_args> {
+    private static class enqueueTaskReservationsBatch_argsTupleScheme extends TupleScheme<enqueueTaskReservationsBatch_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getLoad_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, enqueueTaskReservationsBatch_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetApp()) {
+        if (struct.isSetRequests()) {
           optionals.set(0);
         }
-        if (struct.isSetRequestId()) {
-          optionals.set(1);
-        }
-        oprot.writeBitSet(optionals, 2);
-        if (struct.isSetApp()) {
-          oprot.writeString(struct.app);
-        }
-        if (struct.isSetRequestId()) {
-          oprot.writeString(struct.requestId);
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetRequests()) {
+          {
+            oprot.writeI32(struct.requests.size());
+            for (edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest _iter54 : struct.requests)
+            {
+              _iter54.write(oprot);
+            }
+          }
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getLoad_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, enqueueTaskReservationsBatch_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.app = iprot.readString();
-          struct.setAppIsSet(true);
-        }
-        if (incoming.get(1)) {
-          struct.requestId = iprot.readString();
-          struct.setRequestIdIsSet(true);
+          {
+            org.apache.thrift.protocol.TList _list55 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.requests = new ArrayList<edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest>(_list55.size);
+            for (int _i56 = 0; _i56 < _list55.size; ++_i56)
+            {
+              edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest _elem57; // required
+              _elem57 = new edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest();
+              _elem57.read(iprot);
+              struct.requests.add(_elem57);
+            }
+          }
+          struct.setRequestsIsSet(true);
         }
       }
     }
 
   }
 
-  public static class getLoad_result implements org.apache.thrift.TBase<getLoad_result, getLoad_result._Fields>, java.io.Serializable, Cloneable   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getLoad_result");
+  public static class enqueueTaskReservationsBatch_result implements org.apache.thrift.TBase<enqueueTaskReservationsBatch_result, enqueueTaskReservationsBatch_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("enqueueTaskReservationsBatch_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.MAP, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getLoad_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getLoad_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new enqueueTaskReservationsBatch_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new enqueueTaskReservationsBatch_resultTupleSchemeFactory());
     }
 
-    public Map<String,edu.berkeley.sparrow.thrift.TResourceUsage> success; // required
+    public edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsResponse success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -1481,18 +1761,16 @@ public class InternalService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.MapMetaData(org.apache.thrift.protocol.TType.MAP, 
-              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING), 
-              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, edu.berkeley.sparrow.thrift.TResourceUsage.class))));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsResponse.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getLoad_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(enqueueTaskReservationsBatch_result.class, metaDataMap);
     }
 
-    public getLoad_result() {
+    public enqueueTaskReservationsBatch_result() {
     }
 
-    public getLoad_result(
-      Map<String,edu.berkeley.sparrow.thrift.TResourceUsage> success)
+    public enqueueTaskReservationsBatch_result(
+      edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsResponse success)
     {
       this();
       this.success = success;
@@ -1501,48 +1779,25 @@ public class InternalService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getLoad_result(getLoad_result other) {
+    public enqueueTaskReservationsBatch_result(enqueueTaskReservationsBatch_result other) {
       if (other.isSetSuccess()) {
-        Map<String,edu.berkeley.sparrow.thrift.TResourceUsage> __this__success = new HashMap<String,edu.berkeley.sparrow.thrift.TResourceUsage>();
-        for (Map.Entry<String, edu.berkeley.sparrow.thrift.TResourceUsage> other_element : other.success.entrySet()) {
-
-          String other_element_key = other_element.getKey();
-          edu.berkeley.sparrow.thrift.TResourceUsage other_element_value = other_element.getValue();
-
-          String __this__success_copy_key = other_element_key;
-
-          edu.berkeley.sparrow.thrift.TResourceUsage __this__success_copy_value = new edu.berkeley.sparrow.thrift.TResourceUsage(other_element_value);
-
-          __this__success.put(__this__success_copy_key, __this__success_copy_value);
-        }
-        this.success = __this__success;
+        this.success = new edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsResponse(other.success);
       }
     }
 
-    public getLoad_result deepCopy() {
-      return new getLoad_result(this);
+    public enqueueTaskReservationsBatch_result deepCopy() {
+      return new enqueueTaskReservationsBatch_result(this);
     }
 
     public void clear() {
       this.success = null;
     }
 
-    public int getSuccessSize() {
-      return (this.success == null) ? 0 : this.success.size();
-    }
-
-    public void putToSuccess(String key, edu.berkeley.sparrow.thrift.TResourceUsage val) {
-      if (this.success == null) {
-        this.success = new HashMap<String,edu.berkeley.sparrow.thrift.TResourceUsage>();
-      }
-      this.success.put(key, val);
-    }
-
-    public Map<String,edu.berkeley.sparrow.thrift.TResourceUsage> getSuccess() {
+    public edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsResponse getSuccess() {
       return this.success;
     }
 
-    public getLoad_result setSuccess(Map<String,edu.berkeley.sparrow.thrift.TResourceUsage> success) {
+    public enqueueTaskReservationsBatch_result setSuccess(edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsResponse success) {
       this.success = success;
       return this;
     }
@@ -1568,7 +1823,7 @@ public class InternalService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((Map<String,edu.berkeley.sparrow.thrift.TResourceUsage>)value);
+          setSuccess((edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsResponse)value);
         }
         break;
 
@@ -1601,12 +1856,12 @@ public class InternalService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getLoad_result)
-        return this.equals((getLoad_result)that);
+      if (that instanceof enqueueTaskReservationsBatch_result)
+        return this.equals((enqueueTaskReservationsBatch_result)that);
       return false;
     }
 
-    public boolean equals(getLoad_result that) {
+    public boolean equals(enqueueTaskReservationsBatch_result that) {
       if (that == null)
         return false;
 
@@ -1627,13 +1882,13 @@ public class InternalService {
       return 0;
     }
 
-    public int compareTo(getLoad_result other) {
+    public int compareTo(enqueueTaskReservationsBatch_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      getLoad_result typedOther = (getLoad_result)other;
+      enqueueTaskReservationsBatch_result typedOther = (enqueueTaskReservationsBatch_result)other;
 
       lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(typedOther.isSetSuccess());
       if (lastComparison != 0) {
@@ -1662,7 +1917,7 @@ public class InternalService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getLoad_result(");
+      StringBuilder sb = new StringBuilder("enqueueTaskReservationsBatch_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -1696,15 +1951,15 @@ public class InternalService {
       }
     }
 
-    private static class getLoad_resultStandardSchemeFactory implements SchemeFactory {
-      public getLoad_resultStandardScheme getScheme() {
-        return new getLoad_resultStandardScheme();
+    private static class enqueueTaskReservationsBatch_resultStandardSchemeFactory implements SchemeFactory {
+      public enqueueTaskReservationsBatch_resultStandardScheme getScheme() {
+        return new enqueueTaskReservationsBatch_resultStandardScheme();
       }
     }
 
-    private static class getLoad_resultStandardScheme extends StandardScheme<getLoad_result> {
+    private static class enqueueTaskReservationsBatch_resultStandardScheme extends StandardScheme<enqueueTaskReservationsBatch_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getLoad_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, enqueueTaskReservationsBatch_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -1715,21 +1970,9 @@ public class InternalService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.MAP) {
-                {
-                  org.apache.thrift.protocol.TMap _map16 = iprot.readMapBegin();
-                  struct.success = new HashMap<String,edu.berkeley.sparrow.thrift.TResourceUsage>(2*_map16.size);
-                  for (int _i17 = 0; _i17 < _map16.size; ++_i17)
-                  {
-                    String _key18; // required
-                    edu.berkeley.sparrow.thrift.TResourceUsage _val19; // required
-                    _key18 = iprot.readString();
-                    _val19 = new edu.berkeley.sparrow.thrift.TResourceUsage();
-                    _val19.read(iprot);
-                    struct.success.put(_key18, _val19);
-                  }
-                  iprot.readMapEnd();
-                }
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsResponse();
+                struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -1746,21 +1989,13 @@ public class InternalService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getLoad_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, enqueueTaskReservationsBatch_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          {
-            oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
-            for (Map.Entry<String, edu.berkeley.sparrow.thrift.TResourceUsage> _iter20 : struct.success.entrySet())
-            {
-              oprot.writeString(_iter20.getKey());
-              _iter20.getValue().write(oprot);
-            }
-            oprot.writeMapEnd();
-          }
+          struct.success.write(oprot);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -1769,16 +2004,16 @@ public class InternalService {
 
     }
 
-    private static class getLoad_resultTupleSchemeFactory implements SchemeFactory {
-      public getLoad_resultTupleScheme getScheme() {
-        return new getLoad_resultTupleScheme();
+    private static class enqueueTaskReservationsBatch_resultTupleSchemeFactory implements SchemeFactory {
+      public enqueueTaskReservationsBatch_resultTupleScheme getScheme() {
+        return new enqueueTaskReservationsBatch_resultTupleScheme();
       }
     }
 
-    private static class getLoad_resultTupleScheme extends TupleScheme<getLoad_result> {
+    private static class enqueueTaskReservationsBatch_resultTupleScheme extends TupleScheme<enqueueTaskReservationsBatch_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getLoad_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, enqueueTaskReservationsBatch_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -1786,35 +2021,3550 @@ public class InternalService {
         }
         oprot.writeBitSet(optionals, 1);
         if (struct.isSetSuccess()) {
-          {
-            oprot.writeI32(struct.success.size());
-            for (Map.Entry<String, edu.berkeley.sparrow.thrift.TResourceUsage> _iter21 : struct.success.entrySet())
-            {
-              oprot.writeString(_iter21.getKey());
-              _iter21.getValue().write(oprot);
-            }
-          }
+          struct.success.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getLoad_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, enqueueTaskReservationsBatch_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          {
-            org.apache.thrift.protocol.TMap _map22 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-            struct.success = new HashMap<String,edu.berkeley.sparrow.thrift.TResourceUsage>(2*_map22.size);
-            for (int _i23 = 0; _i23 < _map22.size; ++_i23)
-            {
-              String _key24; // required
-              edu.berkeley.sparrow.thrift.TResourceUsage _val25; // required
-              _key24 = iprot.readString();
-              _val25 = new edu.berkeley.sparrow.thrift.TResourceUsage();
-              _val25.read(iprot);
-              struct.success.put(_key24, _val25);
-            }
-          }
+          struct.success = new edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsResponse();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class releaseGangReservations_args implements org.apache.thrift.TBase<releaseGangReservations_args, releaseGangReservations_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("releaseGangReservations_args");
+
+    private static final org.apache.thrift.protocol.TField REQUEST_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("requestId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField NUM_RESERVATIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("numReservations", org.apache.thrift.protocol.TType.I32, (short)2);
+    private static final org.apache.thrift.protocol.TField TASKS_FIELD_DESC = new org.apache.thrift.protocol.TField("tasks", org.apache.thrift.protocol.TType.LIST, (short)3);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new releaseGangReservations_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new releaseGangReservations_argsTupleSchemeFactory());
+    }
+
+    public String requestId; // required
+    public int numReservations; // required
+    public List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> tasks; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      REQUEST_ID((short)1, "requestId"),
+      NUM_RESERVATIONS((short)2, "numReservations"),
+      TASKS((short)3, "tasks");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // REQUEST_ID
+            return REQUEST_ID;
+          case 2: // NUM_RESERVATIONS
+            return NUM_RESERVATIONS;
+          case 3: // TASKS
+            return TASKS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __NUMRESERVATIONS_ISSET_ID = 0;
+    private BitSet __isset_bit_vector = new BitSet(1);
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.REQUEST_ID, new org.apache.thrift.meta_data.FieldMetaData("requestId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.NUM_RESERVATIONS, new org.apache.thrift.meta_data.FieldMetaData("numReservations", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.TASKS, new org.apache.thrift.meta_data.FieldMetaData("tasks", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, edu.berkeley.sparrow.thrift.TTaskLaunchSpec.class))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(releaseGangReservations_args.class, metaDataMap);
+    }
+
+    public releaseGangReservations_args() {
+    }
+
+    public releaseGangReservations_args(
+      String requestId,
+      int numReservations,
+      List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> tasks)
+    {
+      this();
+      this.requestId = requestId;
+      this.numReservations = numReservations;
+      setNumReservationsIsSet(true);
+      this.tasks = tasks;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public releaseGangReservations_args(releaseGangReservations_args other) {
+      __isset_bit_vector.clear();
+      __isset_bit_vector.or(other.__isset_bit_vector);
+      if (other.isSetRequestId()) {
+        this.requestId = other.requestId;
+      }
+      this.numReservations = other.numReservations;
+      if (other.isSetTasks()) {
+        List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> __this__tasks = new ArrayList<edu.berkeley.sparrow.thrift.TTaskLaunchSpec>();
+        for (edu.berkeley.sparrow.thrift.TTaskLaunchSpec other_element : other.tasks) {
+          __this__tasks.add(new edu.berkeley.sparrow.thrift.TTaskLaunchSpec(other_element));
+        }
+        this.tasks = __this__tasks;
+      }
+    }
+
+    public releaseGangReservations_args deepCopy() {
+      return new releaseGangReservations_args(this);
+    }
+
+    public void clear() {
+      this.requestId = null;
+      setNumReservationsIsSet(false);
+      this.numReservations = 0;
+      this.tasks = null;
+    }
+
+    public String getRequestId() {
+      return this.requestId;
+    }
+
+    public releaseGangReservations_args setRequestId(String requestId) {
+      this.requestId = requestId;
+      return this;
+    }
+
+    public void unsetRequestId() {
+      this.requestId = null;
+    }
+
+    /** Returns true if field requestId is set (has been assigned a value) and false otherwise */
+    public boolean isSetRequestId() {
+      return this.requestId != null;
+    }
+
+    public void setRequestIdIsSet(boolean value) {
+      if (!value) {
+        this.requestId = null;
+      }
+    }
+
+    public int getNumReservations() {
+      return this.numReservations;
+    }
+
+    public releaseGangReservations_args setNumReservations(int numReservations) {
+      this.numReservations = numReservations;
+      setNumReservationsIsSet(true);
+      return this;
+    }
+
+    public void unsetNumReservations() {
+      __isset_bit_vector.clear(__NUMRESERVATIONS_ISSET_ID);
+    }
+
+    /** Returns true if field numReservations is set (has been assigned a value) and false otherwise */
+    public boolean isSetNumReservations() {
+      return __isset_bit_vector.get(__NUMRESERVATIONS_ISSET_ID);
+    }
+
+    public void setNumReservationsIsSet(boolean value) {
+      __isset_bit_vector.set(__NUMRESERVATIONS_ISSET_ID, value);
+    }
+
+    public int getTasksSize() {
+      return (this.tasks == null) ? 0 : this.tasks.size();
+    }
+
+    public java.util.Iterator<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> getTasksIterator() {
+      return (this.tasks == null) ? null : this.tasks.iterator();
+    }
+
+    public void addToTasks(edu.berkeley.sparrow.thrift.TTaskLaunchSpec elem) {
+      if (this.tasks == null) {
+        this.tasks = new ArrayList<edu.berkeley.sparrow.thrift.TTaskLaunchSpec>();
+      }
+      this.tasks.add(elem);
+    }
+
+    public List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> getTasks() {
+      return this.tasks;
+    }
+
+    public releaseGangReservations_args setTasks(List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec> tasks) {
+      this.tasks = tasks;
+      return this;
+    }
+
+    public void unsetTasks() {
+      this.tasks = null;
+    }
+
+    /** Returns true if field tasks is set (has been assigned a value) and false otherwise */
+    public boolean isSetTasks() {
+      return this.tasks != null;
+    }
+
+    public void setTasksIsSet(boolean value) {
+      if (!value) {
+        this.tasks = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case REQUEST_ID:
+        if (value == null) {
+          unsetRequestId();
+        } else {
+          setRequestId((String)value);
+        }
+        break;
+
+      case NUM_RESERVATIONS:
+        if (value == null) {
+          unsetNumReservations();
+        } else {
+          setNumReservations((Integer)value);
+        }
+        break;
+
+      case TASKS:
+        if (value == null) {
+          unsetTasks();
+        } else {
+          setTasks((List<edu.berkeley.sparrow.thrift.TTaskLaunchSpec>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case REQUEST_ID:
+        return getRequestId();
+
+      case NUM_RESERVATIONS:
+        return Integer.valueOf(getNumReservations());
+
+      case TASKS:
+        return getTasks();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case REQUEST_ID:
+        return isSetRequestId();
+      case NUM_RESERVATIONS:
+        return isSetNumReservations();
+      case TASKS:
+        return isSetTasks();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof releaseGangReservations_args)
+        return this.equals((releaseGangReservations_args)that);
+      return false;
+    }
+
+    public boolean equals(releaseGangReservations_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_requestId = true && this.isSetRequestId();
+      boolean that_present_requestId = true && that.isSetRequestId();
+      if (this_present_requestId || that_present_requestId) {
+        if (!(this_present_requestId && that_present_requestId))
+          return false;
+        if (!this.requestId.equals(that.requestId))
+          return false;
+      }
+
+      boolean this_present_numReservations = true;
+      boolean that_present_numReservations = true;
+      if (this_present_numReservations || that_present_numReservations) {
+        if (!(this_present_numReservations && that_present_numReservations))
+          return false;
+        if (this.numReservations != that.numReservations)
+          return false;
+      }
+
+      boolean this_present_tasks = true && this.isSetTasks();
+      boolean that_present_tasks = true && that.isSetTasks();
+      if (this_present_tasks || that_present_tasks) {
+        if (!(this_present_tasks && that_present_tasks))
+          return false;
+        if (!this.tasks.equals(that.tasks))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(releaseGangReservations_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      releaseGangReservations_args typedOther = (releaseGangReservations_args)other;
+
+      lastComparison = Boolean.valueOf(isSetRequestId()).compareTo(typedOther.isSetRequestId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetRequestId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.requestId, typedOther.requestId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetNumReservations()).compareTo(typedOther.isSetNumReservations());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetNumReservations()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.numReservations, typedOther.numReservations);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetTasks()).compareTo(typedOther.isSetTasks());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetTasks()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.tasks, typedOther.tasks);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("releaseGangReservations_args(");
+      boolean first = true;
+
+      sb.append("requestId:");
+      if (this.requestId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.requestId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("numReservations:");
+      sb.append(this.numReservations);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("tasks:");
+      if (this.tasks == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.tasks);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bit_vector = new BitSet(1);
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private static class releaseGangReservations_argsStandardSchemeFactory implements SchemeFactory {
+      public releaseGangReservations_argsStandardScheme getScheme() {
+        return new releaseGangReservations_argsStandardScheme();
+      }
+    }
+
+    private static class releaseGangReservations_argsStandardScheme extends StandardScheme<releaseGangReservations_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, releaseGangReservations_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // REQUEST_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.requestId = iprot.readString();
+                struct.setRequestIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // NUM_RESERVATIONS
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.numReservations = iprot.readI32();
+                struct.setNumReservationsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // TASKS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list58 = iprot.readListBegin();
+                  struct.tasks = new ArrayList<edu.berkeley.sparrow.thrift.TTaskLaunchSpec>(_list58.size);
+                  for (int _i59 = 0; _i59 < _list58.size; ++_i59)
+                  {
+                    edu.berkeley.sparrow.thrift.TTaskLaunchSpec _elem60; // required
+                    _elem60 = new edu.berkeley.sparrow.thrift.TTaskLaunchSpec();
+                    _elem60.read(iprot);
+                    struct.tasks.add(_elem60);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setTasksIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, releaseGangReservations_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.requestId != null) {
+          oprot.writeFieldBegin(REQUEST_ID_FIELD_DESC);
+          oprot.writeString(struct.requestId);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(NUM_RESERVATIONS_FIELD_DESC);
+        oprot.writeI32(struct.numReservations);
+        oprot.writeFieldEnd();
+        if (struct.tasks != null) {
+          oprot.writeFieldBegin(TASKS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.tasks.size()));
+            for (edu.berkeley.sparrow.thrift.TTaskLaunchSpec _iter61 : struct.tasks)
+            {
+              _iter61.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class releaseGangReservations_argsTupleSchemeFactory implements SchemeFactory {
+      public releaseGangReservations_argsTupleScheme getScheme() {
+        return new releaseGangReservations_argsTupleScheme();
+      }
+    }
+
+    private static class releaseGangReservations_argsTupleScheme extends TupleScheme<releaseGangReservations_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, releaseGangReservations_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetRequestId()) {
+          optionals.set(0);
+        }
+        if (struct.isSetNumReservations()) {
+          optionals.set(1);
+        }
+        if (struct.isSetTasks()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
+        if (struct.isSetRequestId()) {
+          oprot.writeString(struct.requestId);
+        }
+        if (struct.isSetNumReservations()) {
+          oprot.writeI32(struct.numReservations);
+        }
+        if (struct.isSetTasks()) {
+          {
+            oprot.writeI32(struct.tasks.size());
+            for (edu.berkeley.sparrow.thrift.TTaskLaunchSpec _iter62 : struct.tasks)
+            {
+              _iter62.write(oprot);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, releaseGangReservations_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(3);
+        if (incoming.get(0)) {
+          struct.requestId = iprot.readString();
+          struct.setRequestIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.numReservations = iprot.readI32();
+          struct.setNumReservationsIsSet(true);
+        }
+        if (incoming.get(2)) {
+          {
+            org.apache.thrift.protocol.TList _list63 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.tasks = new ArrayList<edu.berkeley.sparrow.thrift.TTaskLaunchSpec>(_list63.size);
+            for (int _i64 = 0; _i64 < _list63.size; ++_i64)
+            {
+              edu.berkeley.sparrow.thrift.TTaskLaunchSpec _elem65; // required
+              _elem65 = new edu.berkeley.sparrow.thrift.TTaskLaunchSpec();
+              _elem65.read(iprot);
+              struct.tasks.add(_elem65);
+            }
+          }
+          struct.setTasksIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class releaseGangReservations_result implements org.apache.thrift.TBase<releaseGangReservations_result, releaseGangReservations_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("releaseGangReservations_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.BOOL, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new releaseGangReservations_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new releaseGangReservations_resultTupleSchemeFactory());
+    }
+
+    public boolean success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __SUCCESS_ISSET_ID = 0;
+    private BitSet __isset_bit_vector = new BitSet(1);
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(releaseGangReservations_result.class, metaDataMap);
+    }
+
+    public releaseGangReservations_result() {
+    }
+
+    public releaseGangReservations_result(
+      boolean success)
+    {
+      this();
+      this.success = success;
+      setSuccessIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public releaseGangReservations_result(releaseGangReservations_result other) {
+      __isset_bit_vector.clear();
+      __isset_bit_vector.or(other.__isset_bit_vector);
+      this.success = other.success;
+    }
+
+    public releaseGangReservations_result deepCopy() {
+      return new releaseGangReservations_result(this);
+    }
+
+    public void clear() {
+      setSuccessIsSet(false);
+      this.success = false;
+    }
+
+    public boolean isSuccess() {
+      return this.success;
+    }
+
+    public releaseGangReservations_result setSuccess(boolean success) {
+      this.success = success;
+      setSuccessIsSet(true);
+      return this;
+    }
+
+    public void unsetSuccess() {
+      __isset_bit_vector.clear(__SUCCESS_ISSET_ID);
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return __isset_bit_vector.get(__SUCCESS_ISSET_ID);
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      __isset_bit_vector.set(__SUCCESS_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((Boolean)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return Boolean.valueOf(isSuccess());
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof releaseGangReservations_result)
+        return this.equals((releaseGangReservations_result)that);
+      return false;
+    }
+
+    public boolean equals(releaseGangReservations_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true;
+      boolean that_present_success = true;
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (this.success != that.success)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(releaseGangReservations_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      releaseGangReservations_result typedOther = (releaseGangReservations_result)other;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(typedOther.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, typedOther.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("releaseGangReservations_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      sb.append(this.success);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private static class releaseGangReservations_resultStandardSchemeFactory implements SchemeFactory {
+      public releaseGangReservations_resultStandardScheme getScheme() {
+        return new releaseGangReservations_resultStandardScheme();
+      }
+    }
+
+    private static class releaseGangReservations_resultStandardScheme extends StandardScheme<releaseGangReservations_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, releaseGangReservations_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+                struct.success = iprot.readBool();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, releaseGangReservations_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+        oprot.writeBool(struct.success);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class releaseGangReservations_resultTupleSchemeFactory implements SchemeFactory {
+      public releaseGangReservations_resultTupleScheme getScheme() {
+        return new releaseGangReservations_resultTupleScheme();
+      }
+    }
+
+    private static class releaseGangReservations_resultTupleScheme extends TupleScheme<releaseGangReservations_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, releaseGangReservations_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          oprot.writeBool(struct.success);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, releaseGangReservations_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = iprot.readBool();
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class getLoad_args implements org.apache.thrift.TBase<getLoad_args, getLoad_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getLoad_args");
+
+    private static final org.apache.thrift.protocol.TField APP_FIELD_DESC = new org.apache.thrift.protocol.TField("app", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField REQUEST_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("requestId", org.apache.thrift.protocol.TType.STRING, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getLoad_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getLoad_argsTupleSchemeFactory());
+    }
+
+    public String app; // required
+    public String requestId; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      APP((short)1, "app"),
+      REQUEST_ID((short)2, "requestId");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // APP
+            return APP;
+          case 2: // REQUEST_ID
+            return REQUEST_ID;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.APP, new org.apache.thrift.meta_data.FieldMetaData("app", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.REQUEST_ID, new org.apache.thrift.meta_data.FieldMetaData("requestId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getLoad_args.class, metaDataMap);
+    }
+
+    public getLoad_args() {
+    }
+
+    public getLoad_args(
+      String app,
+      String requestId)
+    {
+      this();
+      this.app = app;
+      this.requestId = requestId;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getLoad_args(getLoad_args other) {
+      if (other.isSetApp()) {
+        this.app = other.app;
+      }
+      if (other.isSetRequestId()) {
+        this.requestId = other.requestId;
+      }
+    }
+
+    public getLoad_args deepCopy() {
+      return new getLoad_args(this);
+    }
+
+    public void clear() {
+      this.app = null;
+      this.requestId = null;
+    }
+
+    public String getApp() {
+      return this.app;
+    }
+
+    public getLoad_args setApp(String app) {
+      this.app = app;
+      return this;
+    }
+
+    public void unsetApp() {
+      this.app = null;
+    }
+
+    /** Returns true if field app is set (has been assigned a value) and false otherwise */
+    public boolean isSetApp() {
+      return this.app != null;
+    }
+
+    public void setAppIsSet(boolean value) {
+      if (!value) {
+        this.app = null;
+      }
+    }
+
+    public String getRequestId() {
+      return this.requestId;
+    }
+
+    public getLoad_args setRequestId(String requestId) {
+      this.requestId = requestId;
+      return this;
+    }
+
+    public void unsetRequestId() {
+      this.requestId = null;
+    }
+
+    /** Returns true if field requestId is set (has been assigned a value) and false otherwise */
+    public boolean isSetRequestId() {
+      return this.requestId != null;
+    }
+
+    public void setRequestIdIsSet(boolean value) {
+      if (!value) {
+        this.requestId = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case APP:
+        if (value == null) {
+          unsetApp();
+        } else {
+          setApp((String)value);
+        }
+        break;
+
+      case REQUEST_ID:
+        if (value == null) {
+          unsetRequestId();
+        } else {
+          setRequestId((String)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case APP:
+        return getApp();
+
+      case REQUEST_ID:
+        return getRequestId();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case APP:
+        return isSetApp();
+      case REQUEST_ID:
+        return isSetRequestId();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getLoad_args)
+        return this.equals((getLoad_args)that);
+      return false;
+    }
+
+    public boolean equals(getLoad_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_app = true && this.isSetApp();
+      boolean that_present_app = true && that.isSetApp();
+      if (this_present_app || that_present_app) {
+        if (!(this_present_app && that_present_app))
+          return false;
+        if (!this.app.equals(that.app))
+          return false;
+      }
+
+      boolean this_present_requestId = true && this.isSetRequestId();
+      boolean that_present_requestId = true && that.isSetRequestId();
+      if (this_present_requestId || that_present_requestId) {
+        if (!(this_present_requestId && that_present_requestId))
+          return false;
+        if (!this.requestId.equals(that.requestId))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(getLoad_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      getLoad_args typedOther = (getLoad_args)other;
+
+      lastComparison = Boolean.valueOf(isSetApp()).compareTo(typedOther.isSetApp());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetApp()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.app, typedOther.app);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetRequestId()).compareTo(typedOther.isSetRequestId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetRequestId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.requestId, typedOther.requestId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getLoad_args(");
+      boolean first = true;
+
+      sb.append("app:");
+      if (this.app == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.app);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("requestId:");
+      if (this.requestId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.requestId);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private static class getLoad_argsStandardSchemeFactory implements SchemeFactory {
+      public getLoad_argsStandardScheme getScheme() {
+        return new getLoad_argsStandardScheme();
+      }
+    }
+
+    private static class getLoad_argsStandardScheme extends StandardScheme<getLoad_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getLoad_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // APP
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.app = iprot.readString();
+                struct.setAppIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // REQUEST_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.requestId = iprot.readString();
+                struct.setRequestIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getLoad_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.app != null) {
+          oprot.writeFieldBegin(APP_FIELD_DESC);
+          oprot.writeString(struct.app);
+          oprot.writeFieldEnd();
+        }
+        if (struct.requestId != null) {
+          oprot.writeFieldBegin(REQUEST_ID_FIELD_DESC);
+          oprot.writeString(struct.requestId);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getLoad_argsTupleSchemeFactory implements SchemeFactory {
+      public getLoad_argsTupleScheme getScheme() {
+        return new getLoad_argsTupleScheme();
+      }
+    }
+
+    private static class getLoad_argsTupleScheme extends TupleScheme<getLoad_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getLoad_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetApp()) {
+          optionals.set(0);
+        }
+        if (struct.isSetRequestId()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetApp()) {
+          oprot.writeString(struct.app);
+        }
+        if (struct.isSetRequestId()) {
+          oprot.writeString(struct.requestId);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getLoad_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.app = iprot.readString();
+          struct.setAppIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.requestId = iprot.readString();
+          struct.setRequestIdIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class getLoad_result implements org.apache.thrift.TBase<getLoad_result, getLoad_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getLoad_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.MAP, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getLoad_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getLoad_resultTupleSchemeFactory());
+    }
+
+    public Map<String,edu.berkeley.sparrow.thrift.TResourceUsage> success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.MapMetaData(org.apache.thrift.protocol.TType.MAP, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING), 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, edu.berkeley.sparrow.thrift.TResourceUsage.class))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getLoad_result.class, metaDataMap);
+    }
+
+    public getLoad_result() {
+    }
+
+    public getLoad_result(
+      Map<String,edu.berkeley.sparrow.thrift.TResourceUsage> success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getLoad_result(getLoad_result other) {
+      if (other.isSetSuccess()) {
+        Map<String,edu.berkeley.sparrow.thrift.TResourceUsage> __this__success = new HashMap<String,edu.berkeley.sparrow.thrift.TResourceUsage>();
+        for (Map.Entry<String, edu.berkeley.sparrow.thrift.TResourceUsage> other_element : other.success.entrySet()) {
+
+          String other_element_key = other_element.getKey();
+          edu.berkeley.sparrow.thrift.TResourceUsage other_element_value = other_element.getValue();
+
+          String __this__success_copy_key = other_element_key;
+
+          edu.berkeley.sparrow.thrift.TResourceUsage __this__success_copy_value = new edu.berkeley.sparrow.thrift.TResourceUsage(other_element_value);
+
+          __this__success.put(__this__success_copy_key, __this__success_copy_value);
+        }
+        this.success = __this__success;
+      }
+    }
+
+    public getLoad_result deepCopy() {
+      return new getLoad_result(this);
+    }
+
+    public void clear() {
+      this.success = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public void putToSuccess(String key, edu.berkeley.sparrow.thrift.TResourceUsage val) {
+      if (this.success == null) {
+        this.success = new HashMap<String,edu.berkeley.sparrow.thrift.TResourceUsage>();
+      }
+      this.success.put(key, val);
+    }
+
+    public Map<String,edu.berkeley.sparrow.thrift.TResourceUsage> getSuccess() {
+      return this.success;
+    }
+
+    public getLoad_result setSuccess(Map<String,edu.berkeley.sparrow.thrift.TResourceUsage> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((Map<String,edu.berkeley.sparrow.thrift.TResourceUsage>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getLoad_result)
+        return this.equals((getLoad_result)that);
+      return false;
+    }
+
+    public boolean equals(getLoad_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(getLoad_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      getLoad_result typedOther = (getLoad_result)other;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(typedOther.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, typedOther.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getLoad_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private static class getLoad_resultStandardSchemeFactory implements SchemeFactory {
+      public getLoad_resultStandardScheme getScheme() {
+        return new getLoad_resultStandardScheme();
+      }
+    }
+
+    private static class getLoad_resultStandardScheme extends StandardScheme<getLoad_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getLoad_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.MAP) {
+                {
+                  org.apache.thrift.protocol.TMap _map66 = iprot.readMapBegin();
+                  struct.success = new HashMap<String,edu.berkeley.sparrow.thrift.TResourceUsage>(2*_map66.size);
+                  for (int _i67 = 0; _i67 < _map66.size; ++_i67)
+                  {
+                    String _key68; // required
+                    edu.berkeley.sparrow.thrift.TResourceUsage _val69; // required
+                    _key68 = iprot.readString();
+                    _val69 = new edu.berkeley.sparrow.thrift.TResourceUsage();
+                    _val69.read(iprot);
+                    struct.success.put(_key68, _val69);
+                  }
+                  iprot.readMapEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getLoad_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (Map.Entry<String, edu.berkeley.sparrow.thrift.TResourceUsage> _iter70 : struct.success.entrySet())
+            {
+              oprot.writeString(_iter70.getKey());
+              _iter70.getValue().write(oprot);
+            }
+            oprot.writeMapEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getLoad_resultTupleSchemeFactory implements SchemeFactory {
+      public getLoad_resultTupleScheme getScheme() {
+        return new getLoad_resultTupleScheme();
+      }
+    }
+
+    private static class getLoad_resultTupleScheme extends TupleScheme<getLoad_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getLoad_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (Map.Entry<String, edu.berkeley.sparrow.thrift.TResourceUsage> _iter71 : struct.success.entrySet())
+            {
+              oprot.writeString(_iter71.getKey());
+              _iter71.getValue().write(oprot);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getLoad_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TMap _map72 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new HashMap<String,edu.berkeley.sparrow.thrift.TResourceUsage>(2*_map72.size);
+            for (int _i73 = 0; _i73 < _map72.size; ++_i73)
+            {
+              String _key74; // required
+              edu.berkeley.sparrow.thrift.TResourceUsage _val75; // required
+              _key74 = iprot.readString();
+              _val75 = new edu.berkeley.sparrow.thrift.TResourceUsage();
+              _val75.read(iprot);
+              struct.success.put(_key74, _val75);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class stealTaskReservations_args implements org.apache.thrift.TBase<stealTaskReservations_args, stealTaskReservations_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("stealTaskReservations_args");
+
+    private static final org.apache.thrift.protocol.TField APP_IDS_FIELD_DESC = new org.apache.thrift.protocol.TField("appIds", org.apache.thrift.protocol.TType.LIST, (short)1);
+    private static final org.apache.thrift.protocol.TField MAX_RESERVATIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("maxReservations", org.apache.thrift.protocol.TType.I32, (short)2);
+    private static final org.apache.thrift.protocol.TField LEASE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("leaseId", org.apache.thrift.protocol.TType.STRING, (short)3);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new stealTaskReservations_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new stealTaskReservations_argsTupleSchemeFactory());
+    }
+
+    public List<String> appIds; // required
+    public int maxReservations; // required
+    public String leaseId; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      APP_IDS((short)1, "appIds"),
+      MAX_RESERVATIONS((short)2, "maxReservations"),
+      LEASE_ID((short)3, "leaseId");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // APP_IDS
+            return APP_IDS;
+          case 2: // MAX_RESERVATIONS
+            return MAX_RESERVATIONS;
+          case 3: // LEASE_ID
+            return LEASE_ID;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __MAXRESERVATIONS_ISSET_ID = 0;
+    private BitSet __isset_bit_vector = new BitSet(1);
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.APP_IDS, new org.apache.thrift.meta_data.FieldMetaData("appIds", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+      tmpMap.put(_Fields.MAX_RESERVATIONS, new org.apache.thrift.meta_data.FieldMetaData("maxReservations", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.LEASE_ID, new org.apache.thrift.meta_data.FieldMetaData("leaseId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(stealTaskReservations_args.class, metaDataMap);
+    }
+
+    public stealTaskReservations_args() {
+    }
+
+    public stealTaskReservations_args(
+      List<String> appIds,
+      int maxReservations,
+      String leaseId)
+    {
+      this();
+      this.appIds = appIds;
+      this.maxReservations = maxReservations;
+      setMaxReservationsIsSet(true);
+      this.leaseId = leaseId;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public stealTaskReservations_args(stealTaskReservations_args other) {
+      __isset_bit_vector.clear();
+      __isset_bit_vector.or(other.__isset_bit_vector);
+      if (other.isSetAppIds()) {
+        List<String> __this__appIds = new ArrayList<String>();
+        for (String other_element : other.appIds) {
+          __this__appIds.add(other_element);
+        }
+        this.appIds = __this__appIds;
+      }
+      this.maxReservations = other.maxReservations;
+      if (other.isSetLeaseId()) {
+        this.leaseId = other.leaseId;
+      }
+    }
+
+    public stealTaskReservations_args deepCopy() {
+      return new stealTaskReservations_args(this);
+    }
+
+    public void clear() {
+      this.appIds = null;
+      setMaxReservationsIsSet(false);
+      this.maxReservations = 0;
+      this.leaseId = null;
+    }
+
+    public int getAppIdsSize() {
+      return (this.appIds == null) ? 0 : this.appIds.size();
+    }
+
+    public java.util.Iterator<String> getAppIdsIterator() {
+      return (this.appIds == null) ? null : this.appIds.iterator();
+    }
+
+    public void addToAppIds(String elem) {
+      if (this.appIds == null) {
+        this.appIds = new ArrayList<String>();
+      }
+      this.appIds.add(elem);
+    }
+
+    public List<String> getAppIds() {
+      return this.appIds;
+    }
+
+    public stealTaskReservations_args setAppIds(List<String> appIds) {
+      this.appIds = appIds;
+      return this;
+    }
+
+    public void unsetAppIds() {
+      this.appIds = null;
+    }
+
+    /** Returns true if field appIds is set (has been assigned a value) and false otherwise */
+    public boolean isSetAppIds() {
+      return this.appIds != null;
+    }
+
+    public void setAppIdsIsSet(boolean value) {
+      if (!value) {
+        this.appIds = null;
+      }
+    }
+
+    public int getMaxReservations() {
+      return this.maxReservations;
+    }
+
+    public stealTaskReservations_args setMaxReservations(int maxReservations) {
+      this.maxReservations = maxReservations;
+      setMaxReservationsIsSet(true);
+      return this;
+    }
+
+    public void unsetMaxReservations() {
+      __isset_bit_vector.clear(__MAXRESERVATIONS_ISSET_ID);
+    }
+
+    /** Returns true if field maxReservations is set (has been assigned a value) and false otherwise */
+    public boolean isSetMaxReservations() {
+      return __isset_bit_vector.get(__MAXRESERVATIONS_ISSET_ID);
+    }
+
+    public void setMaxReservationsIsSet(boolean value) {
+      __isset_bit_vector.set(__MAXRESERVATIONS_ISSET_ID, value);
+    }
+
+    public String getLeaseId() {
+      return this.leaseId;
+    }
+
+    public stealTaskReservations_args setLeaseId(String leaseId) {
+      this.leaseId = leaseId;
+      return this;
+    }
+
+    public void unsetLeaseId() {
+      this.leaseId = null;
+    }
+
+    /** Returns true if field leaseId is set (has been assigned a value) and false otherwise */
+    public boolean isSetLeaseId() {
+      return this.leaseId != null;
+    }
+
+    public void setLeaseIdIsSet(boolean value) {
+      if (!value) {
+        this.leaseId = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case APP_IDS:
+        if (value == null) {
+          unsetAppIds();
+        } else {
+          setAppIds((List<String>)value);
+        }
+        break;
+
+      case MAX_RESERVATIONS:
+        if (value == null) {
+          unsetMaxReservations();
+        } else {
+          setMaxReservations((Integer)value);
+        }
+        break;
+
+      case LEASE_ID:
+        if (value == null) {
+          unsetLeaseId();
+        } else {
+          setLeaseId((String)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case APP_IDS:
+        return getAppIds();
+
+      case MAX_RESERVATIONS:
+        return Integer.valueOf(getMaxReservations());
+
+      case LEASE_ID:
+        return getLeaseId();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case APP_IDS:
+        return isSetAppIds();
+      case MAX_RESERVATIONS:
+        return isSetMaxReservations();
+      case LEASE_ID:
+        return isSetLeaseId();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof stealTaskReservations_args)
+        return this.equals((stealTaskReservations_args)that);
+      return false;
+    }
+
+    public boolean equals(stealTaskReservations_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_appIds = true && this.isSetAppIds();
+      boolean that_present_appIds = true && that.isSetAppIds();
+      if (this_present_appIds || that_present_appIds) {
+        if (!(this_present_appIds && that_present_appIds))
+          return false;
+        if (!this.appIds.equals(that.appIds))
+          return false;
+      }
+
+      boolean this_present_maxReservations = true;
+      boolean that_present_maxReservations = true;
+      if (this_present_maxReservations || that_present_maxReservations) {
+        if (!(this_present_maxReservations && that_present_maxReservations))
+          return false;
+        if (this.maxReservations != that.maxReservations)
+          return false;
+      }
+
+      boolean this_present_leaseId = true && this.isSetLeaseId();
+      boolean that_present_leaseId = true && that.isSetLeaseId();
+      if (this_present_leaseId || that_present_leaseId) {
+        if (!(this_present_leaseId && that_present_leaseId))
+          return false;
+        if (!this.leaseId.equals(that.leaseId))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(stealTaskReservations_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      stealTaskReservations_args typedOther = (stealTaskReservations_args)other;
+
+      lastComparison = Boolean.valueOf(isSetAppIds()).compareTo(typedOther.isSetAppIds());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetAppIds()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.appIds, typedOther.appIds);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetMaxReservations()).compareTo(typedOther.isSetMaxReservations());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetMaxReservations()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.maxReservations, typedOther.maxReservations);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetLeaseId()).compareTo(typedOther.isSetLeaseId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetLeaseId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.leaseId, typedOther.leaseId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("stealTaskReservations_args(");
+      boolean first = true;
+
+      sb.append("appIds:");
+      if (this.appIds == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.appIds);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("maxReservations:");
+      sb.append(this.maxReservations);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("leaseId:");
+      if (this.leaseId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.leaseId);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bit_vector = new BitSet(1);
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private static class stealTaskReservations_argsStandardSchemeFactory implements SchemeFactory {
+      public stealTaskReservations_argsStandardScheme getScheme() {
+        return new stealTaskReservations_argsStandardScheme();
+      }
+    }
+
+    private static class stealTaskReservations_argsStandardScheme extends StandardScheme<stealTaskReservations_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, stealTaskReservations_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // APP_IDS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list76 = iprot.readListBegin();
+                  struct.appIds = new ArrayList<String>(_list76.size);
+                  for (int _i77 = 0; _i77 < _list76.size; ++_i77)
+                  {
+                    String _elem78; // required
+                    _elem78 = iprot.readString();
+                    struct.appIds.add(_elem78);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setAppIdsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // MAX_RESERVATIONS
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.maxReservations = iprot.readI32();
+                struct.setMaxReservationsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // LEASE_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.leaseId = iprot.readString();
+                struct.setLeaseIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, stealTaskReservations_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.appIds != null) {
+          oprot.writeFieldBegin(APP_IDS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.appIds.size()));
+            for (String _iter79 : struct.appIds)
+            {
+              oprot.writeString(_iter79);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(MAX_RESERVATIONS_FIELD_DESC);
+        oprot.writeI32(struct.maxReservations);
+        oprot.writeFieldEnd();
+        if (struct.leaseId != null) {
+          oprot.writeFieldBegin(LEASE_ID_FIELD_DESC);
+          oprot.writeString(struct.leaseId);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class stealTaskReservations_argsTupleSchemeFactory implements SchemeFactory {
+      public stealTaskReservations_argsTupleScheme getScheme() {
+        return new stealTaskReservations_argsTupleScheme();
+      }
+    }
+
+    private static class stealTaskReservations_argsTupleScheme extends TupleScheme<stealTaskReservations_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, stealTaskReservations_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetAppIds()) {
+          optionals.set(0);
+        }
+        if (struct.isSetMaxReservations()) {
+          optionals.set(1);
+        }
+        if (struct.isSetLeaseId()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
+        if (struct.isSetAppIds()) {
+          {
+            oprot.writeI32(struct.appIds.size());
+            for (String _iter80 : struct.appIds)
+            {
+              oprot.writeString(_iter80);
+            }
+          }
+        }
+        if (struct.isSetMaxReservations()) {
+          oprot.writeI32(struct.maxReservations);
+        }
+        if (struct.isSetLeaseId()) {
+          oprot.writeString(struct.leaseId);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, stealTaskReservations_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(3);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list81 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.appIds = new ArrayList<String>(_list81.size);
+            for (int _i82 = 0; _i82 < _list81.size; ++_i82)
+            {
+              String _elem83; // required
+              _elem83 = iprot.readString();
+              struct.appIds.add(_elem83);
+            }
+          }
+          struct.setAppIdsIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.maxReservations = iprot.readI32();
+          struct.setMaxReservationsIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.leaseId = iprot.readString();
+          struct.setLeaseIdIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class stealTaskReservations_result implements org.apache.thrift.TBase<stealTaskReservations_result, stealTaskReservations_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("stealTaskReservations_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new stealTaskReservations_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new stealTaskReservations_resultTupleSchemeFactory());
+    }
+
+    public List<edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest> success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest.class))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(stealTaskReservations_result.class, metaDataMap);
+    }
+
+    public stealTaskReservations_result() {
+    }
+
+    public stealTaskReservations_result(
+      List<edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest> success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public stealTaskReservations_result(stealTaskReservations_result other) {
+      if (other.isSetSuccess()) {
+        List<edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest> __this__success = new ArrayList<edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest>();
+        for (edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest other_element : other.success) {
+          __this__success.add(new edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest(other_element));
+        }
+        this.success = __this__success;
+      }
+    }
+
+    public stealTaskReservations_result deepCopy() {
+      return new stealTaskReservations_result(this);
+    }
+
+    public void clear() {
+      this.success = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest> getSuccess() {
+      return this.success;
+    }
+
+    public stealTaskReservations_result setSuccess(List<edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((List<edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof stealTaskReservations_result)
+        return this.equals((stealTaskReservations_result)that);
+      return false;
+    }
+
+    public boolean equals(stealTaskReservations_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(stealTaskReservations_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      stealTaskReservations_result typedOther = (stealTaskReservations_result)other;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(typedOther.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, typedOther.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("stealTaskReservations_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private static class stealTaskReservations_resultStandardSchemeFactory implements SchemeFactory {
+      public stealTaskReservations_resultStandardScheme getScheme() {
+        return new stealTaskReservations_resultStandardScheme();
+      }
+    }
+
+    private static class stealTaskReservations_resultStandardScheme extends StandardScheme<stealTaskReservations_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, stealTaskReservations_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list84 = iprot.readListBegin();
+                  struct.success = new ArrayList<edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest>(_list84.size);
+                  for (int _i85 = 0; _i85 < _list84.size; ++_i85)
+                  {
+                    edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest _elem86; // required
+                    _elem86 = new edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest();
+                    _elem86.read(iprot);
+                    struct.success.add(_elem86);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, stealTaskReservations_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest _iter87 : struct.success)
+            {
+              _iter87.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class stealTaskReservations_resultTupleSchemeFactory implements SchemeFactory {
+      public stealTaskReservations_resultTupleScheme getScheme() {
+        return new stealTaskReservations_resultTupleScheme();
+      }
+    }
+
+    private static class stealTaskReservations_resultTupleScheme extends TupleScheme<stealTaskReservations_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, stealTaskReservations_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest _iter88 : struct.success)
+            {
+              _iter88.write(oprot);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, stealTaskReservations_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list89 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest>(_list89.size);
+            for (int _i90 = 0; _i90 < _list89.size; ++_i90)
+            {
+              edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest _elem91; // required
+              _elem91 = new edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest();
+              _elem91.read(iprot);
+              struct.success.add(_elem91);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class confirmStolenReservations_args implements org.apache.thrift.TBase<confirmStolenReservations_args, confirmStolenReservations_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("confirmStolenReservations_args");
+
+    private static final org.apache.thrift.protocol.TField LEASE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("leaseId", org.apache.thrift.protocol.TType.STRING, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new confirmStolenReservations_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new confirmStolenReservations_argsTupleSchemeFactory());
+    }
+
+    public String leaseId; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      LEASE_ID((short)1, "leaseId");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // LEASE_ID
+            return LEASE_ID;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.LEASE_ID, new org.apache.thrift.meta_data.FieldMetaData("leaseId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(confirmStolenReservations_args.class, metaDataMap);
+    }
+
+    public confirmStolenReservations_args() {
+    }
+
+    public confirmStolenReservations_args(
+      String leaseId)
+    {
+      this();
+      this.leaseId = leaseId;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public confirmStolenReservations_args(confirmStolenReservations_args other) {
+      if (other.isSetLeaseId()) {
+        this.leaseId = other.leaseId;
+      }
+    }
+
+    public confirmStolenReservations_args deepCopy() {
+      return new confirmStolenReservations_args(this);
+    }
+
+    public void clear() {
+      this.leaseId = null;
+    }
+
+    public String getLeaseId() {
+      return this.leaseId;
+    }
+
+    public confirmStolenReservations_args setLeaseId(String leaseId) {
+      this.leaseId = leaseId;
+      return this;
+    }
+
+    public void unsetLeaseId() {
+      this.leaseId = null;
+    }
+
+    /** Returns true if field leaseId is set (has been assigned a value) and false otherwise */
+    public boolean isSetLeaseId() {
+      return this.leaseId != null;
+    }
+
+    public void setLeaseIdIsSet(boolean value) {
+      if (!value) {
+        this.leaseId = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case LEASE_ID:
+        if (value == null) {
+          unsetLeaseId();
+        } else {
+          setLeaseId((String)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case LEASE_ID:
+        return getLeaseId();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case LEASE_ID:
+        return isSetLeaseId();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof confirmStolenReservations_args)
+        return this.equals((confirmStolenReservations_args)that);
+      return false;
+    }
+
+    public boolean equals(confirmStolenReservations_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_leaseId = true && this.isSetLeaseId();
+      boolean that_present_leaseId = true && that.isSetLeaseId();
+      if (this_present_leaseId || that_present_leaseId) {
+        if (!(this_present_leaseId && that_present_leaseId))
+          return false;
+        if (!this.leaseId.equals(that.leaseId))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(confirmStolenReservations_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      confirmStolenReservations_args typedOther = (confirmStolenReservations_args)other;
+
+      lastComparison = Boolean.valueOf(isSetLeaseId()).compareTo(typedOther.isSetLeaseId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetLeaseId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.leaseId, typedOther.leaseId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("confirmStolenReservations_args(");
+      boolean first = true;
+
+      sb.append("leaseId:");
+      if (this.leaseId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.leaseId);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private static class confirmStolenReservations_argsStandardSchemeFactory implements SchemeFactory {
+      public confirmStolenReservations_argsStandardScheme getScheme() {
+        return new confirmStolenReservations_argsStandardScheme();
+      }
+    }
+
+    private static class confirmStolenReservations_argsStandardScheme extends StandardScheme<confirmStolenReservations_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, confirmStolenReservations_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // LEASE_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.leaseId = iprot.readString();
+                struct.setLeaseIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, confirmStolenReservations_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.leaseId != null) {
+          oprot.writeFieldBegin(LEASE_ID_FIELD_DESC);
+          oprot.writeString(struct.leaseId);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class confirmStolenReservations_argsTupleSchemeFactory implements SchemeFactory {
+      public confirmStolenReservations_argsTupleScheme getScheme() {
+        return new confirmStolenReservations_argsTupleScheme();
+      }
+    }
+
+    private static class confirmStolenReservations_argsTupleScheme extends TupleScheme<confirmStolenReservations_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, confirmStolenReservations_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetLeaseId()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetLeaseId()) {
+          oprot.writeString(struct.leaseId);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, confirmStolenReservations_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.leaseId = iprot.readString();
+          struct.setLeaseIdIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class confirmStolenReservations_result implements org.apache.thrift.TBase<confirmStolenReservations_result, confirmStolenReservations_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("confirmStolenReservations_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.BOOL, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new confirmStolenReservations_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new confirmStolenReservations_resultTupleSchemeFactory());
+    }
+
+    public boolean success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __SUCCESS_ISSET_ID = 0;
+    private BitSet __isset_bit_vector = new BitSet(1);
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(confirmStolenReservations_result.class, metaDataMap);
+    }
+
+    public confirmStolenReservations_result() {
+    }
+
+    public confirmStolenReservations_result(
+      boolean success)
+    {
+      this();
+      this.success = success;
+      setSuccessIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public confirmStolenReservations_result(confirmStolenReservations_result other) {
+      __isset_bit_vector.clear();
+      __isset_bit_vector.or(other.__isset_bit_vector);
+      this.success = other.success;
+    }
+
+    public confirmStolenReservations_result deepCopy() {
+      return new confirmStolenReservations_result(this);
+    }
+
+    public void clear() {
+      setSuccessIsSet(false);
+      this.success = false;
+    }
+
+    public boolean isSuccess() {
+      return this.success;
+    }
+
+    public confirmStolenReservations_result setSuccess(boolean success) {
+      this.success = success;
+      setSuccessIsSet(true);
+      return this;
+    }
+
+    public void unsetSuccess() {
+      __isset_bit_vector.clear(__SUCCESS_ISSET_ID);
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return __isset_bit_vector.get(__SUCCESS_ISSET_ID);
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      __isset_bit_vector.set(__SUCCESS_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((Boolean)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return Boolean.valueOf(isSuccess());
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof confirmStolenReservations_result)
+        return this.equals((confirmStolenReservations_result)that);
+      return false;
+    }
+
+    public boolean equals(confirmStolenReservations_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true;
+      boolean that_present_success = true;
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (this.success != that.success)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(confirmStolenReservations_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      confirmStolenReservations_result typedOther = (confirmStolenReservations_result)other;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(typedOther.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, typedOther.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("confirmStolenReservations_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      sb.append(this.success);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private static class confirmStolenReservations_resultStandardSchemeFactory implements SchemeFactory {
+      public confirmStolenReservations_resultStandardScheme getScheme() {
+        return new confirmStolenReservations_resultStandardScheme();
+      }
+    }
+
+    private static class confirmStolenReservations_resultStandardScheme extends StandardScheme<confirmStolenReservations_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, confirmStolenReservations_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+                struct.success = iprot.readBool();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, confirmStolenReservations_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+        oprot.writeBool(struct.success);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class confirmStolenReservations_resultTupleSchemeFactory implements SchemeFactory {
+      public confirmStolenReservations_resultTupleScheme getScheme() {
+        return new confirmStolenReservations_resultTupleScheme();
+      }
+    }
+
+    private static class confirmStolenReservations_resultTupleScheme extends TupleScheme<confirmStolenReservations_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, confirmStolenReservations_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          oprot.writeBool(struct.success);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, confirmStolenReservations_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = iprot.readBool();
           struct.setSuccessIsSet(true);
         }
       }
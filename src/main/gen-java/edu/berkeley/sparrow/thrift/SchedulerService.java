@@ -33,7 +33,13 @@ public class SchedulerService {
 
     public boolean registerFrontend(String app, String socketAddress) throws org.apache.thrift.TException;
 
-    public void submitJob(edu.berkeley.sparrow.thrift.TSchedulingRequest req) throws edu.berkeley.sparrow.thrift.IncompleteRequestException, org.apache.thrift.TException;
+    public int getLoadHint() throws org.apache.thrift.TException;
+
+    public void cancelJobs(List<String> jobIds) throws org.apache.thrift.TException;
+
+    public void submitJob(edu.berkeley.sparrow.thrift.TSchedulingRequest req) throws edu.berkeley.sparrow.thrift.IncompleteRequestException, edu.berkeley.sparrow.thrift.SchedulerOverloadedException, org.apache.thrift.TException;
+
+    public void submitJobs(List<edu.berkeley.sparrow.thrift.TSchedulingRequest> reqs) throws edu.berkeley.sparrow.thrift.IncompleteRequestException, edu.berkeley.sparrow.thrift.SchedulerOverloadedException, org.apache.thrift.TException;
 
     public void sendFrontendMessage(String app, edu.berkeley.sparrow.thrift.TFullTaskId taskId, int status, ByteBuffer message) throws org.apache.thrift.TException;
 
@@ -43,8 +49,14 @@ public class SchedulerService {
 
     public void registerFrontend(String app, String socketAddress, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.registerFrontend_call> resultHandler) throws org.apache.thrift.TException;
 
+    public void getLoadHint(org.apache.thrift.async.AsyncMethodCallback<AsyncClient.getLoadHint_call> resultHandler) throws org.apache.thrift.TException;
+
+    public void cancelJobs(List<String> jobIds, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.cancelJobs_call> resultHandler) throws org.apache.thrift.TException;
+
     public void submitJob(edu.berkeley.sparrow.thrift.TSchedulingRequest req, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.submitJob_call> resultHandler) throws org.apache.thrift.TException;
 
+    public void submitJobs(List<edu.berkeley.sparrow.thrift.TSchedulingRequest> reqs, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.submitJobs_call> resultHandler) throws org.apache.thrift.TException;
+
     public void sendFrontendMessage(String app, edu.berkeley.sparrow.thrift.TFullTaskId taskId, int status, ByteBuffer message, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.sendFrontendMessage_call> resultHandler) throws org.apache.thrift.TException;
 
   }
@@ -93,7 +105,49 @@ public class SchedulerService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "registerFrontend failed: unknown result");
     }
 
-    public void submitJob(edu.berkeley.sparrow.thrift.TSchedulingRequest req) throws edu.berkeley.sparrow.thrift.IncompleteRequestException, org.apache.thrift.TException
+    public int getLoadHint() throws org.apache.thrift.TException
+    {
+      send_getLoadHint();
+      return recv_getLoadHint();
+    }
+
+    public void send_getLoadHint() throws org.apache.thrift.TException
+    {
+      getLoadHint_args args = new getLoadHint_args();
+      sendBase("getLoadHint", args);
+    }
+
+    public int recv_getLoadHint() throws org.apache.thrift.TException
+    {
+      getLoadHint_result result = new getLoadHint_result();
+      receiveBase(result, "getLoadHint");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getLoadHint failed: unknown result");
+    }
+
+    public void cancelJobs(List<String> jobIds) throws org.apache.thrift.TException
+    {
+      send_cancelJobs(jobIds);
+      recv_cancelJobs();
+    }
+
+    public void send_cancelJobs(List<String> jobIds) throws org.apache.thrift.TException
+    {
+      cancelJobs_args args = new cancelJobs_args();
+      args.setJobIds(jobIds);
+      sendBase("cancelJobs", args);
+    }
+
+    public void recv_cancelJobs() throws org.apache.thrift.TException
+    {
+      cancelJobs_result result = new cancelJobs_result();
+      receiveBase(result, "cancelJobs");
+      return;
+    }
+
+    public void submitJob(edu.berkeley.sparrow.thrift.TSchedulingRequest req) throws edu.berkeley.sparrow.thrift.IncompleteRequestException, edu.berkeley.sparrow.thrift.SchedulerOverloadedException, org.apache.thrift.TException
     {
       send_submitJob(req);
       recv_submitJob();
@@ -106,13 +160,42 @@ public class SchedulerService {
       sendBase("submitJob", args);
     }
 
-    public void recv_submitJob() throws edu.berkeley.sparrow.thrift.IncompleteRequestException, org.apache.thrift.TException
+    public void recv_submitJob() throws edu.berkeley.sparrow.thrift.IncompleteRequestException, edu.berkeley.sparrow.thrift.SchedulerOverloadedException, org.apache.thrift.TException
     {
       submitJob_result result = new submitJob_result();
       receiveBase(result, "submitJob");
       if (result.e != null) {
         throw result.e;
       }
+      if (result.overloaded != null) {
+        throw result.overloaded;
+      }
+      return;
+    }
+
+    public void submitJobs(List<edu.berkeley.sparrow.thrift.TSchedulingRequest> reqs) throws edu.berkeley.sparrow.thrift.IncompleteRequestException, edu.berkeley.sparrow.thrift.SchedulerOverloadedException, org.apache.thrift.TException
+    {
+      send_submitJobs(reqs);
+      recv_submitJobs();
+    }
+
+    public void send_submitJobs(List<edu.berkeley.sparrow.thrift.TSchedulingRequest> reqs) throws org.apache.thrift.TException
+    {
+      submitJobs_args args = new submitJobs_args();
+      args.setReqs(reqs);
+      sendBase("submitJobs", args);
+    }
+
+    public void recv_submitJobs() throws edu.berkeley.sparrow.thrift.IncompleteRequestException, edu.berkeley.sparrow.thrift.SchedulerOverloadedException, org.apache.thrift.TException
+    {
+      submitJobs_result result = new submitJobs_result();
+      receiveBase(result, "submitJobs");
+      if (result.e != null) {
+        throw result.e;
+      }
+      if (result.overloaded != null) {
+        throw result.overloaded;
+      }
       return;
     }
 
@@ -192,6 +275,67 @@ public class SchedulerService {
       }
     }
 
+    public void getLoadHint(org.apache.thrift.async.AsyncMethodCallback<getLoadHint_call> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      getLoadHint_call method_call = new getLoadHint_call(resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class getLoadHint_call extends org.apache.thrift.async.TAsyncMethodCall {
+      public getLoadHint_call(org.apache.thrift.async.AsyncMethodCallback<getLoadHint_call> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getLoadHint", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getLoadHint_args args = new getLoadHint_args();
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public int getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_getLoadHint();
+      }
+    }
+
+    public void cancelJobs(List<String> jobIds, org.apache.thrift.async.AsyncMethodCallback<cancelJobs_call> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      cancelJobs_call method_call = new cancelJobs_call(jobIds, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class cancelJobs_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private List<String> jobIds;
+      public cancelJobs_call(List<String> jobIds, org.apache.thrift.async.AsyncMethodCallback<cancelJobs_call> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.jobIds = jobIds;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("cancelJobs", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        cancelJobs_args args = new cancelJobs_args();
+        args.setJobIds(jobIds);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public void getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        (new Client(prot)).recv_cancelJobs();
+      }
+    }
+
     public void submitJob(edu.berkeley.sparrow.thrift.TSchedulingRequest req, org.apache.thrift.async.AsyncMethodCallback<submitJob_call> resultHandler) throws org.apache.thrift.TException {
       checkReady();
       submitJob_call method_call = new submitJob_call(req, resultHandler, this, ___protocolFactory, ___transport);
@@ -214,7 +358,7 @@ public class SchedulerService {
         prot.writeMessageEnd();
       }
 
-      public void getResult() throws edu.berkeley.sparrow.thrift.IncompleteRequestException, org.apache.thrift.TException {
+      public void getResult() throws edu.berkeley.sparrow.thrift.IncompleteRequestException, edu.berkeley.sparrow.thrift.SchedulerOverloadedException, org.apache.thrift.TException {
         if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
           throw new IllegalStateException("Method call not finished!");
         }
@@ -224,6 +368,38 @@ public class SchedulerService {
       }
     }
 
+    public void submitJobs(List<edu.berkeley.sparrow.thrift.TSchedulingRequest> reqs, org.apache.thrift.async.AsyncMethodCallback<submitJobs_call> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      submitJobs_call method_call = new submitJobs_call(reqs, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class submitJobs_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private List<edu.berkeley.sparrow.thrift.TSchedulingRequest> reqs;
+      public submitJobs_call(List<edu.berkeley.sparrow.thrift.TSchedulingRequest> reqs, org.apache.thrift.async.AsyncMethodCallback<submitJobs_call> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.reqs = reqs;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("submitJobs", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        submitJobs_args args = new submitJobs_args();
+        args.setReqs(reqs);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public void getResult() throws edu.berkeley.sparrow.thrift.IncompleteRequestException, edu.berkeley.sparrow.thrift.SchedulerOverloadedException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        (new Client(prot)).recv_submitJobs();
+      }
+    }
+
     public void sendFrontendMessage(String app, edu.berkeley.sparrow.thrift.TFullTaskId taskId, int status, ByteBuffer message, org.apache.thrift.async.AsyncMethodCallback<sendFrontendMessage_call> resultHandler) throws org.apache.thrift.TException {
       checkReady();
       sendFrontendMessage_call method_call = new sendFrontendMessage_call(app, taskId, status, message, resultHandler, this, ___protocolFactory, ___transport);
@@ -279,7 +455,10 @@ public class SchedulerService {
 
     private static <I extends Iface> Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> getProcessMap(Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> processMap) {
       processMap.put("registerFrontend", new registerFrontend());
+      processMap.put("getLoadHint", new getLoadHint());
+      processMap.put("cancelJobs", new cancelJobs());
       processMap.put("submitJob", new submitJob());
+      processMap.put("submitJobs", new submitJobs());
       processMap.put("sendFrontendMessage", new sendFrontendMessage());
       return processMap;
     }
@@ -301,6 +480,39 @@ public class SchedulerService {
       }
     }
 
+    private static class getLoadHint<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getLoadHint_args> {
+      public getLoadHint() {
+        super("getLoadHint");
+      }
+
+      protected getLoadHint_args getEmptyArgsInstance() {
+        return new getLoadHint_args();
+      }
+
+      protected getLoadHint_result getResult(I iface, getLoadHint_args args) throws org.apache.thrift.TException {
+        getLoadHint_result result = new getLoadHint_result();
+        result.success = iface.getLoadHint();
+        result.setSuccessIsSet(true);
+        return result;
+      }
+    }
+
+    private static class cancelJobs<I extends Iface> extends org.apache.thrift.ProcessFunction<I, cancelJobs_args> {
+      public cancelJobs() {
+        super("cancelJobs");
+      }
+
+      protected cancelJobs_args getEmptyArgsInstance() {
+        return new cancelJobs_args();
+      }
+
+      protected cancelJobs_result getResult(I iface, cancelJobs_args args) throws org.apache.thrift.TException {
+        cancelJobs_result result = new cancelJobs_result();
+        iface.cancelJobs(args.jobIds);
+        return result;
+      }
+    }
+
     private static class submitJob<I extends Iface> extends org.apache.thrift.ProcessFunction<I, submitJob_args> {
       public submitJob() {
         super("submitJob");
@@ -316,6 +528,30 @@ public class SchedulerService {
           iface.submitJob(args.req);
         } catch (edu.berkeley.sparrow.thrift.IncompleteRequestException e) {
           result.e = e;
+        } catch (edu.berkeley.sparrow.thrift.SchedulerOverloadedException overloaded) {
+          result.overloaded = overloaded;
+        }
+        return result;
+      }
+    }
+
+    private static class submitJobs<I extends Iface> extends org.apache.thrift.ProcessFunction<I, submitJobs_args> {
+      public submitJobs() {
+        super("submitJobs");
+      }
+
+      protected submitJobs_args getEmptyArgsInstance() {
+        return new submitJobs_args();
+      }
+
+      protected submitJobs_result getResult(I iface, submitJobs_args args) throws org.apache.thrift.TException {
+        submitJobs_result result = new submitJobs_result();
+        try {
+          iface.submitJobs(args.reqs);
+        } catch (edu.berkeley.sparrow.thrift.IncompleteRequestException e) {
+          result.e = e;
+        } catch (edu.berkeley.sparrow.thrift.SchedulerOverloadedException overloaded) {
+          result.overloaded = overloaded;
         }
         return result;
       }
@@ -1140,22 +1376,20 @@ public class SchedulerService {
 
   }
 
-  public static class submitJob_args implements org.apache.thrift.TBase<submitJob_args, submitJob_args._Fields>, java.io.Serializable, Cloneable   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("submitJob_args");
+  public static class getLoadHint_args implements org.apache.thrift.TBase<getLoadHint_args, getLoadHint_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getLoadHint_args");
 
-    private static final org.apache.thrift.protocol.TField REQ_FIELD_DESC = new org.apache.thrift.protocol.TField("req", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new submitJob_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new submitJob_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getLoadHint_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getLoadHint_argsTupleSchemeFactory());
     }
 
-    public edu.berkeley.sparrow.thrift.TSchedulingRequest req; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      REQ((short)1, "req");
+;
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -1170,8 +1404,6 @@ public class SchedulerService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // REQ
-            return REQ;
           default:
             return null;
         }
@@ -1210,86 +1442,36 @@ public class SchedulerService {
         return _fieldName;
       }
     }
-
-    // isset id assignments
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.REQ, new org.apache.thrift.meta_data.FieldMetaData("req", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, edu.berkeley.sparrow.thrift.TSchedulingRequest.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(submitJob_args.class, metaDataMap);
-    }
-
-    public submitJob_args() {
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getLoadHint_args.class, metaDataMap);
     }
 
-    public submitJob_args(
-      edu.berkeley.sparrow.thrift.TSchedulingRequest req)
-    {
-      this();
-      this.req = req;
+    public getLoadHint_args() {
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public submitJob_args(submitJob_args other) {
-      if (other.isSetReq()) {
-        this.req = new edu.berkeley.sparrow.thrift.TSchedulingRequest(other.req);
-      }
+    public getLoadHint_args(getLoadHint_args other) {
     }
 
-    public submitJob_args deepCopy() {
-      return new submitJob_args(this);
+    public getLoadHint_args deepCopy() {
+      return new getLoadHint_args(this);
     }
 
     public void clear() {
-      this.req = null;
-    }
-
-    public edu.berkeley.sparrow.thrift.TSchedulingRequest getReq() {
-      return this.req;
-    }
-
-    public submitJob_args setReq(edu.berkeley.sparrow.thrift.TSchedulingRequest req) {
-      this.req = req;
-      return this;
-    }
-
-    public void unsetReq() {
-      this.req = null;
-    }
-
-    /** Returns true if field req is set (has been assigned a value) and false otherwise */
-    public boolean isSetReq() {
-      return this.req != null;
-    }
-
-    public void setReqIsSet(boolean value) {
-      if (!value) {
-        this.req = null;
-      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case REQ:
-        if (value == null) {
-          unsetReq();
-        } else {
-          setReq((edu.berkeley.sparrow.thrift.TSchedulingRequest)value);
-        }
-        break;
-
       }
     }
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case REQ:
-        return getReq();
-
       }
       throw new IllegalStateException();
     }
@@ -1301,8 +1483,6 @@ public class SchedulerService {
       }
 
       switch (field) {
-      case REQ:
-        return isSetReq();
       }
       throw new IllegalStateException();
     }
@@ -1311,24 +1491,15 @@ public class SchedulerService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof submitJob_args)
-        return this.equals((submitJob_args)that);
+      if (that instanceof getLoadHint_args)
+        return this.equals((getLoadHint_args)that);
       return false;
     }
 
-    public boolean equals(submitJob_args that) {
+    public boolean equals(getLoadHint_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_req = true && this.isSetReq();
-      boolean that_present_req = true && that.isSetReq();
-      if (this_present_req || that_present_req) {
-        if (!(this_present_req && that_present_req))
-          return false;
-        if (!this.req.equals(that.req))
-          return false;
-      }
-
       return true;
     }
 
@@ -1337,24 +1508,14 @@ public class SchedulerService {
       return 0;
     }
 
-    public int compareTo(submitJob_args other) {
+    public int compareTo(getLoadHint_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      submitJob_args typedOther = (submitJob_args)other;
+      getLoadHint_args typedOther = (getLoadHint_args)other;
 
-      lastComparison = Boolean.valueOf(isSetReq()).compareTo(typedOther.isSetReq());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetReq()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.req, typedOther.req);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       return 0;
     }
 
@@ -1372,16 +1533,9 @@ public class SchedulerService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("submitJob_args(");
+      StringBuilder sb = new StringBuilder("getLoadHint_args(");
       boolean first = true;
 
-      sb.append("req:");
-      if (this.req == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.req);
-      }
-      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -1406,15 +1560,15 @@ public class SchedulerService {
       }
     }
 
-    private static class submitJob_argsStandardSchemeFactory implements SchemeFactory {
-      public submitJob_argsStandardScheme getScheme() {
-        return new submitJob_argsStandardScheme();
+    private static class getLoadHint_argsStandardSchemeFactory implements SchemeFactory {
+      public getLoadHint_argsStandardScheme getScheme() {
+        return new getLoadHint_argsStandardScheme();
       }
     }
 
-    private static class submitJob_argsStandardScheme extends StandardScheme<submitJob_args> {
+    private static class getLoadHint_argsStandardScheme extends StandardScheme<getLoadHint_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, submitJob_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getLoadHint_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -1424,15 +1578,6 @@ public class SchedulerService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // REQ
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.req = new edu.berkeley.sparrow.thrift.TSchedulingRequest();
-                struct.req.read(iprot);
-                struct.setReqIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -1444,72 +1589,2269 @@ public class SchedulerService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, submitJob_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getLoadHint_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.req != null) {
-          oprot.writeFieldBegin(REQ_FIELD_DESC);
-          struct.req.write(oprot);
-          oprot.writeFieldEnd();
-        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class submitJob_argsTupleSchemeFactory implements SchemeFactory {
+    private static class getLoadHint_argsTupleSchemeFactory implements SchemeFactory {
+      public getLoadHint_argsTupleScheme getScheme() {
+        return new getLoadHint_argsTupleScheme();
+      }
+    }
+
+    private static class getLoadHint_argsTupleScheme extends TupleScheme<getLoadHint_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getLoadHint_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getLoadHint_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+      }
+    }
+
+  }
+
+  public static class getLoadHint_result implements org.apache.thrift.TBase<getLoadHint_result, getLoadHint_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getLoadHint_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.I32, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getLoadHint_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getLoadHint_resultTupleSchemeFactory());
+    }
+
+    public int success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __SUCCESS_ISSET_ID = 0;
+    private BitSet __isset_bit_vector = new BitSet(1);
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getLoadHint_result.class, metaDataMap);
+    }
+
+    public getLoadHint_result() {
+    }
+
+    public getLoadHint_result(
+      int success)
+    {
+      this();
+      this.success = success;
+      setSuccessIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getLoadHint_result(getLoadHint_result other) {
+      __isset_bit_vector.clear();
+      __isset_bit_vector.or(other.__isset_bit_vector);
+      this.success = other.success;
+    }
+
+    public getLoadHint_result deepCopy() {
+      return new getLoadHint_result(this);
+    }
+
+    public void clear() {
+      setSuccessIsSet(false);
+      this.success = 0;
+    }
+
+    public int getSuccess() {
+      return this.success;
+    }
+
+    public getLoadHint_result setSuccess(int success) {
+      this.success = success;
+      setSuccessIsSet(true);
+      return this;
+    }
+
+    public void unsetSuccess() {
+      __isset_bit_vector.clear(__SUCCESS_ISSET_ID);
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return __isset_bit_vector.get(__SUCCESS_ISSET_ID);
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      __isset_bit_vector.set(__SUCCESS_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((Integer)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return Integer.valueOf(getSuccess());
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getLoadHint_result)
+        return this.equals((getLoadHint_result)that);
+      return false;
+    }
+
+    public boolean equals(getLoadHint_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true;
+      boolean that_present_success = true;
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (this.success != that.success)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(getLoadHint_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      getLoadHint_result typedOther = (getLoadHint_result)other;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(typedOther.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, typedOther.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getLoadHint_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      sb.append(this.success);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private static class getLoadHint_resultStandardSchemeFactory implements SchemeFactory {
+      public getLoadHint_resultStandardScheme getScheme() {
+        return new getLoadHint_resultStandardScheme();
+      }
+    }
+
+    private static class getLoadHint_resultStandardScheme extends StandardScheme<getLoadHint_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getLoadHint_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.success = iprot.readI32();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getLoadHint_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+        oprot.writeI32(struct.success);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getLoadHint_resultTupleSchemeFactory implements SchemeFactory {
+      public getLoadHint_resultTupleScheme getScheme() {
+        return new getLoadHint_resultTupleScheme();
+      }
+    }
+
+    private static class getLoadHint_resultTupleScheme extends TupleScheme<getLoadHint_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getLoadHint_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          oprot.writeI32(struct.success);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getLoadHint_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = iprot.readI32();
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class cancelJobs_args implements org.apache.thrift.TBase<cancelJobs_args, cancelJobs_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("cancelJobs_args");
+
+    private static final org.apache.thrift.protocol.TField JOB_IDS_FIELD_DESC = new org.apache.thrift.protocol.TField("jobIds", org.apache.thrift.protocol.TType.LIST, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new cancelJobs_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new cancelJobs_argsTupleSchemeFactory());
+    }
+
+    public List<String> jobIds; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      JOB_IDS((short)1, "jobIds");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // JOB_IDS
+            return JOB_IDS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.JOB_IDS, new org.apache.thrift.meta_data.FieldMetaData("jobIds", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(cancelJobs_args.class, metaDataMap);
+    }
+
+    public cancelJobs_args() {
+    }
+
+    public cancelJobs_args(
+      List<String> jobIds)
+    {
+      this();
+      this.jobIds = jobIds;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public cancelJobs_args(cancelJobs_args other) {
+      if (other.isSetJobIds()) {
+        List<String> __this__jobIds = new ArrayList<String>();
+        for (String other_element : other.jobIds) {
+          __this__jobIds.add(other_element);
+        }
+        this.jobIds = __this__jobIds;
+      }
+    }
+
+    public cancelJobs_args deepCopy() {
+      return new cancelJobs_args(this);
+    }
+
+    public void clear() {
+      this.jobIds = null;
+    }
+
+    public int getJobIdsSize() {
+      return (this.jobIds == null) ? 0 : this.jobIds.size();
+    }
+
+    public java.util.Iterator<String> getJobIdsIterator() {
+      return (this.jobIds == null) ? null : this.jobIds.iterator();
+    }
+
+    public void addToJobIds(String elem) {
+      if (this.jobIds == null) {
+        this.jobIds = new ArrayList<String>();
+      }
+      this.jobIds.add(elem);
+    }
+
+    public List<String> getJobIds() {
+      return this.jobIds;
+    }
+
+    public cancelJobs_args setJobIds(List<String> jobIds) {
+      this.jobIds = jobIds;
+      return this;
+    }
+
+    public void unsetJobIds() {
+      this.jobIds = null;
+    }
+
+    /** Returns true if field jobIds is set (has been assigned a value) and false otherwise */
+    public boolean isSetJobIds() {
+      return this.jobIds != null;
+    }
+
+    public void setJobIdsIsSet(boolean value) {
+      if (!value) {
+        this.jobIds = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case JOB_IDS:
+        if (value == null) {
+          unsetJobIds();
+        } else {
+          setJobIds((List<String>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case JOB_IDS:
+        return getJobIds();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case JOB_IDS:
+        return isSetJobIds();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof cancelJobs_args)
+        return this.equals((cancelJobs_args)that);
+      return false;
+    }
+
+    public boolean equals(cancelJobs_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_jobIds = true && this.isSetJobIds();
+      boolean that_present_jobIds = true && that.isSetJobIds();
+      if (this_present_jobIds || that_present_jobIds) {
+        if (!(this_present_jobIds && that_present_jobIds))
+          return false;
+        if (!this.jobIds.equals(that.jobIds))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(cancelJobs_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      cancelJobs_args typedOther = (cancelJobs_args)other;
+
+      lastComparison = Boolean.valueOf(isSetJobIds()).compareTo(typedOther.isSetJobIds());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetJobIds()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.jobIds, typedOther.jobIds);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("cancelJobs_args(");
+      boolean first = true;
+
+      sb.append("jobIds:");
+      if (this.jobIds == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.jobIds);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private static class cancelJobs_argsStandardSchemeFactory implements SchemeFactory {
+      public cancelJobs_argsStandardScheme getScheme() {
+        return new cancelJobs_argsStandardScheme();
+      }
+    }
+
+    private static class cancelJobs_argsStandardScheme extends StandardScheme<cancelJobs_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, cancelJobs_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // JOB_IDS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list0 = iprot.readListBegin();
+                  struct.jobIds = new ArrayList<String>(_list0.size);
+                  for (int _i1 = 0; _i1 < _list0.size; ++_i1)
+                  {
+                    String _elem2; // required
+                    _elem2 = iprot.readString();
+                    struct.jobIds.add(_elem2);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setJobIdsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, cancelJobs_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.jobIds != null) {
+          oprot.writeFieldBegin(JOB_IDS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.jobIds.size()));
+            for (String _iter3 : struct.jobIds)
+            {
+              oprot.writeString(_iter3);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class cancelJobs_argsTupleSchemeFactory implements SchemeFactory {
+      public cancelJobs_argsTupleScheme getScheme() {
+        return new cancelJobs_argsTupleScheme();
+      }
+    }
+
+    private static class cancelJobs_argsTupleScheme extends TupleScheme<cancelJobs_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, cancelJobs_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetJobIds()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetJobIds()) {
+          {
+            oprot.writeI32(struct.jobIds.size());
+            for (String _iter4 : struct.jobIds)
+            {
+              oprot.writeString(_iter4);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, cancelJobs_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list5 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.jobIds = new ArrayList<String>(_list5.size);
+            for (int _i6 = 0; _i6 < _list5.size; ++_i6)
+            {
+              String _elem7; // required
+              _elem7 = iprot.readString();
+              struct.jobIds.add(_elem7);
+            }
+          }
+          struct.setJobIdsIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class cancelJobs_result implements org.apache.thrift.TBase<cancelJobs_result, cancelJobs_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("cancelJobs_result");
+
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new cancelJobs_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new cancelJobs_resultTupleSchemeFactory());
+    }
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(cancelJobs_result.class, metaDataMap);
+    }
+
+    public cancelJobs_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public cancelJobs_result(cancelJobs_result other) {
+    }
+
+    public cancelJobs_result deepCopy() {
+      return new cancelJobs_result(this);
+    }
+
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof cancelJobs_result)
+        return this.equals((cancelJobs_result)that);
+      return false;
+    }
+
+    public boolean equals(cancelJobs_result that) {
+      if (that == null)
+        return false;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(cancelJobs_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      cancelJobs_result typedOther = (cancelJobs_result)other;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("cancelJobs_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private static class cancelJobs_resultStandardSchemeFactory implements SchemeFactory {
+      public cancelJobs_resultStandardScheme getScheme() {
+        return new cancelJobs_resultStandardScheme();
+      }
+    }
+
+    private static class cancelJobs_resultStandardScheme extends StandardScheme<cancelJobs_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, cancelJobs_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, cancelJobs_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class cancelJobs_resultTupleSchemeFactory implements SchemeFactory {
+      public cancelJobs_resultTupleScheme getScheme() {
+        return new cancelJobs_resultTupleScheme();
+      }
+    }
+
+    private static class cancelJobs_resultTupleScheme extends TupleScheme<cancelJobs_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, cancelJobs_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, cancelJobs_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+      }
+    }
+
+  }
+
+  public static class submitJob_args implements org.apache.thrift.TBase<submitJob_args, submitJob_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("submitJob_args");
+
+    private static final org.apache.thrift.protocol.TField REQ_FIELD_DESC = new org.apache.thrift.protocol.TField("req", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new submitJob_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new submitJob_argsTupleSchemeFactory());
+    }
+
+    public edu.berkeley.sparrow.thrift.TSchedulingRequest req; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      REQ((short)1, "req");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // REQ
+            return REQ;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.REQ, new org.apache.thrift.meta_data.FieldMetaData("req", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, edu.berkeley.sparrow.thrift.TSchedulingRequest.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(submitJob_args.class, metaDataMap);
+    }
+
+    public submitJob_args() {
+    }
+
+    public submitJob_args(
+      edu.berkeley.sparrow.thrift.TSchedulingRequest req)
+    {
+      this();
+      this.req = req;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public submitJob_args(submitJob_args other) {
+      if (other.isSetReq()) {
+        this.req = new edu.berkeley.sparrow.thrift.TSchedulingRequest(other.req);
+      }
+    }
+
+    public submitJob_args deepCopy() {
+      return new submitJob_args(this);
+    }
+
+    public void clear() {
+      this.req = null;
+    }
+
+    public edu.berkeley.sparrow.thrift.TSchedulingRequest getReq() {
+      return this.req;
+    }
+
+    public submitJob_args setReq(edu.berkeley.sparrow.thrift.TSchedulingRequest req) {
+      this.req = req;
+      return this;
+    }
+
+    public void unsetReq() {
+      this.req = null;
+    }
+
+    /** Returns true if field req is set (has been assigned a value) and false otherwise */
+    public boolean isSetReq() {
+      return this.req != null;
+    }
+
+    public void setReqIsSet(boolean value) {
+      if (!value) {
+        this.req = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case REQ:
+        if (value == null) {
+          unsetReq();
+        } else {
+          setReq((edu.berkeley.sparrow.thrift.TSchedulingRequest)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case REQ:
+        return getReq();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case REQ:
+        return isSetReq();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof submitJob_args)
+        return this.equals((submitJob_args)that);
+      return false;
+    }
+
+    public boolean equals(submitJob_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_req = true && this.isSetReq();
+      boolean that_present_req = true && that.isSetReq();
+      if (this_present_req || that_present_req) {
+        if (!(this_present_req && that_present_req))
+          return false;
+        if (!this.req.equals(that.req))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(submitJob_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      submitJob_args typedOther = (submitJob_args)other;
+
+      lastComparison = Boolean.valueOf(isSetReq()).compareTo(typedOther.isSetReq());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetReq()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.req, typedOther.req);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("submitJob_args(");
+      boolean first = true;
+
+      sb.append("req:");
+      if (this.req == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.req);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private static class submitJob_argsStandardSchemeFactory implements SchemeFactory {
+      public submitJob_argsStandardScheme getScheme() {
+        return new submitJob_argsStandardScheme();
+      }
+    }
+
+    private static class submitJob_argsStandardScheme extends StandardScheme<submitJob_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, submitJob_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // REQ
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.req = new edu.berkeley.sparrow.thrift.TSchedulingRequest();
+                struct.req.read(iprot);
+                struct.setReqIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, submitJob_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.req != null) {
+          oprot.writeFieldBegin(REQ_FIELD_DESC);
+          struct.req.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class submitJob_argsTupleSchemeFactory implements SchemeFactory {
       public submitJob_argsTupleScheme getScheme() {
         return new submitJob_argsTupleScheme();
       }
     }
 
-    private static class submitJob_argsTupleScheme extends TupleScheme<submitJob_args> {
+    private static class submitJob_argsTupleScheme extends TupleScheme<submitJob_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, submitJob_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetReq()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetReq()) {
+          struct.req.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, submitJob_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.req = new edu.berkeley.sparrow.thrift.TSchedulingRequest();
+          struct.req.read(iprot);
+          struct.setReqIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class submitJob_result implements org.apache.thrift.TBase<submitJob_result, submitJob_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("submitJob_result");
+
+    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField OVERLOADED_FIELD_DESC = new org.apache.thrift.protocol.TField("overloaded", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new submitJob_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new submitJob_resultTupleSchemeFactory());
+    }
+
+    public edu.berkeley.sparrow.thrift.IncompleteRequestException e; // required
+    public edu.berkeley.sparrow.thrift.SchedulerOverloadedException overloaded; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      E((short)1, "e"),
+      OVERLOADED((short)2, "overloaded");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // E
+            return E;
+          case 2: // OVERLOADED
+            return OVERLOADED;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      tmpMap.put(_Fields.OVERLOADED, new org.apache.thrift.meta_data.FieldMetaData("overloaded", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(submitJob_result.class, metaDataMap);
+    }
+
+    public submitJob_result() {
+    }
+
+    public submitJob_result(
+      edu.berkeley.sparrow.thrift.IncompleteRequestException e,
+      edu.berkeley.sparrow.thrift.SchedulerOverloadedException overloaded)
+    {
+      this();
+      this.e = e;
+      this.overloaded = overloaded;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public submitJob_result(submitJob_result other) {
+      if (other.isSetE()) {
+        this.e = new edu.berkeley.sparrow.thrift.IncompleteRequestException(other.e);
+      }
+      if (other.isSetOverloaded()) {
+        this.overloaded = new edu.berkeley.sparrow.thrift.SchedulerOverloadedException(other.overloaded);
+      }
+    }
+
+    public submitJob_result deepCopy() {
+      return new submitJob_result(this);
+    }
+
+    public void clear() {
+      this.e = null;
+      this.overloaded = null;
+    }
+
+    public edu.berkeley.sparrow.thrift.IncompleteRequestException getE() {
+      return this.e;
+    }
+
+    public submitJob_result setE(edu.berkeley.sparrow.thrift.IncompleteRequestException e) {
+      this.e = e;
+      return this;
+    }
+
+    public void unsetE() {
+      this.e = null;
+    }
+
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
+    }
+
+    public void setEIsSet(boolean value) {
+      if (!value) {
+        this.e = null;
+      }
+    }
+
+    public edu.berkeley.sparrow.thrift.SchedulerOverloadedException getOverloaded() {
+      return this.overloaded;
+    }
+
+    public submitJob_result setOverloaded(edu.berkeley.sparrow.thrift.SchedulerOverloadedException overloaded) {
+      this.overloaded = overloaded;
+      return this;
+    }
+
+    public void unsetOverloaded() {
+      this.overloaded = null;
+    }
+
+    /** Returns true if field overloaded is set (has been assigned a value) and false otherwise */
+    public boolean isSetOverloaded() {
+      return this.overloaded != null;
+    }
+
+    public void setOverloadedIsSet(boolean value) {
+      if (!value) {
+        this.overloaded = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case E:
+        if (value == null) {
+          unsetE();
+        } else {
+          setE((edu.berkeley.sparrow.thrift.IncompleteRequestException)value);
+        }
+        break;
+
+      case OVERLOADED:
+        if (value == null) {
+          unsetOverloaded();
+        } else {
+          setOverloaded((edu.berkeley.sparrow.thrift.SchedulerOverloadedException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case E:
+        return getE();
+
+      case OVERLOADED:
+        return getOverloaded();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case E:
+        return isSetE();
+      case OVERLOADED:
+        return isSetOverloaded();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof submitJob_result)
+        return this.equals((submitJob_result)that);
+      return false;
+    }
+
+    public boolean equals(submitJob_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_e = true && this.isSetE();
+      boolean that_present_e = true && that.isSetE();
+      if (this_present_e || that_present_e) {
+        if (!(this_present_e && that_present_e))
+          return false;
+        if (!this.e.equals(that.e))
+          return false;
+      }
+
+      boolean this_present_overloaded = true && this.isSetOverloaded();
+      boolean that_present_overloaded = true && that.isSetOverloaded();
+      if (this_present_overloaded || that_present_overloaded) {
+        if (!(this_present_overloaded && that_present_overloaded))
+          return false;
+        if (!this.overloaded.equals(that.overloaded))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(submitJob_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      submitJob_result typedOther = (submitJob_result)other;
+
+      lastComparison = Boolean.valueOf(isSetE()).compareTo(typedOther.isSetE());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, typedOther.e);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetOverloaded()).compareTo(typedOther.isSetOverloaded());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetOverloaded()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.overloaded, typedOther.overloaded);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("submitJob_result(");
+      boolean first = true;
+
+      sb.append("e:");
+      if (this.e == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("overloaded:");
+      if (this.overloaded == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.overloaded);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private static class submitJob_resultStandardSchemeFactory implements SchemeFactory {
+      public submitJob_resultStandardScheme getScheme() {
+        return new submitJob_resultStandardScheme();
+      }
+    }
+
+    private static class submitJob_resultStandardScheme extends StandardScheme<submitJob_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, submitJob_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // E
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e = new edu.berkeley.sparrow.thrift.IncompleteRequestException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // OVERLOADED
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.overloaded = new edu.berkeley.sparrow.thrift.SchedulerOverloadedException();
+                struct.overloaded.read(iprot);
+                struct.setOverloadedIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, submitJob_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.e != null) {
+          oprot.writeFieldBegin(E_FIELD_DESC);
+          struct.e.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.overloaded != null) {
+          oprot.writeFieldBegin(OVERLOADED_FIELD_DESC);
+          struct.overloaded.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class submitJob_resultTupleSchemeFactory implements SchemeFactory {
+      public submitJob_resultTupleScheme getScheme() {
+        return new submitJob_resultTupleScheme();
+      }
+    }
+
+    private static class submitJob_resultTupleScheme extends TupleScheme<submitJob_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, submitJob_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetE()) {
+          optionals.set(0);
+        }
+        if (struct.isSetOverloaded()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetE()) {
+          struct.e.write(oprot);
+        }
+        if (struct.isSetOverloaded()) {
+          struct.overloaded.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, submitJob_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.e = new edu.berkeley.sparrow.thrift.IncompleteRequestException();
+          struct.e.read(iprot);
+          struct.setEIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.overloaded = new edu.berkeley.sparrow.thrift.SchedulerOverloadedException();
+          struct.overloaded.read(iprot);
+          struct.setOverloadedIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class submitJobs_args implements org.apache.thrift.TBase<submitJobs_args, submitJobs_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("submitJobs_args");
+
+    private static final org.apache.thrift.protocol.TField REQS_FIELD_DESC = new org.apache.thrift.protocol.TField("reqs", org.apache.thrift.protocol.TType.LIST, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new submitJobs_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new submitJobs_argsTupleSchemeFactory());
+    }
+
+    public List<edu.berkeley.sparrow.thrift.TSchedulingRequest> reqs; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      REQS((short)1, "reqs");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // REQS
+            return REQS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.REQS, new org.apache.thrift.meta_data.FieldMetaData("reqs", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, edu.berkeley.sparrow.thrift.TSchedulingRequest.class))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(submitJobs_args.class, metaDataMap);
+    }
+
+    public submitJobs_args() {
+    }
+
+    public submitJobs_args(
+      List<edu.berkeley.sparrow.thrift.TSchedulingRequest> reqs)
+    {
+      this();
+      this.reqs = reqs;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public submitJobs_args(submitJobs_args other) {
+      if (other.isSetReqs()) {
+        List<edu.berkeley.sparrow.thrift.TSchedulingRequest> __this__reqs = new ArrayList<edu.berkeley.sparrow.thrift.TSchedulingRequest>();
+        for (edu.berkeley.sparrow.thrift.TSchedulingRequest other_element : other.reqs) {
+          __this__reqs.add(new edu.berkeley.sparrow.thrift.TSchedulingRequest(other_element));
+        }
+        this.reqs = __this__reqs;
+      }
+    }
+
+    public submitJobs_args deepCopy() {
+      return new submitJobs_args(this);
+    }
+
+    public void clear() {
+      this.reqs = null;
+    }
+
+    public int getReqsSize() {
+      return (this.reqs == null) ? 0 : this.reqs.size();
+    }
+
+    public java.util.Iterator<edu.berkeley.sparrow.thrift.TSchedulingRequest> getReqsIterator() {
+      return (this.reqs == null) ? null : this.reqs.iterator();
+    }
+
+    public void addToReqs(edu.berkeley.sparrow.thrift.TSchedulingRequest elem) {
+      if (this.reqs == null) {
+        this.reqs = new ArrayList<edu.berkeley.sparrow.thrift.TSchedulingRequest>();
+      }
+      this.reqs.add(elem);
+    }
+
+    public List<edu.berkeley.sparrow.thrift.TSchedulingRequest> getReqs() {
+      return this.reqs;
+    }
+
+    public submitJobs_args setReqs(List<edu.berkeley.sparrow.thrift.TSchedulingRequest> reqs) {
+      this.reqs = reqs;
+      return this;
+    }
+
+    public void unsetReqs() {
+      this.reqs = null;
+    }
+
+    /** Returns true if field reqs is set (has been assigned a value) and false otherwise */
+    public boolean isSetReqs() {
+      return this.reqs != null;
+    }
+
+    public void setReqsIsSet(boolean value) {
+      if (!value) {
+        this.reqs = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case REQS:
+        if (value == null) {
+          unsetReqs();
+        } else {
+          setReqs((List<edu.berkeley.sparrow.thrift.TSchedulingRequest>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case REQS:
+        return getReqs();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case REQS:
+        return isSetReqs();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof submitJobs_args)
+        return this.equals((submitJobs_args)that);
+      return false;
+    }
+
+    public boolean equals(submitJobs_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_reqs = true && this.isSetReqs();
+      boolean that_present_reqs = true && that.isSetReqs();
+      if (this_present_reqs || that_present_reqs) {
+        if (!(this_present_reqs && that_present_reqs))
+          return false;
+        if (!this.reqs.equals(that.reqs))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(submitJobs_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      submitJobs_args typedOther = (submitJobs_args)other;
+
+      lastComparison = Boolean.valueOf(isSetReqs()).compareTo(typedOther.isSetReqs());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetReqs()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.reqs, typedOther.reqs);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("submitJobs_args(");
+      boolean first = true;
+
+      sb.append("reqs:");
+      if (this.reqs == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.reqs);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private static class submitJobs_argsStandardSchemeFactory implements SchemeFactory {
+      public submitJobs_argsStandardScheme getScheme() {
+        return new submitJobs_argsStandardScheme();
+      }
+    }
+
+    private static class submitJobs_argsStandardScheme extends StandardScheme<submitJobs_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, submitJobs_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // REQS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list8 = iprot.readListBegin();
+                  struct.reqs = new ArrayList<edu.berkeley.sparrow.thrift.TSchedulingRequest>(_list8.size);
+                  for (int _i9 = 0; _i9 < _list8.size; ++_i9)
+                  {
+                    edu.berkeley.sparrow.thrift.TSchedulingRequest _elem10; // required
+                    _elem10 = new edu.berkeley.sparrow.thrift.TSchedulingRequest();
+                    _elem10.read(iprot);
+                    struct.reqs.add(_elem10);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setReqsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, submitJobs_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.reqs != null) {
+          oprot.writeFieldBegin(REQS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.reqs.size()));
+            for (edu.berkeley.sparrow.thrift.TSchedulingRequest _iter11 : struct.reqs)
+            {
+              _iter11.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class submitJobs_argsTupleSchemeFactory implements SchemeFactory {
+      public submitJobs_argsTupleScheme getScheme() {
+        return new submitJobs_argsTupleScheme();
+      }
+    }
+
+    private static class submitJobs_argsTupleScheme extends TupleScheme<submitJobs_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, submitJob_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, submitJobs_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetReq()) {
+        if (struct.isSetReqs()) {
           optionals.set(0);
         }
         oprot.writeBitSet(optionals, 1);
-        if (struct.isSetReq()) {
-          struct.req.write(oprot);
+        if (struct.isSetReqs()) {
+          {
+            oprot.writeI32(struct.reqs.size());
+            for (edu.berkeley.sparrow.thrift.TSchedulingRequest _iter12 : struct.reqs)
+            {
+              _iter12.write(oprot);
+            }
+          }
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, submitJob_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, submitJobs_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.req = new edu.berkeley.sparrow.thrift.TSchedulingRequest();
-          struct.req.read(iprot);
-          struct.setReqIsSet(true);
+          {
+            org.apache.thrift.protocol.TList _list13 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.reqs = new ArrayList<edu.berkeley.sparrow.thrift.TSchedulingRequest>(_list13.size);
+            for (int _i14 = 0; _i14 < _list13.size; ++_i14)
+            {
+              edu.berkeley.sparrow.thrift.TSchedulingRequest _elem15; // required
+              _elem15 = new edu.berkeley.sparrow.thrift.TSchedulingRequest();
+              _elem15.read(iprot);
+              struct.reqs.add(_elem15);
+            }
+          }
+          struct.setReqsIsSet(true);
         }
       }
     }
 
   }
 
-  public static class submitJob_result implements org.apache.thrift.TBase<submitJob_result, submitJob_result._Fields>, java.io.Serializable, Cloneable   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("submitJob_result");
+  public static class submitJobs_result implements org.apache.thrift.TBase<submitJobs_result, submitJobs_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("submitJobs_result");
 
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField OVERLOADED_FIELD_DESC = new org.apache.thrift.protocol.TField("overloaded", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new submitJob_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new submitJob_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new submitJobs_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new submitJobs_resultTupleSchemeFactory());
     }
 
     public edu.berkeley.sparrow.thrift.IncompleteRequestException e; // required
+    public edu.berkeley.sparrow.thrift.SchedulerOverloadedException overloaded; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      E((short)1, "e");
+      E((short)1, "e"),
+      OVERLOADED((short)2, "overloaded");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -1526,6 +3868,8 @@ public class SchedulerService {
         switch(fieldId) {
           case 1: // E
             return E;
+          case 2: // OVERLOADED
+            return OVERLOADED;
           default:
             return null;
         }
@@ -1571,42 +3915,50 @@ public class SchedulerService {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      tmpMap.put(_Fields.OVERLOADED, new org.apache.thrift.meta_data.FieldMetaData("overloaded", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(submitJob_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(submitJobs_result.class, metaDataMap);
     }
 
-    public submitJob_result() {
+    public submitJobs_result() {
     }
 
-    public submitJob_result(
-      edu.berkeley.sparrow.thrift.IncompleteRequestException e)
+    public submitJobs_result(
+      edu.berkeley.sparrow.thrift.IncompleteRequestException e,
+      edu.berkeley.sparrow.thrift.SchedulerOverloadedException overloaded)
     {
       this();
       this.e = e;
+      this.overloaded = overloaded;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public submitJob_result(submitJob_result other) {
+    public submitJobs_result(submitJobs_result other) {
       if (other.isSetE()) {
         this.e = new edu.berkeley.sparrow.thrift.IncompleteRequestException(other.e);
       }
+      if (other.isSetOverloaded()) {
+        this.overloaded = new edu.berkeley.sparrow.thrift.SchedulerOverloadedException(other.overloaded);
+      }
     }
 
-    public submitJob_result deepCopy() {
-      return new submitJob_result(this);
+    public submitJobs_result deepCopy() {
+      return new submitJobs_result(this);
     }
 
     public void clear() {
       this.e = null;
+      this.overloaded = null;
     }
 
     public edu.berkeley.sparrow.thrift.IncompleteRequestException getE() {
       return this.e;
     }
 
-    public submitJob_result setE(edu.berkeley.sparrow.thrift.IncompleteRequestException e) {
+    public submitJobs_result setE(edu.berkeley.sparrow.thrift.IncompleteRequestException e) {
       this.e = e;
       return this;
     }
@@ -1626,6 +3978,30 @@ public class SchedulerService {
       }
     }
 
+    public edu.berkeley.sparrow.thrift.SchedulerOverloadedException getOverloaded() {
+      return this.overloaded;
+    }
+
+    public submitJobs_result setOverloaded(edu.berkeley.sparrow.thrift.SchedulerOverloadedException overloaded) {
+      this.overloaded = overloaded;
+      return this;
+    }
+
+    public void unsetOverloaded() {
+      this.overloaded = null;
+    }
+
+    /** Returns true if field overloaded is set (has been assigned a value) and false otherwise */
+    public boolean isSetOverloaded() {
+      return this.overloaded != null;
+    }
+
+    public void setOverloadedIsSet(boolean value) {
+      if (!value) {
+        this.overloaded = null;
+      }
+    }
+
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
       case E:
@@ -1636,6 +4012,14 @@ public class SchedulerService {
         }
         break;
 
+      case OVERLOADED:
+        if (value == null) {
+          unsetOverloaded();
+        } else {
+          setOverloaded((edu.berkeley.sparrow.thrift.SchedulerOverloadedException)value);
+        }
+        break;
+
       }
     }
 
@@ -1644,6 +4028,9 @@ public class SchedulerService {
       case E:
         return getE();
 
+      case OVERLOADED:
+        return getOverloaded();
+
       }
       throw new IllegalStateException();
     }
@@ -1657,6 +4044,8 @@ public class SchedulerService {
       switch (field) {
       case E:
         return isSetE();
+      case OVERLOADED:
+        return isSetOverloaded();
       }
       throw new IllegalStateException();
     }
@@ -1665,12 +4054,12 @@ public class SchedulerService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof submitJob_result)
-        return this.equals((submitJob_result)that);
+      if (that instanceof submitJobs_result)
+        return this.equals((submitJobs_result)that);
       return false;
     }
 
-    public boolean equals(submitJob_result that) {
+    public boolean equals(submitJobs_result that) {
       if (that == null)
         return false;
 
@@ -1683,6 +4072,15 @@ public class SchedulerService {
           return false;
       }
 
+      boolean this_present_overloaded = true && this.isSetOverloaded();
+      boolean that_present_overloaded = true && that.isSetOverloaded();
+      if (this_present_overloaded || that_present_overloaded) {
+        if (!(this_present_overloaded && that_present_overloaded))
+          return false;
+        if (!this.overloaded.equals(that.overloaded))
+          return false;
+      }
+
       return true;
     }
 
@@ -1691,13 +4089,13 @@ public class SchedulerService {
       return 0;
     }
 
-    public int compareTo(submitJob_result other) {
+    public int compareTo(submitJobs_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      submitJob_result typedOther = (submitJob_result)other;
+      submitJobs_result typedOther = (submitJobs_result)other;
 
       lastComparison = Boolean.valueOf(isSetE()).compareTo(typedOther.isSetE());
       if (lastComparison != 0) {
@@ -1709,6 +4107,16 @@ public class SchedulerService {
           return lastComparison;
         }
       }
+      lastComparison = Boolean.valueOf(isSetOverloaded()).compareTo(typedOther.isSetOverloaded());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetOverloaded()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.overloaded, typedOther.overloaded);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -1726,7 +4134,7 @@ public class SchedulerService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("submitJob_result(");
+      StringBuilder sb = new StringBuilder("submitJobs_result(");
       boolean first = true;
 
       sb.append("e:");
@@ -1736,6 +4144,14 @@ public class SchedulerService {
         sb.append(this.e);
       }
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("overloaded:");
+      if (this.overloaded == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.overloaded);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -1760,15 +4176,15 @@ public class SchedulerService {
       }
     }
 
-    private static class submitJob_resultStandardSchemeFactory implements SchemeFactory {
-      public submitJob_resultStandardScheme getScheme() {
-        return new submitJob_resultStandardScheme();
+    private static class submitJobs_resultStandardSchemeFactory implements SchemeFactory {
+      public submitJobs_resultStandardScheme getScheme() {
+        return new submitJobs_resultStandardScheme();
       }
     }
 
-    private static class submitJob_resultStandardScheme extends StandardScheme<submitJob_result> {
+    private static class submitJobs_resultStandardScheme extends StandardScheme<submitJobs_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, submitJob_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, submitJobs_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -1787,6 +4203,15 @@ public class SchedulerService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
+            case 2: // OVERLOADED
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.overloaded = new edu.berkeley.sparrow.thrift.SchedulerOverloadedException();
+                struct.overloaded.read(iprot);
+                struct.setOverloadedIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -1798,7 +4223,7 @@ public class SchedulerService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, submitJob_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, submitJobs_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -1807,42 +4232,58 @@ public class SchedulerService {
           struct.e.write(oprot);
           oprot.writeFieldEnd();
         }
+        if (struct.overloaded != null) {
+          oprot.writeFieldBegin(OVERLOADED_FIELD_DESC);
+          struct.overloaded.write(oprot);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class submitJob_resultTupleSchemeFactory implements SchemeFactory {
-      public submitJob_resultTupleScheme getScheme() {
-        return new submitJob_resultTupleScheme();
+    private static class submitJobs_resultTupleSchemeFactory implements SchemeFactory {
+      public submitJobs_resultTupleScheme getScheme() {
+        return new submitJobs_resultTupleScheme();
       }
     }
 
-    private static class submitJob_resultTupleScheme extends TupleScheme<submitJob_result> {
+    private static class submitJobs_resultTupleScheme extends TupleScheme<submitJobs_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, submitJob_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, submitJobs_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetE()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetOverloaded()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
         if (struct.isSetE()) {
           struct.e.write(oprot);
         }
+        if (struct.isSetOverloaded()) {
+          struct.overloaded.write(oprot);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, submitJob_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, submitJobs_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
           struct.e = new edu.berkeley.sparrow.thrift.IncompleteRequestException();
           struct.e.read(iprot);
           struct.setEIsSet(true);
         }
+        if (incoming.get(1)) {
+          struct.overloaded = new edu.berkeley.sparrow.thrift.SchedulerOverloadedException();
+          struct.overloaded.read(iprot);
+          struct.setOverloadedIsSet(true);
+        }
       }
     }
 
@@ -31,13 +31,13 @@ public class SchedulerStateStoreService {
 
   public interface Iface {
 
-    public void updateNodeState(Map<String,edu.berkeley.sparrow.thrift.TNodeState> snapshot) throws org.apache.thrift.TException;
+    public void updateNodeState(Map<String,edu.berkeley.sparrow.thrift.TNodeState> snapshot, String shard) throws org.apache.thrift.TException;
 
   }
 
   public interface AsyncIface {
 
-    public void updateNodeState(Map<String,edu.berkeley.sparrow.thrift.TNodeState> snapshot, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.updateNodeState_call> resultHandler) throws org.apache.thrift.TException;
+    public void updateNodeState(Map<String,edu.berkeley.sparrow.thrift.TNodeState> snapshot, String shard, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.updateNodeState_call> resultHandler) throws org.apache.thrift.TException;
 
   }
 
@@ -61,16 +61,17 @@ public class SchedulerStateStoreService {
       super(iprot, oprot);
     }
 
-    public void updateNodeState(Map<String,edu.berkeley.sparrow.thrift.TNodeState> snapshot) throws org.apache.thrift.TException
+    public void updateNodeState(Map<String,edu.berkeley.sparrow.thrift.TNodeState> snapshot, String shard) throws org.apache.thrift.TException
     {
-      send_updateNodeState(snapshot);
+      send_updateNodeState(snapshot, shard);
       recv_updateNodeState();
     }
 
-    public void send_updateNodeState(Map<String,edu.berkeley.sparrow.thrift.TNodeState> snapshot) throws org.apache.thrift.TException
+    public void send_updateNodeState(Map<String,edu.berkeley.sparrow.thrift.TNodeState> snapshot, String shard) throws org.apache.thrift.TException
     {
       updateNodeState_args args = new updateNodeState_args();
       args.setSnapshot(snapshot);
+      args.setShard(shard);
       sendBase("updateNodeState", args);
     }
 
@@ -99,24 +100,27 @@ public class SchedulerStateStoreService {
       super(protocolFactory, clientManager, transport);
     }
 
-    public void updateNodeState(Map<String,edu.berkeley.sparrow.thrift.TNodeState> snapshot, org.apache.thrift.async.AsyncMethodCallback<updateNodeState_call> resultHandler) throws org.apache.thrift.TException {
+    public void updateNodeState(Map<String,edu.berkeley.sparrow.thrift.TNodeState> snapshot, String shard, org.apache.thrift.async.AsyncMethodCallback<updateNodeState_call> resultHandler) throws org.apache.thrift.TException {
       checkReady();
-      updateNodeState_call method_call = new updateNodeState_call(snapshot, resultHandler, this, ___protocolFactory, ___transport);
+      updateNodeState_call method_call = new updateNodeState_call(snapshot, shard, resultHandler, this, ___protocolFactory, ___transport);
       this.___currentMethod = method_call;
       ___manager.call(method_call);
     }
 
     public static class updateNodeState_call extends org.apache.thrift.async.TAsyncMethodCall {
       private Map<String,edu.berkeley.sparrow.thrift.TNodeState> snapshot;
-      public updateNodeState_call(Map<String,edu.berkeley.sparrow.thrift.TNodeState> snapshot, org.apache.thrift.async.AsyncMethodCallback<updateNodeState_call> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+      private String shard;
+      public updateNodeState_call(Map<String,edu.berkeley.sparrow.thrift.TNodeState> snapshot, String shard, org.apache.thrift.async.AsyncMethodCallback<updateNodeState_call> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
         super(client, protocolFactory, transport, resultHandler, false);
         this.snapshot = snapshot;
+        this.shard = shard;
       }
 
       public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
         prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("updateNodeState", org.apache.thrift.protocol.TMessageType.CALL, 0));
         updateNodeState_args args = new updateNodeState_args();
         args.setSnapshot(snapshot);
+        args.setShard(shard);
         args.write(prot);
         prot.writeMessageEnd();
       }
@@ -159,7 +163,7 @@ public class SchedulerStateStoreService {
 
       protected updateNodeState_result getResult(I iface, updateNodeState_args args) throws org.apache.thrift.TException {
         updateNodeState_result result = new updateNodeState_result();
-        iface.updateNodeState(args.snapshot);
+        iface.updateNodeState(args.snapshot, args.shard);
         return result;
       }
     }
@@ -170,6 +174,7 @@ public class SchedulerStateStoreService {
     private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateNodeState_args");
 
     private static final org.apache.thrift.protocol.TField SNAPSHOT_FIELD_DESC = new org.apache.thrift.protocol.TField("snapshot", org.apache.thrift.protocol.TType.MAP, (short)1);
+    private static final org.apache.thrift.protocol.TField SHARD_FIELD_DESC = new org.apache.thrift.protocol.TField("shard", org.apache.thrift.protocol.TType.STRING, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
@@ -178,10 +183,12 @@ public class SchedulerStateStoreService {
     }
 
     public Map<String,edu.berkeley.sparrow.thrift.TNodeState> snapshot; // required
+    public String shard; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SNAPSHOT((short)1, "snapshot");
+      SNAPSHOT((short)1, "snapshot"),
+      SHARD((short)2, "shard");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -198,6 +205,8 @@ public class SchedulerStateStoreService {
         switch(fieldId) {
           case 1: // SNAPSHOT
             return SNAPSHOT;
+          case 2: // SHARD
+            return SHARD;
           default:
             return null;
         }
@@ -245,6 +254,8 @@ public class SchedulerStateStoreService {
           new org.apache.thrift.meta_data.MapMetaData(org.apache.thrift.protocol.TType.MAP, 
               new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING), 
               new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, edu.berkeley.sparrow.thrift.TNodeState.class))));
+      tmpMap.put(_Fields.SHARD, new org.apache.thrift.meta_data.FieldMetaData("shard", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
       org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateNodeState_args.class, metaDataMap);
     }
@@ -253,10 +264,12 @@ public class SchedulerStateStoreService {
     }
 
     public updateNodeState_args(
-      Map<String,edu.berkeley.sparrow.thrift.TNodeState> snapshot)
+      Map<String,edu.berkeley.sparrow.thrift.TNodeState> snapshot,
+      String shard)
     {
       this();
       this.snapshot = snapshot;
+      this.shard = shard;
     }
 
     /**
@@ -278,6 +291,9 @@ public class SchedulerStateStoreService {
         }
         this.snapshot = __this__snapshot;
       }
+      if (other.isSetShard()) {
+        this.shard = other.shard;
+      }
     }
 
     public updateNodeState_args deepCopy() {
@@ -286,6 +302,7 @@ public class SchedulerStateStoreService {
 
     public void clear() {
       this.snapshot = null;
+      this.shard = null;
     }
 
     public int getSnapshotSize() {
@@ -323,6 +340,30 @@ public class SchedulerStateStoreService {
       }
     }
 
+    public String getShard() {
+      return this.shard;
+    }
+
+    public updateNodeState_args setShard(String shard) {
+      this.shard = shard;
+      return this;
+    }
+
+    public void unsetShard() {
+      this.shard = null;
+    }
+
+    /** Returns true if field shard is set (has been assigned a value) and false otherwise */
+    public boolean isSetShard() {
+      return this.shard != null;
+    }
+
+    public void setShardIsSet(boolean value) {
+      if (!value) {
+        this.shard = null;
+      }
+    }
+
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
       case SNAPSHOT:
@@ -333,6 +374,14 @@ public class SchedulerStateStoreService {
         }
         break;
 
+      case SHARD:
+        if (value == null) {
+          unsetShard();
+        } else {
+          setShard((String)value);
+        }
+        break;
+
       }
     }
 
@@ -341,6 +390,9 @@ public class SchedulerStateStoreService {
       case SNAPSHOT:
         return getSnapshot();
 
+      case SHARD:
+        return getShard();
+
       }
       throw new IllegalStateException();
     }
@@ -354,6 +406,8 @@ public class SchedulerStateStoreService {
       switch (field) {
       case SNAPSHOT:
         return isSetSnapshot();
+      case SHARD:
+        return isSetShard();
       }
       throw new IllegalStateException();
     }
@@ -380,6 +434,15 @@ public class SchedulerStateStoreService {
           return false;
       }
 
+      boolean this_present_shard = true && this.isSetShard();
+      boolean that_present_shard = true && that.isSetShard();
+      if (this_present_shard || that_present_shard) {
+        if (!(this_present_shard && that_present_shard))
+          return false;
+        if (!this.shard.equals(that.shard))
+          return false;
+      }
+
       return true;
     }
 
@@ -406,6 +469,16 @@ public class SchedulerStateStoreService {
           return lastComparison;
         }
       }
+      lastComparison = Boolean.valueOf(isSetShard()).compareTo(typedOther.isSetShard());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetShard()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.shard, typedOther.shard);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -433,6 +506,14 @@ public class SchedulerStateStoreService {
         sb.append(this.snapshot);
       }
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("shard:");
+      if (this.shard == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.shard);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -478,16 +559,16 @@ public class SchedulerStateStoreService {
             case 1: // SNAPSHOT
               if (schemeField.type == org.apache.thrift.protocol.TType.MAP) {
                 {
-                  org.apache.thrift.protocol.TMap _map26 = iprot.readMapBegin();
-                  struct.snapshot = new HashMap<String,edu.berkeley.sparrow.thrift.TNodeState>(2*_map26.size);
-                  for (int _i27 = 0; _i27 < _map26.size; ++_i27)
+                  org.apache.thrift.protocol.TMap _map92 = iprot.readMapBegin();
+                  struct.snapshot = new HashMap<String,edu.berkeley.sparrow.thrift.TNodeState>(2*_map92.size);
+                  for (int _i93 = 0; _i93 < _map92.size; ++_i93)
                   {
-                    String _key28; // required
-                    edu.berkeley.sparrow.thrift.TNodeState _val29; // required
-                    _key28 = iprot.readString();
-                    _val29 = new edu.berkeley.sparrow.thrift.TNodeState();
-                    _val29.read(iprot);
-                    struct.snapshot.put(_key28, _val29);
+                    String _key94; // required
+                    edu.berkeley.sparrow.thrift.TNodeState _val95; // required
+                    _key94 = iprot.readString();
+                    _val95 = new edu.berkeley.sparrow.thrift.TNodeState();
+                    _val95.read(iprot);
+                    struct.snapshot.put(_key94, _val95);
                   }
                   iprot.readMapEnd();
                 }
@@ -496,6 +577,14 @@ public class SchedulerStateStoreService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
+            case 2: // SHARD
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.shard = iprot.readString();
+                struct.setShardIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -515,15 +604,20 @@ public class SchedulerStateStoreService {
           oprot.writeFieldBegin(SNAPSHOT_FIELD_DESC);
           {
             oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRUCT, struct.snapshot.size()));
-            for (Map.Entry<String, edu.berkeley.sparrow.thrift.TNodeState> _iter30 : struct.snapshot.entrySet())
+            for (Map.Entry<String, edu.berkeley.sparrow.thrift.TNodeState> _iter96 : struct.snapshot.entrySet())
             {
-              oprot.writeString(_iter30.getKey());
-              _iter30.getValue().write(oprot);
+              oprot.writeString(_iter96.getKey());
+              _iter96.getValue().write(oprot);
             }
             oprot.writeMapEnd();
           }
           oprot.writeFieldEnd();
         }
+        if (struct.shard != null) {
+          oprot.writeFieldBegin(SHARD_FIELD_DESC);
+          oprot.writeString(struct.shard);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
@@ -545,39 +639,49 @@ public class SchedulerStateStoreService {
         if (struct.isSetSnapshot()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetShard()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
         if (struct.isSetSnapshot()) {
           {
             oprot.writeI32(struct.snapshot.size());
-            for (Map.Entry<String, edu.berkeley.sparrow.thrift.TNodeState> _iter31 : struct.snapshot.entrySet())
+            for (Map.Entry<String, edu.berkeley.sparrow.thrift.TNodeState> _iter97 : struct.snapshot.entrySet())
             {
-              oprot.writeString(_iter31.getKey());
-              _iter31.getValue().write(oprot);
+              oprot.writeString(_iter97.getKey());
+              _iter97.getValue().write(oprot);
             }
           }
         }
+        if (struct.isSetShard()) {
+          oprot.writeString(struct.shard);
+        }
       }
 
       @Override
       public void read(org.apache.thrift.protocol.TProtocol prot, updateNodeState_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
           {
-            org.apache.thrift.protocol.TMap _map32 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-            struct.snapshot = new HashMap<String,edu.berkeley.sparrow.thrift.TNodeState>(2*_map32.size);
-            for (int _i33 = 0; _i33 < _map32.size; ++_i33)
+            org.apache.thrift.protocol.TMap _map98 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.snapshot = new HashMap<String,edu.berkeley.sparrow.thrift.TNodeState>(2*_map98.size);
+            for (int _i99 = 0; _i99 < _map98.size; ++_i99)
             {
-              String _key34; // required
-              edu.berkeley.sparrow.thrift.TNodeState _val35; // required
-              _key34 = iprot.readString();
-              _val35 = new edu.berkeley.sparrow.thrift.TNodeState();
-              _val35.read(iprot);
-              struct.snapshot.put(_key34, _val35);
+              String _key100; // required
+              edu.berkeley.sparrow.thrift.TNodeState _val101; // required
+              _key100 = iprot.readString();
+              _val101 = new edu.berkeley.sparrow.thrift.TNodeState();
+              _val101.read(iprot);
+              struct.snapshot.put(_key100, _val101);
             }
           }
           struct.setSnapshotIsSet(true);
         }
+        if (incoming.get(1)) {
+          struct.shard = iprot.readString();
+          struct.setShardIsSet(true);
+        }
       }
     }
 
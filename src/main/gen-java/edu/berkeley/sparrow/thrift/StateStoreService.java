@@ -35,6 +35,14 @@ public class StateStoreService {
 
     public void registerNodeMonitor(String nodeMonitorAddress) throws org.apache.thrift.TException;
 
+    public List<String> shardHeartbeat(String shardAddress) throws org.apache.thrift.TException;
+
+    public edu.berkeley.sparrow.thrift.TStateStoreMembership getMembership() throws org.apache.thrift.TException;
+
+    public boolean reportLoad(String nodeMonitorAddress, Map<String,edu.berkeley.sparrow.thrift.TResourceUsage> load) throws org.apache.thrift.TException;
+
+    public edu.berkeley.sparrow.thrift.TQuotaReconciliation reconcileQuotas(String schedulerAddress, Map<String,Long> demand) throws org.apache.thrift.TException;
+
   }
 
   public interface AsyncIface {
@@ -43,6 +51,14 @@ public class StateStoreService {
 
     public void registerNodeMonitor(String nodeMonitorAddress, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.registerNodeMonitor_call> resultHandler) throws org.apache.thrift.TException;
 
+    public void shardHeartbeat(String shardAddress, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.shardHeartbeat_call> resultHandler) throws org.apache.thrift.TException;
+
+    public void getMembership(org.apache.thrift.async.AsyncMethodCallback<AsyncClient.getMembership_call> resultHandler) throws org.apache.thrift.TException;
+
+    public void reportLoad(String nodeMonitorAddress, Map<String,edu.berkeley.sparrow.thrift.TResourceUsage> load, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.reportLoad_call> resultHandler) throws org.apache.thrift.TException;
+
+    public void reconcileQuotas(String schedulerAddress, Map<String,Long> demand, org.apache.thrift.async.AsyncMethodCallback<AsyncClient.reconcileQuotas_call> resultHandler) throws org.apache.thrift.TException;
+
   }
 
   public static class Client extends org.apache.thrift.TServiceClient implements Iface {
@@ -105,6 +121,99 @@ public class StateStoreService {
       return;
     }
 
+    public List<String> shardHeartbeat(String shardAddress) throws org.apache.thrift.TException
+    {
+      send_shardHeartbeat(shardAddress);
+      return recv_shardHeartbeat();
+    }
+
+    public void send_shardHeartbeat(String shardAddress) throws org.apache.thrift.TException
+    {
+      shardHeartbeat_args args = new shardHeartbeat_args();
+      args.setShardAddress(shardAddress);
+      sendBase("shardHeartbeat", args);
+    }
+
+    public List<String> recv_shardHeartbeat() throws org.apache.thrift.TException
+    {
+      shardHeartbeat_result result = new shardHeartbeat_result();
+      receiveBase(result, "shardHeartbeat");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "shardHeartbeat failed: unknown result");
+    }
+
+    public edu.berkeley.sparrow.thrift.TStateStoreMembership getMembership() throws org.apache.thrift.TException
+    {
+      send_getMembership();
+      return recv_getMembership();
+    }
+
+    public void send_getMembership() throws org.apache.thrift.TException
+    {
+      getMembership_args args = new getMembership_args();
+      sendBase("getMembership", args);
+    }
+
+    public edu.berkeley.sparrow.thrift.TStateStoreMembership recv_getMembership() throws org.apache.thrift.TException
+    {
+      getMembership_result result = new getMembership_result();
+      receiveBase(result, "getMembership");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getMembership failed: unknown result");
+    }
+
+    public boolean reportLoad(String nodeMonitorAddress, Map<String,edu.berkeley.sparrow.thrift.TResourceUsage> load) throws org.apache.thrift.TException
+    {
+      send_reportLoad(nodeMonitorAddress, load);
+      return recv_reportLoad();
+    }
+
+    public void send_reportLoad(String nodeMonitorAddress, Map<String,edu.berkeley.sparrow.thrift.TResourceUsage> load) throws org.apache.thrift.TException
+    {
+      reportLoad_args args = new reportLoad_args();
+      args.setNodeMonitorAddress(nodeMonitorAddress);
+      args.setLoad(load);
+      sendBase("reportLoad", args);
+    }
+
+    public boolean recv_reportLoad() throws org.apache.thrift.TException
+    {
+      reportLoad_result result = new reportLoad_result();
+      receiveBase(result, "reportLoad");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "reportLoad failed: unknown result");
+    }
+
+    public edu.berkeley.sparrow.thrift.TQuotaReconciliation reconcileQuotas(String schedulerAddress, Map<String,Long> demand) throws org.apache.thrift.TException
+    {
+      send_reconcileQuotas(schedulerAddress, demand);
+      return recv_reconcileQuotas();
+    }
+
+    public void send_reconcileQuotas(String schedulerAddress, Map<String,Long> demand) throws org.apache.thrift.TException
+    {
+      reconcileQuotas_args args = new reconcileQuotas_args();
+      args.setSchedulerAddress(schedulerAddress);
+      args.setDemand(demand);
+      sendBase("reconcileQuotas", args);
+    }
+
+    public edu.berkeley.sparrow.thrift.TQuotaReconciliation recv_reconcileQuotas() throws org.apache.thrift.TException
+    {
+      reconcileQuotas_result result = new reconcileQuotas_result();
+      receiveBase(result, "reconcileQuotas");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "reconcileQuotas failed: unknown result");
+    }
+
   }
   public static class AsyncClient extends org.apache.thrift.async.TAsyncClient implements AsyncIface {
     public static class Factory implements org.apache.thrift.async.TAsyncClientFactory<AsyncClient> {
@@ -187,6 +296,137 @@ public class StateStoreService {
       }
     }
 
+    public void shardHeartbeat(String shardAddress, org.apache.thrift.async.AsyncMethodCallback<shardHeartbeat_call> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      shardHeartbeat_call method_call = new shardHeartbeat_call(shardAddress, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class shardHeartbeat_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String shardAddress;
+      public shardHeartbeat_call(String shardAddress, org.apache.thrift.async.AsyncMethodCallback<shardHeartbeat_call> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.shardAddress = shardAddress;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("shardHeartbeat", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        shardHeartbeat_args args = new shardHeartbeat_args();
+        args.setShardAddress(shardAddress);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public List<String> getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_shardHeartbeat();
+      }
+    }
+
+    public void getMembership(org.apache.thrift.async.AsyncMethodCallback<getMembership_call> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      getMembership_call method_call = new getMembership_call(resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class getMembership_call extends org.apache.thrift.async.TAsyncMethodCall {
+      public getMembership_call(org.apache.thrift.async.AsyncMethodCallback<getMembership_call> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getMembership", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getMembership_args args = new getMembership_args();
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public edu.berkeley.sparrow.thrift.TStateStoreMembership getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_getMembership();
+      }
+    }
+
+    public void reportLoad(String nodeMonitorAddress, Map<String,edu.berkeley.sparrow.thrift.TResourceUsage> load, org.apache.thrift.async.AsyncMethodCallback<reportLoad_call> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      reportLoad_call method_call = new reportLoad_call(nodeMonitorAddress, load, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class reportLoad_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String nodeMonitorAddress;
+      private Map<String,edu.berkeley.sparrow.thrift.TResourceUsage> load;
+      public reportLoad_call(String nodeMonitorAddress, Map<String,edu.berkeley.sparrow.thrift.TResourceUsage> load, org.apache.thrift.async.AsyncMethodCallback<reportLoad_call> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.nodeMonitorAddress = nodeMonitorAddress;
+        this.load = load;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("reportLoad", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        reportLoad_args args = new reportLoad_args();
+        args.setNodeMonitorAddress(nodeMonitorAddress);
+        args.setLoad(load);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public boolean getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_reportLoad();
+      }
+    }
+
+    public void reconcileQuotas(String schedulerAddress, Map<String,Long> demand, org.apache.thrift.async.AsyncMethodCallback<reconcileQuotas_call> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      reconcileQuotas_call method_call = new reconcileQuotas_call(schedulerAddress, demand, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class reconcileQuotas_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String schedulerAddress;
+      private Map<String,Long> demand;
+      public reconcileQuotas_call(String schedulerAddress, Map<String,Long> demand, org.apache.thrift.async.AsyncMethodCallback<reconcileQuotas_call> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.schedulerAddress = schedulerAddress;
+        this.demand = demand;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("reconcileQuotas", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        reconcileQuotas_args args = new reconcileQuotas_args();
+        args.setSchedulerAddress(schedulerAddress);
+        args.setDemand(demand);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public edu.berkeley.sparrow.thrift.TQuotaReconciliation getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_reconcileQuotas();
+      }
+    }
+
   }
 
   public static class Processor<I extends Iface> extends org.apache.thrift.TBaseProcessor<I> implements org.apache.thrift.TProcessor {
@@ -202,6 +442,10 @@ public class StateStoreService {
     private static <I extends Iface> Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> getProcessMap(Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> processMap) {
       processMap.put("registerScheduler", new registerScheduler());
       processMap.put("registerNodeMonitor", new registerNodeMonitor());
+      processMap.put("shardHeartbeat", new shardHeartbeat());
+      processMap.put("getMembership", new getMembership());
+      processMap.put("reportLoad", new reportLoad());
+      processMap.put("reconcileQuotas", new reconcileQuotas());
       return processMap;
     }
 
@@ -237,6 +481,71 @@ public class StateStoreService {
       }
     }
 
+    private static class shardHeartbeat<I extends Iface> extends org.apache.thrift.ProcessFunction<I, shardHeartbeat_args> {
+      public shardHeartbeat() {
+        super("shardHeartbeat");
+      }
+
+      protected shardHeartbeat_args getEmptyArgsInstance() {
+        return new shardHeartbeat_args();
+      }
+
+      protected shardHeartbeat_result getResult(I iface, shardHeartbeat_args args) throws org.apache.thrift.TException {
+        shardHeartbeat_result result = new shardHeartbeat_result();
+        result.success = iface.shardHeartbeat(args.shardAddress);
+        return result;
+      }
+    }
+
+    private static class getMembership<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getMembership_args> {
+      public getMembership() {
+        super("getMembership");
+      }
+
+      protected getMembership_args getEmptyArgsInstance() {
+        return new getMembership_args();
+      }
+
+      protected getMembership_result getResult(I iface, getMembership_args args) throws org.apache.thrift.TException {
+        getMembership_result result = new getMembership_result();
+        result.success = iface.getMembership();
+        return result;
+      }
+    }
+
+    private static class reportLoad<I extends Iface> extends org.apache.thrift.ProcessFunction<I, reportLoad_args> {
+      public reportLoad() {
+        super("reportLoad");
+      }
+
+      protected reportLoad_args getEmptyArgsInstance() {
+        return new reportLoad_args();
+      }
+
+      protected reportLoad_result getResult(I iface, reportLoad_args args) throws org.apache.thrift.TException {
+        reportLoad_result result = new reportLoad_result();
+        result.success = iface.reportLoad(args.nodeMonitorAddress, args.load);
+        result.setSuccessIsSet(true);
+        return result;
+      }
+    }
+
+    private static class reconcileQuotas<I extends Iface> extends org.apache.thrift.ProcessFunction<I, reconcileQuotas_args> {
+      public reconcileQuotas() {
+        super("reconcileQuotas");
+      }
+
+      protected reconcileQuotas_args getEmptyArgsInstance() {
+        return new reconcileQuotas_args();
+      }
+
+      protected reconcileQuotas_result getResult(I iface, reconcileQuotas_args args) throws org.apache.thrift.TException {
+        reconcileQuotas_result result = new reconcileQuotas_result();
+        result.success = iface.reconcileQuotas(args.schedulerAddress, args.demand);
+        return result;
+      }
+    }
+
   }
 
   public static class registerScheduler_args implements org.apache.thrift.TBase<registerScheduler_args, registerScheduler_args._Fields>, java.io.Serializable, Cloneable   {
@@ -1431,4 +1740,3093 @@ public class StateStoreService {
 
   }
 
+  public static class shardHeartbeat_args implements org.apache.thrift.TBase<shardHeartbeat_args, shardHeartbeat_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("shardHeartbeat_args");
+
+    private static final org.apache.thrift.protocol.TField SHARD_ADDRESS_FIELD_DESC = new org.apache.thrift.protocol.TField("shardAddress", org.apache.thrift.protocol.TType.STRING, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new shardHeartbeat_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new shardHeartbeat_argsTupleSchemeFactory());
+    }
+
+    public String shardAddress; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SHARD_ADDRESS((short)1, "shardAddress");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // SHARD_ADDRESS
+            return SHARD_ADDRESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SHARD_ADDRESS, new org.apache.thrift.meta_data.FieldMetaData("shardAddress", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(shardHeartbeat_args.class, metaDataMap);
+    }
+
+    public shardHeartbeat_args() {
+    }
+
+    public shardHeartbeat_args(
+      String shardAddress)
+    {
+      this();
+      this.shardAddress = shardAddress;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public shardHeartbeat_args(shardHeartbeat_args other) {
+      if (other.isSetShardAddress()) {
+        this.shardAddress = other.shardAddress;
+      }
+    }
+
+    public shardHeartbeat_args deepCopy() {
+      return new shardHeartbeat_args(this);
+    }
+
+    public void clear() {
+      this.shardAddress = null;
+    }
+
+    public String getShardAddress() {
+      return this.shardAddress;
+    }
+
+    public shardHeartbeat_args setShardAddress(String shardAddress) {
+      this.shardAddress = shardAddress;
+      return this;
+    }
+
+    public void unsetShardAddress() {
+      this.shardAddress = null;
+    }
+
+    /** Returns true if field shardAddress is set (has been assigned a value) and false otherwise */
+    public boolean isSetShardAddress() {
+      return this.shardAddress != null;
+    }
+
+    public void setShardAddressIsSet(boolean value) {
+      if (!value) {
+        this.shardAddress = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SHARD_ADDRESS:
+        if (value == null) {
+          unsetShardAddress();
+        } else {
+          setShardAddress((String)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SHARD_ADDRESS:
+        return getShardAddress();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SHARD_ADDRESS:
+        return isSetShardAddress();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof shardHeartbeat_args)
+        return this.equals((shardHeartbeat_args)that);
+      return false;
+    }
+
+    public boolean equals(shardHeartbeat_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_shardAddress = true && this.isSetShardAddress();
+      boolean that_present_shardAddress = true && that.isSetShardAddress();
+      if (this_present_shardAddress || that_present_shardAddress) {
+        if (!(this_present_shardAddress && that_present_shardAddress))
+          return false;
+        if (!this.shardAddress.equals(that.shardAddress))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(shardHeartbeat_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      shardHeartbeat_args typedOther = (shardHeartbeat_args)other;
+
+      lastComparison = Boolean.valueOf(isSetShardAddress()).compareTo(typedOther.isSetShardAddress());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetShardAddress()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.shardAddress, typedOther.shardAddress);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("shardHeartbeat_args(");
+      boolean first = true;
+
+      sb.append("shardAddress:");
+      if (this.shardAddress == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.shardAddress);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private static class shardHeartbeat_argsStandardSchemeFactory implements SchemeFactory {
+      public shardHeartbeat_argsStandardScheme getScheme() {
+        return new shardHeartbeat_argsStandardScheme();
+      }
+    }
+
+    private static class shardHeartbeat_argsStandardScheme extends StandardScheme<shardHeartbeat_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, shardHeartbeat_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // SHARD_ADDRESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.shardAddress = iprot.readString();
+                struct.setShardAddressIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, shardHeartbeat_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.shardAddress != null) {
+          oprot.writeFieldBegin(SHARD_ADDRESS_FIELD_DESC);
+          oprot.writeString(struct.shardAddress);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class shardHeartbeat_argsTupleSchemeFactory implements SchemeFactory {
+      public shardHeartbeat_argsTupleScheme getScheme() {
+        return new shardHeartbeat_argsTupleScheme();
+      }
+    }
+
+    private static class shardHeartbeat_argsTupleScheme extends TupleScheme<shardHeartbeat_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, shardHeartbeat_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetShardAddress()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetShardAddress()) {
+          oprot.writeString(struct.shardAddress);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, shardHeartbeat_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.shardAddress = iprot.readString();
+          struct.setShardAddressIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class shardHeartbeat_result implements org.apache.thrift.TBase<shardHeartbeat_result, shardHeartbeat_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("shardHeartbeat_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new shardHeartbeat_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new shardHeartbeat_resultTupleSchemeFactory());
+    }
+
+    public List<String> success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(shardHeartbeat_result.class, metaDataMap);
+    }
+
+    public shardHeartbeat_result() {
+    }
+
+    public shardHeartbeat_result(
+      List<String> success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public shardHeartbeat_result(shardHeartbeat_result other) {
+      if (other.isSetSuccess()) {
+        List<String> __this__success = new ArrayList<String>();
+        for (String other_element : other.success) {
+          __this__success.add(other_element);
+        }
+        this.success = __this__success;
+      }
+    }
+
+    public shardHeartbeat_result deepCopy() {
+      return new shardHeartbeat_result(this);
+    }
+
+    public void clear() {
+      this.success = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<String> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(String elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<String>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<String> getSuccess() {
+      return this.success;
+    }
+
+    public shardHeartbeat_result setSuccess(List<String> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((List<String>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof shardHeartbeat_result)
+        return this.equals((shardHeartbeat_result)that);
+      return false;
+    }
+
+    public boolean equals(shardHeartbeat_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(shardHeartbeat_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      shardHeartbeat_result typedOther = (shardHeartbeat_result)other;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(typedOther.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, typedOther.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("shardHeartbeat_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private static class shardHeartbeat_resultStandardSchemeFactory implements SchemeFactory {
+      public shardHeartbeat_resultStandardScheme getScheme() {
+        return new shardHeartbeat_resultStandardScheme();
+      }
+    }
+
+    private static class shardHeartbeat_resultStandardScheme extends StandardScheme<shardHeartbeat_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, shardHeartbeat_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list102 = iprot.readListBegin();
+                  struct.success = new ArrayList<String>(_list102.size);
+                  for (int _i103 = 0; _i103 < _list102.size; ++_i103)
+                  {
+                    String _elem104; // required
+                    _elem104 = iprot.readString();
+                    struct.success.add(_elem104);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, shardHeartbeat_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.success.size()));
+            for (String _iter105 : struct.success)
+            {
+              oprot.writeString(_iter105);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class shardHeartbeat_resultTupleSchemeFactory implements SchemeFactory {
+      public shardHeartbeat_resultTupleScheme getScheme() {
+        return new shardHeartbeat_resultTupleScheme();
+      }
+    }
+
+    private static class shardHeartbeat_resultTupleScheme extends TupleScheme<shardHeartbeat_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, shardHeartbeat_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (String _iter106 : struct.success)
+            {
+              oprot.writeString(_iter106);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, shardHeartbeat_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list107 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.success = new ArrayList<String>(_list107.size);
+            for (int _i108 = 0; _i108 < _list107.size; ++_i108)
+            {
+              String _elem109; // required
+              _elem109 = iprot.readString();
+              struct.success.add(_elem109);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class getMembership_args implements org.apache.thrift.TBase<getMembership_args, getMembership_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getMembership_args");
+
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getMembership_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getMembership_argsTupleSchemeFactory());
+    }
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getMembership_args.class, metaDataMap);
+    }
+
+    public getMembership_args() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getMembership_args(getMembership_args other) {
+    }
+
+    public getMembership_args deepCopy() {
+      return new getMembership_args(this);
+    }
+
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getMembership_args)
+        return this.equals((getMembership_args)that);
+      return false;
+    }
+
+    public boolean equals(getMembership_args that) {
+      if (that == null)
+        return false;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(getMembership_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      getMembership_args typedOther = (getMembership_args)other;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getMembership_args(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private static class getMembership_argsStandardSchemeFactory implements SchemeFactory {
+      public getMembership_argsStandardScheme getScheme() {
+        return new getMembership_argsStandardScheme();
+      }
+    }
+
+    private static class getMembership_argsStandardScheme extends StandardScheme<getMembership_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getMembership_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getMembership_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getMembership_argsTupleSchemeFactory implements SchemeFactory {
+      public getMembership_argsTupleScheme getScheme() {
+        return new getMembership_argsTupleScheme();
+      }
+    }
+
+    private static class getMembership_argsTupleScheme extends TupleScheme<getMembership_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getMembership_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getMembership_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+      }
+    }
+
+  }
+
+  public static class getMembership_result implements org.apache.thrift.TBase<getMembership_result, getMembership_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getMembership_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getMembership_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getMembership_resultTupleSchemeFactory());
+    }
+
+    public edu.berkeley.sparrow.thrift.TStateStoreMembership success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, edu.berkeley.sparrow.thrift.TStateStoreMembership.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getMembership_result.class, metaDataMap);
+    }
+
+    public getMembership_result() {
+    }
+
+    public getMembership_result(
+      edu.berkeley.sparrow.thrift.TStateStoreMembership success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getMembership_result(getMembership_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new edu.berkeley.sparrow.thrift.TStateStoreMembership(other.success);
+      }
+    }
+
+    public getMembership_result deepCopy() {
+      return new getMembership_result(this);
+    }
+
+    public void clear() {
+      this.success = null;
+    }
+
+    public edu.berkeley.sparrow.thrift.TStateStoreMembership getSuccess() {
+      return this.success;
+    }
+
+    public getMembership_result setSuccess(edu.berkeley.sparrow.thrift.TStateStoreMembership success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((edu.berkeley.sparrow.thrift.TStateStoreMembership)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getMembership_result)
+        return this.equals((getMembership_result)that);
+      return false;
+    }
+
+    public boolean equals(getMembership_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(getMembership_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      getMembership_result typedOther = (getMembership_result)other;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(typedOther.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, typedOther.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getMembership_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private static class getMembership_resultStandardSchemeFactory implements SchemeFactory {
+      public getMembership_resultStandardScheme getScheme() {
+        return new getMembership_resultStandardScheme();
+      }
+    }
+
+    private static class getMembership_resultStandardScheme extends StandardScheme<getMembership_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getMembership_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new edu.berkeley.sparrow.thrift.TStateStoreMembership();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getMembership_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getMembership_resultTupleSchemeFactory implements SchemeFactory {
+      public getMembership_resultTupleScheme getScheme() {
+        return new getMembership_resultTupleScheme();
+      }
+    }
+
+    private static class getMembership_resultTupleScheme extends TupleScheme<getMembership_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getMembership_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getMembership_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = new edu.berkeley.sparrow.thrift.TStateStoreMembership();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class reportLoad_args implements org.apache.thrift.TBase<reportLoad_args, reportLoad_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("reportLoad_args");
+
+    private static final org.apache.thrift.protocol.TField NODE_MONITOR_ADDRESS_FIELD_DESC = new org.apache.thrift.protocol.TField("nodeMonitorAddress", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField LOAD_FIELD_DESC = new org.apache.thrift.protocol.TField("load", org.apache.thrift.protocol.TType.MAP, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new reportLoad_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new reportLoad_argsTupleSchemeFactory());
+    }
+
+    public String nodeMonitorAddress; // required
+    public Map<String,edu.berkeley.sparrow.thrift.TResourceUsage> load; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      NODE_MONITOR_ADDRESS((short)1, "nodeMonitorAddress"),
+      LOAD((short)2, "load");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // NODE_MONITOR_ADDRESS
+            return NODE_MONITOR_ADDRESS;
+          case 2: // LOAD
+            return LOAD;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.NODE_MONITOR_ADDRESS, new org.apache.thrift.meta_data.FieldMetaData("nodeMonitorAddress", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.LOAD, new org.apache.thrift.meta_data.FieldMetaData("load", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.MapMetaData(org.apache.thrift.protocol.TType.MAP, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING), 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, edu.berkeley.sparrow.thrift.TResourceUsage.class))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(reportLoad_args.class, metaDataMap);
+    }
+
+    public reportLoad_args() {
+    }
+
+    public reportLoad_args(
+      String nodeMonitorAddress,
+      Map<String,edu.berkeley.sparrow.thrift.TResourceUsage> load)
+    {
+      this();
+      this.nodeMonitorAddress = nodeMonitorAddress;
+      this.load = load;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public reportLoad_args(reportLoad_args other) {
+      if (other.isSetNodeMonitorAddress()) {
+        this.nodeMonitorAddress = other.nodeMonitorAddress;
+      }
+      if (other.isSetLoad()) {
+        Map<String,edu.berkeley.sparrow.thrift.TResourceUsage> __this__load = new HashMap<String,edu.berkeley.sparrow.thrift.TResourceUsage>();
+        for (Map.Entry<String, edu.berkeley.sparrow.thrift.TResourceUsage> other_element : other.load.entrySet()) {
+
+          String other_element_key = other_element.getKey();
+          edu.berkeley.sparrow.thrift.TResourceUsage other_element_value = other_element.getValue();
+
+          String __this__load_copy_key = other_element_key;
+
+          edu.berkeley.sparrow.thrift.TResourceUsage __this__load_copy_value = new edu.berkeley.sparrow.thrift.TResourceUsage(other_element_value);
+
+          __this__load.put(__this__load_copy_key, __this__load_copy_value);
+        }
+        this.load = __this__load;
+      }
+    }
+
+    public reportLoad_args deepCopy() {
+      return new reportLoad_args(this);
+    }
+
+    public void clear() {
+      this.nodeMonitorAddress = null;
+      this.load = null;
+    }
+
+    public String getNodeMonitorAddress() {
+      return this.nodeMonitorAddress;
+    }
+
+    public reportLoad_args setNodeMonitorAddress(String nodeMonitorAddress) {
+      this.nodeMonitorAddress = nodeMonitorAddress;
+      return this;
+    }
+
+    public void unsetNodeMonitorAddress() {
+      this.nodeMonitorAddress = null;
+    }
+
+    /** Returns true if field nodeMonitorAddress is set (has been assigned a value) and false otherwise */
+    public boolean isSetNodeMonitorAddress() {
+      return this.nodeMonitorAddress != null;
+    }
+
+    public void setNodeMonitorAddressIsSet(boolean value) {
+      if (!value) {
+        this.nodeMonitorAddress = null;
+      }
+    }
+
+    public int getLoadSize() {
+      return (this.load == null) ? 0 : this.load.size();
+    }
+
+    public void putToLoad(String key, edu.berkeley.sparrow.thrift.TResourceUsage val) {
+      if (this.load == null) {
+        this.load = new HashMap<String,edu.berkeley.sparrow.thrift.TResourceUsage>();
+      }
+      this.load.put(key, val);
+    }
+
+    public Map<String,edu.berkeley.sparrow.thrift.TResourceUsage> getLoad() {
+      return this.load;
+    }
+
+    public reportLoad_args setLoad(Map<String,edu.berkeley.sparrow.thrift.TResourceUsage> load) {
+      this.load = load;
+      return this;
+    }
+
+    public void unsetLoad() {
+      this.load = null;
+    }
+
+    /** Returns true if field load is set (has been assigned a value) and false otherwise */
+    public boolean isSetLoad() {
+      return this.load != null;
+    }
+
+    public void setLoadIsSet(boolean value) {
+      if (!value) {
+        this.load = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case NODE_MONITOR_ADDRESS:
+        if (value == null) {
+          unsetNodeMonitorAddress();
+        } else {
+          setNodeMonitorAddress((String)value);
+        }
+        break;
+
+      case LOAD:
+        if (value == null) {
+          unsetLoad();
+        } else {
+          setLoad((Map<String,edu.berkeley.sparrow.thrift.TResourceUsage>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case NODE_MONITOR_ADDRESS:
+        return getNodeMonitorAddress();
+
+      case LOAD:
+        return getLoad();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case NODE_MONITOR_ADDRESS:
+        return isSetNodeMonitorAddress();
+      case LOAD:
+        return isSetLoad();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof reportLoad_args)
+        return this.equals((reportLoad_args)that);
+      return false;
+    }
+
+    public boolean equals(reportLoad_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_nodeMonitorAddress = true && this.isSetNodeMonitorAddress();
+      boolean that_present_nodeMonitorAddress = true && that.isSetNodeMonitorAddress();
+      if (this_present_nodeMonitorAddress || that_present_nodeMonitorAddress) {
+        if (!(this_present_nodeMonitorAddress && that_present_nodeMonitorAddress))
+          return false;
+        if (!this.nodeMonitorAddress.equals(that.nodeMonitorAddress))
+          return false;
+      }
+
+      boolean this_present_load = true && this.isSetLoad();
+      boolean that_present_load = true && that.isSetLoad();
+      if (this_present_load || that_present_load) {
+        if (!(this_present_load && that_present_load))
+          return false;
+        if (!this.load.equals(that.load))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(reportLoad_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      reportLoad_args typedOther = (reportLoad_args)other;
+
+      lastComparison = Boolean.valueOf(isSetNodeMonitorAddress()).compareTo(typedOther.isSetNodeMonitorAddress());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetNodeMonitorAddress()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.nodeMonitorAddress, typedOther.nodeMonitorAddress);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetLoad()).compareTo(typedOther.isSetLoad());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetLoad()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.load, typedOther.load);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("reportLoad_args(");
+      boolean first = true;
+
+      sb.append("nodeMonitorAddress:");
+      if (this.nodeMonitorAddress == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.nodeMonitorAddress);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("load:");
+      if (this.load == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.load);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private static class reportLoad_argsStandardSchemeFactory implements SchemeFactory {
+      public reportLoad_argsStandardScheme getScheme() {
+        return new reportLoad_argsStandardScheme();
+      }
+    }
+
+    private static class reportLoad_argsStandardScheme extends StandardScheme<reportLoad_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, reportLoad_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // NODE_MONITOR_ADDRESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.nodeMonitorAddress = iprot.readString();
+                struct.setNodeMonitorAddressIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // LOAD
+              if (schemeField.type == org.apache.thrift.protocol.TType.MAP) {
+                {
+                  org.apache.thrift.protocol.TMap _map110 = iprot.readMapBegin();
+                  struct.load = new HashMap<String,edu.berkeley.sparrow.thrift.TResourceUsage>(2*_map110.size);
+                  for (int _i111 = 0; _i111 < _map110.size; ++_i111)
+                  {
+                    String _key112; // required
+                    edu.berkeley.sparrow.thrift.TResourceUsage _val113; // required
+                    _key112 = iprot.readString();
+                    _val113 = new edu.berkeley.sparrow.thrift.TResourceUsage();
+                    _val113.read(iprot);
+                    struct.load.put(_key112, _val113);
+                  }
+                  iprot.readMapEnd();
+                }
+                struct.setLoadIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, reportLoad_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.nodeMonitorAddress != null) {
+          oprot.writeFieldBegin(NODE_MONITOR_ADDRESS_FIELD_DESC);
+          oprot.writeString(struct.nodeMonitorAddress);
+          oprot.writeFieldEnd();
+        }
+        if (struct.load != null) {
+          oprot.writeFieldBegin(LOAD_FIELD_DESC);
+          {
+            oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRUCT, struct.load.size()));
+            for (Map.Entry<String, edu.berkeley.sparrow.thrift.TResourceUsage> _iter114 : struct.load.entrySet())
+            {
+              oprot.writeString(_iter114.getKey());
+              _iter114.getValue().write(oprot);
+            }
+            oprot.writeMapEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class reportLoad_argsTupleSchemeFactory implements SchemeFactory {
+      public reportLoad_argsTupleScheme getScheme() {
+        return new reportLoad_argsTupleScheme();
+      }
+    }
+
+    private static class reportLoad_argsTupleScheme extends TupleScheme<reportLoad_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, reportLoad_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetNodeMonitorAddress()) {
+          optionals.set(0);
+        }
+        if (struct.isSetLoad()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetNodeMonitorAddress()) {
+          oprot.writeString(struct.nodeMonitorAddress);
+        }
+        if (struct.isSetLoad()) {
+          {
+            oprot.writeI32(struct.load.size());
+            for (Map.Entry<String, edu.berkeley.sparrow.thrift.TResourceUsage> _iter115 : struct.load.entrySet())
+            {
+              oprot.writeString(_iter115.getKey());
+              _iter115.getValue().write(oprot);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, reportLoad_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.nodeMonitorAddress = iprot.readString();
+          struct.setNodeMonitorAddressIsSet(true);
+        }
+        if (incoming.get(1)) {
+          {
+            org.apache.thrift.protocol.TMap _map116 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.load = new HashMap<String,edu.berkeley.sparrow.thrift.TResourceUsage>(2*_map116.size);
+            for (int _i117 = 0; _i117 < _map116.size; ++_i117)
+            {
+              String _key118; // required
+              edu.berkeley.sparrow.thrift.TResourceUsage _val119; // required
+              _key118 = iprot.readString();
+              _val119 = new edu.berkeley.sparrow.thrift.TResourceUsage();
+              _val119.read(iprot);
+              struct.load.put(_key118, _val119);
+            }
+          }
+          struct.setLoadIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class reportLoad_result implements org.apache.thrift.TBase<reportLoad_result, reportLoad_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("reportLoad_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.BOOL, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new reportLoad_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new reportLoad_resultTupleSchemeFactory());
+    }
+
+    public boolean success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __SUCCESS_ISSET_ID = 0;
+    private BitSet __isset_bit_vector = new BitSet(1);
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(reportLoad_result.class, metaDataMap);
+    }
+
+    public reportLoad_result() {
+    }
+
+    public reportLoad_result(
+      boolean success)
+    {
+      this();
+      this.success = success;
+      setSuccessIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public reportLoad_result(reportLoad_result other) {
+      __isset_bit_vector.clear();
+      __isset_bit_vector.or(other.__isset_bit_vector);
+      this.success = other.success;
+    }
+
+    public reportLoad_result deepCopy() {
+      return new reportLoad_result(this);
+    }
+
+    public void clear() {
+      setSuccessIsSet(false);
+      this.success = false;
+    }
+
+    public boolean isSuccess() {
+      return this.success;
+    }
+
+    public reportLoad_result setSuccess(boolean success) {
+      this.success = success;
+      setSuccessIsSet(true);
+      return this;
+    }
+
+    public void unsetSuccess() {
+      __isset_bit_vector.clear(__SUCCESS_ISSET_ID);
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return __isset_bit_vector.get(__SUCCESS_ISSET_ID);
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      __isset_bit_vector.set(__SUCCESS_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((Boolean)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return Boolean.valueOf(isSuccess());
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof reportLoad_result)
+        return this.equals((reportLoad_result)that);
+      return false;
+    }
+
+    public boolean equals(reportLoad_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true;
+      boolean that_present_success = true;
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (this.success != that.success)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(reportLoad_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      reportLoad_result typedOther = (reportLoad_result)other;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(typedOther.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, typedOther.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("reportLoad_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      sb.append(this.success);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private static class reportLoad_resultStandardSchemeFactory implements SchemeFactory {
+      public reportLoad_resultStandardScheme getScheme() {
+        return new reportLoad_resultStandardScheme();
+      }
+    }
+
+    private static class reportLoad_resultStandardScheme extends StandardScheme<reportLoad_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, reportLoad_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+                struct.success = iprot.readBool();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, reportLoad_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+        oprot.writeBool(struct.success);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class reportLoad_resultTupleSchemeFactory implements SchemeFactory {
+      public reportLoad_resultTupleScheme getScheme() {
+        return new reportLoad_resultTupleScheme();
+      }
+    }
+
+    private static class reportLoad_resultTupleScheme extends TupleScheme<reportLoad_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, reportLoad_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          oprot.writeBool(struct.success);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, reportLoad_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = iprot.readBool();
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class reconcileQuotas_args implements org.apache.thrift.TBase<reconcileQuotas_args, reconcileQuotas_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("reconcileQuotas_args");
+
+    private static final org.apache.thrift.protocol.TField SCHEDULER_ADDRESS_FIELD_DESC = new org.apache.thrift.protocol.TField("schedulerAddress", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField DEMAND_FIELD_DESC = new org.apache.thrift.protocol.TField("demand", org.apache.thrift.protocol.TType.MAP, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new reconcileQuotas_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new reconcileQuotas_argsTupleSchemeFactory());
+    }
+
+    public String schedulerAddress; // required
+    public Map<String,Long> demand; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SCHEDULER_ADDRESS((short)1, "schedulerAddress"),
+      DEMAND((short)2, "demand");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // SCHEDULER_ADDRESS
+            return SCHEDULER_ADDRESS;
+          case 2: // DEMAND
+            return DEMAND;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SCHEDULER_ADDRESS, new org.apache.thrift.meta_data.FieldMetaData("schedulerAddress", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.DEMAND, new org.apache.thrift.meta_data.FieldMetaData("demand", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.MapMetaData(org.apache.thrift.protocol.TType.MAP, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING), 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(reconcileQuotas_args.class, metaDataMap);
+    }
+
+    public reconcileQuotas_args() {
+    }
+
+    public reconcileQuotas_args(
+      String schedulerAddress,
+      Map<String,Long> demand)
+    {
+      this();
+      this.schedulerAddress = schedulerAddress;
+      this.demand = demand;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public reconcileQuotas_args(reconcileQuotas_args other) {
+      if (other.isSetSchedulerAddress()) {
+        this.schedulerAddress = other.schedulerAddress;
+      }
+      if (other.isSetDemand()) {
+        Map<String,Long> __this__demand = new HashMap<String,Long>();
+        for (Map.Entry<String, Long> other_element : other.demand.entrySet()) {
+
+          String other_element_key = other_element.getKey();
+          Long other_element_value = other_element.getValue();
+
+          String __this__demand_copy_key = other_element_key;
+
+          Long __this__demand_copy_value = other_element_value;
+
+          __this__demand.put(__this__demand_copy_key, __this__demand_copy_value);
+        }
+        this.demand = __this__demand;
+      }
+    }
+
+    public reconcileQuotas_args deepCopy() {
+      return new reconcileQuotas_args(this);
+    }
+
+    public void clear() {
+      this.schedulerAddress = null;
+      this.demand = null;
+    }
+
+    public String getSchedulerAddress() {
+      return this.schedulerAddress;
+    }
+
+    public reconcileQuotas_args setSchedulerAddress(String schedulerAddress) {
+      this.schedulerAddress = schedulerAddress;
+      return this;
+    }
+
+    public void unsetSchedulerAddress() {
+      this.schedulerAddress = null;
+    }
+
+    /** Returns true if field schedulerAddress is set (has been assigned a value) and false otherwise */
+    public boolean isSetSchedulerAddress() {
+      return this.schedulerAddress != null;
+    }
+
+    public void setSchedulerAddressIsSet(boolean value) {
+      if (!value) {
+        this.schedulerAddress = null;
+      }
+    }
+
+    public int getDemandSize() {
+      return (this.demand == null) ? 0 : this.demand.size();
+    }
+
+    public void putToDemand(String key, long val) {
+      if (this.demand == null) {
+        this.demand = new HashMap<String,Long>();
+      }
+      this.demand.put(key, val);
+    }
+
+    public Map<String,Long> getDemand() {
+      return this.demand;
+    }
+
+    public reconcileQuotas_args setDemand(Map<String,Long> demand) {
+      this.demand = demand;
+      return this;
+    }
+
+    public void unsetDemand() {
+      this.demand = null;
+    }
+
+    /** Returns true if field demand is set (has been assigned a value) and false otherwise */
+    public boolean isSetDemand() {
+      return this.demand != null;
+    }
+
+    public void setDemandIsSet(boolean value) {
+      if (!value) {
+        this.demand = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SCHEDULER_ADDRESS:
+        if (value == null) {
+          unsetSchedulerAddress();
+        } else {
+          setSchedulerAddress((String)value);
+        }
+        break;
+
+      case DEMAND:
+        if (value == null) {
+          unsetDemand();
+        } else {
+          setDemand((Map<String,Long>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SCHEDULER_ADDRESS:
+        return getSchedulerAddress();
+
+      case DEMAND:
+        return getDemand();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SCHEDULER_ADDRESS:
+        return isSetSchedulerAddress();
+      case DEMAND:
+        return isSetDemand();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof reconcileQuotas_args)
+        return this.equals((reconcileQuotas_args)that);
+      return false;
+    }
+
+    public boolean equals(reconcileQuotas_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_schedulerAddress = true && this.isSetSchedulerAddress();
+      boolean that_present_schedulerAddress = true && that.isSetSchedulerAddress();
+      if (this_present_schedulerAddress || that_present_schedulerAddress) {
+        if (!(this_present_schedulerAddress && that_present_schedulerAddress))
+          return false;
+        if (!this.schedulerAddress.equals(that.schedulerAddress))
+          return false;
+      }
+
+      boolean this_present_demand = true && this.isSetDemand();
+      boolean that_present_demand = true && that.isSetDemand();
+      if (this_present_demand || that_present_demand) {
+        if (!(this_present_demand && that_present_demand))
+          return false;
+        if (!this.demand.equals(that.demand))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(reconcileQuotas_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      reconcileQuotas_args typedOther = (reconcileQuotas_args)other;
+
+      lastComparison = Boolean.valueOf(isSetSchedulerAddress()).compareTo(typedOther.isSetSchedulerAddress());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSchedulerAddress()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.schedulerAddress, typedOther.schedulerAddress);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetDemand()).compareTo(typedOther.isSetDemand());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetDemand()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.demand, typedOther.demand);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("reconcileQuotas_args(");
+      boolean first = true;
+
+      sb.append("schedulerAddress:");
+      if (this.schedulerAddress == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.schedulerAddress);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("demand:");
+      if (this.demand == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.demand);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private static class reconcileQuotas_argsStandardSchemeFactory implements SchemeFactory {
+      public reconcileQuotas_argsStandardScheme getScheme() {
+        return new reconcileQuotas_argsStandardScheme();
+      }
+    }
+
+    private static class reconcileQuotas_argsStandardScheme extends StandardScheme<reconcileQuotas_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, reconcileQuotas_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // SCHEDULER_ADDRESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.schedulerAddress = iprot.readString();
+                struct.setSchedulerAddressIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // DEMAND
+              if (schemeField.type == org.apache.thrift.protocol.TType.MAP) {
+                {
+                  org.apache.thrift.protocol.TMap _map120 = iprot.readMapBegin();
+                  struct.demand = new HashMap<String,Long>(2*_map120.size);
+                  for (int _i121 = 0; _i121 < _map120.size; ++_i121)
+                  {
+                    String _key122; // required
+                    long _val123; // required
+                    _key122 = iprot.readString();
+                    _val123 = iprot.readI64();
+                    struct.demand.put(_key122, _val123);
+                  }
+                  iprot.readMapEnd();
+                }
+                struct.setDemandIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, reconcileQuotas_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.schedulerAddress != null) {
+          oprot.writeFieldBegin(SCHEDULER_ADDRESS_FIELD_DESC);
+          oprot.writeString(struct.schedulerAddress);
+          oprot.writeFieldEnd();
+        }
+        if (struct.demand != null) {
+          oprot.writeFieldBegin(DEMAND_FIELD_DESC);
+          {
+            oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.I64, struct.demand.size()));
+            for (Map.Entry<String, Long> _iter124 : struct.demand.entrySet())
+            {
+              oprot.writeString(_iter124.getKey());
+              oprot.writeI64(_iter124.getValue());
+            }
+            oprot.writeMapEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class reconcileQuotas_argsTupleSchemeFactory implements SchemeFactory {
+      public reconcileQuotas_argsTupleScheme getScheme() {
+        return new reconcileQuotas_argsTupleScheme();
+      }
+    }
+
+    private static class reconcileQuotas_argsTupleScheme extends TupleScheme<reconcileQuotas_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, reconcileQuotas_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSchedulerAddress()) {
+          optionals.set(0);
+        }
+        if (struct.isSetDemand()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSchedulerAddress()) {
+          oprot.writeString(struct.schedulerAddress);
+        }
+        if (struct.isSetDemand()) {
+          {
+            oprot.writeI32(struct.demand.size());
+            for (Map.Entry<String, Long> _iter125 : struct.demand.entrySet())
+            {
+              oprot.writeString(_iter125.getKey());
+              oprot.writeI64(_iter125.getValue());
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, reconcileQuotas_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.schedulerAddress = iprot.readString();
+          struct.setSchedulerAddressIsSet(true);
+        }
+        if (incoming.get(1)) {
+          {
+            org.apache.thrift.protocol.TMap _map126 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.I64, iprot.readI32());
+            struct.demand = new HashMap<String,Long>(2*_map126.size);
+            for (int _i127 = 0; _i127 < _map126.size; ++_i127)
+            {
+              String _key128; // required
+              long _val129; // required
+              _key128 = iprot.readString();
+              _val129 = iprot.readI64();
+              struct.demand.put(_key128, _val129);
+            }
+          }
+          struct.setDemandIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class reconcileQuotas_result implements org.apache.thrift.TBase<reconcileQuotas_result, reconcileQuotas_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("reconcileQuotas_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new reconcileQuotas_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new reconcileQuotas_resultTupleSchemeFactory());
+    }
+
+    public edu.berkeley.sparrow.thrift.TQuotaReconciliation success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, edu.berkeley.sparrow.thrift.TQuotaReconciliation.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(reconcileQuotas_result.class, metaDataMap);
+    }
+
+    public reconcileQuotas_result() {
+    }
+
+    public reconcileQuotas_result(
+      edu.berkeley.sparrow.thrift.TQuotaReconciliation success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public reconcileQuotas_result(reconcileQuotas_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new edu.berkeley.sparrow.thrift.TQuotaReconciliation(other.success);
+      }
+    }
+
+    public reconcileQuotas_result deepCopy() {
+      return new reconcileQuotas_result(this);
+    }
+
+    public void clear() {
+      this.success = null;
+    }
+
+    public edu.berkeley.sparrow.thrift.TQuotaReconciliation getSuccess() {
+      return this.success;
+    }
+
+    public reconcileQuotas_result setSuccess(edu.berkeley.sparrow.thrift.TQuotaReconciliation success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((edu.berkeley.sparrow.thrift.TQuotaReconciliation)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof reconcileQuotas_result)
+        return this.equals((reconcileQuotas_result)that);
+      return false;
+    }
+
+    public boolean equals(reconcileQuotas_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    public int compareTo(reconcileQuotas_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      reconcileQuotas_result typedOther = (reconcileQuotas_result)other;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(typedOther.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, typedOther.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("reconcileQuotas_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te.getMessage());
+      }
+    }
+
+    private static class reconcileQuotas_resultStandardSchemeFactory implements SchemeFactory {
+      public reconcileQuotas_resultStandardScheme getScheme() {
+        return new reconcileQuotas_resultStandardScheme();
+      }
+    }
+
+    private static class reconcileQuotas_resultStandardScheme extends StandardScheme<reconcileQuotas_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, reconcileQuotas_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new edu.berkeley.sparrow.thrift.TQuotaReconciliation();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, reconcileQuotas_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class reconcileQuotas_resultTupleSchemeFactory implements SchemeFactory {
+      public reconcileQuotas_resultTupleScheme getScheme() {
+        return new reconcileQuotas_resultTupleScheme();
+      }
+    }
+
+    private static class reconcileQuotas_resultTupleScheme extends TupleScheme<reconcileQuotas_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, reconcileQuotas_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, reconcileQuotas_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = new edu.berkeley.sparrow.thrift.TQuotaReconciliation();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+  }
+
 }
@@ -36,6 +36,12 @@ public class TEnqueueTaskReservationsRequest implements org.apache.thrift.TBase<
   private static final org.apache.thrift.protocol.TField ESTIMATED_RESOURCES_FIELD_DESC = new org.apache.thrift.protocol.TField("estimatedResources", org.apache.thrift.protocol.TType.STRUCT, (short)4);
   private static final org.apache.thrift.protocol.TField SCHEDULER_ADDRESS_FIELD_DESC = new org.apache.thrift.protocol.TField("schedulerAddress", org.apache.thrift.protocol.TType.STRUCT, (short)5);
   private static final org.apache.thrift.protocol.TField NUM_TASKS_FIELD_DESC = new org.apache.thrift.protocol.TField("numTasks", org.apache.thrift.protocol.TType.I32, (short)6);
+  private static final org.apache.thrift.protocol.TField GANG_FIELD_DESC = new org.apache.thrift.protocol.TField("gang", org.apache.thrift.protocol.TType.BOOL, (short)7);
+  private static final org.apache.thrift.protocol.TField GET_TASK_PORT_FIELD_DESC = new org.apache.thrift.protocol.TField("getTaskPort", org.apache.thrift.protocol.TType.I32, (short)8);
+  private static final org.apache.thrift.protocol.TField TRACE_CONTEXT_FIELD_DESC = new org.apache.thrift.protocol.TField("traceContext", org.apache.thrift.protocol.TType.STRUCT, (short)9);
+  private static final org.apache.thrift.protocol.TField STEALABLE_FIELD_DESC = new org.apache.thrift.protocol.TField("stealable", org.apache.thrift.protocol.TType.BOOL, (short)10);
+  private static final org.apache.thrift.protocol.TField JOB_SIGNATURE_FIELD_DESC = new org.apache.thrift.protocol.TField("jobSignature", org.apache.thrift.protocol.TType.STRING, (short)11);
+  private static final org.apache.thrift.protocol.TField ORIGINAL_NODE_MONITOR_FIELD_DESC = new org.apache.thrift.protocol.TField("originalNodeMonitor", org.apache.thrift.protocol.TType.STRUCT, (short)12);
 
   private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
   static {
@@ -49,6 +55,12 @@ public class TEnqueueTaskReservationsRequest implements org.apache.thrift.TBase<
   public TResourceVector estimatedResources; // required
   public THostPort schedulerAddress; // required
   public int numTasks; // required
+  public boolean gang; // optional
+  public int getTaskPort; // optional
+  public TTraceContext traceContext; // optional
+  public boolean stealable; // optional
+  public String jobSignature; // optional
+  public THostPort originalNodeMonitor; // optional
 
   /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
   public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -57,7 +69,13 @@ public class TEnqueueTaskReservationsRequest implements org.apache.thrift.TBase<
     REQUEST_ID((short)3, "requestId"),
     ESTIMATED_RESOURCES((short)4, "estimatedResources"),
     SCHEDULER_ADDRESS((short)5, "schedulerAddress"),
-    NUM_TASKS((short)6, "numTasks");
+    NUM_TASKS((short)6, "numTasks"),
+    GANG((short)7, "gang"),
+    GET_TASK_PORT((short)8, "getTaskPort"),
+    TRACE_CONTEXT((short)9, "traceContext"),
+    STEALABLE((short)10, "stealable"),
+    JOB_SIGNATURE((short)11, "jobSignature"),
+    ORIGINAL_NODE_MONITOR((short)12, "originalNodeMonitor");
 
     private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -84,6 +102,18 @@ public class TEnqueueTaskReservationsRequest implements org.apache.thrift.TBase<
           return SCHEDULER_ADDRESS;
         case 6: // NUM_TASKS
           return NUM_TASKS;
+        case 7: // GANG
+          return GANG;
+        case 8: // GET_TASK_PORT
+          return GET_TASK_PORT;
+        case 9: // TRACE_CONTEXT
+          return TRACE_CONTEXT;
+        case 10: // STEALABLE
+          return STEALABLE;
+        case 11: // JOB_SIGNATURE
+          return JOB_SIGNATURE;
+        case 12: // ORIGINAL_NODE_MONITOR
+          return ORIGINAL_NODE_MONITOR;
         default:
           return null;
       }
@@ -125,7 +155,11 @@ public class TEnqueueTaskReservationsRequest implements org.apache.thrift.TBase<
 
   // isset id assignments
   private static final int __NUMTASKS_ISSET_ID = 0;
-  private BitSet __isset_bit_vector = new BitSet(1);
+  private static final int __GANG_ISSET_ID = 1;
+  private static final int __GETTASKPORT_ISSET_ID = 2;
+  private static final int __STEALABLE_ISSET_ID = 3;
+  private BitSet __isset_bit_vector = new BitSet(4);
+  private _Fields optionals[] = {_Fields.GANG,_Fields.GET_TASK_PORT,_Fields.TRACE_CONTEXT,_Fields.STEALABLE,_Fields.JOB_SIGNATURE,_Fields.ORIGINAL_NODE_MONITOR};
   public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
   static {
     Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
@@ -141,6 +175,18 @@ public class TEnqueueTaskReservationsRequest implements org.apache.thrift.TBase<
         new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, THostPort.class)));
     tmpMap.put(_Fields.NUM_TASKS, new org.apache.thrift.meta_data.FieldMetaData("numTasks", org.apache.thrift.TFieldRequirementType.DEFAULT, 
         new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+    tmpMap.put(_Fields.GANG, new org.apache.thrift.meta_data.FieldMetaData("gang", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
+    tmpMap.put(_Fields.GET_TASK_PORT, new org.apache.thrift.meta_data.FieldMetaData("getTaskPort", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+    tmpMap.put(_Fields.TRACE_CONTEXT, new org.apache.thrift.meta_data.FieldMetaData("traceContext", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TTraceContext.class)));
+    tmpMap.put(_Fields.STEALABLE, new org.apache.thrift.meta_data.FieldMetaData("stealable", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
+    tmpMap.put(_Fields.JOB_SIGNATURE, new org.apache.thrift.meta_data.FieldMetaData("jobSignature", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+    tmpMap.put(_Fields.ORIGINAL_NODE_MONITOR, new org.apache.thrift.meta_data.FieldMetaData("originalNodeMonitor", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, THostPort.class)));
     metaDataMap = Collections.unmodifiableMap(tmpMap);
     org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(TEnqueueTaskReservationsRequest.class, metaDataMap);
   }
@@ -188,6 +234,18 @@ public class TEnqueueTaskReservationsRequest implements org.apache.thrift.TBase<
       this.schedulerAddress = new THostPort(other.schedulerAddress);
     }
     this.numTasks = other.numTasks;
+    this.gang = other.gang;
+    this.getTaskPort = other.getTaskPort;
+    if (other.isSetTraceContext()) {
+      this.traceContext = new TTraceContext(other.traceContext);
+    }
+    this.stealable = other.stealable;
+    if (other.isSetJobSignature()) {
+      this.jobSignature = other.jobSignature;
+    }
+    if (other.isSetOriginalNodeMonitor()) {
+      this.originalNodeMonitor = new THostPort(other.originalNodeMonitor);
+    }
   }
 
   public TEnqueueTaskReservationsRequest deepCopy() {
@@ -202,6 +260,15 @@ public class TEnqueueTaskReservationsRequest implements org.apache.thrift.TBase<
     this.schedulerAddress = null;
     setNumTasksIsSet(false);
     this.numTasks = 0;
+    setGangIsSet(false);
+    this.gang = false;
+    setGetTaskPortIsSet(false);
+    this.getTaskPort = 0;
+    this.traceContext = null;
+    setStealableIsSet(false);
+    this.stealable = false;
+    this.jobSignature = null;
+    this.originalNodeMonitor = null;
   }
 
   public String getAppId() {
@@ -347,6 +414,147 @@ public class TEnqueueTaskReservationsRequest implements org.apache.thrift.TBase<
     __isset_bit_vector.set(__NUMTASKS_ISSET_ID, value);
   }
 
+  public boolean isGang() {
+    return this.gang;
+  }
+
+  public TEnqueueTaskReservationsRequest setGang(boolean gang) {
+    this.gang = gang;
+    setGangIsSet(true);
+    return this;
+  }
+
+  public void unsetGang() {
+    __isset_bit_vector.clear(__GANG_ISSET_ID);
+  }
+
+  /** Returns true if field gang is set (has been assigned a value) and false otherwise */
+  public boolean isSetGang() {
+    return __isset_bit_vector.get(__GANG_ISSET_ID);
+  }
+
+  public void setGangIsSet(boolean value) {
+    __isset_bit_vector.set(__GANG_ISSET_ID, value);
+  }
+
+  public int getGetTaskPort() {
+    return this.getTaskPort;
+  }
+
+  public TEnqueueTaskReservationsRequest setGetTaskPort(int getTaskPort) {
+    this.getTaskPort = getTaskPort;
+    setGetTaskPortIsSet(true);
+    return this;
+  }
+
+  public void unsetGetTaskPort() {
+    __isset_bit_vector.clear(__GETTASKPORT_ISSET_ID);
+  }
+
+  /** Returns true if field getTaskPort is set (has been assigned a value) and false otherwise */
+  public boolean isSetGetTaskPort() {
+    return __isset_bit_vector.get(__GETTASKPORT_ISSET_ID);
+  }
+
+  public void setGetTaskPortIsSet(boolean value) {
+    __isset_bit_vector.set(__GETTASKPORT_ISSET_ID, value);
+  }
+
+  public TTraceContext getTraceContext() {
+    return this.traceContext;
+  }
+
+  public TEnqueueTaskReservationsRequest setTraceContext(TTraceContext traceContext) {
+    this.traceContext = traceContext;
+    return this;
+  }
+
+  public void unsetTraceContext() {
+    this.traceContext = null;
+  }
+
+  /** Returns true if field traceContext is set (has been assigned a value) and false otherwise */
+  public boolean isSetTraceContext() {
+    return this.traceContext != null;
+  }
+
+  public void setTraceContextIsSet(boolean value) {
+    if (!value) {
+      this.traceContext = null;
+    }
+  }
+
+  public boolean isStealable() {
+    return this.stealable;
+  }
+
+  public TEnqueueTaskReservationsRequest setStealable(boolean stealable) {
+    this.stealable = stealable;
+    setStealableIsSet(true);
+    return this;
+  }
+
+  public void unsetStealable() {
+    __isset_bit_vector.clear(__STEALABLE_ISSET_ID);
+  }
+
+  /** Returns true if field stealable is set (has been assigned a value) and false otherwise */
+  public boolean isSetStealable() {
+    return __isset_bit_vector.get(__STEALABLE_ISSET_ID);
+  }
+
+  public void setStealableIsSet(boolean value) {
+    __isset_bit_vector.set(__STEALABLE_ISSET_ID, value);
+  }
+
+  public String getJobSignature() {
+    return this.jobSignature;
+  }
+
+  public TEnqueueTaskReservationsRequest setJobSignature(String jobSignature) {
+    this.jobSignature = jobSignature;
+    return this;
+  }
+
+  public void unsetJobSignature() {
+    this.jobSignature = null;
+  }
+
+  /** Returns true if field jobSignature is set (has been assigned a value) and false otherwise */
+  public boolean isSetJobSignature() {
+    return this.jobSignature != null;
+  }
+
+  public void setJobSignatureIsSet(boolean value) {
+    if (!value) {
+      this.jobSignature = null;
+    }
+  }
+
+  public THostPort getOriginalNodeMonitor() {
+    return this.originalNodeMonitor;
+  }
+
+  public TEnqueueTaskReservationsRequest setOriginalNodeMonitor(THostPort originalNodeMonitor) {
+    this.originalNodeMonitor = originalNodeMonitor;
+    return this;
+  }
+
+  public void unsetOriginalNodeMonitor() {
+    this.originalNodeMonitor = null;
+  }
+
+  /** Returns true if field originalNodeMonitor is set (has been assigned a value) and false otherwise */
+  public boolean isSetOriginalNodeMonitor() {
+    return this.originalNodeMonitor != null;
+  }
+
+  public void setOriginalNodeMonitorIsSet(boolean value) {
+    if (!value) {
+      this.originalNodeMonitor = null;
+    }
+  }
+
   public void setFieldValue(_Fields field, Object value) {
     switch (field) {
     case APP_ID:
@@ -397,6 +605,54 @@ public class TEnqueueTaskReservationsRequest implements org.apache.thrift.TBase<
       }
       break;
 
+    case GANG:
+      if (value == null) {
+        unsetGang();
+      } else {
+        setGang((Boolean)value);
+      }
+      break;
+
+    case GET_TASK_PORT:
+      if (value == null) {
+        unsetGetTaskPort();
+      } else {
+        setGetTaskPort((Integer)value);
+      }
+      break;
+
+    case TRACE_CONTEXT:
+      if (value == null) {
+        unsetTraceContext();
+      } else {
+        setTraceContext((TTraceContext)value);
+      }
+      break;
+
+    case STEALABLE:
+      if (value == null) {
+        unsetStealable();
+      } else {
+        setStealable((Boolean)value);
+      }
+      break;
+
+    case JOB_SIGNATURE:
+      if (value == null) {
+        unsetJobSignature();
+      } else {
+        setJobSignature((String)value);
+      }
+      break;
+
+    case ORIGINAL_NODE_MONITOR:
+      if (value == null) {
+        unsetOriginalNodeMonitor();
+      } else {
+        setOriginalNodeMonitor((THostPort)value);
+      }
+      break;
+
     }
   }
 
@@ -420,6 +676,24 @@ public class TEnqueueTaskReservationsRequest implements org.apache.thrift.TBase<
     case NUM_TASKS:
       return Integer.valueOf(getNumTasks());
 
+    case GANG:
+      return Boolean.valueOf(isGang());
+
+    case GET_TASK_PORT:
+      return Integer.valueOf(getGetTaskPort());
+
+    case TRACE_CONTEXT:
+      return getTraceContext();
+
+    case STEALABLE:
+      return Boolean.valueOf(isStealable());
+
+    case JOB_SIGNATURE:
+      return getJobSignature();
+
+    case ORIGINAL_NODE_MONITOR:
+      return getOriginalNodeMonitor();
+
     }
     throw new IllegalStateException();
   }
@@ -443,6 +717,18 @@ public class TEnqueueTaskReservationsRequest implements org.apache.thrift.TBase<
       return isSetSchedulerAddress();
     case NUM_TASKS:
       return isSetNumTasks();
+    case GANG:
+      return isSetGang();
+    case GET_TASK_PORT:
+      return isSetGetTaskPort();
+    case TRACE_CONTEXT:
+      return isSetTraceContext();
+    case STEALABLE:
+      return isSetStealable();
+    case JOB_SIGNATURE:
+      return isSetJobSignature();
+    case ORIGINAL_NODE_MONITOR:
+      return isSetOriginalNodeMonitor();
     }
     throw new IllegalStateException();
   }
@@ -514,6 +800,60 @@ public class TEnqueueTaskReservationsRequest implements org.apache.thrift.TBase<
         return false;
     }
 
+    boolean this_present_gang = true && this.isSetGang();
+    boolean that_present_gang = true && that.isSetGang();
+    if (this_present_gang || that_present_gang) {
+      if (!(this_present_gang && that_present_gang))
+        return false;
+      if (this.gang != that.gang)
+        return false;
+    }
+
+    boolean this_present_getTaskPort = true && this.isSetGetTaskPort();
+    boolean that_present_getTaskPort = true && that.isSetGetTaskPort();
+    if (this_present_getTaskPort || that_present_getTaskPort) {
+      if (!(this_present_getTaskPort && that_present_getTaskPort))
+        return false;
+      if (this.getTaskPort != that.getTaskPort)
+        return false;
+    }
+
+    boolean this_present_traceContext = true && this.isSetTraceContext();
+    boolean that_present_traceContext = true && that.isSetTraceContext();
+    if (this_present_traceContext || that_present_traceContext) {
+      if (!(this_present_traceContext && that_present_traceContext))
+        return false;
+      if (!this.traceContext.equals(that.traceContext))
+        return false;
+    }
+
+    boolean this_present_stealable = true && this.isSetStealable();
+    boolean that_present_stealable = true && that.isSetStealable();
+    if (this_present_stealable || that_present_stealable) {
+      if (!(this_present_stealable && that_present_stealable))
+        return false;
+      if (this.stealable != that.stealable)
+        return false;
+    }
+
+    boolean this_present_jobSignature = true && this.isSetJobSignature();
+    boolean that_present_jobSignature = true && that.isSetJobSignature();
+    if (this_present_jobSignature || that_present_jobSignature) {
+      if (!(this_present_jobSignature && that_present_jobSignature))
+        return false;
+      if (!this.jobSignature.equals(that.jobSignature))
+        return false;
+    }
+
+    boolean this_present_originalNodeMonitor = true && this.isSetOriginalNodeMonitor();
+    boolean that_present_originalNodeMonitor = true && that.isSetOriginalNodeMonitor();
+    if (this_present_originalNodeMonitor || that_present_originalNodeMonitor) {
+      if (!(this_present_originalNodeMonitor && that_present_originalNodeMonitor))
+        return false;
+      if (!this.originalNodeMonitor.equals(that.originalNodeMonitor))
+        return false;
+    }
+
     return true;
   }
 
@@ -590,6 +930,66 @@ public class TEnqueueTaskReservationsRequest implements org.apache.thrift.TBase<
         return lastComparison;
       }
     }
+    lastComparison = Boolean.valueOf(isSetGang()).compareTo(typedOther.isSetGang());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetGang()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.gang, typedOther.gang);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = Boolean.valueOf(isSetGetTaskPort()).compareTo(typedOther.isSetGetTaskPort());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetGetTaskPort()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.getTaskPort, typedOther.getTaskPort);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = Boolean.valueOf(isSetTraceContext()).compareTo(typedOther.isSetTraceContext());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetTraceContext()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.traceContext, typedOther.traceContext);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = Boolean.valueOf(isSetStealable()).compareTo(typedOther.isSetStealable());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetStealable()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.stealable, typedOther.stealable);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = Boolean.valueOf(isSetJobSignature()).compareTo(typedOther.isSetJobSignature());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetJobSignature()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.jobSignature, typedOther.jobSignature);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = Boolean.valueOf(isSetOriginalNodeMonitor()).compareTo(typedOther.isSetOriginalNodeMonitor());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetOriginalNodeMonitor()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.originalNodeMonitor, typedOther.originalNodeMonitor);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
     return 0;
   }
 
@@ -653,6 +1053,54 @@ public class TEnqueueTaskReservationsRequest implements org.apache.thrift.TBase<
     sb.append("numTasks:");
     sb.append(this.numTasks);
     first = false;
+    if (isSetGang()) {
+      if (!first) sb.append(", ");
+      sb.append("gang:");
+      sb.append(this.gang);
+      first = false;
+    }
+    if (isSetGetTaskPort()) {
+      if (!first) sb.append(", ");
+      sb.append("getTaskPort:");
+      sb.append(this.getTaskPort);
+      first = false;
+    }
+    if (isSetTraceContext()) {
+      if (!first) sb.append(", ");
+      sb.append("traceContext:");
+      if (this.traceContext == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.traceContext);
+      }
+      first = false;
+    }
+    if (isSetStealable()) {
+      if (!first) sb.append(", ");
+      sb.append("stealable:");
+      sb.append(this.stealable);
+      first = false;
+    }
+    if (isSetJobSignature()) {
+      if (!first) sb.append(", ");
+      sb.append("jobSignature:");
+      if (this.jobSignature == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.jobSignature);
+      }
+      first = false;
+    }
+    if (isSetOriginalNodeMonitor()) {
+      if (!first) sb.append(", ");
+      sb.append("originalNodeMonitor:");
+      if (this.originalNodeMonitor == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.originalNodeMonitor);
+      }
+      first = false;
+    }
     sb.append(")");
     return sb.toString();
   }
@@ -748,6 +1196,56 @@ public class TEnqueueTaskReservationsRequest implements org.apache.thrift.TBase<
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
             }
             break;
+          case 7: // GANG
+            if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+              struct.gang = iprot.readBool();
+              struct.setGangIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 8: // GET_TASK_PORT
+            if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+              struct.getTaskPort = iprot.readI32();
+              struct.setGetTaskPortIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 9: // TRACE_CONTEXT
+            if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+              struct.traceContext = new TTraceContext();
+              struct.traceContext.read(iprot);
+              struct.setTraceContextIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 10: // STEALABLE
+            if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+              struct.stealable = iprot.readBool();
+              struct.setStealableIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 11: // JOB_SIGNATURE
+            if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+              struct.jobSignature = iprot.readString();
+              struct.setJobSignatureIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 12: // ORIGINAL_NODE_MONITOR
+            if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+              struct.originalNodeMonitor = new THostPort();
+              struct.originalNodeMonitor.read(iprot);
+              struct.setOriginalNodeMonitorIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
           default:
             org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
         }
@@ -791,6 +1289,42 @@ public class TEnqueueTaskReservationsRequest implements org.apache.thrift.TBase<
       oprot.writeFieldBegin(NUM_TASKS_FIELD_DESC);
       oprot.writeI32(struct.numTasks);
       oprot.writeFieldEnd();
+      if (struct.isSetGang()) {
+        oprot.writeFieldBegin(GANG_FIELD_DESC);
+        oprot.writeBool(struct.gang);
+        oprot.writeFieldEnd();
+      }
+      if (struct.isSetGetTaskPort()) {
+        oprot.writeFieldBegin(GET_TASK_PORT_FIELD_DESC);
+        oprot.writeI32(struct.getTaskPort);
+        oprot.writeFieldEnd();
+      }
+      if (struct.traceContext != null) {
+        if (struct.isSetTraceContext()) {
+          oprot.writeFieldBegin(TRACE_CONTEXT_FIELD_DESC);
+          struct.traceContext.write(oprot);
+          oprot.writeFieldEnd();
+        }
+      }
+      if (struct.isSetStealable()) {
+        oprot.writeFieldBegin(STEALABLE_FIELD_DESC);
+        oprot.writeBool(struct.stealable);
+        oprot.writeFieldEnd();
+      }
+      if (struct.jobSignature != null) {
+        if (struct.isSetJobSignature()) {
+          oprot.writeFieldBegin(JOB_SIGNATURE_FIELD_DESC);
+          oprot.writeString(struct.jobSignature);
+          oprot.writeFieldEnd();
+        }
+      }
+      if (struct.originalNodeMonitor != null) {
+        if (struct.isSetOriginalNodeMonitor()) {
+          oprot.writeFieldBegin(ORIGINAL_NODE_MONITOR_FIELD_DESC);
+          struct.originalNodeMonitor.write(oprot);
+          oprot.writeFieldEnd();
+        }
+      }
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
@@ -827,7 +1361,25 @@ public class TEnqueueTaskReservationsRequest implements org.apache.thrift.TBase<
       if (struct.isSetNumTasks()) {
         optionals.set(5);
       }
-      oprot.writeBitSet(optionals, 6);
+      if (struct.isSetGang()) {
+        optionals.set(6);
+      }
+      if (struct.isSetGetTaskPort()) {
+        optionals.set(7);
+      }
+      if (struct.isSetTraceContext()) {
+        optionals.set(8);
+      }
+      if (struct.isSetStealable()) {
+        optionals.set(9);
+      }
+      if (struct.isSetJobSignature()) {
+        optionals.set(10);
+      }
+      if (struct.isSetOriginalNodeMonitor()) {
+        optionals.set(11);
+      }
+      oprot.writeBitSet(optionals, 12);
       if (struct.isSetAppId()) {
         oprot.writeString(struct.appId);
       }
@@ -846,12 +1398,30 @@ public class TEnqueueTaskReservationsRequest implements org.apache.thrift.TBase<
       if (struct.isSetNumTasks()) {
         oprot.writeI32(struct.numTasks);
       }
+      if (struct.isSetGang()) {
+        oprot.writeBool(struct.gang);
+      }
+      if (struct.isSetGetTaskPort()) {
+        oprot.writeI32(struct.getTaskPort);
+      }
+      if (struct.isSetTraceContext()) {
+        struct.traceContext.write(oprot);
+      }
+      if (struct.isSetStealable()) {
+        oprot.writeBool(struct.stealable);
+      }
+      if (struct.isSetJobSignature()) {
+        oprot.writeString(struct.jobSignature);
+      }
+      if (struct.isSetOriginalNodeMonitor()) {
+        struct.originalNodeMonitor.write(oprot);
+      }
     }
 
     @Override
     public void read(org.apache.thrift.protocol.TProtocol prot, TEnqueueTaskReservationsRequest struct) throws org.apache.thrift.TException {
       TTupleProtocol iprot = (TTupleProtocol) prot;
-      BitSet incoming = iprot.readBitSet(6);
+      BitSet incoming = iprot.readBitSet(12);
       if (incoming.get(0)) {
         struct.appId = iprot.readString();
         struct.setAppIdIsSet(true);
@@ -879,6 +1449,32 @@ public class TEnqueueTaskReservationsRequest implements org.apache.thrift.TBase<
         struct.numTasks = iprot.readI32();
         struct.setNumTasksIsSet(true);
       }
+      if (incoming.get(6)) {
+        struct.gang = iprot.readBool();
+        struct.setGangIsSet(true);
+      }
+      if (incoming.get(7)) {
+        struct.getTaskPort = iprot.readI32();
+        struct.setGetTaskPortIsSet(true);
+      }
+      if (incoming.get(8)) {
+        struct.traceContext = new TTraceContext();
+        struct.traceContext.read(iprot);
+        struct.setTraceContextIsSet(true);
+      }
+      if (incoming.get(9)) {
+        struct.stealable = iprot.readBool();
+        struct.setStealableIsSet(true);
+      }
+      if (incoming.get(10)) {
+        struct.jobSignature = iprot.readString();
+        struct.setJobSignatureIsSet(true);
+      }
+      if (incoming.get(11)) {
+        struct.originalNodeMonitor = new THostPort();
+        struct.originalNodeMonitor.read(iprot);
+        struct.setOriginalNodeMonitorIsSet(true);
+      }
     }
   }
 
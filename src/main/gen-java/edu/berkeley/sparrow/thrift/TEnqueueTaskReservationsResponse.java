@@ -0,0 +1,482 @@
+/**
+ * Autogenerated by Thrift Compiler (0.8.0)
+ *
+ * DO NOT EDIT UNLESS YOU ARE SURE THAT YOU KNOW WHAT YOU ARE DOING
+ *  @generated
+ */
+package edu.berkeley.sparrow.thrift;
+
+import org.apache.thrift.scheme.IScheme;
+import org.apache.thrift.scheme.SchemeFactory;
+import org.apache.thrift.scheme.StandardScheme;
+
+import org.apache.thrift.scheme.TupleScheme;
+import org.apache.thrift.protocol.TTupleProtocol;
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.HashMap;
+import java.util.EnumMap;
+import java.util.Set;
+import java.util.HashSet;
+import java.util.EnumSet;
+import java.util.Collections;
+import java.util.BitSet;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class TEnqueueTaskReservationsResponse implements org.apache.thrift.TBase<TEnqueueTaskReservationsResponse, TEnqueueTaskReservationsResponse._Fields>, java.io.Serializable, Cloneable {
+  private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("TEnqueueTaskReservationsResponse");
+
+  private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.BOOL, (short)1);
+  private static final org.apache.thrift.protocol.TField LOAD_FIELD_DESC = new org.apache.thrift.protocol.TField("load", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+
+  private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+  static {
+    schemes.put(StandardScheme.class, new TEnqueueTaskReservationsResponseStandardSchemeFactory());
+    schemes.put(TupleScheme.class, new TEnqueueTaskReservationsResponseTupleSchemeFactory());
+  }
+
+  public boolean success; // required
+  public TNodeLoad load; // required
+
+  /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+  public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+    SUCCESS((short)1, "success"),
+    LOAD((short)2, "load");
+
+    private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+    static {
+      for (_Fields field : EnumSet.allOf(_Fields.class)) {
+        byName.put(field.getFieldName(), field);
+      }
+    }
+
+    /**
+     * Find the _Fields constant that matches fieldId, or null if its not found.
+     */
+    public static _Fields findByThriftId(int fieldId) {
+      switch(fieldId) {
+        case 1: // SUCCESS
+          return SUCCESS;
+        case 2: // LOAD
+          return LOAD;
+        default:
+          return null;
+      }
+    }
+
+    /**
+     * Find the _Fields constant that matches fieldId, throwing an exception
+     * if it is not found.
+     */
+    public static _Fields findByThriftIdOrThrow(int fieldId) {
+      _Fields fields = findByThriftId(fieldId);
+      if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+      return fields;
+    }
+
+    /**
+     * Find the _Fields constant that matches name, or null if its not found.
+     */
+    public static _Fields findByName(String name) {
+      return byName.get(name);
+    }
+
+    private final short _thriftId;
+    private final String _fieldName;
+
+    _Fields(short thriftId, String fieldName) {
+      _thriftId = thriftId;
+      _fieldName = fieldName;
+    }
+
+    public short getThriftFieldId() {
+      return _thriftId;
+    }
+
+    public String getFieldName() {
+      return _fieldName;
+    }
+  }
+
+  // isset id assignments
+  private static final int __SUCCESS_ISSET_ID = 0;
+  private BitSet __isset_bit_vector = new BitSet(1);
+  public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+  static {
+    Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+    tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
+    tmpMap.put(_Fields.LOAD, new org.apache.thrift.meta_data.FieldMetaData("load", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+        new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TNodeLoad.class)));
+    metaDataMap = Collections.unmodifiableMap(tmpMap);
+    org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(TEnqueueTaskReservationsResponse.class, metaDataMap);
+  }
+
+  public TEnqueueTaskReservationsResponse() {
+  }
+
+  public TEnqueueTaskReservationsResponse(
+    boolean success,
+    TNodeLoad load)
+  {
+    this();
+    this.success = success;
+    setSuccessIsSet(true);
+    this.load = load;
+  }
+
+  /**
+   * Performs a deep copy on <i>other</i>.
+   */
+  public TEnqueueTaskReservationsResponse(TEnqueueTaskReservationsResponse other) {
+    __isset_bit_vector.clear();
+    __isset_bit_vector.or(other.__isset_bit_vector);
+    this.success = other.success;
+    if (other.isSetLoad()) {
+      this.load = new TNodeLoad(other.load);
+    }
+  }
+
+  public TEnqueueTaskReservationsResponse deepCopy() {
+    return new TEnqueueTaskReservationsResponse(this);
+  }
+
+  public void clear() {
+    setSuccessIsSet(false);
+    this.success = false;
+    this.load = null;
+  }
+
+  public boolean isSuccess() {
+    return this.success;
+  }
+
+  public TEnqueueTaskReservationsResponse setSuccess(boolean success) {
+    this.success = success;
+    setSuccessIsSet(true);
+    return this;
+  }
+
+  public void unsetSuccess() {
+    __isset_bit_vector.clear(__SUCCESS_ISSET_ID);
+  }
+
+  /** Returns true if field success is set (has been assigned a value) and false otherwise */
+  public boolean isSetSuccess() {
+    return __isset_bit_vector.get(__SUCCESS_ISSET_ID);
+  }
+
+  public void setSuccessIsSet(boolean value) {
+    __isset_bit_vector.set(__SUCCESS_ISSET_ID, value);
+  }
+
+  public TNodeLoad getLoad() {
+    return this.load;
+  }
+
+  public TEnqueueTaskReservationsResponse setLoad(TNodeLoad load) {
+    this.load = load;
+    return this;
+  }
+
+  public void unsetLoad() {
+    this.load = null;
+  }
+
+  /** Returns true if field load is set (has been assigned a value) and false otherwise */
+  public boolean isSetLoad() {
+    return this.load != null;
+  }
+
+  public void setLoadIsSet(boolean value) {
+    if (!value) {
+      this.load = null;
+    }
+  }
+
+  public void setFieldValue(_Fields field, Object value) {
+    switch (field) {
+    case SUCCESS:
+      if (value == null) {
+        unsetSuccess();
+      } else {
+        setSuccess((Boolean)value);
+      }
+      break;
+
+    case LOAD:
+      if (value == null) {
+        unsetLoad();
+      } else {
+        setLoad((TNodeLoad)value);
+      }
+      break;
+
+    }
+  }
+
+  public Object getFieldValue(_Fields field) {
+    switch (field) {
+    case SUCCESS:
+      return Boolean.valueOf(isSuccess());
+
+    case LOAD:
+      return getLoad();
+
+    }
+    throw new IllegalStateException();
+  }
+
+  /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+  public boolean isSet(_Fields field) {
+    if (field == null) {
+      throw new IllegalArgumentException();
+    }
+
+    switch (field) {
+    case SUCCESS:
+      return isSetSuccess();
+    case LOAD:
+      return isSetLoad();
+    }
+    throw new IllegalStateException();
+  }
+
+  @Override
+  public boolean equals(Object that) {
+    if (that == null)
+      return false;
+    if (that instanceof TEnqueueTaskReservationsResponse)
+      return this.equals((TEnqueueTaskReservationsResponse)that);
+    return false;
+  }
+
+  public boolean equals(TEnqueueTaskReservationsResponse that) {
+    if (that == null)
+      return false;
+
+    boolean this_present_success = true;
+    boolean that_present_success = true;
+    if (this_present_success || that_present_success) {
+      if (!(this_present_success && that_present_success))
+        return false;
+      if (this.success != that.success)
+        return false;
+    }
+
+    boolean this_present_load = true && this.isSetLoad();
+    boolean that_present_load = true && that.isSetLoad();
+    if (this_present_load || that_present_load) {
+      if (!(this_present_load && that_present_load))
+        return false;
+      if (!this.load.equals(that.load))
+        return false;
+    }
+
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    return 0;
+  }
+
+  public int compareTo(TEnqueueTaskReservationsResponse other) {
+    if (!getClass().equals(other.getClass())) {
+      return getClass().getName().compareTo(other.getClass().getName());
+    }
+
+    int lastComparison = 0;
+    TEnqueueTaskReservationsResponse typedOther = (TEnqueueTaskReservationsResponse)other;
+
+    lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(typedOther.isSetSuccess());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetSuccess()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, typedOther.success);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = Boolean.valueOf(isSetLoad()).compareTo(typedOther.isSetLoad());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetLoad()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.load, typedOther.load);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    return 0;
+  }
+
+  public _Fields fieldForId(int fieldId) {
+    return _Fields.findByThriftId(fieldId);
+  }
+
+  public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+    schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+  }
+
+  public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+    schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder("TEnqueueTaskReservationsResponse(");
+    boolean first = true;
+
+    sb.append("success:");
+    sb.append(this.success);
+    first = false;
+    if (!first) sb.append(", ");
+    sb.append("load:");
+    if (this.load == null) {
+      sb.append("null");
+    } else {
+      sb.append(this.load);
+    }
+    first = false;
+    sb.append(")");
+    return sb.toString();
+  }
+
+  public void validate() throws org.apache.thrift.TException {
+    // check for required fields
+  }
+
+  private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+    try {
+      write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+    } catch (org.apache.thrift.TException te) {
+      throw new java.io.IOException(te.getMessage());
+    }
+  }
+
+  private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+    try {
+      // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+      __isset_bit_vector = new BitSet(1);
+      read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+    } catch (org.apache.thrift.TException te) {
+      throw new java.io.IOException(te.getMessage());
+    }
+  }
+
+  private static class TEnqueueTaskReservationsResponseStandardSchemeFactory implements SchemeFactory {
+    public TEnqueueTaskReservationsResponseStandardScheme getScheme() {
+      return new TEnqueueTaskReservationsResponseStandardScheme();
+    }
+  }
+
+  private static class TEnqueueTaskReservationsResponseStandardScheme extends StandardScheme<TEnqueueTaskReservationsResponse> {
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot, TEnqueueTaskReservationsResponse struct) throws org.apache.thrift.TException {
+      org.apache.thrift.protocol.TField schemeField;
+      iprot.readStructBegin();
+      while (true)
+      {
+        schemeField = iprot.readFieldBegin();
+        if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+          break;
+        }
+        switch (schemeField.id) {
+          case 1: // SUCCESS
+            if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+              struct.success = iprot.readBool();
+              struct.setSuccessIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 2: // LOAD
+            if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+              struct.load = new TNodeLoad();
+              struct.load.read(iprot);
+              struct.setLoadIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          default:
+            org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+        }
+        iprot.readFieldEnd();
+      }
+      iprot.readStructEnd();
+
+      // check for required fields of primitive type, which can't be checked in the validate method
+      struct.validate();
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot, TEnqueueTaskReservationsResponse struct) throws org.apache.thrift.TException {
+      struct.validate();
+
+      oprot.writeStructBegin(STRUCT_DESC);
+      oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+      oprot.writeBool(struct.success);
+      oprot.writeFieldEnd();
+      if (struct.load != null) {
+        oprot.writeFieldBegin(LOAD_FIELD_DESC);
+        struct.load.write(oprot);
+        oprot.writeFieldEnd();
+      }
+      oprot.writeFieldStop();
+      oprot.writeStructEnd();
+    }
+
+  }
+
+  private static class TEnqueueTaskReservationsResponseTupleSchemeFactory implements SchemeFactory {
+    public TEnqueueTaskReservationsResponseTupleScheme getScheme() {
+      return new TEnqueueTaskReservationsResponseTupleScheme();
+    }
+  }
+
+  private static class TEnqueueTaskReservationsResponseTupleScheme extends TupleScheme<TEnqueueTaskReservationsResponse> {
+
+    @Override
+    public void write(org.apache.thrift.protocol.TProtocol prot, TEnqueueTaskReservationsResponse struct) throws org.apache.thrift.TException {
+      TTupleProtocol oprot = (TTupleProtocol) prot;
+      BitSet optionals = new BitSet();
+      if (struct.isSetSuccess()) {
+        optionals.set(0);
+      }
+      if (struct.isSetLoad()) {
+        optionals.set(1);
+      }
+      oprot.writeBitSet(optionals, 2);
+      if (struct.isSetSuccess()) {
+        oprot.writeBool(struct.success);
+      }
+      if (struct.isSetLoad()) {
+        struct.load.write(oprot);
+      }
+    }
+
+    @Override
+    public void read(org.apache.thrift.protocol.TProtocol prot, TEnqueueTaskReservationsResponse struct) throws org.apache.thrift.TException {
+      TTupleProtocol iprot = (TTupleProtocol) prot;
+      BitSet incoming = iprot.readBitSet(2);
+      if (incoming.get(0)) {
+        struct.success = iprot.readBool();
+        struct.setSuccessIsSet(true);
+      }
+      if (incoming.get(1)) {
+        struct.load = new TNodeLoad();
+        struct.load.read(iprot);
+        struct.setLoadIsSet(true);
+      }
+    }
+  }
+
+}
+
@@ -34,6 +34,7 @@ public class TFullTaskId implements org.apache.thrift.TBase<TFullTaskId, TFullTa
   private static final org.apache.thrift.protocol.TField REQUEST_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("requestId", org.apache.thrift.protocol.TType.STRING, (short)2);
   private static final org.apache.thrift.protocol.TField APP_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("appId", org.apache.thrift.protocol.TType.STRING, (short)3);
   private static final org.apache.thrift.protocol.TField SCHEDULER_ADDRESS_FIELD_DESC = new org.apache.thrift.protocol.TField("schedulerAddress", org.apache.thrift.protocol.TType.STRUCT, (short)4);
+  private static final org.apache.thrift.protocol.TField TRACE_CONTEXT_FIELD_DESC = new org.apache.thrift.protocol.TField("traceContext", org.apache.thrift.protocol.TType.STRUCT, (short)5);
 
   private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
   static {
@@ -45,13 +46,15 @@ public class TFullTaskId implements org.apache.thrift.TBase<TFullTaskId, TFullTa
   public String requestId; // required
   public String appId; // required
   public THostPort schedulerAddress; // required
+  public TTraceContext traceContext; // optional
 
   /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
   public enum _Fields implements org.apache.thrift.TFieldIdEnum {
     TASK_ID((short)1, "taskId"),
     REQUEST_ID((short)2, "requestId"),
     APP_ID((short)3, "appId"),
-    SCHEDULER_ADDRESS((short)4, "schedulerAddress");
+    SCHEDULER_ADDRESS((short)4, "schedulerAddress"),
+    TRACE_CONTEXT((short)5, "traceContext");
 
     private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -74,6 +77,8 @@ public class TFullTaskId implements org.apache.thrift.TBase<TFullTaskId, TFullTa
           return APP_ID;
         case 4: // SCHEDULER_ADDRESS
           return SCHEDULER_ADDRESS;
+        case 5: // TRACE_CONTEXT
+          return TRACE_CONTEXT;
         default:
           return null;
       }
@@ -114,6 +119,7 @@ public class TFullTaskId implements org.apache.thrift.TBase<TFullTaskId, TFullTa
   }
 
   // isset id assignments
+  private _Fields optionals[] = {_Fields.TRACE_CONTEXT};
   public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
   static {
     Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
@@ -125,6 +131,8 @@ public class TFullTaskId implements org.apache.thrift.TBase<TFullTaskId, TFullTa
         new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
     tmpMap.put(_Fields.SCHEDULER_ADDRESS, new org.apache.thrift.meta_data.FieldMetaData("schedulerAddress", org.apache.thrift.TFieldRequirementType.DEFAULT, 
         new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, THostPort.class)));
+    tmpMap.put(_Fields.TRACE_CONTEXT, new org.apache.thrift.meta_data.FieldMetaData("traceContext", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TTraceContext.class)));
     metaDataMap = Collections.unmodifiableMap(tmpMap);
     org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(TFullTaskId.class, metaDataMap);
   }
@@ -161,6 +169,9 @@ public class TFullTaskId implements org.apache.thrift.TBase<TFullTaskId, TFullTa
     if (other.isSetSchedulerAddress()) {
       this.schedulerAddress = new THostPort(other.schedulerAddress);
     }
+    if (other.isSetTraceContext()) {
+      this.traceContext = new TTraceContext(other.traceContext);
+    }
   }
 
   public TFullTaskId deepCopy() {
@@ -172,6 +183,7 @@ public class TFullTaskId implements org.apache.thrift.TBase<TFullTaskId, TFullTa
     this.requestId = null;
     this.appId = null;
     this.schedulerAddress = null;
+    this.traceContext = null;
   }
 
   public String getTaskId() {
@@ -270,6 +282,30 @@ public class TFullTaskId implements org.apache.thrift.TBase<TFullTaskId, TFullTa
     }
   }
 
+  public TTraceContext getTraceContext() {
+    return this.traceContext;
+  }
+
+  public TFullTaskId setTraceContext(TTraceContext traceContext) {
+    this.traceContext = traceContext;
+    return this;
+  }
+
+  public void unsetTraceContext() {
+    this.traceContext = null;
+  }
+
+  /** Returns true if field traceContext is set (has been assigned a value) and false otherwise */
+  public boolean isSetTraceContext() {
+    return this.traceContext != null;
+  }
+
+  public void setTraceContextIsSet(boolean value) {
+    if (!value) {
+      this.traceContext = null;
+    }
+  }
+
   public void setFieldValue(_Fields field, Object value) {
     switch (field) {
     case TASK_ID:
@@ -304,6 +340,14 @@ public class TFullTaskId implements org.apache.thrift.TBase<TFullTaskId, TFullTa
       }
       break;
 
+    case TRACE_CONTEXT:
+      if (value == null) {
+        unsetTraceContext();
+      } else {
+        setTraceContext((TTraceContext)value);
+      }
+      break;
+
     }
   }
 
@@ -321,6 +365,9 @@ public class TFullTaskId implements org.apache.thrift.TBase<TFullTaskId, TFullTa
     case SCHEDULER_ADDRESS:
       return getSchedulerAddress();
 
+    case TRACE_CONTEXT:
+      return getTraceContext();
+
     }
     throw new IllegalStateException();
   }
@@ -340,6 +387,8 @@ public class TFullTaskId implements org.apache.thrift.TBase<TFullTaskId, TFullTa
       return isSetAppId();
     case SCHEDULER_ADDRESS:
       return isSetSchedulerAddress();
+    case TRACE_CONTEXT:
+      return isSetTraceContext();
     }
     throw new IllegalStateException();
   }
@@ -393,6 +442,15 @@ public class TFullTaskId implements org.apache.thrift.TBase<TFullTaskId, TFullTa
         return false;
     }
 
+    boolean this_present_traceContext = true && this.isSetTraceContext();
+    boolean that_present_traceContext = true && that.isSetTraceContext();
+    if (this_present_traceContext || that_present_traceContext) {
+      if (!(this_present_traceContext && that_present_traceContext))
+        return false;
+      if (!this.traceContext.equals(that.traceContext))
+        return false;
+    }
+
     return true;
   }
 
@@ -449,6 +507,16 @@ public class TFullTaskId implements org.apache.thrift.TBase<TFullTaskId, TFullTa
         return lastComparison;
       }
     }
+    lastComparison = Boolean.valueOf(isSetTraceContext()).compareTo(typedOther.isSetTraceContext());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetTraceContext()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.traceContext, typedOther.traceContext);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
     return 0;
   }
 
@@ -500,6 +568,16 @@ public class TFullTaskId implements org.apache.thrift.TBase<TFullTaskId, TFullTa
       sb.append(this.schedulerAddress);
     }
     first = false;
+    if (isSetTraceContext()) {
+      if (!first) sb.append(", ");
+      sb.append("traceContext:");
+      if (this.traceContext == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.traceContext);
+      }
+      first = false;
+    }
     sb.append(")");
     return sb.toString();
   }
@@ -575,6 +653,15 @@ public class TFullTaskId implements org.apache.thrift.TBase<TFullTaskId, TFullTa
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
             }
             break;
+          case 5: // TRACE_CONTEXT
+            if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+              struct.traceContext = new TTraceContext();
+              struct.traceContext.read(iprot);
+              struct.setTraceContextIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
           default:
             org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
         }
@@ -610,6 +697,13 @@ public class TFullTaskId implements org.apache.thrift.TBase<TFullTaskId, TFullTa
         struct.schedulerAddress.write(oprot);
         oprot.writeFieldEnd();
       }
+      if (struct.traceContext != null) {
+        if (struct.isSetTraceContext()) {
+          oprot.writeFieldBegin(TRACE_CONTEXT_FIELD_DESC);
+          struct.traceContext.write(oprot);
+          oprot.writeFieldEnd();
+        }
+      }
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
@@ -640,7 +734,10 @@ public class TFullTaskId implements org.apache.thrift.TBase<TFullTaskId, TFullTa
       if (struct.isSetSchedulerAddress()) {
         optionals.set(3);
       }
-      oprot.writeBitSet(optionals, 4);
+      if (struct.isSetTraceContext()) {
+        optionals.set(4);
+      }
+      oprot.writeBitSet(optionals, 5);
       if (struct.isSetTaskId()) {
         oprot.writeString(struct.taskId);
       }
@@ -653,12 +750,15 @@ public class TFullTaskId implements org.apache.thrift.TBase<TFullTaskId, TFullTa
       if (struct.isSetSchedulerAddress()) {
         struct.schedulerAddress.write(oprot);
       }
+      if (struct.isSetTraceContext()) {
+        struct.traceContext.write(oprot);
+      }
     }
 
     @Override
     public void read(org.apache.thrift.protocol.TProtocol prot, TFullTaskId struct) throws org.apache.thrift.TException {
       TTupleProtocol iprot = (TTupleProtocol) prot;
-      BitSet incoming = iprot.readBitSet(4);
+      BitSet incoming = iprot.readBitSet(5);
       if (incoming.get(0)) {
         struct.taskId = iprot.readString();
         struct.setTaskIdIsSet(true);
@@ -676,6 +776,11 @@ public class TFullTaskId implements org.apache.thrift.TBase<TFullTaskId, TFullTa
         struct.schedulerAddress.read(iprot);
         struct.setSchedulerAddressIsSet(true);
       }
+      if (incoming.get(4)) {
+        struct.traceContext = new TTraceContext();
+        struct.traceContext.read(iprot);
+        struct.setTraceContextIsSet(true);
+      }
     }
   }
 
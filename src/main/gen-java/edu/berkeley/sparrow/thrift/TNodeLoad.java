@@ -0,0 +1,578 @@
+/**
+ * Autogenerated by Thrift Compiler (0.8.0)
+ *
+ * DO NOT EDIT UNLESS YOU ARE SURE THAT YOU KNOW WHAT YOU ARE DOING
+ *  @generated
+ */
+package edu.berkeley.sparrow.thrift;
+
+import org.apache.thrift.scheme.IScheme;
+import org.apache.thrift.scheme.SchemeFactory;
+import org.apache.thrift.scheme.StandardScheme;
+
+import org.apache.thrift.scheme.TupleScheme;
+import org.apache.thrift.protocol.TTupleProtocol;
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.HashMap;
+import java.util.EnumMap;
+import java.util.Set;
+import java.util.HashSet;
+import java.util.EnumSet;
+import java.util.Collections;
+import java.util.BitSet;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class TNodeLoad implements org.apache.thrift.TBase<TNodeLoad, TNodeLoad._Fields>, java.io.Serializable, Cloneable {
+  private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("TNodeLoad");
+
+  private static final org.apache.thrift.protocol.TField QUEUE_LENGTH_FIELD_DESC = new org.apache.thrift.protocol.TField("queueLength", org.apache.thrift.protocol.TType.I32, (short)1);
+  private static final org.apache.thrift.protocol.TField FREE_RESOURCES_FIELD_DESC = new org.apache.thrift.protocol.TField("freeResources", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+  private static final org.apache.thrift.protocol.TField EXPECTED_WAIT_MILLIS_FIELD_DESC = new org.apache.thrift.protocol.TField("expectedWaitMillis", org.apache.thrift.protocol.TType.I64, (short)3);
+
+  private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+  static {
+    schemes.put(StandardScheme.class, new TNodeLoadStandardSchemeFactory());
+    schemes.put(TupleScheme.class, new TNodeLoadTupleSchemeFactory());
+  }
+
+  public int queueLength; // required
+  public TResourceVector freeResources; // required
+  public long expectedWaitMillis; // optional
+
+  /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+  public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+    QUEUE_LENGTH((short)1, "queueLength"),
+    FREE_RESOURCES((short)2, "freeResources"),
+    EXPECTED_WAIT_MILLIS((short)3, "expectedWaitMillis");
+
+    private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+    static {
+      for (_Fields field : EnumSet.allOf(_Fields.class)) {
+        byName.put(field.getFieldName(), field);
+      }
+    }
+
+    /**
+     * Find the _Fields constant that matches fieldId, or null if its not found.
+     */
+    public static _Fields findByThriftId(int fieldId) {
+      switch(fieldId) {
+        case 1: // QUEUE_LENGTH
+          return QUEUE_LENGTH;
+        case 2: // FREE_RESOURCES
+          return FREE_RESOURCES;
+        case 3: // EXPECTED_WAIT_MILLIS
+          return EXPECTED_WAIT_MILLIS;
+        default:
+          return null;
+      }
+    }
+
+    /**
+     * Find the _Fields constant that matches fieldId, throwing an exception
+     * if it is not found.
+     */
+    public static _Fields findByThriftIdOrThrow(int fieldId) {
+      _Fields fields = findByThriftId(fieldId);
+      if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+      return fields;
+    }
+
+    /**
+     * Find the _Fields constant that matches name, or null if its not found.
+     */
+    public static _Fields findByName(String name) {
+      return byName.get(name);
+    }
+
+    private final short _thriftId;
+    private final String _fieldName;
+
+    _Fields(short thriftId, String fieldName) {
+      _thriftId = thriftId;
+      _fieldName = fieldName;
+    }
+
+    public short getThriftFieldId() {
+      return _thriftId;
+    }
+
+    public String getFieldName() {
+      return _fieldName;
+    }
+  }
+
+  // isset id assignments
+  private static final int __QUEUELENGTH_ISSET_ID = 0;
+  private static final int __EXPECTEDWAITMILLIS_ISSET_ID = 1;
+  private BitSet __isset_bit_vector = new BitSet(2);
+  private _Fields optionals[] = {_Fields.EXPECTED_WAIT_MILLIS};
+  public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+  static {
+    Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+    tmpMap.put(_Fields.QUEUE_LENGTH, new org.apache.thrift.meta_data.FieldMetaData("queueLength", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+    tmpMap.put(_Fields.FREE_RESOURCES, new org.apache.thrift.meta_data.FieldMetaData("freeResources", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+        new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TResourceVector.class)));
+    tmpMap.put(_Fields.EXPECTED_WAIT_MILLIS, new org.apache.thrift.meta_data.FieldMetaData("expectedWaitMillis", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+    metaDataMap = Collections.unmodifiableMap(tmpMap);
+    org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(TNodeLoad.class, metaDataMap);
+  }
+
+  public TNodeLoad() {
+  }
+
+  public TNodeLoad(
+    int queueLength,
+    TResourceVector freeResources)
+  {
+    this();
+    this.queueLength = queueLength;
+    setQueueLengthIsSet(true);
+    this.freeResources = freeResources;
+  }
+
+  /**
+   * Performs a deep copy on <i>other</i>.
+   */
+  public TNodeLoad(TNodeLoad other) {
+    __isset_bit_vector.clear();
+    __isset_bit_vector.or(other.__isset_bit_vector);
+    this.queueLength = other.queueLength;
+    if (other.isSetFreeResources()) {
+      this.freeResources = new TResourceVector(other.freeResources);
+    }
+    this.expectedWaitMillis = other.expectedWaitMillis;
+  }
+
+  public TNodeLoad deepCopy() {
+    return new TNodeLoad(this);
+  }
+
+  public void clear() {
+    setQueueLengthIsSet(false);
+    this.queueLength = 0;
+    this.freeResources = null;
+    setExpectedWaitMillisIsSet(false);
+    this.expectedWaitMillis = 0;
+  }
+
+  public int getQueueLength() {
+    return this.queueLength;
+  }
+
+  public TNodeLoad setQueueLength(int queueLength) {
+    this.queueLength = queueLength;
+    setQueueLengthIsSet(true);
+    return this;
+  }
+
+  public void unsetQueueLength() {
+    __isset_bit_vector.clear(__QUEUELENGTH_ISSET_ID);
+  }
+
+  /** Returns true if field queueLength is set (has been assigned a value) and false otherwise */
+  public boolean isSetQueueLength() {
+    return __isset_bit_vector.get(__QUEUELENGTH_ISSET_ID);
+  }
+
+  public void setQueueLengthIsSet(boolean value) {
+    __isset_bit_vector.set(__QUEUELENGTH_ISSET_ID, value);
+  }
+
+  public TResourceVector getFreeResources() {
+    return this.freeResources;
+  }
+
+  public TNodeLoad setFreeResources(TResourceVector freeResources) {
+    this.freeResources = freeResources;
+    return this;
+  }
+
+  public void unsetFreeResources() {
+    this.freeResources = null;
+  }
+
+  /** Returns true if field freeResources is set (has been assigned a value) and false otherwise */
+  public boolean isSetFreeResources() {
+    return this.freeResources != null;
+  }
+
+  public void setFreeResourcesIsSet(boolean value) {
+    if (!value) {
+      this.freeResources = null;
+    }
+  }
+
+  public long getExpectedWaitMillis() {
+    return this.expectedWaitMillis;
+  }
+
+  public TNodeLoad setExpectedWaitMillis(long expectedWaitMillis) {
+    this.expectedWaitMillis = expectedWaitMillis;
+    setExpectedWaitMillisIsSet(true);
+    return this;
+  }
+
+  public void unsetExpectedWaitMillis() {
+    __isset_bit_vector.clear(__EXPECTEDWAITMILLIS_ISSET_ID);
+  }
+
+  /** Returns true if field expectedWaitMillis is set (has been assigned a value) and false otherwise */
+  public boolean isSetExpectedWaitMillis() {
+    return __isset_bit_vector.get(__EXPECTEDWAITMILLIS_ISSET_ID);
+  }
+
+  public void setExpectedWaitMillisIsSet(boolean value) {
+    __isset_bit_vector.set(__EXPECTEDWAITMILLIS_ISSET_ID, value);
+  }
+
+  public void setFieldValue(_Fields field, Object value) {
+    switch (field) {
+    case QUEUE_LENGTH:
+      if (value == null) {
+        unsetQueueLength();
+      } else {
+        setQueueLength((Integer)value);
+      }
+      break;
+
+    case FREE_RESOURCES:
+      if (value == null) {
+        unsetFreeResources();
+      } else {
+        setFreeResources((TResourceVector)value);
+      }
+      break;
+
+    case EXPECTED_WAIT_MILLIS:
+      if (value == null) {
+        unsetExpectedWaitMillis();
+      } else {
+        setExpectedWaitMillis((Long)value);
+      }
+      break;
+
+    }
+  }
+
+  public Object getFieldValue(_Fields field) {
+    switch (field) {
+    case QUEUE_LENGTH:
+      return Integer.valueOf(getQueueLength());
+
+    case FREE_RESOURCES:
+      return getFreeResources();
+
+    case EXPECTED_WAIT_MILLIS:
+      return Long.valueOf(getExpectedWaitMillis());
+
+    }
+    throw new IllegalStateException();
+  }
+
+  /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+  public boolean isSet(_Fields field) {
+    if (field == null) {
+      throw new IllegalArgumentException();
+    }
+
+    switch (field) {
+    case QUEUE_LENGTH:
+      return isSetQueueLength();
+    case FREE_RESOURCES:
+      return isSetFreeResources();
+    case EXPECTED_WAIT_MILLIS:
+      return isSetExpectedWaitMillis();
+    }
+    throw new IllegalStateException();
+  }
+
+  @Override
+  public boolean equals(Object that) {
+    if (that == null)
+      return false;
+    if (that instanceof TNodeLoad)
+      return this.equals((TNodeLoad)that);
+    return false;
+  }
+
+  public boolean equals(TNodeLoad that) {
+    if (that == null)
+      return false;
+
+    boolean this_present_queueLength = true;
+    boolean that_present_queueLength = true;
+    if (this_present_queueLength || that_present_queueLength) {
+      if (!(this_present_queueLength && that_present_queueLength))
+        return false;
+      if (this.queueLength != that.queueLength)
+        return false;
+    }
+
+    boolean this_present_freeResources = true && this.isSetFreeResources();
+    boolean that_present_freeResources = true && that.isSetFreeResources();
+    if (this_present_freeResources || that_present_freeResources) {
+      if (!(this_present_freeResources && that_present_freeResources))
+        return false;
+      if (!this.freeResources.equals(that.freeResources))
+        return false;
+    }
+
+    boolean this_present_expectedWaitMillis = true && this.isSetExpectedWaitMillis();
+    boolean that_present_expectedWaitMillis = true && that.isSetExpectedWaitMillis();
+    if (this_present_expectedWaitMillis || that_present_expectedWaitMillis) {
+      if (!(this_present_expectedWaitMillis && that_present_expectedWaitMillis))
+        return false;
+      if (this.expectedWaitMillis != that.expectedWaitMillis)
+        return false;
+    }
+
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    return 0;
+  }
+
+  public int compareTo(TNodeLoad other) {
+    if (!getClass().equals(other.getClass())) {
+      return getClass().getName().compareTo(other.getClass().getName());
+    }
+
+    int lastComparison = 0;
+    TNodeLoad typedOther = (TNodeLoad)other;
+
+    lastComparison = Boolean.valueOf(isSetQueueLength()).compareTo(typedOther.isSetQueueLength());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetQueueLength()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.queueLength, typedOther.queueLength);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = Boolean.valueOf(isSetFreeResources()).compareTo(typedOther.isSetFreeResources());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetFreeResources()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.freeResources, typedOther.freeResources);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = Boolean.valueOf(isSetExpectedWaitMillis()).compareTo(typedOther.isSetExpectedWaitMillis());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetExpectedWaitMillis()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.expectedWaitMillis, typedOther.expectedWaitMillis);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    return 0;
+  }
+
+  public _Fields fieldForId(int fieldId) {
+    return _Fields.findByThriftId(fieldId);
+  }
+
+  public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+    schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+  }
+
+  public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+    schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder("TNodeLoad(");
+    boolean first = true;
+
+    sb.append("queueLength:");
+    sb.append(this.queueLength);
+    first = false;
+    if (!first) sb.append(", ");
+    sb.append("freeResources:");
+    if (this.freeResources == null) {
+      sb.append("null");
+    } else {
+      sb.append(this.freeResources);
+    }
+    first = false;
+    if (isSetExpectedWaitMillis()) {
+      if (!first) sb.append(", ");
+      sb.append("expectedWaitMillis:");
+      sb.append(this.expectedWaitMillis);
+      first = false;
+    }
+    sb.append(")");
+    return sb.toString();
+  }
+
+  public void validate() throws org.apache.thrift.TException {
+    // check for required fields
+  }
+
+  private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+    try {
+      write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+    } catch (org.apache.thrift.TException te) {
+      throw new java.io.IOException(te.getMessage());
+    }
+  }
+
+  private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+    try {
+      // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+      __isset_bit_vector = new BitSet(1);
+      read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+    } catch (org.apache.thrift.TException te) {
+      throw new java.io.IOException(te.getMessage());
+    }
+  }
+
+  private static class TNodeLoadStandardSchemeFactory implements SchemeFactory {
+    public TNodeLoadStandardScheme getScheme() {
+      return new TNodeLoadStandardScheme();
+    }
+  }
+
+  private static class TNodeLoadStandardScheme extends StandardScheme<TNodeLoad> {
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot, TNodeLoad struct) throws org.apache.thrift.TException {
+      org.apache.thrift.protocol.TField schemeField;
+      iprot.readStructBegin();
+      while (true)
+      {
+        schemeField = iprot.readFieldBegin();
+        if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+          break;
+        }
+        switch (schemeField.id) {
+          case 1: // QUEUE_LENGTH
+            if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+              struct.queueLength = iprot.readI32();
+              struct.setQueueLengthIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 2: // FREE_RESOURCES
+            if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+              struct.freeResources = new TResourceVector();
+              struct.freeResources.read(iprot);
+              struct.setFreeResourcesIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 3: // EXPECTED_WAIT_MILLIS
+            if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+              struct.expectedWaitMillis = iprot.readI64();
+              struct.setExpectedWaitMillisIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          default:
+            org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+        }
+        iprot.readFieldEnd();
+      }
+      iprot.readStructEnd();
+
+      // check for required fields of primitive type, which can't be checked in the validate method
+      struct.validate();
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot, TNodeLoad struct) throws org.apache.thrift.TException {
+      struct.validate();
+
+      oprot.writeStructBegin(STRUCT_DESC);
+      oprot.writeFieldBegin(QUEUE_LENGTH_FIELD_DESC);
+      oprot.writeI32(struct.queueLength);
+      oprot.writeFieldEnd();
+      if (struct.freeResources != null) {
+        oprot.writeFieldBegin(FREE_RESOURCES_FIELD_DESC);
+        struct.freeResources.write(oprot);
+        oprot.writeFieldEnd();
+      }
+      if (struct.isSetExpectedWaitMillis()) {
+        oprot.writeFieldBegin(EXPECTED_WAIT_MILLIS_FIELD_DESC);
+        oprot.writeI64(struct.expectedWaitMillis);
+        oprot.writeFieldEnd();
+      }
+      oprot.writeFieldStop();
+      oprot.writeStructEnd();
+    }
+
+  }
+
+  private static class TNodeLoadTupleSchemeFactory implements SchemeFactory {
+    public TNodeLoadTupleScheme getScheme() {
+      return new TNodeLoadTupleScheme();
+    }
+  }
+
+  private static class TNodeLoadTupleScheme extends TupleScheme<TNodeLoad> {
+
+    @Override
+    public void write(org.apache.thrift.protocol.TProtocol prot, TNodeLoad struct) throws org.apache.thrift.TException {
+      TTupleProtocol oprot = (TTupleProtocol) prot;
+      BitSet optionals = new BitSet();
+      if (struct.isSetQueueLength()) {
+        optionals.set(0);
+      }
+      if (struct.isSetFreeResources()) {
+        optionals.set(1);
+      }
+      if (struct.isSetExpectedWaitMillis()) {
+        optionals.set(2);
+      }
+      oprot.writeBitSet(optionals, 3);
+      if (struct.isSetQueueLength()) {
+        oprot.writeI32(struct.queueLength);
+      }
+      if (struct.isSetFreeResources()) {
+        struct.freeResources.write(oprot);
+      }
+      if (struct.isSetExpectedWaitMillis()) {
+        oprot.writeI64(struct.expectedWaitMillis);
+      }
+    }
+
+    @Override
+    public void read(org.apache.thrift.protocol.TProtocol prot, TNodeLoad struct) throws org.apache.thrift.TException {
+      TTupleProtocol iprot = (TTupleProtocol) prot;
+      BitSet incoming = iprot.readBitSet(3);
+      if (incoming.get(0)) {
+        struct.queueLength = iprot.readI32();
+        struct.setQueueLengthIsSet(true);
+      }
+      if (incoming.get(1)) {
+        struct.freeResources = new TResourceVector();
+        struct.freeResources.read(iprot);
+        struct.setFreeResourcesIsSet(true);
+      }
+      if (incoming.get(2)) {
+        struct.expectedWaitMillis = iprot.readI64();
+        struct.setExpectedWaitMillisIsSet(true);
+      }
+    }
+  }
+
+}
+
@@ -32,6 +32,7 @@ public class TNodeState implements org.apache.thrift.TBase<TNodeState, TNodeStat
 
   private static final org.apache.thrift.protocol.TField SPARROW_USAGE_FIELD_DESC = new org.apache.thrift.protocol.TField("sparrowUsage", org.apache.thrift.protocol.TType.STRUCT, (short)1);
   private static final org.apache.thrift.protocol.TField EXTERNAL_USAGE_FIELD_DESC = new org.apache.thrift.protocol.TField("externalUsage", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+  private static final org.apache.thrift.protocol.TField APPS_FIELD_DESC = new org.apache.thrift.protocol.TField("apps", org.apache.thrift.protocol.TType.LIST, (short)3);
 
   private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
   static {
@@ -41,11 +42,13 @@ public class TNodeState implements org.apache.thrift.TBase<TNodeState, TNodeStat
 
   public TResourceVector sparrowUsage; // required
   public TResourceVector externalUsage; // required
+  public List<String> apps; // optional
 
   /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
   public enum _Fields implements org.apache.thrift.TFieldIdEnum {
     SPARROW_USAGE((short)1, "sparrowUsage"),
-    EXTERNAL_USAGE((short)2, "externalUsage");
+    EXTERNAL_USAGE((short)2, "externalUsage"),
+    APPS((short)3, "apps");
 
     private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -64,6 +67,8 @@ public class TNodeState implements org.apache.thrift.TBase<TNodeState, TNodeStat
           return SPARROW_USAGE;
         case 2: // EXTERNAL_USAGE
           return EXTERNAL_USAGE;
+        case 3: // APPS
+          return APPS;
         default:
           return null;
       }
@@ -104,6 +109,7 @@ public class TNodeState implements org.apache.thrift.TBase<TNodeState, TNodeStat
   }
 
   // isset id assignments
+  private _Fields optionals[] = {_Fields.APPS};
   public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
   static {
     Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
@@ -111,6 +117,9 @@ public class TNodeState implements org.apache.thrift.TBase<TNodeState, TNodeStat
         new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TResourceVector.class)));
     tmpMap.put(_Fields.EXTERNAL_USAGE, new org.apache.thrift.meta_data.FieldMetaData("externalUsage", org.apache.thrift.TFieldRequirementType.DEFAULT, 
         new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TResourceVector.class)));
+    tmpMap.put(_Fields.APPS, new org.apache.thrift.meta_data.FieldMetaData("apps", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+            new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
     metaDataMap = Collections.unmodifiableMap(tmpMap);
     org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(TNodeState.class, metaDataMap);
   }
@@ -137,6 +146,13 @@ public class TNodeState implements org.apache.thrift.TBase<TNodeState, TNodeStat
     if (other.isSetExternalUsage()) {
       this.externalUsage = new TResourceVector(other.externalUsage);
     }
+    if (other.isSetApps()) {
+      List<String> __this__apps = new ArrayList<String>();
+      for (String other_element : other.apps) {
+        __this__apps.add(other_element);
+      }
+      this.apps = __this__apps;
+    }
   }
 
   public TNodeState deepCopy() {
@@ -146,6 +162,7 @@ public class TNodeState implements org.apache.thrift.TBase<TNodeState, TNodeStat
   public void clear() {
     this.sparrowUsage = null;
     this.externalUsage = null;
+    this.apps = null;
   }
 
   public TResourceVector getSparrowUsage() {
@@ -196,6 +213,45 @@ public class TNodeState implements org.apache.thrift.TBase<TNodeState, TNodeStat
     }
   }
 
+  public int getAppsSize() {
+    return (this.apps == null) ? 0 : this.apps.size();
+  }
+
+  public java.util.Iterator<String> getAppsIterator() {
+    return (this.apps == null) ? null : this.apps.iterator();
+  }
+
+  public void addToApps(String elem) {
+    if (this.apps == null) {
+      this.apps = new ArrayList<String>();
+    }
+    this.apps.add(elem);
+  }
+
+  public List<String> getApps() {
+    return this.apps;
+  }
+
+  public TNodeState setApps(List<String> apps) {
+    this.apps = apps;
+    return this;
+  }
+
+  public void unsetApps() {
+    this.apps = null;
+  }
+
+  /** Returns true if field apps is set (has been assigned a value) and false otherwise */
+  public boolean isSetApps() {
+    return this.apps != null;
+  }
+
+  public void setAppsIsSet(boolean value) {
+    if (!value) {
+      this.apps = null;
+    }
+  }
+
   public void setFieldValue(_Fields field, Object value) {
     switch (field) {
     case SPARROW_USAGE:
@@ -214,6 +270,14 @@ public class TNodeState implements org.apache.thrift.TBase<TNodeState, TNodeStat
       }
       break;
 
+    case APPS:
+      if (value == null) {
+        unsetApps();
+      } else {
+        setApps((List<String>)value);
+      }
+      break;
+
     }
   }
 
@@ -225,6 +289,9 @@ public class TNodeState implements org.apache.thrift.TBase<TNodeState, TNodeStat
     case EXTERNAL_USAGE:
       return getExternalUsage();
 
+    case APPS:
+      return getApps();
+
     }
     throw new IllegalStateException();
   }
@@ -240,6 +307,8 @@ public class TNodeState implements org.apache.thrift.TBase<TNodeState, TNodeStat
       return isSetSparrowUsage();
     case EXTERNAL_USAGE:
       return isSetExternalUsage();
+    case APPS:
+      return isSetApps();
     }
     throw new IllegalStateException();
   }
@@ -275,6 +344,15 @@ public class TNodeState implements org.apache.thrift.TBase<TNodeState, TNodeStat
         return false;
     }
 
+    boolean this_present_apps = true && this.isSetApps();
+    boolean that_present_apps = true && that.isSetApps();
+    if (this_present_apps || that_present_apps) {
+      if (!(this_present_apps && that_present_apps))
+        return false;
+      if (!this.apps.equals(that.apps))
+        return false;
+    }
+
     return true;
   }
 
@@ -311,6 +389,16 @@ public class TNodeState implements org.apache.thrift.TBase<TNodeState, TNodeStat
         return lastComparison;
       }
     }
+    lastComparison = Boolean.valueOf(isSetApps()).compareTo(typedOther.isSetApps());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetApps()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.apps, typedOther.apps);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
     return 0;
   }
 
@@ -346,6 +434,16 @@ public class TNodeState implements org.apache.thrift.TBase<TNodeState, TNodeStat
       sb.append(this.externalUsage);
     }
     first = false;
+    if (isSetApps()) {
+      if (!first) sb.append(", ");
+      sb.append("apps:");
+      if (this.apps == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.apps);
+      }
+      first = false;
+    }
     sb.append(")");
     return sb.toString();
   }
@@ -406,6 +504,24 @@ public class TNodeState implements org.apache.thrift.TBase<TNodeState, TNodeStat
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
             }
             break;
+          case 3: // APPS
+            if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+              {
+                org.apache.thrift.protocol.TList _list24 = iprot.readListBegin();
+                struct.apps = new ArrayList<String>(_list24.size);
+                for (int _i25 = 0; _i25 < _list24.size; ++_i25)
+                {
+                  String _elem26; // required
+                  _elem26 = iprot.readString();
+                  struct.apps.add(_elem26);
+                }
+                iprot.readListEnd();
+              }
+              struct.setAppsIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
           default:
             org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
         }
@@ -431,6 +547,20 @@ public class TNodeState implements org.apache.thrift.TBase<TNodeState, TNodeStat
         struct.externalUsage.write(oprot);
         oprot.writeFieldEnd();
       }
+      if (struct.apps != null) {
+        if (struct.isSetApps()) {
+          oprot.writeFieldBegin(APPS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.apps.size()));
+            for (String _iter27 : struct.apps)
+            {
+              oprot.writeString(_iter27);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+      }
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
@@ -455,19 +585,31 @@ public class TNodeState implements org.apache.thrift.TBase<TNodeState, TNodeStat
       if (struct.isSetExternalUsage()) {
         optionals.set(1);
       }
-      oprot.writeBitSet(optionals, 2);
+      if (struct.isSetApps()) {
+        optionals.set(2);
+      }
+      oprot.writeBitSet(optionals, 3);
       if (struct.isSetSparrowUsage()) {
         struct.sparrowUsage.write(oprot);
       }
       if (struct.isSetExternalUsage()) {
         struct.externalUsage.write(oprot);
       }
+      if (struct.isSetApps()) {
+        {
+          oprot.writeI32(struct.apps.size());
+          for (String _iter28 : struct.apps)
+          {
+            oprot.writeString(_iter28);
+          }
+        }
+      }
     }
 
     @Override
     public void read(org.apache.thrift.protocol.TProtocol prot, TNodeState struct) throws org.apache.thrift.TException {
       TTupleProtocol iprot = (TTupleProtocol) prot;
-      BitSet incoming = iprot.readBitSet(2);
+      BitSet incoming = iprot.readBitSet(3);
       if (incoming.get(0)) {
         struct.sparrowUsage = new TResourceVector();
         struct.sparrowUsage.read(iprot);
@@ -478,6 +620,19 @@ public class TNodeState implements org.apache.thrift.TBase<TNodeState, TNodeStat
         struct.externalUsage.read(iprot);
         struct.setExternalUsageIsSet(true);
       }
+      if (incoming.get(2)) {
+        {
+          org.apache.thrift.protocol.TList _list29 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+          struct.apps = new ArrayList<String>(_list29.size);
+          for (int _i30 = 0; _i30 < _list29.size; ++_i30)
+          {
+            String _elem31; // required
+            _elem31 = iprot.readString();
+            struct.apps.add(_elem31);
+          }
+        }
+        struct.setAppsIsSet(true);
+      }
     }
   }
 
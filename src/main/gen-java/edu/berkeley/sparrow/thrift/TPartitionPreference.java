@@ -0,0 +1,474 @@
+/**
+ * Autogenerated by Thrift Compiler (0.8.0)
+ *
+ * DO NOT EDIT UNLESS YOU ARE SURE THAT YOU KNOW WHAT YOU ARE DOING
+ *  @generated
+ */
+package edu.berkeley.sparrow.thrift;
+
+import org.apache.thrift.scheme.IScheme;
+import org.apache.thrift.scheme.SchemeFactory;
+import org.apache.thrift.scheme.StandardScheme;
+
+import org.apache.thrift.scheme.TupleScheme;
+import org.apache.thrift.protocol.TTupleProtocol;
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.HashMap;
+import java.util.EnumMap;
+import java.util.Set;
+import java.util.HashSet;
+import java.util.EnumSet;
+import java.util.Collections;
+import java.util.BitSet;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class TPartitionPreference implements org.apache.thrift.TBase<TPartitionPreference, TPartitionPreference._Fields>, java.io.Serializable, Cloneable {
+  private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("TPartitionPreference");
+
+  private static final org.apache.thrift.protocol.TField NUM_PARTITIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("numPartitions", org.apache.thrift.protocol.TType.I32, (short)1);
+  private static final org.apache.thrift.protocol.TField PARTITION_FIELD_DESC = new org.apache.thrift.protocol.TField("partition", org.apache.thrift.protocol.TType.I32, (short)2);
+
+  private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+  static {
+    schemes.put(StandardScheme.class, new TPartitionPreferenceStandardSchemeFactory());
+    schemes.put(TupleScheme.class, new TPartitionPreferenceTupleSchemeFactory());
+  }
+
+  public int numPartitions; // required
+  public int partition; // required
+
+  /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+  public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+    NUM_PARTITIONS((short)1, "numPartitions"),
+    PARTITION((short)2, "partition");
+
+    private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+    static {
+      for (_Fields field : EnumSet.allOf(_Fields.class)) {
+        byName.put(field.getFieldName(), field);
+      }
+    }
+
+    /**
+     * Find the _Fields constant that matches fieldId, or null if its not found.
+     */
+    public static _Fields findByThriftId(int fieldId) {
+      switch(fieldId) {
+        case 1: // NUM_PARTITIONS
+          return NUM_PARTITIONS;
+        case 2: // PARTITION
+          return PARTITION;
+        default:
+          return null;
+      }
+    }
+
+    /**
+     * Find the _Fields constant that matches fieldId, throwing an exception
+     * if it is not found.
+     */
+    public static _Fields findByThriftIdOrThrow(int fieldId) {
+      _Fields fields = findByThriftId(fieldId);
+      if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+      return fields;
+    }
+
+    /**
+     * Find the _Fields constant that matches name, or null if its not found.
+     */
+    public static _Fields findByName(String name) {
+      return byName.get(name);
+    }
+
+    private final short _thriftId;
+    private final String _fieldName;
+
+    _Fields(short thriftId, String fieldName) {
+      _thriftId = thriftId;
+      _fieldName = fieldName;
+    }
+
+    public short getThriftFieldId() {
+      return _thriftId;
+    }
+
+    public String getFieldName() {
+      return _fieldName;
+    }
+  }
+
+  // isset id assignments
+  private static final int __NUMPARTITIONS_ISSET_ID = 0;
+  private static final int __PARTITION_ISSET_ID = 1;
+  private BitSet __isset_bit_vector = new BitSet(2);
+  public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+  static {
+    Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+    tmpMap.put(_Fields.NUM_PARTITIONS, new org.apache.thrift.meta_data.FieldMetaData("numPartitions", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+    tmpMap.put(_Fields.PARTITION, new org.apache.thrift.meta_data.FieldMetaData("partition", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+    metaDataMap = Collections.unmodifiableMap(tmpMap);
+    org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(TPartitionPreference.class, metaDataMap);
+  }
+
+  public TPartitionPreference() {
+  }
+
+  public TPartitionPreference(
+    int numPartitions,
+    int partition)
+  {
+    this();
+    this.numPartitions = numPartitions;
+    setNumPartitionsIsSet(true);
+    this.partition = partition;
+    setPartitionIsSet(true);
+  }
+
+  /**
+   * Performs a deep copy on <i>other</i>.
+   */
+  public TPartitionPreference(TPartitionPreference other) {
+    __isset_bit_vector.clear();
+    __isset_bit_vector.or(other.__isset_bit_vector);
+    this.numPartitions = other.numPartitions;
+    this.partition = other.partition;
+  }
+
+  public TPartitionPreference deepCopy() {
+    return new TPartitionPreference(this);
+  }
+
+  public void clear() {
+    setNumPartitionsIsSet(false);
+    this.numPartitions = 0;
+    setPartitionIsSet(false);
+    this.partition = 0;
+  }
+
+  public int getNumPartitions() {
+    return this.numPartitions;
+  }
+
+  public TPartitionPreference setNumPartitions(int numPartitions) {
+    this.numPartitions = numPartitions;
+    setNumPartitionsIsSet(true);
+    return this;
+  }
+
+  public void unsetNumPartitions() {
+    __isset_bit_vector.clear(__NUMPARTITIONS_ISSET_ID);
+  }
+
+  /** Returns true if field numPartitions is set (has been assigned a value) and false otherwise */
+  public boolean isSetNumPartitions() {
+    return __isset_bit_vector.get(__NUMPARTITIONS_ISSET_ID);
+  }
+
+  public void setNumPartitionsIsSet(boolean value) {
+    __isset_bit_vector.set(__NUMPARTITIONS_ISSET_ID, value);
+  }
+
+  public int getPartition() {
+    return this.partition;
+  }
+
+  public TPartitionPreference setPartition(int partition) {
+    this.partition = partition;
+    setPartitionIsSet(true);
+    return this;
+  }
+
+  public void unsetPartition() {
+    __isset_bit_vector.clear(__PARTITION_ISSET_ID);
+  }
+
+  /** Returns true if field partition is set (has been assigned a value) and false otherwise */
+  public boolean isSetPartition() {
+    return __isset_bit_vector.get(__PARTITION_ISSET_ID);
+  }
+
+  public void setPartitionIsSet(boolean value) {
+    __isset_bit_vector.set(__PARTITION_ISSET_ID, value);
+  }
+
+  public void setFieldValue(_Fields field, Object value) {
+    switch (field) {
+    case NUM_PARTITIONS:
+      if (value == null) {
+        unsetNumPartitions();
+      } else {
+        setNumPartitions((Integer)value);
+      }
+      break;
+
+    case PARTITION:
+      if (value == null) {
+        unsetPartition();
+      } else {
+        setPartition((Integer)value);
+      }
+      break;
+
+    }
+  }
+
+  public Object getFieldValue(_Fields field) {
+    switch (field) {
+    case NUM_PARTITIONS:
+      return Integer.valueOf(getNumPartitions());
+
+    case PARTITION:
+      return Integer.valueOf(getPartition());
+
+    }
+    throw new IllegalStateException();
+  }
+
+  /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+  public boolean isSet(_Fields field) {
+    if (field == null) {
+      throw new IllegalArgumentException();
+    }
+
+    switch (field) {
+    case NUM_PARTITIONS:
+      return isSetNumPartitions();
+    case PARTITION:
+      return isSetPartition();
+    }
+    throw new IllegalStateException();
+  }
+
+  @Override
+  public boolean equals(Object that) {
+    if (that == null)
+      return false;
+    if (that instanceof TPartitionPreference)
+      return this.equals((TPartitionPreference)that);
+    return false;
+  }
+
+  public boolean equals(TPartitionPreference that) {
+    if (that == null)
+      return false;
+
+    boolean this_present_numPartitions = true;
+    boolean that_present_numPartitions = true;
+    if (this_present_numPartitions || that_present_numPartitions) {
+      if (!(this_present_numPartitions && that_present_numPartitions))
+        return false;
+      if (this.numPartitions != that.numPartitions)
+        return false;
+    }
+
+    boolean this_present_partition = true;
+    boolean that_present_partition = true;
+    if (this_present_partition || that_present_partition) {
+      if (!(this_present_partition && that_present_partition))
+        return false;
+      if (this.partition != that.partition)
+        return false;
+    }
+
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    return 0;
+  }
+
+  public int compareTo(TPartitionPreference other) {
+    if (!getClass().equals(other.getClass())) {
+      return getClass().getName().compareTo(other.getClass().getName());
+    }
+
+    int lastComparison = 0;
+    TPartitionPreference typedOther = (TPartitionPreference)other;
+
+    lastComparison = Boolean.valueOf(isSetNumPartitions()).compareTo(typedOther.isSetNumPartitions());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetNumPartitions()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.numPartitions, typedOther.numPartitions);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = Boolean.valueOf(isSetPartition()).compareTo(typedOther.isSetPartition());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetPartition()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.partition, typedOther.partition);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    return 0;
+  }
+
+  public _Fields fieldForId(int fieldId) {
+    return _Fields.findByThriftId(fieldId);
+  }
+
+  public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+    schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+  }
+
+  public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+    schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder("TPartitionPreference(");
+    boolean first = true;
+
+    sb.append("numPartitions:");
+    sb.append(this.numPartitions);
+    first = false;
+    if (!first) sb.append(", ");
+    sb.append("partition:");
+    sb.append(this.partition);
+    first = false;
+    sb.append(")");
+    return sb.toString();
+  }
+
+  public void validate() throws org.apache.thrift.TException {
+    // check for required fields
+  }
+
+  private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+    try {
+      write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+    } catch (org.apache.thrift.TException te) {
+      throw new java.io.IOException(te.getMessage());
+    }
+  }
+
+  private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+    try {
+      // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+      __isset_bit_vector = new BitSet(1);
+      read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+    } catch (org.apache.thrift.TException te) {
+      throw new java.io.IOException(te.getMessage());
+    }
+  }
+
+  private static class TPartitionPreferenceStandardSchemeFactory implements SchemeFactory {
+    public TPartitionPreferenceStandardScheme getScheme() {
+      return new TPartitionPreferenceStandardScheme();
+    }
+  }
+
+  private static class TPartitionPreferenceStandardScheme extends StandardScheme<TPartitionPreference> {
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot, TPartitionPreference struct) throws org.apache.thrift.TException {
+      org.apache.thrift.protocol.TField schemeField;
+      iprot.readStructBegin();
+      while (true)
+      {
+        schemeField = iprot.readFieldBegin();
+        if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+          break;
+        }
+        switch (schemeField.id) {
+          case 1: // NUM_PARTITIONS
+            if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+              struct.numPartitions = iprot.readI32();
+              struct.setNumPartitionsIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 2: // PARTITION
+            if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+              struct.partition = iprot.readI32();
+              struct.setPartitionIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          default:
+            org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+        }
+        iprot.readFieldEnd();
+      }
+      iprot.readStructEnd();
+
+      // check for required fields of primitive type, which can't be checked in the validate method
+      struct.validate();
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot, TPartitionPreference struct) throws org.apache.thrift.TException {
+      struct.validate();
+
+      oprot.writeStructBegin(STRUCT_DESC);
+      oprot.writeFieldBegin(NUM_PARTITIONS_FIELD_DESC);
+      oprot.writeI32(struct.numPartitions);
+      oprot.writeFieldEnd();
+      oprot.writeFieldBegin(PARTITION_FIELD_DESC);
+      oprot.writeI32(struct.partition);
+      oprot.writeFieldEnd();
+      oprot.writeFieldStop();
+      oprot.writeStructEnd();
+    }
+
+  }
+
+  private static class TPartitionPreferenceTupleSchemeFactory implements SchemeFactory {
+    public TPartitionPreferenceTupleScheme getScheme() {
+      return new TPartitionPreferenceTupleScheme();
+    }
+  }
+
+  private static class TPartitionPreferenceTupleScheme extends TupleScheme<TPartitionPreference> {
+
+    @Override
+    public void write(org.apache.thrift.protocol.TProtocol prot, TPartitionPreference struct) throws org.apache.thrift.TException {
+      TTupleProtocol oprot = (TTupleProtocol) prot;
+      BitSet optionals = new BitSet();
+      if (struct.isSetNumPartitions()) {
+        optionals.set(0);
+      }
+      if (struct.isSetPartition()) {
+        optionals.set(1);
+      }
+      oprot.writeBitSet(optionals, 2);
+      if (struct.isSetNumPartitions()) {
+        oprot.writeI32(struct.numPartitions);
+      }
+      if (struct.isSetPartition()) {
+        oprot.writeI32(struct.partition);
+      }
+    }
+
+    @Override
+    public void read(org.apache.thrift.protocol.TProtocol prot, TPartitionPreference struct) throws org.apache.thrift.TException {
+      TTupleProtocol iprot = (TTupleProtocol) prot;
+      BitSet incoming = iprot.readBitSet(2);
+      if (incoming.get(0)) {
+        struct.numPartitions = iprot.readI32();
+        struct.setNumPartitionsIsSet(true);
+      }
+      if (incoming.get(1)) {
+        struct.partition = iprot.readI32();
+        struct.setPartitionIsSet(true);
+      }
+    }
+  }
+
+}
+
@@ -0,0 +1,543 @@
+/**
+ * Autogenerated by Thrift Compiler (0.8.0)
+ *
+ * DO NOT EDIT UNLESS YOU ARE SURE THAT YOU KNOW WHAT YOU ARE DOING
+ *  @generated
+ */
+package edu.berkeley.sparrow.thrift;
+
+import org.apache.thrift.scheme.IScheme;
+import org.apache.thrift.scheme.SchemeFactory;
+import org.apache.thrift.scheme.StandardScheme;
+
+import org.apache.thrift.scheme.TupleScheme;
+import org.apache.thrift.protocol.TTupleProtocol;
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.HashMap;
+import java.util.EnumMap;
+import java.util.Set;
+import java.util.HashSet;
+import java.util.EnumSet;
+import java.util.Collections;
+import java.util.BitSet;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class TQuotaReconciliation implements org.apache.thrift.TBase<TQuotaReconciliation, TQuotaReconciliation._Fields>, java.io.Serializable, Cloneable {
+  private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("TQuotaReconciliation");
+
+  private static final org.apache.thrift.protocol.TField TOTAL_DEMAND_FIELD_DESC = new org.apache.thrift.protocol.TField("totalDemand", org.apache.thrift.protocol.TType.MAP, (short)1);
+  private static final org.apache.thrift.protocol.TField NUM_SCHEDULERS_FIELD_DESC = new org.apache.thrift.protocol.TField("numSchedulers", org.apache.thrift.protocol.TType.I32, (short)2);
+
+  private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+  static {
+    schemes.put(StandardScheme.class, new TQuotaReconciliationStandardSchemeFactory());
+    schemes.put(TupleScheme.class, new TQuotaReconciliationTupleSchemeFactory());
+  }
+
+  public Map<String,Long> totalDemand; // required
+  public int numSchedulers; // required
+
+  /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+  public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+    TOTAL_DEMAND((short)1, "totalDemand"),
+    NUM_SCHEDULERS((short)2, "numSchedulers");
+
+    private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+    static {
+      for (_Fields field : EnumSet.allOf(_Fields.class)) {
+        byName.put(field.getFieldName(), field);
+      }
+    }
+
+    /**
+     * Find the _Fields constant that matches fieldId, or null if its not found.
+     */
+    public static _Fields findByThriftId(int fieldId) {
+      switch(fieldId) {
+        case 1: // TOTAL_DEMAND
+          return TOTAL_DEMAND;
+        case 2: // NUM_SCHEDULERS
+          return NUM_SCHEDULERS;
+        default:
+          return null;
+      }
+    }
+
+    /**
+     * Find the _Fields constant that matches fieldId, throwing an exception
+     * if it is not found.
+     */
+    public static _Fields findByThriftIdOrThrow(int fieldId) {
+      _Fields fields = findByThriftId(fieldId);
+      if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+      return fields;
+    }
+
+    /**
+     * Find the _Fields constant that matches name, or null if its not found.
+     */
+    public static _Fields findByName(String name) {
+      return byName.get(name);
+    }
+
+    private final short _thriftId;
+    private final String _fieldName;
+
+    _Fields(short thriftId, String fieldName) {
+      _thriftId = thriftId;
+      _fieldName = fieldName;
+    }
+
+    public short getThriftFieldId() {
+      return _thriftId;
+    }
+
+    public String getFieldName() {
+      return _fieldName;
+    }
+  }
+
+  // isset id assignments
+  private static final int __NUMSCHEDULERS_ISSET_ID = 0;
+  private BitSet __isset_bit_vector = new BitSet(1);
+  public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+  static {
+    Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+    tmpMap.put(_Fields.TOTAL_DEMAND, new org.apache.thrift.meta_data.FieldMetaData("totalDemand", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+        new org.apache.thrift.meta_data.MapMetaData(org.apache.thrift.protocol.TType.MAP, 
+            new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING), 
+            new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64))));
+    tmpMap.put(_Fields.NUM_SCHEDULERS, new org.apache.thrift.meta_data.FieldMetaData("numSchedulers", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+    metaDataMap = Collections.unmodifiableMap(tmpMap);
+    org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(TQuotaReconciliation.class, metaDataMap);
+  }
+
+  public TQuotaReconciliation() {
+  }
+
+  public TQuotaReconciliation(
+    Map<String,Long> totalDemand,
+    int numSchedulers)
+  {
+    this();
+    this.totalDemand = totalDemand;
+    this.numSchedulers = numSchedulers;
+    setNumSchedulersIsSet(true);
+  }
+
+  /**
+   * Performs a deep copy on <i>other</i>.
+   */
+  public TQuotaReconciliation(TQuotaReconciliation other) {
+    __isset_bit_vector.clear();
+    __isset_bit_vector.or(other.__isset_bit_vector);
+    if (other.isSetTotalDemand()) {
+      Map<String,Long> __this__totalDemand = new HashMap<String,Long>();
+      for (Map.Entry<String, Long> other_element : other.totalDemand.entrySet()) {
+
+        String other_element_key = other_element.getKey();
+        Long other_element_value = other_element.getValue();
+
+        String __this__totalDemand_copy_key = other_element_key;
+
+        Long __this__totalDemand_copy_value = other_element_value;
+
+        __this__totalDemand.put(__this__totalDemand_copy_key, __this__totalDemand_copy_value);
+      }
+      this.totalDemand = __this__totalDemand;
+    }
+    this.numSchedulers = other.numSchedulers;
+  }
+
+  public TQuotaReconciliation deepCopy() {
+    return new TQuotaReconciliation(this);
+  }
+
+  public void clear() {
+    this.totalDemand = null;
+    setNumSchedulersIsSet(false);
+    this.numSchedulers = 0;
+  }
+
+  public int getTotalDemandSize() {
+    return (this.totalDemand == null) ? 0 : this.totalDemand.size();
+  }
+
+  public void putToTotalDemand(String key, long val) {
+    if (this.totalDemand == null) {
+      this.totalDemand = new HashMap<String,Long>();
+    }
+    this.totalDemand.put(key, val);
+  }
+
+  public Map<String,Long> getTotalDemand() {
+    return this.totalDemand;
+  }
+
+  public TQuotaReconciliation setTotalDemand(Map<String,Long> totalDemand) {
+    this.totalDemand = totalDemand;
+    return this;
+  }
+
+  public void unsetTotalDemand() {
+    this.totalDemand = null;
+  }
+
+  /** Returns true if field totalDemand is set (has been assigned a value) and false otherwise */
+  public boolean isSetTotalDemand() {
+    return this.totalDemand != null;
+  }
+
+  public void setTotalDemandIsSet(boolean value) {
+    if (!value) {
+      this.totalDemand = null;
+    }
+  }
+
+  public int getNumSchedulers() {
+    return this.numSchedulers;
+  }
+
+  public TQuotaReconciliation setNumSchedulers(int numSchedulers) {
+    this.numSchedulers = numSchedulers;
+    setNumSchedulersIsSet(true);
+    return this;
+  }
+
+  public void unsetNumSchedulers() {
+    __isset_bit_vector.clear(__NUMSCHEDULERS_ISSET_ID);
+  }
+
+  /** Returns true if field numSchedulers is set (has been assigned a value) and false otherwise */
+  public boolean isSetNumSchedulers() {
+    return __isset_bit_vector.get(__NUMSCHEDULERS_ISSET_ID);
+  }
+
+  public void setNumSchedulersIsSet(boolean value) {
+    __isset_bit_vector.set(__NUMSCHEDULERS_ISSET_ID, value);
+  }
+
+  public void setFieldValue(_Fields field, Object value) {
+    switch (field) {
+    case TOTAL_DEMAND:
+      if (value == null) {
+        unsetTotalDemand();
+      } else {
+        setTotalDemand((Map<String,Long>)value);
+      }
+      break;
+
+    case NUM_SCHEDULERS:
+      if (value == null) {
+        unsetNumSchedulers();
+      } else {
+        setNumSchedulers((Integer)value);
+      }
+      break;
+
+    }
+  }
+
+  public Object getFieldValue(_Fields field) {
+    switch (field) {
+    case TOTAL_DEMAND:
+      return getTotalDemand();
+
+    case NUM_SCHEDULERS:
+      return Integer.valueOf(getNumSchedulers());
+
+    }
+    throw new IllegalStateException();
+  }
+
+  /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+  public boolean isSet(_Fields field) {
+    if (field == null) {
+      throw new IllegalArgumentException();
+    }
+
+    switch (field) {
+    case TOTAL_DEMAND:
+      return isSetTotalDemand();
+    case NUM_SCHEDULERS:
+      return isSetNumSchedulers();
+    }
+    throw new IllegalStateException();
+  }
+
+  @Override
+  public boolean equals(Object that) {
+    if (that == null)
+      return false;
+    if (that instanceof TQuotaReconciliation)
+      return this.equals((TQuotaReconciliation)that);
+    return false;
+  }
+
+  public boolean equals(TQuotaReconciliation that) {
+    if (that == null)
+      return false;
+
+    boolean this_present_totalDemand = true && this.isSetTotalDemand();
+    boolean that_present_totalDemand = true && that.isSetTotalDemand();
+    if (this_present_totalDemand || that_present_totalDemand) {
+      if (!(this_present_totalDemand && that_present_totalDemand))
+        return false;
+      if (!this.totalDemand.equals(that.totalDemand))
+        return false;
+    }
+
+    boolean this_present_numSchedulers = true;
+    boolean that_present_numSchedulers = true;
+    if (this_present_numSchedulers || that_present_numSchedulers) {
+      if (!(this_present_numSchedulers && that_present_numSchedulers))
+        return false;
+      if (this.numSchedulers != that.numSchedulers)
+        return false;
+    }
+
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    return 0;
+  }
+
+  public int compareTo(TQuotaReconciliation other) {
+    if (!getClass().equals(other.getClass())) {
+      return getClass().getName().compareTo(other.getClass().getName());
+    }
+
+    int lastComparison = 0;
+    TQuotaReconciliation typedOther = (TQuotaReconciliation)other;
+
+    lastComparison = Boolean.valueOf(isSetTotalDemand()).compareTo(typedOther.isSetTotalDemand());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetTotalDemand()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.totalDemand, typedOther.totalDemand);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = Boolean.valueOf(isSetNumSchedulers()).compareTo(typedOther.isSetNumSchedulers());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetNumSchedulers()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.numSchedulers, typedOther.numSchedulers);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    return 0;
+  }
+
+  public _Fields fieldForId(int fieldId) {
+    return _Fields.findByThriftId(fieldId);
+  }
+
+  public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+    schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+  }
+
+  public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+    schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder("TQuotaReconciliation(");
+    boolean first = true;
+
+    sb.append("totalDemand:");
+    if (this.totalDemand == null) {
+      sb.append("null");
+    } else {
+      sb.append(this.totalDemand);
+    }
+    first = false;
+    if (!first) sb.append(", ");
+    sb.append("numSchedulers:");
+    sb.append(this.numSchedulers);
+    first = false;
+    sb.append(")");
+    return sb.toString();
+  }
+
+  public void validate() throws org.apache.thrift.TException {
+    // check for required fields
+  }
+
+  private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+    try {
+      write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+    } catch (org.apache.thrift.TException te) {
+      throw new java.io.IOException(te.getMessage());
+    }
+  }
+
+  private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+    try {
+      // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+      __isset_bit_vector = new BitSet(1);
+      read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+    } catch (org.apache.thrift.TException te) {
+      throw new java.io.IOException(te.getMessage());
+    }
+  }
+
+  private static class TQuotaReconciliationStandardSchemeFactory implements SchemeFactory {
+    public TQuotaReconciliationStandardScheme getScheme() {
+      return new TQuotaReconciliationStandardScheme();
+    }
+  }
+
+  private static class TQuotaReconciliationStandardScheme extends StandardScheme<TQuotaReconciliation> {
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot, TQuotaReconciliation struct) throws org.apache.thrift.TException {
+      org.apache.thrift.protocol.TField schemeField;
+      iprot.readStructBegin();
+      while (true)
+      {
+        schemeField = iprot.readFieldBegin();
+        if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+          break;
+        }
+        switch (schemeField.id) {
+          case 1: // TOTAL_DEMAND
+            if (schemeField.type == org.apache.thrift.protocol.TType.MAP) {
+              {
+                org.apache.thrift.protocol.TMap _map48 = iprot.readMapBegin();
+                struct.totalDemand = new HashMap<String,Long>(2*_map48.size);
+                for (int _i49 = 0; _i49 < _map48.size; ++_i49)
+                {
+                  String _key50; // required
+                  long _val51; // required
+                  _key50 = iprot.readString();
+                  _val51 = iprot.readI64();
+                  struct.totalDemand.put(_key50, _val51);
+                }
+                iprot.readMapEnd();
+              }
+              struct.setTotalDemandIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 2: // NUM_SCHEDULERS
+            if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+              struct.numSchedulers = iprot.readI32();
+              struct.setNumSchedulersIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          default:
+            org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+        }
+        iprot.readFieldEnd();
+      }
+      iprot.readStructEnd();
+
+      // check for required fields of primitive type, which can't be checked in the validate method
+      struct.validate();
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot, TQuotaReconciliation struct) throws org.apache.thrift.TException {
+      struct.validate();
+
+      oprot.writeStructBegin(STRUCT_DESC);
+      if (struct.totalDemand != null) {
+        oprot.writeFieldBegin(TOTAL_DEMAND_FIELD_DESC);
+        {
+          oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.I64, struct.totalDemand.size()));
+          for (Map.Entry<String, Long> _iter52 : struct.totalDemand.entrySet())
+          {
+            oprot.writeString(_iter52.getKey());
+            oprot.writeI64(_iter52.getValue());
+          }
+          oprot.writeMapEnd();
+        }
+        oprot.writeFieldEnd();
+      }
+      oprot.writeFieldBegin(NUM_SCHEDULERS_FIELD_DESC);
+      oprot.writeI32(struct.numSchedulers);
+      oprot.writeFieldEnd();
+      oprot.writeFieldStop();
+      oprot.writeStructEnd();
+    }
+
+  }
+
+  private static class TQuotaReconciliationTupleSchemeFactory implements SchemeFactory {
+    public TQuotaReconciliationTupleScheme getScheme() {
+      return new TQuotaReconciliationTupleScheme();
+    }
+  }
+
+  private static class TQuotaReconciliationTupleScheme extends TupleScheme<TQuotaReconciliation> {
+
+    @Override
+    public void write(org.apache.thrift.protocol.TProtocol prot, TQuotaReconciliation struct) throws org.apache.thrift.TException {
+      TTupleProtocol oprot = (TTupleProtocol) prot;
+      BitSet optionals = new BitSet();
+      if (struct.isSetTotalDemand()) {
+        optionals.set(0);
+      }
+      if (struct.isSetNumSchedulers()) {
+        optionals.set(1);
+      }
+      oprot.writeBitSet(optionals, 2);
+      if (struct.isSetTotalDemand()) {
+        {
+          oprot.writeI32(struct.totalDemand.size());
+          for (Map.Entry<String, Long> _iter53 : struct.totalDemand.entrySet())
+          {
+            oprot.writeString(_iter53.getKey());
+            oprot.writeI64(_iter53.getValue());
+          }
+        }
+      }
+      if (struct.isSetNumSchedulers()) {
+        oprot.writeI32(struct.numSchedulers);
+      }
+    }
+
+    @Override
+    public void read(org.apache.thrift.protocol.TProtocol prot, TQuotaReconciliation struct) throws org.apache.thrift.TException {
+      TTupleProtocol iprot = (TTupleProtocol) prot;
+      BitSet incoming = iprot.readBitSet(2);
+      if (incoming.get(0)) {
+        {
+          org.apache.thrift.protocol.TMap _map54 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.I64, iprot.readI32());
+          struct.totalDemand = new HashMap<String,Long>(2*_map54.size);
+          for (int _i55 = 0; _i55 < _map54.size; ++_i55)
+          {
+            String _key56; // required
+            long _val57; // required
+            _key56 = iprot.readString();
+            _val57 = iprot.readI64();
+            struct.totalDemand.put(_key56, _val57);
+          }
+        }
+        struct.setTotalDemandIsSet(true);
+      }
+      if (incoming.get(1)) {
+        struct.numSchedulers = iprot.readI32();
+        struct.setNumSchedulersIsSet(true);
+      }
+    }
+  }
+
+}
+
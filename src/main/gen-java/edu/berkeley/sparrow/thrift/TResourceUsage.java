@@ -32,6 +32,7 @@ public class TResourceUsage implements org.apache.thrift.TBase<TResourceUsage, T
 
   private static final org.apache.thrift.protocol.TField RESOURCES_FIELD_DESC = new org.apache.thrift.protocol.TField("resources", org.apache.thrift.protocol.TType.STRUCT, (short)1);
   private static final org.apache.thrift.protocol.TField QUEUE_LENGTH_FIELD_DESC = new org.apache.thrift.protocol.TField("queueLength", org.apache.thrift.protocol.TType.I32, (short)2);
+  private static final org.apache.thrift.protocol.TField EXPECTED_WAIT_MILLIS_FIELD_DESC = new org.apache.thrift.protocol.TField("expectedWaitMillis", org.apache.thrift.protocol.TType.I64, (short)3);
 
   private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
   static {
@@ -41,11 +42,13 @@ public class TResourceUsage implements org.apache.thrift.TBase<TResourceUsage, T
 
   public TResourceVector resources; // required
   public int queueLength; // required
+  public long expectedWaitMillis; // optional
 
   /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
   public enum _Fields implements org.apache.thrift.TFieldIdEnum {
     RESOURCES((short)1, "resources"),
-    QUEUE_LENGTH((short)2, "queueLength");
+    QUEUE_LENGTH((short)2, "queueLength"),
+    EXPECTED_WAIT_MILLIS((short)3, "expectedWaitMillis");
 
     private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -64,6 +67,8 @@ public class TResourceUsage implements org.apache.thrift.TBase<TResourceUsage, T
           return RESOURCES;
         case 2: // QUEUE_LENGTH
           return QUEUE_LENGTH;
+        case 3: // EXPECTED_WAIT_MILLIS
+          return EXPECTED_WAIT_MILLIS;
         default:
           return null;
       }
@@ -105,7 +110,9 @@ public class TResourceUsage implements org.apache.thrift.TBase<TResourceUsage, T
 
   // isset id assignments
   private static final int __QUEUELENGTH_ISSET_ID = 0;
-  private BitSet __isset_bit_vector = new BitSet(1);
+  private static final int __EXPECTEDWAITMILLIS_ISSET_ID = 1;
+  private BitSet __isset_bit_vector = new BitSet(2);
+  private _Fields optionals[] = {_Fields.EXPECTED_WAIT_MILLIS};
   public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
   static {
     Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
@@ -113,6 +120,8 @@ public class TResourceUsage implements org.apache.thrift.TBase<TResourceUsage, T
         new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TResourceVector.class)));
     tmpMap.put(_Fields.QUEUE_LENGTH, new org.apache.thrift.meta_data.FieldMetaData("queueLength", org.apache.thrift.TFieldRequirementType.DEFAULT, 
         new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+    tmpMap.put(_Fields.EXPECTED_WAIT_MILLIS, new org.apache.thrift.meta_data.FieldMetaData("expectedWaitMillis", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
     metaDataMap = Collections.unmodifiableMap(tmpMap);
     org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(TResourceUsage.class, metaDataMap);
   }
@@ -140,6 +149,7 @@ public class TResourceUsage implements org.apache.thrift.TBase<TResourceUsage, T
       this.resources = new TResourceVector(other.resources);
     }
     this.queueLength = other.queueLength;
+    this.expectedWaitMillis = other.expectedWaitMillis;
   }
 
   public TResourceUsage deepCopy() {
@@ -150,6 +160,8 @@ public class TResourceUsage implements org.apache.thrift.TBase<TResourceUsage, T
     this.resources = null;
     setQueueLengthIsSet(false);
     this.queueLength = 0;
+    setExpectedWaitMillisIsSet(false);
+    this.expectedWaitMillis = 0;
   }
 
   public TResourceVector getResources() {
@@ -199,6 +211,29 @@ public class TResourceUsage implements org.apache.thrift.TBase<TResourceUsage, T
     __isset_bit_vector.set(__QUEUELENGTH_ISSET_ID, value);
   }
 
+  public long getExpectedWaitMillis() {
+    return this.expectedWaitMillis;
+  }
+
+  public TResourceUsage setExpectedWaitMillis(long expectedWaitMillis) {
+    this.expectedWaitMillis = expectedWaitMillis;
+    setExpectedWaitMillisIsSet(true);
+    return this;
+  }
+
+  public void unsetExpectedWaitMillis() {
+    __isset_bit_vector.clear(__EXPECTEDWAITMILLIS_ISSET_ID);
+  }
+
+  /** Returns true if field expectedWaitMillis is set (has been assigned a value) and false otherwise */
+  public boolean isSetExpectedWaitMillis() {
+    return __isset_bit_vector.get(__EXPECTEDWAITMILLIS_ISSET_ID);
+  }
+
+  public void setExpectedWaitMillisIsSet(boolean value) {
+    __isset_bit_vector.set(__EXPECTEDWAITMILLIS_ISSET_ID, value);
+  }
+
   public void setFieldValue(_Fields field, Object value) {
     switch (field) {
     case RESOURCES:
@@ -217,6 +252,14 @@ public class TResourceUsage implements org.apache.thrift.TBase<TResourceUsage, T
       }
       break;
 
+    case EXPECTED_WAIT_MILLIS:
+      if (value == null) {
+        unsetExpectedWaitMillis();
+      } else {
+        setExpectedWaitMillis((Long)value);
+      }
+      break;
+
     }
   }
 
@@ -228,6 +271,9 @@ public class TResourceUsage implements org.apache.thrift.TBase<TResourceUsage, T
     case QUEUE_LENGTH:
       return Integer.valueOf(getQueueLength());
 
+    case EXPECTED_WAIT_MILLIS:
+      return Long.valueOf(getExpectedWaitMillis());
+
     }
     throw new IllegalStateException();
   }
@@ -243,6 +289,8 @@ public class TResourceUsage implements org.apache.thrift.TBase<TResourceUsage, T
       return isSetResources();
     case QUEUE_LENGTH:
       return isSetQueueLength();
+    case EXPECTED_WAIT_MILLIS:
+      return isSetExpectedWaitMillis();
     }
     throw new IllegalStateException();
   }
@@ -278,6 +326,15 @@ public class TResourceUsage implements org.apache.thrift.TBase<TResourceUsage, T
         return false;
     }
 
+    boolean this_present_expectedWaitMillis = true && this.isSetExpectedWaitMillis();
+    boolean that_present_expectedWaitMillis = true && that.isSetExpectedWaitMillis();
+    if (this_present_expectedWaitMillis || that_present_expectedWaitMillis) {
+      if (!(this_present_expectedWaitMillis && that_present_expectedWaitMillis))
+        return false;
+      if (this.expectedWaitMillis != that.expectedWaitMillis)
+        return false;
+    }
+
     return true;
   }
 
@@ -314,6 +371,16 @@ public class TResourceUsage implements org.apache.thrift.TBase<TResourceUsage, T
         return lastComparison;
       }
     }
+    lastComparison = Boolean.valueOf(isSetExpectedWaitMillis()).compareTo(typedOther.isSetExpectedWaitMillis());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetExpectedWaitMillis()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.expectedWaitMillis, typedOther.expectedWaitMillis);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
     return 0;
   }
 
@@ -345,6 +412,12 @@ public class TResourceUsage implements org.apache.thrift.TBase<TResourceUsage, T
     sb.append("queueLength:");
     sb.append(this.queueLength);
     first = false;
+    if (isSetExpectedWaitMillis()) {
+      if (!first) sb.append(", ");
+      sb.append("expectedWaitMillis:");
+      sb.append(this.expectedWaitMillis);
+      first = false;
+    }
     sb.append(")");
     return sb.toString();
   }
@@ -406,6 +479,14 @@ public class TResourceUsage implements org.apache.thrift.TBase<TResourceUsage, T
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
             }
             break;
+          case 3: // EXPECTED_WAIT_MILLIS
+            if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+              struct.expectedWaitMillis = iprot.readI64();
+              struct.setExpectedWaitMillisIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
           default:
             org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
         }
@@ -429,6 +510,11 @@ public class TResourceUsage implements org.apache.thrift.TBase<TResourceUsage, T
       oprot.writeFieldBegin(QUEUE_LENGTH_FIELD_DESC);
       oprot.writeI32(struct.queueLength);
       oprot.writeFieldEnd();
+      if (struct.isSetExpectedWaitMillis()) {
+        oprot.writeFieldBegin(EXPECTED_WAIT_MILLIS_FIELD_DESC);
+        oprot.writeI64(struct.expectedWaitMillis);
+        oprot.writeFieldEnd();
+      }
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
@@ -453,19 +539,25 @@ public class TResourceUsage implements org.apache.thrift.TBase<TResourceUsage, T
       if (struct.isSetQueueLength()) {
         optionals.set(1);
       }
-      oprot.writeBitSet(optionals, 2);
+      if (struct.isSetExpectedWaitMillis()) {
+        optionals.set(2);
+      }
+      oprot.writeBitSet(optionals, 3);
       if (struct.isSetResources()) {
         struct.resources.write(oprot);
       }
       if (struct.isSetQueueLength()) {
         oprot.writeI32(struct.queueLength);
       }
+      if (struct.isSetExpectedWaitMillis()) {
+        oprot.writeI64(struct.expectedWaitMillis);
+      }
     }
 
     @Override
     public void read(org.apache.thrift.protocol.TProtocol prot, TResourceUsage struct) throws org.apache.thrift.TException {
       TTupleProtocol iprot = (TTupleProtocol) prot;
-      BitSet incoming = iprot.readBitSet(2);
+      BitSet incoming = iprot.readBitSet(3);
       if (incoming.get(0)) {
         struct.resources = new TResourceVector();
         struct.resources.read(iprot);
@@ -475,6 +567,10 @@ public class TResourceUsage implements org.apache.thrift.TBase<TResourceUsage, T
         struct.queueLength = iprot.readI32();
         struct.setQueueLengthIsSet(true);
       }
+      if (incoming.get(2)) {
+        struct.expectedWaitMillis = iprot.readI64();
+        struct.setExpectedWaitMillisIsSet(true);
+      }
     }
   }
 
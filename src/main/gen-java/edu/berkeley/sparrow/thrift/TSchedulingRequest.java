@@ -34,6 +34,12 @@ public class TSchedulingRequest implements org.apache.thrift.TBase<TSchedulingRe
   private static final org.apache.thrift.protocol.TField TASKS_FIELD_DESC = new org.apache.thrift.protocol.TField("tasks", org.apache.thrift.protocol.TType.LIST, (short)2);
   private static final org.apache.thrift.protocol.TField USER_FIELD_DESC = new org.apache.thrift.protocol.TField("user", org.apache.thrift.protocol.TType.STRUCT, (short)3);
   private static final org.apache.thrift.protocol.TField PROBE_RATIO_FIELD_DESC = new org.apache.thrift.protocol.TField("probeRatio", org.apache.thrift.protocol.TType.DOUBLE, (short)4);
+  private static final org.apache.thrift.protocol.TField GANG_FIELD_DESC = new org.apache.thrift.protocol.TField("gang", org.apache.thrift.protocol.TType.BOOL, (short)5);
+  private static final org.apache.thrift.protocol.TField PARTITION_FIELD_DESC = new org.apache.thrift.protocol.TField("partition", org.apache.thrift.protocol.TType.STRUCT, (short)6);
+  private static final org.apache.thrift.protocol.TField TRACE_CONTEXT_FIELD_DESC = new org.apache.thrift.protocol.TField("traceContext", org.apache.thrift.protocol.TType.STRUCT, (short)7);
+  private static final org.apache.thrift.protocol.TField JOB_SIGNATURE_FIELD_DESC = new org.apache.thrift.protocol.TField("jobSignature", org.apache.thrift.protocol.TType.STRING, (short)8);
+  private static final org.apache.thrift.protocol.TField JOB_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("jobId", org.apache.thrift.protocol.TType.STRING, (short)9);
+  private static final org.apache.thrift.protocol.TField LAUNCH_REPORT_ADDRESS_FIELD_DESC = new org.apache.thrift.protocol.TField("launchReportAddress", org.apache.thrift.protocol.TType.STRING, (short)10);
 
   private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
   static {
@@ -45,13 +51,25 @@ public class TSchedulingRequest implements org.apache.thrift.TBase<TSchedulingRe
   public List<TTaskSpec> tasks; // required
   public TUserGroupInfo user; // required
   public double probeRatio; // optional
+  public boolean gang; // optional
+  public TPartitionPreference partition; // optional
+  public TTraceContext traceContext; // optional
+  public String jobSignature; // optional
+  public String jobId; // optional
+  public String launchReportAddress; // optional
 
   /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
   public enum _Fields implements org.apache.thrift.TFieldIdEnum {
     APP((short)1, "app"),
     TASKS((short)2, "tasks"),
     USER((short)3, "user"),
-    PROBE_RATIO((short)4, "probeRatio");
+    PROBE_RATIO((short)4, "probeRatio"),
+    GANG((short)5, "gang"),
+    PARTITION((short)6, "partition"),
+    TRACE_CONTEXT((short)7, "traceContext"),
+    JOB_SIGNATURE((short)8, "jobSignature"),
+    JOB_ID((short)9, "jobId"),
+    LAUNCH_REPORT_ADDRESS((short)10, "launchReportAddress");
 
     private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -74,6 +92,18 @@ public class TSchedulingRequest implements org.apache.thrift.TBase<TSchedulingRe
           return USER;
         case 4: // PROBE_RATIO
           return PROBE_RATIO;
+        case 5: // GANG
+          return GANG;
+        case 6: // PARTITION
+          return PARTITION;
+        case 7: // TRACE_CONTEXT
+          return TRACE_CONTEXT;
+        case 8: // JOB_SIGNATURE
+          return JOB_SIGNATURE;
+        case 9: // JOB_ID
+          return JOB_ID;
+        case 10: // LAUNCH_REPORT_ADDRESS
+          return LAUNCH_REPORT_ADDRESS;
         default:
           return null;
       }
@@ -115,8 +145,9 @@ public class TSchedulingRequest implements org.apache.thrift.TBase<TSchedulingRe
 
   // isset id assignments
   private static final int __PROBERATIO_ISSET_ID = 0;
-  private BitSet __isset_bit_vector = new BitSet(1);
-  private _Fields optionals[] = {_Fields.PROBE_RATIO};
+  private static final int __GANG_ISSET_ID = 1;
+  private BitSet __isset_bit_vector = new BitSet(2);
+  private _Fields optionals[] = {_Fields.PROBE_RATIO,_Fields.GANG,_Fields.PARTITION,_Fields.TRACE_CONTEXT,_Fields.JOB_SIGNATURE,_Fields.JOB_ID,_Fields.LAUNCH_REPORT_ADDRESS};
   public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
   static {
     Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
@@ -129,6 +160,18 @@ public class TSchedulingRequest implements org.apache.thrift.TBase<TSchedulingRe
         new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TUserGroupInfo.class)));
     tmpMap.put(_Fields.PROBE_RATIO, new org.apache.thrift.meta_data.FieldMetaData("probeRatio", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
         new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.DOUBLE)));
+    tmpMap.put(_Fields.GANG, new org.apache.thrift.meta_data.FieldMetaData("gang", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
+    tmpMap.put(_Fields.PARTITION, new org.apache.thrift.meta_data.FieldMetaData("partition", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TPartitionPreference.class)));
+    tmpMap.put(_Fields.TRACE_CONTEXT, new org.apache.thrift.meta_data.FieldMetaData("traceContext", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TTraceContext.class)));
+    tmpMap.put(_Fields.JOB_SIGNATURE, new org.apache.thrift.meta_data.FieldMetaData("jobSignature", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+    tmpMap.put(_Fields.JOB_ID, new org.apache.thrift.meta_data.FieldMetaData("jobId", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+    tmpMap.put(_Fields.LAUNCH_REPORT_ADDRESS, new org.apache.thrift.meta_data.FieldMetaData("launchReportAddress", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
     metaDataMap = Collections.unmodifiableMap(tmpMap);
     org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(TSchedulingRequest.class, metaDataMap);
   }
@@ -167,6 +210,22 @@ public class TSchedulingRequest implements org.apache.thrift.TBase<TSchedulingRe
       this.user = new TUserGroupInfo(other.user);
     }
     this.probeRatio = other.probeRatio;
+    this.gang = other.gang;
+    if (other.isSetPartition()) {
+      this.partition = new TPartitionPreference(other.partition);
+    }
+    if (other.isSetTraceContext()) {
+      this.traceContext = new TTraceContext(other.traceContext);
+    }
+    if (other.isSetJobSignature()) {
+      this.jobSignature = other.jobSignature;
+    }
+    if (other.isSetJobId()) {
+      this.jobId = other.jobId;
+    }
+    if (other.isSetLaunchReportAddress()) {
+      this.launchReportAddress = other.launchReportAddress;
+    }
   }
 
   public TSchedulingRequest deepCopy() {
@@ -179,6 +238,13 @@ public class TSchedulingRequest implements org.apache.thrift.TBase<TSchedulingRe
     this.user = null;
     setProbeRatioIsSet(false);
     this.probeRatio = 0.0;
+    setGangIsSet(false);
+    this.gang = false;
+    this.partition = null;
+    this.traceContext = null;
+    this.jobSignature = null;
+    this.jobId = null;
+    this.launchReportAddress = null;
   }
 
   public String getApp() {
@@ -291,6 +357,149 @@ public class TSchedulingRequest implements org.apache.thrift.TBase<TSchedulingRe
     __isset_bit_vector.set(__PROBERATIO_ISSET_ID, value);
   }
 
+  public boolean isGang() {
+    return this.gang;
+  }
+
+  public TSchedulingRequest setGang(boolean gang) {
+    this.gang = gang;
+    setGangIsSet(true);
+    return this;
+  }
+
+  public void unsetGang() {
+    __isset_bit_vector.clear(__GANG_ISSET_ID);
+  }
+
+  /** Returns true if field gang is set (has been assigned a value) and false otherwise */
+  public boolean isSetGang() {
+    return __isset_bit_vector.get(__GANG_ISSET_ID);
+  }
+
+  public void setGangIsSet(boolean value) {
+    __isset_bit_vector.set(__GANG_ISSET_ID, value);
+  }
+
+  public TPartitionPreference getPartition() {
+    return this.partition;
+  }
+
+  public TSchedulingRequest setPartition(TPartitionPreference partition) {
+    this.partition = partition;
+    return this;
+  }
+
+  public void unsetPartition() {
+    this.partition = null;
+  }
+
+  /** Returns true if field partition is set (has been assigned a value) and false otherwise */
+  public boolean isSetPartition() {
+    return this.partition != null;
+  }
+
+  public void setPartitionIsSet(boolean value) {
+    if (!value) {
+      this.partition = null;
+    }
+  }
+
+  public TTraceContext getTraceContext() {
+    return this.traceContext;
+  }
+
+  public TSchedulingRequest setTraceContext(TTraceContext traceContext) {
+    this.traceContext = traceContext;
+    return this;
+  }
+
+  public void unsetTraceContext() {
+    this.traceContext = null;
+  }
+
+  /** Returns true if field traceContext is set (has been assigned a value) and false otherwise */
+  public boolean isSetTraceContext() {
+    return this.traceContext != null;
+  }
+
+  public void setTraceContextIsSet(boolean value) {
+    if (!value) {
+      this.traceContext = null;
+    }
+  }
+
+  public String getJobSignature() {
+    return this.jobSignature;
+  }
+
+  public TSchedulingRequest setJobSignature(String jobSignature) {
+    this.jobSignature = jobSignature;
+    return this;
+  }
+
+  public void unsetJobSignature() {
+    this.jobSignature = null;
+  }
+
+  /** Returns true if field jobSignature is set (has been assigned a value) and false otherwise */
+  public boolean isSetJobSignature() {
+    return this.jobSignature != null;
+  }
+
+  public void setJobSignatureIsSet(boolean value) {
+    if (!value) {
+      this.jobSignature = null;
+    }
+  }
+
+  public String getJobId() {
+    return this.jobId;
+  }
+
+  public TSchedulingRequest setJobId(String jobId) {
+    this.jobId = jobId;
+    return this;
+  }
+
+  public void unsetJobId() {
+    this.jobId = null;
+  }
+
+  /** Returns true if field jobId is set (has been assigned a value) and false otherwise */
+  public boolean isSetJobId() {
+    return this.jobId != null;
+  }
+
+  public void setJobIdIsSet(boolean value) {
+    if (!value) {
+      this.jobId = null;
+    }
+  }
+
+  public String getLaunchReportAddress() {
+    return this.launchReportAddress;
+  }
+
+  public TSchedulingRequest setLaunchReportAddress(String launchReportAddress) {
+    this.launchReportAddress = launchReportAddress;
+    return this;
+  }
+
+  public void unsetLaunchReportAddress() {
+    this.launchReportAddress = null;
+  }
+
+  /** Returns true if field launchReportAddress is set (has been assigned a value) and false otherwise */
+  public boolean isSetLaunchReportAddress() {
+    return this.launchReportAddress != null;
+  }
+
+  public void setLaunchReportAddressIsSet(boolean value) {
+    if (!value) {
+      this.launchReportAddress = null;
+    }
+  }
+
   public void setFieldValue(_Fields field, Object value) {
     switch (field) {
     case APP:
@@ -325,6 +534,54 @@ public class TSchedulingRequest implements org.apache.thrift.TBase<TSchedulingRe
       }
       break;
 
+    case GANG:
+      if (value == null) {
+        unsetGang();
+      } else {
+        setGang((Boolean)value);
+      }
+      break;
+
+    case PARTITION:
+      if (value == null) {
+        unsetPartition();
+      } else {
+        setPartition((TPartitionPreference)value);
+      }
+      break;
+
+    case TRACE_CONTEXT:
+      if (value == null) {
+        unsetTraceContext();
+      } else {
+        setTraceContext((TTraceContext)value);
+      }
+      break;
+
+    case JOB_SIGNATURE:
+      if (value == null) {
+        unsetJobSignature();
+      } else {
+        setJobSignature((String)value);
+      }
+      break;
+
+    case JOB_ID:
+      if (value == null) {
+        unsetJobId();
+      } else {
+        setJobId((String)value);
+      }
+      break;
+
+    case LAUNCH_REPORT_ADDRESS:
+      if (value == null) {
+        unsetLaunchReportAddress();
+      } else {
+        setLaunchReportAddress((String)value);
+      }
+      break;
+
     }
   }
 
@@ -342,6 +599,24 @@ public class TSchedulingRequest implements org.apache.thrift.TBase<TSchedulingRe
     case PROBE_RATIO:
       return Double.valueOf(getProbeRatio());
 
+    case GANG:
+      return Boolean.valueOf(isGang());
+
+    case PARTITION:
+      return getPartition();
+
+    case TRACE_CONTEXT:
+      return getTraceContext();
+
+    case JOB_SIGNATURE:
+      return getJobSignature();
+
+    case JOB_ID:
+      return getJobId();
+
+    case LAUNCH_REPORT_ADDRESS:
+      return getLaunchReportAddress();
+
     }
     throw new IllegalStateException();
   }
@@ -361,6 +636,18 @@ public class TSchedulingRequest implements org.apache.thrift.TBase<TSchedulingRe
       return isSetUser();
     case PROBE_RATIO:
       return isSetProbeRatio();
+    case GANG:
+      return isSetGang();
+    case PARTITION:
+      return isSetPartition();
+    case TRACE_CONTEXT:
+      return isSetTraceContext();
+    case JOB_SIGNATURE:
+      return isSetJobSignature();
+    case JOB_ID:
+      return isSetJobId();
+    case LAUNCH_REPORT_ADDRESS:
+      return isSetLaunchReportAddress();
     }
     throw new IllegalStateException();
   }
@@ -414,6 +701,60 @@ public class TSchedulingRequest implements org.apache.thrift.TBase<TSchedulingRe
         return false;
     }
 
+    boolean this_present_gang = true && this.isSetGang();
+    boolean that_present_gang = true && that.isSetGang();
+    if (this_present_gang || that_present_gang) {
+      if (!(this_present_gang && that_present_gang))
+        return false;
+      if (this.gang != that.gang)
+        return false;
+    }
+
+    boolean this_present_partition = true && this.isSetPartition();
+    boolean that_present_partition = true && that.isSetPartition();
+    if (this_present_partition || that_present_partition) {
+      if (!(this_present_partition && that_present_partition))
+        return false;
+      if (!this.partition.equals(that.partition))
+        return false;
+    }
+
+    boolean this_present_traceContext = true && this.isSetTraceContext();
+    boolean that_present_traceContext = true && that.isSetTraceContext();
+    if (this_present_traceContext || that_present_traceContext) {
+      if (!(this_present_traceContext && that_present_traceContext))
+        return false;
+      if (!this.traceContext.equals(that.traceContext))
+        return false;
+    }
+
+    boolean this_present_jobSignature = true && this.isSetJobSignature();
+    boolean that_present_jobSignature = true && that.isSetJobSignature();
+    if (this_present_jobSignature || that_present_jobSignature) {
+      if (!(this_present_jobSignature && that_present_jobSignature))
+        return false;
+      if (!this.jobSignature.equals(that.jobSignature))
+        return false;
+    }
+
+    boolean this_present_jobId = true && this.isSetJobId();
+    boolean that_present_jobId = true && that.isSetJobId();
+    if (this_present_jobId || that_present_jobId) {
+      if (!(this_present_jobId && that_present_jobId))
+        return false;
+      if (!this.jobId.equals(that.jobId))
+        return false;
+    }
+
+    boolean this_present_launchReportAddress = true && this.isSetLaunchReportAddress();
+    boolean that_present_launchReportAddress = true && that.isSetLaunchReportAddress();
+    if (this_present_launchReportAddress || that_present_launchReportAddress) {
+      if (!(this_present_launchReportAddress && that_present_launchReportAddress))
+        return false;
+      if (!this.launchReportAddress.equals(that.launchReportAddress))
+        return false;
+    }
+
     return true;
   }
 
@@ -470,6 +811,66 @@ public class TSchedulingRequest implements org.apache.thrift.TBase<TSchedulingRe
         return lastComparison;
       }
     }
+    lastComparison = Boolean.valueOf(isSetGang()).compareTo(typedOther.isSetGang());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetGang()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.gang, typedOther.gang);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = Boolean.valueOf(isSetPartition()).compareTo(typedOther.isSetPartition());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetPartition()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.partition, typedOther.partition);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = Boolean.valueOf(isSetTraceContext()).compareTo(typedOther.isSetTraceContext());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetTraceContext()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.traceContext, typedOther.traceContext);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = Boolean.valueOf(isSetJobSignature()).compareTo(typedOther.isSetJobSignature());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetJobSignature()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.jobSignature, typedOther.jobSignature);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = Boolean.valueOf(isSetJobId()).compareTo(typedOther.isSetJobId());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetJobId()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.jobId, typedOther.jobId);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = Boolean.valueOf(isSetLaunchReportAddress()).compareTo(typedOther.isSetLaunchReportAddress());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetLaunchReportAddress()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.launchReportAddress, typedOther.launchReportAddress);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
     return 0;
   }
 
@@ -519,6 +920,62 @@ public class TSchedulingRequest implements org.apache.thrift.TBase<TSchedulingRe
       sb.append(this.probeRatio);
       first = false;
     }
+    if (isSetGang()) {
+      if (!first) sb.append(", ");
+      sb.append("gang:");
+      sb.append(this.gang);
+      first = false;
+    }
+    if (isSetPartition()) {
+      if (!first) sb.append(", ");
+      sb.append("partition:");
+      if (this.partition == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.partition);
+      }
+      first = false;
+    }
+    if (isSetTraceContext()) {
+      if (!first) sb.append(", ");
+      sb.append("traceContext:");
+      if (this.traceContext == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.traceContext);
+      }
+      first = false;
+    }
+    if (isSetJobSignature()) {
+      if (!first) sb.append(", ");
+      sb.append("jobSignature:");
+      if (this.jobSignature == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.jobSignature);
+      }
+      first = false;
+    }
+    if (isSetJobId()) {
+      if (!first) sb.append(", ");
+      sb.append("jobId:");
+      if (this.jobId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.jobId);
+      }
+      first = false;
+    }
+    if (isSetLaunchReportAddress()) {
+      if (!first) sb.append(", ");
+      sb.append("launchReportAddress:");
+      if (this.launchReportAddress == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.launchReportAddress);
+      }
+      first = false;
+    }
     sb.append(")");
     return sb.toString();
   }
@@ -607,6 +1064,56 @@ public class TSchedulingRequest implements org.apache.thrift.TBase<TSchedulingRe
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
             }
             break;
+          case 5: // GANG
+            if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+              struct.gang = iprot.readBool();
+              struct.setGangIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 6: // PARTITION
+            if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+              struct.partition = new TPartitionPreference();
+              struct.partition.read(iprot);
+              struct.setPartitionIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 7: // TRACE_CONTEXT
+            if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+              struct.traceContext = new TTraceContext();
+              struct.traceContext.read(iprot);
+              struct.setTraceContextIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 8: // JOB_SIGNATURE
+            if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+              struct.jobSignature = iprot.readString();
+              struct.setJobSignatureIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 9: // JOB_ID
+            if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+              struct.jobId = iprot.readString();
+              struct.setJobIdIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 10: // LAUNCH_REPORT_ADDRESS
+            if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+              struct.launchReportAddress = iprot.readString();
+              struct.setLaunchReportAddressIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
           default:
             org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
         }
@@ -649,6 +1156,46 @@ public class TSchedulingRequest implements org.apache.thrift.TBase<TSchedulingRe
         oprot.writeDouble(struct.probeRatio);
         oprot.writeFieldEnd();
       }
+      if (struct.isSetGang()) {
+        oprot.writeFieldBegin(GANG_FIELD_DESC);
+        oprot.writeBool(struct.gang);
+        oprot.writeFieldEnd();
+      }
+      if (struct.partition != null) {
+        if (struct.isSetPartition()) {
+          oprot.writeFieldBegin(PARTITION_FIELD_DESC);
+          struct.partition.write(oprot);
+          oprot.writeFieldEnd();
+        }
+      }
+      if (struct.traceContext != null) {
+        if (struct.isSetTraceContext()) {
+          oprot.writeFieldBegin(TRACE_CONTEXT_FIELD_DESC);
+          struct.traceContext.write(oprot);
+          oprot.writeFieldEnd();
+        }
+      }
+      if (struct.jobSignature != null) {
+        if (struct.isSetJobSignature()) {
+          oprot.writeFieldBegin(JOB_SIGNATURE_FIELD_DESC);
+          oprot.writeString(struct.jobSignature);
+          oprot.writeFieldEnd();
+        }
+      }
+      if (struct.jobId != null) {
+        if (struct.isSetJobId()) {
+          oprot.writeFieldBegin(JOB_ID_FIELD_DESC);
+          oprot.writeString(struct.jobId);
+          oprot.writeFieldEnd();
+        }
+      }
+      if (struct.launchReportAddress != null) {
+        if (struct.isSetLaunchReportAddress()) {
+          oprot.writeFieldBegin(LAUNCH_REPORT_ADDRESS_FIELD_DESC);
+          oprot.writeString(struct.launchReportAddress);
+          oprot.writeFieldEnd();
+        }
+      }
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
@@ -679,7 +1226,25 @@ public class TSchedulingRequest implements org.apache.thrift.TBase<TSchedulingRe
       if (struct.isSetProbeRatio()) {
         optionals.set(3);
       }
-      oprot.writeBitSet(optionals, 4);
+      if (struct.isSetGang()) {
+        optionals.set(4);
+      }
+      if (struct.isSetPartition()) {
+        optionals.set(5);
+      }
+      if (struct.isSetTraceContext()) {
+        optionals.set(6);
+      }
+      if (struct.isSetJobSignature()) {
+        optionals.set(7);
+      }
+      if (struct.isSetJobId()) {
+        optionals.set(8);
+      }
+      if (struct.isSetLaunchReportAddress()) {
+        optionals.set(9);
+      }
+      oprot.writeBitSet(optionals, 10);
       if (struct.isSetApp()) {
         oprot.writeString(struct.app);
       }
@@ -698,12 +1263,30 @@ public class TSchedulingRequest implements org.apache.thrift.TBase<TSchedulingRe
       if (struct.isSetProbeRatio()) {
         oprot.writeDouble(struct.probeRatio);
       }
+      if (struct.isSetGang()) {
+        oprot.writeBool(struct.gang);
+      }
+      if (struct.isSetPartition()) {
+        struct.partition.write(oprot);
+      }
+      if (struct.isSetTraceContext()) {
+        struct.traceContext.write(oprot);
+      }
+      if (struct.isSetJobSignature()) {
+        oprot.writeString(struct.jobSignature);
+      }
+      if (struct.isSetJobId()) {
+        oprot.writeString(struct.jobId);
+      }
+      if (struct.isSetLaunchReportAddress()) {
+        oprot.writeString(struct.launchReportAddress);
+      }
     }
 
     @Override
     public void read(org.apache.thrift.protocol.TProtocol prot, TSchedulingRequest struct) throws org.apache.thrift.TException {
       TTupleProtocol iprot = (TTupleProtocol) prot;
-      BitSet incoming = iprot.readBitSet(4);
+      BitSet incoming = iprot.readBitSet(10);
       if (incoming.get(0)) {
         struct.app = iprot.readString();
         struct.setAppIsSet(true);
@@ -731,6 +1314,32 @@ public class TSchedulingRequest implements org.apache.thrift.TBase<TSchedulingRe
         struct.probeRatio = iprot.readDouble();
         struct.setProbeRatioIsSet(true);
       }
+      if (incoming.get(4)) {
+        struct.gang = iprot.readBool();
+        struct.setGangIsSet(true);
+      }
+      if (incoming.get(5)) {
+        struct.partition = new TPartitionPreference();
+        struct.partition.read(iprot);
+        struct.setPartitionIsSet(true);
+      }
+      if (incoming.get(6)) {
+        struct.traceContext = new TTraceContext();
+        struct.traceContext.read(iprot);
+        struct.setTraceContextIsSet(true);
+      }
+      if (incoming.get(7)) {
+        struct.jobSignature = iprot.readString();
+        struct.setJobSignatureIsSet(true);
+      }
+      if (incoming.get(8)) {
+        struct.jobId = iprot.readString();
+        struct.setJobIdIsSet(true);
+      }
+      if (incoming.get(9)) {
+        struct.launchReportAddress = iprot.readString();
+        struct.setLaunchReportAddressIsSet(true);
+      }
     }
   }
 
@@ -0,0 +1,585 @@
+/**
+ * Autogenerated by Thrift Compiler (0.8.0)
+ *
+ * DO NOT EDIT UNLESS YOU ARE SURE THAT YOU KNOW WHAT YOU ARE DOING
+ *  @generated
+ */
+package edu.berkeley.sparrow.thrift;
+
+import org.apache.thrift.scheme.IScheme;
+import org.apache.thrift.scheme.SchemeFactory;
+import org.apache.thrift.scheme.StandardScheme;
+
+import org.apache.thrift.scheme.TupleScheme;
+import org.apache.thrift.protocol.TTupleProtocol;
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.HashMap;
+import java.util.EnumMap;
+import java.util.Set;
+import java.util.HashSet;
+import java.util.EnumSet;
+import java.util.Collections;
+import java.util.BitSet;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class TStateStoreMembership implements org.apache.thrift.TBase<TStateStoreMembership, TStateStoreMembership._Fields>, java.io.Serializable, Cloneable {
+  private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("TStateStoreMembership");
+
+  private static final org.apache.thrift.protocol.TField SCHEDULERS_FIELD_DESC = new org.apache.thrift.protocol.TField("schedulers", org.apache.thrift.protocol.TType.LIST, (short)1);
+  private static final org.apache.thrift.protocol.TField NODE_MONITORS_FIELD_DESC = new org.apache.thrift.protocol.TField("nodeMonitors", org.apache.thrift.protocol.TType.LIST, (short)2);
+
+  private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+  static {
+    schemes.put(StandardScheme.class, new TStateStoreMembershipStandardSchemeFactory());
+    schemes.put(TupleScheme.class, new TStateStoreMembershipTupleSchemeFactory());
+  }
+
+  public List<String> schedulers; // required
+  public List<String> nodeMonitors; // required
+
+  /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+  public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+    SCHEDULERS((short)1, "schedulers"),
+    NODE_MONITORS((short)2, "nodeMonitors");
+
+    private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+    static {
+      for (_Fields field : EnumSet.allOf(_Fields.class)) {
+        byName.put(field.getFieldName(), field);
+      }
+    }
+
+    /**
+     * Find the _Fields constant that matches fieldId, or null if its not found.
+     */
+    public static _Fields findByThriftId(int fieldId) {
+      switch(fieldId) {
+        case 1: // SCHEDULERS
+          return SCHEDULERS;
+        case 2: // NODE_MONITORS
+          return NODE_MONITORS;
+        default:
+          return null;
+      }
+    }
+
+    /**
+     * Find the _Fields constant that matches fieldId, throwing an exception
+     * if it is not found.
+     */
+    public static _Fields findByThriftIdOrThrow(int fieldId) {
+      _Fields fields = findByThriftId(fieldId);
+      if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+      return fields;
+    }
+
+    /**
+     * Find the _Fields constant that matches name, or null if its not found.
+     */
+    public static _Fields findByName(String name) {
+      return byName.get(name);
+    }
+
+    private final short _thriftId;
+    private final String _fieldName;
+
+    _Fields(short thriftId, String fieldName) {
+      _thriftId = thriftId;
+      _fieldName = fieldName;
+    }
+
+    public short getThriftFieldId() {
+      return _thriftId;
+    }
+
+    public String getFieldName() {
+      return _fieldName;
+    }
+  }
+
+  // isset id assignments
+  public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+  static {
+    Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+    tmpMap.put(_Fields.SCHEDULERS, new org.apache.thrift.meta_data.FieldMetaData("schedulers", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+        new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+            new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+    tmpMap.put(_Fields.NODE_MONITORS, new org.apache.thrift.meta_data.FieldMetaData("nodeMonitors", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+        new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+            new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+    metaDataMap = Collections.unmodifiableMap(tmpMap);
+    org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(TStateStoreMembership.class, metaDataMap);
+  }
+
+  public TStateStoreMembership() {
+  }
+
+  public TStateStoreMembership(
+    List<String> schedulers,
+    List<String> nodeMonitors)
+  {
+    this();
+    this.schedulers = schedulers;
+    this.nodeMonitors = nodeMonitors;
+  }
+
+  /**
+   * Performs a deep copy on <i>other</i>.
+   */
+  public TStateStoreMembership(TStateStoreMembership other) {
+    if (other.isSetSchedulers()) {
+      List<String> __this__schedulers = new ArrayList<String>();
+      for (String other_element : other.schedulers) {
+        __this__schedulers.add(other_element);
+      }
+      this.schedulers = __this__schedulers;
+    }
+    if (other.isSetNodeMonitors()) {
+      List<String> __this__nodeMonitors = new ArrayList<String>();
+      for (String other_element : other.nodeMonitors) {
+        __this__nodeMonitors.add(other_element);
+      }
+      this.nodeMonitors = __this__nodeMonitors;
+    }
+  }
+
+  public TStateStoreMembership deepCopy() {
+    return new TStateStoreMembership(this);
+  }
+
+  public void clear() {
+    this.schedulers = null;
+    this.nodeMonitors = null;
+  }
+
+  public int getSchedulersSize() {
+    return (this.schedulers == null) ? 0 : this.schedulers.size();
+  }
+
+  public java.util.Iterator<String> getSchedulersIterator() {
+    return (this.schedulers == null) ? null : this.schedulers.iterator();
+  }
+
+  public void addToSchedulers(String elem) {
+    if (this.schedulers == null) {
+      this.schedulers = new ArrayList<String>();
+    }
+    this.schedulers.add(elem);
+  }
+
+  public List<String> getSchedulers() {
+    return this.schedulers;
+  }
+
+  public TStateStoreMembership setSchedulers(List<String> schedulers) {
+    this.schedulers = schedulers;
+    return this;
+  }
+
+  public void unsetSchedulers() {
+    this.schedulers = null;
+  }
+
+  /** Returns true if field schedulers is set (has been assigned a value) and false otherwise */
+  public boolean isSetSchedulers() {
+    return this.schedulers != null;
+  }
+
+  public void setSchedulersIsSet(boolean value) {
+    if (!value) {
+      this.schedulers = null;
+    }
+  }
+
+  public int getNodeMonitorsSize() {
+    return (this.nodeMonitors == null) ? 0 : this.nodeMonitors.size();
+  }
+
+  public java.util.Iterator<String> getNodeMonitorsIterator() {
+    return (this.nodeMonitors == null) ? null : this.nodeMonitors.iterator();
+  }
+
+  public void addToNodeMonitors(String elem) {
+    if (this.nodeMonitors == null) {
+      this.nodeMonitors = new ArrayList<String>();
+    }
+    this.nodeMonitors.add(elem);
+  }
+
+  public List<String> getNodeMonitors() {
+    return this.nodeMonitors;
+  }
+
+  public TStateStoreMembership setNodeMonitors(List<String> nodeMonitors) {
+    this.nodeMonitors = nodeMonitors;
+    return this;
+  }
+
+  public void unsetNodeMonitors() {
+    this.nodeMonitors = null;
+  }
+
+  /** Returns true if field nodeMonitors is set (has been assigned a value) and false otherwise */
+  public boolean isSetNodeMonitors() {
+    return this.nodeMonitors != null;
+  }
+
+  public void setNodeMonitorsIsSet(boolean value) {
+    if (!value) {
+      this.nodeMonitors = null;
+    }
+  }
+
+  public void setFieldValue(_Fields field, Object value) {
+    switch (field) {
+    case SCHEDULERS:
+      if (value == null) {
+        unsetSchedulers();
+      } else {
+        setSchedulers((List<String>)value);
+      }
+      break;
+
+    case NODE_MONITORS:
+      if (value == null) {
+        unsetNodeMonitors();
+      } else {
+        setNodeMonitors((List<String>)value);
+      }
+      break;
+
+    }
+  }
+
+  public Object getFieldValue(_Fields field) {
+    switch (field) {
+    case SCHEDULERS:
+      return getSchedulers();
+
+    case NODE_MONITORS:
+      return getNodeMonitors();
+
+    }
+    throw new IllegalStateException();
+  }
+
+  /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+  public boolean isSet(_Fields field) {
+    if (field == null) {
+      throw new IllegalArgumentException();
+    }
+
+    switch (field) {
+    case SCHEDULERS:
+      return isSetSchedulers();
+    case NODE_MONITORS:
+      return isSetNodeMonitors();
+    }
+    throw new IllegalStateException();
+  }
+
+  @Override
+  public boolean equals(Object that) {
+    if (that == null)
+      return false;
+    if (that instanceof TStateStoreMembership)
+      return this.equals((TStateStoreMembership)that);
+    return false;
+  }
+
+  public boolean equals(TStateStoreMembership that) {
+    if (that == null)
+      return false;
+
+    boolean this_present_schedulers = true && this.isSetSchedulers();
+    boolean that_present_schedulers = true && that.isSetSchedulers();
+    if (this_present_schedulers || that_present_schedulers) {
+      if (!(this_present_schedulers && that_present_schedulers))
+        return false;
+      if (!this.schedulers.equals(that.schedulers))
+        return false;
+    }
+
+    boolean this_present_nodeMonitors = true && this.isSetNodeMonitors();
+    boolean that_present_nodeMonitors = true && that.isSetNodeMonitors();
+    if (this_present_nodeMonitors || that_present_nodeMonitors) {
+      if (!(this_present_nodeMonitors && that_present_nodeMonitors))
+        return false;
+      if (!this.nodeMonitors.equals(that.nodeMonitors))
+        return false;
+    }
+
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    return 0;
+  }
+
+  public int compareTo(TStateStoreMembership other) {
+    if (!getClass().equals(other.getClass())) {
+      return getClass().getName().compareTo(other.getClass().getName());
+    }
+
+    int lastComparison = 0;
+    TStateStoreMembership typedOther = (TStateStoreMembership)other;
+
+    lastComparison = Boolean.valueOf(isSetSchedulers()).compareTo(typedOther.isSetSchedulers());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetSchedulers()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.schedulers, typedOther.schedulers);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = Boolean.valueOf(isSetNodeMonitors()).compareTo(typedOther.isSetNodeMonitors());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetNodeMonitors()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.nodeMonitors, typedOther.nodeMonitors);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    return 0;
+  }
+
+  public _Fields fieldForId(int fieldId) {
+    return _Fields.findByThriftId(fieldId);
+  }
+
+  public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+    schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+  }
+
+  public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+    schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder("TStateStoreMembership(");
+    boolean first = true;
+
+    sb.append("schedulers:");
+    if (this.schedulers == null) {
+      sb.append("null");
+    } else {
+      sb.append(this.schedulers);
+    }
+    first = false;
+    if (!first) sb.append(", ");
+    sb.append("nodeMonitors:");
+    if (this.nodeMonitors == null) {
+      sb.append("null");
+    } else {
+      sb.append(this.nodeMonitors);
+    }
+    first = false;
+    sb.append(")");
+    return sb.toString();
+  }
+
+  public void validate() throws org.apache.thrift.TException {
+    // check for required fields
+  }
+
+  private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+    try {
+      write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+    } catch (org.apache.thrift.TException te) {
+      throw new java.io.IOException(te.getMessage());
+    }
+  }
+
+  private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+    try {
+      read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+    } catch (org.apache.thrift.TException te) {
+      throw new java.io.IOException(te.getMessage());
+    }
+  }
+
+  private static class TStateStoreMembershipStandardSchemeFactory implements SchemeFactory {
+    public TStateStoreMembershipStandardScheme getScheme() {
+      return new TStateStoreMembershipStandardScheme();
+    }
+  }
+
+  private static class TStateStoreMembershipStandardScheme extends StandardScheme<TStateStoreMembership> {
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot, TStateStoreMembership struct) throws org.apache.thrift.TException {
+      org.apache.thrift.protocol.TField schemeField;
+      iprot.readStructBegin();
+      while (true)
+      {
+        schemeField = iprot.readFieldBegin();
+        if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+          break;
+        }
+        switch (schemeField.id) {
+          case 1: // SCHEDULERS
+            if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+              {
+                org.apache.thrift.protocol.TList _list32 = iprot.readListBegin();
+                struct.schedulers = new ArrayList<String>(_list32.size);
+                for (int _i33 = 0; _i33 < _list32.size; ++_i33)
+                {
+                  String _elem34; // required
+                  _elem34 = iprot.readString();
+                  struct.schedulers.add(_elem34);
+                }
+                iprot.readListEnd();
+              }
+              struct.setSchedulersIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 2: // NODE_MONITORS
+            if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+              {
+                org.apache.thrift.protocol.TList _list35 = iprot.readListBegin();
+                struct.nodeMonitors = new ArrayList<String>(_list35.size);
+                for (int _i36 = 0; _i36 < _list35.size; ++_i36)
+                {
+                  String _elem37; // required
+                  _elem37 = iprot.readString();
+                  struct.nodeMonitors.add(_elem37);
+                }
+                iprot.readListEnd();
+              }
+              struct.setNodeMonitorsIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          default:
+            org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+        }
+        iprot.readFieldEnd();
+      }
+      iprot.readStructEnd();
+
+      // check for required fields of primitive type, which can't be checked in the validate method
+      struct.validate();
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot, TStateStoreMembership struct) throws org.apache.thrift.TException {
+      struct.validate();
+
+      oprot.writeStructBegin(STRUCT_DESC);
+      if (struct.schedulers != null) {
+        oprot.writeFieldBegin(SCHEDULERS_FIELD_DESC);
+        {
+          oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.schedulers.size()));
+          for (String _iter38 : struct.schedulers)
+          {
+            oprot.writeString(_iter38);
+          }
+          oprot.writeListEnd();
+        }
+        oprot.writeFieldEnd();
+      }
+      if (struct.nodeMonitors != null) {
+        oprot.writeFieldBegin(NODE_MONITORS_FIELD_DESC);
+        {
+          oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.nodeMonitors.size()));
+          for (String _iter39 : struct.nodeMonitors)
+          {
+            oprot.writeString(_iter39);
+          }
+          oprot.writeListEnd();
+        }
+        oprot.writeFieldEnd();
+      }
+      oprot.writeFieldStop();
+      oprot.writeStructEnd();
+    }
+
+  }
+
+  private static class TStateStoreMembershipTupleSchemeFactory implements SchemeFactory {
+    public TStateStoreMembershipTupleScheme getScheme() {
+      return new TStateStoreMembershipTupleScheme();
+    }
+  }
+
+  private static class TStateStoreMembershipTupleScheme extends TupleScheme<TStateStoreMembership> {
+
+    @Override
+    public void write(org.apache.thrift.protocol.TProtocol prot, TStateStoreMembership struct) throws org.apache.thrift.TException {
+      TTupleProtocol oprot = (TTupleProtocol) prot;
+      BitSet optionals = new BitSet();
+      if (struct.isSetSchedulers()) {
+        optionals.set(0);
+      }
+      if (struct.isSetNodeMonitors()) {
+        optionals.set(1);
+      }
+      oprot.writeBitSet(optionals, 2);
+      if (struct.isSetSchedulers()) {
+        {
+          oprot.writeI32(struct.schedulers.size());
+          for (String _iter40 : struct.schedulers)
+          {
+            oprot.writeString(_iter40);
+          }
+        }
+      }
+      if (struct.isSetNodeMonitors()) {
+        {
+          oprot.writeI32(struct.nodeMonitors.size());
+          for (String _iter41 : struct.nodeMonitors)
+          {
+            oprot.writeString(_iter41);
+          }
+        }
+      }
+    }
+
+    @Override
+    public void read(org.apache.thrift.protocol.TProtocol prot, TStateStoreMembership struct) throws org.apache.thrift.TException {
+      TTupleProtocol iprot = (TTupleProtocol) prot;
+      BitSet incoming = iprot.readBitSet(2);
+      if (incoming.get(0)) {
+        {
+          org.apache.thrift.protocol.TList _list42 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+          struct.schedulers = new ArrayList<String>(_list42.size);
+          for (int _i43 = 0; _i43 < _list42.size; ++_i43)
+          {
+            String _elem44; // required
+            _elem44 = iprot.readString();
+            struct.schedulers.add(_elem44);
+          }
+        }
+        struct.setSchedulersIsSet(true);
+      }
+      if (incoming.get(1)) {
+        {
+          org.apache.thrift.protocol.TList _list45 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+          struct.nodeMonitors = new ArrayList<String>(_list45.size);
+          for (int _i46 = 0; _i46 < _list45.size; ++_i46)
+          {
+            String _elem47; // required
+            _elem47 = iprot.readString();
+            struct.nodeMonitors.add(_elem47);
+          }
+        }
+        struct.setNodeMonitorsIsSet(true);
+      }
+    }
+  }
+
+}
+
@@ -2,35 +2,191 @@ package edu.berkeley.sparrow.api;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Random;
+import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.configuration.PropertiesConfiguration;
 import org.apache.log4j.Logger;
+import org.apache.thrift.TApplicationException;
 import org.apache.thrift.TException;
 
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
 import edu.berkeley.sparrow.daemon.util.Network;
 import edu.berkeley.sparrow.daemon.util.TClients;
 import edu.berkeley.sparrow.daemon.util.TServers;
 import edu.berkeley.sparrow.thrift.FrontendService;
 import edu.berkeley.sparrow.thrift.IncompleteRequestException;
-import edu.berkeley.sparrow.thrift.SchedulerService;
+import edu.berkeley.sparrow.thrift.SchedulerOverloadedException;
 import edu.berkeley.sparrow.thrift.SchedulerService.Client;
+import edu.berkeley.sparrow.thrift.TFullTaskId;
 import edu.berkeley.sparrow.thrift.TSchedulingRequest;
+import edu.berkeley.sparrow.thrift.TTaskSpec;
 import edu.berkeley.sparrow.thrift.TUserGroupInfo;
 
 /**
  * Java client to Sparrow scheduling service. Once a client is initialize()'d it
  * can be used safely from multiple threads.
+ *
+ * The client may be given several schedulers. Each application's jobs stick to one scheduler
+ * (so that the scheduler's per-application state, like its cached backends, stays warm), but
+ * every submission also considers one other healthy scheduler chosen at random, and moves the
+ * application there if the current scheduler looks much more expensive (power of two choices).
+ * A scheduler's cost is estimated from the submit latency this client has observed, the
+ * submissions this client has in flight to it, and the load hint it returns with each
+ * heartbeat. A scheduler that rejects a job as overloaded is avoided until it asks to be
+ * retried.
+ *
+ * A scheduler isn't sent new jobs after a call to it fails, until it answers a heartbeat again.
+ * Each job is submitted with a job ID, and schedulers report the IDs of the job's tasks as they
+ * launch them; once a scheduler has missed several heartbeats in a row, the tasks that it hadn't
+ * launched are resubmitted to another scheduler. So that a scheduler that was only slow (e.g.,
+ * paused for garbage collection) doesn't launch those tasks too, it is told to cancel the jobs
+ * that were taken away from it before it is sent new jobs. Tasks that a scheduler launched
+ * before it was told to cancel, but hadn't reported yet, may still be launched a second time.
  */
 public class SparrowFrontendClient {
   private final static Logger LOG = Logger.getLogger(SparrowFrontendClient.class);
-  private final static int NUM_CLIENTS = 8; // Number of concurrent requests we support
+  private final static int NUM_CLIENTS = 8; // Number of idle connections kept per scheduler
   private final static int DEFAULT_LISTEN_PORT = 50201;
+  /** Number of times to submit a job that the scheduler rejects because it is overloaded. */
+  private final static int MAX_SUBMIT_ATTEMPTS = 10;
+  private final static int SUBMIT_TIMEOUT_MS = 60000;
+  /** Interval at which schedulers are checked, and the jobs of failed schedulers resubmitted. */
+  private final static int HEARTBEAT_INTERVAL_MS = 1000;
+  /** Longer than a typical garbage collection pause, so that a paused scheduler isn't failed. */
+  private final static int HEARTBEAT_TIMEOUT_MS = 5000;
+  /**
+   * Number of heartbeats in a row that a scheduler must miss before its jobs are resubmitted to
+   * another scheduler.
+   */
+  private final static int FAILOVER_MISSED_HEARTBEATS = 3;
+  /**
+   * Time after which a job whose tasks haven't all been reported launched is forgotten (e.g.,
+   * because the scheduler gave up on it), so that it isn't resubmitted if the scheduler fails.
+   */
+  private final static long MAX_PENDING_JOB_AGE_MS = 10 * 60 * 1000;
+  /** Weight of the latest sample in the moving average of each scheduler's submit latency. */
+  private final static double LATENCY_ALPHA = 0.2;
+  /** Load hint (outstanding tasks) at which a scheduler's cost doubles. */
+  private final static double LOAD_HINT_SCALE = 1000;
+  /**
+   * Factor by which an application's current scheduler must be more expensive than the
+   * alternative before the application moves, so that it doesn't move back and forth.
+   */
+  private final static double STICKINESS = 2.0;
+
+  /** A scheduler, and the connections to it. */
+  static class SchedulerConnection {
+    final InetSocketAddress address;
+    /** Idle clients connected to the scheduler. */
+    final BlockingQueue<Client> clients = new LinkedBlockingQueue<Client>();
+    /*
+     * The following are guarded by the frontend client.
+     */
+    /** Whether the scheduler answered the last call to it. */
+    boolean healthy = false;
+    /** Number of heartbeats in a row that the scheduler hasn't answered. */
+    int missedHeartbeats = 0;
+    /**
+     * IDs of the jobs that were taken away from the scheduler (or that might have reached it
+     * when a submission failed), which it must cancel before it is sent new jobs.
+     */
+    final Set<String> abandonedJobIds = Sets.newHashSet();
+    /** Moving average of the time to submit a job to the scheduler, or 0 before any submit. */
+    double latencyMicros = 0;
+    /** Number of submissions in flight to the scheduler. */
+    int inFlight = 0;
+    /** Load hint returned by the scheduler's last heartbeat. */
+    int loadHint = 0;
+    /** Time until which the scheduler asked not to be sent jobs, because it is overloaded. */
+    long overloadedUntilMillis = 0;
+
+    SchedulerConnection(InetSocketAddress address) {
+      this.address = address;
+    }
+
+    /**
+     * Returns the estimated cost of submitting a job to the scheduler. A scheduler that hasn't
+     * been sent a job yet is cheap, so that it gets tried.
+     */
+    double cost() {
+      return Math.max(latencyMicros, 1) * (1 + inFlight) * (1 + loadHint / LOAD_HINT_SCALE);
+    }
+
+    /** Returns whether the scheduler's jobs have been resubmitted to other schedulers. */
+    boolean hasFailedOver() {
+      return missedHeartbeats >= FAILOVER_MISSED_HEARTBEATS;
+    }
+  }
+
+  /** A job that has tasks that haven't been reported launched. */
+  private static class PendingJob {
+    final TSchedulingRequest request;
+    final long submitMillis;
+    /** IDs of the tasks that haven't been reported launched. */
+    final Set<String> unlaunchedTaskIds = Sets.newHashSet();
+    /** The scheduler that accepted the job, or null while the job is being (re)submitted. */
+    SchedulerConnection scheduler = null;
+
+    PendingJob(TSchedulingRequest request, long submitMillis) {
+      this.request = request;
+      this.submitMillis = submitMillis;
+      for (TTaskSpec task : request.getTasks()) {
+        unlaunchedTaskIds.add(task.getTaskId());
+      }
+    }
 
-  BlockingQueue<SchedulerService.Client> clients =
-      new LinkedBlockingQueue<SchedulerService.Client>();
+    /** Returns the job, with only the tasks that haven't been reported launched. */
+    TSchedulingRequest getUnlaunchedRequest() {
+      if (unlaunchedTaskIds.size() == request.getTasksSize()) {
+        return request;
+      }
+      TSchedulingRequest unlaunched = request.deepCopy();
+      Iterator<TTaskSpec> it = unlaunched.getTasks().iterator();
+      while (it.hasNext()) {
+        if (!unlaunchedTaskIds.contains(it.next().getTaskId())) {
+          it.remove();
+        }
+      }
+      return unlaunched;
+    }
+  }
+
+  private String app;
+  /** Address at which schedulers call this frontend (IP:Port). */
+  private String address;
+  private List<SchedulerConnection> schedulers = Lists.newArrayList();
+  /** The scheduler that each application's jobs go to, indexed by application. Guarded by this. */
+  private Map<String, SchedulerConnection> stickySchedulers = Maps.newHashMap();
+  private final Random random;
+  private AtomicLong jobCounter = new AtomicLong(0);
+  /**
+   * Jobs that have tasks that haven't been reported launched, indexed by job ID. Guarded by
+   * this.
+   */
+  private Map<String, PendingJob> pendingJobs = Maps.newHashMap();
+  /** Jobs whose scheduler failed, which still need to be resubmitted. Guarded by this. */
+  private List<PendingJob> orphanedJobs = Lists.newArrayList();
+  private Thread heartbeatThread;
+
+  public SparrowFrontendClient() {
+    this(new Random());
+  }
+
+  SparrowFrontendClient(Random random) {
+    this.random = random;
+  }
 
   /**
    * Initialize a connection to a sparrow scheduler.
@@ -60,42 +216,94 @@ public class SparrowFrontendClient {
   public void initialize(InetSocketAddress sparrowSchedulerAddr, String app,
       FrontendService.Iface frontendServer, int listenPort)
       throws TException, IOException {
+    initialize(Lists.newArrayList(sparrowSchedulerAddr), app, frontendServer, listenPort);
+  }
+
+  /**
+   * Initialize connections to several sparrow schedulers, which jobs are spread over and which
+   * take over each other's jobs if one fails.
+   * @param sparrowSchedulerAddrs. The socket addresses of the Sparrow schedulers.
+   * @param app. The application id. Note that this must be consistent across frontends
+   *             and backends.
+   * @param frontendServer. A class which implements the frontend server interface (for
+   *                        communication from Sparrow).
+   * @param listenPort. The port on which to listen for request from the scheduler.
+   * @throws IOException if none of the schedulers can be reached.
+   */
+  public void initialize(List<InetSocketAddress> sparrowSchedulerAddrs, String app,
+      final FrontendService.Iface frontendServer, int listenPort)
+      throws TException, IOException {
+    // Launch reports are handled here; everything else goes to the application's frontend.
+    FrontendService.Iface handler = new FrontendService.Iface() {
+      @Override
+      public void frontendMessage(TFullTaskId taskId, int status, ByteBuffer message)
+          throws TException {
+        frontendServer.frontendMessage(taskId, status, message);
+      }
 
+      @Override
+      public void tasksLaunched(Map<String, List<String>> launchedTasks) {
+        SparrowFrontendClient.this.tasksLaunched(launchedTasks);
+      }
+    };
     FrontendService.Processor<FrontendService.Iface> processor =
-        new FrontendService.Processor<FrontendService.Iface>(frontendServer);
+        new FrontendService.Processor<FrontendService.Iface>(handler);
     try {
       TServers.launchThreadedThriftServer(listenPort, 8, processor);
     } catch (IOException e) {
       LOG.fatal("Couldn't launch server side of frontend", e);
     }
 
-    for (int i = 0; i < NUM_CLIENTS; i++) {
-      Client client = TClients.createBlockingSchedulerClient(
-          sparrowSchedulerAddr.getAddress().getHostAddress(), sparrowSchedulerAddr.getPort(),
-          60000);
-      clients.add(client);
+    if (!connect(sparrowSchedulerAddrs, app,
+                 Network.getIPAddress(new PropertiesConfiguration()) + ":" + listenPort)) {
+      throw new IOException("Unable to reach any of the schedulers " + sparrowSchedulerAddrs);
+    }
+    heartbeatThread = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        while (true) {
+          synchronized (SparrowFrontendClient.this) {
+            try {
+              SparrowFrontendClient.this.wait(HEARTBEAT_INTERVAL_MS);
+            } catch (InterruptedException e) {
+              return;
+            }
+          }
+          try {
+            checkSchedulers(System.currentTimeMillis());
+          } catch (RuntimeException e) {
+            LOG.error("Error checking schedulers", e);
+          }
+        }
+      }
+    }, "SparrowFrontendClient heartbeat");
+    heartbeatThread.setDaemon(true);
+    heartbeatThread.start();
+  }
+
+  /**
+   * Registers with the given schedulers, and returns whether any of them could be reached.
+   * {@code address} is the address at which schedulers call this frontend (IP:Port).
+   */
+  boolean connect(List<InetSocketAddress> schedulerAddrs, String app, String address) {
+    this.app = app;
+    this.address = address;
+    boolean anyHealthy = false;
+    for (InetSocketAddress schedulerAddr : schedulerAddrs) {
+      SchedulerConnection scheduler = new SchedulerConnection(schedulerAddr);
+      schedulers.add(scheduler);
+      if (heartbeat(scheduler)) {
+        anyHealthy = true;
+      }
     }
-    clients.peek().registerFrontend(app, Network.getIPAddress(new PropertiesConfiguration())
-        + ":" + listenPort);
+    return anyHealthy;
   }
 
   public boolean submitJob(String app,
       List<edu.berkeley.sparrow.thrift.TTaskSpec> tasks, TUserGroupInfo user)
           throws TException {
     TSchedulingRequest request = new TSchedulingRequest(app, tasks, user);
-    try {
-      Client client = clients.take();
-      client.submitJob(request);
-      clients.put(client);
-    } catch (InterruptedException e) {
-      LOG.fatal(e);
-    } catch (TException e) {
-      LOG.error("Thrift exception when submitting job: ");
-      return false;
-    } catch (IncompleteRequestException e) {
-      LOG.error(e);
-    }
-    return true;
+    return submit(Lists.newArrayList(request));
   }
 
   public boolean submitJob(String app,
@@ -104,24 +312,405 @@ public class SparrowFrontendClient {
           throws TException {
     TSchedulingRequest request = new TSchedulingRequest(app, tasks, user);
     request.setProbeRatio(probeRatio);
+    return submit(Lists.newArrayList(request));
+  }
+
+  /**
+   * Submits several jobs using a single RPC to the scheduler. This is preferable to calling
+   * {@link #submitJob} repeatedly when many small jobs are ready at the same time.
+   */
+  public boolean submitJobs(List<TSchedulingRequest> requests) throws TException {
+    return submit(requests);
+  }
+
+  /** Assigns job IDs to the given jobs, and tracks them until their tasks are launched. */
+  private boolean submit(List<TSchedulingRequest> requests) {
+    List<PendingJob> jobs = Lists.newArrayList();
+    long now = System.currentTimeMillis();
+    synchronized (this) {
+      for (TSchedulingRequest request : requests) {
+        if (!request.isSetJobId()) {
+          request.setJobId(address + "_" + jobCounter.getAndIncrement());
+        }
+        request.setLaunchReportAddress(address);
+        PendingJob job = new PendingJob(request, now);
+        pendingJobs.put(request.getJobId(), job);
+        jobs.add(job);
+      }
+    }
+    if (!submit(jobs, MAX_SUBMIT_ATTEMPTS)) {
+      forget(jobs);
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Submits the unlaunched tasks of the given jobs to a healthy scheduler, with submitJobs() if
+   * there are several jobs and submitJob() otherwise. If the scheduler fails or is overloaded,
+   * tries another one, and if every scheduler is overloaded, waits as long as the scheduler asks;
+   * either way, up to {@code maxAttempts} times. Returns false if the jobs couldn't be submitted.
+   */
+  private boolean submit(List<PendingJob> jobs, int maxAttempts) {
+    if (jobs.isEmpty()) {
+      return true;
+    }
+    String app = jobs.get(0).request.getApp();
+    for (int attempt = 1; ; ++attempt) {
+      SchedulerConnection scheduler = chooseScheduler(app, System.currentTimeMillis());
+      long waitMillis = HEARTBEAT_INTERVAL_MS;
+      String error = "no scheduler is reachable";
+      if (scheduler != null) {
+        List<TSchedulingRequest> requests = Lists.newArrayList();
+        synchronized (this) {
+          for (PendingJob job : jobs) {
+            if (!job.unlaunchedTaskIds.isEmpty()) {
+              requests.add(job.getUnlaunchedRequest());
+            }
+          }
+          if (requests.isEmpty()) {
+            return true;
+          }
+          scheduler.inFlight++;
+        }
+        long start = System.nanoTime();
+        try {
+          submitTo(scheduler, requests);
+          submitted(scheduler, start, 0);
+          accepted(jobs, scheduler);
+          return true;
+        } catch (TException e) {
+          synchronized (this) {
+            scheduler.inFlight--;
+            // The scheduler may have accepted the jobs before the call failed.
+            for (TSchedulingRequest request : requests) {
+              scheduler.abandonedJobIds.add(request.getJobId());
+            }
+          }
+          LOG.warn("Error submitting job(s) to scheduler " + scheduler.address, e);
+          callFailed(scheduler);
+          error = "scheduler " + scheduler.address + " failed";
+          waitMillis = 0;
+        } catch (IncompleteRequestException e) {
+          submitted(scheduler, start, 0);
+          LOG.error(e);
+          forget(jobs);
+          return true;
+        } catch (SchedulerOverloadedException e) {
+          submitted(scheduler, start, e.getRetryAfterMillis());
+          error = e.getMessage();
+          waitMillis = isAnySchedulerAvailable(System.currentTimeMillis()) ?
+              0 : e.getRetryAfterMillis();
+        }
+      }
+      if (attempt >= maxAttempts) {
+        LOG.warn("Unable to submit job(s) after " + attempt + " attempt(s): " + error);
+        return false;
+      }
+      LOG.debug(error + "; retrying in " + waitMillis + "ms");
+      try {
+        Thread.sleep(waitMillis);
+      } catch (InterruptedException e) {
+        LOG.fatal(e);
+        return false;
+      }
+    }
+  }
+
+  /**
+   * Records that a submission to the given scheduler finished, after the scheduler asked to wait
+   * {@code retryAfterMillis} if it was overloaded.
+   */
+  private synchronized void submitted(SchedulerConnection scheduler, long startNanos,
+                                      long retryAfterMillis) {
+    scheduler.inFlight--;
+    double latencyMicros = (System.nanoTime() - startNanos) / 1000.0;
+    if (scheduler.latencyMicros == 0) {
+      scheduler.latencyMicros = latencyMicros;
+    } else {
+      scheduler.latencyMicros = LATENCY_ALPHA * latencyMicros +
+                                (1 - LATENCY_ALPHA) * scheduler.latencyMicros;
+    }
+    if (retryAfterMillis > 0) {
+      scheduler.overloadedUntilMillis = System.currentTimeMillis() + retryAfterMillis;
+    }
+  }
+
+  /** Returns the healthy schedulers that aren't overloaded. Must be called holding this. */
+  private List<SchedulerConnection> getAvailableSchedulers(long nowMillis) {
+    List<SchedulerConnection> available = Lists.newArrayList();
+    for (SchedulerConnection scheduler : schedulers) {
+      if (scheduler.healthy && scheduler.overloadedUntilMillis <= nowMillis) {
+        available.add(scheduler);
+      }
+    }
+    return available;
+  }
+
+  private synchronized boolean isAnySchedulerAvailable(long nowMillis) {
+    return !getAvailableSchedulers(nowMillis).isEmpty();
+  }
+
+  /**
+   * Returns the scheduler to send the given application's next job to, or null if no scheduler
+   * is healthy. The application's current scheduler is kept unless it is unavailable, or more
+   * than STICKINESS times as expensive as another available scheduler chosen at random; an
+   * application without a scheduler gets the cheaper of two random ones. If every healthy
+   * scheduler is overloaded, they are all considered.
+   */
+  synchronized SchedulerConnection chooseScheduler(String app, long nowMillis) {
+    List<SchedulerConnection> candidates = getAvailableSchedulers(nowMillis);
+    if (candidates.isEmpty()) {
+      for (SchedulerConnection scheduler : schedulers) {
+        if (scheduler.healthy) {
+          candidates.add(scheduler);
+        }
+      }
+      if (candidates.isEmpty()) {
+        return null;
+      }
+    }
+    SchedulerConnection sticky = stickySchedulers.get(app);
+    boolean isSticky = sticky != null && candidates.contains(sticky);
+    SchedulerConnection first = isSticky ? sticky :
+        candidates.get(random.nextInt(candidates.size()));
+    candidates.remove(first);
+    SchedulerConnection chosen = first;
+    if (!candidates.isEmpty()) {
+      SchedulerConnection second = candidates.get(random.nextInt(candidates.size()));
+      if (second.cost() * (isSticky ? STICKINESS : 1) < first.cost()) {
+        chosen = second;
+      }
+    }
+    stickySchedulers.put(app, chosen);
+    return chosen;
+  }
+
+  /** Records that the given scheduler accepted the given jobs. */
+  private synchronized void accepted(List<PendingJob> jobs, SchedulerConnection scheduler) {
+    for (PendingJob job : jobs) {
+      if (pendingJobs.containsKey(job.request.getJobId())) {
+        job.scheduler = scheduler;
+        if (scheduler.hasFailedOver()) {
+          // The scheduler failed after accepting the job, but before it was recorded here.
+          orphan(job);
+        }
+      }
+    }
+  }
+
+  /**
+   * Takes the given job away from its scheduler, so that it is resubmitted at the next heartbeat.
+   * Must be called holding this.
+   */
+  private void orphan(PendingJob job) {
+    job.scheduler.abandonedJobIds.add(job.request.getJobId());
+    job.scheduler = null;
+    orphanedJobs.add(job);
+  }
+
+  private synchronized void forget(List<PendingJob> jobs) {
+    for (PendingJob job : jobs) {
+      pendingJobs.remove(job.request.getJobId());
+    }
+  }
+
+  /**
+   * Records that the given scheduler missed a heartbeat. Once it has missed
+   * FAILOVER_MISSED_HEARTBEATS in a row, its unlaunched tasks are resubmitted.
+   */
+  private void heartbeatMissed(SchedulerConnection scheduler) {
+    synchronized (this) {
+      scheduler.missedHeartbeats++;
+      if (scheduler.missedHeartbeats == FAILOVER_MISSED_HEARTBEATS) {
+        LOG.warn("Scheduler " + scheduler.address + " failed; resubmitting its unlaunched tasks");
+        for (PendingJob job : pendingJobs.values()) {
+          if (job.scheduler == scheduler) {
+            orphan(job);
+          }
+        }
+      }
+    }
+    callFailed(scheduler);
+  }
+
+  /** Stops sending new jobs to the given scheduler until it answers a heartbeat. */
+  private void callFailed(SchedulerConnection scheduler) {
+    synchronized (this) {
+      if (scheduler.healthy) {
+        LOG.warn("Scheduler " + scheduler.address + " is unreachable");
+        scheduler.healthy = false;
+      }
+    }
+    Client client;
+    while ((client = scheduler.clients.poll()) != null) {
+      client.getOutputProtocol().getTransport().close();
+    }
+  }
+
+  /** Handles a launch report from a scheduler (see FrontendService.tasksLaunched()). */
+  synchronized void tasksLaunched(Map<String, List<String>> launchedTasks) {
+    for (Entry<String, List<String>> entry : launchedTasks.entrySet()) {
+      PendingJob job = pendingJobs.get(entry.getKey());
+      if (job == null) {
+        continue;
+      }
+      job.unlaunchedTaskIds.removeAll(entry.getValue());
+      if (job.unlaunchedTaskIds.isEmpty()) {
+        pendingJobs.remove(entry.getKey());
+      }
+    }
+  }
+
+  /** Returns the number of jobs that have tasks that haven't been reported launched. */
+  synchronized int getPendingJobs() {
+    return pendingJobs.size();
+  }
+
+  /**
+   * Checks whether each scheduler is reachable, resubmits the jobs of schedulers that failed,
+   * and forgets jobs that are older than MAX_PENDING_JOB_AGE_MS.
+   */
+  void checkSchedulers(long nowMillis) {
+    for (SchedulerConnection scheduler : schedulers) {
+      heartbeat(scheduler);
+    }
+    List<PendingJob> orphaned;
+    synchronized (this) {
+      Iterator<PendingJob> it = pendingJobs.values().iterator();
+      while (it.hasNext()) {
+        if (nowMillis - it.next().submitMillis > MAX_PENDING_JOB_AGE_MS) {
+          it.remove();
+        }
+      }
+      orphaned = Lists.newArrayList();
+      for (PendingJob job : orphanedJobs) {
+        if (pendingJobs.containsKey(job.request.getJobId())) {
+          orphaned.add(job);
+        }
+      }
+      orphanedJobs.clear();
+    }
+    // Jobs that can't be resubmitted yet (e.g., because no scheduler is reachable) are tried
+    // again at the next heartbeat.
+    if (!orphaned.isEmpty() && isAnySchedulerAvailable(nowMillis)) {
+      LOG.info("Resubmitting " + orphaned.size() + " job(s) from failed schedulers");
+      if (submit(orphaned, 1)) {
+        return;
+      }
+    }
+    synchronized (this) {
+      orphanedJobs.addAll(orphaned);
+    }
+  }
+
+  /**
+   * Registers with the given scheduler, tells it to cancel the jobs that were taken away from
+   * it, and returns (and records) whether it answered.
+   */
+  private boolean heartbeat(SchedulerConnection scheduler) {
+    List<String> abandonedJobIds;
+    synchronized (this) {
+      abandonedJobIds = Lists.newArrayList(scheduler.abandonedJobIds);
+    }
+    int loadHint;
     try {
-      Client client = clients.take();
-      client.submitJob(request);
-      clients.put(client);
-    } catch (InterruptedException e) {
-      LOG.fatal(e);
+      loadHint = register(scheduler.address, abandonedJobIds);
+    } catch (IOException e) {
+      heartbeatMissed(scheduler);
+      return false;
     } catch (TException e) {
-      LOG.error(e);
+      heartbeatMissed(scheduler);
       return false;
-    } catch (IncompleteRequestException e) {
-      LOG.error(e);
+    }
+    synchronized (this) {
+      scheduler.missedHeartbeats = 0;
+      scheduler.loadHint = loadHint;
+      scheduler.abandonedJobIds.removeAll(abandonedJobIds);
+      // Jobs abandoned since the heartbeat started are cancelled at the next heartbeat.
+      if (!scheduler.healthy && scheduler.abandonedJobIds.isEmpty()) {
+        LOG.info("Scheduler " + scheduler.address + " is reachable");
+        scheduler.healthy = true;
+      }
     }
     return true;
   }
 
+  /**
+   * Registers this frontend with the given scheduler, tells it to cancel the given jobs, and
+   * returns its load hint.
+   */
+  protected int register(InetSocketAddress scheduler, List<String> cancelledJobIds)
+      throws IOException, TException {
+    Client client = TClients.createBlockingSchedulerClient(
+        scheduler.getAddress().getHostAddress(), scheduler.getPort(), HEARTBEAT_TIMEOUT_MS);
+    try {
+      client.registerFrontend(app, address);
+      if (!cancelledJobIds.isEmpty()) {
+        try {
+          client.cancelJobs(cancelledJobIds);
+        } catch (TApplicationException e) {
+          // The scheduler predates cancellation.
+          LOG.warn("Scheduler " + scheduler + " can't cancel jobs; their unlaunched tasks " +
+                   "may be launched twice");
+        }
+      }
+      try {
+        return client.getLoadHint();
+      } catch (TApplicationException e) {
+        // The scheduler predates load hints.
+        return 0;
+      }
+    } finally {
+      client.getOutputProtocol().getTransport().close();
+    }
+  }
+
+  /** Submits the given jobs to the given scheduler, in a single call. */
+  protected void submitTo(SchedulerConnection scheduler, List<TSchedulingRequest> requests)
+      throws TException, IncompleteRequestException, SchedulerOverloadedException {
+    Client client = scheduler.clients.poll();
+    if (client == null) {
+      try {
+        client = TClients.createBlockingSchedulerClient(
+            scheduler.address.getAddress().getHostAddress(), scheduler.address.getPort(),
+            SUBMIT_TIMEOUT_MS);
+      } catch (IOException e) {
+        throw new TException(e);
+      }
+    }
+    boolean reusable = false;
+    try {
+      if (requests.size() == 1) {
+        client.submitJob(requests.get(0));
+      } else {
+        client.submitJobs(requests);
+      }
+      reusable = true;
+    } catch (IncompleteRequestException e) {
+      reusable = true;
+      throw e;
+    } catch (SchedulerOverloadedException e) {
+      reusable = true;
+      throw e;
+    } finally {
+      if (reusable && scheduler.clients.size() < NUM_CLIENTS) {
+        scheduler.clients.add(client);
+      } else {
+        client.getOutputProtocol().getTransport().close();
+      }
+    }
+  }
+
   public void close() {
-    for (int i = 0; i < NUM_CLIENTS; i++) {
-      clients.poll().getOutputProtocol().getTransport().close();
+    if (heartbeatThread != null) {
+      heartbeatThread.interrupt();
+    }
+    for (SchedulerConnection scheduler : schedulers) {
+      Client client;
+      while ((client = scheduler.clients.poll()) != null) {
+        client.getOutputProtocol().getTransport().close();
+      }
     }
   }
 }
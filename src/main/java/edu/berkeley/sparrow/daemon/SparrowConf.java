@@ -4,8 +4,14 @@ package edu.berkeley.sparrow.daemon;
  * Configuration parameters for sparrow.
  */
 public class SparrowConf {
-  // Values: "debug", "info", "warn", "error", "fatal"
+  // Values: "trace", "debug", "info", "warn", "error", "fatal"
   public final static String LOG_LEVEL = "log_level";
+  /**
+   * When the log level is "trace", only one in this many calls on the scheduling path are
+   * traced; see {@link edu.berkeley.sparrow.daemon.util.Tracing}.
+   */
+  public final static String TRACE_SAMPLE_EVERY = "trace.sample_every";
+  public final static int DEFAULT_TRACE_SAMPLE_EVERY = 1;
 
   public final static String ZK_SERVERS = "zk.server.string";
   public final static String ZK_TIMEOUT = "zk.timeout";
@@ -30,7 +36,10 @@ public class SparrowConf {
   public final static String NM_THRIFT_THREADS = "agent.thrift.threads";
   public final static String INTERNAL_THRIFT_THREADS =
       "internal_agent.thrift.threads";
-  /** Type of task scheduler to use on node monitor. Values: "fifo", "round_robin". */
+  /**
+   * Type of task scheduler to use on node monitor. Values: "fifo", "round_robin",
+   * "shortest_expected_first".
+   */
   public final static String NM_TASK_SCHEDULER_TYPE = "node_monitor.task_scheduler";
 
   public final static String SYSTEM_MEMORY = "system.memory";
@@ -51,6 +60,53 @@ public class SparrowConf {
   public final static String STATE_STORE_PORT = "state_store.port";
   public final static int DEFAULT_STATE_STORE_PORT = 20506;
 
+  /**
+   * File in which the state store (in production mode) records the schedulers and node monitors
+   * it knows about, so that it can resume contacting them as soon as it restarts. The file is
+   * compacted once it holds more than the given number of records (and more than twice the
+   * number of known schedulers and node monitors).
+   */
+  public final static String STATE_STORE_MEMBERSHIP_LOG = "state_store.membership_log";
+  public final static String DEFAULT_STATE_STORE_MEMBERSHIP_LOG = "sparrow_membership.log";
+  public final static String STATE_STORE_COMPACT_RECORDS =
+      "state_store.membership_log.compact_records";
+  public final static int DEFAULT_STATE_STORE_COMPACT_RECORDS = 4096;
+
+  /**
+   * Addresses (host:port) of the state store shards. If set, node monitors and schedulers
+   * register with every shard, and each shard polls the node monitors in its range of a
+   * consistent hash ring of the live shards (which it learns about from the shards listed
+   * here). If unset, there is a single state store at state_store.host:state_store.port.
+   */
+  public final static String STATE_STORE_SHARDS = "state_store.shards";
+  /** How often the state store polls each node monitor and updates each scheduler. */
+  public final static String STATE_STORE_POLL_INTERVAL_MS = "state_store.poll_interval_ms";
+  public final static int DEFAULT_STATE_STORE_POLL_INTERVAL_MS = 5000;
+  public final static String STATE_STORE_UPDATE_INTERVAL_MS = "state_store.update_interval_ms";
+  public final static int DEFAULT_STATE_STORE_UPDATE_INTERVAL_MS = 5000;
+  /**
+   * A shard that hasn't been heard from for this long is considered to have left: other shards
+   * take over its node monitors, and schedulers discard the node states it sent.
+   */
+  public final static String STATE_STORE_SHARD_TIMEOUT_MS = "state_store.shard_timeout_ms";
+  public final static int DEFAULT_STATE_STORE_SHARD_TIMEOUT_MS = 15000;
+  /** Number of threads the state store uses for each of its client interfaces. */
+  public final static String STATE_STORE_CLIENT_THREADS = "state_store.client_threads";
+  public final static int DEFAULT_STATE_STORE_CLIENT_THREADS = 1;
+  /**
+   * The state store only polls a node monitor that pushes its load (see
+   * {@link #LOAD_REPORT_ENABLED}) if it hasn't pushed for this long, so this should be a few
+   * times {@link #LOAD_REPORT_MAX_INTERVAL_MS}.
+   */
+  public final static String STATE_STORE_PUSH_TIMEOUT_MS = "state_store.push_timeout_ms";
+  public final static int DEFAULT_STATE_STORE_PUSH_TIMEOUT_MS = 30000;
+  /**
+   * The state store forgets a scheduler's quota demand (see
+   * {@link #QUOTA_RECONCILE_INTERVAL_MS}) if the scheduler hasn't reported for this long.
+   */
+  public final static String STATE_STORE_QUOTA_TIMEOUT_MS = "state_store.quota_timeout_ms";
+  public final static int DEFAULT_STATE_STORE_QUOTA_TIMEOUT_MS = 5000;
+
   /** The ratio of probes used in a scheduling decision to tasks. */
   // For requests w/o constraints...
   public final static String SAMPLE_RATIO = "sample.ratio";
@@ -59,13 +115,199 @@ public class SparrowConf {
   public final static String SAMPLE_RATIO_CONSTRAINED = "sample.ratio.constrained";
   public final static int DEFAULT_SAMPLE_RATIO_CONSTRAINED = 2;
 
+  /**
+   * How long the scheduler waits for enough slots to launch a gang-scheduled job before
+   * releasing the slots it holds and re-probing, and the maximum number of attempts to make.
+   */
+  public final static String GANG_TIMEOUT_MS = "gang.timeout_ms";
+  public final static int DEFAULT_GANG_TIMEOUT_MS = 5000;
+  public final static String GANG_MAX_ATTEMPTS = "gang.max_attempts";
+  public final static int DEFAULT_GANG_MAX_ATTEMPTS = 3;
+  /**
+   * How long a node monitor holds a slot for a gang reservation before giving it up. This is a
+   * safety net in case the scheduler fails, so should be longer than the scheduler's timeout.
+   */
+  public final static String GANG_HOLD_TIMEOUT_MS = "node_monitor.gang_hold_timeout_ms";
+  public final static int DEFAULT_GANG_HOLD_TIMEOUT_MS = 15000;
+
+  /**
+   * Whether idle node monitors steal queued reservations from their peers (see
+   * {@link edu.berkeley.sparrow.daemon.nodemonitor.WorkStealer}). While it has idle slots, a
+   * node monitor asks peers_per_attempt randomly chosen peers for reservations every interval.
+   * Peers are the internal addresses (host:port) listed in peers, or, if that isn't set, the
+   * statically configured node monitors.
+   */
+  public final static String WORK_STEALING_ENABLED = "node_monitor.work_stealing.enabled";
+  public final static boolean DEFAULT_WORK_STEALING_ENABLED = true;
+  public final static String WORK_STEALING_INTERVAL_MS =
+      "node_monitor.work_stealing.interval_ms";
+  public final static int DEFAULT_WORK_STEALING_INTERVAL_MS = 100;
+  public final static String WORK_STEALING_PEERS_PER_ATTEMPT =
+      "node_monitor.work_stealing.peers_per_attempt";
+  public final static int DEFAULT_WORK_STEALING_PEERS_PER_ATTEMPT = 2;
+  public final static String WORK_STEALING_PEERS = "node_monitor.work_stealing.peers";
+  /**
+   * How long a node monitor waits for a thief to confirm that it received stolen reservations
+   * before putting them back in its queue. Should be longer than the thief's RPC timeouts.
+   */
+  public final static String WORK_STEALING_LEASE_TIMEOUT_MS =
+      "node_monitor.work_stealing.lease_timeout_ms";
+  public final static int DEFAULT_WORK_STEALING_LEASE_TIMEOUT_MS = 5000;
+
+  /**
+   * How node monitors estimate task runtimes (see
+   * {@link edu.berkeley.sparrow.daemon.nodemonitor.RuntimeEstimator}): the weight of each new
+   * runtime in the moving average, and the runtime assumed for applications none of whose tasks
+   * have finished yet.
+   */
+  public final static String RUNTIME_ESTIMATE_ALPHA = "node_monitor.runtime_estimate.alpha";
+  public final static double DEFAULT_RUNTIME_ESTIMATE_ALPHA = 0.2;
+  public final static String RUNTIME_ESTIMATE_DEFAULT_MS =
+      "node_monitor.runtime_estimate.default_ms";
+  public final static int DEFAULT_RUNTIME_ESTIMATE_DEFAULT_MS = 100;
+  /**
+   * The shortest-expected-first task scheduler launches a reservation that has been queued for
+   * this long ahead of any shorter ones, so that long tasks aren't starved.
+   */
+  public final static String SEF_STARVATION_MS = "node_monitor.sef.starvation_ms";
+  public final static int DEFAULT_SEF_STARVATION_MS = 5000;
+  /**
+   * Maximum number of reservations that each user may have queued at a node monitor (0 means no
+   * limit). A user's further reservations are held back until some of the queued ones start, so
+   * that they don't add to the queueing delay of other users' tasks.
+   */
+  public final static String MAX_QUEUED_RESERVATIONS_PER_USER =
+      "node_monitor.max_queued_reservations_per_user";
+  public final static int DEFAULT_MAX_QUEUED_RESERVATIONS_PER_USER = 0;
+
+  /**
+   * Whether node monitors (in production mode) push their load to the state store when it
+   * changes (see {@link edu.berkeley.sparrow.daemon.nodemonitor.LoadReporter}). Changes are
+   * pushed at most once per min interval, and only if an application's queue length or the
+   * cores or memory in use have changed by at least the given thresholds since the last push;
+   * the load is pushed at least once per max interval regardless.
+   */
+  public final static String LOAD_REPORT_ENABLED = "node_monitor.load_report.enabled";
+  public final static boolean DEFAULT_LOAD_REPORT_ENABLED = true;
+  public final static String LOAD_REPORT_MIN_INTERVAL_MS =
+      "node_monitor.load_report.min_interval_ms";
+  public final static int DEFAULT_LOAD_REPORT_MIN_INTERVAL_MS = 250;
+  public final static String LOAD_REPORT_MAX_INTERVAL_MS =
+      "node_monitor.load_report.max_interval_ms";
+  public final static int DEFAULT_LOAD_REPORT_MAX_INTERVAL_MS = 10000;
+  public final static String LOAD_REPORT_QUEUE_THRESHOLD =
+      "node_monitor.load_report.queue_threshold";
+  public final static int DEFAULT_LOAD_REPORT_QUEUE_THRESHOLD = 1;
+  public final static String LOAD_REPORT_CORES_THRESHOLD =
+      "node_monitor.load_report.cores_threshold";
+  public final static int DEFAULT_LOAD_REPORT_CORES_THRESHOLD = 1;
+  public final static String LOAD_REPORT_MEMORY_THRESHOLD_MB =
+      "node_monitor.load_report.memory_threshold_mb";
+  public final static int DEFAULT_LOAD_REPORT_MEMORY_THRESHOLD_MB = 1024;
+
+  /**
+   * How long the scheduler uses the load that a node monitor piggybacked on an RPC (see
+   * {@link edu.berkeley.sparrow.daemon.scheduler.NodeLoadCache}). Reservations for unconstrained
+   * jobs are placed on the least loaded of candidate_ratio times as many randomly chosen nodes
+   * as there are reservations; a ratio of 1 places them on random nodes.
+   */
+  public final static String LOAD_CACHE_MAX_AGE_MS = "scheduler.load_cache.max_age_ms";
+  public final static int DEFAULT_LOAD_CACHE_MAX_AGE_MS = 2000;
+  public final static String LOAD_CACHE_CANDIDATE_RATIO =
+      "scheduler.load_cache.candidate_ratio";
+  public final static double DEFAULT_LOAD_CACHE_CANDIDATE_RATIO = 2.0;
+
+  /**
+   * When the scheduler quarantines a node monitor (see
+   * {@link edu.berkeley.sparrow.daemon.scheduler.NodeMonitorHealth}): after failure_threshold
+   * consecutive failed RPCs, or when the moving average of its RPC latencies (with weight
+   * ewma_alpha for each new sample) exceeds slow_threshold_ms. Quarantines start at
+   * initial_backoff_ms and double, up to max_backoff_ms, while the node monitor stays unhealthy.
+   */
+  public final static String HEALTH_FAILURE_THRESHOLD = "scheduler.health.failure_threshold";
+  public final static int DEFAULT_HEALTH_FAILURE_THRESHOLD = 3;
+  public final static String HEALTH_SLOW_THRESHOLD_MS = "scheduler.health.slow_threshold_ms";
+  public final static int DEFAULT_HEALTH_SLOW_THRESHOLD_MS = 1000;
+  public final static String HEALTH_EWMA_ALPHA = "scheduler.health.ewma_alpha";
+  public final static double DEFAULT_HEALTH_EWMA_ALPHA = 0.2;
+  public final static String HEALTH_INITIAL_BACKOFF_MS = "scheduler.health.initial_backoff_ms";
+  public final static int DEFAULT_HEALTH_INITIAL_BACKOFF_MS = 1000;
+  public final static String HEALTH_MAX_BACKOFF_MS = "scheduler.health.max_backoff_ms";
+  public final static int DEFAULT_HEALTH_MAX_BACKOFF_MS = 60000;
+
+  /**
+   * Admission control on the scheduler (see
+   * {@link edu.berkeley.sparrow.daemon.scheduler.AdmissionController}). A job is rejected if
+   * accepting it would leave more than max_outstanding_tasks tasks that haven't been launched,
+   * or more than max_outstanding_tasks_per_app for the job's application (0 means no limit).
+   * Once the outstanding tasks exceed shed_fraction of the limit, jobs are rejected with a
+   * probability that grows linearly to 1 at the limit. Rejected frontends are asked to retry
+   * after between 1 and 2 times retry_after_ms.
+   */
+  public final static String ADMISSION_MAX_OUTSTANDING_TASKS =
+      "scheduler.admission.max_outstanding_tasks";
+  public final static int DEFAULT_ADMISSION_MAX_OUTSTANDING_TASKS = 100000;
+  public final static String ADMISSION_MAX_OUTSTANDING_TASKS_PER_APP =
+      "scheduler.admission.max_outstanding_tasks_per_app";
+  public final static int DEFAULT_ADMISSION_MAX_OUTSTANDING_TASKS_PER_APP = 0;
+  public final static String ADMISSION_SHED_FRACTION = "scheduler.admission.shed_fraction";
+  public final static double DEFAULT_ADMISSION_SHED_FRACTION = 0.8;
+  public final static String ADMISSION_RETRY_AFTER_MS = "scheduler.admission.retry_after_ms";
+  public final static int DEFAULT_ADMISSION_RETRY_AFTER_MS = 100;
+
+  /**
+   * Cluster-wide quotas on the rate at which users and groups may submit tasks (see
+   * {@link edu.berkeley.sparrow.daemon.scheduler.QuotaManager}). Each is a comma-separated list
+   * of name:tasks_per_second pairs; users and groups that aren't listed have no quota. A
+   * principal may submit up to burst_seconds worth of tasks at once. In production mode,
+   * schedulers reconcile their shares of each quota through the state store every
+   * reconcile_interval_ms.
+   */
+  public final static String QUOTA_USERS = "scheduler.quota.users";
+  public final static String QUOTA_GROUPS = "scheduler.quota.groups";
+  public final static String QUOTA_BURST_SECONDS = "scheduler.quota.burst_seconds";
+  public final static double DEFAULT_QUOTA_BURST_SECONDS = 2.0;
+  public final static String QUOTA_RECONCILE_INTERVAL_MS =
+      "scheduler.quota.reconcile_interval_ms";
+  public final static int DEFAULT_QUOTA_RECONCILE_INTERVAL_MS = 1000;
+
+  /**
+   * Rack topology used by the scheduler for rack-aware placement. Expects a comma-separated
+   * list of host:rack pairs; hosts that are not listed are assumed to be in
+   * {@link edu.berkeley.sparrow.daemon.scheduler.RackTopology#DEFAULT_RACK}.
+   */
+  public final static String RACK_TOPOLOGY = "topology.racks";
+
+  /**
+   * Format of the audit log: "text" (log4j, one line per event) or "binary" (fixed-layout
+   * records written asynchronously to a memory-mapped file; see
+   * {@link edu.berkeley.sparrow.daemon.util.BinaryAuditLog}). The number of records the binary
+   * log buffers in memory is also configurable; records are dropped if the buffer fills up.
+   */
+  public final static String AUDIT_LOG_FORMAT = "audit_log.format";
+  public final static String DEFAULT_AUDIT_LOG_FORMAT = "text";
+  public final static String AUDIT_LOG_BUFFER_RECORDS = "audit_log.buffer_records";
+  public final static int DEFAULT_AUDIT_LOG_BUFFER_RECORDS = 65536;
+
+  /**
+   * Port on which the daemon serves its scheduler and node monitor metrics over HTTP (see
+   * {@link edu.berkeley.sparrow.daemon.metrics.MetricsHttpServer}); 0 or less disables it.
+   */
+  public final static String METRICS_HTTP_PORT = "metrics.http.port";
+  public final static int DEFAULT_METRICS_HTTP_PORT = 20508;
+
+  /**
+   * Fraction of jobs that schedulers trace, and the maximum number of spans each daemon keeps
+   * for traced jobs (see {@link edu.berkeley.sparrow.daemon.trace.Tracer}).
+   */
+  public final static String JOB_TRACE_SAMPLE_RATE = "job_trace.sample_rate";
+  public final static double DEFAULT_JOB_TRACE_SAMPLE_RATE = 0.001;
+  public final static String JOB_TRACE_MAX_SPANS = "job_trace.max_spans";
+  public final static int DEFAULT_JOB_TRACE_MAX_SPANS = 100000;
+
   /** The hostname of this machine. */
   public final static String HOSTNAME = "hostname";
 
-  /** The size of the task set to consider a signal from spark about allocation */
-  public final static String SPECIAL_TASK_SET_SIZE = "special.task.set.size";
-  public final static int DEFAULT_SPECIAL_TASK_SET_SIZE = 2;
-
   // Parameters for static operation (least usable system tests).
   // Expects a comma-separated list of host:port pairs describing the address of the
   // internal interface of the node monitors.
@@ -10,9 +10,12 @@ import org.apache.log4j.BasicConfigurator;
 import org.apache.log4j.Level;
 import org.apache.log4j.Logger;
 
+import edu.berkeley.sparrow.daemon.metrics.MetricsHttpServer;
 import edu.berkeley.sparrow.daemon.nodemonitor.NodeMonitorThrift;
 import edu.berkeley.sparrow.daemon.scheduler.SchedulerThrift;
+import edu.berkeley.sparrow.daemon.trace.Tracer;
 import edu.berkeley.sparrow.daemon.util.Logging;
+import edu.berkeley.sparrow.daemon.util.Tracing;
 
 /**
  * Class representing the Sparrow daemon. This stores state about the frontends
@@ -20,13 +23,14 @@ import edu.berkeley.sparrow.daemon.util.Logging;
  * such as the backends running on other nodes.
  */
 public class SparrowDaemon {
-  // Eventually, we'll want to change this to something higher than debug.
-  public final static Level DEFAULT_LOG_LEVEL = Level.DEBUG;
+  public final static Level DEFAULT_LOG_LEVEL = Level.INFO;
   
   public void initialize(Configuration conf) throws Exception {
     Level logLevel = Level.toLevel(conf.getString(SparrowConf.LOG_LEVEL, ""),
         DEFAULT_LOG_LEVEL);
     Logger.getRootLogger().setLevel(logLevel);
+    Tracing.configure(conf);
+    Tracer.configure(conf);
 
     // Start as many node monitors as specified in config
     String[] nmPorts = conf.getStringArray(SparrowConf.NM_THRIFT_PORTS);
@@ -55,6 +59,12 @@ public class SparrowDaemon {
     
     SchedulerThrift scheduler = new SchedulerThrift();
     scheduler.initialize(conf);
+
+    int metricsPort = conf.getInt(SparrowConf.METRICS_HTTP_PORT,
+                                  SparrowConf.DEFAULT_METRICS_HTTP_PORT);
+    if (metricsPort > 0) {
+      new MetricsHttpServer(metricsPort);
+    }
   }
   
   public static void main(String[] args) throws Exception {
@@ -72,10 +82,9 @@ public class SparrowDaemon {
     // Set up a simple configuration that logs on the console.
     BasicConfigurator.configure();
     
-    Logging.configureAuditLogging();
-        
     String configFile = (String) options.valueOf("c");
     Configuration conf = new PropertiesConfiguration(configFile);
+    Logging.configureAuditLogging(conf);
     SparrowDaemon sparrowDaemon = new SparrowDaemon();
     sparrowDaemon.initialize(conf);
   }
@@ -1,11 +1,9 @@
 package edu.berkeley.sparrow.daemon;
 
 import java.net.InetSocketAddress;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 import edu.berkeley.sparrow.daemon.nodemonitor.StandaloneNodeMonitorState;
+import edu.berkeley.sparrow.daemon.scheduler.BackendIndex;
 import edu.berkeley.sparrow.daemon.scheduler.StandaloneSchedulerState;
 import edu.berkeley.sparrow.thrift.TResourceVector;
 
@@ -23,31 +21,22 @@ public class StandaloneStateStore {
           return instance;
   }
   
-  // appId -> map of app nodes
-  private Map<String, Map<InetSocketAddress, TResourceVector>> applications;
+  // appId -> app nodes
+  private BackendIndex applications;
   
   // Private constructor prevents instantiation from other classes
   private StandaloneStateStore() {
-    applications = new HashMap<String, Map<InetSocketAddress, TResourceVector>>();
+    applications = new BackendIndex();
   }
   
   // SOURCE: StandaloneNodeMonitorState
-  public synchronized void registerBackend(
-      String appId, InetSocketAddress nmAddr) {
-    if (!this.applications.containsKey(appId)) {
-      this.applications.put(appId, new HashMap<InetSocketAddress, TResourceVector>());
-    }
-    this.applications.get(appId).put(nmAddr, new TResourceVector());
+  public void registerBackend(String appId, InetSocketAddress nmAddr) {
+    applications.addBackend(appId, nmAddr, new TResourceVector());
   }
   
   // SOURCE: StandaloneSchedulerState
-  public synchronized ConcurrentHashMap<InetSocketAddress, TResourceVector> getBackends(
-      String appId) {
-    if (applications.containsKey(appId)) {
-      return new ConcurrentHashMap<InetSocketAddress, TResourceVector>(
-          applications.get(appId));
-    } else {
-      return new ConcurrentHashMap<InetSocketAddress, TResourceVector>();
-    }
+  public BackendIndex.Snapshot getBackends(String appId) {
+    // Snapshots are immutable, so they can be shared with the caller without copying.
+    return applications.getBackends(appId);
   }
 }
@@ -0,0 +1,61 @@
+package edu.berkeley.sparrow.daemon.audit;
+
+import java.util.List;
+
+import com.google.common.base.Joiner;
+import com.google.common.base.Splitter;
+import com.google.common.collect.Lists;
+
+/**
+ * An event read from an audit log: the name of the audit logger that recorded it, when it was
+ * recorded (in milliseconds since the epoch), the event name, and its parameters.
+ */
+public class AuditEvent {
+  private static Splitter fieldSplitter = Splitter.on('\t');
+  private static Splitter paramSplitter = Splitter.on(':');
+  private static Joiner paramJoiner = Joiner.on(':');
+
+  public final String category;
+  public final long timeMillis;
+  public final String name;
+  public final String[] params;
+
+  public AuditEvent(String category, long timeMillis, String name, String[] params) {
+    this.category = category;
+    this.timeMillis = timeMillis;
+    this.name = name;
+    this.params = params;
+  }
+
+  /** Returns parameter {@code i}, or an empty string if the event has fewer parameters. */
+  public String getParam(int i) {
+    return i < params.length ? params[i] : "";
+  }
+
+  /**
+   * Parses a line of a text audit log (see
+   * {@link edu.berkeley.sparrow.daemon.util.Logging#configureAuditLogging}), or returns null if
+   * the line isn't a valid event.
+   */
+  public static AuditEvent parse(String line) {
+    List<String> fields = Lists.newArrayList(fieldSplitter.split(line));
+    if (fields.size() != 3) {
+      return null;
+    }
+    long time;
+    try {
+      time = Long.parseLong(fields.get(1));
+    } catch (NumberFormatException e) {
+      return null;
+    }
+    List<String> params = Lists.newArrayList(paramSplitter.split(fields.get(2)));
+    String name = params.remove(0);
+    return new AuditEvent(fields.get(0), time, name, params.toArray(new String[params.size()]));
+  }
+
+  /** Returns the event as a line of a text audit log (without the newline). */
+  @Override
+  public String toString() {
+    return category + "\t" + timeMillis + "\t" + paramJoiner.join(Lists.asList(name, params));
+  }
+}
@@ -0,0 +1,189 @@
+package edu.berkeley.sparrow.daemon.audit;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import joptsimple.OptionParser;
+import joptsimple.OptionSet;
+
+import org.apache.log4j.BasicConfigurator;
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+/**
+ * Prints sliding-window job response time, queueing and utilization statistics from Sparrow
+ * audit logs (text or binary), using an {@link AuditStreamAnalyzer}.
+ *
+ * In batch mode (the default), the given logs are merged in time order and the statistics for
+ * the whole run are printed at the end. With -f, the logs are followed as they are written
+ * (like tail -f), and directories are periodically re-scanned for new logs, until the process
+ * is killed.
+ *
+ * Usage: AuditLogAnalyzer [options] log_file_or_directory [...]
+ */
+public class AuditLogAnalyzer {
+  private final static Logger LOG = Logger.getLogger(AuditLogAnalyzer.class);
+  /** Audit logs in a directory are the files whose names start with this. */
+  private final static String AUDIT_LOG_PREFIX = "sparrow_audit";
+  /** Maximum number of events to read from one log before moving on to the next, in -f mode. */
+  private final static int FOLLOW_BATCH_EVENTS = 10000;
+
+  /** The next event from a log, used to merge logs in time order. */
+  private static class PendingEvent {
+    final AuditLogReader reader;
+    final AuditEvent event;
+
+    PendingEvent(AuditLogReader reader, AuditEvent event) {
+      this.reader = reader;
+      this.event = event;
+    }
+  }
+
+  /** Adds the audit logs at or in each of {@code paths} that aren't in {@code files}. */
+  private static List<File> findLogs(List<String> paths, Set<File> files) {
+    List<File> found = Lists.newArrayList();
+    for (String path : paths) {
+      File file = new File(path);
+      File[] candidates = file.isDirectory() ? file.listFiles() : new File[] {file};
+      if (candidates == null) {
+        continue;
+      }
+      for (File candidate : candidates) {
+        if ((candidate == file || candidate.getName().startsWith(AUDIT_LOG_PREFIX)) &&
+            candidate.isFile() && files.add(candidate)) {
+          found.add(candidate);
+        }
+      }
+    }
+    return found;
+  }
+
+  /** Processes the events in all of the readers, in time order. */
+  private static void analyze(List<AuditLogReader> readers, AuditStreamAnalyzer analyzer)
+      throws IOException {
+    PriorityQueue<PendingEvent> events = new PriorityQueue<PendingEvent>(
+        Math.max(readers.size(), 1), new Comparator<PendingEvent>() {
+          @Override
+          public int compare(PendingEvent a, PendingEvent b) {
+            return a.event.timeMillis < b.event.timeMillis ? -1 :
+                (a.event.timeMillis == b.event.timeMillis ? 0 : 1);
+          }
+        });
+    for (AuditLogReader reader : readers) {
+      AuditEvent event = reader.next();
+      if (event != null) {
+        events.add(new PendingEvent(reader, event));
+      }
+    }
+    while (!events.isEmpty()) {
+      PendingEvent next = events.poll();
+      analyzer.process(next.event);
+      AuditEvent event = next.reader.next();
+      if (event != null) {
+        events.add(new PendingEvent(next.reader, event));
+      }
+    }
+  }
+
+  /**
+   * Processes events as they're written to the logs, until interrupted. Events are processed in
+   * the order they're read, which is only approximately time order across logs.
+   */
+  private static void follow(List<String> paths, AuditStreamAnalyzer analyzer, long pollMillis)
+      throws IOException, InterruptedException {
+    Set<File> files = Sets.newHashSet();
+    List<AuditLogReader> readers = Lists.newArrayList();
+    while (true) {
+      for (File file : findLogs(paths, files)) {
+        LOG.info("Following " + file);
+        readers.add(AuditLogReader.open(file));
+      }
+      boolean idle = true;
+      for (AuditLogReader reader : readers) {
+        AuditEvent event;
+        int read = 0;
+        while (read < FOLLOW_BATCH_EVENTS && (event = reader.next()) != null) {
+          analyzer.process(event);
+          read++;
+        }
+        idle &= read == 0;
+      }
+      if (idle) {
+        Thread.sleep(pollMillis);
+      }
+    }
+  }
+
+  public static void main(String[] args) throws Exception {
+    OptionParser parser = new OptionParser();
+    parser.accepts("w", "window (seconds)").withRequiredArg().ofType(Double.class)
+        .defaultsTo(60.0);
+    parser.accepts("i", "reporting interval (seconds)").withRequiredArg().ofType(Double.class)
+        .defaultsTo(10.0);
+    parser.accepts("t", "time after which incomplete jobs are dropped (seconds)")
+        .withRequiredArg().ofType(Double.class).defaultsTo(300.0);
+    parser.accepts("m", "maximum number of incomplete jobs held in memory")
+        .withRequiredArg().ofType(Integer.class).defaultsTo(1000000);
+    parser.accepts("s", "start of the summary, in seconds after the first event")
+        .withRequiredArg().ofType(Double.class).defaultsTo(0.0);
+    parser.accepts("e", "end of the summary, in seconds after the first event")
+        .withRequiredArg().ofType(Double.class);
+    parser.accepts("f", "follow the logs as they are written");
+    parser.accepts("p", "how often to poll for new events with -f (milliseconds)")
+        .withRequiredArg().ofType(Long.class).defaultsTo(500L);
+    parser.accepts("help", "print help statement");
+    OptionSet options = parser.parse(args);
+    @SuppressWarnings("unchecked")
+    List<String> paths = (List<String>) options.nonOptionArguments();
+
+    if (options.has("help") || paths.isEmpty()) {
+      System.err.println("Usage: AuditLogAnalyzer [options] log_file_or_directory [...]");
+      parser.printHelpOn(System.err);
+      System.exit(-1);
+    }
+
+    BasicConfigurator.configure();
+    Logger.getRootLogger().setLevel(Level.INFO);
+
+    final AuditStreamAnalyzer analyzer = new AuditStreamAnalyzer(
+        System.out, (long) ((Double) options.valueOf("w") * 1000),
+        (long) ((Double) options.valueOf("i") * 1000),
+        (long) ((Double) options.valueOf("t") * 1000), (Integer) options.valueOf("m"));
+    long summaryEndMillis = Long.MAX_VALUE;
+    if (options.has("e")) {
+      summaryEndMillis = (long) ((Double) options.valueOf("e") * 1000);
+    }
+    analyzer.setSummaryRange((long) ((Double) options.valueOf("s") * 1000), summaryEndMillis);
+
+    if (options.has("f")) {
+      Runtime.getRuntime().addShutdownHook(new Thread() {
+        @Override
+        public void run() {
+          analyzer.printSummary();
+        }
+      });
+      follow(paths, analyzer, (Long) options.valueOf("p"));
+      return;
+    }
+
+    List<AuditLogReader> readers = Lists.newArrayList();
+    for (File file : findLogs(paths, Sets.<File>newHashSet())) {
+      readers.add(AuditLogReader.open(file));
+    }
+    try {
+      analyze(readers, analyzer);
+    } finally {
+      for (AuditLogReader reader : readers) {
+        reader.close();
+      }
+    }
+    analyzer.printSummary();
+  }
+}
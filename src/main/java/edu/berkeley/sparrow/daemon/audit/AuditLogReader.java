@@ -0,0 +1,51 @@
+package edu.berkeley.sparrow.daemon.audit;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+
+import edu.berkeley.sparrow.daemon.util.BinaryAuditLog;
+
+/**
+ * Reads events from an audit log file, which may still be being written.
+ *
+ * {@link #next} returns null when there are no more complete events in the file; if the file
+ * is still being written, calling it again later returns the events written since.
+ */
+public abstract class AuditLogReader {
+  private final File file;
+
+  protected AuditLogReader(File file) {
+    this.file = file;
+  }
+
+  public File getFile() {
+    return file;
+  }
+
+  /** Returns the next event in the log, or null if no more events have been written yet. */
+  public abstract AuditEvent next() throws IOException;
+
+  public abstract void close() throws IOException;
+
+  /**
+   * Opens the given audit log, which may be in either the text or binary format (see
+   * {@link edu.berkeley.sparrow.daemon.SparrowConf#AUDIT_LOG_FORMAT}).
+   */
+  public static AuditLogReader open(File file) throws IOException {
+    DataInputStream in = new DataInputStream(new FileInputStream(file));
+    int magic = 0;
+    try {
+      magic = in.readInt();
+    } catch (IOException e) {
+      // Too short to be a binary log.
+    } finally {
+      in.close();
+    }
+    if (magic == BinaryAuditLog.MAGIC) {
+      return new BinaryAuditLogReader(file);
+    }
+    return new TextAuditLogReader(file);
+  }
+}
@@ -0,0 +1,341 @@
+package edu.berkeley.sparrow.daemon.audit;
+
+import java.io.PrintStream;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.google.common.collect.Maps;
+
+import edu.berkeley.sparrow.daemon.metrics.Histogram;
+
+/**
+ * Computes job response time, queueing and utilization statistics from a stream of audit events
+ * (from the schedulers and node monitors in a cluster), as the events arrive.
+ *
+ * Events are joined per job and per task as in parse_logs.py, but only jobs that haven't
+ * finished are held in memory: a job is dropped as soon as all of its tasks have completed,
+ * and jobs that are still incomplete {@code timeoutMillis} after their first event (or that
+ * don't fit in {@code maxPendingRequests}) are dropped and counted as expired. Times are event
+ * times (taken from the audit log), so a batch of logs gives the same results as processing
+ * the events live, provided that events arrive roughly in time order.
+ *
+ * Every {@code intervalMillis} of event time, a line is printed with statistics for the jobs and
+ * tasks in the preceding {@code windowMillis}:
+ * <ul>
+ * <li> jobs: number of jobs that finished
+ * <li> resp_*: job response time: from arrival at the scheduler until the last task completed
+ * <li> queue_*: task queueing time: from job arrival until the task was assigned to a node
+ *      monitor (which includes waiting for a reservation to reach the front of a queue)
+ * <li> svc_*: task service time: from launch until completion
+ * <li> running: average number of tasks running across the cluster
+ * <li> pending: number of jobs with outstanding tasks
+ * </ul>
+ * All times are in milliseconds. As in parse_logs.py, task completion times are adjusted for
+ * clock skew between the scheduler and node monitor before computing response times.
+ */
+public class AuditStreamAnalyzer {
+  /** A job whose events are still being joined. */
+  private static class Request {
+    final long firstEventMillis;
+    long arrivalMillis = -1;
+    int numTasks = -1;
+    int completedTasks = 0;
+    final HashMap<String, Task> tasks = Maps.newHashMap();
+    /** When each node monitor (by address) called getTask() for this job. */
+    final HashMap<String, Long> getTaskMillis = Maps.newHashMap();
+
+    Request(long firstEventMillis) {
+      this.firstEventMillis = firstEventMillis;
+    }
+
+    Task getTask(String taskId) {
+      Task task = tasks.get(taskId);
+      if (task == null) {
+        task = new Task();
+        tasks.put(taskId, task);
+      }
+      return task;
+    }
+  }
+
+  private static class Task {
+    String nodeMonitor = "";
+    long assignedMillis = -1;
+    long launchMillis = -1;
+    long completedMillis = -1;
+    boolean queueRecorded = false;
+
+    /**
+     * Returns the time the task completed, adjusted to the scheduler's clock using the time the
+     * scheduler assigned the task (which should be half way between the node monitor's
+     * getTask() call and the task launch).
+     */
+    long getAdjustedCompletionMillis(Request request) {
+      Long getTaskMillis = request.getTaskMillis.get(nodeMonitor);
+      if (getTaskMillis == null || assignedMillis < 0 || launchMillis < 0) {
+        return completedMillis;
+      }
+      long skew = assignedMillis - (getTaskMillis + launchMillis) / 2;
+      return completedMillis + skew;
+    }
+  }
+
+  private final PrintStream out;
+  private final long windowMillis;
+  private final long intervalMillis;
+  private final long timeoutMillis;
+  private final int maxPendingRequests;
+
+  /** Jobs that haven't finished, in the order their first event was seen. */
+  private final LinkedHashMap<String, Request> requests;
+  private long expiredRequests = 0;
+
+  private final SlidingWindowHistogram responseTimes;
+  private final SlidingWindowHistogram queueTimes;
+  private final SlidingWindowHistogram serviceTimes;
+
+  /** Statistics over the whole stream, restricted to [summaryStartMillis, summaryEndMillis). */
+  private final Histogram totalResponseTimes = new Histogram("response_time_ms");
+  private final Histogram totalQueueTimes = new Histogram("queue_time_ms");
+  private final Histogram totalServiceTimes = new Histogram("service_time_ms");
+  private long summaryStartMillis = 0;
+  private long summaryEndMillis = Long.MAX_VALUE;
+
+  private long firstEventMillis = -1;
+  private long lastEventMillis = -1;
+  private long nextReportMillis = -1;
+  private long unknownEvents = 0;
+  private long malformedEvents = 0;
+
+  public AuditStreamAnalyzer(PrintStream out, long windowMillis, long intervalMillis,
+                             long timeoutMillis, int maxPendingRequests) {
+    if (intervalMillis <= 0 || windowMillis < intervalMillis) {
+      throw new IllegalArgumentException("Window must be at least as long as the interval");
+    }
+    this.out = out;
+    this.windowMillis = windowMillis;
+    this.intervalMillis = intervalMillis;
+    this.timeoutMillis = timeoutMillis;
+    this.maxPendingRequests = maxPendingRequests;
+    requests = new LinkedHashMap<String, Request>() {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Request> eldest) {
+        if (size() > AuditStreamAnalyzer.this.maxPendingRequests) {
+          expiredRequests++;
+          return true;
+        }
+        return false;
+      }
+    };
+    int numSlots = (int) ((windowMillis + intervalMillis - 1) / intervalMillis);
+    responseTimes = new SlidingWindowHistogram("response_time_ms", intervalMillis, numSlots);
+    queueTimes = new SlidingWindowHistogram("queue_time_ms", intervalMillis, numSlots);
+    serviceTimes = new SlidingWindowHistogram("service_time_ms", intervalMillis, numSlots);
+  }
+
+  /**
+   * Restricts the summary statistics to values attributed to times in [startMillis, endMillis),
+   * relative to the first event (like START_SEC and END_SEC in parse_logs.py).
+   */
+  public synchronized void setSummaryRange(long startMillis, long endMillis) {
+    summaryStartMillis = startMillis;
+    summaryEndMillis = endMillis;
+  }
+
+  public synchronized void process(AuditEvent event) {
+    long time = event.timeMillis;
+    if (firstEventMillis < 0) {
+      firstEventMillis = time;
+      nextReportMillis = (time / intervalMillis + 1) * intervalMillis;
+      out.println(String.format("%8s %6s %8s %8s %8s %8s %8s %8s %8s %8s %7s %7s", "time_s",
+                                "jobs", "resp_p50", "resp_p90", "resp_p99", "queue_p50",
+                                "queue_p90", "queue_p99", "svc_p50", "svc_p99", "running",
+                                "pending"));
+    }
+    if (time > lastEventMillis) {
+      lastEventMillis = time;
+      while (lastEventMillis >= nextReportMillis) {
+        report(nextReportMillis);
+        expire(nextReportMillis - timeoutMillis);
+        nextReportMillis += intervalMillis;
+        if (lastEventMillis - nextReportMillis > windowMillis) {
+          // Skip over a gap in the events, rather than printing a report for each interval.
+          nextReportMillis = (lastEventMillis - windowMillis) / intervalMillis * intervalMillis;
+        }
+      }
+    }
+
+    String name = event.name;
+    if (name.equals("arrived")) {
+      int numTasks;
+      try {
+        numTasks = Integer.parseInt(event.getParam(1));
+      } catch (NumberFormatException e) {
+        // E.g., the request ID contains ':' (as in logs from older schedulers), so it was split
+        // into several parameters.
+        malformedEvents++;
+        return;
+      }
+      Request request = getRequest(event.getParam(0), time);
+      request.arrivalMillis = time;
+      request.numTasks = numTasks;
+      for (Task task : request.tasks.values()) {
+        recordQueueTime(request, task);
+      }
+      checkCompleted(event.getParam(0), request);
+    } else if (name.equals("scheduler_assigned_task")) {
+      Request request = getRequest(event.getParam(0), time);
+      Task task = request.getTask(event.getParam(1));
+      task.assignedMillis = time;
+      recordQueueTime(request, task);
+    } else if (name.equals("node_monitor_get_task")) {
+      getRequest(event.getParam(0), time).getTaskMillis.put(event.getParam(1), time);
+    } else if (name.equals("node_monitor_task_launch")) {
+      Request request = getRequest(event.getParam(0), time);
+      Task task = request.getTask(event.getParam(2));
+      task.nodeMonitor = event.getParam(1);
+      task.launchMillis = time;
+      recordServiceTime(task);
+      checkCompleted(event.getParam(0), request);
+    } else if (name.equals("task_completed")) {
+      Request request = getRequest(event.getParam(0), time);
+      Task task = request.getTask(event.getParam(1));
+      if (task.completedMillis < 0) {
+        request.completedTasks++;
+      }
+      task.completedMillis = time;
+      recordServiceTime(task);
+      checkCompleted(event.getParam(0), request);
+    } else if (!isKnownEvent(name)) {
+      unknownEvents++;
+    }
+  }
+
+  /** Returns whether the event is one that isn't needed for the statistics computed here. */
+  private static boolean isKnownEvent(String name) {
+    return name.startsWith("scheduler_") || name.startsWith("node_monitor_") ||
+        name.equals("reservation_enqueued");
+  }
+
+  private Request getRequest(String requestId, long time) {
+    Request request = requests.get(requestId);
+    if (request == null) {
+      request = new Request(time);
+      requests.put(requestId, request);
+    }
+    return request;
+  }
+
+  private void recordServiceTime(Task task) {
+    if (task.launchMillis >= 0 && task.completedMillis >= 0) {
+      record(serviceTimes, totalServiceTimes, task.completedMillis,
+             task.completedMillis - task.launchMillis);
+    }
+  }
+
+  private void recordQueueTime(Request request, Task task) {
+    if (!task.queueRecorded && task.assignedMillis >= 0 && request.arrivalMillis >= 0) {
+      record(queueTimes, totalQueueTimes, task.assignedMillis,
+             task.assignedMillis - request.arrivalMillis);
+      task.queueRecorded = true;
+    }
+  }
+
+  /** If all of the job's tasks have completed, records its response time and drops it. */
+  private void checkCompleted(String requestId, Request request) {
+    if (request.arrivalMillis < 0 || request.completedTasks < request.numTasks ||
+        request.tasks.size() != request.numTasks) {
+      return;
+    }
+    for (Task task : request.tasks.values()) {
+      if (task.launchMillis < 0) {
+        // The launch event hasn't been seen yet (e.g., it's in a log that's behind).
+        return;
+      }
+    }
+    long completionMillis = request.arrivalMillis;
+    for (Task task : request.tasks.values()) {
+      completionMillis = Math.max(completionMillis, task.getAdjustedCompletionMillis(request));
+    }
+    record(responseTimes, totalResponseTimes, completionMillis,
+           completionMillis - request.arrivalMillis);
+    requests.remove(requestId);
+  }
+
+  private void record(SlidingWindowHistogram window, Histogram total, long timeMillis,
+                      long value) {
+    window.record(timeMillis, value);
+    long relativeMillis = timeMillis - firstEventMillis;
+    if (relativeMillis >= summaryStartMillis && relativeMillis < summaryEndMillis) {
+      total.record(value);
+    }
+  }
+
+  /** Drops jobs whose first event was before {@code cutoffMillis}. */
+  private void expire(long cutoffMillis) {
+    Iterator<Request> iterator = requests.values().iterator();
+    while (iterator.hasNext() && iterator.next().firstEventMillis < cutoffMillis) {
+      iterator.remove();
+      expiredRequests++;
+    }
+  }
+
+  /** Prints statistics for the window that ends at {@code endMillis}. */
+  private void report(long endMillis) {
+    Histogram response = responseTimes.getWindow(endMillis);
+    Histogram queue = queueTimes.getWindow(endMillis);
+    Histogram service = serviceTimes.getWindow(endMillis);
+    long elapsedMillis = Math.min(windowMillis, endMillis - firstEventMillis);
+    out.println(String.format("%8.1f %6d %8d %8d %8d %8d %8d %8d %8d %8d %7.1f %7d",
+                              (endMillis - firstEventMillis) / 1000.0, response.getCount(),
+                              response.get50thPercentile(), response.get90thPercentile(),
+                              response.get99thPercentile(), queue.get50thPercentile(),
+                              queue.get90thPercentile(), queue.get99thPercentile(),
+                              service.get50thPercentile(), service.get99thPercentile(),
+                              ((double) service.getSum()) / Math.max(elapsedMillis, 1),
+                              requests.size()));
+  }
+
+  /** Prints statistics over the whole stream (or the summary range, if one was set). */
+  public synchronized void printSummary() {
+    out.println();
+    out.println(String.format("%.1f s of events; %d jobs still pending, %d expired, %d " +
+                              "unknown events, %d malformed events",
+                              (lastEventMillis - firstEventMillis) / 1000.0, requests.size(),
+                              expiredRequests, unknownEvents, malformedEvents));
+    out.println(totalResponseTimes);
+    out.println(totalQueueTimes);
+    out.println(totalServiceTimes);
+  }
+
+  public synchronized Histogram getTotalResponseTimes() {
+    return totalResponseTimes;
+  }
+
+  public synchronized Histogram getTotalQueueTimes() {
+    return totalQueueTimes;
+  }
+
+  public synchronized Histogram getTotalServiceTimes() {
+    return totalServiceTimes;
+  }
+
+  /** Returns the number of jobs that have events but haven't finished. */
+  public synchronized int getPendingRequests() {
+    return requests.size();
+  }
+
+  /** Returns the number of jobs that were dropped before they finished. */
+  public synchronized long getExpiredRequests() {
+    return expiredRequests;
+  }
+
+  /** Returns the number of events that were ignored because their parameters were invalid. */
+  public synchronized long getMalformedEvents() {
+    return malformedEvents;
+  }
+}
@@ -0,0 +1,158 @@
+package edu.berkeley.sparrow.daemon.audit;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.HashMap;
+
+import com.google.common.collect.Maps;
+
+import edu.berkeley.sparrow.daemon.util.BinaryAuditLog;
+
+/**
+ * Reads an audit log written by {@link BinaryAuditLog}.
+ *
+ * While a binary log is being written, the file beyond the last record is zero, and the writer
+ * may be part way through copying a record into the file. Records that are zero-length, or
+ * whose parameters don't add up to the record's length, are treated as not written yet, and
+ * re-read from the file on the next call to {@link #next}.
+ */
+public class BinaryAuditLogReader extends AuditLogReader {
+  private final static long NANOS_PER_MILLI = 1000 * 1000;
+  private final static int BUFFER_SIZE = 64 * 1024;
+  /** Size of the record fields before the parameters, including the length. */
+  private final static int RECORD_HEADER_SIZE = 2 + 2 + 2 + 8 + 1;
+
+  private final RandomAccessFile file;
+  private final FileChannel channel;
+  private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+  /** Position in the file of the start of {@code buffer}. */
+  private long bufferStart = 0;
+
+  private boolean readHeader = false;
+  private long baseMillis;
+  private long baseNanos;
+  private final HashMap<Short, String> names = Maps.newHashMap();
+
+  public BinaryAuditLogReader(File file) throws IOException {
+    super(file);
+    this.file = new RandomAccessFile(file, "r");
+    channel = this.file.getChannel();
+    buffer.limit(0);
+  }
+
+  @Override
+  public AuditEvent next() throws IOException {
+    if (!readHeader) {
+      if (!available(BinaryAuditLog.HEADER_SIZE, false)) {
+        return null;
+      }
+      if (buffer.getInt() != BinaryAuditLog.MAGIC) {
+        throw new IOException(getFile() + " is not a binary audit log");
+      }
+      int version = buffer.getInt();
+      if (version != BinaryAuditLog.VERSION) {
+        throw new IOException("Unsupported binary audit log version: " + version);
+      }
+      baseMillis = buffer.getLong();
+      baseNanos = buffer.getLong();
+      readHeader = true;
+    }
+
+    while (true) {
+      if (!isRecordComplete(false) && !isRecordComplete(true)) {
+        return null;
+      }
+      buffer.getShort();
+      short eventId = buffer.getShort();
+      short categoryId = buffer.getShort();
+      long nanoTime = buffer.getLong();
+      String[] params = new String[buffer.get()];
+      for (int i = 0; i < params.length; ++i) {
+        if (buffer.get() == BinaryAuditLog.LONG_PARAM) {
+          params[i] = Long.toString(buffer.getLong());
+        } else {
+          byte[] value = new byte[buffer.getShort()];
+          buffer.get(value);
+          params[i] = new String(value, "US-ASCII");
+        }
+      }
+
+      if (eventId == BinaryAuditLog.DEFINITION) {
+        if (params.length != 1) {
+          throw new IOException("Invalid definition record in " + getFile());
+        }
+        names.put(categoryId, params[0]);
+        continue;
+      }
+      return new AuditEvent(getName(categoryId),
+                            baseMillis + (nanoTime - baseNanos) / NANOS_PER_MILLI,
+                            getName(eventId), params);
+    }
+  }
+
+  /**
+   * Returns whether the buffer holds a complete record at its current position, re-reading the
+   * buffer from the file first if {@code reload} is true.
+   */
+  private boolean isRecordComplete(boolean reload) throws IOException {
+    if (!available(2, reload)) {
+      return false;
+    }
+    int start = buffer.position();
+    int length = 2 + (buffer.getShort(start) & 0xffff);
+    if (length < RECORD_HEADER_SIZE || !available(length, false)) {
+      return false;
+    }
+    start = buffer.position();
+    int end = start + length;
+    int numParams = buffer.get(start + RECORD_HEADER_SIZE - 1);
+    int position = start + RECORD_HEADER_SIZE;
+    for (int i = 0; i < numParams && position < end; ++i) {
+      byte type = buffer.get(position);
+      if (type == BinaryAuditLog.LONG_PARAM) {
+        position += 9;
+      } else if (type == BinaryAuditLog.STRING_PARAM && position + 3 <= end) {
+        position += 3 + (buffer.getShort(position + 1) & 0xffff);
+      } else {
+        return false;
+      }
+    }
+    return position == end;
+  }
+
+  /**
+   * Returns whether at least {@code bytes} bytes are available in the buffer, after reading more
+   * of the file into it if necessary (or if {@code reload} is true).
+   */
+  private boolean available(int bytes, boolean reload) throws IOException {
+    if (!reload && buffer.remaining() >= bytes) {
+      return true;
+    }
+    bufferStart += buffer.position();
+    buffer.clear();
+    while (buffer.hasRemaining()) {
+      int read = channel.read(buffer, bufferStart + buffer.position());
+      if (read <= 0) {
+        break;
+      }
+    }
+    buffer.flip();
+    return buffer.remaining() >= bytes;
+  }
+
+  private String getName(short id) {
+    String name = names.get(id);
+    if (name == null) {
+      return "unknown" + id;
+    }
+    return name;
+  }
+
+  @Override
+  public void close() throws IOException {
+    file.close();
+  }
+}
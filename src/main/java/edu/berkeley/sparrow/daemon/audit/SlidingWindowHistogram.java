@@ -0,0 +1,68 @@
+package edu.berkeley.sparrow.daemon.audit;
+
+import edu.berkeley.sparrow.daemon.metrics.Histogram;
+
+/**
+ * A histogram of the values recorded during a sliding window of (event) time.
+ *
+ * The window is divided into a fixed number of slots, each of which holds a {@link Histogram}
+ * of the values recorded at times within it; a slot is cleared when the window slides past it.
+ * This bounds memory regardless of how many values are recorded, and values may arrive
+ * somewhat out of order, as long as they are still within the window.
+ */
+public class SlidingWindowHistogram {
+  private final String name;
+  private final long slotMillis;
+  private final Histogram[] slots;
+  /** Which slot (time / slotMillis) each entry in {@code slots} holds values for. */
+  private final long[] slotIndexes;
+
+  /** Creates a histogram over a window of {@code numSlots} slots, each {@code slotMillis} long. */
+  public SlidingWindowHistogram(String name, long slotMillis, int numSlots) {
+    this.name = name;
+    this.slotMillis = slotMillis;
+    slots = new Histogram[numSlots];
+    slotIndexes = new long[numSlots];
+    for (int i = 0; i < numSlots; ++i) {
+      slots[i] = new Histogram(name);
+      slotIndexes[i] = -1;
+    }
+  }
+
+  public long getWindowMillis() {
+    return slotMillis * slots.length;
+  }
+
+  /**
+   * Records {@code value} at time {@code timeMillis}. Returns false (and ignores the value) if
+   * the time is before the start of the window.
+   */
+  public boolean record(long timeMillis, long value) {
+    long index = timeMillis / slotMillis;
+    int slot = (int) (index % slots.length);
+    if (slotIndexes[slot] != index) {
+      if (slotIndexes[slot] > index) {
+        return false;
+      }
+      slots[slot] = new Histogram(name);
+      slotIndexes[slot] = index;
+    }
+    slots[slot].record(value);
+    return true;
+  }
+
+  /**
+   * Returns a histogram of the values recorded in the window that ends (exclusively) at
+   * {@code endMillis}, which should be a multiple of the slot length.
+   */
+  public Histogram getWindow(long endMillis) {
+    long lastIndex = endMillis / slotMillis - 1;
+    Histogram window = new Histogram(name);
+    for (int i = 0; i < slots.length; ++i) {
+      if (slotIndexes[i] <= lastIndex && slotIndexes[i] > lastIndex - slots.length) {
+        window.add(slots[i]);
+      }
+    }
+    return window;
+  }
+}
@@ -0,0 +1,75 @@
+package edu.berkeley.sparrow.daemon.audit;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.apache.log4j.Logger;
+
+/**
+ * Reads a text audit log. Only complete (newline-terminated) lines are returned, so a log can
+ * be read while it's being written.
+ */
+public class TextAuditLogReader extends AuditLogReader {
+  private final static Logger LOG = Logger.getLogger(TextAuditLogReader.class);
+  private final static int BUFFER_SIZE = 64 * 1024;
+
+  private final InputStream in;
+  private final byte[] buffer = new byte[BUFFER_SIZE];
+  private int position = 0;
+  private int limit = 0;
+  /** The start of the current line, if it began in an earlier buffer. */
+  private final StringBuilder partialLine = new StringBuilder();
+
+  public TextAuditLogReader(File file) throws IOException {
+    super(file);
+    in = new FileInputStream(file);
+  }
+
+  @Override
+  public AuditEvent next() throws IOException {
+    while (true) {
+      String line = readLine();
+      if (line == null) {
+        return null;
+      }
+      AuditEvent event = AuditEvent.parse(line);
+      if (event != null) {
+        return event;
+      }
+      LOG.warn("Ignoring invalid audit log line in " + getFile() + ": " + line);
+    }
+  }
+
+  /** Returns the next complete line, or null if no more complete lines have been written. */
+  private String readLine() throws IOException {
+    while (true) {
+      for (int i = position; i < limit; ++i) {
+        if (buffer[i] == '\n') {
+          String line;
+          if (partialLine.length() == 0) {
+            line = new String(buffer, position, i - position, "US-ASCII");
+          } else {
+            partialLine.append(new String(buffer, position, i - position, "US-ASCII"));
+            line = partialLine.toString();
+            partialLine.setLength(0);
+          }
+          position = i + 1;
+          return line;
+        }
+      }
+      partialLine.append(new String(buffer, position, limit - position, "US-ASCII"));
+      position = 0;
+      limit = Math.max(in.read(buffer), 0);
+      if (limit == 0) {
+        return null;
+      }
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    in.close();
+  }
+}
@@ -0,0 +1,36 @@
+package edu.berkeley.sparrow.daemon.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/** A count of events, which can be incremented concurrently without locking. */
+public class Counter implements CounterMBean {
+  private final String name;
+  private final AtomicLong count = new AtomicLong(0);
+
+  public Counter(String name) {
+    this.name = name;
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  public void increment() {
+    count.incrementAndGet();
+  }
+
+  public void increment(long delta) {
+    count.addAndGet(delta);
+  }
+
+  @Override
+  public long getCount() {
+    return count.get();
+  }
+
+  @Override
+  public String toString() {
+    return name + " count=" + getCount();
+  }
+}
@@ -0,0 +1,8 @@
+package edu.berkeley.sparrow.daemon.metrics;
+
+/** JMX interface for a {@link Counter}. */
+public interface CounterMBean {
+  public String getName();
+
+  public long getCount();
+}
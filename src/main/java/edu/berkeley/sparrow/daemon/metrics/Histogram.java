@@ -0,0 +1,168 @@
+package edu.berkeley.sparrow.daemon.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A histogram of non-negative long values (e.g., latencies in microseconds) that can be updated
+ * concurrently without locking.
+ *
+ * As in HdrHistogram, values are counted in buckets whose width grows with the magnitude of the
+ * value: values below 2^SUB_BUCKET_BITS each have their own bucket, and above that, each power
+ * of two is divided into 2^(SUB_BUCKET_BITS - 1) equal buckets. Recorded values (and so
+ * percentiles) are accurate to within 1 part in 2^(SUB_BUCKET_BITS - 1), and recording a value
+ * is a few bit operations and an atomic increment.
+ */
+public class Histogram implements HistogramMBean {
+  private final static int SUB_BUCKET_BITS = 7;
+  private final static int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private final static int HALF_SUB_BUCKETS = SUB_BUCKETS / 2;
+  private final static int NUM_BUCKETS = SUB_BUCKETS + (64 - SUB_BUCKET_BITS) * HALF_SUB_BUCKETS;
+
+  private final String name;
+  private final AtomicLongArray counts = new AtomicLongArray(NUM_BUCKETS);
+  private final AtomicLong count = new AtomicLong(0);
+  private final AtomicLong sum = new AtomicLong(0);
+  private final AtomicLong max = new AtomicLong(0);
+
+  public Histogram(String name) {
+    this.name = name;
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /** Records {@code value}. Negative values are recorded as 0. */
+  public void record(long value) {
+    if (value < 0) {
+      value = 0;
+    }
+    counts.incrementAndGet(getBucket(value));
+    count.incrementAndGet();
+    sum.addAndGet(value);
+    updateMax(value);
+  }
+
+  /** Adds all of the values recorded in {@code other} to this histogram. */
+  public void add(Histogram other) {
+    for (int i = 0; i < NUM_BUCKETS; ++i) {
+      long bucketCount = other.counts.get(i);
+      if (bucketCount != 0) {
+        counts.addAndGet(i, bucketCount);
+      }
+    }
+    count.addAndGet(other.count.get());
+    sum.addAndGet(other.sum.get());
+    updateMax(other.max.get());
+  }
+
+  private void updateMax(long value) {
+    long currentMax = max.get();
+    while (value > currentMax && !max.compareAndSet(currentMax, value)) {
+      currentMax = max.get();
+    }
+  }
+
+  /** Records the time elapsed since {@code startNanos} (from System.nanoTime()) in microseconds. */
+  public void recordMicrosSince(long startNanos) {
+    record((System.nanoTime() - startNanos) / 1000);
+  }
+
+  @Override
+  public long getCount() {
+    return count.get();
+  }
+
+  /** Returns the sum of the recorded values. */
+  public long getSum() {
+    return sum.get();
+  }
+
+  @Override
+  public double getMean() {
+    long n = count.get();
+    if (n == 0) {
+      return 0;
+    }
+    return ((double) sum.get()) / n;
+  }
+
+  @Override
+  public long getMax() {
+    return max.get();
+  }
+
+  /**
+   * Returns (an upper bound on) the value below which {@code percentile} percent of the recorded
+   * values fall, or 0 if no values have been recorded.
+   */
+  public long getPercentile(double percentile) {
+    long total = 0;
+    long[] snapshot = new long[NUM_BUCKETS];
+    for (int i = 0; i < NUM_BUCKETS; ++i) {
+      snapshot[i] = counts.get(i);
+      total += snapshot[i];
+    }
+    if (total == 0) {
+      return 0;
+    }
+    long rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+    long seen = 0;
+    for (int i = 0; i < NUM_BUCKETS; ++i) {
+      seen += snapshot[i];
+      if (seen >= rank) {
+        return Math.min(getBucketHighestValue(i), max.get());
+      }
+    }
+    return max.get();
+  }
+
+  @Override
+  public long get50thPercentile() {
+    return getPercentile(50);
+  }
+
+  @Override
+  public long get90thPercentile() {
+    return getPercentile(90);
+  }
+
+  @Override
+  public long get99thPercentile() {
+    return getPercentile(99);
+  }
+
+  @Override
+  public long get999thPercentile() {
+    return getPercentile(99.9);
+  }
+
+  static int getBucket(long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) value;
+    }
+    int shift = (64 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+    return (int) ((shift * HALF_SUB_BUCKETS) + (value >>> shift));
+  }
+
+  /** Returns the largest value that is counted in the given bucket. */
+  static long getBucketHighestValue(int bucket) {
+    if (bucket < SUB_BUCKETS) {
+      return bucket;
+    }
+    int shift = bucket / HALF_SUB_BUCKETS - 1;
+    long subBucket = bucket - shift * HALF_SUB_BUCKETS;
+    long highest = ((subBucket + 1) << shift) - 1;
+    // The last bucket extends to the largest long.
+    return highest < 0 ? Long.MAX_VALUE : highest;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s count=%d mean=%.1f p50=%d p90=%d p99=%d p99.9=%d max=%d", name,
+                         getCount(), getMean(), get50thPercentile(), get90thPercentile(),
+                         get99thPercentile(), get999thPercentile(), getMax());
+  }
+}
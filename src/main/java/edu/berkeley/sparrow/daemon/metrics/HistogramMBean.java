@@ -0,0 +1,20 @@
+package edu.berkeley.sparrow.daemon.metrics;
+
+/** JMX interface for a {@link Histogram}. */
+public interface HistogramMBean {
+  public String getName();
+
+  public long getCount();
+
+  public double getMean();
+
+  public long getMax();
+
+  public long get50thPercentile();
+
+  public long get90thPercentile();
+
+  public long get99thPercentile();
+
+  public long get999thPercentile();
+}
@@ -0,0 +1,147 @@
+package edu.berkeley.sparrow.daemon.metrics;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+
+import org.apache.log4j.Logger;
+
+import edu.berkeley.sparrow.daemon.trace.CriticalPath;
+import edu.berkeley.sparrow.daemon.trace.Span;
+import edu.berkeley.sparrow.daemon.trace.Tracer;
+
+/**
+ * A minimal HTTP server for monitoring a Sparrow daemon, which responds with plain text:
+ * <ul>
+ * <li>/ or /metrics: the current value of all exported metrics (see
+ *     {@link MetricsRegistry#export}), one per line; e.g., "curl localhost:20508" with the
+ *     default {@link edu.berkeley.sparrow.daemon.SparrowConf#METRICS_HTTP_PORT}.
+ * <li>/traces: the IDs of the traced jobs that this process holds spans for (see
+ *     {@link Tracer}), one per line.
+ * <li>/trace/[trace ID]: the spans this process recorded for the given trace, one per line.
+ * <li>/critical_path/[trace ID]: the critical path through the spans this process recorded for
+ *     the given trace. Use {@link edu.berkeley.sparrow.daemon.trace.TraceQuery} to find the
+ *     critical path through the spans recorded by several daemons.
+ * </ul>
+ *
+ * Requests are handled one at a time in a single daemon thread, since they are only expected
+ * from operators and monitoring scripts.
+ */
+public class MetricsHttpServer {
+  private final static Logger LOG = Logger.getLogger(MetricsHttpServer.class);
+
+  /** Maximum time to wait for a client to send its request. */
+  private final static int READ_TIMEOUT_MS = 5000;
+
+  private final ServerSocket serverSocket;
+
+  /** Starts serving metrics on the given port. */
+  public MetricsHttpServer(int port) throws IOException {
+    serverSocket = new ServerSocket();
+    serverSocket.setReuseAddress(true);
+    serverSocket.bind(new InetSocketAddress(port));
+    Thread thread = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        serve();
+      }
+    }, "MetricsHttpServer");
+    thread.setDaemon(true);
+    thread.start();
+    LOG.info("Serving metrics on port " + serverSocket.getLocalPort());
+  }
+
+  public int getPort() {
+    return serverSocket.getLocalPort();
+  }
+
+  public void close() throws IOException {
+    serverSocket.close();
+  }
+
+  private void serve() {
+    while (!serverSocket.isClosed()) {
+      Socket socket;
+      try {
+        socket = serverSocket.accept();
+      } catch (IOException e) {
+        if (!serverSocket.isClosed()) {
+          LOG.error("Error accepting metrics request", e);
+        }
+        continue;
+      }
+      try {
+        respond(socket);
+      } catch (IOException e) {
+        LOG.debug("Error responding to metrics request: " + e);
+      } finally {
+        try {
+          socket.close();
+        } catch (IOException e) {
+          LOG.debug("Error closing metrics connection: " + e);
+        }
+      }
+    }
+  }
+
+  private void respond(Socket socket) throws IOException {
+    socket.setSoTimeout(READ_TIMEOUT_MS);
+    BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(),
+                                                                 "US-ASCII"));
+    String requestLine = in.readLine();
+    // Read (and ignore) the headers.
+    String line = requestLine;
+    while (line != null && line.length() > 0) {
+      line = in.readLine();
+    }
+    String path = "/";
+    if (requestLine != null) {
+      String[] parts = requestLine.split(" ");
+      if (parts.length > 1) {
+        path = parts[1];
+      }
+    }
+
+    StringBuilder response = new StringBuilder();
+    String status = "200 OK";
+    try {
+      if (path.equals("/") || path.equals("/metrics")) {
+        for (MetricsRegistry registry : MetricsRegistry.getExportedRegistries()) {
+          registry.appendTo(response);
+        }
+      } else if (path.equals("/traces")) {
+        for (Long traceId : Tracer.getStore().getTraceIds()) {
+          response.append(traceId).append('\n');
+        }
+      } else if (path.startsWith("/trace/")) {
+        long traceId = Long.parseLong(path.substring("/trace/".length()));
+        for (Span span : Tracer.getStore().getSpans(traceId)) {
+          response.append(span).append('\n');
+        }
+      } else if (path.startsWith("/critical_path/")) {
+        long traceId = Long.parseLong(path.substring("/critical_path/".length()));
+        response.append(new CriticalPath(Tracer.getStore().getSpans(traceId)));
+      } else {
+        status = "404 Not Found";
+        response.append("Unknown path: ").append(path).append('\n');
+      }
+    } catch (NumberFormatException e) {
+      status = "400 Bad Request";
+      response.append("Invalid trace ID: ").append(path).append('\n');
+    }
+
+    byte[] body = response.toString().getBytes("UTF-8");
+    String header = "HTTP/1.0 " + status + "\r\n" +
+        "Content-Type: text/plain; charset=utf-8\r\n" +
+        "Content-Length: " + body.length + "\r\n" +
+        "Connection: close\r\n\r\n";
+    OutputStream out = socket.getOutputStream();
+    out.write(header.getBytes("US-ASCII"));
+    out.write(body);
+    out.flush();
+  }
+}
@@ -0,0 +1,154 @@
+package edu.berkeley.sparrow.daemon.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.log4j.Logger;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/**
+ * The metrics (histograms and counters) of one component of a Sparrow daemon, such as a
+ * scheduler or node monitor.
+ *
+ * Once {@link #export} is called, the metrics are registered as JMX MBeans named
+ * "edu.berkeley.sparrow:type=[component],port=[port],name=[metric name]", and are served by
+ * {@link MetricsHttpServer}.
+ */
+public class MetricsRegistry {
+  private final static Logger LOG = Logger.getLogger(MetricsRegistry.class);
+  public final static String JMX_DOMAIN = "edu.berkeley.sparrow";
+
+  /** Registries that have been exported, in the order they were exported. */
+  private final static List<MetricsRegistry> exported =
+      new CopyOnWriteArrayList<MetricsRegistry>();
+
+  private final String component;
+  private final int port;
+  private final ConcurrentMap<String, Histogram> histograms = Maps.newConcurrentMap();
+  private final ConcurrentMap<String, Counter> counters = Maps.newConcurrentMap();
+  /** Metric names, in the order the metrics were created. */
+  private final List<String> names = new CopyOnWriteArrayList<String>();
+  private volatile boolean isExported = false;
+
+  /**
+   * Creates a registry for the given component (e.g., "Scheduler"), which listens on
+   * {@code port}; the port distinguishes multiple instances of a component in the same process.
+   */
+  public MetricsRegistry(String component, int port) {
+    this.component = component;
+    this.port = port;
+  }
+
+  public String getComponent() {
+    return component;
+  }
+
+  public int getPort() {
+    return port;
+  }
+
+  /** Returns the histogram with the given name, creating it if necessary. */
+  public Histogram getHistogram(String name) {
+    Histogram histogram = histograms.get(name);
+    if (histogram == null) {
+      Histogram newHistogram = new Histogram(name);
+      histogram = histograms.putIfAbsent(name, newHistogram);
+      if (histogram == null) {
+        histogram = newHistogram;
+        added(name, histogram);
+      }
+    }
+    return histogram;
+  }
+
+  /** Returns the counter with the given name, creating it if necessary. */
+  public Counter getCounter(String name) {
+    Counter counter = counters.get(name);
+    if (counter == null) {
+      Counter newCounter = new Counter(name);
+      counter = counters.putIfAbsent(name, newCounter);
+      if (counter == null) {
+        counter = newCounter;
+        added(name, counter);
+      }
+    }
+    return counter;
+  }
+
+  /**
+   * Registers this registry's metrics (including any that are created later) with JMX, and
+   * makes them available from {@link MetricsHttpServer}.
+   */
+  public synchronized void export() {
+    if (isExported) {
+      return;
+    }
+    isExported = true;
+    for (String name : names) {
+      Object metric = histograms.get(name);
+      if (metric == null) {
+        metric = counters.get(name);
+      }
+      registerMBean(name, metric);
+    }
+    exported.add(this);
+  }
+
+  /** Returns the registries that have been exported. */
+  public static List<MetricsRegistry> getExportedRegistries() {
+    return exported;
+  }
+
+  /** Appends a line describing each metric to {@code out}. */
+  public void appendTo(StringBuilder out) {
+    for (String name : names) {
+      Object metric = histograms.get(name);
+      if (metric == null) {
+        metric = counters.get(name);
+      }
+      out.append(component).append('.').append(port).append('.').append(metric).append('\n');
+    }
+  }
+
+  private synchronized void added(String name, Object metric) {
+    names.add(name);
+    if (isExported) {
+      registerMBean(name, metric);
+    }
+  }
+
+  private void registerMBean(String name, Object metric) {
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    try {
+      ObjectName objectName = new ObjectName(JMX_DOMAIN + ":type=" + component + ",port=" +
+                                             port + ",name=" + name);
+      // Replace metrics left by a previous instance on the same port (e.g., in tests).
+      if (server.isRegistered(objectName)) {
+        server.unregisterMBean(objectName);
+      }
+      server.registerMBean(metric, objectName);
+    } catch (JMException e) {
+      LOG.warn("Unable to register metric " + name + " with JMX: " + e);
+    }
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder out = new StringBuilder();
+    appendTo(out);
+    return out.toString();
+  }
+
+  /** Returns the names of the metrics in this registry (for testing). */
+  List<String> getNames() {
+    return Lists.newArrayList(names);
+  }
+}
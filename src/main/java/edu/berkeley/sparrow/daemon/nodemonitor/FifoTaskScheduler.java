@@ -1,9 +1,13 @@
 package edu.berkeley.sparrow.daemon.nodemonitor;
 
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.LinkedBlockingQueue;
 
 import org.apache.log4j.Logger;
 
+import com.google.common.collect.Lists;
+
 import edu.berkeley.sparrow.daemon.util.TResources;
 import edu.berkeley.sparrow.thrift.TResourceUsage;
 
@@ -67,12 +71,39 @@ public class FifoTaskScheduler extends TaskScheduler {
     }
   }
 
+  @Override
+  synchronized int getIdleSlots() {
+    return maxActiveTasks - activeTasks;
+  }
+
+  /**
+   * Gives up at most half of the queued reservations, so that a node monitor doesn't hand all of
+   * its work to an idle peer and then become idle itself. The most recently queued reservations
+   * are given up first, since they would otherwise wait the longest.
+   */
+  @Override
+  synchronized List<TaskSpec> handleStealTaskReservations(Set<String> appIds,
+                                                          int maxReservations) {
+    List<TaskSpec> stolen = Lists.newArrayList();
+    int limit = Math.min(maxReservations, (taskReservations.size() + 1) / 2);
+    List<TaskSpec> queued = Lists.newArrayList(taskReservations);
+    for (int i = queued.size() - 1; i >= 0 && stolen.size() < limit; --i) {
+      TaskSpec reservation = queued.get(i);
+      if (reservation.stealable && appIds.contains(reservation.appId)) {
+        stolen.add(reservation);
+      }
+    }
+    taskReservations.removeAll(stolen);
+    return stolen;
+  }
+
   @Override
   TResourceUsage getResourceUsage(String appId) {
     TResourceUsage out = new TResourceUsage();
     out.resources = TResources.subtract(capacity, getFreeResources());
     // We use one shared queue for all apps here
     out.queueLength = taskReservations.size();
+    out.setExpectedWaitMillis(expectedWaitMillis(taskReservations, maxActiveTasks));
     return out;
   }
 
@@ -0,0 +1,196 @@
+package edu.berkeley.sparrow.daemon.nodemonitor;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.log4j.Logger;
+import org.apache.thrift.TException;
+
+import edu.berkeley.sparrow.daemon.SparrowConf;
+import edu.berkeley.sparrow.daemon.metrics.Counter;
+import edu.berkeley.sparrow.daemon.metrics.MetricsRegistry;
+import edu.berkeley.sparrow.daemon.util.TClients;
+import edu.berkeley.sparrow.thrift.StateStoreService;
+import edu.berkeley.sparrow.thrift.TResourceUsage;
+
+/**
+ * Pushes a node monitor's load to the state store when it changes, so that schedulers hear
+ * about load changes without waiting for the state store's next poll, and the state store
+ * doesn't need to poll node monitors at all while they are pushing.
+ *
+ * The task scheduler calls {@link #loadChanged()} whenever reservations are enqueued or tasks
+ * start or finish. Reports are rate limited: once a report has been sent, changes are
+ * coalesced until the min interval has passed, and then the load of every application is sent
+ * in a single call. A report is only sent if the load differs from the last one sent by at
+ * least one of the thresholds, or if the max interval has passed since the last report (which
+ * also tells the state store that the node monitor is still alive).
+ *
+ * Reports go to the state store shard that owns the node monitor. A shard rejects reports for
+ * node monitors it doesn't own, in which case the next shard is tried.
+ */
+public class LoadReporter {
+  private final static Logger LOG = Logger.getLogger(LoadReporter.class);
+  /** Maximum time to wait to connect to, and hear back from, the state store. */
+  private final static int REPORT_TIMEOUT_MS = 1000;
+
+  private final NodeMonitor nodeMonitor;
+  /** Address of the node monitor's internal interface, as registered with the state store. */
+  private final String address;
+  private final List<InetSocketAddress> stateStores;
+
+  private final long minIntervalMillis;
+  private final long maxIntervalMillis;
+  private final int queueThreshold;
+  private final int coresThreshold;
+  private final long memoryThresholdMb;
+
+  /** Index of the state store shard to send reports to, and a client connected to it. */
+  private int shard = 0;
+  private StateStoreService.Client client = null;
+
+  /** The last load that a shard accepted, and when a report was last sent. */
+  private Map<String, TResourceUsage> lastReported = null;
+  private long lastReportMillis = 0;
+  /** Whether the load has changed since it was last checked. Guarded by this. */
+  private boolean changed = false;
+
+  private Counter reportsSent;
+  private Counter reportsSkipped;
+
+  public LoadReporter(NodeMonitor nodeMonitor, String address,
+                      List<InetSocketAddress> stateStores, Configuration conf,
+                      MetricsRegistry metrics) {
+    this.nodeMonitor = nodeMonitor;
+    this.address = address;
+    this.stateStores = stateStores;
+    minIntervalMillis = conf.getInt(SparrowConf.LOAD_REPORT_MIN_INTERVAL_MS,
+                                    SparrowConf.DEFAULT_LOAD_REPORT_MIN_INTERVAL_MS);
+    maxIntervalMillis = conf.getInt(SparrowConf.LOAD_REPORT_MAX_INTERVAL_MS,
+                                    SparrowConf.DEFAULT_LOAD_REPORT_MAX_INTERVAL_MS);
+    queueThreshold = conf.getInt(SparrowConf.LOAD_REPORT_QUEUE_THRESHOLD,
+                                 SparrowConf.DEFAULT_LOAD_REPORT_QUEUE_THRESHOLD);
+    coresThreshold = conf.getInt(SparrowConf.LOAD_REPORT_CORES_THRESHOLD,
+                                 SparrowConf.DEFAULT_LOAD_REPORT_CORES_THRESHOLD);
+    memoryThresholdMb = conf.getInt(SparrowConf.LOAD_REPORT_MEMORY_THRESHOLD_MB,
+                                    SparrowConf.DEFAULT_LOAD_REPORT_MEMORY_THRESHOLD_MB);
+    reportsSent = metrics.getCounter("load_reports_sent");
+    reportsSkipped = metrics.getCounter("load_reports_skipped");
+  }
+
+  /** Signals that the node monitor's load may have changed. */
+  public synchronized void loadChanged() {
+    changed = true;
+    notify();
+  }
+
+  /** Starts a daemon thread that sends reports. */
+  public void start() {
+    Thread thread = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          while (true) {
+            awaitChange();
+            // Let further changes accumulate until the next report is allowed.
+            long wait = lastReportMillis + minIntervalMillis - System.currentTimeMillis();
+            if (wait > 0) {
+              Thread.sleep(wait);
+            }
+            try {
+              reportIfNeeded(System.currentTimeMillis());
+            } catch (RuntimeException e) {
+              LOG.error("Error reporting load", e);
+            }
+          }
+        } catch (InterruptedException e) {
+          LOG.warn("Load reporter interrupted", e);
+        }
+      }
+    }, "LoadReporter");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  /** Waits until the load has changed or the max interval has passed since the last report. */
+  private synchronized void awaitChange() throws InterruptedException {
+    long wait = lastReportMillis + maxIntervalMillis - System.currentTimeMillis();
+    while (!changed && wait > 0) {
+      wait(wait);
+      wait = lastReportMillis + maxIntervalMillis - System.currentTimeMillis();
+    }
+    changed = false;
+  }
+
+  /** Sends the current load if it has changed enough, or if a report is due anyway. */
+  void reportIfNeeded(long nowMillis) {
+    Map<String, TResourceUsage> load = getLoad();
+    if (lastReported != null && nowMillis - lastReportMillis < maxIntervalMillis &&
+        !exceedsThresholds(lastReported, load)) {
+      reportsSkipped.increment();
+      return;
+    }
+    // Even if no shard accepts the report, wait for the min interval before trying again.
+    lastReportMillis = nowMillis;
+    if (send(load)) {
+      lastReported = load;
+      reportsSent.increment();
+    }
+  }
+
+  /** Returns whether the load has changed by at least one of the thresholds. */
+  boolean exceedsThresholds(Map<String, TResourceUsage> last,
+                            Map<String, TResourceUsage> current) {
+    if (!last.keySet().equals(current.keySet())) {
+      return true;
+    }
+    for (Map.Entry<String, TResourceUsage> entry : current.entrySet()) {
+      TResourceUsage before = last.get(entry.getKey());
+      TResourceUsage now = entry.getValue();
+      if (Math.abs(now.getQueueLength() - before.getQueueLength()) >= queueThreshold ||
+          Math.abs(now.getResources().getCores() - before.getResources().getCores()) >=
+              coresThreshold ||
+          Math.abs(now.getResources().getMemory() - before.getResources().getMemory()) >=
+              memoryThresholdMb) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  protected Map<String, TResourceUsage> getLoad() {
+    return nodeMonitor.getLoad("*", "*");
+  }
+
+  /**
+   * Sends the load to the shard that owns this node monitor, trying each shard in turn until
+   * one accepts it. Returns whether any shard accepted it.
+   */
+  protected boolean send(Map<String, TResourceUsage> load) {
+    for (int i = 0; i < stateStores.size(); ++i) {
+      InetSocketAddress stateStore = stateStores.get(shard);
+      try {
+        if (client == null) {
+          client = TClients.createBlockingStateStoreClient(stateStore.getHostName(),
+              stateStore.getPort(), REPORT_TIMEOUT_MS);
+        }
+        if (client.reportLoad(address, load)) {
+          return true;
+        }
+        LOG.debug("State store at " + stateStore + " doesn't own " + address);
+      } catch (IOException e) {
+        LOG.debug("Unable to connect to state store at " + stateStore);
+      } catch (TException e) {
+        LOG.debug("Error reporting load to state store at " + stateStore, e);
+      }
+      if (client != null) {
+        client.getInputProtocol().getTransport().close();
+        client = null;
+      }
+      shard = (shard + 1) % stateStores.size();
+    }
+    return false;
+  }
+}
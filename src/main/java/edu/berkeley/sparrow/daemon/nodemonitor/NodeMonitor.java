@@ -1,6 +1,7 @@
 package edu.berkeley.sparrow.daemon.nodemonitor;
 
 import java.io.IOException;
+import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.UnknownHostException;
 import java.nio.ByteBuffer;
@@ -15,19 +16,28 @@ import org.apache.log4j.Logger;
 import org.apache.thrift.TException;
 import org.apache.thrift.async.AsyncMethodCallback;
 
+import com.google.common.base.Optional;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 
 import edu.berkeley.sparrow.daemon.SparrowConf;
-import edu.berkeley.sparrow.daemon.util.Logging;
+import edu.berkeley.sparrow.daemon.metrics.MetricsRegistry;
+import edu.berkeley.sparrow.daemon.util.ConfigUtil;
+import edu.berkeley.sparrow.daemon.util.Network;
 import edu.berkeley.sparrow.daemon.util.Resources;
+import edu.berkeley.sparrow.daemon.util.Serialization;
 import edu.berkeley.sparrow.daemon.util.ThriftClientPool;
+import edu.berkeley.sparrow.daemon.util.Tracing;
 import edu.berkeley.sparrow.thrift.SchedulerService;
 import edu.berkeley.sparrow.thrift.SchedulerService.AsyncClient;
 import edu.berkeley.sparrow.thrift.SchedulerService.AsyncClient.sendFrontendMessage_call;
 import edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest;
+import edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsResponse;
 import edu.berkeley.sparrow.thrift.TFullTaskId;
 import edu.berkeley.sparrow.thrift.TResourceUsage;
 import edu.berkeley.sparrow.thrift.TResourceVector;
+import edu.berkeley.sparrow.thrift.TTaskLaunchSpec;
 
 /**
  * A Node Monitor which is responsible for communicating with application
@@ -53,6 +63,8 @@ public class NodeMonitor {
   private TResourceVector capacity;
   private TaskScheduler scheduler;
   private TaskLauncherService taskLauncherService;
+  /** Pushes this node monitor's load to the state store, if enabled. */
+  private LoadReporter loadReporter = null;
 
   public void initialize(Configuration conf, int nodeMonitorInternalPort)
       throws UnknownHostException {
@@ -80,17 +92,73 @@ public class NodeMonitor {
     capacity.setCores(cores);
     LOG.info("Using core allocation: " + cores);
 
-    String task_scheduler_type = conf.getString(SparrowConf.NM_TASK_SCHEDULER_TYPE, "fifo");
-    if (task_scheduler_type.equals("round_robin")) {
-      scheduler = new RoundRobinTaskScheduler(cores);
-    } else if (task_scheduler_type.equals("fifo")) {
-      scheduler = new FifoTaskScheduler(cores);
-    } else {
-      throw new RuntimeException("Unsupported task scheduler type: " + mode);
-    }
+    MetricsRegistry metrics = new MetricsRegistry("NodeMonitor", nodeMonitorInternalPort);
+    scheduler = createTaskScheduler(conf, cores);
+    scheduler.setMetrics(metrics);
     scheduler.initialize(capacity, conf, nodeMonitorInternalPort);
+    if (mode.equals("production") && conf.getBoolean(SparrowConf.LOAD_REPORT_ENABLED,
+                                                     SparrowConf.DEFAULT_LOAD_REPORT_ENABLED)) {
+      // Identify the node monitor by the same address that it registered with the state store.
+      String address = InetAddress.getLocalHost().getHostName() + ":" + nodeMonitorInternalPort;
+      loadReporter = new LoadReporter(this, address, ConfigUtil.parseStateStores(conf), conf,
+                                      metrics);
+      scheduler.setLoadReporter(loadReporter);
+      loadReporter.start();
+    }
+    if (conf.getBoolean(SparrowConf.WORK_STEALING_ENABLED,
+                        SparrowConf.DEFAULT_WORK_STEALING_ENABLED)) {
+      List<InetSocketAddress> peers = getWorkStealingPeers(conf, nodeMonitorInternalPort);
+      if (!peers.isEmpty()) {
+        new WorkStealer(this, scheduler, peers, conf, metrics).start();
+      }
+    }
     taskLauncherService = new TaskLauncherService();
     taskLauncherService.initialize(conf, scheduler, nodeMonitorInternalPort);
+    metrics.export();
+  }
+
+  /**
+   * Returns the internal addresses of the node monitors to steal reservations from: those given
+   * in {@link SparrowConf#WORK_STEALING_PEERS}, or else the statically configured node monitors,
+   * excluding this one.
+   */
+  private static List<InetSocketAddress> getWorkStealingPeers(Configuration conf,
+                                                               int nodeMonitorInternalPort) {
+    String[] configured = conf.getStringArray(SparrowConf.WORK_STEALING_PEERS);
+    if (configured.length == 0 && conf.containsKey(SparrowConf.STATIC_NODE_MONITORS)) {
+      configured = conf.getStringArray(SparrowConf.STATIC_NODE_MONITORS);
+    }
+    String ipAddress = Network.getIPAddress(conf);
+    List<InetSocketAddress> peers = Lists.newArrayList();
+    for (String peer : configured) {
+      Optional<InetSocketAddress> address = Serialization.strToSocket(peer);
+      if (!address.isPresent() || address.get().isUnresolved()) {
+        LOG.warn("Bad work stealing peer address: " + peer);
+      } else if (address.get().getPort() != nodeMonitorInternalPort ||
+                 !(address.get().getAddress().getHostAddress().equals(ipAddress) ||
+                   address.get().getAddress().isLoopbackAddress())) {
+        peers.add(address.get());
+      }
+    }
+    LOG.info("Stealing work from " + peers.size() + " peers");
+    return peers;
+  }
+
+  /**
+   * Returns a new (uninitialized) task scheduler of the type given in {@code conf}, that runs at
+   * most {@code cores} tasks concurrently.
+   */
+  static TaskScheduler createTaskScheduler(Configuration conf, int cores) {
+    String taskSchedulerType = conf.getString(SparrowConf.NM_TASK_SCHEDULER_TYPE, "fifo");
+    if (taskSchedulerType.equals("round_robin")) {
+      return new RoundRobinTaskScheduler(cores);
+    } else if (taskSchedulerType.equals("fifo")) {
+      return new FifoTaskScheduler(cores);
+    } else if (taskSchedulerType.equals("shortest_expected_first")) {
+      return new ShortestExpectedFirstTaskScheduler(cores);
+    } else {
+      throw new RuntimeException("Unsupported task scheduler type: " + taskSchedulerType);
+    }
   }
 
   /**
@@ -99,13 +167,18 @@ public class NodeMonitor {
    */
   public boolean registerBackend(String appId, InetSocketAddress nmAddr,
       InetSocketAddress backendAddr) {
-    LOG.debug(Logging.functionCall(appId, nmAddr, backendAddr));
+    if (Tracing.isTraced(LOG)) {
+      LOG.trace(Tracing.call("registerBackend", appId, nmAddr, backendAddr));
+    }
     if (appSockets.containsKey(appId)) {
       LOG.warn("Attempt to re-register app " + appId);
       return false;
     }
     appSockets.put(appId, backendAddr);
     appTasks.put(appId, new ArrayList<TFullTaskId>());
+    if (loadReporter != null) {
+      loadReporter.loadChanged();
+    }
     return state.registerBackend(appId, nmAddr);
   }
 
@@ -116,7 +189,9 @@ public class NodeMonitor {
    * else, an empty map is returned.
    */
   public Map<String, TResourceUsage> getLoad(String appId, String requestId) {
-    LOG.debug(Logging.functionCall(appId));
+    if (Tracing.isTraced(LOG)) {
+      LOG.trace(Tracing.call("getLoad", appId));
+    }
     Map<String, TResourceUsage> out = new HashMap<String, TResourceUsage>();
     if (appId.equals("*")) {
       for (String app : appSockets.keySet()) {
@@ -127,16 +202,50 @@ public class NodeMonitor {
     return out;
   }
 
+  /** Returns the IDs of the applications with backends on this node. */
+  List<String> getAppIds() {
+    return Lists.newArrayList(appSockets.keySet());
+  }
+
+  /** See {@link TaskScheduler#stealTaskReservations}. */
+  public List<TEnqueueTaskReservationsRequest> stealTaskReservations(List<String> appIds,
+                                                                      int maxReservations,
+                                                                      String leaseId) {
+    if (Tracing.isTraced(LOG)) {
+      LOG.trace(Tracing.call("stealTaskReservations", appIds, maxReservations, leaseId));
+    }
+    return scheduler.stealTaskReservations(Sets.newHashSet(appIds), maxReservations, leaseId);
+  }
+
+  /** See {@link TaskScheduler#confirmStolenReservations}. */
+  public boolean confirmStolenReservations(String leaseId) {
+    if (Tracing.isTraced(LOG)) {
+      LOG.trace(Tracing.call("confirmStolenReservations", leaseId));
+    }
+    return scheduler.confirmStolenReservations(leaseId);
+  }
+
   /**
    * Account for tasks which have finished.
    */
   public void tasksFinished(List<TFullTaskId> tasks) {
-    LOG.debug(Logging.functionCall(tasks));
+    if (Tracing.isTraced(LOG)) {
+      LOG.trace(Tracing.call("tasksFinished", tasks));
+    }
     scheduler.tasksFinished(tasks);
   }
 
-  public boolean enqueueTaskReservations(TEnqueueTaskReservationsRequest request) {
-    LOG.debug(Logging.functionCall(request));
+  public TEnqueueTaskReservationsResponse enqueueTaskReservations(
+      TEnqueueTaskReservationsRequest request) {
+    boolean success = enqueue(request);
+    return new TEnqueueTaskReservationsResponse(success,
+                                                scheduler.getNodeLoad(request.getAppId()));
+  }
+
+  private boolean enqueue(TEnqueueTaskReservationsRequest request) {
+    if (Tracing.isTraced(LOG)) {
+      LOG.trace(Tracing.call("enqueueTaskReservations", request));
+    }
 
     InetSocketAddress schedulerAddress = new InetSocketAddress(
         request.getSchedulerAddress().getHost(), request.getSchedulerAddress().getPort());
@@ -152,6 +261,29 @@ public class NodeMonitor {
     return true;
   }
 
+  /** See {@link TaskScheduler#releaseGangReservations}. */
+  public boolean releaseGangReservations(String requestId, int numReservations,
+                                         List<TTaskLaunchSpec> tasks) {
+    if (Tracing.isTraced(LOG)) {
+      LOG.trace(Tracing.call("releaseGangReservations", requestId, numReservations, tasks));
+    }
+    return scheduler.releaseGangReservations(requestId, numReservations, tasks);
+  }
+
+  /**
+   * Enqueues reservations for each of the given requests. Returns whether all of the
+   * reservations were successfully enqueued, and the load of the node.
+   */
+  public TEnqueueTaskReservationsResponse enqueueTaskReservationsBatch(
+      List<TEnqueueTaskReservationsRequest> requests) {
+    boolean success = true;
+    for (TEnqueueTaskReservationsRequest request : requests) {
+      success = enqueue(request) && success;
+    }
+    String appId = requests.isEmpty() ? "*" : requests.get(0).getAppId();
+    return new TEnqueueTaskReservationsResponse(success, scheduler.getNodeLoad(appId));
+  }
+
   private class sendFrontendMessageCallback implements
   AsyncMethodCallback<sendFrontendMessage_call> {
     private InetSocketAddress frontendSocket;
@@ -175,7 +307,9 @@ public class NodeMonitor {
 
   public void sendFrontendMessage(String app, TFullTaskId taskId,
       int status, ByteBuffer message) {
-    LOG.debug(Logging.functionCall(app, taskId, message));
+    if (Tracing.isTraced(LOG)) {
+      LOG.trace(Tracing.call("sendFrontendMessage", app, taskId, message));
+    }
     InetSocketAddress scheduler = requestSchedulers.get(taskId.requestId);
     if (scheduler == null) {
       LOG.error("Did not find any scheduler info for request: " + taskId);
@@ -18,8 +18,10 @@ import edu.berkeley.sparrow.daemon.util.TServers;
 import edu.berkeley.sparrow.thrift.InternalService;
 import edu.berkeley.sparrow.thrift.NodeMonitorService;
 import edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest;
+import edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsResponse;
 import edu.berkeley.sparrow.thrift.TFullTaskId;
 import edu.berkeley.sparrow.thrift.TResourceUsage;
+import edu.berkeley.sparrow.thrift.TTaskLaunchSpec;
 
 /**
  * This class extends the thrift Sparrow node monitor interface. It wraps the
@@ -98,8 +100,33 @@ public class NodeMonitorThrift implements NodeMonitorService.Iface,
   }
 
   @Override
-  public boolean enqueueTaskReservations(TEnqueueTaskReservationsRequest request)
-      throws TException {
+  public TEnqueueTaskReservationsResponse enqueueTaskReservations(
+      TEnqueueTaskReservationsRequest request) throws TException {
     return nodeMonitor.enqueueTaskReservations(request);
   }
+
+  @Override
+  public TEnqueueTaskReservationsResponse enqueueTaskReservationsBatch(
+      List<TEnqueueTaskReservationsRequest> requests) throws TException {
+    return nodeMonitor.enqueueTaskReservationsBatch(requests);
+  }
+
+  @Override
+  public boolean releaseGangReservations(String requestId, int numReservations,
+                                         List<TTaskLaunchSpec> tasks) throws TException {
+    return nodeMonitor.releaseGangReservations(requestId, numReservations, tasks);
+  }
+
+  @Override
+  public List<TEnqueueTaskReservationsRequest> stealTaskReservations(List<String> appIds,
+                                                                    int maxReservations,
+                                                                    String leaseId)
+      throws TException {
+    return nodeMonitor.stealTaskReservations(appIds, maxReservations, leaseId);
+  }
+
+  @Override
+  public boolean confirmStolenReservations(String leaseId) throws TException {
+    return nodeMonitor.confirmStolenReservations(leaseId);
+  }
 }
\ No newline at end of file
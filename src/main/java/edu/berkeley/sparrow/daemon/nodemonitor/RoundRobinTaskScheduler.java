@@ -129,8 +129,11 @@ public class RoundRobinTaskScheduler extends TaskScheduler {
     if (userQueues.containsKey(appId)) {
       out.queueLength = userQueues.get(appId).size();
     } else {
-      LOG.info("Got resource request for application I've never seen: " + appId);
+      // Queues are per user rather than per application, so report the total queue length.
       out.queueLength = 0;
+      for (Queue<TaskSpec> queue : userQueues.values()) {
+        out.queueLength += queue.size();
+      }
     }
     return out;
   }
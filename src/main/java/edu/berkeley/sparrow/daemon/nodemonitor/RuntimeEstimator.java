@@ -0,0 +1,89 @@
+package edu.berkeley.sparrow.daemon.nodemonitor;
+
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.commons.configuration.Configuration;
+
+import com.google.common.collect.Maps;
+
+import edu.berkeley.sparrow.daemon.SparrowConf;
+
+/**
+ * Estimates how long tasks run, for each class of task: an application together with a job
+ * signature (see TSchedulingRequest.jobSignature). The estimate for a class is an exponentially
+ * weighted moving average of the runtimes of its tasks that have finished on this node monitor.
+ * Until a task of a class has finished, the average over all of the application's tasks is used,
+ * and until any of the application's tasks has finished, the default runtime.
+ *
+ * This class is thread safe.
+ */
+public class RuntimeEstimator {
+  /** Signature used for jobs that don't have one. */
+  public static final String NO_SIGNATURE = "";
+
+  private static class Estimate {
+    double averageMillis;
+    long samples = 0;
+  }
+
+  private final double alpha;
+  private final long defaultMillis;
+  /** Estimates for each application and signature, and for each application. */
+  private final ConcurrentMap<String, Estimate> classEstimates = Maps.newConcurrentMap();
+  private final ConcurrentMap<String, Estimate> appEstimates = Maps.newConcurrentMap();
+
+  public RuntimeEstimator(Configuration conf) {
+    this(conf.getDouble(SparrowConf.RUNTIME_ESTIMATE_ALPHA,
+                        SparrowConf.DEFAULT_RUNTIME_ESTIMATE_ALPHA),
+         conf.getInt(SparrowConf.RUNTIME_ESTIMATE_DEFAULT_MS,
+                     SparrowConf.DEFAULT_RUNTIME_ESTIMATE_DEFAULT_MS));
+  }
+
+  public RuntimeEstimator(double alpha, long defaultMillis) {
+    this.alpha = alpha;
+    this.defaultMillis = defaultMillis;
+  }
+
+  private static String classKey(String appId, String signature) {
+    return appId + "\u0000" + signature;
+  }
+
+  /** Records that a task of the given class ran for {@code runtimeMillis}. */
+  public void record(String appId, String signature, long runtimeMillis) {
+    update(classEstimates, classKey(appId, signature), runtimeMillis);
+    update(appEstimates, appId, runtimeMillis);
+  }
+
+  private void update(ConcurrentMap<String, Estimate> estimates, String key, long runtimeMillis) {
+    Estimate estimate = estimates.get(key);
+    if (estimate == null) {
+      estimate = new Estimate();
+      Estimate existing = estimates.putIfAbsent(key, estimate);
+      if (existing != null) {
+        estimate = existing;
+      }
+    }
+    synchronized (estimate) {
+      if (estimate.samples == 0) {
+        estimate.averageMillis = runtimeMillis;
+      } else {
+        estimate.averageMillis = alpha * runtimeMillis + (1 - alpha) * estimate.averageMillis;
+      }
+      estimate.samples++;
+    }
+  }
+
+  /** Returns the expected runtime of a task of the given class, in milliseconds. */
+  public long estimate(String appId, String signature) {
+    Estimate estimate = classEstimates.get(classKey(appId, signature));
+    if (estimate == null) {
+      estimate = appEstimates.get(appId);
+    }
+    if (estimate == null) {
+      return defaultMillis;
+    }
+    synchronized (estimate) {
+      return Math.round(estimate.averageMillis);
+    }
+  }
+}
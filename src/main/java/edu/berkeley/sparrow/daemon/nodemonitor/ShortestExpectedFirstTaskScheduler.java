@@ -0,0 +1,158 @@
+package edu.berkeley.sparrow.daemon.nodemonitor;
+
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.log4j.Logger;
+
+import com.google.common.collect.Lists;
+
+import edu.berkeley.sparrow.daemon.SparrowConf;
+import edu.berkeley.sparrow.daemon.util.TResources;
+import edu.berkeley.sparrow.thrift.TResourceUsage;
+import edu.berkeley.sparrow.thrift.TResourceVector;
+
+/**
+ * Like {@link FifoTaskScheduler}, runs a fixed number of tasks at once, but when a slot frees up,
+ * launches the queued reservation whose task is expected to be shortest (according to the
+ * {@link RuntimeEstimator}), rather than the oldest one. This lowers the average response time
+ * of short tasks that are queued behind long ones.
+ *
+ * To keep long tasks from starving, a reservation that has been queued for longer than the
+ * starvation threshold is launched ahead of any shorter ones (oldest first).
+ */
+public class ShortestExpectedFirstTaskScheduler extends TaskScheduler {
+  private final static Logger LOG = Logger.getLogger(ShortestExpectedFirstTaskScheduler.class);
+
+  public int maxActiveTasks;
+  public int activeTasks = 0;
+  private long starvationNanos = SparrowConf.DEFAULT_SEF_STARVATION_MS * 1000000L;
+
+  /** Queued reservations, shortest expected runtime first (oldest first among equals). */
+  private PriorityQueue<TaskSpec> shortestFirst = new PriorityQueue<TaskSpec>(11,
+      new Comparator<TaskSpec>() {
+        @Override
+        public int compare(TaskSpec a, TaskSpec b) {
+          if (a.expectedRuntimeMillis != b.expectedRuntimeMillis) {
+            return a.expectedRuntimeMillis < b.expectedRuntimeMillis ? -1 : 1;
+          }
+          if (a.enqueuedNanos != b.enqueuedNanos) {
+            return a.enqueuedNanos < b.enqueuedNanos ? -1 : 1;
+          }
+          return 0;
+        }
+      });
+  /** The same reservations, in the order they were queued. */
+  private LinkedHashSet<TaskSpec> arrivalOrder = new LinkedHashSet<TaskSpec>();
+
+  public ShortestExpectedFirstTaskScheduler(int max) {
+    this.maxActiveTasks = max;
+  }
+
+  @Override
+  void initialize(TResourceVector capacity, Configuration conf, int nodeMonitorPort) {
+    super.initialize(capacity, conf, nodeMonitorPort);
+    starvationNanos = conf.getInt(SparrowConf.SEF_STARVATION_MS,
+                                  SparrowConf.DEFAULT_SEF_STARVATION_MS) * 1000000L;
+  }
+
+  @Override
+  synchronized int handleSubmitTaskReservation(TaskSpec taskReservation) {
+    if (activeTasks < maxActiveTasks) {
+      makeTaskRunnable(taskReservation);
+      ++activeTasks;
+      LOG.debug("Making task for request " + taskReservation.requestId + " runnable (" +
+                activeTasks + " of " + maxActiveTasks + " task slots currently filled)");
+      return 0;
+    }
+    int queuedReservations = arrivalOrder.size();
+    LOG.debug("Enqueueing task reservation with request id " + taskReservation.requestId +
+              " (expected runtime " + taskReservation.expectedRuntimeMillis + "ms) because all " +
+              "task slots filled. " + queuedReservations + " already enqueued reservations.");
+    shortestFirst.add(taskReservation);
+    arrivalOrder.add(taskReservation);
+    return queuedReservations;
+  }
+
+  @Override
+  synchronized protected void handleTaskCompleted(
+      String requestId, String lastExecutedTaskRequestId, String lastExecutedTaskId) {
+    TaskSpec reservation = nextReservation(clock.nanoTime());
+    if (reservation != null) {
+      reservation.previousRequestId = lastExecutedTaskRequestId;
+      reservation.previousTaskId = lastExecutedTaskId;
+      makeTaskRunnable(reservation);
+    } else {
+      activeTasks -= 1;
+    }
+  }
+
+  /**
+   * Removes and returns the reservation to launch next: the oldest one if it has waited longer
+   * than the starvation threshold, and otherwise the one expected to be shortest.
+   */
+  synchronized TaskSpec nextReservation(long nowNanos) {
+    if (arrivalOrder.isEmpty()) {
+      return null;
+    }
+    TaskSpec oldest = arrivalOrder.iterator().next();
+    TaskSpec reservation;
+    if (nowNanos - oldest.enqueuedNanos > starvationNanos) {
+      LOG.debug("Launching reservation for request " + oldest.requestId +
+                " ahead of shorter tasks because it has waited " +
+                (nowNanos - oldest.enqueuedNanos) / 1000000 + "ms");
+      reservation = oldest;
+      shortestFirst.remove(reservation);
+    } else {
+      reservation = shortestFirst.poll();
+    }
+    arrivalOrder.remove(reservation);
+    return reservation;
+  }
+
+  @Override
+  synchronized int getIdleSlots() {
+    return maxActiveTasks - activeTasks;
+  }
+
+  /**
+   * Gives up at most half of the queued reservations, most recently queued first, like
+   * {@link FifoTaskScheduler#handleStealTaskReservations}.
+   */
+  @Override
+  synchronized List<TaskSpec> handleStealTaskReservations(Set<String> appIds,
+                                                          int maxReservations) {
+    List<TaskSpec> stolen = Lists.newArrayList();
+    int limit = Math.min(maxReservations, (arrivalOrder.size() + 1) / 2);
+    List<TaskSpec> queued = Lists.newArrayList(arrivalOrder);
+    for (int i = queued.size() - 1; i >= 0 && stolen.size() < limit; --i) {
+      TaskSpec reservation = queued.get(i);
+      if (reservation.stealable && appIds.contains(reservation.appId)) {
+        stolen.add(reservation);
+      }
+    }
+    for (TaskSpec reservation : stolen) {
+      arrivalOrder.remove(reservation);
+      shortestFirst.remove(reservation);
+    }
+    return stolen;
+  }
+
+  /** Returns the number of queued reservations. */
+  synchronized int queueLength() {
+    return arrivalOrder.size();
+  }
+
+  @Override
+  synchronized TResourceUsage getResourceUsage(String appId) {
+    TResourceUsage out = new TResourceUsage();
+    out.resources = TResources.subtract(capacity, getFreeResources());
+    out.queueLength = arrivalOrder.size();
+    out.setExpectedWaitMillis(expectedWaitMillis(arrivalOrder, maxActiveTasks));
+    return out;
+  }
+}
@@ -0,0 +1,115 @@
+package edu.berkeley.sparrow.daemon.nodemonitor;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+
+import org.apache.commons.configuration.Configuration;
+
+import com.google.common.collect.Lists;
+
+import edu.berkeley.sparrow.daemon.util.TResources;
+import edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest;
+import edu.berkeley.sparrow.thrift.TFullTaskId;
+import edu.berkeley.sparrow.thrift.THostPort;
+import edu.berkeley.sparrow.thrift.TTaskLaunchSpec;
+
+/**
+ * The queueing logic of a {@link NodeMonitor}, without any communication, for use in
+ * simulations. Reservations are queued by the same {@link TaskScheduler} that the node monitor
+ * uses (chosen using the node_monitor.task_scheduler setting); getTask() calls and task
+ * launches are passed to a {@link Cluster}, which is responsible for delivering them, and
+ * queueing times and task runtimes are measured using the Cluster's simulated clock.
+ *
+ * Gang reservations are not supported. Not thread safe.
+ */
+public class SimulatedNodeMonitor {
+  /** Receives the requests that a node monitor sends. */
+  public interface Cluster {
+    /** Called when the node monitor calls getTask() on a scheduler. */
+    void getTask(SimulatedNodeMonitor nodeMonitor, GetTaskRequest request);
+
+    /** Called when the node monitor launches a task on its backend. */
+    void launchTask(SimulatedNodeMonitor nodeMonitor, String requestId, TTaskLaunchSpec task);
+
+    /** Returns the current simulated time, in nanoseconds. */
+    long nanoTime();
+  }
+
+  /** A getTask() call that is waiting for a response from a scheduler. */
+  public class GetTaskRequest {
+    private TaskScheduler.TaskSpec reservation;
+
+    private GetTaskRequest(TaskScheduler.TaskSpec reservation) {
+      this.reservation = reservation;
+    }
+
+    public String getRequestId() {
+      return reservation.requestId;
+    }
+
+    public InetSocketAddress getSchedulerAddress() {
+      return reservation.schedulerAddress;
+    }
+
+    /** Delivers the scheduler's response (which holds at most one task). */
+    public void respond(List<TTaskLaunchSpec> tasks) {
+      scheduler.getTaskResponseReceived(reservation, tasks);
+      launchRunnableTasks();
+    }
+  }
+
+  private TaskScheduler scheduler;
+  private InetSocketAddress address;
+  private THostPort thriftAddress;
+  private Cluster cluster;
+
+  public SimulatedNodeMonitor(InetSocketAddress address, int cores, Configuration conf,
+                              Cluster cluster) {
+    this.address = address;
+    this.cluster = cluster;
+    thriftAddress = new THostPort(address.getAddress().getHostAddress(), address.getPort());
+    scheduler = NodeMonitor.createTaskScheduler(conf, cores);
+    scheduler.setClock(new TaskScheduler.Clock() {
+      @Override
+      public long nanoTime() {
+        return SimulatedNodeMonitor.this.cluster.nanoTime();
+      }
+    });
+    scheduler.setGetTaskHandler(new TaskScheduler.GetTaskHandler() {
+      @Override
+      public void getTask(TaskScheduler.TaskSpec taskReservation) {
+        SimulatedNodeMonitor.this.cluster.getTask(SimulatedNodeMonitor.this,
+                                                  new GetTaskRequest(taskReservation));
+      }
+    });
+    // Memory isn't simulated; tasks are limited only by the number of cores.
+    scheduler.initialize(TResources.createResourceVector(Integer.MAX_VALUE, cores), conf,
+                         address.getPort());
+  }
+
+  public InetSocketAddress getAddress() {
+    return address;
+  }
+
+  public THostPort getThriftAddress() {
+    return thriftAddress;
+  }
+
+  public void enqueueTaskReservations(TEnqueueTaskReservationsRequest request) {
+    scheduler.submitTaskReservations(request, address);
+    launchRunnableTasks();
+  }
+
+  public void taskFinished(TFullTaskId task) {
+    scheduler.tasksFinished(Lists.newArrayList(task));
+    launchRunnableTasks();
+  }
+
+  private void launchRunnableTasks() {
+    TaskScheduler.TaskSpec task = scheduler.pollNextTask();
+    while (task != null) {
+      cluster.launchTask(this, task.requestId, task.taskSpec);
+      task = scheduler.pollNextTask();
+    }
+  }
+}
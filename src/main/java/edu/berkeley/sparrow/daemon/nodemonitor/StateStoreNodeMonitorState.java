@@ -3,6 +3,7 @@ package edu.berkeley.sparrow.daemon.nodemonitor;
 import java.io.IOException;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
+import java.util.List;
 
 import org.apache.commons.configuration.Configuration;
 import org.apache.log4j.Logger;
@@ -10,6 +11,7 @@ import org.apache.thrift.TException;
 
 import edu.berkeley.sparrow.daemon.SparrowConf;
 import edu.berkeley.sparrow.daemon.scheduler.StateStoreSchedulerState;
+import edu.berkeley.sparrow.daemon.util.ConfigUtil;
 import edu.berkeley.sparrow.daemon.util.TClients;
 import edu.berkeley.sparrow.thrift.StateStoreService;
 
@@ -19,26 +21,35 @@ public class StateStoreNodeMonitorState implements NodeMonitorState {
   
   @Override
   public void initialize(Configuration conf) throws IOException {
-    // We need to register with the state store so it starts polling us for updates
-    String stateStoreHost = conf.getString(SparrowConf.STATE_STORE_HOST, 
-        SparrowConf.DEFAULT_STATE_STORE_HOST);
-    int stateStorePort = conf.getInt(SparrowConf.STATE_STORE_PORT,
-        SparrowConf.DEFAULT_STATE_STORE_PORT);
-    StateStoreService.Client client = TClients.createBlockingStateStoreClient(
-        stateStoreHost, stateStorePort);
-    
+    // We need to register with the state store so it starts polling us for updates. If the
+    // state store is sharded, every shard is told about us, and the one that owns us polls us.
     /* TODO: It's not clear whether this will always give us the right hostname.
      *       We might want to add a configuration option to set the hostname to use.*/ 
     String hostname = InetAddress.getLocalHost().getHostName();
     int port = conf.getInt(SparrowConf.INTERNAL_THRIFT_PORTS, 
         NodeMonitorThrift.DEFAULT_INTERNAL_THRIFT_PORT);
-    try {
-      client.registerNodeMonitor(hostname + ":" + port);
-    } catch (TException e) {
+    List<InetSocketAddress> stateStores = ConfigUtil.parseStateStores(conf);
+    int registered = 0;
+    for (InetSocketAddress stateStore : stateStores) {
+      String stateStoreHost = stateStore.getHostName();
+      try {
+        StateStoreService.Client client = TClients.createBlockingStateStoreClient(
+            stateStoreHost, stateStore.getPort());
+        client.registerNodeMonitor(hostname + ":" + port);
+        client.getInputProtocol().getTransport().close();
+        registered++;
+        LOG.info("Registered with state store at " + stateStoreHost + ":" +
+                 stateStore.getPort());
+      } catch (IOException e) {
+        LOG.warn("Unable to connect to state store at " + stateStore, e);
+      } catch (TException e) {
+        LOG.warn("Error registering node monitor with state store at " + stateStore, e);
+      }
+    }
+    if (registered == 0) {
       LOG.fatal("Error registering node monitor with state store");
-      throw new IOException(e);
+      throw new IOException("Unable to register with any state store: " + stateStores);
     }
-    LOG.info("Registered with state store at " + stateStoreHost + ":" + stateStorePort);
   }
 
   @Override
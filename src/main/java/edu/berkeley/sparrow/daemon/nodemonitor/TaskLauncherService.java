@@ -12,7 +12,10 @@ import org.apache.commons.configuration.Configuration;
 import org.apache.log4j.Logger;
 import org.apache.thrift.TException;
 
+import edu.berkeley.sparrow.daemon.metrics.Counter;
+import edu.berkeley.sparrow.daemon.metrics.Histogram;
 import edu.berkeley.sparrow.daemon.nodemonitor.TaskScheduler.TaskSpec;
+import edu.berkeley.sparrow.daemon.trace.Tracer;
 import edu.berkeley.sparrow.daemon.util.Logging;
 import edu.berkeley.sparrow.daemon.util.Network;
 import edu.berkeley.sparrow.daemon.util.TClients;
@@ -40,6 +43,13 @@ public class TaskLauncherService {
 
   private TaskScheduler scheduler;
 
+  /**
+   * Time from when a task becomes runnable until it has been launched on the backend. Only
+   * successful launches are recorded; failed ones are counted in launchFailures.
+   */
+  private Histogram launchLatencyUs;
+  private Counter launchFailures;
+
   /** Cache of thrift clients pools for each backends. Clients are removed from the pool
    *  when in use. */
   private HashMap<InetSocketAddress, BlockingQueue<BackendService.Client>> backendClients =
@@ -53,12 +63,9 @@ public class TaskLauncherService {
         TaskSpec task = scheduler.getNextTask(); // blocks until task is ready
         LOG.debug("Tring to launch task for request " + task.requestId);
 
-        AUDIT_LOG.info(Logging.auditEventString("node_monitor_task_launch",
-            task.requestId,
-            nodeMonitorInternalAddress.getHost(),
-            task.taskSpec.getTaskId(),
-            task.previousRequestId,
-            task.previousTaskId));
+        Logging.audit(AUDIT_LOG, "node_monitor_task_launch", task.requestId,
+                      nodeMonitorInternalAddress.getHost(), task.taskSpec.getTaskId(),
+                      task.previousRequestId, task.previousTaskId);
 
         // Launch the task on the backend.
         BackendService.Client client = null;
@@ -79,13 +86,31 @@ public class TaskLauncherService {
             task.schedulerAddress);
         TFullTaskId taskId = new TFullTaskId(task.taskSpec.getTaskId(), task.requestId,
             task.appId, schedulerHostPort);
+        long launchSpanId = 0;
+        if (task.traceContext != null) {
+          launchSpanId = Tracer.newId();
+          taskId.setTraceContext(Tracer.child(task.traceContext, launchSpanId));
+        }
+        boolean launched = false;
         try {
           client.launchTask(task.taskSpec.bufferForMessage(), taskId, task.user,
               task.estimatedResources);
+          launched = true;
         } catch (TException e) {
           LOG.fatal("Unable to launch task on backend " + task.appBackendAddress + ":" +
               e);
         }
+        long launchedNanos = System.nanoTime();
+        if (launched) {
+          launchLatencyUs.record((launchedNanos - task.runnableNanos) / 1000);
+        } else {
+          launchFailures.increment();
+        }
+        if (task.traceContext != null) {
+          Tracer.record(Tracer.child(task.traceContext, task.fetchSpanId), launchSpanId, "launch",
+                        scheduler.getTraceAddress(), Tracer.toEpochMicros(task.runnableNanos),
+                        Tracer.toEpochMicros(launchedNanos), task.taskSpec.getTaskId());
+        }
 
         try {
           backendClients.get(task.appBackendAddress).put(client);
@@ -105,6 +130,8 @@ public class TaskLauncherService {
   public void initialize(Configuration conf, TaskScheduler scheduler,
       int nodeMonitorPort) {
     this.scheduler = scheduler;
+    launchLatencyUs = scheduler.getMetrics().getHistogram("launch_latency_us");
+    launchFailures = scheduler.getMetrics().getCounter("launch_failures");
     nodeMonitorInternalAddress = new THostPort(Network.getHostName(conf), nodeMonitorPort);
     ExecutorService service = Executors.newFixedThreadPool(CLIENT_POOL_SIZE);
     for (int i = 0; i < CLIENT_POOL_SIZE; i++) {
@@ -2,31 +2,51 @@ package edu.berkeley.sparrow.daemon.nodemonitor;
 
 import java.net.InetSocketAddress;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map.Entry;
+import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.configuration.Configuration;
 import org.apache.log4j.Logger;
 import org.apache.thrift.TException;
 import org.apache.thrift.async.AsyncMethodCallback;
 
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 
+import edu.berkeley.sparrow.daemon.SparrowConf;
+import edu.berkeley.sparrow.daemon.metrics.Counter;
+import edu.berkeley.sparrow.daemon.metrics.Histogram;
+import edu.berkeley.sparrow.daemon.metrics.MetricsRegistry;
 import edu.berkeley.sparrow.daemon.scheduler.SchedulerThrift;
+import edu.berkeley.sparrow.daemon.trace.Span;
+import edu.berkeley.sparrow.daemon.trace.Tracer;
 import edu.berkeley.sparrow.daemon.util.Logging;
 import edu.berkeley.sparrow.daemon.util.Network;
 import edu.berkeley.sparrow.daemon.util.TResources;
 import edu.berkeley.sparrow.daemon.util.ThriftClientPool;
+import edu.berkeley.sparrow.daemon.util.Tracing;
 import edu.berkeley.sparrow.thrift.GetTaskService;
 import edu.berkeley.sparrow.thrift.GetTaskService.AsyncClient;
 import edu.berkeley.sparrow.thrift.GetTaskService.AsyncClient.getTask_call;
 import edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest;
+import edu.berkeley.sparrow.thrift.TNodeLoad;
 import edu.berkeley.sparrow.thrift.TFullTaskId;
 import edu.berkeley.sparrow.thrift.THostPort;
 import edu.berkeley.sparrow.thrift.TResourceUsage;
 import edu.berkeley.sparrow.thrift.TResourceVector;
 import edu.berkeley.sparrow.thrift.TTaskLaunchSpec;
+import edu.berkeley.sparrow.thrift.TTraceContext;
 import edu.berkeley.sparrow.thrift.TUserGroupInfo;
 
 /**
@@ -40,6 +60,8 @@ import edu.berkeley.sparrow.thrift.TUserGroupInfo;
  */
 public abstract class TaskScheduler {
   protected class TaskSpec {
+    /** The request that enqueued the reservation, used to hand it to another node monitor. */
+    public TEnqueueTaskReservationsRequest request;
     public String appId;
     public TUserGroupInfo user;
     public String requestId;
@@ -54,21 +76,68 @@ public abstract class TaskScheduler {
 
     public TResourceVector estimatedResources;
     public InetSocketAddress schedulerAddress;
+    /** Address of the scheduler's getTask() service. */
+    public InetSocketAddress getTaskAddress;
     public InetSocketAddress appBackendAddress;
 
     public TTaskLaunchSpec taskSpec;
 
+    /**
+     * Whether this is a reservation for a gang-scheduled job, in which case the slot is held
+     * (rather than given up) if the scheduler doesn't return a task.
+     */
+    public boolean gang;
+
+    /** Whether the reservation may be stolen by another node monitor. */
+    public boolean stealable;
+
+    /** Signature of the reservation's job, and the expected runtime of its task. */
+    public String jobSignature;
+    public long expectedRuntimeMillis;
+
+    /** Whether the reservation counts toward its user's queued reservations. */
+    public boolean countedAsQueued = false;
+
+    /**
+     * When the reservation was enqueued, when getTask() was called for it, and when its task
+     * became runnable (all from the scheduler's {@link Clock}).
+     */
+    public long enqueuedNanos;
+    public long getTaskNanos;
+    public long runnableNanos;
+    /** When the task was handed to the backend (from the scheduler's {@link Clock}). */
+    public long launchNanos;
+
+    /**
+     * If the job is traced, the probe span that enqueued the reservation, and the IDs of the
+     * spans recorded for the reservation (see {@link Tracer}). Null otherwise.
+     */
+    public TTraceContext traceContext;
+    public long queueSpanId;
+    public long fetchSpanId;
+
     public TaskSpec(TEnqueueTaskReservationsRequest request,
                            InetSocketAddress appBackendAddress) {
+      this.request = request;
       appId = request.getAppId();
+      gang = request.isSetGang() && request.isGang();
+      stealable = !gang && request.isSetStealable() && request.isStealable();
+      jobSignature = request.isSetJobSignature() ?
+          request.getJobSignature() : RuntimeEstimator.NO_SIGNATURE;
+      expectedRuntimeMillis = runtimeEstimator.estimate(appId, jobSignature);
       user = request.getUser();
       requestId = request.getRequestId();
       estimatedResources = request.getEstimatedResources();
       schedulerAddress = new InetSocketAddress(request.getSchedulerAddress().getHost(),
                                                request.getSchedulerAddress().getPort());
+      int getTaskPort = request.isSetGetTaskPort() ?
+          request.getGetTaskPort() : SchedulerThrift.DEFAULT_GET_TASK_PORT;
+      getTaskAddress = new InetSocketAddress(request.getSchedulerAddress().getHost(), getTaskPort);
       this.appBackendAddress = appBackendAddress;
       previousRequestId = "";
       previousTaskId = "";
+      enqueuedNanos = clock.nanoTime();
+      traceContext = request.getTraceContext();
     }
   }
 
@@ -85,6 +154,26 @@ public abstract class TaskScheduler {
     }
   }
 
+  /** Gang reservations for a single request. */
+  private class GangHold {
+    /** Reservations whose slots are currently being held, in the order they became ready. */
+    public LinkedList<TaskSpec> held = new LinkedList<TaskSpec>();
+
+    /** Number of reservations for which a getTask() call is outstanding. */
+    public int awaitingResponse = 0;
+
+    /**
+     * Releases that arrived from the scheduler before the getTask() response for the
+     * corresponding reservation was processed. Each entry is the task to launch, or null if the
+     * slot should be given up.
+     */
+    public LinkedList<TTaskLaunchSpec> pendingReleases = new LinkedList<TTaskLaunchSpec>();
+
+    public boolean isEmpty() {
+      return held.isEmpty() && awaitingResponse == 0 && pendingReleases.isEmpty();
+    }
+  }
+
   private final static Logger LOG = Logger.getLogger(TaskScheduler.class);
   private final static Logger AUDIT_LOG = Logging.getAuditLogger(TaskScheduler.class);
   private String ipAddress;
@@ -96,11 +185,96 @@ public abstract class TaskScheduler {
       new LinkedBlockingQueue<TaskSpec>();
   private HashMap<String, ResourceInfo> resourcesPerRequest = Maps.newHashMap();
 
-  private ThriftClientPool<GetTaskService.AsyncClient> getTaskClientPool =
-      new ThriftClientPool<GetTaskService.AsyncClient>(
-          new ThriftClientPool.GetTaskServiceMakerFactory());
+  /**
+   * Pool of clients used to call getTask() on schedulers. Created on first use, because each pool
+   * starts a selector thread, and task schedulers with a {@link GetTaskHandler} never use it.
+   */
+  private ThriftClientPool<GetTaskService.AsyncClient> getTaskClientPool = null;
 
   private THostPort nodeMonitorInternalAddress;
+  /** Address recorded in the spans of traced jobs. */
+  private String traceAddress;
+
+  /**
+   * Issues getTask() requests in place of the getTask() RPC, e.g., in simulations. Responses are
+   * passed to {@link TaskScheduler#getTaskResponseReceived}.
+   */
+  interface GetTaskHandler {
+    void getTask(TaskSpec taskReservation);
+  }
+
+  /** If set, used instead of the getTask() RPC. */
+  private GetTaskHandler getTaskHandler = null;
+
+  /**
+   * Source of the times recorded for reservations and tasks, which a simulation replaces with
+   * its simulated clock.
+   */
+  public interface Clock {
+    /** Returns the current time in nanoseconds, with the same semantics as System.nanoTime(). */
+    long nanoTime();
+  }
+
+  public final static Clock SYSTEM_CLOCK = new Clock() {
+    @Override
+    public long nanoTime() {
+      return System.nanoTime();
+    }
+  };
+
+  protected Clock clock = SYSTEM_CLOCK;
+
+  /** Gang reservations, indexed by request ID. Accesses must synchronize on gangHolds. */
+  private HashMap<String, GangHold> gangHolds = Maps.newHashMap();
+  private int gangHoldTimeoutMs = SparrowConf.DEFAULT_GANG_HOLD_TIMEOUT_MS;
+  /** Times out gang holds and steal leases. */
+  private ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor();
+
+  /**
+   * Reservations given to other node monitors by {@link #stealTaskReservations} that they haven't
+   * confirmed receiving yet, indexed by lease ID. Guarded by this.
+   */
+  private HashMap<String, List<TaskSpec>> stealLeases = Maps.newHashMap();
+  private int stealLeaseTimeoutMs = SparrowConf.DEFAULT_WORK_STEALING_LEASE_TIMEOUT_MS;
+
+  /**
+   * Metrics for task schedulers that aren't part of a node monitor (e.g., in simulations). These
+   * are shared, rather than per-scheduler, to avoid allocating histograms for every simulated
+   * node, and are never exported.
+   */
+  private final static MetricsRegistry UNEXPORTED_METRICS =
+      new MetricsRegistry("TaskScheduler", 0);
+
+  private MetricsRegistry metrics = UNEXPORTED_METRICS;
+  /** Time from when a reservation is enqueued until getTask() is called for it. */
+  private Histogram queueWaitUs;
+  /** Round trip time of getTask() calls to schedulers. */
+  private Histogram getTaskRttUs;
+  /** Number of getTask() calls for which the scheduler didn't return a task. */
+  private Counter getTaskEmpty;
+
+  /** If set, told whenever the load changes, so that it can push the load to the state store. */
+  private LoadReporter loadReporter = null;
+
+  /** Learns task runtimes from tasks that finish on this node monitor. */
+  protected RuntimeEstimator runtimeEstimator = new RuntimeEstimator(
+      SparrowConf.DEFAULT_RUNTIME_ESTIMATE_ALPHA, SparrowConf.DEFAULT_RUNTIME_ESTIMATE_DEFAULT_MS);
+  /** Tasks that have been launched but haven't finished, indexed by {@link #taskKey}. */
+  private ConcurrentMap<String, TaskSpec> launchedTasks = Maps.newConcurrentMap();
+
+  /**
+   * Maximum number of reservations each user may have queued, or 0 for no limit. A user's
+   * reservations beyond the limit are parked, and passed to the task scheduler as the user's
+   * queued reservations start. Parking doesn't apply to gang reservations, which hold slots.
+   */
+  private int maxQueuedReservationsPerUser = SparrowConf.DEFAULT_MAX_QUEUED_RESERVATIONS_PER_USER;
+  /**
+   * For each user, the reservations passed to {@link #handleSubmitTaskReservation} that haven't
+   * been made runnable yet. Guarded by this.
+   */
+  private HashMap<String, Integer> queuedReservationsPerUser = Maps.newHashMap();
+  /** For each user, reservations that are parked, in arrival order. Guarded by this. */
+  private LinkedHashMap<String, Queue<TaskSpec>> parkedReservations = Maps.newLinkedHashMap();
 
   /** Initialize the task scheduler, passing it the current available resources
    *  on the machine. */
@@ -109,6 +283,37 @@ public abstract class TaskScheduler {
     this.conf = conf;
     this.ipAddress = Network.getIPAddress(conf);
     nodeMonitorInternalAddress = new THostPort(Network.getHostName(conf), nodeMonitorPort);
+    traceAddress = ipAddress + ":" + nodeMonitorPort;
+    gangHoldTimeoutMs = conf.getInt(SparrowConf.GANG_HOLD_TIMEOUT_MS,
+                                    SparrowConf.DEFAULT_GANG_HOLD_TIMEOUT_MS);
+    stealLeaseTimeoutMs = conf.getInt(SparrowConf.WORK_STEALING_LEASE_TIMEOUT_MS,
+                                      SparrowConf.DEFAULT_WORK_STEALING_LEASE_TIMEOUT_MS);
+    queueWaitUs = metrics.getHistogram("queue_wait_us");
+    getTaskRttUs = metrics.getHistogram("get_task_rtt_us");
+    getTaskEmpty = metrics.getCounter("get_task_empty");
+    runtimeEstimator = new RuntimeEstimator(conf);
+    maxQueuedReservationsPerUser = conf.getInt(
+        SparrowConf.MAX_QUEUED_RESERVATIONS_PER_USER,
+        SparrowConf.DEFAULT_MAX_QUEUED_RESERVATIONS_PER_USER);
+  }
+
+  /** Sets the registry to record metrics in. Must be called before {@link #initialize}. */
+  void setMetrics(MetricsRegistry metrics) {
+    this.metrics = metrics;
+  }
+
+  MetricsRegistry getMetrics() {
+    return metrics;
+  }
+
+  void setLoadReporter(LoadReporter loadReporter) {
+    this.loadReporter = loadReporter;
+  }
+
+  private void signalLoadChanged() {
+    if (loadReporter != null) {
+      loadReporter.loadChanged();
+    }
   }
 
   /**
@@ -122,9 +327,56 @@ public abstract class TaskScheduler {
       LOG.fatal(e);
     }
     addResourceInUse(task.estimatedResources);
+    taskLaunched(task);
+    return task;
+  }
+
+  /**
+   * Returns the next task available for launching, or null if none is available.
+   */
+  TaskSpec pollNextTask() {
+    TaskSpec task = runnableTaskQueue.poll();
+    if (task != null) {
+      addResourceInUse(task.estimatedResources);
+      taskLaunched(task);
+    }
     return task;
   }
 
+  private static String taskKey(String requestId, String taskId) {
+    return requestId + "\u0000" + taskId;
+  }
+
+  /** Records when a task was launched, so that its runtime is known when it finishes. */
+  private void taskLaunched(TaskSpec task) {
+    task.launchNanos = clock.nanoTime();
+    if (task.taskSpec != null) {
+      launchedTasks.put(taskKey(task.requestId, task.taskSpec.getTaskId()), task);
+    }
+  }
+
+  /**
+   * Returns the expected time until a reservation queued after the given ones would start, if
+   * {@code slots} tasks run at once: the total expected runtime of the queued reservations'
+   * tasks, divided among the slots. The remaining runtime of tasks that are already running is
+   * ignored.
+   */
+  protected static long expectedWaitMillis(Iterable<TaskSpec> queued, int slots) {
+    long total = 0;
+    for (TaskSpec reservation : queued) {
+      total += reservation.expectedRuntimeMillis;
+    }
+    return total / Math.max(slots, 1);
+  }
+
+  void setGetTaskHandler(GetTaskHandler getTaskHandler) {
+    this.getTaskHandler = getTaskHandler;
+  }
+
+  void setClock(Clock clock) {
+    this.clock = clock;
+  }
+
   /**
    * Returns the current number of runnable tasks (for testing).
    */
@@ -132,18 +384,33 @@ public abstract class TaskScheduler {
     return runnableTaskQueue.size();
   }
 
+  String getTraceAddress() {
+    return traceAddress;
+  }
+
   void tasksFinished(List<TFullTaskId> finishedTasks) {
     for (TFullTaskId t : finishedTasks) {
-      AUDIT_LOG.info(Logging.auditEventString("task_completed", t.getRequestId(), t.getTaskId()));
+      Logging.audit(AUDIT_LOG, "task_completed", t.getRequestId(), t.getTaskId());
+      TaskSpec launched = launchedTasks.remove(taskKey(t.getRequestId(), t.getTaskId()));
+      if (launched != null) {
+        runtimeEstimator.record(launched.appId, launched.jobSignature,
+                                (clock.nanoTime() - launched.launchNanos) / 1000000);
+      }
+      if (t.getTraceContext() != null) {
+        // The run span starts when the launch span (which is its parent) ended. The launch span
+        // may not have been recorded yet if the task finished before launchTask() returned.
+        long now = Tracer.nowMicros();
+        Span launch = Tracer.getStore().getSpan(t.getTraceContext().getSpanId());
+        Tracer.record(t.getTraceContext(), Tracer.newId(), "run", traceAddress,
+                      launch != null ? launch.endMicros : now, now, t.getTaskId());
+      }
       taskCompleted(t.getRequestId(), t.getRequestId(), t.getTaskId());
     }
   }
 
   void noTaskForRequest(TaskSpec taskReservation) {
-    AUDIT_LOG.info(Logging.auditEventString("node_monitor_get_task_no_task",
-                                            taskReservation.requestId,
-                                            taskReservation.previousRequestId,
-                                            taskReservation.previousTaskId));
+    Logging.audit(AUDIT_LOG, "node_monitor_get_task_no_task", taskReservation.requestId,
+                  taskReservation.previousRequestId, taskReservation.previousTaskId);
     taskCompleted(taskReservation.requestId, taskReservation.previousRequestId,
                   taskReservation.previousTaskId);
   }
@@ -158,7 +425,9 @@ public abstract class TaskScheduler {
    */
   private synchronized void taskCompleted(String requestId, String lastExecutedTaskRequestId,
                                           String lastExecutedTaskId) {
-    LOG.debug(Logging.functionCall(requestId));
+    if (Tracing.isTraced(LOG)) {
+      LOG.trace(Tracing.call("taskCompleted", requestId));
+    }
     ResourceInfo resourceInfo = resourcesPerRequest.get(requestId);
     if (resourceInfo == null) {
       LOG.error("Missing resources for request: " + requestId);
@@ -171,56 +440,449 @@ public abstract class TaskScheduler {
     }
     freeResourceInUse(resourceInfo.resources);
     handleTaskCompleted(requestId, lastExecutedTaskRequestId, lastExecutedTaskId);
+    submitParkedReservations();
   }
 
   protected void makeTaskRunnable(TaskSpec task) {
+    reservationDequeued(task);
     LOG.debug("Attempting to get task for request " + task.requestId +
               " (previous task: " + task.previousTaskId + ")");
+    task.getTaskNanos = clock.nanoTime();
+    queueWaitUs.record((task.getTaskNanos - task.enqueuedNanos) / 1000);
+    TTraceContext fetchTrace = null;
+    if (task.traceContext != null) {
+      task.queueSpanId = Tracer.newId();
+      Tracer.record(task.traceContext, task.queueSpanId, "queue", traceAddress,
+                    Tracer.toEpochMicros(task.enqueuedNanos),
+                    Tracer.toEpochMicros(task.getTaskNanos), task.requestId);
+      task.fetchSpanId = Tracer.newId();
+      fetchTrace = Tracer.child(task.traceContext, task.fetchSpanId);
+    }
+    if (getTaskHandler != null) {
+      if (task.gang) {
+        synchronized (gangHolds) {
+          getGangHold(task.requestId).awaitingResponse++;
+        }
+      }
+      getTaskHandler.getTask(task);
+      return;
+    }
     GetTaskService.AsyncClient getTaskClient;
-    InetSocketAddress newAddress = new InetSocketAddress(
-        task.schedulerAddress.getHostName(), SchedulerThrift.DEFAULT_GET_TASK_PORT);
+    InetSocketAddress newAddress = task.getTaskAddress;
     try {
-      getTaskClient = getTaskClientPool.borrowClient(newAddress);
+      getTaskClient = getGetTaskClientPool().borrowClient(newAddress);
     } catch (Exception e) {
       LOG.fatal("Unable to create client to contact scheduler at " +
           newAddress.toString() + ":" + e);
       return;
     }
+    if (task.gang) {
+      synchronized (gangHolds) {
+        getGangHold(task.requestId).awaitingResponse++;
+      }
+    }
     try {
       LOG.debug("Attempting to get task from scheduler at " +
                 nodeMonitorInternalAddress.toString() + " for request " + task.requestId);
-      AUDIT_LOG.debug(Logging.auditEventString("node_monitor_get_task", task.requestId,
-                                               nodeMonitorInternalAddress.getHost()));
-      getTaskClient.getTask(task.requestId, nodeMonitorInternalAddress,
-                              new GetTaskCallback(task, newAddress));
+      Logging.audit(AUDIT_LOG, "node_monitor_get_task", task.requestId,
+                    nodeMonitorInternalAddress.getHost());
+      getTaskClient.getTask(task.requestId, nodeMonitorInternalAddress, fetchTrace,
+                            getNodeLoad(task.appId), task.request.getOriginalNodeMonitor(),
+                            new GetTaskCallback(task, newAddress));
     } catch (TException e) {
       LOG.error("Unable to getTask() from scheduler at " +
           newAddress.toString() + ":" + e);
     }
   }
 
+  /**
+   * Handles the scheduler's response to a getTask() request for {@code task}: the task is made
+   * runnable if the scheduler returned one, and otherwise the reservation's slot is given up (or
+   * held, for gang reservations).
+   */
+  void getTaskResponseReceived(TaskSpec task, List<TTaskLaunchSpec> taskLaunchSpecs) {
+    if (taskLaunchSpecs.isEmpty() && task.gang) {
+      holdGangReservation(task);
+      return;
+    }
+
+    if (taskLaunchSpecs.isEmpty()) {
+      LOG.debug("Didn't receive a task for request " + task.requestId);
+      getTaskEmpty.increment();
+      noTaskForRequest(task);
+      return;
+    }
+
+    gangResponseReceived(task);
+    if (taskLaunchSpecs.size() > 1) {
+      LOG.warn("Received " + taskLaunchSpecs +
+               " task launch specifications; ignoring all but the first one.");
+    }
+    task.taskSpec = taskLaunchSpecs.get(0);
+    LOG.debug("Received task for request " + task.requestId + ", task " +
+              task.taskSpec.getTaskId());
+
+    task.runnableNanos = clock.nanoTime();
+    try {
+      runnableTaskQueue.put(task);
+    } catch (InterruptedException e) {
+      LOG.fatal(e);
+    }
+  }
+
+  private synchronized ThriftClientPool<GetTaskService.AsyncClient> getGetTaskClientPool() {
+    if (getTaskClientPool == null) {
+      getTaskClientPool = new ThriftClientPool<GetTaskService.AsyncClient>(
+          new ThriftClientPool.GetTaskServiceMakerFactory());
+    }
+    return getTaskClientPool;
+  }
+
+  /** Returns the gang reservations for the given request. Must be called with gangHolds held. */
+  private GangHold getGangHold(String requestId) {
+    GangHold hold = gangHolds.get(requestId);
+    if (hold == null) {
+      hold = new GangHold();
+      gangHolds.put(requestId, hold);
+    }
+    return hold;
+  }
+
+  /** Removes the gang reservations for a request if there are no more. */
+  private void removeGangHoldIfEmpty(String requestId, GangHold hold) {
+    if (hold.isEmpty()) {
+      gangHolds.remove(requestId);
+    }
+  }
+
+  /**
+   * Called when the scheduler didn't return a task for a gang reservation. Holds the slot until
+   * the scheduler releases it (or until the hold times out), unless the release already arrived.
+   */
+  private void holdGangReservation(final TaskSpec task) {
+    boolean releaseArrived = false;
+    synchronized (gangHolds) {
+      GangHold hold = getGangHold(task.requestId);
+      hold.awaitingResponse--;
+      if (!hold.pendingReleases.isEmpty()) {
+        releaseArrived = true;
+        task.taskSpec = hold.pendingReleases.removeFirst();
+      } else {
+        hold.held.add(task);
+        timer.schedule(new Runnable() {
+          @Override
+          public void run() {
+            gangHoldTimedOut(task);
+          }
+        }, gangHoldTimeoutMs, TimeUnit.MILLISECONDS);
+      }
+      removeGangHoldIfEmpty(task.requestId, hold);
+    }
+    if (!releaseArrived) {
+      LOG.debug("Holding slot for gang reservation for request " + task.requestId);
+    } else if (task.taskSpec != null) {
+      makeHeldTaskRunnable(task);
+    } else {
+      noTaskForRequest(task);
+    }
+  }
+
+  /**
+   * Records that the getTask() response for a gang reservation was handled without holding the
+   * reservation's slot.
+   */
+  private void gangResponseReceived(TaskSpec task) {
+    if (!task.gang) {
+      return;
+    }
+    synchronized (gangHolds) {
+      GangHold hold = getGangHold(task.requestId);
+      hold.awaitingResponse--;
+      removeGangHoldIfEmpty(task.requestId, hold);
+    }
+  }
+
+  private void gangHoldTimedOut(TaskSpec task) {
+    synchronized (gangHolds) {
+      GangHold hold = gangHolds.get(task.requestId);
+      if (hold == null || !hold.held.remove(task)) {
+        // Already released.
+        return;
+      }
+      removeGangHoldIfEmpty(task.requestId, hold);
+    }
+    LOG.warn("Gang reservation for request " + task.requestId + " was not released by the " +
+             "scheduler within " + gangHoldTimeoutMs + "ms; giving up slot.");
+    noTaskForRequest(task);
+  }
+
+  private void makeHeldTaskRunnable(TaskSpec task) {
+    LOG.debug("Launching held gang reservation for request " + task.requestId + ", task " +
+              task.taskSpec.getTaskId());
+    task.runnableNanos = clock.nanoTime();
+    try {
+      runnableTaskQueue.put(task);
+    } catch (InterruptedException e) {
+      LOG.fatal(e);
+    }
+  }
+
+  /**
+   * Releases {@code numReservations} gang reservations for the given request, launching
+   * {@code tasks} using the first of them and giving up the slots for the rest. Returns false if
+   * some of the reservations were no longer held (e.g., because they timed out), in which case
+   * the corresponding tasks were not launched.
+   */
+  public boolean releaseGangReservations(String requestId, int numReservations,
+                                         List<TTaskLaunchSpec> tasks) {
+    List<TaskSpec> toLaunch = new LinkedList<TaskSpec>();
+    List<TaskSpec> toGiveUp = new LinkedList<TaskSpec>();
+    boolean success = true;
+    synchronized (gangHolds) {
+      GangHold hold = getGangHold(requestId);
+      for (int i = 0; i < numReservations; ++i) {
+        TTaskLaunchSpec taskSpec = null;
+        if (i < tasks.size()) {
+          taskSpec = tasks.get(i);
+        }
+        TaskSpec reservation = hold.held.poll();
+        if (reservation != null) {
+          reservation.taskSpec = taskSpec;
+          if (taskSpec != null) {
+            toLaunch.add(reservation);
+          } else {
+            toGiveUp.add(reservation);
+          }
+        } else if (hold.pendingReleases.size() < hold.awaitingResponse) {
+          // The getTask() response for this reservation hasn't been handled yet.
+          hold.pendingReleases.add(taskSpec);
+        } else {
+          success = false;
+        }
+      }
+      removeGangHoldIfEmpty(requestId, hold);
+    }
+    if (!success) {
+      LOG.error("Asked to release " + numReservations + " gang reservations for request " +
+                requestId + " but some were no longer held.");
+    }
+    for (TaskSpec reservation : toLaunch) {
+      makeHeldTaskRunnable(reservation);
+    }
+    for (TaskSpec reservation : toGiveUp) {
+      noTaskForRequest(reservation);
+    }
+    return success;
+  }
+
   public synchronized void submitTaskReservations(TEnqueueTaskReservationsRequest request,
                                                   InetSocketAddress appBackendAddress) {
-    ResourceInfo resourceInfo = new ResourceInfo(request.getNumTasks(),
-                                                 request.getEstimatedResources());
-    resourcesPerRequest.put(request.getRequestId(), resourceInfo);
+    ResourceInfo resourceInfo = resourcesPerRequest.get(request.getRequestId());
+    if (resourceInfo != null) {
+      // Reservations for a request can arrive in multiple batches (e.g., when a gang-scheduled
+      // job is re-probed).
+      resourceInfo.remainingTasks += request.getNumTasks();
+    } else {
+      resourceInfo = new ResourceInfo(request.getNumTasks(), request.getEstimatedResources());
+      resourcesPerRequest.put(request.getRequestId(), resourceInfo);
+    }
     LOG.debug("Added resource info for request " + request.getRequestId() + " with " +
               resourceInfo.remainingTasks + " tasks.");
     for (int i = 0; i < request.getNumTasks(); ++i) {
       LOG.debug("Creating reservation " + i + " for request " + request.getRequestId());
       TaskSpec reservation = new TaskSpec(request, appBackendAddress);
+      if (shouldPark(reservation)) {
+        Queue<TaskSpec> parked = parkedReservations.get(userKey(reservation));
+        if (parked == null) {
+          parked = new LinkedList<TaskSpec>();
+          parkedReservations.put(userKey(reservation), parked);
+        }
+        parked.add(reservation);
+        Logging.audit(AUDIT_LOG, "reservation_parked", ipAddress, request.requestId,
+                      parked.size());
+        continue;
+      }
+      submitReservation(reservation);
+    }
+    signalLoadChanged();
+  }
+
+  private static String userKey(TaskSpec reservation) {
+    return reservation.user == null ? "" : reservation.user.getUser();
+  }
+
+  /** Must be called while holding the lock on this. */
+  private int getQueuedReservations(String user) {
+    Integer queued = queuedReservationsPerUser.get(user);
+    return queued == null ? 0 : queued;
+  }
+
+  /**
+   * Returns whether the reservation should be parked, because its user has reached the limit on
+   * queued reservations (or already has parked reservations, which go first). Must be called
+   * while holding the lock on this.
+   */
+  private boolean shouldPark(TaskSpec reservation) {
+    if (maxQueuedReservationsPerUser <= 0 || reservation.gang) {
+      return false;
+    }
+    String user = userKey(reservation);
+    return parkedReservations.containsKey(user) ||
+        getQueuedReservations(user) >= maxQueuedReservationsPerUser;
+  }
+
+  /** Passes a reservation to the task scheduler. Must be called while holding the lock on this. */
+  private void submitReservation(TaskSpec reservation) {
+    if (maxQueuedReservationsPerUser > 0) {
+      String user = userKey(reservation);
+      queuedReservationsPerUser.put(user, getQueuedReservations(user) + 1);
+      reservation.countedAsQueued = true;
+    }
+    int queuedReservations = handleSubmitTaskReservation(reservation);
+    Logging.audit(AUDIT_LOG, "reservation_enqueued", ipAddress, reservation.requestId,
+                  queuedReservations);
+  }
+
+  /** Signals that a reservation has left the task scheduler's queue. */
+  private synchronized void reservationDequeued(TaskSpec reservation) {
+    if (!reservation.countedAsQueued) {
+      return;
+    }
+    reservation.countedAsQueued = false;
+    String user = userKey(reservation);
+    int queued = getQueuedReservations(user) - 1;
+    if (queued > 0) {
+      queuedReservationsPerUser.put(user, queued);
+    } else {
+      queuedReservationsPerUser.remove(user);
+    }
+  }
+
+  /**
+   * Passes parked reservations to the task scheduler, for users that are below the limit on
+   * queued reservations. Must be called while holding the lock on this, and not from within
+   * the task scheduler's handle methods.
+   */
+  private void submitParkedReservations() {
+    Iterator<Entry<String, Queue<TaskSpec>>> it = parkedReservations.entrySet().iterator();
+    while (it.hasNext()) {
+      Entry<String, Queue<TaskSpec>> entry = it.next();
+      Queue<TaskSpec> parked = entry.getValue();
+      while (!parked.isEmpty() &&
+             getQueuedReservations(entry.getKey()) < maxQueuedReservationsPerUser) {
+        submitReservation(parked.poll());
+      }
+      if (parked.isEmpty()) {
+        it.remove();
+      }
+    }
+  }
+
+  /** Returns the number of parked reservations. */
+  synchronized int getParkedReservations() {
+    int parked = 0;
+    for (Queue<TaskSpec> reservations : parkedReservations.values()) {
+      parked += reservations.size();
+    }
+    return parked;
+  }
+
+  /**
+   * Removes up to {@code maxReservations} queued, stealable reservations for the given
+   * applications, so that another node monitor can launch them. Returns a request for each
+   * stolen reservation, which is the same as the request that enqueued it except that it is for
+   * a single task and records the node monitor that the scheduler enqueued it on (this node
+   * monitor, unless the reservation was stolen before).
+   *
+   * The reservations are only leased to the thief under {@code leaseId}: they are given up when
+   * the thief calls {@link #confirmStolenReservations}, and put back in the queue if it doesn't
+   * do so within the lease timeout (e.g., because the steal RPC timed out after this returned).
+   */
+  public synchronized List<TEnqueueTaskReservationsRequest> stealTaskReservations(
+      Set<String> appIds, int maxReservations, final String leaseId) {
+    List<TEnqueueTaskReservationsRequest> stolen = Lists.newArrayList();
+    if (maxReservations <= 0) {
+      return stolen;
+    }
+    List<TaskSpec> leased = handleStealTaskReservations(appIds, maxReservations);
+    if (leased.isEmpty()) {
+      return stolen;
+    }
+    for (TaskSpec reservation : leased) {
+      LOG.debug("Leasing reservation for request " + reservation.requestId + " under " + leaseId);
+      TEnqueueTaskReservationsRequest request = reservation.request.deepCopy();
+      request.setNumTasks(1);
+      if (!request.isSetOriginalNodeMonitor()) {
+        request.setOriginalNodeMonitor(nodeMonitorInternalAddress);
+      }
+      stolen.add(request);
+    }
+    List<TaskSpec> lease = stealLeases.get(leaseId);
+    if (lease != null) {
+      lease.addAll(leased);
+    } else {
+      stealLeases.put(leaseId, leased);
+      timer.schedule(new Runnable() {
+        @Override
+        public void run() {
+          stealLeaseExpired(leaseId);
+        }
+      }, stealLeaseTimeoutMs, TimeUnit.MILLISECONDS);
+    }
+    signalLoadChanged();
+    return stolen;
+  }
+
+  /**
+   * Gives up the reservations leased under {@code leaseId}, which the thief has received.
+   * Returns false if the lease had already expired, in which case the thief must not enqueue
+   * the reservations, since they were put back in this node monitor's queue.
+   */
+  public synchronized boolean confirmStolenReservations(String leaseId) {
+    List<TaskSpec> lease = stealLeases.remove(leaseId);
+    if (lease == null) {
+      return false;
+    }
+    for (TaskSpec reservation : lease) {
+      reservationDequeued(reservation);
+      ResourceInfo resourceInfo = resourcesPerRequest.get(reservation.requestId);
+      if (resourceInfo != null && --resourceInfo.remainingTasks == 0) {
+        resourcesPerRequest.remove(reservation.requestId);
+      }
+      Logging.audit(AUDIT_LOG, "reservation_stolen", ipAddress, reservation.requestId);
+    }
+    submitParkedReservations();
+    signalLoadChanged();
+    return true;
+  }
+
+  /** Puts the reservations leased under {@code leaseId} back in the queue, if not confirmed. */
+  synchronized void stealLeaseExpired(String leaseId) {
+    List<TaskSpec> lease = stealLeases.remove(leaseId);
+    if (lease == null) {
+      // Already confirmed.
+      return;
+    }
+    LOG.warn(lease.size() + " reservations leased under " + leaseId + " were not confirmed " +
+             "within " + stealLeaseTimeoutMs + "ms; putting them back in the queue.");
+    for (TaskSpec reservation : lease) {
+      // The reservation is still counted as queued for its user, so it goes straight back to the
+      // task scheduler rather than through submitReservation().
       int queuedReservations = handleSubmitTaskReservation(reservation);
-      AUDIT_LOG.info(Logging.auditEventString("reservation_enqueued", ipAddress, request.requestId,
-                                              queuedReservations));
+      Logging.audit(AUDIT_LOG, "reservation_enqueued", ipAddress, reservation.requestId,
+                    queuedReservations);
     }
+    signalLoadChanged();
   }
 
   protected synchronized void addResourceInUse(TResourceVector nowInUse) {
     TResources.addTo(inUse, nowInUse);
+    signalLoadChanged();
   }
 
   protected synchronized void freeResourceInUse(TResourceVector nowFreed) {
     TResources.subtractFrom(inUse, nowFreed);
+    signalLoadChanged();
   }
 
   /**
@@ -237,6 +899,38 @@ public abstract class TaskScheduler {
     return TResources.subtract(free, reserved);
   }
 
+  /**
+   * Returns the load to report to schedulers: the queue length (for {@code appId}, if
+   * reservations are queued separately for each application) and the free resources.
+   */
+  TNodeLoad getNodeLoad(String appId) {
+    TResourceUsage usage = getResourceUsage(appId);
+    TNodeLoad load = new TNodeLoad(usage.getQueueLength(),
+                                   TResources.subtract(capacity, usage.getResources()));
+    if (usage.isSetExpectedWaitMillis()) {
+      load.setExpectedWaitMillis(usage.getExpectedWaitMillis());
+    }
+    return load;
+  }
+
+  /**
+   * Returns the number of additional tasks that could start immediately. Node monitors only
+   * try to steal reservations when this is positive. Task schedulers that don't support work
+   * stealing return 0.
+   */
+  int getIdleSlots() {
+    return 0;
+  }
+
+  /**
+   * Removes and returns up to {@code maxReservations} queued reservations that are stealable and
+   * for one of the given applications. Task schedulers that don't support work stealing give
+   * up nothing.
+   */
+  List<TaskSpec> handleStealTaskReservations(Set<String> appIds, int maxReservations) {
+    return Lists.newArrayList();
+  }
+
   // TASK SCHEDULERS MUST IMPLEMENT THE FOLLOWING
 
   /**
@@ -267,11 +961,23 @@ public abstract class TaskScheduler {
 
     @Override
     public void onComplete(getTask_call response) {
-      LOG.debug(Logging.functionCall(response));
+      if (Tracing.isTraced(LOG)) {
+        LOG.trace(Tracing.call("onComplete", response));
+      }
+      long now = clock.nanoTime();
+      getTaskRttUs.record((now - task.getTaskNanos) / 1000);
+      if (task.traceContext != null) {
+        Tracer.record(Tracer.child(task.traceContext, task.queueSpanId), task.fetchSpanId,
+                      "fetch", traceAddress, Tracer.toEpochMicros(task.getTaskNanos),
+                      Tracer.toEpochMicros(now),
+                      task.getTaskAddress.getAddress().getHostAddress() + ":" +
+                      task.getTaskAddress.getPort());
+      }
       try {
-        getTaskClientPool.returnClient(getTaskAddress, (AsyncClient) response.getClient());
+        getGetTaskClientPool().returnClient(getTaskAddress, (AsyncClient) response.getClient());
       } catch (Exception e) {
         LOG.error("Error getting client from scheduler client pool: " + e.getMessage());
+        gangResponseReceived(task);
         return;
       }
       List<TTaskLaunchSpec> taskLaunchSpecs;
@@ -280,34 +986,17 @@ public abstract class TaskScheduler {
       } catch (TException e) {
         LOG.error("Unable to read result of calling getTask() on scheduler " +
                   task.schedulerAddress.toString() + ": " + e);
+        gangResponseReceived(task);
         noTaskForRequest(task);
         return;
       }
-
-      if (taskLaunchSpecs.isEmpty()) {
-        LOG.debug("Didn't receive a task for request " + task.requestId);
-        noTaskForRequest(task);
-        return;
-      }
-
-      if (taskLaunchSpecs.size() > 1) {
-        LOG.warn("Received " + taskLaunchSpecs +
-                 " task launch specifications; ignoring all but the first one.");
-      }
-      task.taskSpec = taskLaunchSpecs.get(0);
-      LOG.debug("Received task for request " + task.requestId + ", task " +
-                task.taskSpec.getTaskId());
-
-      try {
-        runnableTaskQueue.put(task);
-      } catch (InterruptedException e) {
-        LOG.fatal(e);
-      }
+      getTaskResponseReceived(task, taskLaunchSpecs);
     }
 
     @Override
     public void onError(Exception exception) {
       // Do not return error client to pool.
+      gangResponseReceived(task);
       exception.printStackTrace();
       LOG.error("Error executing getTask() RPC:" + exception.getStackTrace().toString() +
                 exception.toString());
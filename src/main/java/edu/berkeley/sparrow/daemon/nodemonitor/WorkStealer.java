@@ -0,0 +1,198 @@
+package edu.berkeley.sparrow.daemon.nodemonitor;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.log4j.Logger;
+import org.apache.thrift.TException;
+
+import com.google.common.collect.Lists;
+
+import edu.berkeley.sparrow.daemon.SparrowConf;
+import edu.berkeley.sparrow.daemon.metrics.Counter;
+import edu.berkeley.sparrow.daemon.metrics.MetricsRegistry;
+import edu.berkeley.sparrow.daemon.util.TClients;
+import edu.berkeley.sparrow.thrift.InternalService;
+import edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest;
+
+/**
+ * Steals queued reservations from other node monitors while this node monitor has idle slots.
+ *
+ * Probes are placed at random, so some node monitors can end up with long queues while others
+ * are idle (e.g., after a job whose constrained tasks all prefer the same few nodes). Every
+ * interval, if the task scheduler has idle slots, this asks a few randomly chosen peers to hand
+ * over queued reservations for the applications this node monitor runs, and enqueues the
+ * reservations it receives as if a scheduler had sent them. A stolen reservation keeps its
+ * request ID and scheduler, so when it reaches the front of the queue, the task is fetched from
+ * the original scheduler with getTask() as usual.
+ *
+ * The handoff takes two calls, so that reservations aren't lost if a steal fails partway: the
+ * peer leases the reservations it hands over, and only gives them up once this node monitor
+ * confirms that it received them. If the confirmation doesn't arrive (e.g., because the steal
+ * RPC timed out after the peer returned), the peer puts the reservations back in its queue.
+ *
+ * Only reservations that the scheduler marked as stealable are handed over (i.e., not those for
+ * node-constrained tasks or gang-scheduled jobs), and only task schedulers that support stealing
+ * ({@link TaskScheduler#getIdleSlots()}) take part.
+ */
+public class WorkStealer {
+  private final static Logger LOG = Logger.getLogger(WorkStealer.class);
+  /** Maximum time to wait to connect to, and hear back from, a peer. */
+  private final static int STEAL_TIMEOUT_MS = 1000;
+
+  private final NodeMonitor nodeMonitor;
+  private final TaskScheduler scheduler;
+  private final List<InetSocketAddress> peers;
+  private final long intervalMillis;
+  private final int peersPerAttempt;
+  private final Random random = new Random();
+  /** Leases are identified by this prefix followed by a counter. */
+  private final String leaseIdPrefix = Long.toHexString(random.nextLong()) + "_";
+  private long leaseCounter = 0;
+
+  private Counter stealAttempts;
+  private Counter reservationsStolen;
+
+  /** @param peers internal addresses of the other node monitors */
+  public WorkStealer(NodeMonitor nodeMonitor, TaskScheduler scheduler,
+                     List<InetSocketAddress> peers, Configuration conf, MetricsRegistry metrics) {
+    this.nodeMonitor = nodeMonitor;
+    this.scheduler = scheduler;
+    this.peers = Lists.newArrayList(peers);
+    intervalMillis = conf.getInt(SparrowConf.WORK_STEALING_INTERVAL_MS,
+                                 SparrowConf.DEFAULT_WORK_STEALING_INTERVAL_MS);
+    peersPerAttempt = conf.getInt(SparrowConf.WORK_STEALING_PEERS_PER_ATTEMPT,
+                                  SparrowConf.DEFAULT_WORK_STEALING_PEERS_PER_ATTEMPT);
+    stealAttempts = metrics.getCounter("steal_attempts");
+    reservationsStolen = metrics.getCounter("reservations_stolen");
+  }
+
+  /** Starts a daemon thread that steals work every interval. */
+  public void start() {
+    Thread thread = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        while (true) {
+          try {
+            Thread.sleep(intervalMillis);
+          } catch (InterruptedException e) {
+            LOG.warn("Work stealer interrupted", e);
+            return;
+          }
+          try {
+            stealIfIdle();
+          } catch (RuntimeException e) {
+            LOG.error("Error stealing reservations", e);
+          }
+        }
+      }
+    }, "WorkStealer");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  /**
+   * If the task scheduler has idle slots, asks randomly chosen peers for up to that many
+   * reservations, and enqueues them. Returns the number of reservations stolen.
+   */
+  int stealIfIdle() {
+    int idleSlots = scheduler.getIdleSlots();
+    List<String> appIds = getAppIds();
+    if (idleSlots <= 0 || appIds.isEmpty() || peers.isEmpty()) {
+      return 0;
+    }
+    int stolen = 0;
+    for (InetSocketAddress peer : choosePeers()) {
+      stealAttempts.increment();
+      String leaseId = leaseIdPrefix + leaseCounter++;
+      List<TEnqueueTaskReservationsRequest> requests =
+          steal(peer, appIds, idleSlots - stolen, leaseId);
+      if (requests.isEmpty()) {
+        continue;
+      }
+      if (!confirm(peer, leaseId)) {
+        LOG.debug("Unable to confirm " + requests.size() + " reservations stolen from " + peer +
+                  "; leaving them there.");
+        continue;
+      }
+      for (TEnqueueTaskReservationsRequest request : requests) {
+        LOG.debug("Stole reservation for request " + request.getRequestId() + " from " + peer);
+        enqueue(request);
+      }
+      stolen += requests.size();
+      if (stolen >= idleSlots) {
+        break;
+      }
+    }
+    reservationsStolen.increment(stolen);
+    return stolen;
+  }
+
+  protected List<String> getAppIds() {
+    return nodeMonitor.getAppIds();
+  }
+
+  protected void enqueue(TEnqueueTaskReservationsRequest request) {
+    nodeMonitor.enqueueTaskReservations(request);
+  }
+
+  /** Returns up to peersPerAttempt peers, chosen at random. */
+  List<InetSocketAddress> choosePeers() {
+    int count = Math.min(peersPerAttempt, peers.size());
+    for (int i = 0; i < count; ++i) {
+      Collections.swap(peers, i, i + random.nextInt(peers.size() - i));
+    }
+    return Lists.newArrayList(peers.subList(0, count));
+  }
+
+  /**
+   * Asks {@code peer} for up to {@code maxReservations} reservations for the given applications,
+   * leased under {@code leaseId}. Returns the reservations it handed over, or an empty list if it
+   * couldn't be reached.
+   */
+  protected List<TEnqueueTaskReservationsRequest> steal(InetSocketAddress peer,
+                                                        List<String> appIds,
+                                                        int maxReservations,
+                                                        String leaseId) {
+    try {
+      InternalService.Client client = TClients.createBlockingInternalClient(
+          peer.getAddress().getHostAddress(), peer.getPort(), STEAL_TIMEOUT_MS);
+      try {
+        return client.stealTaskReservations(appIds, maxReservations, leaseId);
+      } finally {
+        client.getInputProtocol().getTransport().close();
+      }
+    } catch (IOException e) {
+      LOG.debug("Unable to connect to node monitor at " + peer);
+    } catch (TException e) {
+      LOG.debug("Error stealing reservations from node monitor at " + peer, e);
+    }
+    return Lists.newArrayList();
+  }
+
+  /**
+   * Tells {@code peer} that the reservations leased under {@code leaseId} were received. Returns
+   * whether the peer gave them up; if not (or if it couldn't be reached), they must not be
+   * enqueued here.
+   */
+  protected boolean confirm(InetSocketAddress peer, String leaseId) {
+    try {
+      InternalService.Client client = TClients.createBlockingInternalClient(
+          peer.getAddress().getHostAddress(), peer.getPort(), STEAL_TIMEOUT_MS);
+      try {
+        return client.confirmStolenReservations(leaseId);
+      } finally {
+        client.getInputProtocol().getTransport().close();
+      }
+    } catch (IOException e) {
+      LOG.debug("Unable to connect to node monitor at " + peer);
+    } catch (TException e) {
+      LOG.debug("Error confirming stolen reservations with node monitor at " + peer, e);
+    }
+    return false;
+  }
+}
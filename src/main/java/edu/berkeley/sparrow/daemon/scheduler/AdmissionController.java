@@ -0,0 +1,293 @@
+package edu.berkeley.sparrow.daemon.scheduler;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Random;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.log4j.Logger;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+import edu.berkeley.sparrow.daemon.SparrowConf;
+import edu.berkeley.sparrow.thrift.SchedulerOverloadedException;
+import edu.berkeley.sparrow.thrift.TSchedulingRequest;
+
+/**
+ * Decides whether the scheduler accepts new jobs, so that an overloaded scheduler tells
+ * frontends to back off rather than queueing work (and task placers) without bound.
+ *
+ * The controller counts the outstanding tasks of each admitted job: tasks that haven't been
+ * launched yet. A job is rejected if it would take the scheduler's outstanding tasks over the
+ * scheduler-wide limit, or its application's outstanding tasks over the per-application limit;
+ * a job is never rejected for a limit when nothing counts against that limit yet, so that jobs
+ * larger than a limit can still run. Before the scheduler-wide limit is reached, jobs are shed
+ * with a probability that grows as the outstanding tasks approach the limit, so that frontends
+ * back off gradually rather than all at once.
+ *
+ * Rejected jobs get a {@link SchedulerOverloadedException} telling the frontend how long to wait
+ * before retrying. The wait is randomized so that rejected frontends don't all retry at once.
+ *
+ * A job's tasks can only be launched in response to its reservations, so the controller also
+ * counts each job's unanswered reservations at each node monitor. Reservations that can never be
+ * answered, because the enqueue RPC failed or the node monitor died, are given up with
+ * {@link #reservationsLost} or {@link #nodeFailed}; a job never counts more outstanding tasks than
+ * it has unanswered reservations, and is finished once it has none. Gang-scheduled jobs are the
+ * exception, because their tasks are launched in reservations that have already been answered.
+ *
+ * This class is thread safe.
+ */
+public class AdmissionController {
+  private final static Logger LOG = Logger.getLogger(AdmissionController.class);
+
+  private static class AdmittedRequest {
+    String appId;
+    int outstandingTasks;
+    boolean gang;
+    /** Reservations that haven't been answered, indexed by node monitor. */
+    Map<InetSocketAddress, Integer> reservations = Maps.newHashMap();
+    int totalReservations = 0;
+
+    AdmittedRequest(String appId, int outstandingTasks, boolean gang) {
+      this.appId = appId;
+      this.outstandingTasks = outstandingTasks;
+      this.gang = gang;
+    }
+  }
+
+  private final int maxOutstandingTasks;
+  private final int maxOutstandingTasksPerApp;
+  private final double shedFraction;
+  private final long retryAfterMillis;
+  private final Random random;
+
+  private int outstandingTasks = 0;
+  private final Map<String, Integer> appOutstandingTasks = Maps.newHashMap();
+  /** Admitted requests that may still launch tasks, indexed by request ID. */
+  private final Map<String, AdmittedRequest> requests = Maps.newHashMap();
+
+  public AdmissionController(Configuration conf) {
+    this(conf.getInt(SparrowConf.ADMISSION_MAX_OUTSTANDING_TASKS,
+                     SparrowConf.DEFAULT_ADMISSION_MAX_OUTSTANDING_TASKS),
+         conf.getInt(SparrowConf.ADMISSION_MAX_OUTSTANDING_TASKS_PER_APP,
+                     SparrowConf.DEFAULT_ADMISSION_MAX_OUTSTANDING_TASKS_PER_APP),
+         conf.getDouble(SparrowConf.ADMISSION_SHED_FRACTION,
+                        SparrowConf.DEFAULT_ADMISSION_SHED_FRACTION),
+         conf.getInt(SparrowConf.ADMISSION_RETRY_AFTER_MS,
+                     SparrowConf.DEFAULT_ADMISSION_RETRY_AFTER_MS),
+         new Random());
+  }
+
+  /**
+   * @param maxOutstandingTasks limit on the scheduler's outstanding tasks, or 0 for no limit
+   * @param maxOutstandingTasksPerApp limit on each application's outstanding tasks, or 0 for no
+   *                                  limit
+   * @param shedFraction fraction of maxOutstandingTasks above which jobs are shed at random
+   */
+  public AdmissionController(int maxOutstandingTasks, int maxOutstandingTasksPerApp,
+                             double shedFraction, long retryAfterMillis, Random random) {
+    this.maxOutstandingTasks = maxOutstandingTasks;
+    this.maxOutstandingTasksPerApp = maxOutstandingTasksPerApp;
+    this.shedFraction = shedFraction;
+    this.retryAfterMillis = retryAfterMillis;
+    this.random = random;
+  }
+
+  /**
+   * Admits all of the given jobs, indexed by request ID, or none of them. Throws an exception
+   * saying when to retry if the jobs are rejected.
+   */
+  public synchronized void admit(Map<String, TSchedulingRequest> jobs)
+      throws SchedulerOverloadedException {
+    int newTasks = 0;
+    Map<String, Integer> newAppTasks = Maps.newHashMap();
+    for (TSchedulingRequest job : jobs.values()) {
+      newTasks += job.getTasksSize();
+      newAppTasks.put(job.getApp(), getOrZero(newAppTasks, job.getApp()) + job.getTasksSize());
+    }
+
+    if (maxOutstandingTasks > 0) {
+      if (outstandingTasks > 0 && outstandingTasks + newTasks > maxOutstandingTasks) {
+        throw overloaded(outstandingTasks + " tasks outstanding (limit is " +
+                         maxOutstandingTasks + ")");
+      }
+      double shedStart = shedFraction * maxOutstandingTasks;
+      if (outstandingTasks > shedStart &&
+          random.nextDouble() < (outstandingTasks - shedStart) /
+                                (maxOutstandingTasks - shedStart)) {
+        throw overloaded("shedding load with " + outstandingTasks + " tasks outstanding");
+      }
+    }
+    if (maxOutstandingTasksPerApp > 0) {
+      for (Entry<String, Integer> entry : newAppTasks.entrySet()) {
+        int appTasks = getOrZero(appOutstandingTasks, entry.getKey());
+        if (appTasks > 0 && appTasks + entry.getValue() > maxOutstandingTasksPerApp) {
+          throw overloaded(appTasks + " tasks outstanding for application " + entry.getKey() +
+                           " (limit is " + maxOutstandingTasksPerApp + ")");
+        }
+      }
+    }
+
+    for (Entry<String, TSchedulingRequest> entry : jobs.entrySet()) {
+      TSchedulingRequest job = entry.getValue();
+      requests.put(entry.getKey(), new AdmittedRequest(job.getApp(), job.getTasksSize(),
+                                                       job.isSetGang() && job.isGang()));
+      addOutstandingTasks(job.getApp(), job.getTasksSize());
+    }
+  }
+
+  /** Signals that one of the tasks for the given request was launched. */
+  public synchronized void taskLaunched(String requestId) {
+    AdmittedRequest request = requests.get(requestId);
+    if (request == null || request.outstandingTasks == 0) {
+      return;
+    }
+    request.outstandingTasks--;
+    addOutstandingTasks(request.appId, -1);
+  }
+
+  /**
+   * Signals that the given request won't launch any more tasks, so that any tasks it didn't
+   * launch no longer count against the limits.
+   */
+  public synchronized void requestFinished(String requestId) {
+    AdmittedRequest request = requests.remove(requestId);
+    if (request != null) {
+      addOutstandingTasks(request.appId, -request.outstandingTasks);
+    }
+  }
+
+  /**
+   * Signals that reservations for the given request are about to be sent, given as the number of
+   * reservations for each node monitor. All of the reservations sent at once must be passed in a
+   * single call, before any of them are sent.
+   */
+  public synchronized void reservationsSent(String requestId,
+                                            Map<InetSocketAddress, Integer> reservations) {
+    AdmittedRequest request = requests.get(requestId);
+    if (request == null) {
+      return;
+    }
+    for (Entry<InetSocketAddress, Integer> entry : reservations.entrySet()) {
+      request.reservations.put(entry.getKey(),
+                               getOrZero(request.reservations, entry.getKey()) + entry.getValue());
+      request.totalReservations += entry.getValue();
+    }
+  }
+
+  /**
+   * Signals that a node monitor answered one of the given request's reservations; if a task was
+   * launched, {@link #taskLaunched} must be called first. Returns true if the request can't launch
+   * any more tasks as a result, in which case it is finished.
+   */
+  public synchronized boolean reservationAnswered(String requestId,
+                                                  InetSocketAddress nodeMonitor) {
+    AdmittedRequest request = requests.get(requestId);
+    if (request == null) {
+      return false;
+    }
+    removeReservations(request, nodeMonitor, 1);
+    return releaseUnreachableTasks(requestId, request);
+  }
+
+  /**
+   * Signals that {@code numReservations} of the given request's reservations at a node monitor
+   * will never be answered (for example, because the enqueue RPC failed). Returns true if the
+   * request can't launch any more tasks as a result, in which case it is finished.
+   */
+  public synchronized boolean reservationsLost(String requestId, InetSocketAddress nodeMonitor,
+                                               int numReservations) {
+    AdmittedRequest request = requests.get(requestId);
+    if (request == null) {
+      return false;
+    }
+    removeReservations(request, nodeMonitor, numReservations);
+    return releaseUnreachableTasks(requestId, request);
+  }
+
+  /**
+   * Signals that a node monitor has failed, so none of the reservations it holds will be
+   * answered. Returns the IDs of the requests that can't launch any more tasks as a result,
+   * which are finished.
+   */
+  public synchronized List<String> nodeFailed(InetSocketAddress nodeMonitor) {
+    List<String> finished = Lists.newArrayList();
+    for (Entry<String, AdmittedRequest> entry : Lists.newArrayList(requests.entrySet())) {
+      AdmittedRequest request = entry.getValue();
+      if (request.reservations.containsKey(nodeMonitor)) {
+        removeReservations(request, nodeMonitor, request.reservations.get(nodeMonitor));
+        if (releaseUnreachableTasks(entry.getKey(), request)) {
+          finished.add(entry.getKey());
+        }
+      }
+    }
+    return finished;
+  }
+
+  public synchronized int getOutstandingTasks() {
+    return outstandingTasks;
+  }
+
+  public synchronized int getOutstandingTasks(String appId) {
+    return getOrZero(appOutstandingTasks, appId);
+  }
+
+  /** Must be called while holding the lock on this. */
+  private void removeReservations(AdmittedRequest request, InetSocketAddress nodeMonitor,
+                                  int numReservations) {
+    int remaining = getOrZero(request.reservations, nodeMonitor);
+    numReservations = Math.min(numReservations, remaining);
+    if (remaining == numReservations) {
+      request.reservations.remove(nodeMonitor);
+    } else {
+      request.reservations.put(nodeMonitor, remaining - numReservations);
+    }
+    request.totalReservations -= numReservations;
+  }
+
+  /**
+   * Stops counting the request's tasks that can no longer be launched because too few of its
+   * reservations remain, and finishes the request if it has no reservations left. Returns true if
+   * the request was finished. Must be called while holding the lock on this.
+   */
+  private boolean releaseUnreachableTasks(String requestId, AdmittedRequest request) {
+    if (request.gang) {
+      return false;
+    }
+    if (request.totalReservations == 0) {
+      requestFinished(requestId);
+      return true;
+    }
+    if (request.outstandingTasks > request.totalReservations) {
+      addOutstandingTasks(request.appId, request.totalReservations - request.outstandingTasks);
+      request.outstandingTasks = request.totalReservations;
+    }
+    return false;
+  }
+
+  /** Must be called while holding the lock on this. */
+  private void addOutstandingTasks(String appId, int delta) {
+    outstandingTasks += delta;
+    int appTasks = getOrZero(appOutstandingTasks, appId) + delta;
+    if (appTasks == 0) {
+      appOutstandingTasks.remove(appId);
+    } else {
+      appOutstandingTasks.put(appId, appTasks);
+    }
+  }
+
+  private static <K> int getOrZero(Map<K, Integer> map, K key) {
+    Integer value = map.get(key);
+    return value == null ? 0 : value;
+  }
+
+  /** Must be called while holding the lock on this (to use {@link #random}). */
+  private SchedulerOverloadedException overloaded(String reason) {
+    long retryAfter = retryAfterMillis + (long) (random.nextDouble() * retryAfterMillis);
+    LOG.debug("Rejecting job(s): " + reason + "; retry after " + retryAfter + "ms");
+    return new SchedulerOverloadedException("Scheduler overloaded: " + reason, retryAfter);
+  }
+}
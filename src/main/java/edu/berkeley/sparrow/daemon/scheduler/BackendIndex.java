@@ -0,0 +1,154 @@
+package edu.berkeley.sparrow.daemon.scheduler;
+
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentMap;
+
+import com.google.common.collect.Maps;
+
+import edu.berkeley.sparrow.thrift.TResourceVector;
+
+/**
+ * Index of the backends registered for each application.
+ *
+ * Membership is stored per application as an immutable, array-backed {@link Snapshot}.
+ * Readers (one per submitted job) get the current snapshot without locking or copying;
+ * writers, which are rare, copy the affected application's arrays and publish a new snapshot
+ * with a higher version number.
+ *
+ * This class is thread safe.
+ */
+public class BackendIndex {
+  /** An immutable view of the backends of one application. */
+  public static class Snapshot {
+    private final long version;
+    private final InetSocketAddress[] nodes;
+    private final TResourceVector[] resources;
+    private final List<InetSocketAddress> nodeList;
+
+    private Snapshot(long version, InetSocketAddress[] nodes, TResourceVector[] resources) {
+      this.version = version;
+      this.nodes = nodes;
+      this.resources = resources;
+      nodeList = Collections.unmodifiableList(Arrays.asList(nodes));
+    }
+
+    /**
+     * Returns the version of this snapshot. Versions increase every time the index changes, so
+     * two snapshots of the same application have the same backends if their versions are equal.
+     */
+    public long getVersion() {
+      return version;
+    }
+
+    public int size() {
+      return nodes.length;
+    }
+
+    public InetSocketAddress getNode(int index) {
+      return nodes[index];
+    }
+
+    /** Returns the resources of the backend at {@code index}; must not be modified. */
+    public TResourceVector getResources(int index) {
+      return resources[index];
+    }
+
+    /** Returns an unmodifiable list of the backends, backed by this snapshot. */
+    public List<InetSocketAddress> getNodes() {
+      return nodeList;
+    }
+
+    private int indexOf(InetSocketAddress node) {
+      for (int i = 0; i < nodes.length; ++i) {
+        if (nodes[i].equals(node)) {
+          return i;
+        }
+      }
+      return -1;
+    }
+  }
+
+  public static final Snapshot EMPTY =
+      new Snapshot(0, new InetSocketAddress[0], new TResourceVector[0]);
+
+  private ConcurrentMap<String, Snapshot> applications = Maps.newConcurrentMap();
+
+  /** Version of the most recently published snapshot; guarded by this. */
+  private long version = 0;
+
+  /** Returns the current backends of {@code appId}, which may be empty. */
+  public Snapshot getBackends(String appId) {
+    Snapshot snapshot = applications.get(appId);
+    return snapshot == null ? EMPTY : snapshot;
+  }
+
+  /** Adds a backend for {@code appId}, or updates its resources if it is already present. */
+  public synchronized void addBackend(String appId, InetSocketAddress node,
+                                      TResourceVector resources) {
+    Snapshot current = getBackends(appId);
+    int index = current.indexOf(node);
+    InetSocketAddress[] nodes;
+    TResourceVector[] nodeResources;
+    if (index == -1) {
+      index = current.size();
+      nodes = new InetSocketAddress[index + 1];
+      nodeResources = new TResourceVector[index + 1];
+      System.arraycopy(current.nodes, 0, nodes, 0, index);
+      System.arraycopy(current.resources, 0, nodeResources, 0, index);
+      nodes[index] = node;
+    } else {
+      nodes = current.nodes;
+      nodeResources = current.resources.clone();
+    }
+    nodeResources[index] = resources;
+    applications.put(appId, new Snapshot(++version, nodes, nodeResources));
+  }
+
+  /** Removes a backend for {@code appId}, if present. */
+  public synchronized void removeBackend(String appId, InetSocketAddress node) {
+    Snapshot current = getBackends(appId);
+    int index = current.indexOf(node);
+    if (index == -1) {
+      return;
+    }
+    if (current.size() == 1) {
+      applications.remove(appId);
+      ++version;
+      return;
+    }
+    InetSocketAddress[] nodes = new InetSocketAddress[current.size() - 1];
+    TResourceVector[] nodeResources = new TResourceVector[current.size() - 1];
+    System.arraycopy(current.nodes, 0, nodes, 0, index);
+    System.arraycopy(current.resources, 0, nodeResources, 0, index);
+    System.arraycopy(current.nodes, index + 1, nodes, index, nodes.length - index);
+    System.arraycopy(current.resources, index + 1, nodeResources, index, nodes.length - index);
+    applications.put(appId, new Snapshot(++version, nodes, nodeResources));
+  }
+
+  /**
+   * Replaces the contents of the index: afterwards, each application in {@code backends} has
+   * exactly the given backends, and no other application has any.
+   */
+  public synchronized void replaceAll(
+      Map<String, Map<InetSocketAddress, TResourceVector>> backends) {
+    ++version;
+    for (Entry<String, Map<InetSocketAddress, TResourceVector>> app : backends.entrySet()) {
+      int size = app.getValue().size();
+      InetSocketAddress[] nodes = new InetSocketAddress[size];
+      TResourceVector[] nodeResources = new TResourceVector[size];
+      int i = 0;
+      for (Entry<InetSocketAddress, TResourceVector> backend : app.getValue().entrySet()) {
+        nodes[i] = backend.getKey();
+        nodeResources[i] = backend.getValue();
+        ++i;
+      }
+      applications.put(app.getKey(), new Snapshot(version, nodes, nodeResources));
+    }
+    applications.keySet().retainAll(backends.keySet());
+  }
+}
@@ -1,7 +1,7 @@
 package edu.berkeley.sparrow.daemon.scheduler;
 
 import java.net.InetSocketAddress;
-import java.util.concurrent.ConcurrentMap;
+import java.util.Map.Entry;
 
 import org.apache.commons.configuration.Configuration;
 import org.apache.log4j.Logger;
@@ -16,12 +16,16 @@ import edu.berkeley.sparrow.thrift.TResourceVector;
 public class ConfigSchedulerState implements SchedulerState {
   private static final Logger LOG = Logger.getLogger(ConfigSchedulerState.class);
 
-  ConcurrentMap<InetSocketAddress, TResourceVector> backends;
+  private BackendIndex backends = new BackendIndex();
   private Configuration conf;
   
   @Override
   public void initialize(Configuration conf) {
-    backends = ConfigUtil.parseBackends(conf);
+    for (Entry<InetSocketAddress, TResourceVector> backend :
+         ConfigUtil.parseBackends(conf).entrySet()) {
+      backends.addBackend(conf.getString(SparrowConf.STATIC_APP_NAME), backend.getKey(),
+                          backend.getValue());
+    }
     this.conf = conf;
   }
 
@@ -35,12 +39,12 @@ public class ConfigSchedulerState implements SchedulerState {
   }
 
   @Override
-  public ConcurrentMap<InetSocketAddress, TResourceVector> getBackends(String appId) {
+  public BackendIndex.Snapshot getBackends(String appId) {
     if (!appId.equals(conf.getString(SparrowConf.STATIC_APP_NAME))) {
      LOG.warn("Requested backends for app " + appId + 
           " but was expecting app " + conf.getString(SparrowConf.STATIC_APP_NAME));
     }
-    return backends;
+    return backends.getBackends(conf.getString(SparrowConf.STATIC_APP_NAME));
   }
 
 }
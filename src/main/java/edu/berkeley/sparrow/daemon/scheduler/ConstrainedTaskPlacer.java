@@ -17,7 +17,7 @@ import org.apache.log4j.Logger;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 
-import edu.berkeley.sparrow.daemon.util.Logging;
+import edu.berkeley.sparrow.daemon.util.Tracing;
 import edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest;
 import edu.berkeley.sparrow.thrift.THostPort;
 import edu.berkeley.sparrow.thrift.TResourceVector;
@@ -58,6 +58,8 @@ public class ConstrainedTaskPlacer implements TaskPlacer {
    */
   List<TTaskLaunchSpec> unlaunchedUnconstrainedTasks;
 
+  private NodeMonitorHealth health = null;
+
   ConstrainedTaskPlacer(String requestId, double probeRatio){
     this.requestId = requestId;
     this.probeRatio = probeRatio;
@@ -67,12 +69,24 @@ public class ConstrainedTaskPlacer implements TaskPlacer {
     unlaunchedUnconstrainedTasks = Lists.newArrayList();
   }
 
+  /**
+   * Sets the health tracker used to avoid quarantined node monitors: they are only used for
+   * constrained tasks after the task's other preferred nodes, and only used for unconstrained
+   * tasks if there aren't enough other node monitors.
+   */
+  void setHealth(NodeMonitorHealth health) {
+    this.health = health;
+  }
+
   @Override
   public Map<InetSocketAddress, TEnqueueTaskReservationsRequest>
   getEnqueueTaskReservationsRequests(
       TSchedulingRequest schedulingRequest, String requestId,
       Collection<InetSocketAddress> nodes, THostPort schedulerAddress) {
-    LOG.debug(Logging.functionCall(schedulingRequest, requestId, nodes, schedulerAddress));
+    if (Tracing.isTraced(LOG)) {
+      LOG.trace(Tracing.call("getEnqueueTaskReservationsRequests",
+                             schedulingRequest, requestId, nodes, schedulerAddress));
+    }
 
     // Tracks number of tasks to be enqueued at each node monitor.
     HashMap<InetSocketAddress, TEnqueueTaskReservationsRequest> requests = Maps.newHashMap();
@@ -109,6 +123,9 @@ public class ConstrainedTaskPlacer implements TaskPlacer {
       }
 
       List<InetSocketAddress> preferredNodes = taskPreferencesToSocketList(task, addrToSocket);
+      if (health != null) {
+        health.sortHealthyFirst(preferredNodes);
+      }
 
       TTaskLaunchSpec taskLaunchSpec = new TTaskLaunchSpec(task.getTaskId(),
                                                            task.bufferForMessage());
@@ -189,6 +206,9 @@ public class ConstrainedTaskPlacer implements TaskPlacer {
       }
     }
     Collections.shuffle(unusedNodeMonitors);
+    if (health != null) {
+      health.sortHealthyFirst(unusedNodeMonitors);
+    }
     LOG.info("Request " + requestId + ": " + unusedNodeMonitors.size() +
              " node monitors that were unused by constrained tasks so may be used for " +
              "unconstrained tasks.");
@@ -204,6 +224,8 @@ public class ConstrainedTaskPlacer implements TaskPlacer {
 
       TEnqueueTaskReservationsRequest request = new TEnqueueTaskReservationsRequest(
           appId, user, requestId, estimatedResources, schedulerAddress, 1);
+      // Reservations for unconstrained tasks can be launched by any node monitor.
+      request.setStealable(true);
       requests.put(nodeMonitor, request);
       reservationsCreated++;
       numOutstandingReservations += 1;
@@ -327,4 +349,23 @@ public class ConstrainedTaskPlacer implements TaskPlacer {
   public synchronized boolean allResponsesReceived() {
     return numOutstandingReservations == 0;
   }
+
+  @Override
+  public synchronized boolean hasUnlaunchedTasks() {
+    if (!unlaunchedUnconstrainedTasks.isEmpty()) {
+      return true;
+    }
+    // Each constrained task is listed at every node it can run on, so it may still be listed
+    // after it has been launched.
+    for (List<TTaskLaunchSpec> taskSpecs : unlaunchedConstrainedTasks.values()) {
+      synchronized (taskSpecs) {
+        for (TTaskLaunchSpec taskSpec : taskSpecs) {
+          if (!launchedConstrainedTasks.contains(taskSpec)) {
+            return true;
+          }
+        }
+      }
+    }
+    return false;
+  }
 }
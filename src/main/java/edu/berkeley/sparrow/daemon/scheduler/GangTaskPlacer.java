@@ -0,0 +1,317 @@
+package edu.berkeley.sparrow.daemon.scheduler;
+
+import java.net.InetSocketAddress;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.apache.log4j.Logger;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+import edu.berkeley.sparrow.daemon.util.Tracing;
+import edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest;
+import edu.berkeley.sparrow.thrift.THostPort;
+import edu.berkeley.sparrow.thrift.TResourceVector;
+import edu.berkeley.sparrow.thrift.TSchedulingRequest;
+import edu.berkeley.sparrow.thrift.TTaskLaunchSpec;
+import edu.berkeley.sparrow.thrift.TTaskSpec;
+
+/**
+ * A task placer for jobs whose tasks must all run at the same time (gang scheduling).
+ *
+ * Reservations are enqueued as gang reservations, which node monitors hold (rather than give up)
+ * when {@link #assignTask} returns no task. Once enough node monitors have a slot ready to run
+ * every task in the job, the held reservations are released together using a
+ * {@link GangReleaser}, and each ready slot is given either a task or nothing.
+ *
+ * To avoid deadlock between gangs that each hold part of the cluster, the scheduler calls
+ * {@link #cancel()} if the gang has not been assembled within a timeout, which releases the held
+ * slots. The job is then re-probed via {@link #getRetryEnqueueTaskReservationsRequests}, up to a
+ * fixed number of attempts.
+ *
+ * Placement constraints are ignored for gang-scheduled jobs.
+ */
+public class GangTaskPlacer implements TaskPlacer {
+  private static final Logger LOG = Logger.getLogger(GangTaskPlacer.class);
+
+  /** Used to release reservations held at node monitors. */
+  public interface GangReleaser {
+    /**
+     * Releases {@code numReservations} reservations held for {@code requestId} at the given node
+     * monitor, launching {@code tasks} in the first {@code tasks.size()} of them.
+     */
+    public void release(String requestId, THostPort nodeMonitorAddress, int numReservations,
+                        List<TTaskLaunchSpec> tasks);
+  }
+
+  /** Id of the request associated with this task placer. */
+  String requestId;
+
+  private double probeRatio;
+  private int maxAttempts;
+  private GangReleaser releaser;
+
+  /** The request and nodes passed to the first getEnqueueTaskReservationsRequests() call. */
+  private TSchedulingRequest schedulingRequest;
+  private Collection<InetSocketAddress> nodes;
+  private THostPort schedulerAddress;
+
+  /** Tasks in the job; launched all at once. */
+  private List<TTaskLaunchSpec> tasks = Lists.newArrayList();
+
+  /** Node monitors that have a slot held for this job (one entry per held slot). */
+  private List<THostPort> readySlots = Lists.newArrayList();
+
+  /** Number of enqueued reservations for which we have not yet received a getTask() call. */
+  private int numOutstandingReservations = 0;
+  /** The same reservations, indexed by the node monitor they were enqueued on. */
+  private Map<InetSocketAddress, Integer> outstandingReservations = Maps.newHashMap();
+
+  private int attempts = 0;
+  private boolean launched = false;
+  private boolean failed = false;
+
+  GangTaskPlacer(String requestId, double probeRatio, int maxAttempts, GangReleaser releaser) {
+    this.requestId = requestId;
+    this.probeRatio = probeRatio;
+    this.maxAttempts = maxAttempts;
+    this.releaser = releaser;
+  }
+
+  @Override
+  public synchronized Map<InetSocketAddress, TEnqueueTaskReservationsRequest>
+      getEnqueueTaskReservationsRequests(
+          TSchedulingRequest schedulingRequest, String requestId,
+          Collection<InetSocketAddress> nodes, THostPort schedulerAddress) {
+    if (Tracing.isTraced(LOG)) {
+      LOG.trace(Tracing.call("getEnqueueTaskReservationsRequests",
+                             schedulingRequest, requestId, nodes, schedulerAddress));
+    }
+    this.schedulingRequest = schedulingRequest;
+    this.nodes = nodes;
+    this.schedulerAddress = schedulerAddress;
+    for (TTaskSpec task : schedulingRequest.getTasks()) {
+      tasks.add(new TTaskLaunchSpec(task.getTaskId(), task.bufferForMessage()));
+    }
+    return createRequests();
+  }
+
+  /**
+   * Creates reservations for a new attempt at assembling the gang. Every task needs its own
+   * slot, so at least one reservation is created per task even if the probe ratio is less than
+   * one; if there are fewer nodes than reservations, some nodes get more than one reservation.
+   */
+  private Map<InetSocketAddress, TEnqueueTaskReservationsRequest> createRequests() {
+    attempts++;
+    HashMap<InetSocketAddress, TEnqueueTaskReservationsRequest> requests = Maps.newHashMap();
+    if (nodes.isEmpty() || tasks.isEmpty()) {
+      LOG.error("Request " + requestId + ": cannot gang schedule " + tasks.size() +
+                " tasks on " + nodes.size() + " nodes.");
+      failed = true;
+      return requests;
+    }
+
+    int reservationsToLaunch = Math.max(tasks.size(),
+                                        (int) Math.ceil(probeRatio * tasks.size()));
+    LOG.debug("Request " + requestId + ": Creating " + reservationsToLaunch +
+              " gang reservations (attempt " + attempts + ")");
+
+    TResourceVector estimatedResources = schedulingRequest.getTasks().get(0)
+        .getEstimatedResources();
+    List<InetSocketAddress> nodeList = Lists.newArrayList(nodes);
+    Collections.shuffle(nodeList);
+    for (int i = 0; i < reservationsToLaunch; i++) {
+      InetSocketAddress node = nodeList.get(i % nodeList.size());
+      TEnqueueTaskReservationsRequest request = requests.get(node);
+      if (request == null) {
+        request = new TEnqueueTaskReservationsRequest(
+            schedulingRequest.getApp(), schedulingRequest.getUser(), requestId,
+            estimatedResources, schedulerAddress, 0);
+        request.setGang(true);
+        requests.put(node, request);
+      }
+      request.numTasks += 1;
+    }
+    for (Entry<InetSocketAddress, TEnqueueTaskReservationsRequest> entry : requests.entrySet()) {
+      Integer outstanding = outstandingReservations.get(entry.getKey());
+      outstandingReservations.put(entry.getKey(), entry.getValue().getNumTasks() +
+                                  (outstanding == null ? 0 : outstanding));
+    }
+    numOutstandingReservations += reservationsToLaunch;
+    return requests;
+  }
+
+  /** Slots to release at a single node monitor, and the tasks to launch in them. */
+  private class Release {
+    public int numSlots = 0;
+    public List<TTaskLaunchSpec> tasks = Lists.newArrayList();
+  }
+
+  @Override
+  public List<TTaskLaunchSpec> assignTask(THostPort nodeMonitorAddress) {
+    Map<THostPort, Release> releases = null;
+    synchronized (this) {
+      reservationAnswered(new InetSocketAddress(nodeMonitorAddress.getHost(),
+                                                nodeMonitorAddress.getPort()));
+      if (launched || failed) {
+        LOG.debug("Request " + requestId + ", node monitor " + nodeMonitorAddress +
+                  ": Releasing slot (gang already " + (launched ? "launched" : "failed") + ")");
+        releases = Maps.newHashMap();
+        Release release = new Release();
+        release.numSlots = 1;
+        releases.put(nodeMonitorAddress, release);
+      } else {
+        readySlots.add(nodeMonitorAddress);
+        LOG.debug("Request " + requestId + ", node monitor " + nodeMonitorAddress +
+                  ": Holding slot (" + readySlots.size() + " of " + tasks.size() +
+                  " slots ready)");
+        if (readySlots.size() >= tasks.size()) {
+          LOG.debug("Request " + requestId + ": All " + tasks.size() +
+                    " slots ready; launching gang");
+          releases = takeReadySlots(tasks);
+          launched = true;
+        }
+      }
+    }
+
+    // Release reservations outside of the lock, since releasing them involves RPCs.
+    if (releases != null) {
+      release(releases);
+    }
+    // Tasks are always handed out through the releaser, never in response to getTask().
+    return Lists.newArrayList();
+  }
+
+  /**
+   * Stops waiting for a reservation enqueued on the given node monitor. Does nothing if it has
+   * none outstanding (e.g., because it answers after it was given up by {@link #nodeFailed}).
+   * Must be called while holding the lock on this.
+   */
+  private void reservationAnswered(InetSocketAddress nodeMonitor) {
+    Integer outstanding = outstandingReservations.get(nodeMonitor);
+    if (outstanding == null) {
+      return;
+    }
+    if (outstanding == 1) {
+      outstandingReservations.remove(nodeMonitor);
+    } else {
+      outstandingReservations.put(nodeMonitor, outstanding - 1);
+    }
+    numOutstandingReservations--;
+  }
+
+  /**
+   * Signals that a node monitor has failed (e.g., an enqueue RPC to it failed), so none of the
+   * reservations enqueued on it will be answered. Without this, a gang with reservations on the
+   * node monitor would never receive all of its responses, and its task placer would never be
+   * removed.
+   */
+  public synchronized void nodeFailed(InetSocketAddress nodeMonitor) {
+    Integer lost = outstandingReservations.remove(nodeMonitor);
+    if (lost != null) {
+      LOG.debug("Request " + requestId + ": Giving up " + lost + " reservations on failed " +
+                "node monitor " + nodeMonitor);
+      numOutstandingReservations -= lost;
+    }
+  }
+
+  /**
+   * Releases all slots currently held for this job without launching any tasks. Called by the
+   * scheduler when the gang has not been assembled within the timeout. Returns false if the
+   * gang had already been launched or failed (in which case nothing is released).
+   */
+  public boolean cancel() {
+    Map<THostPort, Release> releases;
+    synchronized (this) {
+      if (launched || failed) {
+        return false;
+      }
+      LOG.debug("Request " + requestId + ": Gang not assembled after attempt " + attempts +
+                "; releasing " + readySlots.size() + " held slots");
+      releases = takeReadySlots(Lists.<TTaskLaunchSpec>newArrayList());
+      if (attempts >= maxAttempts) {
+        failed = true;
+      }
+    }
+    release(releases);
+    return true;
+  }
+
+  /**
+   * Gives up on the gang without launching it: releases all slots currently held for it, and
+   * the slots of any reservations that are answered later. Returns false if the gang had already
+   * been launched.
+   */
+  public boolean abort() {
+    Map<THostPort, Release> releases;
+    synchronized (this) {
+      if (launched) {
+        return false;
+      }
+      failed = true;
+      releases = takeReadySlots(Lists.<TTaskLaunchSpec>newArrayList());
+    }
+    release(releases);
+    return true;
+  }
+
+  /**
+   * Groups the ready slots by node monitor, assigning one of {@code tasksToLaunch} to each slot
+   * until the tasks run out, and clears the set of ready slots.
+   */
+  private Map<THostPort, Release> takeReadySlots(List<TTaskLaunchSpec> tasksToLaunch) {
+    Map<THostPort, Release> releases = Maps.newHashMap();
+    for (int i = 0; i < readySlots.size(); i++) {
+      Release release = releases.get(readySlots.get(i));
+      if (release == null) {
+        release = new Release();
+        releases.put(readySlots.get(i), release);
+      }
+      release.numSlots++;
+      if (i < tasksToLaunch.size()) {
+        release.tasks.add(tasksToLaunch.get(i));
+      }
+    }
+    readySlots.clear();
+    return releases;
+  }
+
+  private void release(Map<THostPort, Release> releases) {
+    for (Entry<THostPort, Release> entry : releases.entrySet()) {
+      releaser.release(requestId, entry.getKey(), entry.getValue().numSlots,
+                       entry.getValue().tasks);
+    }
+  }
+
+  /**
+   * Returns reservations for another attempt at assembling the gang, or null if the maximum
+   * number of attempts has been reached (in which case the job has failed).
+   */
+  public synchronized Map<InetSocketAddress, TEnqueueTaskReservationsRequest>
+      getRetryEnqueueTaskReservationsRequests() {
+    if (failed || launched) {
+      return null;
+    }
+    return createRequests();
+  }
+
+  /** Returns true if the gang could not be assembled in the allowed number of attempts. */
+  public synchronized boolean hasFailed() {
+    return failed;
+  }
+
+  @Override
+  public synchronized boolean allResponsesReceived() {
+    return (launched || failed) && numOutstandingReservations == 0;
+  }
+
+  @Override
+  public synchronized boolean hasUnlaunchedTasks() {
+    return !launched && !failed;
+  }
+}
@@ -0,0 +1,194 @@
+package edu.berkeley.sparrow.daemon.scheduler;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.log4j.Logger;
+import org.apache.thrift.TException;
+import org.apache.thrift.async.AsyncMethodCallback;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+import edu.berkeley.sparrow.daemon.util.Serialization;
+import edu.berkeley.sparrow.daemon.util.ThriftClientPool;
+import edu.berkeley.sparrow.thrift.FrontendService;
+import edu.berkeley.sparrow.thrift.FrontendService.AsyncClient.tasksLaunched_call;
+import edu.berkeley.sparrow.thrift.TSchedulingRequest;
+
+/**
+ * Tells frontends which of their tasks have been launched, for jobs submitted with a job ID
+ * and a launch report address (see TSchedulingRequest.jobId). If this scheduler fails, the
+ * frontend resubmits only the tasks it hasn't heard about, so that tasks aren't launched twice.
+ *
+ * Reports are sent asynchronously and coalesced for each frontend: while a report to a frontend
+ * is in flight, further launches are batched and sent together once it completes. A report that
+ * can't be sent is dropped, in which case the frontend may launch those tasks again if this
+ * scheduler fails.
+ *
+ * This class is thread safe.
+ */
+public class LaunchReporter {
+  private final static Logger LOG = Logger.getLogger(LaunchReporter.class);
+
+  /** Where to report the launches of one request's tasks. */
+  private static class ReportedJob {
+    String jobId;
+    InetSocketAddress frontend;
+
+    ReportedJob(String jobId, InetSocketAddress frontend) {
+      this.jobId = jobId;
+      this.frontend = frontend;
+    }
+  }
+
+  /** Reported jobs, indexed by request ID. */
+  private final ConcurrentMap<String, ReportedJob> jobs = Maps.newConcurrentMap();
+  /**
+   * For each frontend, the launches that haven't been sent yet: the IDs of the launched tasks,
+   * indexed by job ID. Guarded by this.
+   */
+  private final Map<InetSocketAddress, Map<String, List<String>>> pending = Maps.newHashMap();
+  /** Frontends that a report is currently being sent to. Guarded by this. */
+  private final Set<InetSocketAddress> sending = Sets.newHashSet();
+
+  private ThriftClientPool<FrontendService.AsyncClient> clientPool =
+      new ThriftClientPool<FrontendService.AsyncClient>(
+          new ThriftClientPool.FrontendServiceMakerFactory());
+
+  /** Starts reporting the launches of the given request's tasks, if the request asks for it. */
+  public void register(String requestId, TSchedulingRequest request) {
+    if (!request.isSetJobId() || !request.isSetLaunchReportAddress()) {
+      return;
+    }
+    Optional<InetSocketAddress> frontend =
+        Serialization.strToSocket(request.getLaunchReportAddress());
+    if (!frontend.isPresent()) {
+      LOG.error("Bad launch report address for request " + requestId + ": " +
+                request.getLaunchReportAddress());
+      return;
+    }
+    jobs.put(requestId, new ReportedJob(request.getJobId(), frontend.get()));
+  }
+
+  /** Signals that the given task of the given request was launched. */
+  public void taskLaunched(String requestId, String taskId) {
+    ReportedJob job = jobs.get(requestId);
+    if (job == null) {
+      return;
+    }
+    Map<String, List<String>> report;
+    synchronized (this) {
+      Map<String, List<String>> launched = pending.get(job.frontend);
+      if (launched == null) {
+        launched = Maps.newHashMap();
+        pending.put(job.frontend, launched);
+      }
+      List<String> taskIds = launched.get(job.jobId);
+      if (taskIds == null) {
+        taskIds = Lists.newArrayList();
+        launched.put(job.jobId, taskIds);
+      }
+      taskIds.add(taskId);
+      report = takeReport(job.frontend);
+    }
+    if (report != null) {
+      send(job.frontend, report);
+    }
+  }
+
+  /** Returns the IDs of the registered requests for the given jobs. */
+  public List<String> getRequestIds(Set<String> jobIds) {
+    List<String> requestIds = Lists.newArrayList();
+    for (Entry<String, ReportedJob> entry : jobs.entrySet()) {
+      if (jobIds.contains(entry.getValue().jobId)) {
+        requestIds.add(entry.getKey());
+      }
+    }
+    return requestIds;
+  }
+
+  /** Signals that the given request won't launch any more tasks. */
+  public void requestFinished(String requestId) {
+    jobs.remove(requestId);
+  }
+
+  /**
+   * Signals that the report that was being sent to the given frontend has been delivered (or
+   * dropped), and sends any launches that were batched meanwhile.
+   */
+  void reportSent(InetSocketAddress frontend) {
+    Map<String, List<String>> report;
+    synchronized (this) {
+      sending.remove(frontend);
+      report = takeReport(frontend);
+    }
+    if (report != null) {
+      send(frontend, report);
+    }
+  }
+
+  /**
+   * Returns the launches to send to the given frontend, or null if there are none or a report is
+   * already being sent. Must be called while holding the lock on this.
+   */
+  private Map<String, List<String>> takeReport(InetSocketAddress frontend) {
+    if (sending.contains(frontend) || !pending.containsKey(frontend)) {
+      return null;
+    }
+    sending.add(frontend);
+    return pending.remove(frontend);
+  }
+
+  private class TasksLaunchedCallback implements AsyncMethodCallback<tasksLaunched_call> {
+    private InetSocketAddress frontend;
+    private FrontendService.AsyncClient client;
+
+    TasksLaunchedCallback(InetSocketAddress frontend, FrontendService.AsyncClient client) {
+      this.frontend = frontend;
+      this.client = client;
+    }
+
+    public void onComplete(tasksLaunched_call response) {
+      try {
+        clientPool.returnClient(frontend, client);
+      } catch (Exception e) {
+        LOG.error(e);
+      }
+      reportSent(frontend);
+    }
+
+    public void onError(Exception exception) {
+      // Do not return error client to pool
+      LOG.warn("Error reporting launched tasks to frontend " + frontend + ": " + exception);
+      reportSent(frontend);
+    }
+  }
+
+  /**
+   * Sends the given launches to the frontend asynchronously; {@link #reportSent} must be called
+   * once the call completes or fails.
+   */
+  protected void send(InetSocketAddress frontend, Map<String, List<String>> launchedTasks) {
+    try {
+      FrontendService.AsyncClient client = clientPool.borrowClient(frontend);
+      client.tasksLaunched(launchedTasks, new TasksLaunchedCallback(frontend, client));
+    } catch (IOException e) {
+      LOG.warn("Error reporting launched tasks to frontend " + frontend, e);
+      reportSent(frontend);
+    } catch (TException e) {
+      LOG.warn("Error reporting launched tasks to frontend " + frontend, e);
+      reportSent(frontend);
+    } catch (Exception e) {
+      LOG.warn("Error reporting launched tasks to frontend " + frontend, e);
+      reportSent(frontend);
+    }
+  }
+}
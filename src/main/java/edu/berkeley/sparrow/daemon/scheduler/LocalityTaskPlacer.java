@@ -0,0 +1,270 @@
+package edu.berkeley.sparrow.daemon.scheduler;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.apache.log4j.Logger;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+import edu.berkeley.sparrow.daemon.util.Tracing;
+import edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest;
+import edu.berkeley.sparrow.thrift.THostPort;
+import edu.berkeley.sparrow.thrift.TResourceVector;
+import edu.berkeley.sparrow.thrift.TSchedulingRequest;
+import edu.berkeley.sparrow.thrift.TTaskLaunchSpec;
+import edu.berkeley.sparrow.thrift.TTaskSpec;
+
+/**
+ * A task placer that supports node and rack placement preferences with delay scheduling.
+ *
+ * For each task, reservations are placed on up to {@code probeRatio} preferred nodes, on one
+ * other node in a preferred rack (the racks listed in the task's preference, plus the racks of
+ * its preferred nodes), and on one node anywhere in the cluster. When a node monitor is ready to
+ * launch a task, it is given a task that prefers that node if possible. Otherwise, it is given a
+ * task that prefers its rack only if the task has waited at least the task's
+ * {@code delayThreshold}, or any other task only if that task has waited at least twice the
+ * {@code delayThreshold}. Because each declined slot uses up a reservation, tasks stop waiting
+ * once there are no longer more outstanding reservations than unlaunched tasks.
+ */
+public class LocalityTaskPlacer implements TaskPlacer {
+  private static final Logger LOG = Logger.getLogger(LocalityTaskPlacer.class);
+
+  /** Locality levels, from most to least preferred. */
+  private static final int NODE_LOCAL = 0;
+  private static final int RACK_LOCAL = 1;
+  private static final int ANY = 2;
+
+  /** A task that has not yet been launched, along with its locality preferences. */
+  private class PendingTask {
+    public TTaskLaunchSpec taskSpec;
+    /** IP addresses of preferred nodes. */
+    public Set<String> nodes = new HashSet<String>();
+    /** Preferred racks; never includes {@link RackTopology#DEFAULT_RACK}. */
+    public Set<String> racks = new HashSet<String>();
+    public long delayMs = 0;
+
+    public PendingTask(TTaskLaunchSpec taskSpec) {
+      this.taskSpec = taskSpec;
+    }
+
+    /**
+     * Adds a preferred rack. Nodes that aren't in the topology all share the default rack, which
+     * says nothing about where they are, so it is never treated as a preference.
+     */
+    public void addRack(String rack) {
+      if (!RackTopology.DEFAULT_RACK.equals(rack)) {
+        racks.add(rack);
+      }
+    }
+
+    public int getLocalityLevel(String nodeIpAddress, String rack) {
+      if ((nodes.isEmpty() && racks.isEmpty()) || nodes.contains(nodeIpAddress)) {
+        return NODE_LOCAL;
+      } else if (racks.contains(rack)) {
+        return RACK_LOCAL;
+      }
+      return ANY;
+    }
+
+    /** Returns whether the task may be launched at the given locality level. */
+    public boolean canLaunch(int localityLevel, long waitedMs) {
+      return waitedMs >= localityLevel * delayMs;
+    }
+  }
+
+  /** Id of the request associated with this task placer. */
+  String requestId;
+
+  private double probeRatio;
+  private RackTopology topology;
+  private Random random = new Random();
+
+  private List<PendingTask> unlaunchedTasks = Lists.newArrayList();
+
+  /** Total number of outstanding reservations. */
+  private int numOutstandingReservations = 0;
+
+  /** Time when reservations were created, used to determine how long tasks have waited. */
+  private long placementTime;
+
+  LocalityTaskPlacer(String requestId, double probeRatio, RackTopology topology) {
+    this.requestId = requestId;
+    this.probeRatio = probeRatio;
+    this.topology = topology;
+  }
+
+  @Override
+  public synchronized Map<InetSocketAddress, TEnqueueTaskReservationsRequest>
+      getEnqueueTaskReservationsRequests(
+          TSchedulingRequest schedulingRequest, String requestId,
+          Collection<InetSocketAddress> nodes, THostPort schedulerAddress) {
+    if (Tracing.isTraced(LOG)) {
+      LOG.trace(Tracing.call("getEnqueueTaskReservationsRequests",
+                             schedulingRequest, requestId, nodes, schedulerAddress));
+    }
+    placementTime = System.currentTimeMillis();
+
+    // Index the node monitors by IP address and by rack.
+    HashMap<String, InetSocketAddress> ipToSocket = Maps.newHashMap();
+    HashMap<String, List<InetSocketAddress>> rackToSockets = Maps.newHashMap();
+    for (InetSocketAddress node : nodes) {
+      String ipAddress = node.getAddress().getHostAddress();
+      ipToSocket.put(ipAddress, node);
+      String rack = topology.getRack(ipAddress);
+      if (!rackToSockets.containsKey(rack)) {
+        rackToSockets.put(rack, Lists.<InetSocketAddress>newArrayList());
+      }
+      rackToSockets.get(rack).add(node);
+    }
+    List<InetSocketAddress> nodeList = Lists.newArrayList(nodes);
+
+    HashMap<InetSocketAddress, TEnqueueTaskReservationsRequest> requests = Maps.newHashMap();
+    if (nodeList.isEmpty()) {
+      LOG.error("Request " + requestId + ": no node monitors available to place tasks on.");
+      return requests;
+    }
+    // We assume all tasks in a job have the same resource usage requirements.
+    TResourceVector estimatedResources =
+        schedulingRequest.getTasks().get(0).getEstimatedResources();
+    TEnqueueTaskReservationsRequest template = new TEnqueueTaskReservationsRequest(
+        schedulingRequest.getApp(), schedulingRequest.getUser(), requestId, estimatedResources,
+        schedulerAddress, 0);
+    int probesPerTask = (int) Math.ceil(probeRatio);
+
+    for (TTaskSpec task : schedulingRequest.getTasks()) {
+      PendingTask pendingTask = new PendingTask(
+          new TTaskLaunchSpec(task.getTaskId(), task.bufferForMessage()));
+      unlaunchedTasks.add(pendingTask);
+      Set<InetSocketAddress> probed = new HashSet<InetSocketAddress>();
+
+      if (task.preference != null) {
+        if (task.preference.nodes != null) {
+          for (String node : task.preference.nodes) {
+            try {
+              String ipAddress = InetAddress.getByName(node).getHostAddress();
+              pendingTask.addRack(topology.getRack(ipAddress));
+              if (ipToSocket.containsKey(ipAddress)) {
+                pendingTask.nodes.add(ipAddress);
+              } else {
+                LOG.warn("Placement constraint for unknown node " + node);
+              }
+            } catch (UnknownHostException e) {
+              LOG.warn("Got placement constraint for unresolvable node " + node);
+            }
+          }
+        }
+        if (task.preference.racks != null) {
+          for (String rack : task.preference.racks) {
+            pendingTask.addRack(rack);
+          }
+        }
+        pendingTask.delayMs = Math.max(0, task.preference.delayThreshold);
+      }
+
+      // Reservations on preferred nodes.
+      List<String> preferredNodes = Lists.newArrayList(pendingTask.nodes);
+      Collections.shuffle(preferredNodes);
+      for (String ipAddress : preferredNodes) {
+        if (probed.size() >= probesPerTask) {
+          break;
+        }
+        probed.add(ipToSocket.get(ipAddress));
+      }
+
+      // One reservation elsewhere in a preferred rack.
+      List<InetSocketAddress> rackNodes = Lists.newArrayList();
+      for (String rack : pendingTask.racks) {
+        if (rackToSockets.containsKey(rack)) {
+          rackNodes.addAll(rackToSockets.get(rack));
+        }
+      }
+      rackNodes.removeAll(probed);
+      if (!rackNodes.isEmpty()) {
+        probed.add(rackNodes.get(random.nextInt(rackNodes.size())));
+      }
+
+      // Reservations on arbitrary nodes: one as a last resort for constrained tasks, or
+      // probesPerTask for tasks without preferences.
+      int anyProbes = (pendingTask.nodes.isEmpty() && pendingTask.racks.isEmpty()) ?
+          probesPerTask : 1;
+      int maxProbes = Math.min(probed.size() + anyProbes, nodeList.size());
+      while (probed.size() < maxProbes) {
+        probed.add(nodeList.get(random.nextInt(nodeList.size())));
+      }
+
+      for (InetSocketAddress node : probed) {
+        TEnqueueTaskReservationsRequest request = requests.get(node);
+        if (request == null) {
+          request = new TEnqueueTaskReservationsRequest(template);
+          requests.put(node, request);
+        }
+        request.numTasks += 1;
+        numOutstandingReservations++;
+      }
+    }
+
+    LOG.debug("Request " + requestId + ": created " + numOutstandingReservations +
+              " reservations at " + requests.size() + " node monitors for " +
+              unlaunchedTasks.size() + " tasks.");
+    return requests;
+  }
+
+  @Override
+  public synchronized List<TTaskLaunchSpec> assignTask(THostPort nodeMonitorAddress) {
+    numOutstandingReservations--;
+    if (unlaunchedTasks.isEmpty()) {
+      LOG.debug("Request " + requestId + ", node monitor " + nodeMonitorAddress.toString() +
+                ": Not assigning a task (no remaining unlaunched tasks).");
+      return Lists.newArrayList();
+    }
+
+    String rack = topology.getRack(nodeMonitorAddress.getHost());
+    long waitedMs = System.currentTimeMillis() - placementTime;
+    // If there are no more reservations than tasks, we can't afford to turn down this slot.
+    boolean mustAssign = numOutstandingReservations < unlaunchedTasks.size();
+
+    int bestIndex = -1;
+    int bestLevel = ANY + 1;
+    for (int i = 0; i < unlaunchedTasks.size() && bestLevel != NODE_LOCAL; ++i) {
+      PendingTask task = unlaunchedTasks.get(i);
+      int level = task.getLocalityLevel(nodeMonitorAddress.getHost(), rack);
+      if (level < bestLevel && (mustAssign || task.canLaunch(level, waitedMs))) {
+        bestIndex = i;
+        bestLevel = level;
+      }
+    }
+
+    if (bestIndex == -1) {
+      LOG.debug("Request " + requestId + ", node monitor " + nodeMonitorAddress.toString() +
+                ": Not assigning a task (waiting for a more local slot; waited " + waitedMs +
+                "ms).");
+      return Lists.newArrayList();
+    }
+    PendingTask task = unlaunchedTasks.remove(bestIndex);
+    LOG.debug("Request " + requestId + ", node monitor " + nodeMonitorAddress.toString() +
+              ": Assigning task " + task.taskSpec.getTaskId() + " at locality level " +
+              bestLevel + " after " + waitedMs + "ms.");
+    return Lists.newArrayList(task.taskSpec);
+  }
+
+  @Override
+  public synchronized boolean allResponsesReceived() {
+    return numOutstandingReservations == 0;
+  }
+
+  @Override
+  public synchronized boolean hasUnlaunchedTasks() {
+    return !unlaunchedTasks.isEmpty();
+  }
+}
@@ -0,0 +1,112 @@
+package edu.berkeley.sparrow.daemon.scheduler;
+
+import java.net.InetSocketAddress;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+
+import com.google.common.collect.Maps;
+
+import edu.berkeley.sparrow.thrift.THostPort;
+import edu.berkeley.sparrow.thrift.TNodeLoad;
+
+/**
+ * The most recent load reported by each node monitor. Node monitors attach their load to the
+ * responses to enqueueTaskReservations() and to getTask() calls, so the cache is kept up to date
+ * by the scheduler's normal traffic, and is usually much fresher than the state store's
+ * snapshots. Loads older than the max age are ignored.
+ *
+ * This class is thread safe.
+ */
+public class NodeLoadCache {
+  private static class Sample {
+    final TNodeLoad load;
+    final long timeMillis;
+
+    Sample(TNodeLoad load, long timeMillis) {
+      this.load = load;
+      this.timeMillis = timeMillis;
+    }
+  }
+
+  private final long maxAgeMillis;
+  private final ConcurrentMap<InetSocketAddress, Sample> samples = Maps.newConcurrentMap();
+  /**
+   * Resolved addresses of node monitors, indexed by "host:port", so that each is only resolved
+   * once. Not indexed by THostPort, whose generated hashCode() is constant.
+   */
+  private final ConcurrentMap<String, InetSocketAddress> addresses = Maps.newConcurrentMap();
+
+  public NodeLoadCache(long maxAgeMillis) {
+    this.maxAgeMillis = maxAgeMillis;
+  }
+
+  public void update(InetSocketAddress nodeMonitor, TNodeLoad load) {
+    update(nodeMonitor, load, System.currentTimeMillis());
+  }
+
+  void update(InetSocketAddress nodeMonitor, TNodeLoad load, long nowMillis) {
+    samples.put(nodeMonitor, new Sample(load, nowMillis));
+  }
+
+  public void update(THostPort nodeMonitor, TNodeLoad load) {
+    String key = nodeMonitor.getHost() + ":" + nodeMonitor.getPort();
+    InetSocketAddress address = addresses.get(key);
+    if (address == null) {
+      address = new InetSocketAddress(nodeMonitor.getHost(), nodeMonitor.getPort());
+      addresses.put(key, address);
+    }
+    update(address, load);
+  }
+
+  /** Returns the load of the given node monitor, or null if it isn't known. */
+  public TNodeLoad get(InetSocketAddress nodeMonitor) {
+    return get(nodeMonitor, System.currentTimeMillis());
+  }
+
+  TNodeLoad get(InetSocketAddress nodeMonitor, long nowMillis) {
+    Sample sample = samples.get(nodeMonitor);
+    if (sample == null || nowMillis - sample.timeMillis > maxAgeMillis) {
+      return null;
+    }
+    return sample.load;
+  }
+
+  /**
+   * Sorts node monitors by load, least loaded first. If every known load includes the node
+   * monitor's expected wait, node monitors are sorted by expected wait; otherwise (e.g., when
+   * some node monitors use a task scheduler that doesn't estimate runtimes) by queue length.
+   * Node monitors whose load isn't known are assumed to be idle. The sort is stable, so equally
+   * loaded node monitors stay in the same order.
+   */
+  public void sortByLoad(List<InetSocketAddress> nodeMonitors) {
+    long now = System.currentTimeMillis();
+    // Look up every load before sorting, since the loads can change during the sort.
+    Map<InetSocketAddress, TNodeLoad> loads = Maps.newHashMap();
+    boolean allHaveWait = true;
+    for (InetSocketAddress nodeMonitor : nodeMonitors) {
+      TNodeLoad load = get(nodeMonitor, now);
+      if (load != null) {
+        loads.put(nodeMonitor, load);
+        allHaveWait &= load.isSetExpectedWaitMillis();
+      }
+    }
+    final Map<InetSocketAddress, Long> keys = Maps.newHashMap();
+    for (InetSocketAddress nodeMonitor : nodeMonitors) {
+      TNodeLoad load = loads.get(nodeMonitor);
+      long key = 0;
+      if (load != null) {
+        key = allHaveWait ? load.getExpectedWaitMillis() : load.getQueueLength();
+      }
+      keys.put(nodeMonitor, key);
+    }
+    Collections.sort(nodeMonitors, new Comparator<InetSocketAddress>() {
+      @Override
+      public int compare(InetSocketAddress a, InetSocketAddress b) {
+        return keys.get(a).compareTo(keys.get(b));
+      }
+    });
+  }
+}
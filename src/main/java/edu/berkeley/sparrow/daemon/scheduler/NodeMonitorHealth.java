@@ -0,0 +1,197 @@
+package edu.berkeley.sparrow.daemon.scheduler;
+
+import java.net.InetSocketAddress;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.log4j.Logger;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+import edu.berkeley.sparrow.daemon.SparrowConf;
+
+/**
+ * Tracks the health of each node monitor, based on the outcomes and latencies of the RPCs the
+ * scheduler sends it, so that placers can stop sampling node monitors that are dead or slow.
+ *
+ * For each node monitor, this keeps an exponentially weighted moving average of RPC latency and
+ * a count of consecutive failures. A node monitor is quarantined when the failure count reaches
+ * the failure threshold, or when its average latency exceeds the slow threshold. Quarantine
+ * lasts for a backoff that starts at the initial backoff and doubles (up to the max backoff)
+ * each time the node monitor is quarantined again without an intervening success. Once the
+ * backoff has passed, the node monitor may be sampled again; a single success restores it, and
+ * a single failure quarantines it again.
+ *
+ * This class is thread safe.
+ */
+public class NodeMonitorHealth {
+  private final static Logger LOG = Logger.getLogger(NodeMonitorHealth.class);
+
+  private static class Health {
+    double ewmaLatencyMillis = 0;
+    boolean hasLatency = false;
+    int consecutiveFailures = 0;
+    /** Backoff to use the next time the node monitor is quarantined. */
+    long nextBackoffMillis;
+    long quarantinedUntilMillis = 0;
+    /** Whether the node monitor has been quarantined since it last succeeded. */
+    boolean probation = false;
+  }
+
+  private final int failureThreshold;
+  private final long slowThresholdMillis;
+  private final double ewmaAlpha;
+  private final long initialBackoffMillis;
+  private final long maxBackoffMillis;
+  private final ConcurrentMap<InetSocketAddress, Health> nodes = Maps.newConcurrentMap();
+
+  public NodeMonitorHealth(Configuration conf) {
+    this(conf.getInt(SparrowConf.HEALTH_FAILURE_THRESHOLD,
+                     SparrowConf.DEFAULT_HEALTH_FAILURE_THRESHOLD),
+         conf.getInt(SparrowConf.HEALTH_SLOW_THRESHOLD_MS,
+                     SparrowConf.DEFAULT_HEALTH_SLOW_THRESHOLD_MS),
+         conf.getDouble(SparrowConf.HEALTH_EWMA_ALPHA, SparrowConf.DEFAULT_HEALTH_EWMA_ALPHA),
+         conf.getInt(SparrowConf.HEALTH_INITIAL_BACKOFF_MS,
+                     SparrowConf.DEFAULT_HEALTH_INITIAL_BACKOFF_MS),
+         conf.getInt(SparrowConf.HEALTH_MAX_BACKOFF_MS,
+                     SparrowConf.DEFAULT_HEALTH_MAX_BACKOFF_MS));
+  }
+
+  public NodeMonitorHealth(int failureThreshold, long slowThresholdMillis, double ewmaAlpha,
+                           long initialBackoffMillis, long maxBackoffMillis) {
+    this.failureThreshold = failureThreshold;
+    this.slowThresholdMillis = slowThresholdMillis;
+    this.ewmaAlpha = ewmaAlpha;
+    this.initialBackoffMillis = initialBackoffMillis;
+    this.maxBackoffMillis = maxBackoffMillis;
+  }
+
+  private Health getHealth(InetSocketAddress node) {
+    Health health = nodes.get(node);
+    if (health == null) {
+      health = new Health();
+      health.nextBackoffMillis = initialBackoffMillis;
+      Health existing = nodes.putIfAbsent(node, health);
+      if (existing != null) {
+        health = existing;
+      }
+    }
+    return health;
+  }
+
+  /** Records an RPC to {@code node} that succeeded after {@code latencyMillis}. */
+  public void recordSuccess(InetSocketAddress node, long latencyMillis) {
+    recordSuccess(node, latencyMillis, System.currentTimeMillis());
+  }
+
+  void recordSuccess(InetSocketAddress node, long latencyMillis, long nowMillis) {
+    Health health = getHealth(node);
+    synchronized (health) {
+      if (health.hasLatency) {
+        health.ewmaLatencyMillis =
+            ewmaAlpha * latencyMillis + (1 - ewmaAlpha) * health.ewmaLatencyMillis;
+      } else {
+        health.ewmaLatencyMillis = latencyMillis;
+        health.hasLatency = true;
+      }
+      health.consecutiveFailures = 0;
+      if (health.ewmaLatencyMillis > slowThresholdMillis) {
+        quarantine(node, health, nowMillis, "average latency of " +
+                   Math.round(health.ewmaLatencyMillis) + "ms");
+      } else if (health.probation) {
+        LOG.info("Node monitor " + node + " recovered");
+        health.probation = false;
+        health.nextBackoffMillis = initialBackoffMillis;
+      }
+    }
+  }
+
+  /** Records an RPC to {@code node} that failed. */
+  public void recordFailure(InetSocketAddress node) {
+    recordFailure(node, System.currentTimeMillis());
+  }
+
+  void recordFailure(InetSocketAddress node, long nowMillis) {
+    Health health = getHealth(node);
+    synchronized (health) {
+      health.consecutiveFailures++;
+      if (health.probation || health.consecutiveFailures >= failureThreshold) {
+        quarantine(node, health, nowMillis, health.consecutiveFailures + " failed RPCs");
+      }
+    }
+  }
+
+  /** Must be called while holding the lock on {@code health}. */
+  private void quarantine(InetSocketAddress node, Health health, long nowMillis,
+                          String reason) {
+    if (nowMillis < health.quarantinedUntilMillis) {
+      // Already quarantined, e.g. by an RPC that was sent before the quarantine started.
+      return;
+    }
+    LOG.warn("Quarantining node monitor " + node + " for " + health.nextBackoffMillis +
+             "ms after " + reason);
+    health.quarantinedUntilMillis = nowMillis + health.nextBackoffMillis;
+    health.nextBackoffMillis = Math.min(2 * health.nextBackoffMillis, maxBackoffMillis);
+    health.probation = true;
+    // Start afresh once the quarantine ends, so that one more sample decides the node's fate.
+    health.consecutiveFailures = 0;
+    health.hasLatency = false;
+  }
+
+  public boolean isQuarantined(InetSocketAddress node) {
+    return isQuarantined(node, System.currentTimeMillis());
+  }
+
+  boolean isQuarantined(InetSocketAddress node, long nowMillis) {
+    Health health = nodes.get(node);
+    if (health == null) {
+      return false;
+    }
+    synchronized (health) {
+      return nowMillis < health.quarantinedUntilMillis;
+    }
+  }
+
+  /**
+   * Returns the nodes that aren't quarantined. If fewer than {@code needed} nodes aren't
+   * quarantined, returns all of the nodes instead, since a quarantined node is better than
+   * none.
+   */
+  public Collection<InetSocketAddress> excludeQuarantined(Collection<InetSocketAddress> nodes,
+                                                          int needed) {
+    long now = System.currentTimeMillis();
+    List<InetSocketAddress> healthy = Lists.newArrayListWithCapacity(nodes.size());
+    for (InetSocketAddress node : nodes) {
+      if (!isQuarantined(node, now)) {
+        healthy.add(node);
+      }
+    }
+    if (healthy.size() == nodes.size() || healthy.size() < needed) {
+      return nodes;
+    }
+    return healthy;
+  }
+
+  /** Moves quarantined nodes to the end of the list, preserving the order of the others. */
+  public void sortHealthyFirst(List<InetSocketAddress> nodes) {
+    long now = System.currentTimeMillis();
+    List<InetSocketAddress> quarantined = Lists.newArrayList();
+    List<InetSocketAddress> healthy = Lists.newArrayListWithCapacity(nodes.size());
+    for (InetSocketAddress node : nodes) {
+      if (isQuarantined(node, now)) {
+        quarantined.add(node);
+      } else {
+        healthy.add(node);
+      }
+    }
+    if (quarantined.isEmpty()) {
+      return;
+    }
+    nodes.clear();
+    nodes.addAll(healthy);
+    nodes.addAll(quarantined);
+  }
+}
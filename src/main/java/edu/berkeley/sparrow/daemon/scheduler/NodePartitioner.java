@@ -0,0 +1,80 @@
+package edu.berkeley.sparrow.daemon.scheduler;
+
+import java.net.InetSocketAddress;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+import edu.berkeley.sparrow.thrift.IncompleteRequestException;
+import edu.berkeley.sparrow.thrift.TPartitionPreference;
+
+/**
+ * Divides node monitors into disjoint partitions, for jobs that specify a
+ * {@link TPartitionPreference}.
+ *
+ * Each node monitor is assigned to a partition by consistent hashing of its address, so the
+ * assignment is deterministic (it doesn't depend on the iteration order of the backends, or on
+ * which other node monitors are running) and adding or removing node monitors only moves the
+ * affected node monitors. If a partition happens to contain no node monitors, the next
+ * non-empty partition is used instead.
+ *
+ * This class is thread safe.
+ */
+public class NodePartitioner {
+  private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+
+  /** Hash of each node monitor's address; cached because node monitors rarely change. */
+  private ConcurrentMap<InetSocketAddress, Long> nodeHashes = Maps.newConcurrentMap();
+
+  /** Throws an exception if {@code preference} doesn't describe a valid partition. */
+  public static void validate(TPartitionPreference preference)
+      throws IncompleteRequestException {
+    if (preference.getNumPartitions() <= 0 || preference.getPartition() < 0 ||
+        preference.getPartition() >= preference.getNumPartitions()) {
+      throw new IncompleteRequestException("Invalid partition " + preference.getPartition() +
+                                           " of " + preference.getNumPartitions());
+    }
+  }
+
+  /** Returns the partition, out of {@code numPartitions}, that the given node belongs to. */
+  public int getPartition(InetSocketAddress node, int numPartitions) {
+    Long hash = nodeHashes.get(node);
+    if (hash == null) {
+      hash = HASH_FUNCTION.hashString(node.getAddress().getHostAddress() + ":" + node.getPort())
+          .asLong();
+      nodeHashes.put(node, hash);
+    }
+    return Hashing.consistentHash(hash, numPartitions);
+  }
+
+  /**
+   * Returns the node monitors in {@code nodes} that are in the partition given by
+   * {@code preference}. Returns an empty list only if {@code nodes} is empty.
+   */
+  public List<InetSocketAddress> getNodes(Collection<InetSocketAddress> nodes,
+                                          TPartitionPreference preference) {
+    int numPartitions = preference.getNumPartitions();
+    // Find the nodes in the closest non-empty partition at or after the requested one.
+    List<InetSocketAddress> closestNodes = Lists.newArrayList();
+    int closestDistance = numPartitions;
+    for (InetSocketAddress node : nodes) {
+      int distance = getPartition(node, numPartitions) - preference.getPartition();
+      if (distance < 0) {
+        distance += numPartitions;
+      }
+      if (distance < closestDistance) {
+        closestNodes.clear();
+        closestDistance = distance;
+      }
+      if (distance == closestDistance) {
+        closestNodes.add(node);
+      }
+    }
+    return closestNodes;
+  }
+}
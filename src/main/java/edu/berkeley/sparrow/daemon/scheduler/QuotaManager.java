@@ -0,0 +1,331 @@
+package edu.berkeley.sparrow.daemon.scheduler;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.log4j.Logger;
+import org.apache.thrift.TException;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+import edu.berkeley.sparrow.daemon.SparrowConf;
+import edu.berkeley.sparrow.daemon.util.ConfigUtil;
+import edu.berkeley.sparrow.daemon.util.TClients;
+import edu.berkeley.sparrow.thrift.SchedulerOverloadedException;
+import edu.berkeley.sparrow.thrift.StateStoreService;
+import edu.berkeley.sparrow.thrift.TQuotaReconciliation;
+import edu.berkeley.sparrow.thrift.TSchedulingRequest;
+
+/**
+ * Enforces cluster-wide quotas on the rate at which users and groups (principals) submit tasks,
+ * so that one tenant can't flood every node monitor's queue.
+ *
+ * Each scheduler keeps a token bucket for each principal that has a quota, holding tasks. A job
+ * is accepted if every bucket it draws from (its user's and its group's) has tokens left, and
+ * then takes one token per task from each; buckets may go into debt, so that jobs larger than
+ * the burst can still run. Rejected jobs get a {@link SchedulerOverloadedException} saying how
+ * long until the buckets they need refill.
+ *
+ * Since jobs can be submitted to any scheduler, each scheduler's buckets refill at only a share
+ * of the principal's quota. Every reconcile interval, the scheduler reports to the state store
+ * how many tasks each principal submitted to it (its demand; a job that is retried after being
+ * rejected counts once per interval), and gets back the demand summed over all schedulers; its
+ * share of the quota is then (local demand + 1) / (total demand + number of schedulers), so
+ * that shares follow demand, add up to the quota, and a scheduler with no demand still gets a
+ * small share. Until the first reconciliation (or when there is no state store), each scheduler
+ * uses the whole quota. If the state store can't be reached, the last shares are kept.
+ *
+ * Schedulers report to the first state store shard they can reach, so that (as long as that
+ * shard is up) they all see the same totals.
+ *
+ * This class is thread safe.
+ */
+public class QuotaManager {
+  private final static Logger LOG = Logger.getLogger(QuotaManager.class);
+  /** Maximum time to wait to connect to, and hear back from, the state store. */
+  private final static int RECONCILE_TIMEOUT_MS = 1000;
+
+  /** A token bucket for one principal. */
+  private static class Bucket {
+    /** Cluster-wide quota, in tasks per second. */
+    final double quotaPerSecond;
+    /** This scheduler's share of the quota, in tasks per second. */
+    double ratePerSecond;
+    double tokens;
+    long lastRefillMillis;
+    /** Tasks submitted since the last reconciliation, including rejected ones. */
+    long demand = 0;
+
+    Bucket(double quotaPerSecond, double burstSeconds, long nowMillis) {
+      this.quotaPerSecond = quotaPerSecond;
+      ratePerSecond = quotaPerSecond;
+      tokens = capacity(burstSeconds);
+      lastRefillMillis = nowMillis;
+    }
+
+    double capacity(double burstSeconds) {
+      return Math.max(1, ratePerSecond * burstSeconds);
+    }
+  }
+
+  private final double burstSeconds;
+  private final long reconcileIntervalMillis;
+  /** The address this scheduler reports its demand as. */
+  private final String address;
+  private final List<InetSocketAddress> stateStores;
+  /** Buckets for each principal with a quota. Guarded by this. */
+  private final Map<String, Bucket> buckets = Maps.newHashMap();
+  /**
+   * IDs (see TSchedulingRequest.jobId) of the jobs counted in the demand since the last
+   * reconciliation. Guarded by this.
+   */
+  private final Set<String> countedJobIds = Sets.newHashSet();
+
+  public QuotaManager(Configuration conf, String address) {
+    this(parseQuotas(conf), conf.getDouble(SparrowConf.QUOTA_BURST_SECONDS,
+                                           SparrowConf.DEFAULT_QUOTA_BURST_SECONDS),
+         conf.getInt(SparrowConf.QUOTA_RECONCILE_INTERVAL_MS,
+                     SparrowConf.DEFAULT_QUOTA_RECONCILE_INTERVAL_MS),
+         address, ConfigUtil.parseStateStores(conf));
+  }
+
+  /** @param quotas tasks per second for each principal (see {@link #userPrincipal}) */
+  public QuotaManager(Map<String, Double> quotas, double burstSeconds,
+                      long reconcileIntervalMillis, String address,
+                      List<InetSocketAddress> stateStores) {
+    this.burstSeconds = burstSeconds;
+    this.reconcileIntervalMillis = reconcileIntervalMillis;
+    this.address = address;
+    this.stateStores = stateStores;
+    long now = System.currentTimeMillis();
+    for (Entry<String, Double> quota : quotas.entrySet()) {
+      buckets.put(quota.getKey(), new Bucket(quota.getValue(), burstSeconds, now));
+    }
+  }
+
+  public static String userPrincipal(String user) {
+    return "user:" + user;
+  }
+
+  public static String groupPrincipal(String group) {
+    return "group:" + group;
+  }
+
+  /** Returns the quotas in the configuration, indexed by principal. */
+  static Map<String, Double> parseQuotas(Configuration conf) {
+    Map<String, Double> quotas = Maps.newHashMap();
+    parseQuotas(conf.getStringArray(SparrowConf.QUOTA_USERS), "user:", quotas);
+    parseQuotas(conf.getStringArray(SparrowConf.QUOTA_GROUPS), "group:", quotas);
+    return quotas;
+  }
+
+  private static void parseQuotas(String[] entries, String prefix, Map<String, Double> quotas) {
+    for (String entry : entries) {
+      String[] parts = entry.trim().split(":");
+      if (parts.length != 2) {
+        LOG.warn("Bad quota entry (expected name:tasks_per_second): " + entry);
+        continue;
+      }
+      try {
+        quotas.put(prefix + parts[0], Double.parseDouble(parts[1]));
+      } catch (NumberFormatException e) {
+        LOG.warn("Bad quota entry (expected name:tasks_per_second): " + entry);
+      }
+    }
+  }
+
+  public synchronized boolean hasQuotas() {
+    return !buckets.isEmpty();
+  }
+
+  /** Starts a daemon thread that reconciles quotas through the state store every interval. */
+  public void start() {
+    Thread thread = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        while (true) {
+          try {
+            Thread.sleep(reconcileIntervalMillis);
+          } catch (InterruptedException e) {
+            LOG.warn("Quota reconciliation interrupted", e);
+            return;
+          }
+          try {
+            Map<String, Long> demand = takeDemand();
+            TQuotaReconciliation reconciliation = reconcile(demand);
+            if (reconciliation != null) {
+              applyReconciliation(demand, reconciliation, System.currentTimeMillis());
+            }
+          } catch (RuntimeException e) {
+            LOG.error("Error reconciling quotas", e);
+          }
+        }
+      }
+    }, "QuotaManager");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  /** Returns the number of tasks in the given jobs for each principal that has a quota. */
+  private Map<Bucket, Long> getTasksPerBucket(Collection<TSchedulingRequest> jobs) {
+    Map<Bucket, Long> tasks = Maps.newHashMap();
+    for (TSchedulingRequest job : jobs) {
+      if (!job.isSetUser()) {
+        continue;
+      }
+      addTasks(tasks, buckets.get(userPrincipal(job.getUser().getUser())), job.getTasksSize());
+      addTasks(tasks, buckets.get(groupPrincipal(job.getUser().getGroup())),
+               job.getTasksSize());
+    }
+    return tasks;
+  }
+
+  private static void addTasks(Map<Bucket, Long> tasks, Bucket bucket, int numTasks) {
+    if (bucket != null) {
+      Long existing = tasks.get(bucket);
+      tasks.put(bucket, (existing == null ? 0 : existing) + numTasks);
+    }
+  }
+
+  /**
+   * Takes tokens for all of the given jobs, or for none of them. Throws an exception saying when
+   * to retry if the jobs' principals are over their quotas.
+   */
+  public void acquire(Collection<TSchedulingRequest> jobs) throws SchedulerOverloadedException {
+    acquire(jobs, System.currentTimeMillis());
+  }
+
+  synchronized void acquire(Collection<TSchedulingRequest> jobs, long nowMillis)
+      throws SchedulerOverloadedException {
+    if (buckets.isEmpty()) {
+      return;
+    }
+    for (Entry<Bucket, Long> entry : getTasksPerBucket(takeUncountedJobs(jobs)).entrySet()) {
+      entry.getKey().demand += entry.getValue();
+    }
+    Map<Bucket, Long> tasks = getTasksPerBucket(jobs);
+    long retryAfterMillis = 0;
+    for (Entry<Bucket, Long> entry : tasks.entrySet()) {
+      Bucket bucket = entry.getKey();
+      refill(bucket, nowMillis);
+      if (bucket.tokens <= 0) {
+        // Wait until the bucket has refilled to at least one token.
+        long wait = bucket.ratePerSecond > 0 ?
+            (long) Math.ceil((1 - bucket.tokens) * 1000 / bucket.ratePerSecond) :
+            reconcileIntervalMillis;
+        retryAfterMillis = Math.max(retryAfterMillis, wait);
+      }
+    }
+    if (retryAfterMillis > 0) {
+      LOG.debug("Rejecting job(s) over quota; retry after " + retryAfterMillis + "ms");
+      throw new SchedulerOverloadedException("Over quota", retryAfterMillis);
+    }
+    for (Entry<Bucket, Long> entry : tasks.entrySet()) {
+      entry.getKey().tokens -= entry.getValue();
+    }
+  }
+
+  /**
+   * Returns the jobs that haven't been counted in the demand since the last reconciliation, and
+   * marks them counted. Frontends retry rejected jobs with the same job ID, so that each job adds
+   * to the demand once; jobs without an ID can't be told apart from new jobs, so they are always
+   * counted. Must be called while holding the lock on this.
+   */
+  private List<TSchedulingRequest> takeUncountedJobs(Collection<TSchedulingRequest> jobs) {
+    List<TSchedulingRequest> uncounted = Lists.newArrayList();
+    for (TSchedulingRequest job : jobs) {
+      if (!job.isSetJobId() || countedJobIds.add(job.getJobId())) {
+        uncounted.add(job);
+      }
+    }
+    return uncounted;
+  }
+
+  /** Returns the tokens taken for the given jobs, e.g., because they were rejected later. */
+  public synchronized void release(Collection<TSchedulingRequest> jobs) {
+    for (Entry<Bucket, Long> entry : getTasksPerBucket(jobs).entrySet()) {
+      Bucket bucket = entry.getKey();
+      bucket.tokens = Math.min(bucket.tokens + entry.getValue(), bucket.capacity(burstSeconds));
+    }
+  }
+
+  /** Must be called while holding the lock on this. */
+  private void refill(Bucket bucket, long nowMillis) {
+    if (nowMillis > bucket.lastRefillMillis) {
+      bucket.tokens = Math.min(
+          bucket.tokens + bucket.ratePerSecond * (nowMillis - bucket.lastRefillMillis) / 1000,
+          bucket.capacity(burstSeconds));
+      bucket.lastRefillMillis = nowMillis;
+    }
+  }
+
+  /** Returns the demand for each principal since the last call. */
+  synchronized Map<String, Long> takeDemand() {
+    Map<String, Long> demand = Maps.newHashMap();
+    for (Entry<String, Bucket> entry : buckets.entrySet()) {
+      demand.put(entry.getKey(), entry.getValue().demand);
+      entry.getValue().demand = 0;
+    }
+    countedJobIds.clear();
+    return demand;
+  }
+
+  /**
+   * Sets this scheduler's share of each quota, given its demand and the demand summed over all
+   * schedulers.
+   */
+  synchronized void applyReconciliation(Map<String, Long> demand,
+                                        TQuotaReconciliation reconciliation, long nowMillis) {
+    int numSchedulers = Math.max(1, reconciliation.getNumSchedulers());
+    for (Entry<String, Bucket> entry : buckets.entrySet()) {
+      Bucket bucket = entry.getValue();
+      Long local = demand.get(entry.getKey());
+      Long total = reconciliation.isSetTotalDemand() ?
+          reconciliation.getTotalDemand().get(entry.getKey()) : null;
+      long localDemand = local == null ? 0 : local;
+      long totalDemand = Math.max(total == null ? 0 : total, localDemand);
+      refill(bucket, nowMillis);
+      bucket.ratePerSecond = bucket.quotaPerSecond * (localDemand + 1) /
+                             (totalDemand + numSchedulers);
+      bucket.tokens = Math.min(bucket.tokens, bucket.capacity(burstSeconds));
+    }
+  }
+
+  /** Returns this scheduler's current share of the given principal's quota, in tasks/second. */
+  synchronized double getRate(String principal) {
+    Bucket bucket = buckets.get(principal);
+    return bucket == null ? Double.POSITIVE_INFINITY : bucket.ratePerSecond;
+  }
+
+  /**
+   * Reports this scheduler's demand to the state store, and returns the cluster-wide demand, or
+   * null if no state store shard could be reached.
+   */
+  protected TQuotaReconciliation reconcile(Map<String, Long> demand) {
+    for (InetSocketAddress shard : stateStores) {
+      try {
+        StateStoreService.Client client = TClients.createBlockingStateStoreClient(
+            shard.getAddress().getHostAddress(), shard.getPort(), RECONCILE_TIMEOUT_MS);
+        try {
+          return client.reconcileQuotas(address, demand);
+        } finally {
+          client.getInputProtocol().getTransport().close();
+        }
+      } catch (IOException e) {
+        LOG.debug("Unable to connect to state store at " + shard);
+      } catch (TException e) {
+        LOG.debug("Error reconciling quotas with state store at " + shard, e);
+      }
+    }
+    LOG.warn("Unable to reconcile quotas with any state store; keeping the current shares");
+    return null;
+  }
+}
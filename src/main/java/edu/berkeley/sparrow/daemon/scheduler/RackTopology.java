@@ -0,0 +1,58 @@
+package edu.berkeley.sparrow.daemon.scheduler;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.HashMap;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.log4j.Logger;
+
+import com.google.common.collect.Maps;
+
+import edu.berkeley.sparrow.daemon.SparrowConf;
+
+/**
+ * Mapping of nodes to the racks that they are in, used for rack-aware placement. Nodes are
+ * identified by IP address, since that is how node monitors identify themselves to the
+ * scheduler.
+ */
+public class RackTopology {
+  private static final Logger LOG = Logger.getLogger(RackTopology.class);
+
+  /** Rack for nodes that don't appear in the topology. */
+  public final static String DEFAULT_RACK = "/default-rack";
+
+  private HashMap<String, String> nodeRacks = Maps.newHashMap();
+
+  /** Parses the topology given by {@link SparrowConf#RACK_TOPOLOGY}. */
+  public static RackTopology fromConfiguration(Configuration conf) {
+    RackTopology topology = new RackTopology();
+    for (String entry : conf.getStringArray(SparrowConf.RACK_TOPOLOGY)) {
+      String[] parts = entry.trim().split(":");
+      if (parts.length != 2) {
+        LOG.warn("Bad rack topology entry (expected host:rack): " + entry);
+        continue;
+      }
+      try {
+        topology.addNode(InetAddress.getByName(parts[0]).getHostAddress(), parts[1]);
+      } catch (UnknownHostException e) {
+        LOG.warn("Unresolvable host in rack topology: " + parts[0]);
+      }
+    }
+    LOG.info("Loaded rack topology for " + topology.nodeRacks.size() + " nodes");
+    return topology;
+  }
+
+  public synchronized void addNode(String ipAddress, String rack) {
+    nodeRacks.put(ipAddress, rack);
+  }
+
+  /** Returns the rack for the node with the given IP address. */
+  public synchronized String getRack(String ipAddress) {
+    String rack = nodeRacks.get(ipAddress);
+    if (rack == null) {
+      return DEFAULT_RACK;
+    }
+    return rack;
+  }
+}
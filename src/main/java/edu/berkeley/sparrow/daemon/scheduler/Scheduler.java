@@ -3,13 +3,18 @@ package edu.berkeley.sparrow.daemon.scheduler;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.configuration.Configuration;
@@ -20,24 +25,36 @@ import org.apache.thrift.async.AsyncMethodCallback;
 import com.google.common.base.Optional;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 
 import edu.berkeley.sparrow.daemon.SparrowConf;
+import edu.berkeley.sparrow.daemon.metrics.Counter;
+import edu.berkeley.sparrow.daemon.metrics.Histogram;
+import edu.berkeley.sparrow.daemon.metrics.MetricsRegistry;
+import edu.berkeley.sparrow.daemon.trace.Tracer;
 import edu.berkeley.sparrow.daemon.util.Logging;
 import edu.berkeley.sparrow.daemon.util.Network;
 import edu.berkeley.sparrow.daemon.util.Serialization;
 import edu.berkeley.sparrow.daemon.util.ThriftClientPool;
+import edu.berkeley.sparrow.daemon.util.Tracing;
 import edu.berkeley.sparrow.thrift.FrontendService;
 import edu.berkeley.sparrow.thrift.FrontendService.AsyncClient.frontendMessage_call;
+import edu.berkeley.sparrow.thrift.IncompleteRequestException;
 import edu.berkeley.sparrow.thrift.InternalService;
 import edu.berkeley.sparrow.thrift.InternalService.AsyncClient;
+import edu.berkeley.sparrow.thrift.InternalService.AsyncClient.enqueueTaskReservationsBatch_call;
 import edu.berkeley.sparrow.thrift.InternalService.AsyncClient.enqueueTaskReservations_call;
+import edu.berkeley.sparrow.thrift.InternalService.AsyncClient.releaseGangReservations_call;
+import edu.berkeley.sparrow.thrift.SchedulerOverloadedException;
 import edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest;
+import edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsResponse;
 import edu.berkeley.sparrow.thrift.TFullTaskId;
 import edu.berkeley.sparrow.thrift.THostPort;
-import edu.berkeley.sparrow.thrift.TPlacementPreference;
+import edu.berkeley.sparrow.thrift.TNodeLoad;
 import edu.berkeley.sparrow.thrift.TSchedulingRequest;
 import edu.berkeley.sparrow.thrift.TTaskLaunchSpec;
 import edu.berkeley.sparrow.thrift.TTaskSpec;
+import edu.berkeley.sparrow.thrift.TTraceContext;
 
 /**
  * This class implements the Sparrow scheduler functionality.
@@ -49,10 +66,9 @@ public class Scheduler {
   /** Used to uniquely identify requests arriving at this scheduler. */
   private AtomicInteger counter = new AtomicInteger(0);
 
-  /** How many times the special case has been triggered. */
-  private AtomicInteger specialCaseCounter = new AtomicInteger(0);
-
   private THostPort address;
+  /** Address recorded in the spans of traced jobs. */
+  private String traceAddress;
 
   /** Socket addresses for each frontend. */
   HashMap<String, InetSocketAddress> frontendSockets =
@@ -75,19 +91,74 @@ public class Scheduler {
   private double defaultProbeRatioUnconstrained;
   private double defaultProbeRatioConstrained;
 
-  /** A special case scheduling parameter for Spark RDD layouts. */
-  private int specialTaskSetSize;
+  /** Assigns node monitors to partitions, for jobs that are restricted to a partition. */
+  private NodePartitioner nodePartitioner = new NodePartitioner();
 
   /**
    * For each request, the task placer that should be used to place the request's tasks. Indexed
    * by the request ID.
    */
-  private ConcurrentMap<String, TaskPlacer> requestTaskPlacers;
+  ConcurrentMap<String, TaskPlacer> requestTaskPlacers;
+
+  /**
+   * Requests whose reservations were all given up (see {@link #reservationsGivenUp}) while they
+   * still had unlaunched tasks. Their task placers are kept until the tasks have been launched.
+   */
+  private Set<String> abandonedRequests =
+      Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
 
   private Configuration conf;
 
+  /**
+   * Prefix for request IDs generated by this scheduler. Resolving the IP address is relatively
+   * expensive, so it is done once at initialization rather than for every request. The prefix
+   * must not contain ':', which separates the parameters of audit events in text audit logs.
+   */
+  private String requestIdPrefix;
+
+  /** Port that node monitors should use to call getTask() on this scheduler. */
+  private int getTaskPort;
+
+  /** Parameters for gang-scheduled jobs (see {@link GangTaskPlacer}). */
+  private int gangTimeoutMs;
+  private int gangMaxAttempts;
+
+  /** Loads that node monitors piggybacked on recent RPCs. */
+  private NodeLoadCache nodeLoads;
+  private double loadCacheCandidateRatio;
+
+  /** Health of the node monitors, based on the outcomes of RPCs sent to them. */
+  NodeMonitorHealth nodeMonitorHealth;
+
+  /** Decides whether to accept new jobs, based on the tasks that haven't been launched yet. */
+  private AdmissionController admissionController;
+  /** Enforces the cluster-wide quotas of users and groups. */
+  private QuotaManager quotaManager;
+  /** Tells frontends which tasks have been launched, so they can fail over without duplicates. */
+  private LaunchReporter launchReporter;
+
+  /** Racks of the nodes in the cluster, used for rack-aware placement. */
+  private RackTopology rackTopology;
+
+  /** Fires timeouts for gang-scheduled jobs that have not yet been launched. */
+  private ScheduledExecutorService gangTimer = Executors.newSingleThreadScheduledExecutor();
+
+  /** Time taken by submitJob() and submitJobs() calls. */
+  private Histogram submitJobUs;
+  private Histogram submitJobsUs;
+  /** Time taken to send the enqueueTaskReservations() RPCs for a job (or batch of jobs). */
+  private Histogram reservationFanoutUs;
+  /** Time taken to handle getTask() calls. */
+  private Histogram getTaskServiceUs;
+  /** Number of getTask() calls for which no task was returned. */
+  private Counter getTaskEmpty;
+  private Counter nodeMonitorRpcFailures;
+  /** Number of jobs rejected by admission control. */
+  private Counter jobsRejected;
+
   public void initialize(Configuration conf, InetSocketAddress socket) throws IOException {
     address = Network.socketAddressToThrift(socket);
+    traceAddress = address.getHost() + ":" + address.getPort();
     String mode = conf.getString(SparrowConf.DEPLYOMENT_MODE, "unspecified");
     this.conf = conf;
     if (mode.equals("standalone")) {
@@ -106,14 +177,41 @@ public class Scheduler {
         SparrowConf.DEFAULT_SAMPLE_RATIO);
     defaultProbeRatioConstrained = conf.getDouble(SparrowConf.SAMPLE_RATIO_CONSTRAINED,
         SparrowConf.DEFAULT_SAMPLE_RATIO_CONSTRAINED);
-    specialTaskSetSize = conf.getInt(SparrowConf.SPECIAL_TASK_SET_SIZE,
-        SparrowConf.DEFAULT_SPECIAL_TASK_SET_SIZE);
 
     requestTaskPlacers = Maps.newConcurrentMap();
+    requestIdPrefix = Network.getIPAddress(conf) + "_" + socket.getPort() + "_";
+    getTaskPort = conf.getInt(SparrowConf.GET_TASK_PORT, SchedulerThrift.DEFAULT_GET_TASK_PORT);
+    rackTopology = RackTopology.fromConfiguration(conf);
+    nodeLoads = new NodeLoadCache(conf.getInt(SparrowConf.LOAD_CACHE_MAX_AGE_MS,
+        SparrowConf.DEFAULT_LOAD_CACHE_MAX_AGE_MS));
+    loadCacheCandidateRatio = conf.getDouble(SparrowConf.LOAD_CACHE_CANDIDATE_RATIO,
+        SparrowConf.DEFAULT_LOAD_CACHE_CANDIDATE_RATIO);
+    nodeMonitorHealth = new NodeMonitorHealth(conf);
+    admissionController = new AdmissionController(conf);
+    quotaManager = new QuotaManager(conf, traceAddress);
+    launchReporter = new LaunchReporter();
+    if (mode.equals("production") && quotaManager.hasQuotas()) {
+      quotaManager.start();
+    }
+    gangTimeoutMs = conf.getInt(SparrowConf.GANG_TIMEOUT_MS, SparrowConf.DEFAULT_GANG_TIMEOUT_MS);
+    gangMaxAttempts = conf.getInt(SparrowConf.GANG_MAX_ATTEMPTS,
+        SparrowConf.DEFAULT_GANG_MAX_ATTEMPTS);
+
+    MetricsRegistry metrics = new MetricsRegistry("Scheduler", socket.getPort());
+    submitJobUs = metrics.getHistogram("submit_job_us");
+    submitJobsUs = metrics.getHistogram("submit_jobs_us");
+    reservationFanoutUs = metrics.getHistogram("reservation_fanout_us");
+    getTaskServiceUs = metrics.getHistogram("get_task_service_us");
+    getTaskEmpty = metrics.getCounter("get_task_empty");
+    nodeMonitorRpcFailures = metrics.getCounter("node_monitor_rpc_failures");
+    jobsRejected = metrics.getCounter("jobs_rejected");
+    metrics.export();
   }
 
   public boolean registerFrontend(String appId, String addr) {
-    LOG.debug(Logging.functionCall(appId, addr));
+    if (Tracing.isTraced(LOG)) {
+      LOG.trace(Tracing.call("registerFrontend", appId, addr));
+    }
     Optional<InetSocketAddress> socketAddress = Serialization.strToSocket(addr);
     if (!socketAddress.isPresent()) {
       LOG.error("Bad address from frontend: " + addr);
@@ -123,24 +221,53 @@ public class Scheduler {
     return state.watchApplication(appId);
   }
 
+  /** Returns the number of tasks that have been accepted but not launched yet. */
+  public int getLoadHint() {
+    return admissionController.getOutstandingTasks();
+  }
+
   /**
-   * Callback for enqueueTaskReservations() that does nothing (needed because Thrift can't handle
-   * null callbacks).
+   * Callback for enqueueTaskReservations(), which records the node monitor's load and returns the
+   * client to the pool.
    */
   private class EnqueueTaskReservationsCallback
   implements AsyncMethodCallback<enqueueTaskReservations_call> {
     String requestId;
     InetSocketAddress nodeMonitorAddress;
+    TEnqueueTaskReservationsRequest request;
+    /** If the job is traced, the parent of the probe span, and the probe's span ID. */
+    TTraceContext trace;
+    long probeSpanId;
+    long startMicros;
+    InternalService.AsyncClient client;
+    long startNanos = System.nanoTime();
 
-    public EnqueueTaskReservationsCallback(String requestId, InetSocketAddress nodeMonitorAddress) {
+    public EnqueueTaskReservationsCallback(String requestId, InetSocketAddress nodeMonitorAddress,
+                                           TEnqueueTaskReservationsRequest request,
+                                           TTraceContext trace, long probeSpanId,
+                                           InternalService.AsyncClient client) {
       this.requestId = requestId;
       this.nodeMonitorAddress = nodeMonitorAddress;
+      this.request = request;
+      this.trace = trace;
+      this.probeSpanId = probeSpanId;
+      this.client = client;
+      if (trace != null) {
+        startMicros = Tracer.nowMicros();
+      }
     }
 
     public void onComplete(enqueueTaskReservations_call response) {
-      AUDIT_LOG.debug(Logging.auditEventString(
-          "scheduler_complete_enqueue_task", requestId,
-          nodeMonitorAddress.getAddress().getHostAddress()));
+      Logging.audit(AUDIT_LOG, "scheduler_complete_enqueue_task", requestId,
+                    nodeMonitorAddress.getAddress().getHostAddress());
+      nodeMonitorHealth.recordSuccess(nodeMonitorAddress,
+                                      (System.nanoTime() - startNanos) / 1000000);
+      recordLoad(nodeMonitorAddress, response);
+      if (trace != null) {
+        Tracer.record(trace, probeSpanId, "probe", traceAddress, startMicros, Tracer.nowMicros(),
+                      nodeMonitorAddress.getAddress().getHostAddress() + ":" +
+                      nodeMonitorAddress.getPort());
+      }
       try {
         nodeMonitorClientPool.returnClient(nodeMonitorAddress, (AsyncClient) response.getClient());
       } catch (Exception e) {
@@ -150,156 +277,673 @@ public class Scheduler {
     }
 
     public void onError(Exception exception) {
-      // Do not return error client to pool
       LOG.error("Error executing enqueueTaskReservation RPC:" + exception);
+      handleEnqueueError(nodeMonitorAddress, client);
     }
   }
 
-  /** This is a special case where we want to ensure a very specific scheduling allocation for
-   * Spark partitions.*/
-  private boolean isSpecialCase(TSchedulingRequest req) {
-    if (req.getTasks().size() != specialTaskSetSize) {
-      return false;
+  /**
+   * Callback for enqueueTaskReservationsBatch(); as with {@link EnqueueTaskReservationsCallback},
+   * records the node monitor's load and returns the client to the pool.
+   */
+  private class EnqueueTaskReservationsBatchCallback
+  implements AsyncMethodCallback<enqueueTaskReservationsBatch_call> {
+    List<TEnqueueTaskReservationsRequest> requests;
+    InetSocketAddress nodeMonitorAddress;
+    /** Parents of the probe spans for the traced jobs in the batch, and the probes' span IDs. */
+    List<TTraceContext> traces = Lists.newArrayList();
+    List<Long> probeSpanIds = Lists.newArrayList();
+    long startMicros;
+    InternalService.AsyncClient client;
+
+    public EnqueueTaskReservationsBatchCallback(List<TEnqueueTaskReservationsRequest> requests,
+                                                InetSocketAddress nodeMonitorAddress,
+                                                InternalService.AsyncClient client) {
+      this.requests = requests;
+      this.nodeMonitorAddress = nodeMonitorAddress;
+      this.client = client;
+      startMicros = Tracer.nowMicros();
     }
-    for (TTaskSpec t: req.getTasks()) {
-      if ((t.getPreference().getNodes() != null)  &&
-          (t.getPreference().getNodes().size() == 3)) {
-        return false;
+
+    public void onComplete(enqueueTaskReservationsBatch_call response) {
+      Logging.audit(AUDIT_LOG, "scheduler_complete_enqueue_task_batch", requests.size(),
+                    nodeMonitorAddress.getAddress().getHostAddress());
+      long endMicros = Tracer.nowMicros();
+      nodeMonitorHealth.recordSuccess(nodeMonitorAddress, (endMicros - startMicros) / 1000);
+      try {
+        TEnqueueTaskReservationsResponse result = response.getResult();
+        if (result.isSetLoad()) {
+          nodeLoads.update(nodeMonitorAddress, result.getLoad());
+        }
+      } catch (TException e) {
+        LOG.warn("Unable to read enqueueTaskReservationsBatch result: " + e);
+      }
+      for (int i = 0; i < traces.size(); ++i) {
+        Tracer.record(traces.get(i), probeSpanIds.get(i), "probe", traceAddress, startMicros,
+                      endMicros, nodeMonitorAddress.getAddress().getHostAddress() + ":" +
+                      nodeMonitorAddress.getPort());
       }
+      try {
+        nodeMonitorClientPool.returnClient(nodeMonitorAddress, (AsyncClient) response.getClient());
+      } catch (Exception e) {
+        LOG.error("Error returning client to node monitor client pool: " + e);
+      }
+      return;
+    }
+
+    public void onError(Exception exception) {
+      LOG.error("Error executing enqueueTaskReservationsBatch RPC:" + exception);
+      handleEnqueueError(nodeMonitorAddress, client);
     }
-    return true;
   }
-  /** Handles special case. */
-  private TSchedulingRequest handleSpecialCase(TSchedulingRequest req) throws TException {
-    LOG.info("Handling special case request: " + req);
-    int specialCaseIndex = specialCaseCounter.incrementAndGet();
-    if (specialCaseIndex < 1 || specialCaseIndex > 3) {
-      LOG.error("Invalid special case index: " + specialCaseIndex);
-    }
-
-    // No tasks have preferences and we have the magic number of tasks
-    TSchedulingRequest newReq = new TSchedulingRequest();
-    newReq.user = req.user;
-    newReq.app = req.app;
-    newReq.probeRatio = req.probeRatio;
-
-    List<InetSocketAddress> allBackends = Lists.newArrayList();
-    List<InetSocketAddress> backends = Lists.newArrayList();
-    // We assume the below always returns the same order (invalid assumption?)
-    for (InetSocketAddress backend : state.getBackends(req.app).keySet()) {
-      allBackends.add(backend);
-    }
-
-    // Each time this is called, we restrict to 1/3 of the nodes in the cluster
-    for (int i = 0; i < allBackends.size(); i++) {
-      if (i % 3 == specialCaseIndex - 1) {
-        backends.add(allBackends.get(i));
+
+  /**
+   * Records that an RPC to a node monitor failed, and destroys the client (and any idle clients
+   * for the same node monitor) rather than returning it to the pool. {@code client} is null if
+   * the RPC failed before a client was borrowed.
+   */
+  private void handleRpcError(InetSocketAddress nodeMonitorAddress,
+                              InternalService.AsyncClient client) {
+    nodeMonitorRpcFailures.increment();
+    nodeMonitorHealth.recordFailure(nodeMonitorAddress);
+    if (client == null) {
+      return;
+    }
+    try {
+      nodeMonitorClientPool.invalidateClient(nodeMonitorAddress, client);
+    } catch (Exception e) {
+      LOG.error("Error invalidating client in node monitor client pool: " + e);
+    }
+  }
+
+  /**
+   * Handles a failed enqueueTaskReservations() or enqueueTaskReservationsBatch() RPC. The node
+   * monitor is assumed to have died, so all of the reservations it holds (not just those in the
+   * failed RPC) are given up. Node monitors that are merely slow, or that fail other RPCs, keep
+   * their reservations.
+   */
+  private void handleEnqueueError(InetSocketAddress nodeMonitorAddress,
+                                  InternalService.AsyncClient client) {
+    for (String requestId : admissionController.nodeFailed(nodeMonitorAddress)) {
+      reservationsGivenUp(requestId);
+    }
+    // Admission control doesn't finish gangs when their reservations are given up (and has
+    // already forgotten gangs that failed or were aborted), so gang task placers are told
+    // directly, and removed once they aren't waiting for any more responses.
+    for (Entry<String, TaskPlacer> entry : requestTaskPlacers.entrySet()) {
+      if (entry.getValue() instanceof GangTaskPlacer) {
+        GangTaskPlacer gangTaskPlacer = (GangTaskPlacer) entry.getValue();
+        gangTaskPlacer.nodeFailed(nodeMonitorAddress);
+        if (gangTaskPlacer.allResponsesReceived()) {
+          requestFinished(entry.getKey());
+        }
       }
     }
-    Collections.shuffle(backends);
-
-    if (!(allBackends.size() >= (specialTaskSetSize * 3))) {
-      LOG.error("Special case expects at least three times as many machines as tasks.");
-      return null;
-    }
-    LOG.info(backends);
-    for (int i = 0; i < req.getTasksSize(); i++) {
-      TTaskSpec task = req.getTasks().get(i);
-      TTaskSpec newTask = new TTaskSpec();
-      newTask.estimatedResources = task.estimatedResources;
-      newTask.message = task.message;
-      newTask.taskId = task.taskId;
-      newTask.preference = new TPlacementPreference();
-      newTask.preference.addToNodes(backends.get(i).getHostName());
-      newReq.addToTasks(newTask);
-    }
-    LOG.info("New request: " + newReq);
-    return newReq;
+    handleRpcError(nodeMonitorAddress, client);
   }
 
-  public void submitJob(TSchedulingRequest request) throws TException {
-    if (isSpecialCase(request)) {
-      submitJobWithoutCheck(handleSpecialCase(request));
-    } else {
-      submitJobWithoutCheck(request);
+  /**
+   * Handles a request whose remaining reservations have all been given up, so that it no longer
+   * counts against admission control. If the request still has unlaunched tasks, its task placer
+   * is kept, in case a node monitor that was given up is alive after all and calls getTask().
+   */
+  private void reservationsGivenUp(String requestId) {
+    TaskPlacer taskPlacer = requestTaskPlacers.get(requestId);
+    if (taskPlacer == null || !taskPlacer.hasUnlaunchedTasks()) {
+      requestFinished(requestId);
+      return;
+    }
+    LOG.warn("All reservations for request " + requestId + " were given up with tasks " +
+             "still unlaunched");
+    abandonedRequests.add(requestId);
+  }
+
+  /**
+   * Forgets a request that won't launch any more tasks, so that requestTaskPlacers doesn't grow
+   * to be unbounded and the request's unlaunched tasks no longer count against admission control.
+   */
+  private void requestFinished(String requestId) {
+    requestTaskPlacers.remove(requestId);
+    abandonedRequests.remove(requestId);
+    admissionController.requestFinished(requestId);
+    launchReporter.requestFinished(requestId);
+  }
+
+  /** Returns the number of reservations in each of the given enqueue requests. */
+  private static Map<InetSocketAddress, Integer> countReservations(
+      Map<InetSocketAddress, TEnqueueTaskReservationsRequest> requests) {
+    Map<InetSocketAddress, Integer> reservations = Maps.newHashMap();
+    for (Entry<InetSocketAddress, TEnqueueTaskReservationsRequest> entry : requests.entrySet()) {
+      reservations.put(entry.getKey(), entry.getValue().getNumTasks());
+    }
+    return reservations;
+  }
+
+  private void recordLoad(InetSocketAddress nodeMonitorAddress,
+                          enqueueTaskReservations_call response) {
+    try {
+      TEnqueueTaskReservationsResponse result = response.getResult();
+      if (result.isSetLoad()) {
+        nodeLoads.update(nodeMonitorAddress, result.getLoad());
+      }
+    } catch (TException e) {
+      LOG.warn("Unable to read enqueueTaskReservations result: " + e);
     }
   }
 
-  public void submitJobWithoutCheck(TSchedulingRequest request) throws TException {
-    LOG.debug(Logging.functionCall(request));
+  /** Releases reservations held for gang-scheduled jobs at node monitors. */
+  private class NodeMonitorGangReleaser implements GangTaskPlacer.GangReleaser {
+    @Override
+    public void release(String requestId, THostPort nodeMonitorAddress, int numReservations,
+                        List<TTaskLaunchSpec> tasks) {
+      InetSocketAddress socket = new InetSocketAddress(nodeMonitorAddress.getHost(),
+                                                       nodeMonitorAddress.getPort());
+      InternalService.AsyncClient client = null;
+      try {
+        client = nodeMonitorClientPool.borrowClient(socket);
+        Logging.audit(AUDIT_LOG, "scheduler_release_gang_reservations", requestId,
+                      nodeMonitorAddress.getHost(), numReservations, tasks.size());
+        client.releaseGangReservations(requestId, numReservations, tasks,
+            new ReleaseGangReservationsCallback(requestId, socket, client));
+        // The launches are reported once the release is sent rather than when it completes,
+        // because the request is usually finished (and no longer reported) by then.
+        for (TTaskLaunchSpec task : tasks) {
+          admissionController.taskLaunched(requestId);
+          launchReporter.taskLaunched(requestId, task.getTaskId());
+        }
+      } catch (Exception e) {
+        LOG.error("Error releasing gang reservations for request " + requestId + " on node " +
+                  socket + ":" + e);
+        handleRpcError(socket, client);
+      }
+    }
+  }
 
-    long start = System.currentTimeMillis();
+  private class ReleaseGangReservationsCallback
+  implements AsyncMethodCallback<releaseGangReservations_call> {
+    String requestId;
+    InetSocketAddress nodeMonitorAddress;
+    InternalService.AsyncClient client;
+    long startNanos = System.nanoTime();
+
+    public ReleaseGangReservationsCallback(String requestId, InetSocketAddress nodeMonitorAddress,
+                                           InternalService.AsyncClient client) {
+      this.requestId = requestId;
+      this.nodeMonitorAddress = nodeMonitorAddress;
+      this.client = client;
+    }
+
+    public void onComplete(releaseGangReservations_call response) {
+      nodeMonitorHealth.recordSuccess(nodeMonitorAddress,
+                                      (System.nanoTime() - startNanos) / 1000000);
+      try {
+        if (!response.getResult()) {
+          LOG.error("Node monitor " + nodeMonitorAddress + " had already given up some gang " +
+                    "reservations for request " + requestId);
+        }
+      } catch (TException e) {
+        LOG.error("Unable to read result of releaseGangReservations(): " + e);
+      }
+      try {
+        nodeMonitorClientPool.returnClient(nodeMonitorAddress, (AsyncClient) response.getClient());
+      } catch (Exception e) {
+        LOG.error("Error returning client to node monitor client pool: " + e);
+      }
+    }
+
+    public void onError(Exception exception) {
+      LOG.error("Error executing releaseGangReservations RPC:" + exception);
+      handleRpcError(nodeMonitorAddress, client);
+    }
+  }
+
+  /**
+   * Fires if a gang-scheduled job has not been launched within the timeout. Releases the slots
+   * held for the job so that they can be used by other jobs, and then re-probes for the job.
+   */
+  private class GangTimeout implements Runnable {
+    private String requestId;
+    private GangTaskPlacer taskPlacer;
+    private TTraceContext trace;
+    private String jobSignature;
+
+    public GangTimeout(String requestId, GangTaskPlacer taskPlacer, TTraceContext trace,
+                       String jobSignature) {
+      this.requestId = requestId;
+      this.taskPlacer = taskPlacer;
+      this.trace = trace;
+      this.jobSignature = jobSignature;
+    }
+
+    @Override
+    public void run() {
+      if (!taskPlacer.cancel()) {
+        return;
+      }
+      Map<InetSocketAddress, TEnqueueTaskReservationsRequest> requests =
+          taskPlacer.getRetryEnqueueTaskReservationsRequests();
+      if (requests == null) {
+        LOG.error("Unable to launch gang-scheduled request " + requestId + " after " +
+                  gangMaxAttempts + " attempts; giving up.");
+        Logging.audit(AUDIT_LOG, "scheduler_gang_failed", requestId);
+        // The gang won't launch any tasks, but its task placer must answer the outstanding
+        // reservations.
+        admissionController.requestFinished(requestId);
+        launchReporter.requestFinished(requestId);
+        if (taskPlacer.allResponsesReceived()) {
+          requestTaskPlacers.remove(requestId);
+        }
+        return;
+      }
+      Logging.audit(AUDIT_LOG, "scheduler_gang_retry", requestId);
+      sendEnqueueTaskReservations(requestId, requests, trace, jobSignature);
+      gangTimer.schedule(this, gangTimeoutMs, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  /**
+   * Stops launching the tasks of the given jobs, which their frontend has resubmitted to another
+   * scheduler. Node monitors are given no task for the jobs' remaining reservations.
+   */
+  public void cancelJobs(List<String> jobIds) {
+    for (String requestId : launchReporter.getRequestIds(Sets.newHashSet(jobIds))) {
+      LOG.info("Cancelling request " + requestId + " at the request of its frontend");
+      Logging.audit(AUDIT_LOG, "scheduler_job_cancelled", requestId);
+      TaskPlacer taskPlacer = requestTaskPlacers.get(requestId);
+      if (taskPlacer instanceof GangTaskPlacer) {
+        // The task placer releases the gang's held slots as its reservations are answered.
+        GangTaskPlacer gangTaskPlacer = (GangTaskPlacer) taskPlacer;
+        gangTaskPlacer.abort();
+        admissionController.requestFinished(requestId);
+        launchReporter.requestFinished(requestId);
+        if (gangTaskPlacer.allResponsesReceived()) {
+          requestTaskPlacers.remove(requestId);
+        }
+      } else {
+        requestFinished(requestId);
+      }
+    }
+  }
+
+  public void submitJob(TSchedulingRequest request)
+      throws TException, IncompleteRequestException, SchedulerOverloadedException {
+    checkRequest(request);
+    submitJobWithoutCheck(request);
+  }
+
+  /** Throws an exception if the request's placement options are invalid. */
+  private void checkRequest(TSchedulingRequest request) throws IncompleteRequestException {
+    if (request.isSetPartition()) {
+      NodePartitioner.validate(request.getPartition());
+    }
+  }
+
+  /**
+   * Returns the node monitors that tasks for {@code request} may be placed on, given the node
+   * monitors running the request's application.
+   */
+  private Collection<InetSocketAddress> getNodesForRequest(
+      TSchedulingRequest request, List<InetSocketAddress> appBackends) {
+    if (request.isSetPartition()) {
+      return nodePartitioner.getNodes(appBackends, request.getPartition());
+    }
+    return appBackends;
+  }
+
+  /**
+   * Admits all of the given jobs, indexed by request ID, or none of them, if their users and
+   * groups are within their quotas (see {@link QuotaManager#acquire}) and the scheduler isn't
+   * overloaded (see {@link AdmissionController#admit}).
+   */
+  private void admit(Map<String, TSchedulingRequest> jobs) throws SchedulerOverloadedException {
+    try {
+      quotaManager.acquire(jobs.values());
+      try {
+        admissionController.admit(jobs);
+      } catch (SchedulerOverloadedException e) {
+        quotaManager.release(jobs.values());
+        throw e;
+      }
+    } catch (SchedulerOverloadedException e) {
+      jobsRejected.increment(jobs.size());
+      for (String requestId : jobs.keySet()) {
+        Logging.audit(AUDIT_LOG, "scheduler_job_rejected", requestId, e.getRetryAfterMillis());
+      }
+      throw e;
+    }
+  }
+
+  public void submitJobWithoutCheck(TSchedulingRequest request)
+      throws TException, SchedulerOverloadedException {
+    if (Tracing.isTraced(LOG)) {
+      LOG.trace(Tracing.call("submitJobWithoutCheck", request));
+    }
+
+    long start = System.nanoTime();
 
     String requestId = getRequestId();
+    admit(Collections.singletonMap(requestId, request));
+    logArrival(request, requestId);
+    TTraceContext trace = Tracer.startTrace(request.getTraceContext());
+    long submitSpanId = 0;
+    TTraceContext probeTrace = null;
+    if (trace != null) {
+      submitSpanId = Tracer.newId();
+      probeTrace = Tracer.child(trace, submitSpanId);
+    }
+
+    Collection<InetSocketAddress> backends = getNodesForRequest(
+        request, state.getBackends(request.getApp()).getNodes());
+    TaskPlacer taskPlacer = createTaskPlacer(request, requestId, probeTrace);
+    requestTaskPlacers.put(requestId, taskPlacer);
+    launchReporter.register(requestId, request);
+
+    Map<InetSocketAddress, TEnqueueTaskReservationsRequest> enqueueTaskReservationsRequests;
+    enqueueTaskReservationsRequests = taskPlacer.getEnqueueTaskReservationsRequests(
+        request, requestId, backends, address);
+    if (enqueueTaskReservationsRequests.isEmpty() && !(taskPlacer instanceof GangTaskPlacer)) {
+      LOG.warn("No node monitors to place request " + requestId + " on");
+      requestFinished(requestId);
+    } else {
+      sendEnqueueTaskReservations(requestId, enqueueTaskReservationsRequests, probeTrace,
+                                  getJobSignature(request));
+    }
 
+    long end = System.nanoTime();
+    long elapsedUs = (end - start) / 1000;
+    submitJobUs.record(elapsedUs);
+    if (trace != null) {
+      Tracer.record(trace, submitSpanId, "submit", traceAddress, Tracer.toEpochMicros(start),
+                    Tracer.toEpochMicros(end), requestId);
+    }
+    LOG.debug("All tasks enqueued for request " + requestId + "; returning. Total time: " +
+              elapsedUs + " microseconds");
+  }
+
+  /** Returns the request's job signature, or null if it doesn't have one. */
+  private static String getJobSignature(TSchedulingRequest request) {
+    return request.isSetJobSignature() ? request.getJobSignature() : null;
+  }
+
+  /**
+   * Request to enqueue a task at each of the selected nodes. If the job is traced, {@code trace}
+   * is the parent of the probe spans; otherwise it is null. {@code jobSignature} is passed on to
+   * the node monitors so they can estimate the tasks' runtimes, unless it is null.
+   */
+  private void sendEnqueueTaskReservations(
+      String requestId, Map<InetSocketAddress, TEnqueueTaskReservationsRequest> requests,
+      TTraceContext trace, String jobSignature) {
+    long start = System.nanoTime();
+    admissionController.reservationsSent(requestId, countReservations(requests));
+    for (Entry<InetSocketAddress, TEnqueueTaskReservationsRequest> entry : requests.entrySet())  {
+      entry.getValue().setGetTaskPort(getTaskPort);
+      if (jobSignature != null) {
+        entry.getValue().setJobSignature(jobSignature);
+      }
+      long probeSpanId = 0;
+      if (trace != null) {
+        probeSpanId = Tracer.newId();
+        entry.getValue().setTraceContext(Tracer.child(trace, probeSpanId));
+      }
+      InternalService.AsyncClient client = null;
+      try {
+        client = nodeMonitorClientPool.borrowClient(entry.getKey());
+        LOG.debug("Launching enqueueTask for request " + requestId + "on node: " + entry.getKey());
+        // Pass in null callback because the RPC doesn't return anything.
+        Logging.audit(AUDIT_LOG, "scheduler_launch_enqueue_task", entry.getValue().requestId,
+                      entry.getKey().getAddress().getHostAddress());
+        client.enqueueTaskReservations(entry.getValue(), new EnqueueTaskReservationsCallback(
+            requestId, entry.getKey(), entry.getValue(), trace, probeSpanId, client));
+      } catch (Exception e) {
+        LOG.error("Error enqueuing task on node " + entry.getKey().toString() + ":" + e);
+        handleEnqueueError(entry.getKey(), client);
+      }
+    }
+    reservationFanoutUs.recordMicrosSince(start);
+  }
+
+  /**
+   * Submits a batch of jobs. Each job is placed exactly as it would be by {@link #submitJob},
+   * but request IDs are allocated in a single block, the backends for each application are only
+   * looked up once, and the reservations for all of the jobs are grouped so that each node
+   * monitor receives a single enqueueTaskReservationsBatch() RPC.
+   */
+  public void submitJobs(List<TSchedulingRequest> requests)
+      throws TException, IncompleteRequestException, SchedulerOverloadedException {
+    if (Tracing.isTraced(LOG)) {
+      LOG.trace(Tracing.call("submitJobs", requests.size()));
+    }
+    // Check all of the requests first, so that either all or none of the jobs are submitted.
+    for (TSchedulingRequest request : requests) {
+      checkRequest(request);
+    }
+
+    long start = System.nanoTime();
+
+    int firstRequestNumber = counter.getAndAdd(requests.size());
+    Map<String, TSchedulingRequest> jobs = Maps.newLinkedHashMap();
+    for (int i = 0; i < requests.size(); i++) {
+      jobs.put(requestIdPrefix + (firstRequestNumber + i), requests.get(i));
+    }
+    admit(jobs);
+
+    HashMap<String, List<InetSocketAddress>> appBackends = Maps.newHashMap();
+    HashMap<InetSocketAddress, List<TEnqueueTaskReservationsRequest>> nodeMonitorRequests =
+        Maps.newHashMap();
+    // For each traced request, indexed by request ID, the request's trace and the parent of its
+    // probe spans (i.e., its submit span).
+    HashMap<String, TTraceContext> traces = Maps.newHashMap();
+    HashMap<String, TTraceContext> probeTraces = Maps.newHashMap();
+
+    for (Entry<String, TSchedulingRequest> job : jobs.entrySet()) {
+      TSchedulingRequest request = job.getValue();
+      String requestId = job.getKey();
+      logArrival(request, requestId);
+      TTraceContext trace = Tracer.startTrace(request.getTraceContext());
+      TTraceContext probeTrace = null;
+      if (trace != null) {
+        probeTrace = Tracer.child(trace, Tracer.newId());
+        traces.put(requestId, trace);
+        probeTraces.put(requestId, probeTrace);
+      }
+
+      List<InetSocketAddress> backends = appBackends.get(request.getApp());
+      if (backends == null) {
+        backends = state.getBackends(request.getApp()).getNodes();
+        appBackends.put(request.getApp(), backends);
+      }
+
+      TaskPlacer taskPlacer = createTaskPlacer(request, requestId, probeTrace);
+      requestTaskPlacers.put(requestId, taskPlacer);
+      launchReporter.register(requestId, request);
+
+      Map<InetSocketAddress, TEnqueueTaskReservationsRequest> placement =
+          taskPlacer.getEnqueueTaskReservationsRequests(
+              request, requestId, getNodesForRequest(request, backends), address);
+      if (placement.isEmpty() && !(taskPlacer instanceof GangTaskPlacer)) {
+        LOG.warn("No node monitors to place request " + requestId + " on");
+        requestFinished(requestId);
+        continue;
+      }
+      admissionController.reservationsSent(requestId, countReservations(placement));
+      for (Entry<InetSocketAddress, TEnqueueTaskReservationsRequest> entry :
+        placement.entrySet()) {
+        entry.getValue().setGetTaskPort(getTaskPort);
+        if (request.isSetJobSignature()) {
+          entry.getValue().setJobSignature(request.getJobSignature());
+        }
+        List<TEnqueueTaskReservationsRequest> nodeMonitorBatch =
+            nodeMonitorRequests.get(entry.getKey());
+        if (nodeMonitorBatch == null) {
+          nodeMonitorBatch = Lists.newArrayList();
+          nodeMonitorRequests.put(entry.getKey(), nodeMonitorBatch);
+        }
+        nodeMonitorBatch.add(entry.getValue());
+      }
+    }
+
+    long fanoutStart = System.nanoTime();
+    for (Entry<InetSocketAddress, List<TEnqueueTaskReservationsRequest>> entry :
+      nodeMonitorRequests.entrySet()) {
+      InternalService.AsyncClient client = null;
+      try {
+        client = nodeMonitorClientPool.borrowClient(entry.getKey());
+        LOG.debug("Launching enqueueTaskReservationsBatch with " + entry.getValue().size() +
+                  " requests on node: " + entry.getKey());
+        EnqueueTaskReservationsBatchCallback callback = new EnqueueTaskReservationsBatchCallback(
+            entry.getValue(), entry.getKey(), client);
+        for (TEnqueueTaskReservationsRequest request : entry.getValue()) {
+          TTraceContext probeTrace = probeTraces.get(request.getRequestId());
+          if (probeTrace != null) {
+            long probeSpanId = Tracer.newId();
+            request.setTraceContext(Tracer.child(probeTrace, probeSpanId));
+            callback.traces.add(probeTrace);
+            callback.probeSpanIds.add(probeSpanId);
+          }
+        }
+        Logging.audit(AUDIT_LOG, "scheduler_launch_enqueue_task_batch", entry.getValue().size(),
+                      entry.getKey().getAddress().getHostAddress());
+        client.enqueueTaskReservationsBatch(entry.getValue(), callback);
+      } catch (Exception e) {
+        LOG.error("Error enqueuing tasks on node " + entry.getKey().toString() + ":" + e);
+        handleEnqueueError(entry.getKey(), client);
+      }
+    }
+
+    reservationFanoutUs.recordMicrosSince(fanoutStart);
+
+    long end = System.nanoTime();
+    long elapsedUs = (end - start) / 1000;
+    submitJobsUs.record(elapsedUs);
+    for (Entry<String, TTraceContext> entry : traces.entrySet()) {
+      long submitSpanId = probeTraces.get(entry.getKey()).getSpanId();
+      Tracer.record(entry.getValue(), submitSpanId, "submit", traceAddress,
+                    Tracer.toEpochMicros(start), Tracer.toEpochMicros(end), entry.getKey());
+    }
+    LOG.debug("All tasks enqueued for " + requests.size() + " requests at " +
+              nodeMonitorRequests.size() + " node monitors; returning. Total time: " +
+              elapsedUs + " microseconds");
+  }
+
+  private void logArrival(TSchedulingRequest request, String requestId) {
     // Logging the address here is somewhat redundant, since all of the
     // messages in this particular log file come from the same address.
     // However, it simplifies the process of aggregating the logs, and will
     // also be useful when we support multiple daemons running on a single
     // machine.
-    AUDIT_LOG.info(Logging.auditEventString("arrived", requestId,
-                                            request.getTasks().size(),
-                                            address.getHost(), address.getPort(),
-                                            request.getUser().getUser()));
-
-    String app = request.getApp();
-    List<TTaskSpec> tasks = request.getTasks();
-    Set<InetSocketAddress> backends = state.getBackends(app).keySet();
+    Logging.audit(AUDIT_LOG, "arrived", requestId, request.getTasks().size(), address.getHost(),
+                  address.getPort(), request.getUser().getUser());
+  }
+
+  /**
+   * Returns a new task placer for {@code request}, chosen based on whether it is gang-scheduled
+   * and on its placement constraints. {@code trace} is the parent of the job's probe spans, or
+   * null if the job isn't traced.
+   */
+  private TaskPlacer createTaskPlacer(TSchedulingRequest request, String requestId,
+                                      TTraceContext trace) {
+    if (request.isSetGang() && request.isGang()) {
+      double probeRatio = defaultProbeRatioUnconstrained;
+      if (request.isSetProbeRatio()) {
+        probeRatio = request.getProbeRatio();
+      }
+      GangTaskPlacer taskPlacer = new GangTaskPlacer(requestId, probeRatio, gangMaxAttempts,
+                                                     new NodeMonitorGangReleaser());
+      gangTimer.schedule(new GangTimeout(requestId, taskPlacer, trace,
+                                         getJobSignature(request)),
+                         gangTimeoutMs, TimeUnit.MILLISECONDS);
+      return taskPlacer;
+    }
+
+    TaskPlacer taskPlacer = createTaskPlacer(request, requestId, defaultProbeRatioUnconstrained,
+                                             defaultProbeRatioConstrained, rackTopology);
+    if (taskPlacer instanceof UnconstrainedTaskPlacer) {
+      ((UnconstrainedTaskPlacer) taskPlacer).setLoadCache(nodeLoads, loadCacheCandidateRatio);
+      ((UnconstrainedTaskPlacer) taskPlacer).setHealth(nodeMonitorHealth);
+    } else if (taskPlacer instanceof ConstrainedTaskPlacer) {
+      ((ConstrainedTaskPlacer) taskPlacer).setHealth(nodeMonitorHealth);
+    }
+    return taskPlacer;
+  }
+
+  /**
+   * Returns a new task placer for {@code request}, which must not be gang-scheduled, chosen based
+   * on its placement constraints.
+   */
+  static TaskPlacer createTaskPlacer(TSchedulingRequest request, String requestId,
+      double defaultProbeRatioUnconstrained, double defaultProbeRatioConstrained,
+      RackTopology rackTopology) {
     boolean constrained = false;
-    for (TTaskSpec task : tasks) {
+    boolean localityAware = false;
+    for (TTaskSpec task : request.getTasks()) {
       constrained = constrained || (
           task.preference != null &&
           task.preference.nodes != null &&
           !task.preference.nodes.isEmpty());
+      localityAware = localityAware || (
+          task.preference != null &&
+          ((task.preference.racks != null && !task.preference.racks.isEmpty()) ||
+           task.preference.delayThreshold > 0));
     }
 
-    TaskPlacer taskPlacer;
-    if (constrained) {
+    if (localityAware) {
+      if (request.isSetProbeRatio()) {
+        return new LocalityTaskPlacer(requestId, request.getProbeRatio(), rackTopology);
+      } else {
+        return new LocalityTaskPlacer(requestId, defaultProbeRatioConstrained, rackTopology);
+      }
+    } else if (constrained) {
       if (request.isSetProbeRatio()) {
-        taskPlacer = new ConstrainedTaskPlacer(requestId, request.getProbeRatio());
+        return new ConstrainedTaskPlacer(requestId, request.getProbeRatio());
       } else {
-        taskPlacer = new ConstrainedTaskPlacer(requestId, defaultProbeRatioConstrained);
+        return new ConstrainedTaskPlacer(requestId, defaultProbeRatioConstrained);
       }
     } else {
       if (request.isSetProbeRatio()) {
-        taskPlacer = new UnconstrainedTaskPlacer(requestId, request.getProbeRatio());
+        return new UnconstrainedTaskPlacer(requestId, request.getProbeRatio());
       } else {
-        taskPlacer = new UnconstrainedTaskPlacer(requestId, defaultProbeRatioUnconstrained);
+        return new UnconstrainedTaskPlacer(requestId, defaultProbeRatioUnconstrained);
       }
     }
-    requestTaskPlacers.put(requestId, taskPlacer);
-
-    Map<InetSocketAddress, TEnqueueTaskReservationsRequest> enqueueTaskReservationsRequests;
-    enqueueTaskReservationsRequests = taskPlacer.getEnqueueTaskReservationsRequests(
-        request, requestId, backends, address);
+  }
 
-    // Request to enqueue a task at each of the selected nodes.
-    for (Entry<InetSocketAddress, TEnqueueTaskReservationsRequest> entry :
-      enqueueTaskReservationsRequests.entrySet())  {
-      try {
-        InternalService.AsyncClient client = nodeMonitorClientPool.borrowClient(entry.getKey());
-        LOG.debug("Launching enqueueTask for request " + requestId + "on node: " + entry.getKey());
-        // Pass in null callback because the RPC doesn't return anything.
-        AUDIT_LOG.debug(Logging.auditEventString(
-            "scheduler_launch_enqueue_task", entry.getValue().requestId,
-            entry.getKey().getAddress().getHostAddress()));
-        client.enqueueTaskReservations(
-            entry.getValue(), new EnqueueTaskReservationsCallback(requestId, entry.getKey()));
-      } catch (Exception e) {
-        LOG.error("Error enqueuing task on node " + entry.getKey().toString() + ":" + e);
-      }
+  /**
+   * Handles a getTask() call from a node monitor. {@code traceContext} is the node monitor's
+   * fetch span if the job is traced, and null otherwise. {@code nodeLoad} is the node monitor's
+   * current load, or null if it didn't send it. {@code originalNodeMonitor} is the node monitor
+   * that the reservation was enqueued on if {@code nodeMonitorAddress} stole it, and null
+   * otherwise; the reservation is accounted for at the original node monitor, because that is
+   * where this scheduler sent it.
+   */
+  public List<TTaskLaunchSpec> getTask(String requestId, THostPort nodeMonitorAddress,
+                                       TTraceContext traceContext, TNodeLoad nodeLoad,
+                                       THostPort originalNodeMonitor) {
+    /* We know this will only be called in a dedicated thread. */
+    if (Tracing.isTraced(LOG)) {
+      LOG.trace(Tracing.call("getTask", requestId, nodeMonitorAddress, nodeLoad,
+                             originalNodeMonitor));
     }
-
-    long end = System.currentTimeMillis();
-    LOG.debug("All tasks enqueued for request " + requestId + "; returning. Total time: " +
-              (end - start) + " milliseconds");
+    long start = System.nanoTime();
+    if (nodeLoad != null) {
+      nodeLoads.update(nodeMonitorAddress, nodeLoad);
+    }
+    List<TTaskLaunchSpec> taskLaunchSpecs = assignTask(requestId, nodeMonitorAddress,
+        originalNodeMonitor != null ? originalNodeMonitor : nodeMonitorAddress);
+    if (taskLaunchSpecs.isEmpty()) {
+      getTaskEmpty.increment();
+    }
+    long end = System.nanoTime();
+    getTaskServiceUs.record((end - start) / 1000);
+    if (traceContext != null) {
+      Tracer.record(traceContext, Tracer.newId(), "assign", traceAddress,
+                    Tracer.toEpochMicros(start), Tracer.toEpochMicros(end),
+                    taskLaunchSpecs.isEmpty() ? "no task" : taskLaunchSpecs.get(0).getTaskId());
+    }
+    return taskLaunchSpecs;
   }
 
-  public List<TTaskLaunchSpec> getTask(
-      String requestId, THostPort nodeMonitorAddress) {
-    /* We know this will only be called in a dedicated thread. */
-    Long t0 = System.nanoTime();
-    LOG.debug(Logging.functionCall(requestId, nodeMonitorAddress));
+  private List<TTaskLaunchSpec> assignTask(String requestId, THostPort nodeMonitorAddress,
+                                           THostPort reservationAddress) {
     if (!requestTaskPlacers.containsKey(requestId)) {
       LOG.error("Received getTask() request for request " + requestId + " which had no more " +
           "pending reservations");
@@ -312,19 +956,24 @@ public class Scheduler {
                 taskLaunchSpecs.toString());
       return Lists.newArrayList();
     } else if (taskLaunchSpecs.size() == 1) {
-      AUDIT_LOG.info(Logging.auditEventString("scheduler_assigned_task", requestId,
-          taskLaunchSpecs.get(0).taskId,
-          nodeMonitorAddress.getHost()));
+      admissionController.taskLaunched(requestId);
+      launchReporter.taskLaunched(requestId, taskLaunchSpecs.get(0).getTaskId());
+      Logging.audit(AUDIT_LOG, "scheduler_assigned_task", requestId, taskLaunchSpecs.get(0).taskId,
+                    nodeMonitorAddress.getHost());
     } else {
-      AUDIT_LOG.info(Logging.auditEventString("scheduler_get_task_no_task", requestId));
+      Logging.audit(AUDIT_LOG, "scheduler_get_task_no_task", requestId);
     }
-    if (taskPlacer.allResponsesReceived()) {
+    // Reservations at failed node monitors are given up, so the request may finish before the
+    // task placer has received all of its responses.
+    boolean finished = admissionController.reservationAnswered(requestId,
+        new InetSocketAddress(reservationAddress.getHost(), reservationAddress.getPort()));
+    if (taskPlacer.allResponsesReceived() ||
+        (abandonedRequests.contains(requestId) && !taskPlacer.hasUnlaunchedTasks())) {
       LOG.debug("All responses received for request " + requestId);
-      // Remove the entry in requestTaskPlacers once all tasks have been placed, so that
-      // requestTaskPlacers doesn't grow to be unbounded.
-      requestTaskPlacers.remove(requestId);
+      requestFinished(requestId);
+    } else if (finished) {
+      reservationsGivenUp(requestId);
     }
-    System.out.println("Took: " + (System.nanoTime() - t0) + " ns");
     return taskLaunchSpecs;
   }
 
@@ -333,15 +982,12 @@ public class Scheduler {
    *
    * This should only be called once for each request (it will return a different
    * identifier if called a second time).
-   *
-   * TODO: Include the port number, so this works when there are multiple schedulers
-   * running on a single machine (as there will be when we do large scale testing).
    */
   private String getRequestId() {
-    /* The request id is a string that includes the IP address of this scheduler followed
-     * by the counter.  We use a counter rather than a hash of the request because there
+    /* The request id is a string that includes the IP address and port of this scheduler
+     * followed by the counter.  We use a counter rather than a hash of the request because there
      * may be multiple requests to run an identical job. */
-    return String.format("%s_%d", Network.getIPAddress(conf), counter.getAndIncrement());
+    return requestIdPrefix + counter.getAndIncrement();
   }
 
   private class sendFrontendMessageCallback implements
@@ -366,7 +1012,9 @@ public class Scheduler {
 
   public void sendFrontendMessage(String app, TFullTaskId taskId,
       int status, ByteBuffer message) {
-    LOG.debug(Logging.functionCall(app, taskId, message));
+    if (Tracing.isTraced(LOG)) {
+      LOG.trace(Tracing.call("sendFrontendMessage", app, taskId, message));
+    }
     InetSocketAddress frontend = frontendSockets.get(app);
     if (frontend == null) {
       LOG.error("Requested message sent to unregistered app: " + app);
@@ -1,13 +1,9 @@
 package edu.berkeley.sparrow.daemon.scheduler;
 
 import java.io.IOException;
-import java.net.InetSocketAddress;
-import java.util.concurrent.ConcurrentMap;
 
 import org.apache.commons.configuration.Configuration;
 
-import edu.berkeley.sparrow.thrift.TResourceVector;
-
 /**
  * State storage for the Sparrow {@link Scheduler}. This is stored in its
  * own class since state storage may involve communicating to external services
@@ -30,8 +26,8 @@ public interface SchedulerState {
   
   /**
    * Get the backends available for a particular application. Each backend includes a
-   * resource vector giving current available resources. TODO: this might be changed
-   * to include more detailed information per-node.
+   * resource vector giving current available resources. The returned snapshot is immutable
+   * and cheap to obtain, so it should be fetched once per job rather than cached.
    */
-  public ConcurrentMap<InetSocketAddress, TResourceVector> getBackends(String appId);
+  public BackendIndex.Snapshot getBackends(String appId);
 }
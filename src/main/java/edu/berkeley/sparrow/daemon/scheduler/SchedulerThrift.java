@@ -11,12 +11,16 @@ import org.apache.thrift.TException;
 import edu.berkeley.sparrow.daemon.SparrowConf;
 import edu.berkeley.sparrow.daemon.util.Network;
 import edu.berkeley.sparrow.daemon.util.TServers;
+import edu.berkeley.sparrow.thrift.IncompleteRequestException;
+import edu.berkeley.sparrow.thrift.SchedulerOverloadedException;
 import edu.berkeley.sparrow.thrift.SchedulerService;
 import edu.berkeley.sparrow.thrift.GetTaskService;
 import edu.berkeley.sparrow.thrift.TFullTaskId;
 import edu.berkeley.sparrow.thrift.THostPort;
+import edu.berkeley.sparrow.thrift.TNodeLoad;
 import edu.berkeley.sparrow.thrift.TSchedulingRequest;
 import edu.berkeley.sparrow.thrift.TTaskLaunchSpec;
+import edu.berkeley.sparrow.thrift.TTraceContext;
 
 /**
  * This class extends the thrift sparrow scheduler interface. It wraps the
@@ -59,12 +63,28 @@ public class SchedulerThrift implements SchedulerService.Iface, GetTaskService.I
     return scheduler.registerFrontend(app, socketAddress);
   }
 
+  @Override
+  public int getLoadHint() {
+    return scheduler.getLoadHint();
+  }
+
+  @Override
+  public void cancelJobs(List<String> jobIds) {
+    scheduler.cancelJobs(jobIds);
+  }
+
   @Override
   public void submitJob(TSchedulingRequest req)
-      throws TException {
+      throws TException, IncompleteRequestException, SchedulerOverloadedException {
     scheduler.submitJob(req);
   }
 
+  @Override
+  public void submitJobs(List<TSchedulingRequest> reqs)
+      throws TException, IncompleteRequestException, SchedulerOverloadedException {
+    scheduler.submitJobs(reqs);
+  }
+
   @Override
   public void sendFrontendMessage(String app, TFullTaskId taskId,
       int status, ByteBuffer message) throws TException {
@@ -72,8 +92,11 @@ public class SchedulerThrift implements SchedulerService.Iface, GetTaskService.I
   }
 
   @Override
-  public List<TTaskLaunchSpec> getTask(String requestId, THostPort nodeMonitorAddress)
+  public List<TTaskLaunchSpec> getTask(String requestId, THostPort nodeMonitorAddress,
+                                       TTraceContext traceContext, TNodeLoad nodeLoad,
+                                       THostPort originalNodeMonitor)
       throws TException {
-    return scheduler.getTask(requestId, nodeMonitorAddress);
+    return scheduler.getTask(requestId, nodeMonitorAddress, traceContext, nodeLoad,
+                             originalNodeMonitor);
   }
 }
\ No newline at end of file
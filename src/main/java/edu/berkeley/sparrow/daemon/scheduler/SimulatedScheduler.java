@@ -0,0 +1,85 @@
+package edu.berkeley.sparrow.daemon.scheduler;
+
+import java.net.InetSocketAddress;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.log4j.Logger;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+import edu.berkeley.sparrow.daemon.SparrowConf;
+import edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest;
+import edu.berkeley.sparrow.thrift.THostPort;
+import edu.berkeley.sparrow.thrift.TSchedulingRequest;
+import edu.berkeley.sparrow.thrift.TTaskLaunchSpec;
+
+/**
+ * The task placement logic of a {@link Scheduler}, without any communication, for use in
+ * simulations. Jobs are placed using the same {@link TaskPlacer}s that the scheduler uses, and
+ * the caller is responsible for delivering reservations to node monitors and getTask() calls
+ * to this class.
+ *
+ * Gang-scheduled jobs are not supported. Not thread safe.
+ */
+public class SimulatedScheduler {
+  private final static Logger LOG = Logger.getLogger(SimulatedScheduler.class);
+
+  private THostPort address;
+  private double defaultProbeRatioUnconstrained;
+  private double defaultProbeRatioConstrained;
+  private RackTopology rackTopology;
+  private HashMap<String, TaskPlacer> requestTaskPlacers = Maps.newHashMap();
+
+  public SimulatedScheduler(THostPort address, Configuration conf) {
+    this.address = address;
+    defaultProbeRatioUnconstrained = conf.getDouble(SparrowConf.SAMPLE_RATIO,
+        SparrowConf.DEFAULT_SAMPLE_RATIO);
+    defaultProbeRatioConstrained = conf.getDouble(SparrowConf.SAMPLE_RATIO_CONSTRAINED,
+        SparrowConf.DEFAULT_SAMPLE_RATIO_CONSTRAINED);
+    rackTopology = RackTopology.fromConfiguration(conf);
+  }
+
+  public THostPort getAddress() {
+    return address;
+  }
+
+  /**
+   * Places the given job on {@code nodes}, and returns the reservations that should be
+   * enqueued on each node monitor.
+   */
+  public Map<InetSocketAddress, TEnqueueTaskReservationsRequest> submitJob(
+      TSchedulingRequest request, String requestId, Collection<InetSocketAddress> nodes) {
+    if (request.isSetGang() && request.isGang()) {
+      throw new IllegalArgumentException("Gang-scheduled jobs can't be simulated");
+    }
+    TaskPlacer taskPlacer = Scheduler.createTaskPlacer(request, requestId,
+        defaultProbeRatioUnconstrained, defaultProbeRatioConstrained, rackTopology);
+    requestTaskPlacers.put(requestId, taskPlacer);
+    return taskPlacer.getEnqueueTaskReservationsRequests(request, requestId, nodes, address);
+  }
+
+  /** Handles a getTask() call, as {@link Scheduler#getTask} does. */
+  public List<TTaskLaunchSpec> getTask(String requestId, THostPort nodeMonitorAddress) {
+    TaskPlacer taskPlacer = requestTaskPlacers.get(requestId);
+    if (taskPlacer == null) {
+      LOG.error("Received getTask() request for request " + requestId + " which had no more " +
+          "pending reservations");
+      return Lists.newArrayList();
+    }
+    List<TTaskLaunchSpec> taskLaunchSpecs = taskPlacer.assignTask(nodeMonitorAddress);
+    if (taskPlacer.allResponsesReceived()) {
+      requestTaskPlacers.remove(requestId);
+    }
+    return taskLaunchSpecs;
+  }
+
+  /** Returns the number of jobs for which some reservations have not yet been responded to. */
+  public int numOutstandingRequests() {
+    return requestTaskPlacers.size();
+  }
+}
@@ -1,12 +1,8 @@
 package edu.berkeley.sparrow.daemon.scheduler;
 
-import java.net.InetSocketAddress;
-import java.util.concurrent.ConcurrentMap;
-
 import org.apache.commons.configuration.Configuration;
 
 import edu.berkeley.sparrow.daemon.StandaloneStateStore;
-import edu.berkeley.sparrow.thrift.TResourceVector;
 
 /**
  * Implementation of state storage for use in a standalone deployment of 
@@ -24,7 +20,7 @@ public class StandaloneSchedulerState implements SchedulerState {
   }
   
   @Override
-  public ConcurrentMap<InetSocketAddress, TResourceVector> getBackends(String appId) {
+  public BackendIndex.Snapshot getBackends(String appId) {
     return state.getBackends(appId);
   }
 }
@@ -2,24 +2,32 @@ package edu.berkeley.sparrow.daemon.scheduler;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.Set;
 
 import org.apache.commons.configuration.Configuration;
 import org.apache.log4j.Logger;
 import org.apache.thrift.TException;
 
 import com.google.common.base.Optional;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 
 import edu.berkeley.sparrow.daemon.SparrowConf;
+import edu.berkeley.sparrow.daemon.util.ConfigUtil;
 import edu.berkeley.sparrow.daemon.util.Network;
-import edu.berkeley.sparrow.daemon.util.Logging;
 import edu.berkeley.sparrow.daemon.util.Serialization;
 import edu.berkeley.sparrow.daemon.util.TClients;
 import edu.berkeley.sparrow.daemon.util.TResources;
 import edu.berkeley.sparrow.daemon.util.TServers;
+import edu.berkeley.sparrow.daemon.util.Tracing;
 import edu.berkeley.sparrow.thrift.SchedulerStateStoreService;
 import edu.berkeley.sparrow.thrift.StateStoreService;
 import edu.berkeley.sparrow.thrift.TNodeState;
@@ -28,6 +36,12 @@ import edu.berkeley.sparrow.thrift.TResourceVector;
 /**
  * {@link SchedulerState} implementation which relies on asynchronous updates from a 
  * central state store.
+ *
+ * If the state store is sharded, each shard sends the state of the node monitors it owns,
+ * and the most recent snapshot from each shard is kept until that shard hasn't sent one for
+ * the shard timeout. The backends are the union of the live shards' snapshots; when a node
+ * monitor moves between shards it can briefly appear in two snapshots, in which case the most
+ * recently received state wins.
  */
 public class StateStoreSchedulerState implements SchedulerState, 
                                                  SchedulerStateStoreService.Iface {
@@ -35,29 +49,61 @@ public class StateStoreSchedulerState implements SchedulerState,
   public static int DEFAULT_SCHEDULER_STATE_THRIFT_THREADS = 2;
   
   private final static Logger LOG = Logger.getLogger(StateStoreSchedulerState.class);
-  private ConcurrentMap<InetSocketAddress, TResourceVector> nodeMonitors = 
-      new ConcurrentHashMap<InetSocketAddress, TResourceVector>();
+  private BackendIndex nodeMonitors = new BackendIndex();
+
+  /**
+   * Applications that frontends have registered for. Node monitors that don't report which
+   * applications they run are treated as running all of these.
+   */
+  private Set<String> watchedApps = Sets.newSetFromMap(Maps.<String, Boolean>newConcurrentMap());
+
+  /** A snapshot from one state store shard, and when it was received. */
+  private static class ShardSnapshot {
+    long receivedMillis;
+    Map<String, TNodeState> nodes;
+
+    ShardSnapshot(long receivedMillis, Map<String, TNodeState> nodes) {
+      this.receivedMillis = receivedMillis;
+      this.nodes = nodes;
+    }
+  }
+
+  /** The most recent snapshot from each state store shard. Guarded by this. */
+  private Map<String, ShardSnapshot> shardSnapshots = Maps.newHashMap();
+  private long shardTimeoutMillis = SparrowConf.DEFAULT_STATE_STORE_SHARD_TIMEOUT_MS;
   
   @Override
   public void initialize(Configuration conf) throws IOException {
-    String stateStoreHost = conf.getString(SparrowConf.STATE_STORE_HOST, 
-        SparrowConf.DEFAULT_STATE_STORE_HOST);
-    int stateStorePort = conf.getInt(SparrowConf.STATE_STORE_PORT,
-        SparrowConf.DEFAULT_STATE_STORE_PORT);
-    StateStoreService.Client client = TClients.createBlockingStateStoreClient(
-        stateStoreHost, stateStorePort);
+    shardTimeoutMillis = conf.getInt(SparrowConf.STATE_STORE_SHARD_TIMEOUT_MS,
+        SparrowConf.DEFAULT_STATE_STORE_SHARD_TIMEOUT_MS);
     int port = conf.getInt(SparrowConf.SCHEDULER_STATE_THRIFT_PORT, 
         DEFAULT_SCHEDULER_STATE_THRIFT_PORT);
     /* TODO: It's not clear whether this will always give us the right hostname.
      *       We might want to add a configuration option to set the hostname to use.*/ 
     String hostname = Network.getHostName(conf);
-    try {
-      client.registerScheduler(hostname + ":" + port);
-    } catch (TException e) {
+    // Register with every shard, so that whichever shards are live can update this scheduler.
+    List<InetSocketAddress> stateStores = ConfigUtil.parseStateStores(conf);
+    int registered = 0;
+    for (InetSocketAddress stateStore : stateStores) {
+      String stateStoreHost = stateStore.getHostName();
+      try {
+        StateStoreService.Client client = TClients.createBlockingStateStoreClient(
+            stateStoreHost, stateStore.getPort());
+        client.registerScheduler(hostname + ":" + port);
+        client.getInputProtocol().getTransport().close();
+        registered++;
+        LOG.info("Registered with state store at " + stateStoreHost + ":" +
+                 stateStore.getPort());
+      } catch (IOException e) {
+        LOG.warn("Unable to connect to state store at " + stateStore, e);
+      } catch (TException e) {
+        LOG.warn("Error registering scheduler with state store at " + stateStore, e);
+      }
+    }
+    if (registered == 0) {
       LOG.fatal("Error registering scheduler with state store");
-      throw new IOException(e);
+      throw new IOException("Unable to register with any state store: " + stateStores);
     }
-    LOG.info("Registered with state store at " + stateStoreHost + ":" + stateStorePort);
     SchedulerStateStoreService.Processor<SchedulerStateStoreService.Iface> processor = 
         new SchedulerStateStoreService.Processor<SchedulerStateStoreService.Iface>(this);
     int threads = conf.getInt(SparrowConf.SCHEDULER_STATE_THRIFT_THREADS, 
@@ -68,20 +114,55 @@ public class StateStoreSchedulerState implements SchedulerState,
 
   @Override
   public boolean watchApplication(String appId) {
-    // TODO Auto-generated method stub
-    return false;
+    watchedApps.add(appId);
+    return true;
   }
 
   @Override
-  public ConcurrentMap<InetSocketAddress, TResourceVector> getBackends(
-      String appId) {
-    return nodeMonitors;
+  public BackendIndex.Snapshot getBackends(String appId) {
+    return nodeMonitors.getBackends(appId);
   }
 
   @Override
-  public void updateNodeState(Map<String, TNodeState> snapshot)
+  public synchronized void updateNodeState(Map<String, TNodeState> snapshot, String shard)
       throws TException {
-    LOG.debug(Logging.functionCall(snapshot));
+    if (Tracing.isTraced(LOG)) {
+      LOG.trace(Tracing.call("updateNodeState", snapshot, shard));
+    }
+    long now = System.currentTimeMillis();
+    shardSnapshots.put(shard == null ? "" : shard, new ShardSnapshot(now, snapshot));
+    List<ShardSnapshot> live = Lists.newArrayList();
+    Iterator<ShardSnapshot> it = shardSnapshots.values().iterator();
+    while (it.hasNext()) {
+      ShardSnapshot shardSnapshot = it.next();
+      if (now - shardSnapshot.receivedMillis > shardTimeoutMillis) {
+        it.remove();
+      } else {
+        live.add(shardSnapshot);
+      }
+    }
+    if (live.size() > 1) {
+      // Merge oldest first, so that the most recent state of each node monitor wins.
+      Collections.sort(live, new Comparator<ShardSnapshot>() {
+        @Override
+        public int compare(ShardSnapshot a, ShardSnapshot b) {
+          return a.receivedMillis < b.receivedMillis ? -1 :
+              (a.receivedMillis == b.receivedMillis ? 0 : 1);
+        }
+      });
+      snapshot = Maps.newHashMap();
+      for (ShardSnapshot shardSnapshot : live) {
+        snapshot.putAll(shardSnapshot.nodes);
+      }
+    }
+
+    // The snapshots describe every node monitor, so the index is rebuilt from scratch.
+    HashMap<String, Map<InetSocketAddress, TResourceVector>> appBackends = Maps.newHashMap();
+    for (String app : watchedApps) {
+      appBackends.put(app, new HashMap<InetSocketAddress, TResourceVector>());
+    }
+    List<InetSocketAddress> unknownAppNodes = Lists.newArrayList();
+    List<TResourceVector> unknownAppResources = Lists.newArrayList();
     for (Entry<String, TNodeState> entry : snapshot.entrySet()) {
       Optional<InetSocketAddress> address = Serialization.strToSocket(entry.getKey());
       if (!address.isPresent()) {
@@ -92,8 +173,26 @@ public class StateStoreSchedulerState implements SchedulerState,
       // For now, simply combine Sparrow and external resource usage
       TResourceVector total = TResources.add(entry.getValue().getExternalUsage(), 
           entry.getValue().getSparrowUsage());
-      nodeMonitors.put(address.get(), total);
+      if (!entry.getValue().isSetApps()) {
+        unknownAppNodes.add(address.get());
+        unknownAppResources.add(total);
+        continue;
+      }
+      for (String app : entry.getValue().getApps()) {
+        Map<InetSocketAddress, TResourceVector> backends = appBackends.get(app);
+        if (backends == null) {
+          backends = new HashMap<InetSocketAddress, TResourceVector>();
+          appBackends.put(app, backends);
+        }
+        backends.put(address.get(), total);
+      }
+    }
+    for (Map<InetSocketAddress, TResourceVector> backends : appBackends.values()) {
+      for (int i = 0; i < unknownAppNodes.size(); ++i) {
+        backends.put(unknownAppNodes.get(i), unknownAppResources.get(i));
+      }
     }
+    nodeMonitors.replaceAll(appBackends);
   }
 
 }
@@ -45,4 +45,7 @@ public interface TaskPlacer {
 
   /** Returns true if all node monitors where task reservations were enqueued have replied. */
   public boolean allResponsesReceived();
+
+  /** Returns true if some of the job's tasks have not been launched yet. */
+  public boolean hasUnlaunchedTasks();
 }
@@ -3,10 +3,12 @@ package edu.berkeley.sparrow.daemon.scheduler;
 import java.net.InetSocketAddress;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.log4j.Logger;
@@ -14,9 +16,10 @@ import org.apache.log4j.Logger;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 
-import edu.berkeley.sparrow.daemon.util.Logging;
+import edu.berkeley.sparrow.daemon.util.Tracing;
 import edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest;
 import edu.berkeley.sparrow.thrift.THostPort;
+import edu.berkeley.sparrow.thrift.TNodeLoad;
 import edu.berkeley.sparrow.thrift.TResourceVector;
 import edu.berkeley.sparrow.thrift.TSchedulingRequest;
 import edu.berkeley.sparrow.thrift.TTaskLaunchSpec;
@@ -24,6 +27,11 @@ import edu.berkeley.sparrow.thrift.TTaskSpec;
 
 /**
  * A task placer for jobs whose tasks have no placement constraints.
+ *
+ * If the job needs no more reservations than there are nodes, each reservation is placed on a
+ * different, randomly sampled node. Otherwise (e.g., for jobs with many more tasks than the
+ * cluster has nodes), every node gets reservations in proportion to its free capacity, and each
+ * node receives all of its reservations in a single multi-task request.
  */
 public class UnconstrainedTaskPlacer implements TaskPlacer {
   private static final Logger LOG = Logger.getLogger(UnconstrainedTaskPlacer.class);
@@ -44,6 +52,18 @@ public class UnconstrainedTaskPlacer implements TaskPlacer {
 
   private double probeRatio;
 
+  private Random random = new Random();
+
+  /**
+   * If set, reservations are placed on the least loaded (according to the cache) of
+   * candidateRatio times as many random nodes as there are reservations.
+   */
+  private NodeLoadCache loadCache = null;
+  private double candidateRatio = 1;
+
+  /** If set, quarantined node monitors are only sampled if there aren't enough others. */
+  private NodeMonitorHealth health = null;
+
   UnconstrainedTaskPlacer(String requestId, double probeRatio) {
     this.requestId = requestId;
     this.probeRatio = probeRatio;
@@ -51,37 +71,37 @@ public class UnconstrainedTaskPlacer implements TaskPlacer {
     this.numOutstandingReservations = new AtomicInteger(0);
   }
 
+  void setLoadCache(NodeLoadCache loadCache, double candidateRatio) {
+    this.loadCache = loadCache;
+    this.candidateRatio = candidateRatio;
+  }
+
+  void setHealth(NodeMonitorHealth health) {
+    this.health = health;
+  }
+
   @Override
   public Map<InetSocketAddress, TEnqueueTaskReservationsRequest>
       getEnqueueTaskReservationsRequests(
           TSchedulingRequest schedulingRequest, String requestId,
           Collection<InetSocketAddress> nodes, THostPort schedulerAddress) {
-    LOG.debug(Logging.functionCall(schedulingRequest, requestId, nodes, schedulerAddress));
+    if (Tracing.isTraced(LOG)) {
+      LOG.trace(Tracing.call("getEnqueueTaskReservationsRequests",
+                             schedulingRequest, requestId, nodes, schedulerAddress));
+    }
 
     int numTasks = schedulingRequest.getTasks().size();
     int reservationsToLaunch = (int) Math.ceil(probeRatio * numTasks);
-    reservationsToLaunch = Math.min(reservationsToLaunch, nodes.size());
+    if (health != null) {
+      // A job with more reservations than nodes is spread over whichever nodes are left (each
+      // gets several reservations), so it only needs one healthy node; otherwise each
+      // reservation needs a distinct node.
+      int nodesNeeded = reservationsToLaunch > nodes.size() ? 1 : reservationsToLaunch;
+      nodes = health.excludeQuarantined(nodes, nodesNeeded);
+    }
     LOG.debug("Request " + requestId + ": Creating " + reservationsToLaunch +
               " task reservations");
 
-    // Get a random subset of nodes by shuffling list.
-    List<InetSocketAddress> nodeList = Lists.newArrayList(nodes);
-    Collections.shuffle(nodeList);
-    if (nodeList.size() < reservationsToLaunch) {
-      LOG.fatal("Request " + requestId + ": Cannot launch " + reservationsToLaunch +
-                " reservations, because there are not enough nodes. This use case is not " +
-                "currently supported.");
-    }
-    nodeList = nodeList.subList(0, reservationsToLaunch);
-
-    StringBuilder debugString = new StringBuilder();
-    for (InetSocketAddress node : nodeList) {
-      debugString.append(node);
-      debugString.append(";");
-    }
-    LOG.debug("Request " + requestId + ": Launching enqueueReservation on " +
-              nodeList.size() + " node monitors: " + debugString.toString());
-
     TResourceVector estimatedResources = null;
 
     for (TTaskSpec task : schedulingRequest.getTasks()) {
@@ -95,19 +115,144 @@ public class UnconstrainedTaskPlacer implements TaskPlacer {
     }
 
     HashMap<InetSocketAddress, TEnqueueTaskReservationsRequest> requests = Maps.newHashMap();
+    if (nodes.isEmpty()) {
+      LOG.error("Request " + requestId + ": No nodes to place reservations on.");
+      return requests;
+    }
+
+    Map<InetSocketAddress, Integer> reservationsPerNode;
+    if (reservationsToLaunch > nodes.size()) {
+      reservationsPerNode = spreadReservations(nodes, reservationsToLaunch);
+    } else {
+      reservationsPerNode = sampleNodes(nodes, reservationsToLaunch);
+    }
+
+    if (LOG.isDebugEnabled()) {
+      StringBuilder debugString = new StringBuilder();
+      for (Map.Entry<InetSocketAddress, Integer> entry : reservationsPerNode.entrySet()) {
+        debugString.append(entry.getKey());
+        debugString.append("=");
+        debugString.append(entry.getValue());
+        debugString.append(";");
+      }
+      LOG.debug("Request " + requestId + ": Launching enqueueReservation on " +
+                reservationsPerNode.size() + " node monitors: " + debugString.toString());
+    }
 
-    for (InetSocketAddress node : nodeList) {
+    int reservations = 0;
+    for (Map.Entry<InetSocketAddress, Integer> entry : reservationsPerNode.entrySet()) {
       TEnqueueTaskReservationsRequest request = new TEnqueueTaskReservationsRequest(
           schedulingRequest.getApp(), schedulingRequest.getUser(), requestId, estimatedResources,
-          schedulerAddress, 1);
-      requests.put(node, request);
+          schedulerAddress, entry.getValue());
+      request.setStealable(true);
+      requests.put(entry.getKey(), request);
+      reservations += entry.getValue();
     }
 
-    numOutstandingReservations.set(requests.size());
+    numOutstandingReservations.set(reservations);
 
     return requests;
   }
 
+  /**
+   * Places one reservation on each of {@code reservations} nodes, chosen at random (or, if a load
+   * cache is set, the least loaded of a larger random sample).
+   */
+  private Map<InetSocketAddress, Integer> sampleNodes(Collection<InetSocketAddress> nodes,
+                                                      int reservations) {
+    int candidates = reservations;
+    if (loadCache != null) {
+      candidates = Math.min((int) Math.ceil(candidateRatio * reservations), nodes.size());
+    }
+
+    // Get a random subset of nodes by shuffling the start of the list. Only the nodes that will
+    // be considered are shuffled, since clusters may be much larger than jobs.
+    List<InetSocketAddress> nodeList = Lists.newArrayList(nodes);
+    for (int i = 0; i < candidates; ++i) {
+      Collections.swap(nodeList, i, i + random.nextInt(nodeList.size() - i));
+    }
+    if (candidates > reservations) {
+      loadCache.sortByLoad(nodeList.subList(0, candidates));
+    }
+
+    Map<InetSocketAddress, Integer> reservationsPerNode = Maps.newHashMap();
+    for (InetSocketAddress node : nodeList.subList(0, reservations)) {
+      reservationsPerNode.put(node, 1);
+    }
+    return reservationsPerNode;
+  }
+
+  /**
+   * Spreads more reservations than there are nodes over all of the nodes, in proportion to each
+   * node's free capacity according to the load cache: a node's weight is its number of free
+   * cores plus a share of one slot that shrinks with its queue length. Nodes whose load isn't
+   * known, or all nodes if there is no load cache, have a weight of one. Every node gets at
+   * least one reservation, since the job's reservations outnumber the nodes anyway.
+   */
+  private Map<InetSocketAddress, Integer> spreadReservations(
+      Collection<InetSocketAddress> nodes, int reservations) {
+    // Shuffle the nodes so that ties are broken differently for each job.
+    List<InetSocketAddress> nodeList = Lists.newArrayList(nodes);
+    Collections.shuffle(nodeList, random);
+
+    double[] weights = new double[nodeList.size()];
+    for (int i = 0; i < nodeList.size(); ++i) {
+      weights[i] = 1;
+      TNodeLoad load = loadCache == null ? null : loadCache.get(nodeList.get(i));
+      if (load != null) {
+        weights[i] = Math.max(load.getFreeResources().getCores(), 0) +
+            1.0 / (1 + load.getQueueLength());
+      }
+    }
+    // Give each node one reservation, and apportion the rest by weight.
+    int[] counts = apportion(weights, reservations - nodeList.size());
+
+    Map<InetSocketAddress, Integer> reservationsPerNode = Maps.newHashMap();
+    for (int i = 0; i < nodeList.size(); ++i) {
+      reservationsPerNode.put(nodeList.get(i), counts[i] + 1);
+    }
+    return reservationsPerNode;
+  }
+
+  /**
+   * Divides {@code total} into integer shares in proportion to {@code weights}, using the
+   * largest remainder method: each share is rounded down, and the units left over go to the
+   * shares with the largest remainders (the earliest, in case of a tie).
+   */
+  static int[] apportion(double[] weights, int total) {
+    int[] shares = new int[weights.length];
+    double weightSum = 0;
+    for (double weight : weights) {
+      weightSum += weight;
+    }
+    if (weightSum <= 0 || total <= 0) {
+      return shares;
+    }
+    final double[] remainders = new double[weights.length];
+    int assigned = 0;
+    for (int i = 0; i < weights.length; ++i) {
+      double exact = total * weights[i] / weightSum;
+      shares[i] = (int) Math.floor(exact);
+      remainders[i] = exact - shares[i];
+      assigned += shares[i];
+    }
+    List<Integer> byRemainder = Lists.newArrayListWithCapacity(weights.length);
+    for (int i = 0; i < weights.length; ++i) {
+      byRemainder.add(i);
+    }
+    Collections.sort(byRemainder, new Comparator<Integer>() {
+      @Override
+      public int compare(Integer a, Integer b) {
+        return Double.compare(remainders[b], remainders[a]);
+      }
+    });
+    for (int i = 0; assigned < total; i = (i + 1) % weights.length) {
+      shares[byRemainder.get(i)]++;
+      assigned++;
+    }
+    return shares;
+  }
+
   @Override
   public List<TTaskLaunchSpec> assignTask(THostPort nodeMonitorAddress) {
     numOutstandingReservations.decrementAndGet();
@@ -130,4 +275,9 @@ public class UnconstrainedTaskPlacer implements TaskPlacer {
   public boolean allResponsesReceived() {
     return numOutstandingReservations.get() == 0;
   }
+
+  @Override
+  public boolean hasUnlaunchedTasks() {
+    return !unlaunchedTasks.isEmpty();
+  }
 }
@@ -0,0 +1,75 @@
+package edu.berkeley.sparrow.daemon.trace;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/**
+ * The critical path of a traced job: the chain of spans, from the root span, that leads to the
+ * span that finished last (normally the run span of the job's last task). Shortening any span
+ * on the path that doesn't overlap the next one shortens the job's response time.
+ */
+public class CriticalPath {
+  private final List<Span> spans;
+
+  /**
+   * Computes the critical path through the given spans, which should all belong to one trace
+   * (e.g., merged from every daemon that recorded spans for the trace).
+   */
+  public CriticalPath(Collection<Span> trace) {
+    HashMap<Long, Span> spansById = Maps.newHashMap();
+    Span last = null;
+    for (Span span : trace) {
+      spansById.put(span.spanId, span);
+      if (last == null || span.endMicros > last.endMicros) {
+        last = span;
+      }
+    }
+    spans = Lists.newArrayList();
+    // Guard against cycles (which shouldn't happen, since span IDs are random).
+    while (last != null && spans.size() <= spansById.size()) {
+      spans.add(last);
+      last = spansById.get(last.parentSpanId);
+    }
+    Collections.reverse(spans);
+  }
+
+  /** Returns the spans on the critical path, starting with the root. */
+  public List<Span> getSpans() {
+    return spans;
+  }
+
+  /** Returns the time from the start of the path to its end. */
+  public long getDurationMicros() {
+    if (spans.isEmpty()) {
+      return 0;
+    }
+    return spans.get(spans.size() - 1).endMicros - spans.get(0).startMicros;
+  }
+
+  /**
+   * Returns a table with a line for each span on the path, giving the time (relative to the
+   * start of the path) at which it started and its duration, in milliseconds.
+   */
+  @Override
+  public String toString() {
+    StringBuilder out = new StringBuilder();
+    out.append(String.format("%-8s %-24s %11s %11s  %s\n", "span", "address", "start_ms",
+                             "duration_ms", "annotation"));
+    if (spans.isEmpty()) {
+      return out.toString();
+    }
+    long start = spans.get(0).startMicros;
+    for (Span span : spans) {
+      out.append(String.format("%-8s %-24s %11.3f %11.3f  %s\n", span.name, span.address,
+                               (span.startMicros - start) / 1000.0,
+                               span.getDurationMicros() / 1000.0, span.annotation));
+    }
+    out.append(String.format("Total: %.3f ms\n", getDurationMicros() / 1000.0));
+    return out.toString();
+  }
+}
@@ -0,0 +1,64 @@
+package edu.berkeley.sparrow.daemon.trace;
+
+import java.util.List;
+
+import com.google.common.base.Joiner;
+import com.google.common.base.Splitter;
+import com.google.common.collect.Lists;
+
+/**
+ * A timed piece of work done for a traced job, such as probing a node monitor or waiting in a
+ * node monitor's queue. Times are in microseconds since the epoch.
+ */
+public class Span {
+  private static Joiner fieldJoiner = Joiner.on("\t");
+  private static Splitter fieldSplitter = Splitter.on("\t");
+
+  public final long traceId;
+  public final long spanId;
+  /** ID of the span that caused this one, or 0 if this is the root of the trace. */
+  public final long parentSpanId;
+  /** What the span measures; see {@link Tracer}. */
+  public final String name;
+  /** Address of the scheduler or node monitor that recorded the span. */
+  public final String address;
+  public final long startMicros;
+  public final long endMicros;
+  /** Additional information about the span (e.g., the task ID), or an empty string. */
+  public final String annotation;
+
+  public Span(long traceId, long spanId, long parentSpanId, String name, String address,
+              long startMicros, long endMicros, String annotation) {
+    this.traceId = traceId;
+    this.spanId = spanId;
+    this.parentSpanId = parentSpanId;
+    this.name = name;
+    this.address = address;
+    this.startMicros = startMicros;
+    this.endMicros = endMicros;
+    this.annotation = annotation;
+  }
+
+  public long getDurationMicros() {
+    return endMicros - startMicros;
+  }
+
+  /** Returns a tab-separated representation of the span, which {@link #parse} reads. */
+  @Override
+  public String toString() {
+    return fieldJoiner.join(traceId, spanId, parentSpanId, name, address, startMicros,
+                            endMicros, annotation);
+  }
+
+  /** Parses a span written by {@link #toString}. */
+  public static Span parse(String line) {
+    List<String> fields = Lists.newArrayList(fieldSplitter.split(line));
+    if (fields.size() != 8) {
+      throw new IllegalArgumentException("Invalid span: " + line);
+    }
+    return new Span(Long.parseLong(fields.get(0)), Long.parseLong(fields.get(1)),
+                    Long.parseLong(fields.get(2)), fields.get(3), fields.get(4),
+                    Long.parseLong(fields.get(5)), Long.parseLong(fields.get(6)),
+                    fields.get(7));
+  }
+}
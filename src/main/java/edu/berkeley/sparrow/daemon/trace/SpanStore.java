@@ -0,0 +1,71 @@
+package edu.berkeley.sparrow.daemon.trace;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/**
+ * Holds the spans recorded in this process for recently traced jobs. Once the store holds more
+ * than its maximum number of spans, the spans of the least recently started traces are dropped.
+ */
+public class SpanStore {
+  private final int maxSpans;
+  private int numSpans = 0;
+  /** Spans for each trace, in the order the traces were first seen. */
+  private final LinkedHashMap<Long, List<Span>> traces = new LinkedHashMap<Long, List<Span>>();
+  /** All of the spans in the store, indexed by span ID (which is unique across traces). */
+  private final HashMap<Long, Span> spansById = Maps.newHashMap();
+
+  public SpanStore(int maxSpans) {
+    this.maxSpans = maxSpans;
+  }
+
+  public synchronized void add(Span span) {
+    List<Span> spans = traces.get(span.traceId);
+    if (spans == null) {
+      spans = Lists.newArrayList();
+      traces.put(span.traceId, spans);
+    }
+    spans.add(span);
+    spansById.put(span.spanId, span);
+    numSpans++;
+
+    Iterator<Map.Entry<Long, List<Span>>> oldest = traces.entrySet().iterator();
+    while (numSpans > maxSpans && oldest.hasNext()) {
+      List<Span> evicted = oldest.next().getValue();
+      for (Span evictedSpan : evicted) {
+        spansById.remove(evictedSpan.spanId);
+      }
+      numSpans -= evicted.size();
+      oldest.remove();
+    }
+  }
+
+  /** Returns the spans recorded for the given trace (which may be empty). */
+  public synchronized List<Span> getSpans(long traceId) {
+    List<Span> spans = traces.get(traceId);
+    if (spans == null) {
+      return Lists.newArrayList();
+    }
+    return Lists.newArrayList(spans);
+  }
+
+  /** Returns the span with the given ID, or null if it isn't in the store. */
+  public synchronized Span getSpan(long spanId) {
+    return spansById.get(spanId);
+  }
+
+  /** Returns the IDs of the traces in the store, from least to most recently started. */
+  public synchronized List<Long> getTraceIds() {
+    return Lists.newArrayList(traces.keySet());
+  }
+
+  public synchronized int size() {
+    return numSpans;
+  }
+}
@@ -0,0 +1,77 @@
+package edu.berkeley.sparrow.daemon.trace;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.util.List;
+import java.util.Set;
+
+import joptsimple.OptionParser;
+import joptsimple.OptionSet;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+/**
+ * Fetches the spans for a traced job from the HTTP endpoints of several Sparrow daemons (see
+ * {@link edu.berkeley.sparrow.daemon.metrics.MetricsHttpServer}), and prints the job's
+ * critical path. Without a trace ID, lists the traces each daemon holds spans for.
+ *
+ * Usage: TraceQuery [-t traceId] host:port [host:port ...]
+ */
+public class TraceQuery {
+  /** Returns the lines of the response to an HTTP GET of the given path on each daemon. */
+  private static List<String> fetch(List<String> daemons, String path) throws IOException {
+    List<String> lines = Lists.newArrayList();
+    for (String daemon : daemons) {
+      URL url = new URL("http://" + daemon + path);
+      BufferedReader in = new BufferedReader(new InputStreamReader(url.openStream(), "UTF-8"));
+      try {
+        String line;
+        while ((line = in.readLine()) != null) {
+          if (line.length() > 0) {
+            lines.add(line);
+          }
+        }
+      } finally {
+        in.close();
+      }
+    }
+    return lines;
+  }
+
+  public static void main(String[] args) throws IOException {
+    OptionParser parser = new OptionParser();
+    parser.accepts("t", "trace ID").withRequiredArg().ofType(Long.class);
+    parser.accepts("help", "print help statement");
+    OptionSet options = parser.parse(args);
+    @SuppressWarnings("unchecked")
+    List<String> daemons = (List<String>) options.nonOptionArguments();
+
+    if (options.has("help") || daemons.isEmpty()) {
+      System.err.println("Usage: TraceQuery [-t traceId] host:port [host:port ...]");
+      parser.printHelpOn(System.err);
+      System.exit(-1);
+    }
+
+    if (!options.has("t")) {
+      Set<String> traceIds = Sets.newLinkedHashSet(fetch(daemons, "/traces"));
+      for (String traceId : traceIds) {
+        System.out.println(traceId);
+      }
+      return;
+    }
+
+    List<Span> spans = Lists.newArrayList();
+    for (String line : fetch(daemons, "/trace/" + options.valueOf("t"))) {
+      spans.add(Span.parse(line));
+    }
+    if (spans.isEmpty()) {
+      System.err.println("No spans found for trace " + options.valueOf("t"));
+      System.exit(1);
+    }
+    System.out.println(spans.size() + " spans");
+    System.out.print(new CriticalPath(spans));
+  }
+}
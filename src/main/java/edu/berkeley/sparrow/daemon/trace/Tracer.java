@@ -0,0 +1,106 @@
+package edu.berkeley.sparrow.daemon.trace;
+
+import java.util.Random;
+
+import org.apache.commons.configuration.Configuration;
+
+import edu.berkeley.sparrow.daemon.SparrowConf;
+import edu.berkeley.sparrow.thrift.TTraceContext;
+
+/**
+ * Records spans for a sample of jobs, so that the time spent scheduling and running a job can be
+ * broken down across the scheduler and node monitors it touched.
+ *
+ * A job is traced if its TSchedulingRequest has a trace context, or if the scheduler samples it
+ * (see {@link SparrowConf#JOB_TRACE_SAMPLE_RATE}). The context is passed on in the job's
+ * enqueueTaskReservations() requests, getTask() calls, and in the TFullTaskIds of its tasks,
+ * and each component records the following spans in its process's {@link SpanStore}:
+ *
+ * <pre>
+ * submit  (scheduler)     submitJob() called until all reservations are sent
+ *   probe (scheduler)     enqueueTaskReservations() sent until it returns
+ *     queue  (node mon.)  reservation enqueued until getTask() is called for it
+ *       fetch  (node mon.)  getTask() round trip
+ *         assign (scheduler)  handling the getTask() call
+ *         launch (node mon.)  getTask() response until the backend's launchTask() returns
+ *           run  (node mon.)  launchTask() returns until the backend reports the task finished
+ * </pre>
+ *
+ * Spans are served by {@link edu.berkeley.sparrow.daemon.metrics.MetricsHttpServer}, and
+ * {@link TraceQuery} merges the spans for a trace from several daemons and prints its
+ * {@link CriticalPath}.
+ *
+ * Times are in microseconds since the epoch, so spans from different machines are only as
+ * comparable as the machines' clocks.
+ */
+public class Tracer {
+  private static volatile double sampleRate = SparrowConf.DEFAULT_JOB_TRACE_SAMPLE_RATE;
+  private static volatile SpanStore store =
+      new SpanStore(SparrowConf.DEFAULT_JOB_TRACE_MAX_SPANS);
+  private static Random random = new Random();
+
+  /** Used to convert System.nanoTime() values to microseconds since the epoch. */
+  private final static long BASE_NANOS = System.nanoTime();
+  private final static long BASE_EPOCH_MICROS = System.currentTimeMillis() * 1000;
+
+  public static void configure(Configuration conf) {
+    sampleRate = conf.getDouble(SparrowConf.JOB_TRACE_SAMPLE_RATE,
+                                SparrowConf.DEFAULT_JOB_TRACE_SAMPLE_RATE);
+    store = new SpanStore(conf.getInt(SparrowConf.JOB_TRACE_MAX_SPANS,
+                                      SparrowConf.DEFAULT_JOB_TRACE_MAX_SPANS));
+  }
+
+  public static SpanStore getStore() {
+    return store;
+  }
+
+  /**
+   * Returns the context to trace a job with: {@code requested}, if the job's submitter asked for
+   * it to be traced; otherwise a new trace if the job is sampled, or null.
+   */
+  public static TTraceContext startTrace(TTraceContext requested) {
+    if (requested != null) {
+      return requested;
+    }
+    double rate = sampleRate;
+    if (rate <= 0 || (rate < 1 && random.nextDouble() >= rate)) {
+      return null;
+    }
+    return new TTraceContext(newId(), 0);
+  }
+
+  /** Returns a new span (or trace) ID. IDs are positive. */
+  public static long newId() {
+    long id;
+    do {
+      id = random.nextLong() & Long.MAX_VALUE;
+    } while (id == 0);
+    return id;
+  }
+
+  /** Returns a context for the given trace, whose spans are children of {@code spanId}. */
+  public static TTraceContext child(TTraceContext context, long spanId) {
+    return new TTraceContext(context.getTraceId(), spanId);
+  }
+
+  /** Converts a value returned by System.nanoTime() to microseconds since the epoch. */
+  public static long toEpochMicros(long nanoTime) {
+    return BASE_EPOCH_MICROS + (nanoTime - BASE_NANOS) / 1000;
+  }
+
+  public static long nowMicros() {
+    return toEpochMicros(System.nanoTime());
+  }
+
+  /**
+   * Records a span with ID {@code spanId} that is a child of the span in {@code parent}, and
+   * returns it.
+   */
+  public static Span record(TTraceContext parent, long spanId, String name, String address,
+                            long startMicros, long endMicros, String annotation) {
+    Span span = new Span(parent.getTraceId(), spanId, parent.getSpanId(), name, address,
+                         startMicros, endMicros, annotation);
+    store.add(span);
+    return span;
+  }
+}
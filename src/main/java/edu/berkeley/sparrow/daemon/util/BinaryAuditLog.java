@@ -0,0 +1,262 @@
+package edu.berkeley.sparrow.daemon.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.log4j.Logger;
+
+/**
+ * An audit log that writes fixed-layout binary records, rather than formatting a line of text
+ * for each event.
+ *
+ * Threads that log events encode them directly into a ring buffer of fixed-size slots (claimed
+ * with a compare-and-set, so logging never blocks), and a background thread copies them to a
+ * memory-mapped file. If the ring buffer is full, events are dropped (and counted) rather than
+ * slowing down the caller. {@link BinaryAuditLogConverter} converts the file to the text audit
+ * log format.
+ *
+ * File format (all values big-endian):
+ * <pre>
+ * header: int MAGIC, int VERSION, long epoch millis, long nanoTime (at the same instant)
+ * record: short length (of the rest of the record), short event ID, short category ID,
+ *         long nanoTime, byte number of parameters, and then for each parameter either
+ *         'L' and a long, or 'S', a short length, and that many (ASCII) characters
+ * </pre>
+ * Event and category names are written once, as DEFINITION records whose category ID is the ID
+ * being defined and whose only parameter is the name. The file ends at the first record with
+ * length 0 (or at the end of the file).
+ */
+public class BinaryAuditLog {
+  private final static Logger LOG = Logger.getLogger(BinaryAuditLog.class);
+
+  public final static int MAGIC = 0x53504131;
+  public final static int VERSION = 1;
+  public final static int HEADER_SIZE = 24;
+  /** Event ID of records that define names. */
+  public final static short DEFINITION = 0;
+  public final static byte LONG_PARAM = 'L';
+  public final static byte STRING_PARAM = 'S';
+
+  /** Maximum size of a record, including its length. Longer records are truncated. */
+  public final static int SLOT_SIZE = 256;
+  /** Size of the record fields before the parameters, not including the length. */
+  private final static int RECORD_HEADER_SIZE = 2 + 2 + 8 + 1;
+  /** Amount of the file that is memory mapped at a time. */
+  private final static int MAPPED_REGION_SIZE = 64 * 1024 * 1024;
+  private final static long IDLE_WAIT_NANOS = 1000 * 1000;
+
+  private final int capacity;
+  private final int mask;
+  /** Slot contents. Slot i occupies bytes [i * SLOT_SIZE, (i + 1) * SLOT_SIZE). */
+  private final byte[] ring;
+  /** Sequence number of the record each slot holds, once it has been completely written. */
+  private final AtomicLongArray published;
+  /** Sequence number of the next record to be claimed by a logging thread. */
+  private final AtomicLong nextSequence = new AtomicLong(0);
+  /** Sequence number of the next record to be written to the file. */
+  private volatile long consumedSequence = 0;
+  private final AtomicLong dropped = new AtomicLong(0);
+
+  /** IDs of event and category names that have been defined in the log. */
+  private final ConcurrentHashMap<String, Short> nameIds = new ConcurrentHashMap<String, Short>();
+  private short nextNameId = 1;
+
+  private final RandomAccessFile file;
+  private final FileChannel channel;
+  private MappedByteBuffer mapped;
+  /** Position in the file at which {@code mapped} starts. */
+  private long mappedStart = 0;
+
+  private volatile boolean running = true;
+  private final Thread writerThread;
+
+  public BinaryAuditLog(File file, int bufferRecords) throws IOException {
+    capacity = Integer.highestOneBit(Math.max(bufferRecords - 1, 1)) << 1;
+    mask = capacity - 1;
+    ring = new byte[capacity * SLOT_SIZE];
+    published = new AtomicLongArray(capacity);
+    for (int i = 0; i < capacity; ++i) {
+      published.set(i, -1);
+    }
+
+    this.file = new RandomAccessFile(file, "rw");
+    this.file.setLength(0);
+    channel = this.file.getChannel();
+    mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, MAPPED_REGION_SIZE);
+    mapped.putInt(MAGIC);
+    mapped.putInt(VERSION);
+    mapped.putLong(System.currentTimeMillis());
+    mapped.putLong(System.nanoTime());
+
+    writerThread = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        writeRecords();
+      }
+    }, "BinaryAuditLogWriter");
+    writerThread.setDaemon(true);
+    writerThread.start();
+  }
+
+  /**
+   * Records an event. Parameters that are Integers, Longs or Shorts are recorded as numbers,
+   * and all others as strings. Returns false if the event was dropped because the buffer was
+   * full.
+   */
+  public boolean log(String category, String event, Object... params) {
+    short categoryId = getNameId(category);
+    short eventId = getNameId(event);
+    if (categoryId < 0 || eventId < 0) {
+      dropped.incrementAndGet();
+      return false;
+    }
+    return write(eventId, categoryId, System.nanoTime(), params);
+  }
+
+  /** Returns the number of events that have been dropped because the buffer was full. */
+  public long getDroppedEvents() {
+    return dropped.get();
+  }
+
+  /**
+   * Writes all buffered records to the file and closes it. Events logged after this is called
+   * are ignored.
+   */
+  public void close() throws IOException {
+    running = false;
+    try {
+      writerThread.join();
+    } catch (InterruptedException e) {
+      LOG.warn("Interrupted while waiting for audit log writer to finish", e);
+    }
+    mapped.force();
+    long length = mappedStart + mapped.position();
+    channel.truncate(length);
+    file.close();
+    if (dropped.get() > 0) {
+      LOG.warn("Dropped " + dropped.get() + " audit log events because the buffer was full");
+    }
+  }
+
+  /**
+   * Returns the ID for the given name, defining it if necessary, or -1 if the definition
+   * couldn't be recorded.
+   */
+  private short getNameId(String name) {
+    Short id = nameIds.get(name);
+    if (id != null) {
+      return id;
+    }
+    synchronized (nameIds) {
+      id = nameIds.get(name);
+      if (id != null) {
+        return id;
+      }
+      // The definition is claimed before the ID is published to other threads, so it always
+      // precedes records that use the ID.
+      if (!write(DEFINITION, nextNameId, 0, name)) {
+        return -1;
+      }
+      id = nextNameId++;
+      nameIds.put(name, id);
+      return id;
+    }
+  }
+
+  private boolean write(short eventId, short categoryId, long nanoTime, Object... params) {
+    long sequence;
+    do {
+      sequence = nextSequence.get();
+      if (!running || sequence - consumedSequence >= capacity) {
+        return false;
+      }
+    } while (!nextSequence.compareAndSet(sequence, sequence + 1));
+
+    int slot = (int) (sequence & mask);
+    int start = slot * SLOT_SIZE;
+    int end = start + SLOT_SIZE;
+    int position = start + 2;
+    position = putShort(ring, position, eventId);
+    position = putShort(ring, position, categoryId);
+    position = putLong(ring, position, nanoTime);
+    int numParamsPosition = position++;
+    int numParams = 0;
+    for (Object param : params) {
+      if (param instanceof Integer || param instanceof Long || param instanceof Short) {
+        if (position + 9 > end) {
+          break;
+        }
+        ring[position++] = LONG_PARAM;
+        position = putLong(ring, position, ((Number) param).longValue());
+      } else {
+        if (position + 3 > end) {
+          break;
+        }
+        String value = String.valueOf(param);
+        int length = Math.min(value.length(), end - position - 3);
+        ring[position++] = STRING_PARAM;
+        position = putShort(ring, position, (short) length);
+        for (int i = 0; i < length; ++i) {
+          char c = value.charAt(i);
+          ring[position++] = (byte) (c < 128 ? c : '?');
+        }
+      }
+      numParams++;
+    }
+    ring[numParamsPosition] = (byte) numParams;
+    putShort(ring, start, (short) (position - start - 2));
+    published.set(slot, sequence);
+    return true;
+  }
+
+  /** Copies records from the ring buffer to the file until the log is closed. */
+  private void writeRecords() {
+    while (true) {
+      long sequence = consumedSequence;
+      int slot = (int) (sequence & mask);
+      if (published.get(slot) != sequence) {
+        if (!running && sequence == nextSequence.get()) {
+          return;
+        }
+        LockSupport.parkNanos(IDLE_WAIT_NANOS);
+        continue;
+      }
+      int start = slot * SLOT_SIZE;
+      int length = 2 + (((ring[start] & 0xff) << 8) | (ring[start + 1] & 0xff));
+      try {
+        if (mapped.remaining() < length) {
+          mappedStart += mapped.position();
+          mapped = channel.map(FileChannel.MapMode.READ_WRITE, mappedStart,
+                               MAPPED_REGION_SIZE);
+        }
+        mapped.put(ring, start, length);
+      } catch (IOException e) {
+        LOG.error("Unable to write to audit log; no more events will be recorded", e);
+        running = false;
+        return;
+      }
+      consumedSequence = sequence + 1;
+    }
+  }
+
+  private static int putShort(byte[] buffer, int position, short value) {
+    buffer[position] = (byte) (value >> 8);
+    buffer[position + 1] = (byte) value;
+    return position + 2;
+  }
+
+  private static int putLong(byte[] buffer, int position, long value) {
+    for (int i = 7; i >= 0; --i) {
+      buffer[position + i] = (byte) value;
+      value >>= 8;
+    }
+    return position + 8;
+  }
+}
@@ -0,0 +1,119 @@
+package edu.berkeley.sparrow.daemon.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.util.HashMap;
+
+import com.google.common.collect.Maps;
+
+/**
+ * Converts audit logs written by {@link BinaryAuditLog} to the text format written by
+ * {@link Logging#configureAuditLogging}, so that they can be parsed by the existing scripts.
+ *
+ * Usage: BinaryAuditLogConverter file.bin [...]; each file is converted to a file with the same
+ * name, with ".bin" replaced by ".log".
+ */
+public class BinaryAuditLogConverter {
+  private static final long NANOS_PER_MILLI = 1000 * 1000;
+
+  /** Converts the binary audit log in {@code in} to text, which is written to {@code out}. */
+  public static void convert(InputStream in, Writer out) throws IOException {
+    DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+    if (data.readInt() != BinaryAuditLog.MAGIC) {
+      throw new IOException("Not a binary audit log");
+    }
+    int version = data.readInt();
+    if (version != BinaryAuditLog.VERSION) {
+      throw new IOException("Unsupported binary audit log version: " + version);
+    }
+    long baseMillis = data.readLong();
+    long baseNanos = data.readLong();
+
+    HashMap<Short, String> names = Maps.newHashMap();
+    StringBuilder line = new StringBuilder();
+    while (true) {
+      int length;
+      try {
+        length = data.readShort();
+      } catch (EOFException e) {
+        break;
+      }
+      if (length == 0) {
+        break;
+      }
+      short eventId = data.readShort();
+      short categoryId = data.readShort();
+      long nanoTime = data.readLong();
+      int numParams = data.readByte();
+
+      if (eventId == BinaryAuditLog.DEFINITION) {
+        if (numParams != 1 || data.readByte() != BinaryAuditLog.STRING_PARAM) {
+          throw new IOException("Invalid definition record");
+        }
+        names.put(categoryId, readString(data));
+        continue;
+      }
+      line.setLength(0);
+      line.append(getName(names, categoryId));
+      line.append('\t');
+      line.append(baseMillis + (nanoTime - baseNanos) / NANOS_PER_MILLI);
+      line.append('\t');
+      line.append(getName(names, eventId));
+      for (int i = 0; i < numParams; ++i) {
+        line.append(':');
+        byte type = data.readByte();
+        if (type == BinaryAuditLog.LONG_PARAM) {
+          line.append(data.readLong());
+        } else if (type == BinaryAuditLog.STRING_PARAM) {
+          line.append(readString(data));
+        } else {
+          throw new IOException("Unknown parameter type: " + type);
+        }
+      }
+      line.append('\n');
+      out.write(line.toString());
+    }
+    out.flush();
+  }
+
+  private static String readString(DataInputStream data) throws IOException {
+    byte[] value = new byte[data.readShort()];
+    data.readFully(value);
+    return new String(value, "US-ASCII");
+  }
+
+  private static String getName(HashMap<Short, String> names, short id) {
+    String name = names.get(id);
+    if (name == null) {
+      return "unknown" + id;
+    }
+    return name;
+  }
+
+  public static void main(String[] args) throws IOException {
+    if (args.length == 0) {
+      System.err.println("Usage: BinaryAuditLogConverter file.bin [...]");
+      System.exit(-1);
+    }
+    for (String filename : args) {
+      File output = new File(filename.replaceAll("\\.bin$", "") + ".log");
+      InputStream in = new FileInputStream(filename);
+      Writer out = new BufferedWriter(new FileWriter(output));
+      try {
+        convert(in, out);
+      } finally {
+        in.close();
+        out.close();
+      }
+      System.out.println("Converted " + filename + " to " + output);
+    }
+  }
+}
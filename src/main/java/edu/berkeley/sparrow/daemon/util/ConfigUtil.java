@@ -72,4 +72,26 @@ public class ConfigUtil {
     }
     return frontends;
   }
+
+  /**
+   * Returns the addresses of the state store shards (see {@link SparrowConf#STATE_STORE_SHARDS}),
+   * or of the single state store if the state store isn't sharded.
+   */
+  public static List<InetSocketAddress> parseStateStores(Configuration conf) {
+    List<InetSocketAddress> stateStores = new ArrayList<InetSocketAddress>();
+    for (String shard : conf.getStringArray(SparrowConf.STATE_STORE_SHARDS)) {
+      Optional<InetSocketAddress> addr = Serialization.strToSocket(shard);
+      if (!addr.isPresent()) {
+        LOG.warn("Bad state store shard address: " + shard);
+        continue;
+      }
+      stateStores.add(addr.get());
+    }
+    if (stateStores.isEmpty()) {
+      stateStores.add(new InetSocketAddress(
+          conf.getString(SparrowConf.STATE_STORE_HOST, SparrowConf.DEFAULT_STATE_STORE_HOST),
+          conf.getInt(SparrowConf.STATE_STORE_PORT, SparrowConf.DEFAULT_STATE_STORE_PORT)));
+    }
+    return stateStores;
+  }
 }
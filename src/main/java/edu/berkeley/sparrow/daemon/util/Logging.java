@@ -1,37 +1,68 @@
 package edu.berkeley.sparrow.daemon.util;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.Random;
 
+import org.apache.commons.configuration.Configuration;
 import org.apache.log4j.FileAppender;
 import org.apache.log4j.Level;
 import org.apache.log4j.Logger;
 import org.apache.log4j.PatternLayout;
 
 import com.google.common.base.Joiner;
+import com.google.common.collect.Lists;
+
+import edu.berkeley.sparrow.daemon.SparrowConf;
 
 public class Logging {
   public final static String AUDIT_LOGGER_NAME = "audit";
   public final static String AUDIT_LOG_FILENAME_FORMAT = "sparrow_audit.%d.%d.log";
+  public final static String AUDIT_LOG_BINARY_FILENAME_FORMAT = "sparrow_audit.%d.%d.bin";
   public final static String AUDIT_LOG_FORMAT = "%c\t%m%n";
 
-  private static Joiner paramJoiner = Joiner.on(",").useForNull("null");
   private static Joiner auditParamJoiner = Joiner.on("\t");
   private static Joiner auditEventParamJoiner = Joiner.on(":");
 
+  /** If set, audit events are written here rather than to the audit loggers. */
+  private static volatile BinaryAuditLog binaryAuditLog = null;
+
   /**
-   * Sets up audit logging to log to a file named based on the current time (in ms).
+   * Sets up audit logging to log to a file named based on the current time (in ms), in the
+   * format given by {@link SparrowConf#AUDIT_LOG_FORMAT}.
    *
-   * The logger is configured to effectively ignore the log level.
+   * The text logger is configured to effectively ignore the log level.
    *
    * @throws IOException if the audit log file could not be opened for writing.
    */
-  public static void configureAuditLogging() throws IOException {
-    PatternLayout layout = new PatternLayout(AUDIT_LOG_FORMAT);
+  public static void configureAuditLogging(Configuration conf) throws IOException {
     // This assumes that no other daemon will be started within 1 millisecond.
-    String filename = String.format(AUDIT_LOG_FILENAME_FORMAT,
-                                    System.currentTimeMillis(),
-                                    new Random().nextInt(Integer.MAX_VALUE));
+    long now = System.currentTimeMillis();
+    int suffix = new Random().nextInt(Integer.MAX_VALUE);
+    String format = conf.getString(SparrowConf.AUDIT_LOG_FORMAT,
+                                   SparrowConf.DEFAULT_AUDIT_LOG_FORMAT);
+    if (format.equals("binary")) {
+      File file = new File(String.format(AUDIT_LOG_BINARY_FILENAME_FORMAT, now, suffix));
+      final BinaryAuditLog log = new BinaryAuditLog(file, conf.getInt(
+          SparrowConf.AUDIT_LOG_BUFFER_RECORDS, SparrowConf.DEFAULT_AUDIT_LOG_BUFFER_RECORDS));
+      Runtime.getRuntime().addShutdownHook(new Thread() {
+        @Override
+        public void run() {
+          try {
+            log.close();
+          } catch (IOException e) {
+            System.err.println("Error closing audit log: " + e);
+          }
+        }
+      });
+      binaryAuditLog = log;
+      return;
+    } else if (!format.equals("text")) {
+      throw new RuntimeException("Unsupported audit log format: " + format);
+    }
+
+    PatternLayout layout = new PatternLayout(AUDIT_LOG_FORMAT);
+    String filename = String.format(AUDIT_LOG_FILENAME_FORMAT, now, suffix);
     FileAppender fileAppender = new FileAppender(layout, filename);
     Logger auditLogger = Logger.getLogger(Logging.AUDIT_LOGGER_NAME);
     auditLogger.addAppender(fileAppender);
@@ -41,6 +72,19 @@ public class Logging {
     auditLogger.setAdditivity(false);
   }
 
+  /**
+   * Records an audit event (named {@code event}, with the given parameters) on behalf of
+   * {@code auditLogger}. Parameters are only formatted if the event is logged as text.
+   */
+  public static void audit(Logger auditLogger, String event, Object ... params) {
+    BinaryAuditLog log = binaryAuditLog;
+    if (log != null) {
+      log.log(auditLogger.getName(), event, params);
+    } else if (auditLogger.isInfoEnabled()) {
+      auditLogger.info(auditEventString(Lists.asList(event, params).toArray()));
+    }
+  }
+
   /**
    * Returns a log string for the given event, starting with the epoch time.
    */
@@ -56,14 +100,4 @@ public class Logging {
   public static Logger getAuditLogger(Class clazz) {
     return Logger.getLogger(String.format("%s.%s", AUDIT_LOGGER_NAME, clazz.getName()));
   }
-
-  /**
-   * Return a function name (determined via reflection) and all its parameters (passed)
-   * in a consistent stringformat. Very helpful in logging function calls throughout
-   * our program.
-   */
-  public static String functionCall(Object ... params) {
-    String name = Thread.currentThread().getStackTrace()[2].getMethodName();
-    return name + ": [" + paramJoiner.join(params) + "]";
-  }
 }
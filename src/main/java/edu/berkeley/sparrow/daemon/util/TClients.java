@@ -13,6 +13,7 @@ import org.apache.thrift.transport.TTransportException;
 
 import edu.berkeley.sparrow.thrift.BackendService;
 import edu.berkeley.sparrow.thrift.FrontendService;
+import edu.berkeley.sparrow.thrift.InternalService;
 import edu.berkeley.sparrow.thrift.NodeMonitorService;
 import edu.berkeley.sparrow.thrift.SchedulerService;
 import edu.berkeley.sparrow.thrift.StateStoreService;
@@ -44,6 +45,21 @@ public class TClients {
     return client;
   }
   
+  public static InternalService.Client createBlockingInternalClient(
+      String host, int port, int timeout) throws IOException {
+    TTransport tr = new TFramedTransport(
+        new TSocket(host, port, timeout));
+    try {
+      tr.open();
+    } catch (TTransportException e) {
+      LOG.warn("Error creating internal node monitor client to " + host + ":" + port);
+      throw new IOException(e);
+    }
+    TProtocol proto = new TBinaryProtocol(tr);
+    InternalService.Client client = new InternalService.Client(proto);
+    return client;
+  }
+
   public static SchedulerService.Client createBlockingSchedulerClient(
       InetSocketAddress socket) throws IOException {
     return createBlockingSchedulerClient(socket.getAddress().getHostAddress(), socket.getPort());
@@ -86,8 +102,13 @@ public class TClients {
   
   public static StateStoreService.Client createBlockingStateStoreClient(
       String host, int port) throws IOException {
+    return createBlockingStateStoreClient(host, port, 0);
+  }
+
+  public static StateStoreService.Client createBlockingStateStoreClient(
+      String host, int port, int timeout) throws IOException {
     TTransport tr = new TFramedTransport(
-        new TSocket(host, port));
+        new TSocket(host, port, timeout));
     try {
       tr.open();
     } catch (TTransportException e) {
@@ -188,6 +188,16 @@ public class ThriftClientPool<T extends TAsyncClient> {
     pool.returnObject(socket, client);
   }
 
+  /**
+   * Destroys a client whose RPC failed, instead of returning it to the pool. Idle clients for the
+   * same address are destroyed too, since they are likely to be broken in the same way.
+   */
+  public void invalidateClient(InetSocketAddress socket, T client)
+      throws Exception {
+    pool.invalidateObject(socket, client);
+    pool.clear(socket);
+  }
+
   protected int getNumActive(InetSocketAddress socket) {
     return pool.getNumActive(socket);
   }
@@ -0,0 +1,60 @@
+package edu.berkeley.sparrow.daemon.util;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.log4j.Logger;
+
+import com.google.common.base.Joiner;
+
+import edu.berkeley.sparrow.daemon.SparrowConf;
+
+/**
+ * Tracing of function calls on the scheduling path, which is logged at TRACE level.
+ *
+ * Call sites check {@link #isTraced} before building the message, so when tracing is off a
+ * call costs a log level check (and nothing at all if {@link #ENABLED} is false, in which
+ * case the compiler removes the guarded code):
+ *
+ * <pre>
+ * if (Tracing.isTraced(LOG)) {
+ *   LOG.trace(Tracing.call("getTask", requestId, nodeMonitorAddress));
+ * }
+ * </pre>
+ *
+ * Since tracing every call is expensive under load, only one in every
+ * {@link SparrowConf#TRACE_SAMPLE_EVERY} traceable calls is traced.
+ */
+public class Tracing {
+  /** Set to false to compile call tracing out entirely. */
+  public final static boolean ENABLED = true;
+
+  private static Joiner paramJoiner = Joiner.on(",").useForNull("null");
+
+  private static volatile int sampleEvery = SparrowConf.DEFAULT_TRACE_SAMPLE_EVERY;
+  /**
+   * Number of traceable calls so far. Updates aren't synchronized, since an occasional lost
+   * update only changes which calls are sampled.
+   */
+  private static int calls = 0;
+
+  public static void configure(Configuration conf) {
+    sampleEvery = Math.max(1, conf.getInt(SparrowConf.TRACE_SAMPLE_EVERY,
+                                          SparrowConf.DEFAULT_TRACE_SAMPLE_EVERY));
+  }
+
+  /** Returns whether the current call should be traced to {@code log}. */
+  public static boolean isTraced(Logger log) {
+    if (!ENABLED || !log.isTraceEnabled()) {
+      return false;
+    }
+    int every = sampleEvery;
+    if (every == 1) {
+      return true;
+    }
+    return ((calls++ & Integer.MAX_VALUE) % every) == 0;
+  }
+
+  /** Returns a string describing a call to {@code function} with the given parameters. */
+  public static String call(String function, Object ... params) {
+    return function + ": [" + paramJoiner.join(params) + "]";
+  }
+}
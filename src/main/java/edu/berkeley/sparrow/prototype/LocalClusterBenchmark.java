@@ -0,0 +1,441 @@
+package edu.berkeley.sparrow.prototype;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import joptsimple.OptionParser;
+import joptsimple.OptionSet;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.commons.configuration.ConfigurationUtils;
+import org.apache.commons.configuration.PropertiesConfiguration;
+import org.apache.commons.math.stat.descriptive.DescriptiveStatistics;
+import org.apache.log4j.BasicConfigurator;
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+import org.apache.thrift.TException;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+import edu.berkeley.sparrow.api.SparrowFrontendClient;
+import edu.berkeley.sparrow.daemon.SparrowConf;
+import edu.berkeley.sparrow.daemon.nodemonitor.NodeMonitorThrift;
+import edu.berkeley.sparrow.daemon.scheduler.SchedulerThrift;
+import edu.berkeley.sparrow.daemon.trace.CriticalPath;
+import edu.berkeley.sparrow.daemon.trace.SpanStore;
+import edu.berkeley.sparrow.daemon.trace.Tracer;
+import edu.berkeley.sparrow.daemon.util.TClients;
+import edu.berkeley.sparrow.daemon.util.TResources;
+import edu.berkeley.sparrow.daemon.util.TServers;
+import edu.berkeley.sparrow.thrift.BackendService;
+import edu.berkeley.sparrow.thrift.FrontendService;
+import edu.berkeley.sparrow.thrift.NodeMonitorService;
+import edu.berkeley.sparrow.thrift.TFullTaskId;
+import edu.berkeley.sparrow.thrift.TResourceVector;
+import edu.berkeley.sparrow.thrift.TTaskSpec;
+import edu.berkeley.sparrow.thrift.TUserGroupInfo;
+
+/**
+ * Runs a complete Sparrow cluster in a single JVM and measures its end-to-end performance.
+ *
+ * The cluster consists of several schedulers and node monitors (in standalone mode) plus one
+ * simulated application backend per node monitor, all communicating over Thrift on localhost
+ * ports. Backends "run" each task by waiting for the task's duration before reporting it
+ * finished. Jobs arrive according to a Poisson process and are submitted round-robin to the
+ * schedulers. Jobs that arrive during the warmup period are not measured.
+ *
+ * All latencies are measured from a job's (scheduled) arrival time, so delays in submitting
+ * jobs when the cluster is overloaded are included in the results.
+ */
+public class LocalClusterBenchmark {
+  private static final Logger LOG = Logger.getLogger(LocalClusterBenchmark.class);
+
+  public static final String APP_ID = "benchmarkApp";
+
+  public static final String NUM_SCHEDULERS = "num_schedulers";
+  public static final int DEFAULT_NUM_SCHEDULERS = 2;
+
+  public static final String NUM_NODE_MONITORS = "num_node_monitors";
+  public static final int DEFAULT_NUM_NODE_MONITORS = 10;
+
+  /** Number of tasks that each node monitor runs concurrently. */
+  public static final String SLOTS_PER_NODE = "slots_per_node";
+  public static final int DEFAULT_SLOTS_PER_NODE = 4;
+
+  public static final String JOB_ARRIVAL_RATE_S = "job_arrival_rate_s";
+  public static final double DEFAULT_JOB_ARRIVAL_RATE_S = 20;
+
+  public static final String TASKS_PER_JOB = "tasks_per_job";
+  public static final int DEFAULT_TASKS_PER_JOB = 4;
+
+  public static final String TASK_DURATION_MS = "task_duration_ms";
+  public static final int DEFAULT_TASK_DURATION_MS = 100;
+
+  public static final String WARMUP_S = "warmup_s";
+  public static final int DEFAULT_WARMUP_S = 5;
+
+  /** Amount of time to submit measured jobs for (not including the warmup period). */
+  public static final String EXPERIMENT_S = "experiment_s";
+  public static final int DEFAULT_EXPERIMENT_S = 30;
+
+  /** Maximum amount of time to wait for measured jobs to finish once submission stops. */
+  public static final String DRAIN_S = "drain_s";
+  public static final int DEFAULT_DRAIN_S = 30;
+
+  /** Ports used by the cluster are allocated sequentially starting at this port. */
+  public static final String BASE_PORT = "base_port";
+  public static final int DEFAULT_BASE_PORT = 30000;
+
+  /** Thrift server threads per daemon; the daemons' defaults are sized for a whole machine. */
+  private static final int THRIFT_THREADS = 4;
+  private static final int TASK_TIMER_THREADS = 4;
+
+  /** Times (from System.nanoTime()) at which each stage of a job happened. */
+  private static class JobRecord {
+    public final long arrivalNanos;
+    public final boolean measured;
+    /** Set once submitJob() returns successfully; stays 0 if it fails. */
+    public volatile long submittedNanos = 0;
+    public volatile boolean submitFailed = false;
+    public final long[] launchNanos;
+    public final long[] finishNanos;
+    public final AtomicInteger finishedTasks = new AtomicInteger(0);
+
+    public JobRecord(long arrivalNanos, int numTasks, boolean measured) {
+      this.arrivalNanos = arrivalNanos;
+      this.measured = measured;
+      launchNanos = new long[numTasks];
+      finishNanos = new long[numTasks];
+    }
+
+    public boolean isFinished() {
+      return finishedTasks.get() == launchNanos.length;
+    }
+  }
+
+  /** A backend that runs each task by waiting for the task's duration. */
+  private class SimulatedBackend implements BackendService.Iface {
+    /** Client used to report finished tasks; accesses must synchronize on the client. */
+    private NodeMonitorService.Client nodeMonitorClient;
+
+    public SimulatedBackend(int backendPort, int nodeMonitorPort)
+        throws IOException, TException {
+      BackendService.Processor<BackendService.Iface> processor =
+          new BackendService.Processor<BackendService.Iface>(this);
+      TServers.launchThreadedThriftServer(backendPort, THRIFT_THREADS, processor);
+      nodeMonitorClient = TClients.createBlockingNmClient("localhost", nodeMonitorPort);
+      nodeMonitorClient.registerBackend(APP_ID, "localhost:" + backendPort);
+    }
+
+    @Override
+    public void launchTask(ByteBuffer message, final TFullTaskId taskId, TUserGroupInfo user,
+                           TResourceVector estimatedResources) throws TException {
+      recordTaskEvent(taskId.getTaskId(), false);
+      int durationMs = message.getInt();
+      taskTimer.schedule(new Runnable() {
+        @Override
+        public void run() {
+          recordTaskEvent(taskId.getTaskId(), true);
+          try {
+            synchronized (nodeMonitorClient) {
+              nodeMonitorClient.tasksFinished(Lists.newArrayList(taskId));
+            }
+          } catch (TException e) {
+            LOG.error("Error reporting finished task " + taskId.getTaskId(), e);
+          }
+        }
+      }, durationMs, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  /** Frontend that ignores messages from backends. */
+  private static class BenchmarkFrontend implements FrontendService.Iface {
+    @Override
+    public void frontendMessage(TFullTaskId taskId, int status, ByteBuffer message) {
+    }
+
+    @Override
+    public void tasksLaunched(Map<String, List<String>> launchedTasks) {
+    }
+  }
+
+  /** Submits a single job. */
+  private class JobSubmitRunnable implements Runnable {
+    private int jobIndex;
+    private JobRecord job;
+    private SparrowFrontendClient client;
+
+    public JobSubmitRunnable(int jobIndex, JobRecord job, SparrowFrontendClient client) {
+      this.jobIndex = jobIndex;
+      this.job = job;
+      this.client = client;
+    }
+
+    @Override
+    public void run() {
+      List<TTaskSpec> tasks = Lists.newArrayList();
+      for (int i = 0; i < job.launchNanos.length; ++i) {
+        ByteBuffer message = ByteBuffer.allocate(4);
+        message.putInt(taskDurationMs);
+        tasks.add(new TTaskSpec(jobIndex + "_" + i, null, taskResources,
+                                ByteBuffer.wrap(message.array())));
+      }
+      try {
+        if (client.submitJob(APP_ID, tasks, user)) {
+          job.submittedNanos = System.nanoTime();
+          return;
+        }
+        LOG.error("Submitting job " + jobIndex + " failed");
+      } catch (TException e) {
+        LOG.error("Submitting job " + jobIndex + " failed", e);
+      }
+      job.submitFailed = true;
+    }
+  }
+
+  private int taskDurationMs;
+  private TResourceVector taskResources = TResources.createResourceVector(0, 1);
+  private TUserGroupInfo user = new TUserGroupInfo("user", "group");
+  private ConcurrentMap<Integer, JobRecord> jobs = Maps.newConcurrentMap();
+  private ScheduledExecutorService taskTimer =
+      Executors.newScheduledThreadPool(TASK_TIMER_THREADS);
+  private List<SparrowFrontendClient> frontendClients = Lists.newArrayList();
+  private int nextPort;
+
+  /** Records that a task (with ID "job_task") was launched, or finished if {@code finished}. */
+  private void recordTaskEvent(String taskId, boolean finished) {
+    long now = System.nanoTime();
+    int separator = taskId.indexOf('_');
+    JobRecord job = jobs.get(Integer.parseInt(taskId.substring(0, separator)));
+    int task = Integer.parseInt(taskId.substring(separator + 1));
+    if (finished) {
+      job.finishNanos[task] = now;
+      job.finishedTasks.incrementAndGet();
+    } else {
+      job.launchNanos[task] = now;
+    }
+  }
+
+  /** Starts the schedulers, node monitors, backends and frontend clients. */
+  private void startCluster(Configuration conf) throws Exception {
+    int numSchedulers = conf.getInt(NUM_SCHEDULERS, DEFAULT_NUM_SCHEDULERS);
+    int numNodeMonitors = conf.getInt(NUM_NODE_MONITORS, DEFAULT_NUM_NODE_MONITORS);
+    nextPort = conf.getInt(BASE_PORT, DEFAULT_BASE_PORT);
+
+    conf.setProperty(SparrowConf.DEPLYOMENT_MODE, "standalone");
+    conf.setProperty(SparrowConf.SYSTEM_CPUS, conf.getInt(SLOTS_PER_NODE, DEFAULT_SLOTS_PER_NODE));
+    for (String threads : new String[] {SparrowConf.SCHEDULER_THRIFT_THREADS,
+        SparrowConf.NM_THRIFT_THREADS, SparrowConf.INTERNAL_THRIFT_THREADS}) {
+      if (!conf.containsKey(threads)) {
+        conf.setProperty(threads, THRIFT_THREADS);
+      }
+    }
+
+    List<InetSocketAddress> schedulers = Lists.newArrayList();
+    for (int i = 0; i < numSchedulers; ++i) {
+      PropertiesConfiguration schedulerConf = new PropertiesConfiguration();
+      ConfigurationUtils.copy(conf, schedulerConf);
+      int schedulerPort = nextPort++;
+      schedulerConf.setProperty(SparrowConf.SCHEDULER_THRIFT_PORT, schedulerPort);
+      schedulerConf.setProperty(SparrowConf.GET_TASK_PORT, nextPort++);
+      new SchedulerThrift().initialize(schedulerConf);
+      schedulers.add(new InetSocketAddress("localhost", schedulerPort));
+    }
+
+    for (int i = 0; i < numNodeMonitors; ++i) {
+      int nodeMonitorPort = nextPort++;
+      new NodeMonitorThrift().initialize(conf, nodeMonitorPort, nextPort++);
+      new SimulatedBackend(nextPort++, nodeMonitorPort);
+    }
+
+    for (InetSocketAddress scheduler : schedulers) {
+      SparrowFrontendClient client = new SparrowFrontendClient();
+      client.initialize(scheduler, APP_ID, new BenchmarkFrontend(), nextPort++);
+      frontendClients.add(client);
+    }
+    LOG.info("Started " + numSchedulers + " schedulers and " + numNodeMonitors +
+             " node monitors");
+  }
+
+  public void run(Configuration conf) throws Exception {
+    startCluster(conf);
+
+    double lambda = conf.getDouble(JOB_ARRIVAL_RATE_S, DEFAULT_JOB_ARRIVAL_RATE_S);
+    int tasksPerJob = conf.getInt(TASKS_PER_JOB, DEFAULT_TASKS_PER_JOB);
+    taskDurationMs = conf.getInt(TASK_DURATION_MS, DEFAULT_TASK_DURATION_MS);
+    long warmupNanos = TimeUnit.SECONDS.toNanos(conf.getInt(WARMUP_S, DEFAULT_WARMUP_S));
+    long experimentNanos =
+        TimeUnit.SECONDS.toNanos(conf.getInt(EXPERIMENT_S, DEFAULT_EXPERIMENT_S));
+    long drainNanos = TimeUnit.SECONDS.toNanos(conf.getInt(DRAIN_S, DEFAULT_DRAIN_S));
+
+    // Jobs are submitted from separate threads, so that slow submissions don't delay arrivals.
+    ExecutorService submitters = Executors.newCachedThreadPool();
+    Random random = new Random();
+    long start = System.nanoTime();
+    long measurementStart = start + warmupNanos;
+    long measurementEnd = measurementStart + experimentNanos;
+    long arrival = start;
+    int numJobs = 0;
+    while (true) {
+      arrival += (long) (-Math.log(random.nextDouble()) / lambda * 1e9);
+      if (arrival >= measurementEnd) {
+        break;
+      }
+      long delay = arrival - System.nanoTime();
+      if (delay > 0) {
+        LockSupport.parkNanos(delay);
+      }
+      JobRecord job = new JobRecord(arrival, tasksPerJob, arrival >= measurementStart);
+      jobs.put(numJobs, job);
+      submitters.submit(new JobSubmitRunnable(
+          numJobs, job, frontendClients.get(numJobs % frontendClients.size())));
+      numJobs++;
+    }
+
+    long drainDeadline = System.nanoTime() + drainNanos;
+    while (System.nanoTime() < drainDeadline && !allMeasuredJobsFinished()) {
+      Thread.sleep(100);
+    }
+    printReport(lambda, tasksPerJob, measurementStart, measurementEnd);
+  }
+
+  private boolean allMeasuredJobsFinished() {
+    for (JobRecord job : jobs.values()) {
+      if (job.measured && !job.submitFailed && !job.isFinished()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void printReport(double lambda, int tasksPerJob, long measurementStart,
+                           long measurementEnd) {
+    DescriptiveStatistics submit = new DescriptiveStatistics();
+    DescriptiveStatistics placement = new DescriptiveStatistics();
+    DescriptiveStatistics run = new DescriptiveStatistics();
+    DescriptiveStatistics response = new DescriptiveStatistics();
+    int measuredJobs = 0;
+    int failedJobs = 0;
+    int unfinishedJobs = 0;
+    int jobsSubmitted = 0;
+    int tasksLaunched = 0;
+    for (JobRecord job : jobs.values()) {
+      // Throughput counts everything that happened during the measurement period.
+      if (job.submittedNanos >= measurementStart && job.submittedNanos < measurementEnd) {
+        jobsSubmitted++;
+      }
+      for (long launch : job.launchNanos) {
+        if (launch >= measurementStart && launch < measurementEnd) {
+          tasksLaunched++;
+        }
+      }
+      if (!job.measured) {
+        continue;
+      }
+      measuredJobs++;
+      if (job.submitFailed) {
+        failedJobs++;
+        continue;
+      }
+      if (!job.isFinished()) {
+        unfinishedJobs++;
+        continue;
+      }
+      submit.addValue(toMillis(job.submittedNanos - job.arrivalNanos));
+      long lastFinish = 0;
+      for (int i = 0; i < job.launchNanos.length; ++i) {
+        placement.addValue(toMillis(job.launchNanos[i] - job.arrivalNanos));
+        run.addValue(toMillis(job.finishNanos[i] - job.launchNanos[i]));
+        lastFinish = Math.max(lastFinish, job.finishNanos[i]);
+      }
+      response.addValue(toMillis(lastFinish - job.arrivalNanos));
+    }
+
+    double measurementS = (measurementEnd - measurementStart) / 1e9;
+    System.out.println(String.format("Offered load: %.1f jobs/s, %.1f tasks/s",
+                                     lambda, lambda * tasksPerJob));
+    System.out.println(String.format("Throughput: %.1f jobs/s submitted, %.1f tasks/s launched",
+                                     jobsSubmitted / measurementS, tasksLaunched / measurementS));
+    System.out.println(measuredJobs + " jobs measured, " + failedJobs + " failed to submit, " +
+                       unfinishedJobs + " did not finish");
+    System.out.println(String.format("%-45s %9s %9s %9s %9s", "Latency (ms)", "p50", "p90",
+                                     "p99", "max"));
+    printPercentiles("submit (arrival to submitJob() return)", submit);
+    printPercentiles("placement (arrival to task launch)", placement);
+    printPercentiles("run (task launch to finish)", run);
+    printPercentiles("response (arrival to last task finish)", response);
+    printSlowestTrace();
+  }
+
+  /** Prints the critical path of the slowest of the jobs that were traced, if any. */
+  private static void printSlowestTrace() {
+    SpanStore store = Tracer.getStore();
+    CriticalPath slowest = null;
+    for (long traceId : store.getTraceIds()) {
+      CriticalPath path = new CriticalPath(store.getSpans(traceId));
+      if (slowest == null || path.getDurationMicros() > slowest.getDurationMicros()) {
+        slowest = path;
+      }
+    }
+    if (slowest != null) {
+      System.out.println("Critical path of the slowest of " + store.getTraceIds().size() +
+                         " traced jobs:");
+      System.out.print(slowest);
+    }
+  }
+
+  private static double toMillis(long nanos) {
+    return nanos / 1e6;
+  }
+
+  private static void printPercentiles(String stage, DescriptiveStatistics stats) {
+    if (stats.getN() == 0) {
+      System.out.println(String.format("%-45s %9s", stage, "no data"));
+      return;
+    }
+    System.out.println(String.format("%-45s %9.2f %9.2f %9.2f %9.2f", stage,
+        stats.getPercentile(50), stats.getPercentile(90), stats.getPercentile(99),
+        stats.getMax()));
+  }
+
+  public static void main(String[] args) throws Exception {
+    OptionParser parser = new OptionParser();
+    parser.accepts("c", "configuration file").withRequiredArg().ofType(String.class);
+    parser.accepts("help", "print help statement");
+    OptionSet options = parser.parse(args);
+
+    if (options.has("help")) {
+      parser.printHelpOn(System.out);
+      System.exit(-1);
+    }
+
+    // Set up a simple configuration that logs on the console.
+    BasicConfigurator.configure();
+
+    Configuration conf = new PropertiesConfiguration();
+    if (options.has("c")) {
+      conf = new PropertiesConfiguration((String) options.valueOf("c"));
+    }
+    // The daemons log every RPC at the DEBUG level, which would slow the cluster down.
+    if (!conf.containsKey(SparrowConf.LOG_LEVEL)) {
+      conf.setProperty(SparrowConf.LOG_LEVEL, Level.WARN.toString());
+    }
+    Logger.getRootLogger().setLevel(Level.toLevel(conf.getString(SparrowConf.LOG_LEVEL)));
+    Tracer.configure(conf);
+
+    new LocalClusterBenchmark().run(conf);
+    System.exit(0);
+  }
+}
@@ -5,6 +5,7 @@ import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -273,6 +274,11 @@ public class ProtoFrontend implements FrontendService.Iface {
     LOG.debug("Got unexpected message: " + Serialization.getByteBufferContents(message));
   }
 
+  @Override
+  public void tasksLaunched(Map<String, List<String>> launchedTasks) {
+    // Handled by SparrowFrontendClient.
+  }
+
   public static void main(String[] args) {
     new ProtoFrontend().run(args);
   }
@@ -0,0 +1,172 @@
+package edu.berkeley.sparrow.simulation;
+
+/**
+ * A priority queue of simulation events, ordered by time and then by the order in which events
+ * were added (so events that happen at the same time are handled in FIFO order).
+ *
+ * Simulations handle many millions of events, so events aren't represented as objects: each
+ * event is stored in a slot in parallel arrays, and the binary heap holds slot numbers. Slots
+ * are reused once their events have been removed, so steady-state operation doesn't allocate.
+ *
+ * Not thread safe.
+ */
+class EventQueue {
+  private static final int INITIAL_CAPACITY = 1024;
+
+  // Event data, indexed by slot.
+  private long[] times = new long[INITIAL_CAPACITY];
+  private long[] sequenceNumbers = new long[INITIAL_CAPACITY];
+  private int[] types = new int[INITIAL_CAPACITY];
+  private int[] arguments = new int[INITIAL_CAPACITY];
+  private Object[] payloads = new Object[INITIAL_CAPACITY];
+
+  /** Slot numbers, arranged as a binary min-heap. */
+  private int[] heap = new int[INITIAL_CAPACITY];
+  private int size = 0;
+
+  /** Stack of slots that aren't in use. */
+  private int[] freeSlots = new int[INITIAL_CAPACITY];
+  private int numFreeSlots = 0;
+  /** Slots at or beyond this index have never been used. */
+  private int nextUnusedSlot = 0;
+
+  private long nextSequenceNumber = 0;
+
+  // The most recently removed event.
+  private long currentTime = 0;
+  private int currentType;
+  private int currentArgument;
+  private Object currentPayload;
+
+  /** Adds an event of the given type, which will happen at {@code time}. */
+  public void add(long time, int type, int argument, Object payload) {
+    int slot = allocateSlot();
+    times[slot] = time;
+    sequenceNumbers[slot] = nextSequenceNumber++;
+    types[slot] = type;
+    arguments[slot] = argument;
+    payloads[slot] = payload;
+
+    if (size == heap.length) {
+      heap = grow(heap, heap.length * 2);
+    }
+    heap[size] = slot;
+    siftUp(size);
+    size++;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Removes the earliest event, which can then be read using {@link #time()}, {@link #type()},
+   * {@link #argument()} and {@link #payload()}. Returns false if there are no events.
+   */
+  public boolean next() {
+    if (size == 0) {
+      return false;
+    }
+    int slot = heap[0];
+    size--;
+    if (size > 0) {
+      heap[0] = heap[size];
+      siftDown(0);
+    }
+
+    currentTime = times[slot];
+    currentType = types[slot];
+    currentArgument = arguments[slot];
+    currentPayload = payloads[slot];
+    payloads[slot] = null;
+    freeSlots[numFreeSlots++] = slot;
+    return true;
+  }
+
+  /** Returns the time of the most recently removed event. */
+  public long time() {
+    return currentTime;
+  }
+
+  public int type() {
+    return currentType;
+  }
+
+  public int argument() {
+    return currentArgument;
+  }
+
+  public Object payload() {
+    return currentPayload;
+  }
+
+  private int allocateSlot() {
+    if (numFreeSlots > 0) {
+      return freeSlots[--numFreeSlots];
+    }
+    if (nextUnusedSlot == times.length) {
+      int capacity = times.length * 2;
+      times = grow(times, capacity);
+      sequenceNumbers = grow(sequenceNumbers, capacity);
+      types = grow(types, capacity);
+      arguments = grow(arguments, capacity);
+      Object[] newPayloads = new Object[capacity];
+      System.arraycopy(payloads, 0, newPayloads, 0, payloads.length);
+      payloads = newPayloads;
+      freeSlots = grow(freeSlots, capacity);
+    }
+    return nextUnusedSlot++;
+  }
+
+  /** Returns true if the event in slot {@code a} should happen before the one in slot {@code b}. */
+  private boolean before(int a, int b) {
+    return times[a] < times[b] ||
+        (times[a] == times[b] && sequenceNumbers[a] < sequenceNumbers[b]);
+  }
+
+  private void siftUp(int index) {
+    int slot = heap[index];
+    while (index > 0) {
+      int parent = (index - 1) >>> 1;
+      if (!before(slot, heap[parent])) {
+        break;
+      }
+      heap[index] = heap[parent];
+      index = parent;
+    }
+    heap[index] = slot;
+  }
+
+  private void siftDown(int index) {
+    int slot = heap[index];
+    int half = size >>> 1;
+    while (index < half) {
+      int child = 2 * index + 1;
+      if (child + 1 < size && before(heap[child + 1], heap[child])) {
+        child++;
+      }
+      if (!before(heap[child], slot)) {
+        break;
+      }
+      heap[index] = heap[child];
+      index = child;
+    }
+    heap[index] = slot;
+  }
+
+  private static int[] grow(int[] array, int capacity) {
+    int[] newArray = new int[capacity];
+    System.arraycopy(array, 0, newArray, 0, array.length);
+    return newArray;
+  }
+
+  private static long[] grow(long[] array, int capacity) {
+    long[] newArray = new long[capacity];
+    System.arraycopy(array, 0, newArray, 0, array.length);
+    return newArray;
+  }
+}
@@ -0,0 +1,386 @@
+package edu.berkeley.sparrow.simulation;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.apache.commons.configuration.Configuration;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+import edu.berkeley.sparrow.daemon.nodemonitor.SimulatedNodeMonitor;
+import edu.berkeley.sparrow.daemon.nodemonitor.SimulatedNodeMonitor.GetTaskRequest;
+import edu.berkeley.sparrow.daemon.scheduler.SimulatedScheduler;
+import edu.berkeley.sparrow.daemon.util.TResources;
+import edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest;
+import edu.berkeley.sparrow.thrift.TFullTaskId;
+import edu.berkeley.sparrow.thrift.THostPort;
+import edu.berkeley.sparrow.thrift.TResourceVector;
+import edu.berkeley.sparrow.thrift.TSchedulingRequest;
+import edu.berkeley.sparrow.thrift.TTaskLaunchSpec;
+import edu.berkeley.sparrow.thrift.TTaskSpec;
+import edu.berkeley.sparrow.thrift.TUserGroupInfo;
+
+/**
+ * A discrete-event simulation of a Sparrow cluster, which places jobs using the production
+ * {@link edu.berkeley.sparrow.daemon.scheduler.TaskPlacer}s (via {@link SimulatedScheduler}) and
+ * queues reservations using the production
+ * {@link edu.berkeley.sparrow.daemon.nodemonitor.TaskScheduler}s (via
+ * {@link SimulatedNodeMonitor}). Only the network, the clock, and task execution are simulated:
+ * messages take a fixed one-way delay, and tasks run for a duration drawn from the configured
+ * distribution.
+ *
+ * Jobs arrive at randomly chosen schedulers according to a Poisson process, with a rate chosen
+ * so that the cluster is loaded to the configured utilization. The probe ratio and node monitor
+ * queueing policy are configured using the usual Sparrow settings
+ * ({@link edu.berkeley.sparrow.daemon.SparrowConf#SAMPLE_RATIO} and
+ * {@link edu.berkeley.sparrow.daemon.SparrowConf#NM_TASK_SCHEDULER_TYPE}).
+ *
+ * Workloads are reproducible given the same seed, but placement decisions are not, since task
+ * placers use their own sources of randomness.
+ *
+ * All times are in microseconds. Not thread safe; run separate simulations in parallel instead.
+ */
+public class Simulation implements SimulatedNodeMonitor.Cluster {
+  public static final String NUM_SCHEDULERS = "num_schedulers";
+  public static final int DEFAULT_NUM_SCHEDULERS = 10;
+
+  public static final String NUM_NODES = "num_nodes";
+  public static final int DEFAULT_NUM_NODES = 1000;
+
+  public static final String SLOTS_PER_NODE = "slots_per_node";
+  public static final int DEFAULT_SLOTS_PER_NODE = 4;
+
+  public static final String NUM_USERS = "num_users";
+  public static final int DEFAULT_NUM_USERS = 1;
+
+  public static final String NUM_JOBS = "num_jobs";
+  public static final int DEFAULT_NUM_JOBS = 100000;
+
+  public static final String TASKS_PER_JOB = "tasks_per_job";
+  public static final int DEFAULT_TASKS_PER_JOB = 10;
+
+  public static final String TASK_DURATION_MS = "task_duration_ms";
+  public static final double DEFAULT_TASK_DURATION_MS = 100;
+
+  /** "constant" or "exponential" (in which case task_duration_ms is the mean). */
+  public static final String TASK_DURATION_DISTRIBUTION = "task_duration_distribution";
+  public static final String DEFAULT_TASK_DURATION_DISTRIBUTION = "constant";
+
+  /** Fraction of the cluster's slots that are (on average) in use. */
+  public static final String LOAD = "load";
+  public static final double DEFAULT_LOAD = 0.8;
+
+  /** One-way delay of every message. */
+  public static final String NETWORK_DELAY_MS = "network_delay_ms";
+  public static final double DEFAULT_NETWORK_DELAY_MS = 0.5;
+
+  /** Fraction of jobs, at the start of the simulation, that are excluded from the results. */
+  public static final String WARMUP_FRACTION = "warmup_fraction";
+  public static final double DEFAULT_WARMUP_FRACTION = 0.1;
+
+  public static final String SEED = "seed";
+  public static final long DEFAULT_SEED = 0;
+
+  public static final String APP_ID = "simulatedApp";
+
+  private static final int NODE_MONITOR_PORT = 20502;
+  private static final int SCHEDULER_PORT = 20503;
+  private static final ByteBuffer EMPTY_MESSAGE = ByteBuffer.allocate(0);
+
+  // Event types.
+  private static final int JOB_ARRIVAL = 0;
+  /** Reservations arrive at a node monitor. The argument is the node's index. */
+  private static final int ENQUEUE_RESERVATIONS = 1;
+  /** A getTask() call arrives at a scheduler. The argument is the calling node's index. */
+  private static final int GET_TASK = 2;
+  /** A getTask() response arrives at a node monitor. */
+  private static final int GET_TASK_RESPONSE = 3;
+  /** A task finishes running. The argument is the node's index. */
+  private static final int TASK_FINISHED = 4;
+
+  /** Summary of a simulation's results. */
+  public static class Result {
+    public long measuredJobs;
+    public long events;
+    public double wallTimeS;
+    public double simulatedTimeS;
+    /** Job response time percentiles (50th, 90th, 99th), in milliseconds. */
+    public double responseTimeP50Ms;
+    public double responseTimeP90Ms;
+    public double responseTimeP99Ms;
+    /** Mean time from when a job arrives until each of its tasks is launched. */
+    public double meanTaskWaitMs;
+
+    public static String header() {
+      return "jobs\tresponse_p50_ms\tresponse_p90_ms\tresponse_p99_ms\tmean_task_wait_ms\t" +
+          "events\tsimulated_s\twall_s";
+    }
+
+    @Override
+    public String toString() {
+      return String.format("%d\t%.2f\t%.2f\t%.2f\t%.2f\t%d\t%.1f\t%.1f", measuredJobs,
+          responseTimeP50Ms, responseTimeP90Ms, responseTimeP99Ms, meanTaskWaitMs, events,
+          simulatedTimeS, wallTimeS);
+    }
+  }
+
+  private static class Job {
+    public long arrivalTime;
+    public long[] taskDurations;
+    public int finishedTasks = 0;
+  }
+
+  /** A getTask() response that is in flight to a node monitor. */
+  private static class GetTaskResponse {
+    public GetTaskRequest request;
+    public List<TTaskLaunchSpec> tasks;
+
+    public GetTaskResponse(GetTaskRequest request, List<TTaskLaunchSpec> tasks) {
+      this.request = request;
+      this.tasks = tasks;
+    }
+  }
+
+  private int numJobs;
+  private int tasksPerJob;
+  private int numUsers;
+  private long meanTaskDuration;
+  private boolean exponentialTaskDurations;
+  private long networkDelay;
+  private int warmupJobs;
+  /** Mean time between job arrivals. */
+  private double meanInterarrivalTime;
+  private Random random;
+
+  private EventQueue events = new EventQueue();
+  private SimulatedScheduler[] schedulers;
+  private SimulatedNodeMonitor[] nodeMonitors;
+  private List<InetSocketAddress> nodeAddresses = Lists.newArrayList();
+  private HashMap<InetSocketAddress, Integer> nodeIndices = Maps.newHashMap();
+  private TUserGroupInfo[] users;
+  private TResourceVector taskResources = TResources.createResourceVector(0, 1);
+
+  /** Jobs that haven't finished, indexed by job number (which is also the request ID). */
+  private Job[] jobs;
+  /**
+   * Scheduler that each job was submitted to. Kept separately from jobs, because reservations
+   * may still be outstanding when a job finishes.
+   */
+  private int[] jobSchedulers;
+  private int nextJob = 0;
+
+  // Statistics about jobs after the warmup period.
+  private long[] responseTimes;
+  private int numResponseTimes = 0;
+  private long totalTaskWait = 0;
+  private long measuredTasks = 0;
+
+  public Simulation(Configuration conf) {
+    numJobs = conf.getInt(NUM_JOBS, DEFAULT_NUM_JOBS);
+    tasksPerJob = conf.getInt(TASKS_PER_JOB, DEFAULT_TASKS_PER_JOB);
+    numUsers = conf.getInt(NUM_USERS, DEFAULT_NUM_USERS);
+    meanTaskDuration = millisToMicros(
+        conf.getDouble(TASK_DURATION_MS, DEFAULT_TASK_DURATION_MS));
+    String distribution = conf.getString(TASK_DURATION_DISTRIBUTION,
+                                         DEFAULT_TASK_DURATION_DISTRIBUTION);
+    if (distribution.equals("exponential")) {
+      exponentialTaskDurations = true;
+    } else if (!distribution.equals("constant")) {
+      throw new IllegalArgumentException("Unsupported task duration distribution: " +
+                                         distribution);
+    }
+    networkDelay = millisToMicros(conf.getDouble(NETWORK_DELAY_MS, DEFAULT_NETWORK_DELAY_MS));
+    warmupJobs = (int) (numJobs * conf.getDouble(WARMUP_FRACTION, DEFAULT_WARMUP_FRACTION));
+    random = new Random(conf.getLong(SEED, DEFAULT_SEED));
+
+    int numNodes = conf.getInt(NUM_NODES, DEFAULT_NUM_NODES);
+    int slotsPerNode = conf.getInt(SLOTS_PER_NODE, DEFAULT_SLOTS_PER_NODE);
+    double load = conf.getDouble(LOAD, DEFAULT_LOAD);
+    meanInterarrivalTime =
+        (double) tasksPerJob * meanTaskDuration / (load * numNodes * slotsPerNode);
+
+    schedulers = new SimulatedScheduler[conf.getInt(NUM_SCHEDULERS, DEFAULT_NUM_SCHEDULERS)];
+    for (int i = 0; i < schedulers.length; ++i) {
+      THostPort address = new THostPort(getAddress(11, i).getHostAddress(), SCHEDULER_PORT);
+      schedulers[i] = new SimulatedScheduler(address, conf);
+    }
+    nodeMonitors = new SimulatedNodeMonitor[numNodes];
+    for (int i = 0; i < numNodes; ++i) {
+      InetSocketAddress address = new InetSocketAddress(getAddress(10, i), NODE_MONITOR_PORT);
+      nodeMonitors[i] = new SimulatedNodeMonitor(address, slotsPerNode, conf, this);
+      nodeAddresses.add(address);
+      nodeIndices.put(address, i);
+    }
+    users = new TUserGroupInfo[numUsers];
+    for (int i = 0; i < numUsers; ++i) {
+      users[i] = new TUserGroupInfo("user" + i, "group");
+    }
+    jobs = new Job[numJobs];
+    jobSchedulers = new int[numJobs];
+    responseTimes = new long[Math.max(numJobs - warmupJobs, 0)];
+  }
+
+  /** Returns the address in {@code network}.0.0.0/8 with the given index. */
+  private static InetAddress getAddress(int network, int index) {
+    try {
+      return InetAddress.getByAddress(new byte[] {
+          (byte) network, (byte) (index >> 16), (byte) (index >> 8), (byte) index});
+    } catch (UnknownHostException e) {
+      // Only thrown if the address has the wrong length.
+      throw new RuntimeException(e);
+    }
+  }
+
+  private static long millisToMicros(double millis) {
+    return Math.round(millis * 1000);
+  }
+
+  /** Runs the simulation until all jobs have finished. */
+  public Result run() {
+    long start = System.currentTimeMillis();
+    long numEvents = 0;
+    if (numJobs > 0) {
+      events.add(0, JOB_ARRIVAL, 0, null);
+    }
+    while (events.next()) {
+      numEvents++;
+      long now = events.time();
+      switch (events.type()) {
+      case JOB_ARRIVAL:
+        handleJobArrival(now);
+        break;
+      case ENQUEUE_RESERVATIONS:
+        nodeMonitors[events.argument()].enqueueTaskReservations(
+            (TEnqueueTaskReservationsRequest) events.payload());
+        break;
+      case GET_TASK:
+        handleGetTask(now, events.argument(), (GetTaskRequest) events.payload());
+        break;
+      case GET_TASK_RESPONSE:
+        GetTaskResponse response = (GetTaskResponse) events.payload();
+        response.request.respond(response.tasks);
+        break;
+      case TASK_FINISHED:
+        handleTaskFinished(now, events.argument(), (TFullTaskId) events.payload());
+        break;
+      default:
+        throw new IllegalStateException("Unknown event type " + events.type());
+      }
+    }
+
+    Result result = new Result();
+    result.measuredJobs = numResponseTimes;
+    result.events = numEvents;
+    result.wallTimeS = (System.currentTimeMillis() - start) / 1000.0;
+    result.simulatedTimeS = events.time() / 1e6;
+    Arrays.sort(responseTimes, 0, numResponseTimes);
+    result.responseTimeP50Ms = percentile(responseTimes, numResponseTimes, 0.5) / 1000.0;
+    result.responseTimeP90Ms = percentile(responseTimes, numResponseTimes, 0.9) / 1000.0;
+    result.responseTimeP99Ms = percentile(responseTimes, numResponseTimes, 0.99) / 1000.0;
+    if (measuredTasks > 0) {
+      result.meanTaskWaitMs = (double) totalTaskWait / measuredTasks / 1000.0;
+    }
+    return result;
+  }
+
+  /** Returns the given percentile of the first {@code count} (sorted) values. */
+  private static long percentile(long[] sorted, int count, double percentile) {
+    if (count == 0) {
+      return 0;
+    }
+    return sorted[Math.min((int) (percentile * count), count - 1)];
+  }
+
+  private void handleJobArrival(long now) {
+    int jobNumber = nextJob++;
+    Job job = new Job();
+    job.arrivalTime = now;
+    int scheduler = random.nextInt(schedulers.length);
+    jobSchedulers[jobNumber] = scheduler;
+    job.taskDurations = new long[tasksPerJob];
+    List<TTaskSpec> tasks = Lists.newArrayListWithCapacity(tasksPerJob);
+    for (int i = 0; i < tasksPerJob; ++i) {
+      if (exponentialTaskDurations) {
+        job.taskDurations[i] = (long) (-Math.log(1 - random.nextDouble()) * meanTaskDuration);
+      } else {
+        job.taskDurations[i] = meanTaskDuration;
+      }
+      tasks.add(new TTaskSpec(Integer.toString(i), null, taskResources, EMPTY_MESSAGE));
+    }
+    jobs[jobNumber] = job;
+
+    TSchedulingRequest request =
+        new TSchedulingRequest(APP_ID, tasks, users[jobNumber % numUsers]);
+    Map<InetSocketAddress, TEnqueueTaskReservationsRequest> reservations =
+        schedulers[scheduler].submitJob(request, Integer.toString(jobNumber),
+                                            nodeAddresses);
+    for (Map.Entry<InetSocketAddress, TEnqueueTaskReservationsRequest> entry :
+         reservations.entrySet()) {
+      events.add(now + networkDelay, ENQUEUE_RESERVATIONS, nodeIndices.get(entry.getKey()),
+                 entry.getValue());
+    }
+
+    if (nextJob < numJobs) {
+      long interarrivalTime =
+          (long) (-Math.log(1 - random.nextDouble()) * meanInterarrivalTime);
+      events.add(now + interarrivalTime, JOB_ARRIVAL, 0, null);
+    }
+  }
+
+  private void handleGetTask(long now, int node, GetTaskRequest request) {
+    int scheduler = jobSchedulers[Integer.parseInt(request.getRequestId())];
+    List<TTaskLaunchSpec> tasks = schedulers[scheduler].getTask(
+        request.getRequestId(), nodeMonitors[node].getThriftAddress());
+    events.add(now + networkDelay, GET_TASK_RESPONSE, node,
+               new GetTaskResponse(request, tasks));
+  }
+
+  @Override
+  public void getTask(SimulatedNodeMonitor nodeMonitor, GetTaskRequest request) {
+    events.add(events.time() + networkDelay, GET_TASK, nodeIndices.get(nodeMonitor.getAddress()),
+               request);
+  }
+
+  @Override
+  public void launchTask(SimulatedNodeMonitor nodeMonitor, String requestId,
+                         TTaskLaunchSpec task) {
+    long now = events.time();
+    int jobNumber = Integer.parseInt(requestId);
+    Job job = jobs[jobNumber];
+    if (jobNumber >= warmupJobs) {
+      totalTaskWait += now - job.arrivalTime;
+      measuredTasks++;
+    }
+    long duration = job.taskDurations[Integer.parseInt(task.getTaskId())];
+    TFullTaskId taskId = new TFullTaskId(task.getTaskId(), requestId, APP_ID,
+                                         schedulers[jobSchedulers[jobNumber]].getAddress());
+    events.add(now + duration, TASK_FINISHED, nodeIndices.get(nodeMonitor.getAddress()),
+               taskId);
+  }
+
+  @Override
+  public long nanoTime() {
+    return events.time() * 1000;
+  }
+
+  private void handleTaskFinished(long now, int node, TFullTaskId taskId) {
+    int jobNumber = Integer.parseInt(taskId.getRequestId());
+    Job job = jobs[jobNumber];
+    job.finishedTasks++;
+    if (job.finishedTasks == job.taskDurations.length) {
+      if (jobNumber >= warmupJobs) {
+        responseTimes[numResponseTimes++] = now - job.arrivalTime;
+      }
+      jobs[jobNumber] = null;
+    }
+    nodeMonitors[node].taskFinished(taskId);
+  }
+}
@@ -0,0 +1,149 @@
+package edu.berkeley.sparrow.simulation;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import joptsimple.OptionParser;
+import joptsimple.OptionSet;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.commons.configuration.ConfigurationUtils;
+import org.apache.commons.configuration.PropertiesConfiguration;
+import org.apache.log4j.BasicConfigurator;
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+
+import com.google.common.base.Joiner;
+import com.google.common.collect.Lists;
+
+import edu.berkeley.sparrow.daemon.util.Logging;
+
+/**
+ * Runs {@link Simulation}s for every combination of a set of parameters, in parallel, and prints
+ * a tab-separated table of the results.
+ *
+ * Parameters are read from a properties file; any parameter given a comma-separated list of
+ * values (e.g., "load = 0.5,0.7,0.9") is swept over. For example:
+ *
+ * <pre>
+ * num_nodes = 10000
+ * num_jobs = 1000000
+ * load = 0.5,0.7,0.9
+ * sample.ratio = 1,1.5,2
+ * node_monitor.task_scheduler = fifo,round_robin
+ * </pre>
+ */
+public class SimulationSweep {
+  private static final Logger LOG = Logger.getLogger(SimulationSweep.class);
+
+  private static class SimulationRunnable implements Callable<Simulation.Result> {
+    private Configuration conf;
+
+    public SimulationRunnable(Configuration conf) {
+      this.conf = conf;
+    }
+
+    @Override
+    public Simulation.Result call() {
+      return new Simulation(conf).run();
+    }
+  }
+
+  /**
+   * Returns a configuration for each combination of values of {@code sweptKeys}. The values of
+   * each combination are appended to {@code combinations}.
+   */
+  private static List<Configuration> getConfigurations(
+      Configuration conf, List<String> sweptKeys, List<List<Object>> combinations) {
+    List<Configuration> configurations = Lists.newArrayList();
+    List<Object> values = Lists.newArrayList();
+    addConfigurations(conf, sweptKeys, values, configurations, combinations);
+    return configurations;
+  }
+
+  private static void addConfigurations(Configuration conf, List<String> sweptKeys,
+      List<Object> values, List<Configuration> configurations,
+      List<List<Object>> combinations) {
+    if (values.size() == sweptKeys.size()) {
+      PropertiesConfiguration simulationConf = new PropertiesConfiguration();
+      ConfigurationUtils.copy(conf, simulationConf);
+      for (int i = 0; i < sweptKeys.size(); ++i) {
+        simulationConf.setProperty(sweptKeys.get(i), values.get(i));
+      }
+      configurations.add(simulationConf);
+      combinations.add(Lists.newArrayList(values));
+      return;
+    }
+    for (Object value : conf.getList(sweptKeys.get(values.size()))) {
+      values.add(value);
+      addConfigurations(conf, sweptKeys, values, configurations, combinations);
+      values.remove(values.size() - 1);
+    }
+  }
+
+  public static void main(String[] args) throws Exception {
+    OptionParser parser = new OptionParser();
+    parser.accepts("c", "simulation parameters file").withRequiredArg().ofType(String.class);
+    parser.accepts("t", "number of simulations to run in parallel (defaults to the number of " +
+                   "cores)").withRequiredArg().ofType(Integer.class);
+    parser.accepts("help", "print help statement");
+    OptionSet options = parser.parse(args);
+
+    if (options.has("help")) {
+      parser.printHelpOn(System.out);
+      System.exit(-1);
+    }
+
+    // Log only warnings on the console; the daemon code logs every RPC at lower levels.
+    BasicConfigurator.configure();
+    Logger.getRootLogger().setLevel(Level.WARN);
+    Logger.getLogger(Logging.AUDIT_LOGGER_NAME).setLevel(Level.OFF);
+
+    Configuration conf = new PropertiesConfiguration();
+    if (options.has("c")) {
+      conf = new PropertiesConfiguration((String) options.valueOf("c"));
+    }
+    int threads = Runtime.getRuntime().availableProcessors();
+    if (options.has("t")) {
+      threads = (Integer) options.valueOf("t");
+    }
+
+    List<String> sweptKeys = Lists.newArrayList();
+    Iterator<?> keys = conf.getKeys();
+    while (keys.hasNext()) {
+      String key = (String) keys.next();
+      if (conf.getList(key).size() > 1) {
+        sweptKeys.add(key);
+      }
+    }
+    List<List<Object>> combinations = Lists.newArrayList();
+    List<Configuration> configurations = getConfigurations(conf, sweptKeys, combinations);
+    LOG.warn("Running " + configurations.size() + " simulations using " + threads + " threads");
+
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    List<Future<Simulation.Result>> results = Lists.newArrayList();
+    for (Configuration simulationConf : configurations) {
+      results.add(executor.submit(new SimulationRunnable(simulationConf)));
+    }
+
+    Joiner joiner = Joiner.on("\t");
+    if (sweptKeys.isEmpty()) {
+      System.out.println(Simulation.Result.header());
+    } else {
+      System.out.println(joiner.join(sweptKeys) + "\t" + Simulation.Result.header());
+    }
+    for (int i = 0; i < results.size(); ++i) {
+      Simulation.Result result = results.get(i).get();
+      if (sweptKeys.isEmpty()) {
+        System.out.println(result);
+      } else {
+        System.out.println(joiner.join(combinations.get(i)) + "\t" + result);
+      }
+    }
+    executor.shutdown();
+  }
+}
@@ -0,0 +1,304 @@
+package edu.berkeley.sparrow.statestore;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.log4j.Logger;
+
+import com.google.common.base.Optional;
+
+import edu.berkeley.sparrow.daemon.SparrowConf;
+import edu.berkeley.sparrow.daemon.util.Serialization;
+
+/**
+ * A {@link StateStoreState} that records every change in the set of schedulers and node
+ * monitors in an append-only, memory-mapped log, so that a restarted state store can resume
+ * polling the whole cluster immediately, rather than waiting for every daemon to register again.
+ *
+ * Each change is appended to the log and flushed to disk before the corresponding signal
+ * method returns. The log is compacted (rewritten with one record per current member, and
+ * atomically renamed over the old log) when it is opened and whenever it holds more than
+ * {@link SparrowConf#STATE_STORE_COMPACT_RECORDS} records and more than twice as many records
+ * as members.
+ *
+ * File format (all values big-endian):
+ * <pre>
+ * header: int MAGIC, int VERSION
+ * record: byte type, byte address length, that many (ASCII) characters of "host:port", and
+ *         an int CRC32 of the preceding fields of the record
+ * </pre>
+ * The log ends at the first record with type 0 (the mapped file beyond the last record is
+ * zero), or at a record that is truncated or has a bad checksum because the state store failed
+ * while writing it.
+ *
+ * This class is thread safe.
+ */
+public class DurableStateStoreState implements StateStoreState {
+  private final static Logger LOG = Logger.getLogger(DurableStateStoreState.class);
+
+  public final static int MAGIC = 0x53504d31;
+  public final static int VERSION = 1;
+  private final static int HEADER_SIZE = 8;
+  private final static byte ADD_SCHEDULER = 1;
+  private final static byte REMOVE_SCHEDULER = 2;
+  private final static byte ADD_NODE_MONITOR = 3;
+  private final static byte REMOVE_NODE_MONITOR = 4;
+  /** Size of a record, not including the address. */
+  private final static int RECORD_OVERHEAD = 1 + 1 + 4;
+  private final static int MIN_MAPPED_SIZE = 64 * 1024;
+
+  private File file;
+  private int compactRecords;
+  private final LinkedHashSet<InetSocketAddress> schedulers =
+      new LinkedHashSet<InetSocketAddress>();
+  private final LinkedHashSet<InetSocketAddress> nodeMonitors =
+      new LinkedHashSet<InetSocketAddress>();
+
+  private RandomAccessFile logFile;
+  private MappedByteBuffer log;
+  /** Number of records in the log. */
+  private int numRecords;
+  /** Set if the log couldn't be written, after which membership is only tracked in memory. */
+  private boolean failed = false;
+
+  @Override
+  public synchronized void initialize(Configuration conf) throws IOException {
+    file = new File(conf.getString(SparrowConf.STATE_STORE_MEMBERSHIP_LOG,
+                                   SparrowConf.DEFAULT_STATE_STORE_MEMBERSHIP_LOG));
+    compactRecords = conf.getInt(SparrowConf.STATE_STORE_COMPACT_RECORDS,
+                                 SparrowConf.DEFAULT_STATE_STORE_COMPACT_RECORDS);
+    if (file.exists()) {
+      long start = System.nanoTime();
+      int records = replay();
+      LOG.info("Recovered " + schedulers.size() + " schedulers and " + nodeMonitors.size() +
+               " node monitors from " + records + " records in " + file + " in " +
+               (System.nanoTime() - start) / 1000 + " microseconds");
+    }
+    compact();
+  }
+
+  @Override
+  public synchronized List<InetSocketAddress> getInitialSchedulers() {
+    return new ArrayList<InetSocketAddress>(schedulers);
+  }
+
+  @Override
+  public synchronized List<InetSocketAddress> getInitialNodeMonitors() {
+    return new ArrayList<InetSocketAddress>(nodeMonitors);
+  }
+
+  @Override
+  public synchronized void signalInactiveScheduler(InetSocketAddress scheduler) {
+    if (schedulers.remove(scheduler)) {
+      append(REMOVE_SCHEDULER, scheduler);
+    }
+  }
+
+  @Override
+  public synchronized void signalInactiveNodeMonitor(InetSocketAddress nodeMonitor) {
+    if (nodeMonitors.remove(nodeMonitor)) {
+      append(REMOVE_NODE_MONITOR, nodeMonitor);
+    }
+  }
+
+  @Override
+  public synchronized void signalActiveScheduer(InetSocketAddress scheduler) {
+    if (schedulers.add(scheduler)) {
+      append(ADD_SCHEDULER, scheduler);
+    }
+  }
+
+  @Override
+  public synchronized void signalActiveNodeMonitor(InetSocketAddress nodeMonitor) {
+    if (nodeMonitors.add(nodeMonitor)) {
+      append(ADD_NODE_MONITOR, nodeMonitor);
+    }
+  }
+
+  /** Returns the number of records in the log. */
+  synchronized int getNumRecords() {
+    return numRecords;
+  }
+
+  /** Closes the log. The state can't be changed afterwards. */
+  public synchronized void close() throws IOException {
+    if (logFile != null) {
+      logFile.close();
+      logFile = null;
+      failed = true;
+    }
+  }
+
+  /** Applies the records in the log file to the in-memory state, and returns their number. */
+  private int replay() throws IOException {
+    RandomAccessFile in = new RandomAccessFile(file, "r");
+    try {
+      MappedByteBuffer buffer = in.getChannel().map(FileChannel.MapMode.READ_ONLY, 0,
+                                                    in.length());
+      if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC) {
+        throw new IOException(file + " is not a membership log");
+      }
+      int version = buffer.getInt();
+      if (version != VERSION) {
+        throw new IOException("Unsupported membership log version: " + version);
+      }
+      int records = 0;
+      CRC32 crc = new CRC32();
+      while (buffer.remaining() >= RECORD_OVERHEAD) {
+        int start = buffer.position();
+        byte type = buffer.get();
+        if (type == 0) {
+          return records;
+        }
+        byte[] address = new byte[buffer.get() & 0xff];
+        if (buffer.remaining() < address.length + 4) {
+          buffer.position(start);
+          break;
+        }
+        buffer.get(address);
+        crc.reset();
+        crc.update(type);
+        crc.update(address.length);
+        crc.update(address);
+        if (buffer.getInt() != (int) crc.getValue()) {
+          buffer.position(start);
+          break;
+        }
+        apply(type, new String(address, "US-ASCII"));
+        records++;
+      }
+      if (buffer.hasRemaining() && buffer.get(buffer.position()) != 0) {
+        LOG.warn("Ignoring incomplete record at offset " + buffer.position() + " of " + file);
+      }
+      return records;
+    } finally {
+      in.close();
+    }
+  }
+
+  private void apply(byte type, String address) {
+    Optional<InetSocketAddress> socket = Serialization.strToSocket(address);
+    if (!socket.isPresent()) {
+      LOG.warn("Ignoring invalid address in membership log: " + address);
+      return;
+    }
+    switch (type) {
+      case ADD_SCHEDULER:
+        schedulers.add(socket.get());
+        break;
+      case REMOVE_SCHEDULER:
+        schedulers.remove(socket.get());
+        break;
+      case ADD_NODE_MONITOR:
+        nodeMonitors.add(socket.get());
+        break;
+      case REMOVE_NODE_MONITOR:
+        nodeMonitors.remove(socket.get());
+        break;
+      default:
+        LOG.warn("Ignoring membership log record with unknown type " + type);
+    }
+  }
+
+  /**
+   * Replaces the log with one that holds a record for each current member. The new log is
+   * written to a temporary file which is then renamed over the old one, so a failure at any
+   * point leaves either the old or new log intact.
+   */
+  private void compact() throws IOException {
+    List<byte[]> records = new ArrayList<byte[]>();
+    int size = HEADER_SIZE + 1;
+    for (InetSocketAddress scheduler : schedulers) {
+      records.add(encode(ADD_SCHEDULER, scheduler));
+      size += records.get(records.size() - 1).length;
+    }
+    for (InetSocketAddress nodeMonitor : nodeMonitors) {
+      records.add(encode(ADD_NODE_MONITOR, nodeMonitor));
+      size += records.get(records.size() - 1).length;
+    }
+
+    File compacted = new File(file.getPath() + ".tmp");
+    RandomAccessFile out = new RandomAccessFile(compacted, "rw");
+    MappedByteBuffer compactedLog;
+    try {
+      out.setLength(0);
+      // Leave room for as many records again before the file has to be remapped.
+      compactedLog = map(out, 2 * size);
+      compactedLog.putInt(MAGIC);
+      compactedLog.putInt(VERSION);
+      for (byte[] record : records) {
+        compactedLog.put(record);
+      }
+      compactedLog.force();
+      if (!compacted.renameTo(file)) {
+        throw new IOException("Unable to rename " + compacted + " to " + file);
+      }
+    } catch (IOException e) {
+      out.close();
+      throw e;
+    }
+    if (logFile != null) {
+      logFile.close();
+    }
+    logFile = out;
+    log = compactedLog;
+    numRecords = records.size();
+  }
+
+  /** Appends a record to the log and flushes it to disk, compacting the log if necessary. */
+  private void append(byte type, InetSocketAddress address) {
+    if (failed) {
+      return;
+    }
+    try {
+      byte[] record = encode(type, address);
+      // Leave room for a zero type byte to mark the end of the log.
+      if (log.remaining() < record.length + 1) {
+        int position = log.position();
+        log = map(logFile, 2 * log.capacity());
+        log.position(position);
+      }
+      log.put(record);
+      log.force();
+      numRecords++;
+      if (numRecords > compactRecords &&
+          numRecords > 2 * (schedulers.size() + nodeMonitors.size())) {
+        compact();
+      }
+    } catch (IOException e) {
+      LOG.error("Unable to write membership log " + file + "; membership changes will no " +
+                "longer be recorded", e);
+      failed = true;
+    }
+  }
+
+  private static byte[] encode(byte type, InetSocketAddress address) throws IOException {
+    String hostPort = address.getAddress().getHostAddress() + ":" + address.getPort();
+    byte[] bytes = hostPort.getBytes("US-ASCII");
+    CRC32 crc = new CRC32();
+    crc.update(type);
+    crc.update(bytes.length);
+    crc.update(bytes);
+    ByteBuffer record = ByteBuffer.allocate(RECORD_OVERHEAD + bytes.length);
+    record.put(type);
+    record.put((byte) bytes.length);
+    record.put(bytes);
+    record.putInt((int) crc.getValue());
+    return record.array();
+  }
+
+  private static MappedByteBuffer map(RandomAccessFile file, int size) throws IOException {
+    return file.getChannel().map(FileChannel.MapMode.READ_WRITE, 0,
+                                 Math.max(size, MIN_MAPPED_SIZE));
+  }
+}
@@ -46,7 +46,7 @@ public class NonDurableSchedulerState implements StateStoreState {
 
   @Override
   public void signalActiveNodeMonitor(InetSocketAddress nodeMonitor) {
-    if (nodeMonitors.contains(nodeMonitor)) { nodeMonitors.remove(nodeMonitor); }
+    if (!nodeMonitors.contains(nodeMonitor)) { nodeMonitors.add(nodeMonitor); }
   }
 
 }
@@ -0,0 +1,62 @@
+package edu.berkeley.sparrow.statestore;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import com.google.common.collect.Maps;
+
+import edu.berkeley.sparrow.thrift.TQuotaReconciliation;
+
+/**
+ * Sums the quota demand that schedulers report (see
+ * {@link edu.berkeley.sparrow.daemon.scheduler.QuotaManager}), so that each scheduler can take
+ * a share of each principal's quota in proportion to its share of the demand. The most recent
+ * report from each scheduler is kept until the scheduler hasn't reported for the timeout, after
+ * which it is assumed to have failed.
+ *
+ * This class is thread safe.
+ */
+public class QuotaLedger {
+  /** A scheduler's most recent report, and when it was received. */
+  private static class Report {
+    long receivedMillis;
+    Map<String, Long> demand;
+
+    Report(long receivedMillis, Map<String, Long> demand) {
+      this.receivedMillis = receivedMillis;
+      this.demand = demand;
+    }
+  }
+
+  private final long timeoutMillis;
+  /** The most recent report from each scheduler. Guarded by this. */
+  private final Map<String, Report> reports = Maps.newHashMap();
+
+  public QuotaLedger(long timeoutMillis) {
+    this.timeoutMillis = timeoutMillis;
+  }
+
+  /**
+   * Records the demand reported by {@code scheduler}, and returns the demand summed over the
+   * schedulers that have reported within the timeout.
+   */
+  public synchronized TQuotaReconciliation report(String scheduler, Map<String, Long> demand,
+                                                  long nowMillis) {
+    reports.put(scheduler, new Report(nowMillis, demand));
+    Map<String, Long> totalDemand = Maps.newHashMap();
+    Iterator<Report> it = reports.values().iterator();
+    while (it.hasNext()) {
+      Report report = it.next();
+      if (nowMillis - report.receivedMillis > timeoutMillis) {
+        it.remove();
+        continue;
+      }
+      for (Entry<String, Long> entry : report.demand.entrySet()) {
+        Long total = totalDemand.get(entry.getKey());
+        totalDemand.put(entry.getKey(), (total == null ? 0 : total) + entry.getValue());
+      }
+    }
+    return new TQuotaReconciliation(totalDemand, reports.size());
+  }
+}
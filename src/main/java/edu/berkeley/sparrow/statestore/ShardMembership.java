@@ -0,0 +1,187 @@
+package edu.berkeley.sparrow.statestore;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.log4j.Logger;
+import org.apache.thrift.TException;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+import edu.berkeley.sparrow.daemon.util.Serialization;
+import edu.berkeley.sparrow.daemon.util.TClients;
+import edu.berkeley.sparrow.thrift.StateStoreService;
+
+/**
+ * Tracks which state store shards are live, and maintains the {@link ShardRing} of the live
+ * shards.
+ *
+ * Every third of the shard timeout, this shard sends a heartbeat to every shard it knows
+ * about. The reply lists the shards the recipient knows about, so a shard that joins only
+ * needs to be configured with the address of one existing shard. A shard is live if a heartbeat
+ * has been exchanged with it (in either direction) within the timeout. Whenever the set of live
+ * shards changes, the ring is rebuilt and the listener is notified, so the node monitors in
+ * the joining (or leaving) shard's ranges are handed over.
+ *
+ * Shards are identified by the address each one gives for itself (IP:port), which is the first
+ * entry of its heartbeat replies.
+ */
+public class ShardMembership {
+  private final static Logger LOG = Logger.getLogger(ShardMembership.class);
+  /** Maximum time to wait to connect to, and hear back from, another shard. */
+  private final static int HEARTBEAT_TIMEOUT_MS = 1000;
+
+  /** Notified (while the ring is locked) when the set of live shards changes. */
+  public interface Listener {
+    void ringChanged(ShardRing ring);
+  }
+
+  private final String self;
+  private final long timeoutMillis;
+  private final Listener listener;
+  /** When each other known shard was last heard from (0 if it never has been). */
+  private final ConcurrentMap<String, Long> lastHeardMillis = Maps.newConcurrentMap();
+  private ShardRing ring;
+
+  /**
+   * @param self the address of this shard
+   * @param seeds addresses of other shards to contact initially
+   */
+  public ShardMembership(String self, Collection<String> seeds, long timeoutMillis,
+                         Listener listener) {
+    this.self = self;
+    this.timeoutMillis = timeoutMillis;
+    this.listener = listener;
+    for (String seed : seeds) {
+      if (!seed.equals(self)) {
+        lastHeardMillis.put(seed, 0L);
+      }
+    }
+    ring = new ShardRing(Lists.newArrayList(self));
+  }
+
+  public String getSelf() {
+    return self;
+  }
+
+  public synchronized ShardRing getRing() {
+    return ring;
+  }
+
+  /** Returns the addresses of the other live shards. */
+  public List<String> getLivePeers() {
+    long now = System.currentTimeMillis();
+    List<String> live = Lists.newArrayList();
+    for (Map.Entry<String, Long> shard : lastHeardMillis.entrySet()) {
+      if (now - shard.getValue() < timeoutMillis) {
+        live.add(shard.getKey());
+      }
+    }
+    return live;
+  }
+
+  /**
+   * Handles a heartbeat from {@code shard}. Returns the address of this shard, followed by the
+   * addresses of the other shards it knows about.
+   */
+  public List<String> onHeartbeat(String shard) {
+    if (!shard.equals(self)) {
+      lastHeardMillis.put(shard, System.currentTimeMillis());
+    }
+    updateRing();
+    List<String> shards = Lists.newArrayList(self);
+    shards.addAll(lastHeardMillis.keySet());
+    return shards;
+  }
+
+  /** Sends a heartbeat to every known shard, and then updates the ring. */
+  public void sendHeartbeats() {
+    for (String shard : Lists.newArrayList(lastHeardMillis.keySet())) {
+      List<String> reply = sendHeartbeat(shard);
+      if (reply == null || reply.isEmpty()) {
+        continue;
+      }
+      String address = reply.get(0);
+      if (!address.equals(shard)) {
+        // The shard was configured under a different address than the one it uses itself.
+        lastHeardMillis.remove(shard);
+      }
+      if (!address.equals(self)) {
+        lastHeardMillis.put(address, System.currentTimeMillis());
+      }
+      for (String other : reply.subList(1, reply.size())) {
+        if (!other.equals(self)) {
+          lastHeardMillis.putIfAbsent(other, 0L);
+        }
+      }
+    }
+    updateRing();
+  }
+
+  /** Starts a daemon thread that sends heartbeats every third of the shard timeout. */
+  public void start() {
+    Thread thread = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        while (true) {
+          try {
+            Thread.sleep(timeoutMillis / 3);
+          } catch (InterruptedException e) {
+            return;
+          }
+          try {
+            sendHeartbeats();
+          } catch (RuntimeException e) {
+            LOG.error("Error sending state store shard heartbeats", e);
+          }
+        }
+      }
+    }, "ShardHeartbeats");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  private synchronized void updateRing() {
+    Set<String> live = Sets.newHashSet(getLivePeers());
+    live.add(self);
+    if (live.equals(ring.getShards())) {
+      return;
+    }
+    ring = new ShardRing(live);
+    LOG.info("Live state store shards changed to " + ring.getShards());
+    listener.ringChanged(ring);
+  }
+
+  /** Returns the reply to a heartbeat sent to {@code shard}, or null if it didn't reply. */
+  private List<String> sendHeartbeat(String shard) {
+    Optional<InetSocketAddress> address = Serialization.strToSocket(shard);
+    if (!address.isPresent() || address.get().isUnresolved()) {
+      LOG.warn("Bad state store shard address: " + shard);
+      lastHeardMillis.remove(shard);
+      return null;
+    }
+    try {
+      StateStoreService.Client client = TClients.createBlockingStateStoreClient(
+          address.get().getAddress().getHostAddress(), address.get().getPort(),
+          HEARTBEAT_TIMEOUT_MS);
+      try {
+        return client.shardHeartbeat(self);
+      } finally {
+        client.getInputProtocol().getTransport().close();
+      }
+    } catch (IOException e) {
+      LOG.debug("Unable to connect to state store shard " + shard);
+    } catch (TException e) {
+      LOG.debug("Heartbeat to state store shard " + shard + " failed", e);
+    }
+    return null;
+  }
+}
@@ -0,0 +1,54 @@
+package edu.berkeley.sparrow.statestore;
+
+import java.net.InetSocketAddress;
+import java.util.Collection;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+/**
+ * A consistent hash ring that assigns each node monitor to one state store shard.
+ *
+ * Each shard is placed at {@link #VIRTUAL_NODES} points on the ring, and a node monitor is
+ * owned by the shard at the first point at or after the node monitor's hash. So every shard
+ * owns roughly the same number of node monitors, and when a shard joins or leaves, only the
+ * node monitors in its ranges move. Rings built from the same shards are identical on every
+ * machine.
+ */
+public class ShardRing {
+  /** Number of points on the ring for each shard. */
+  public static final int VIRTUAL_NODES = 128;
+  private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+
+  private final Set<String> shards;
+  private final TreeMap<Long, String> ring = new TreeMap<Long, String>();
+
+  /** Creates a ring of the given shards, which are identified by their addresses (IP:port). */
+  public ShardRing(Collection<String> shards) {
+    this.shards = new TreeSet<String>(shards);
+    for (String shard : this.shards) {
+      for (int i = 0; i < VIRTUAL_NODES; ++i) {
+        ring.put(HASH_FUNCTION.hashString(shard + "#" + i).asLong(), shard);
+      }
+    }
+  }
+
+  public Set<String> getShards() {
+    return shards;
+  }
+
+  /** Returns the shard that owns the given node monitor, or null if the ring is empty. */
+  public String getOwner(InetSocketAddress nodeMonitor) {
+    if (ring.isEmpty()) {
+      return null;
+    }
+    long hash = HASH_FUNCTION.hashString(
+        nodeMonitor.getAddress().getHostAddress() + ":" + nodeMonitor.getPort()).asLong();
+    SortedMap<Long, String> following = ring.tailMap(hash);
+    return ring.get(following.isEmpty() ? ring.firstKey() : following.firstKey());
+  }
+}
@@ -2,8 +2,11 @@ package edu.berkeley.sparrow.statestore;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.PriorityBlockingQueue;
 
 import joptsimple.OptionParser;
@@ -23,9 +26,14 @@ import org.apache.thrift.transport.TNonblockingSocket;
 import org.apache.thrift.transport.TNonblockingTransport;
 
 import com.google.common.base.Optional;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 
 import edu.berkeley.sparrow.daemon.SparrowConf;
+import edu.berkeley.sparrow.daemon.util.ConfigUtil;
+import edu.berkeley.sparrow.daemon.util.Network;
 import edu.berkeley.sparrow.daemon.util.Serialization;
+import edu.berkeley.sparrow.daemon.util.TClients;
 import edu.berkeley.sparrow.daemon.util.TResources;
 import edu.berkeley.sparrow.daemon.util.TServers;
 import edu.berkeley.sparrow.thrift.InternalService;
@@ -34,41 +42,50 @@ import edu.berkeley.sparrow.thrift.SchedulerStateStoreService;
 import edu.berkeley.sparrow.thrift.SchedulerStateStoreService.AsyncClient.updateNodeState_call;
 import edu.berkeley.sparrow.thrift.StateStoreService;
 import edu.berkeley.sparrow.thrift.TNodeState;
+import edu.berkeley.sparrow.thrift.TQuotaReconciliation;
 import edu.berkeley.sparrow.thrift.TResourceUsage;
 import edu.berkeley.sparrow.thrift.TResourceVector;
+import edu.berkeley.sparrow.thrift.TStateStoreMembership;
 
 /**
  * The State Store is the key centralized component of Sparrow. It periodically updates
  * remote Schedulers with information about resource usage on each machine. This includes
- * stale estimates of what Sparrow traffic is being run on the machine, in addition to 
- * information about external workloads, such as those observed through a central 
+ * stale estimates of what Sparrow traffic is being run on the machine, in addition to
+ * information about external workloads, such as those observed through a central
  * scheduler.
- * 
+ *
+ * The state store can be split into several shards (see {@link SparrowConf#STATE_STORE_SHARDS}).
+ * Every node monitor and scheduler registers with every shard, but each shard only polls the
+ * node monitors that it owns in the {@link ShardRing} of live shards, and sends every scheduler
+ * the state of just those node monitors; schedulers merge the snapshots from all shards. When a
+ * shard joins or leaves, the ring changes and the node monitors in its ranges are picked up by
+ * their new owners on the next poll, without any state being transferred.
+ *
  * NOTE: currently this is only a stub implementation and does not live up to the above
  *       doc-string
  */
-public class StateStore implements StateStoreService.Iface {
+public class StateStore implements StateStoreService.Iface, ShardMembership.Listener {
   private static enum EventType { QUERY, UPDATE };
   private static final Logger LOG = Logger.getLogger(StateStore.class);
 
-  public final static Level DEFAULT_LOG_LEVEL = Level.DEBUG;
+  public final static Level DEFAULT_LOG_LEVEL = Level.INFO;
   // Delay between consecutive updates to a given scheduler
-  private static final int SCHEDULER_DELAY_MS = 5000;
+  private int schedulerDelayMs;
   // Delay between consecutive queries to a given node monitor
-  private static final int NODE_MANAGER_DELAY_MS = 5000;
-  
+  private int nodeManagerDelayMs;
+
   /** Micro event queue lets us schedule node check-ins at arbitrary intervals. **/
   private class Event implements Comparable<Event> {
     public long time;               // When this event is scheduled for
     public InetSocketAddress node;  // Which socket should this contact
     public EventType event;         // Whether this is a load query or update
-    
+
     public Event(long time, InetSocketAddress node, EventType event) {
       this.time = time;
       this.node = node;
       this.event = event;
     }
-    
+
     @Override
     public int compareTo(Event that) {
       // Priority queue uses this ordering to return event with earliest time.
@@ -77,36 +94,32 @@ public class StateStore implements StateStoreService.Iface {
       return -1;
     }
   }
-  
+
   /** Async callback for node monitor query. */
   private class NMCallBack implements AsyncMethodCallback<getLoad_call> {
     private InetSocketAddress node;
-    
+
     public NMCallBack(InetSocketAddress node) {
       this.node = node;
     }
-    
+
     @Override
     public void onComplete(getLoad_call response) {
-      TNodeState state = new TNodeState(); // TODO: look into object reuse
+      TNodeState state;
       try {
-        // Aggregate resource usage from all applications
-        TResourceVector sparrowUsage = TResources.none();
-        for (TResourceUsage res : response.getResult().values()) {
-          TResources.addTo(sparrowUsage, res.getResources());
-        }
-        state.sparrowUsage = sparrowUsage;
+        state = toNodeState(response.getResult());
       } catch (TException e) {
-        state.sparrowUsage = TResources.none();
+        state = new TNodeState(TResources.none(), TResources.none());
       }
-      state.externalUsage = TResources.none(); // TODO: set this based on
-                                               //       external scheduler
-      currentUsage.put(node.toString(), state);
-      
+      // The node monitor may have moved to another shard while it was being polled.
+      if (ownsNodeMonitor(node)) {
+        currentUsage.put(node.toString(), state);
+      }
+
       LOG.debug("Polled node monitor " + node);
-      
+
       // Add event to poll this node manager again later
-      addEvent(new Event(System.currentTimeMillis() + NODE_MANAGER_DELAY_MS,
+      addEvent(new Event(System.currentTimeMillis() + nodeManagerDelayMs,
           node, EventType.QUERY));
     }
 
@@ -115,99 +128,166 @@ public class StateStore implements StateStoreService.Iface {
       LOG.warn("Error receiving node monitor status: " + node, e);
       // Thrift clients can never be used again once an error has occurred
       internalClients.remove(node);
+      currentUsage.remove(node.toString());
+      lastPushMillis.remove(node);
+      nodeMonitors.remove(node);
+      polledNodeMonitors.remove(node);
       state.signalInactiveNodeMonitor(node);
       LOG.warn("Error polling node monitor, removing from list: " + node);
     }
   }
-  
+
   /** Async callback for the scheduler query. */
   private class SchedulerCallback implements AsyncMethodCallback<updateNodeState_call> {
     private InetSocketAddress node;
-    
+
     public SchedulerCallback(InetSocketAddress node) {
       this.node = node;
     }
-    
+
     @Override
     public void onComplete(updateNodeState_call response) {
       LOG.debug("Updated scheduler: " + node);
       // Add event to update this scheduler again later
-      addEvent(new Event(System.currentTimeMillis() + SCHEDULER_DELAY_MS,
+      addEvent(new Event(System.currentTimeMillis() + schedulerDelayMs,
           node, EventType.UPDATE));
     }
-    
+
     @Override
     public void onError(Exception e) {
       LOG.warn("Error updating loads on scheduler: " + node, e);
       // Thrift clients can never be used again once an error has occurred
       schedulerClients.remove(node);
+      schedulers.remove(node);
       state.signalInactiveScheduler(node);
       LOG.warn("Error updating scheduler, removing from list: " + node);
     }
   }
-  
+
   private StateStoreState state;
-  
-  // For each node monitor (represented by String description of NM socket), the quantity
-  // of resource usage at last check-in. This is what we broadcast to all schedulers.
-  private HashMap<String, TNodeState> currentUsage = new HashMap<String, TNodeState>();
-  
+
+  // Address (IP:port) of this state store, which identifies it in the shard ring.
+  private String address;
+  // Live shards, or null if the state store isn't sharded.
+  private ShardMembership shards;
+
+  // All registered node monitors and schedulers, including node monitors other shards poll.
+  private Set<InetSocketAddress> nodeMonitors =
+      Sets.newSetFromMap(new ConcurrentHashMap<InetSocketAddress, Boolean>());
+  private Set<InetSocketAddress> schedulers =
+      Sets.newSetFromMap(new ConcurrentHashMap<InetSocketAddress, Boolean>());
+  // Node monitors with a QUERY event queued or a query outstanding, so that a node monitor
+  // that moves away and back again isn't polled twice as often.
+  private Set<InetSocketAddress> polledNodeMonitors =
+      Sets.newSetFromMap(new ConcurrentHashMap<InetSocketAddress, Boolean>());
+
+  // When each node monitor last pushed its load. Node monitors that push their load are only
+  // polled if they stop pushing for pushTimeoutMs.
+  private ConcurrentHashMap<InetSocketAddress, Long> lastPushMillis =
+      new ConcurrentHashMap<InetSocketAddress, Long>();
+  private int pushTimeoutMs;
+
+  // Quota demand reported by schedulers.
+  private QuotaLedger quotaLedger;
+
+  // For each node monitor this shard owns (represented by String description of NM socket),
+  // the quantity of resource usage at last check-in. This is what we broadcast to all
+  // schedulers.
+  private ConcurrentHashMap<String, TNodeState> currentUsage =
+      new ConcurrentHashMap<String, TNodeState>();
+
   // Event queue driving actions for the state store
-  private PriorityBlockingQueue<Event> events = 
+  private PriorityBlockingQueue<Event> events =
       new PriorityBlockingQueue<Event>();
-  
-  // Cache of thrift clients, currently this is never evicted
+
+  // Cache of thrift clients, evicted when a call fails
   private Map<InetSocketAddress, InternalService.AsyncClient> internalClients =
-      new HashMap<InetSocketAddress, InternalService.AsyncClient>();
+      new ConcurrentHashMap<InetSocketAddress, InternalService.AsyncClient>();
   private Map<InetSocketAddress, SchedulerStateStoreService.AsyncClient> schedulerClients =
-      new HashMap<InetSocketAddress, SchedulerStateStoreService.AsyncClient>();
+      new ConcurrentHashMap<InetSocketAddress, SchedulerStateStoreService.AsyncClient>();
 
   // Thrift managers for each client group. If the same manager is passed to two or more
   // thrift client constructors, those clients process callbacks in the same thread.
-  // So overall we have two worker threads, one for each thrift interface we use.
-  TAsyncClientManager internalManager;
-  TAsyncClientManager schedulerManager;
-  
+  // Each thrift interface we use gets state_store.client_threads managers, and each client
+  // is assigned to one of them by its address.
+  TAsyncClientManager[] internalManagers;
+  TAsyncClientManager[] schedulerManagers;
+
   public void initialize(Configuration conf) throws IOException {
     Level logLevel = Level.toLevel(conf.getString(SparrowConf.LOG_LEVEL, ""),
         DEFAULT_LOG_LEVEL);
     Logger.getRootLogger().setLevel(logLevel);
- 
-    internalManager = new TAsyncClientManager();
-    schedulerManager = new TAsyncClientManager();
-    
+
+    int clientThreads = Math.max(1, conf.getInt(SparrowConf.STATE_STORE_CLIENT_THREADS,
+        SparrowConf.DEFAULT_STATE_STORE_CLIENT_THREADS));
+    internalManagers = new TAsyncClientManager[clientThreads];
+    schedulerManagers = new TAsyncClientManager[clientThreads];
+    for (int i = 0; i < clientThreads; i++) {
+      internalManagers[i] = new TAsyncClientManager();
+      schedulerManagers[i] = new TAsyncClientManager();
+    }
+    nodeManagerDelayMs = conf.getInt(SparrowConf.STATE_STORE_POLL_INTERVAL_MS,
+        SparrowConf.DEFAULT_STATE_STORE_POLL_INTERVAL_MS);
+    schedulerDelayMs = conf.getInt(SparrowConf.STATE_STORE_UPDATE_INTERVAL_MS,
+        SparrowConf.DEFAULT_STATE_STORE_UPDATE_INTERVAL_MS);
+    pushTimeoutMs = conf.getInt(SparrowConf.STATE_STORE_PUSH_TIMEOUT_MS,
+        SparrowConf.DEFAULT_STATE_STORE_PUSH_TIMEOUT_MS);
+    quotaLedger = new QuotaLedger(conf.getInt(SparrowConf.STATE_STORE_QUOTA_TIMEOUT_MS,
+        SparrowConf.DEFAULT_STATE_STORE_QUOTA_TIMEOUT_MS));
+
     state = null;
-    String mode = conf.getString(SparrowConf.DEPLYOMENT_MODE, 
+    String mode = conf.getString(SparrowConf.DEPLYOMENT_MODE,
         SparrowConf.DEFAULT_DEPLOYMENT_MODE);
     if (mode.equals("configbased")) {
       state = new ConfigStateStoreState();
     } else if (mode.equals("standalone")) {
       state = new NonDurableSchedulerState();
     } else if (mode.equals("production")) {
-      state = new NonDurableSchedulerState();
+      state = new DurableStateStoreState();
     } else {
       LOG.fatal("Unsupported deployment mode: " + mode);
     }
     state.initialize(conf);
-    
+    nodeMonitors.addAll(state.getInitialNodeMonitors());
+    schedulers.addAll(state.getInitialSchedulers());
+
+    int port = conf.getInt(SparrowConf.STATE_STORE_PORT,
+        SparrowConf.DEFAULT_STATE_STORE_PORT);
+    address = Network.getIPAddress(conf) + ":" + port;
+    StateStoreService.Processor<StateStoreService.Iface> processor =
+        new StateStoreService.Processor<StateStoreService.Iface>(this);
+    TServers.launchThreadedThriftServer(port, 2, processor);
+
+    if (conf.containsKey(SparrowConf.STATE_STORE_SHARDS)) {
+      List<String> seeds = Lists.newArrayList();
+      for (InetSocketAddress shard : ConfigUtil.parseStateStores(conf)) {
+        seeds.add(shard.getAddress().getHostAddress() + ":" + shard.getPort());
+      }
+      shards = new ShardMembership(address, seeds,
+          conf.getInt(SparrowConf.STATE_STORE_SHARD_TIMEOUT_MS,
+              SparrowConf.DEFAULT_STATE_STORE_SHARD_TIMEOUT_MS), this);
+      // Find the live shards before polling anything, so that a shard that is (re)starting
+      // doesn't briefly poll node monitors that other shards own.
+      shards.sendHeartbeats();
+      fetchMembership();
+      shards.start();
+    }
+
     // Bootstrap the event queue with queries to all node monitors we initially know
     // about.
-    for (InetSocketAddress monitor : state.getInitialNodeMonitors()) {
-      events.add(new Event(0, monitor, EventType.QUERY));
+    for (InetSocketAddress monitor : nodeMonitors) {
+      if (ownsNodeMonitor(monitor) && polledNodeMonitors.add(monitor)) {
+        events.add(new Event(0, monitor, EventType.QUERY));
+      }
     }
-    
+
     // After 3 seconds (to let updates accumulate) start informing schedulers
-    for (InetSocketAddress scheduler : state.getInitialSchedulers()) {
+    for (InetSocketAddress scheduler : schedulers) {
       events.add(
           new Event(System.currentTimeMillis() + 3 * 1000, scheduler, EventType.UPDATE));
     }
-    int port = conf.getInt(SparrowConf.STATE_STORE_PORT,
-        SparrowConf.DEFAULT_STATE_STORE_PORT);
-    StateStoreService.Processor<StateStoreService.Iface> processor = 
-        new StateStoreService.Processor<StateStoreService.Iface>(this);
-    TServers.launchThreadedThriftServer(port, 2, processor);
   }
-    
+
   public void run() {
     // Main event loop, we rely on a BlockingPriorityQueue to drive this, with some
     // extra code to make sure we don't actually poll() the queue unless the earliest
@@ -224,12 +304,25 @@ public class StateStore implements StateStoreService.Iface {
         continue;
       }
       event = events.poll();
-      if (!eventInPast(event)) { 
+      if (!eventInPast(event)) {
         // This should never happen
         throw new RuntimeException("Signaled for future event");
       }
-      switch (event.event) { 
+      switch (event.event) {
         case QUERY:
+          if (!nodeMonitors.contains(event.node) || !ownsNodeMonitor(event.node)) {
+            // The node monitor has failed or moved to another shard, so stop polling it.
+            polledNodeMonitors.remove(event.node);
+            currentUsage.remove(event.node.toString());
+            break;
+          }
+          Long lastPush = lastPushMillis.get(event.node);
+          if (lastPush != null && lastPush + pushTimeoutMs > System.currentTimeMillis()) {
+            // The node monitor is pushing its load, so there's no need to poll it.
+            addEvent(new Event(lastPush + pushTimeoutMs, event.node, EventType.QUERY));
+            break;
+          }
+          lastPushMillis.remove(event.node);
           try {
             InternalService.AsyncClient client = getInternalClient(event.node);
             client.getLoad("*", "*", new NMCallBack(event.node));
@@ -241,9 +334,9 @@ public class StateStore implements StateStoreService.Iface {
           break;
         case UPDATE:
           try {
-            SchedulerStateStoreService.AsyncClient client = 
+            SchedulerStateStoreService.AsyncClient client =
                 getSchedulerClient(event.node);
-            client.updateNodeState(currentUsage, new SchedulerCallback(event.node));
+            client.updateNodeState(currentUsage, address, new SchedulerCallback(event.node));
           } catch (IOException e) {
             LOG.warn("Failed to create thrift client to " + event.node, e);
           } catch (TException e) {
@@ -253,31 +346,113 @@ public class StateStore implements StateStoreService.Iface {
       }
     }
   }
-  
+
   /** Add an event to the event queue. This is thread safe. */
   private void addEvent(Event event) {
    events.add(event); // BlockingQueue has built in concurrency control
   }
-  
+
+  /** Returns the state to send to schedulers for a node monitor with the given load. */
+  private static TNodeState toNodeState(Map<String, TResourceUsage> appUsage) {
+    TNodeState state = new TNodeState(); // TODO: look into object reuse
+    // Aggregate resource usage from all applications
+    TResourceVector sparrowUsage = TResources.none();
+    for (TResourceUsage res : appUsage.values()) {
+      TResources.addTo(sparrowUsage, res.getResources());
+    }
+    state.sparrowUsage = sparrowUsage;
+    // The node monitor reports usage for each application that has a backend there.
+    state.apps = new ArrayList<String>(appUsage.keySet());
+    state.externalUsage = TResources.none(); // TODO: set this based on
+                                             //       external scheduler
+    return state;
+  }
+
+  /** Return whether this state store should poll the given node monitor. */
+  private boolean ownsNodeMonitor(InetSocketAddress nodeMonitor) {
+    return shards == null || address.equals(shards.getRing().getOwner(nodeMonitor));
+  }
+
+  /**
+   * Called when a shard joins or leaves. Starts polling the node monitors this shard has
+   * taken over, and stops reporting the ones it has handed over (their pending QUERY events
+   * are dropped when they come up).
+   */
+  @Override
+  public void ringChanged(ShardRing ring) {
+    for (InetSocketAddress nodeMonitor : nodeMonitors) {
+      if (!address.equals(ring.getOwner(nodeMonitor))) {
+        currentUsage.remove(nodeMonitor.toString());
+      } else if (polledNodeMonitors.add(nodeMonitor)) {
+        addEvent(new Event(0, nodeMonitor, EventType.QUERY));
+      }
+    }
+  }
+
   /**
-   * Return a Thrift client connected to the node monitor described by {@code addr}. 
+   * Adds the node monitors and schedulers known to the other live shards, which may have
+   * registered while this shard was down.
+   */
+  private void fetchMembership() {
+    for (String shard : shards.getLivePeers()) {
+      Optional<InetSocketAddress> shardAddr = Serialization.strToSocket(shard);
+      if (!shardAddr.isPresent()) {
+        continue;
+      }
+      TStateStoreMembership membership;
+      try {
+        StateStoreService.Client client = TClients.createBlockingStateStoreClient(
+            shardAddr.get().getAddress().getHostAddress(), shardAddr.get().getPort());
+        try {
+          membership = client.getMembership();
+        } finally {
+          client.getInputProtocol().getTransport().close();
+        }
+      } catch (IOException e) {
+        LOG.warn("Unable to fetch membership from state store shard " + shard, e);
+        continue;
+      } catch (TException e) {
+        LOG.warn("Unable to fetch membership from state store shard " + shard, e);
+        continue;
+      }
+      synchronized (state) {
+        for (String nodeMonitor : membership.getNodeMonitors()) {
+          Optional<InetSocketAddress> addr = Serialization.strToSocket(nodeMonitor);
+          if (addr.isPresent() && nodeMonitors.add(addr.get())) {
+            state.signalActiveNodeMonitor(addr.get());
+          }
+        }
+        for (String scheduler : membership.getSchedulers()) {
+          Optional<InetSocketAddress> addr = Serialization.strToSocket(scheduler);
+          if (addr.isPresent() && schedulers.add(addr.get())) {
+            state.signalActiveScheduer(addr.get());
+          }
+        }
+      }
+      LOG.info("Fetched " + membership.getNodeMonitorsSize() + " node monitors and " +
+               membership.getSchedulersSize() + " schedulers from state store shard " + shard);
+    }
+  }
+
+  /**
+   * Return a Thrift client connected to the node monitor described by {@code addr}.
    * This might create a new client or return a cached one.
    */
-  private InternalService.AsyncClient getInternalClient(InetSocketAddress addr) 
+  private InternalService.AsyncClient getInternalClient(InetSocketAddress addr)
       throws IOException {
     if (!this.internalClients.containsKey(addr)) {
       TNonblockingTransport nbTr = new TNonblockingSocket(
         addr.getAddress().getHostAddress(), addr.getPort());
       TProtocolFactory factory = new TBinaryProtocol.Factory();
       InternalService.AsyncClient client = new InternalService.AsyncClient(
-        factory, internalManager, nbTr);
+        factory, getManager(internalManagers, addr), nbTr);
       this.internalClients.put(addr, client);
     }
     return this.internalClients.get(addr);
   }
-  
+
   /**
-   * Return a Thrift client connected to the scheduler described by {@code addr}. 
+   * Return a Thrift client connected to the scheduler described by {@code addr}.
    * This might create a new client or return a cached one.
    */
   private SchedulerStateStoreService.AsyncClient getSchedulerClient(
@@ -286,33 +461,39 @@ public class StateStore implements StateStoreService.Iface {
       TNonblockingTransport nbTr = new TNonblockingSocket(
         addr.getAddress().getHostAddress(), addr.getPort());
       TProtocolFactory factory = new TBinaryProtocol.Factory();
-      SchedulerStateStoreService.AsyncClient client = 
-          new SchedulerStateStoreService.AsyncClient(factory, schedulerManager, nbTr);
+      SchedulerStateStoreService.AsyncClient client =
+          new SchedulerStateStoreService.AsyncClient(factory,
+              getManager(schedulerManagers, addr), nbTr);
       this.schedulerClients.put(addr, client);
     }
     return this.schedulerClients.get(addr);
   }
-  
+
+  private static TAsyncClientManager getManager(TAsyncClientManager[] managers,
+      InetSocketAddress addr) {
+    return managers[(addr.hashCode() & Integer.MAX_VALUE) % managers.length];
+  }
+
   /** Return whether a given event is in the past (and ready to be processed). */
   private boolean eventInPast(Event event) {
-    return (event.time < System.currentTimeMillis()); 
+    return (event.time < System.currentTimeMillis());
   }
-  
+
   public static void main(String[] args) throws Exception {
     OptionParser parser = new OptionParser();
     parser.accepts("c", "configuration file (required)").
       withRequiredArg().ofType(String.class);
     parser.accepts("help", "print help statement");
     OptionSet options = parser.parse(args);
-    
+
     if (options.has("help") || !options.has("c")) {
       parser.printHelpOn(System.out);
       System.exit(-1);
     }
-    
+
     // Set up a simple configuration that logs on the console.
     BasicConfigurator.configure();
-        
+
     String configFile = (String) options.valueOf("c");
     Configuration conf = new PropertiesConfiguration(configFile);
     StateStore stateStore = new StateStore();
@@ -326,9 +507,11 @@ public class StateStore implements StateStoreService.Iface {
       Optional<InetSocketAddress> addr = Serialization.strToSocket(schedulerAddress);
       if (addr.isPresent()) {
         state.signalActiveScheduer(addr.get());
-        Event e = new Event(System.currentTimeMillis() + 3000, 
-            addr.get(), EventType.UPDATE);
-        events.add(e);
+        if (schedulers.add(addr.get())) {
+          Event e = new Event(System.currentTimeMillis() + 3000,
+              addr.get(), EventType.UPDATE);
+          events.add(e);
+        }
         LOG.info("Registered scheduler with address: " + schedulerAddress);
       } else {
         LOG.warn("Got scheduler registration with malformed " +
@@ -343,9 +526,12 @@ public class StateStore implements StateStoreService.Iface {
       Optional<InetSocketAddress> addr = Serialization.strToSocket(nodeMonitorAddress);
       if (addr.isPresent()) {
         state.signalActiveNodeMonitor(addr.get());
-        Event e = new Event(System.currentTimeMillis() + 3000, addr.get(), 
-            EventType.QUERY);
-        events.add(e);
+        nodeMonitors.add(addr.get());
+        if (ownsNodeMonitor(addr.get()) && polledNodeMonitors.add(addr.get())) {
+          Event e = new Event(System.currentTimeMillis() + 3000, addr.get(),
+              EventType.QUERY);
+          events.add(e);
+        }
         LOG.info("Registered node monitor with address: " + nodeMonitorAddress);
       } else {
         LOG.warn("Got node monitor registration with malformed " +
@@ -353,4 +539,56 @@ public class StateStore implements StateStoreService.Iface {
       }
     }
   }
+
+  @Override
+  public List<String> shardHeartbeat(String shardAddress) throws TException {
+    if (shards == null) {
+      return Lists.newArrayList(address);
+    }
+    return shards.onHeartbeat(shardAddress);
+  }
+
+  @Override
+  public TStateStoreMembership getMembership() throws TException {
+    TStateStoreMembership membership = new TStateStoreMembership(
+        new ArrayList<String>(), new ArrayList<String>());
+    for (InetSocketAddress scheduler : schedulers) {
+      membership.addToSchedulers(
+          scheduler.getAddress().getHostAddress() + ":" + scheduler.getPort());
+    }
+    for (InetSocketAddress nodeMonitor : nodeMonitors) {
+      membership.addToNodeMonitors(
+          nodeMonitor.getAddress().getHostAddress() + ":" + nodeMonitor.getPort());
+    }
+    return membership;
+  }
+
+  @Override
+  public boolean reportLoad(String nodeMonitorAddress, Map<String, TResourceUsage> load)
+      throws TException {
+    Optional<InetSocketAddress> addr = Serialization.strToSocket(nodeMonitorAddress);
+    if (!addr.isPresent()) {
+      LOG.warn("Got load report with malformed address: " + nodeMonitorAddress);
+      return false;
+    }
+    if (!nodeMonitors.contains(addr.get())) {
+      // The node monitor registered before this state store started, and hasn't been
+      // recovered from the membership log or another shard.
+      registerNodeMonitor(nodeMonitorAddress);
+    }
+    if (!ownsNodeMonitor(addr.get())) {
+      return false;
+    }
+    lastPushMillis.put(addr.get(), System.currentTimeMillis());
+    currentUsage.put(addr.get().toString(), toNodeState(load));
+    LOG.debug("Received load report from node monitor " + nodeMonitorAddress);
+    return true;
+  }
+
+  @Override
+  public TQuotaReconciliation reconcileQuotas(String schedulerAddress, Map<String, Long> demand)
+      throws TException {
+    LOG.debug("Received quota demand from scheduler " + schedulerAddress);
+    return quotaLedger.report(schedulerAddress, demand, System.currentTimeMillis());
+  }
 }
@@ -1,5 +1,6 @@
 package edu.berkeley.sparrow.statestore;
 
+import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.util.List;
 
@@ -20,7 +21,7 @@ import org.apache.commons.configuration.Configuration;
    */
 public interface StateStoreState {
   /** Initialize this state. */
-  void initialize(Configuration conf);
+  void initialize(Configuration conf) throws IOException;
   
   /**
    * Return the Sparrow internal interface address of known scheduling nodes.
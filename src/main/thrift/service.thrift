@@ -8,8 +8,26 @@ service SchedulerService {
   # Register a frontend for the given application.
   bool registerFrontend(1: string app, 2: string socketAddress);
 
-  # Submit a job composed of a list of individual tasks. 
-  void submitJob(1: types.TSchedulingRequest req) throws (1: types.IncompleteRequestException e);
+  # Returns a cheap hint of the scheduler's load: the number of tasks it has accepted but not
+  # yet launched. Frontends use it to choose between schedulers.
+  i32 getLoadHint();
+
+  # Stops launching the tasks of the given jobs (see TSchedulingRequest.jobId). Called by a
+  # frontend that resubmitted the jobs to another scheduler after losing contact with this one.
+  void cancelJobs(1: list<string> jobIds);
+
+  # Submit a job composed of a list of individual tasks. Throws SchedulerOverloadedException
+  # if the scheduler is too loaded to accept the job.
+  void submitJob(1: types.TSchedulingRequest req)
+      throws (1: types.IncompleteRequestException e,
+              2: types.SchedulerOverloadedException overloaded);
+
+  # Submit a batch of jobs in a single call. Each job is scheduled exactly as if it had been
+  # passed to submitJob(); batching only amortizes the per-call overhead when a frontend has
+  # many small jobs ready at once. Either all of the jobs are accepted, or none are.
+  void submitJobs(1: list<types.TSchedulingRequest> reqs)
+      throws (1: types.IncompleteRequestException e,
+              2: types.SchedulerOverloadedException overloaded);
 
   # Send a message to be delivered to the frontend for {app} pertaining
   # to the task {taskId}. The {status} field allows for application-specific
@@ -27,7 +45,13 @@ service GetTaskService {
   # node.
   # TODO: Add a numTasks parameter to signal how many slots are free, and support
   #       returning more than 1 tasks.
-  list<types.TTaskLaunchSpec> getTask(1: string requestId, 2: types.THostPort nodeMonitorAddress);
+  # traceContext is null unless the request is traced. nodeLoad is the node monitor's current
+  # load. originalNodeMonitor is null unless the reservation was stolen, in which case it is the
+  # node monitor that the scheduler enqueued the reservation on.
+  list<types.TTaskLaunchSpec> getTask(1: string requestId, 2: types.THostPort nodeMonitorAddress,
+                                      3: types.TTraceContext traceContext,
+                                      4: types.TNodeLoad nodeLoad,
+                                      5: types.THostPort originalNodeMonitor);
 }
 
 # A service used by application backends to coordinate with Sparrow.
@@ -57,6 +81,11 @@ service FrontendService {
   # See SchedulerService.sendFrontendMessage
   void frontendMessage(1: types.TFullTaskId taskId, 2: i32 status, 
                        3: binary message);
+
+  # Reports the tasks that a scheduler has launched, for jobs submitted with a jobId: the IDs of
+  # the launched tasks, indexed by job ID. Handled by SparrowFrontendClient, which uses it to
+  # resubmit only the tasks that haven't been launched if the scheduler fails.
+  void tasksLaunched(1: map<string, list<string>> launchedTasks);
 }
 
 # The InternalService exposes state about application backends to:
@@ -65,16 +94,47 @@ service FrontendService {
 service InternalService {
   # Enqueues a reservation to launch the given number of tasks. The NodeMonitor sends
   # a GetTask() RPC to the given schedulerAddress when it is ready to launch a task, for each
-  # enqueued task reservation. Returns whether or not the task was successfully enqueued.
-  bool enqueueTaskReservations(1: types.TEnqueueTaskReservationsRequest request);
+  # enqueued task reservation. Returns whether or not the task was successfully enqueued, and
+  # the node monitor's load.
+  types.TEnqueueTaskReservationsResponse enqueueTaskReservations(
+      1: types.TEnqueueTaskReservationsRequest request);
+
+  # Enqueues reservations for several requests at once; equivalent to calling
+  # enqueueTaskReservations() once for each element of requests. Returns whether all of the
+  # reservations were successfully enqueued, and the node monitor's load.
+  types.TEnqueueTaskReservationsResponse enqueueTaskReservationsBatch(
+      1: list<types.TEnqueueTaskReservationsRequest> requests);
+
+  # Releases numReservations gang reservations for requestId that are held on this node monitor.
+  # The first tasks.size() released reservations are used to launch the given tasks; the
+  # remaining reservations give up their slots. Returns false if the node monitor had already
+  # given up any of the reservations (e.g., because they timed out).
+  bool releaseGangReservations(1: string requestId, 2: i32 numReservations,
+                               3: list<types.TTaskLaunchSpec> tasks);
   
   # Used by the state store.
   map<string, types.TResourceUsage> getLoad(1: string app, 2: string requestId);
+
+  # Called by an idle node monitor to steal queued reservations from this one. Removes up to
+  # maxReservations queued, stealable reservations for the given applications from this node
+  # monitor, and returns them (each for a single task, and otherwise unchanged, so the thief
+  # fetches their tasks from the original scheduler). The reservations are leased to the caller
+  # under leaseId, which the caller chooses: the caller takes them by calling
+  # confirmStolenReservations(), and if it doesn't do so in time, they are put back in this node
+  # monitor's queue.
+  list<types.TEnqueueTaskReservationsRequest> stealTaskReservations(
+      1: list<string> appIds, 2: i32 maxReservations, 3: string leaseId);
+
+  # Confirms that the caller received the reservations leased to it by stealTaskReservations(),
+  # which this node monitor then gives up. Returns false if the lease had already expired (and
+  # its reservations were put back), in which case the caller must not enqueue them.
+  bool confirmStolenReservations(1: string leaseId);
 }
 
 service SchedulerStateStoreService {
-  # Message from the state store giving the scheduler new information
-  void updateNodeState(1: map<string, types.TNodeState> snapshot);
+  # Message from the state store giving the scheduler new information. Each state store shard
+  # (identified by its address) sends the state of the node monitors that it owns.
+  void updateNodeState(1: map<string, types.TNodeState> snapshot, 2: string shard);
 }
 
 service StateStoreService {
@@ -83,4 +143,23 @@ service StateStoreService {
 
   # Register a node monitor with the given socket address (IP: Port)
   void registerNodeMonitor(1: string nodeMonitorAddress);
+
+  # Heartbeat from another state store shard, identified by its address (IP: Port). Returns
+  # the address of this shard followed by the addresses of the other shards it knows about.
+  list<string> shardHeartbeat(1: string shardAddress);
+
+  # Returns the schedulers and node monitors registered with this state store.
+  types.TStateStoreMembership getMembership();
+
+  # Pushes the current load of the given node monitor (IP: Port), as returned by
+  # InternalService.getLoad(). Returns false if this shard doesn't own the node monitor, in
+  # which case the node monitor should push to a different shard.
+  bool reportLoad(1: string nodeMonitorAddress, 2: map<string, types.TResourceUsage> load);
+
+  # Reports the number of tasks that each quota principal submitted to the given scheduler
+  # (IP: Port) during the last reconciliation interval. Returns the demand summed over all of
+  # the schedulers that have reported recently, so that each scheduler can take a share of
+  # each principal's cluster-wide quota in proportion to its share of the demand.
+  types.TQuotaReconciliation reconcileQuotas(1: string schedulerAddress,
+                                             2: map<string, i64> demand);
 }
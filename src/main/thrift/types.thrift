@@ -4,6 +4,13 @@ exception IncompleteRequestException {
   1: string message;
 }
 
+// Thrown when a scheduler is too loaded to accept a job. The job was not scheduled, and should
+// be resubmitted (to this or another scheduler) after retryAfterMillis.
+exception SchedulerOverloadedException {
+  1: string message;
+  2: i64 retryAfterMillis;
+}
+
 struct THostPort {
   // The host should always be represented as an IP address!
   1: string host;
@@ -12,8 +19,10 @@ struct THostPort {
 
 struct TPlacementPreference {
   1: list<string> nodes; // List of preferred nodes, described by their hostname.
-  2: list<string> racks; // Not currently supported.
-  3: i32 delayThreshold; // Threshold for delay scheduling (not currently supported).
+  2: list<string> racks; // List of preferred racks, as named in the scheduler's topology.
+  // Time, in milliseconds, that a task waits for a slot on a preferred node before accepting a
+  // slot on a preferred rack (and twice this before accepting a slot anywhere).
+  3: i32 delayThreshold;
 }
 
 struct TResourceVector {
@@ -25,9 +34,20 @@ struct TResourceVector {
 struct TResourceUsage {
   1: TResourceVector resources; // Current resource usage
   2: i32 queueLength;           // Number of queued tasks
+  // Expected time until a newly queued task would start, estimated from the runtimes of
+  // earlier tasks of the same kind as those queued (unset if the task scheduler can't tell)
+  3: optional i64 expectedWaitMillis;
 }
 
 
+# Propagates a sampled job's trace between Sparrow components (see
+# edu.berkeley.sparrow.daemon.trace.Tracer). Spans recorded by the receiver are children of
+# spanId; a spanId of 0 means the receiver starts the trace's root span.
+struct TTraceContext {
+  1: i64 traceId;
+  2: i64 spanId;
+}
+
 // A fully-specified Sparrow task has four identifiers
 // neeed?
 struct TFullTaskId {
@@ -35,6 +55,8 @@ struct TFullTaskId {
   2: string requestId; // Scheduling request ID as assigned by the FE
   3: string appId;     // ID of the application
   4: THostPort schedulerAddress; // Address of the scheduler that scheduled the task.
+  # Set if the task's job is traced. Backends should return it unchanged in tasksFinished().
+  5: optional TTraceContext traceContext;
 }
 
 struct TUserGroupInfo {
@@ -49,12 +71,38 @@ struct TTaskSpec {
   4: binary message;
 }
 
+# Restricts a job to one of numPartitions deterministic, disjoint subsets of the node monitors
+# running the job's application. Node monitors are assigned to partitions using consistent
+# hashing, so adding or removing a node monitor does not move other node monitors between
+# partitions.
+struct TPartitionPreference {
+  1: i32 numPartitions;
+  2: i32 partition;     # In the range [0, numPartitions).
+}
+
 struct TSchedulingRequest {
   1: string app;
   2: list<TTaskSpec> tasks;
   3: TUserGroupInfo user;
   # Hack to allow us to specify the probe ratio for certain types of requests.
   4: optional double probeRatio;
+  # If true, all of the job's tasks are launched together once enough slots are ready to run
+  # every task (gang scheduling).
+  5: optional bool gang;
+  # If set, the job's tasks are only placed on node monitors in the given partition.
+  6: optional TPartitionPreference partition;
+  # If set, the job is traced (regardless of the scheduler's sampling rate).
+  7: optional TTraceContext traceContext;
+  # Identifies the kind of job (e.g., the query or stage that generated it). Node monitors
+  # estimate the runtime of the job's tasks from the runtimes of earlier tasks of the same
+  # application and signature. If unset, all of the application's jobs are assumed alike.
+  8: optional string jobSignature;
+  # Set by frontends that fail over between schedulers (see SparrowFrontendClient). jobId
+  # identifies the job across resubmissions to different schedulers, and the scheduler reports
+  # the IDs of the job's tasks as it launches them to the frontend at launchReportAddress
+  # (IP:Port), using FrontendService.tasksLaunched().
+  9: optional string jobId;
+  10: optional string launchReportAddress;
 }
 
 struct TEnqueueTaskReservationsRequest {
@@ -64,6 +112,37 @@ struct TEnqueueTaskReservationsRequest {
   4: TResourceVector estimatedResources;
   5: THostPort schedulerAddress;
   6: i32 numTasks;
+  # If true, reservations are held at the node monitor (rather than released) when getTask()
+  # returns no task, until the scheduler releases them with releaseGangReservations().
+  7: optional bool gang;
+  # Port of the scheduler's getTask() service (on the host in schedulerAddress). If unset, the
+  # default port is used.
+  8: optional i32 getTaskPort;
+  # Set if the job is traced.
+  9: optional TTraceContext traceContext;
+  # If true, the reservations may be handed to another node monitor that asks to steal work
+  # (because any node can run the tasks they will launch).
+  10: optional bool stealable;
+  # The job's signature (see TSchedulingRequest), if it has one.
+  11: optional string jobSignature;
+  # Set on reservations stolen from another node monitor: the internal address of the node
+  # monitor that the scheduler originally enqueued them on.
+  12: optional THostPort originalNodeMonitor;
+}
+
+# A node monitor's current load. Node monitors attach it to the responses to
+# enqueueTaskReservations() and to getTask() calls, so that schedulers learn about load changes
+# without waiting for the state store.
+struct TNodeLoad {
+  1: i32 queueLength;               # Number of queued task reservations
+  2: TResourceVector freeResources; # Resources not used or reserved by running tasks
+  3: optional i64 expectedWaitMillis; # See TResourceUsage
+}
+
+struct TEnqueueTaskReservationsResponse {
+  1: bool success;
+  # Load of the node monitor after the reservations were enqueued.
+  2: TNodeLoad load;
 }
 
 # Information needed to launch a task.  The application and user information are not needed
@@ -86,4 +165,23 @@ struct LoadSpec {
 struct TNodeState {
   1: TResourceVector sparrowUsage;   # Resources used by Sparrow
   2: TResourceVector externalUsage;  # Resources used by other schedulers
+  # Applications with a backend registered at the node monitor. If unset, the node monitor
+  # is assumed to run backends for every application.
+  3: optional list<string> apps;
+}
+
+# The schedulers and node monitors (as IP:Port) known to a state store.
+struct TStateStoreMembership {
+  1: list<string> schedulers;
+  2: list<string> nodeMonitors;
+}
+
+# Cluster-wide demand for quota principals ("user:<name>" or "group:<name>"), as returned by
+# the state store to a scheduler reconciling its quotas.
+struct TQuotaReconciliation {
+  # For each principal, the tasks submitted during the last interval, summed over the
+  # schedulers that have reported recently.
+  1: map<string, i64> totalDemand;
+  # Number of schedulers that have reported recently (including the caller).
+  2: i32 numSchedulers;
 }
@@ -0,0 +1,326 @@
+package edu.berkeley.sparrow.api;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.apache.thrift.TException;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+import edu.berkeley.sparrow.api.SparrowFrontendClient.SchedulerConnection;
+import edu.berkeley.sparrow.thrift.SchedulerOverloadedException;
+import edu.berkeley.sparrow.thrift.TSchedulingRequest;
+import edu.berkeley.sparrow.thrift.TTaskSpec;
+import edu.berkeley.sparrow.thrift.TUserGroupInfo;
+
+public class TestSparrowFrontendClient {
+  private static final String APP = "app";
+  private static final InetSocketAddress SCHEDULER_A = new InetSocketAddress("10.0.0.1", 20503);
+  private static final InetSocketAddress SCHEDULER_B = new InetSocketAddress("10.0.0.2", 20503);
+
+  /** A job submitted to a fake scheduler. */
+  private static class Submission {
+    InetSocketAddress scheduler;
+    TSchedulingRequest request;
+
+    Submission(InetSocketAddress scheduler, TSchedulingRequest request) {
+      this.scheduler = scheduler;
+      this.request = request;
+    }
+  }
+
+  /**
+   * Submits jobs to fake schedulers, which fail while they are in {@link #down}, and reject jobs
+   * while they are in {@link #overloaded}.
+   */
+  private static class FakeFrontendClient extends SparrowFrontendClient {
+    Set<InetSocketAddress> down = Sets.newHashSet();
+    Set<InetSocketAddress> overloaded = Sets.newHashSet();
+    Map<InetSocketAddress, Integer> loadHints = Maps.newHashMap();
+    List<Submission> submissions = Lists.newArrayList();
+    /** IDs of the jobs that each scheduler was told to cancel. */
+    Map<InetSocketAddress, Set<String>> cancelledJobIds = Maps.newHashMap();
+
+    FakeFrontendClient() {
+      super(new Random(0));
+    }
+
+    @Override
+    protected int register(InetSocketAddress scheduler, List<String> cancelledJobIds)
+        throws IOException, TException {
+      if (down.contains(scheduler)) {
+        throw new IOException("Connection refused");
+      }
+      if (!cancelledJobIds.isEmpty()) {
+        if (!this.cancelledJobIds.containsKey(scheduler)) {
+          this.cancelledJobIds.put(scheduler, Sets.<String>newHashSet());
+        }
+        this.cancelledJobIds.get(scheduler).addAll(cancelledJobIds);
+      }
+      Integer loadHint = loadHints.get(scheduler);
+      return loadHint == null ? 0 : loadHint;
+    }
+
+    @Override
+    protected void submitTo(SchedulerConnection scheduler, List<TSchedulingRequest> requests)
+        throws TException, SchedulerOverloadedException {
+      if (down.contains(scheduler.address)) {
+        throw new TException("Connection reset");
+      }
+      if (overloaded.contains(scheduler.address)) {
+        throw new SchedulerOverloadedException("Scheduler overloaded", 60000);
+      }
+      for (TSchedulingRequest request : requests) {
+        submissions.add(new Submission(scheduler.address, request));
+      }
+    }
+  }
+
+  private FakeFrontendClient client;
+
+  private static InetSocketAddress other(InetSocketAddress scheduler) {
+    return scheduler.equals(SCHEDULER_A) ? SCHEDULER_B : SCHEDULER_A;
+  }
+
+  private static List<TTaskSpec> tasks(int numTasks) {
+    List<TTaskSpec> tasks = Lists.newArrayList();
+    for (int i = 0; i < numTasks; ++i) {
+      TTaskSpec task = new TTaskSpec();
+      task.setTaskId(Integer.toString(i));
+      tasks.add(task);
+    }
+    return tasks;
+  }
+
+  private static Set<String> taskIds(TSchedulingRequest request) {
+    Set<String> taskIds = Sets.newHashSet();
+    for (TTaskSpec task : request.getTasks()) {
+      taskIds.add(task.getTaskId());
+    }
+    return taskIds;
+  }
+
+  /** Calls checkSchedulers() as many times as it takes for a scheduler that is down to fail. */
+  private void failOver() {
+    for (int i = 0; i < 3; ++i) {
+      client.checkSchedulers(System.currentTimeMillis());
+    }
+  }
+
+  private static Map<String, List<String>> launched(String jobId, String... taskIds) {
+    Map<String, List<String>> launched = Maps.newHashMap();
+    launched.put(jobId, Lists.newArrayList(taskIds));
+    return launched;
+  }
+
+  @Before
+  public void setUp() {
+    client = new FakeFrontendClient();
+    assertTrue(client.connect(Lists.newArrayList(SCHEDULER_A, SCHEDULER_B), APP,
+                              "10.0.0.9:50201"));
+  }
+
+  @Test
+  public void testFailedSchedulersAreAvoided() throws TException {
+    client.down.add(SCHEDULER_A);
+    client.checkSchedulers(System.currentTimeMillis());
+    for (int i = 0; i < 4; ++i) {
+      assertTrue(client.submitJob(APP + i, tasks(1), new TUserGroupInfo("user", "group")));
+      assertEquals(SCHEDULER_B, client.submissions.get(i).scheduler);
+    }
+    // Each job gets its own ID, and launches are reported back to this frontend.
+    TSchedulingRequest request = client.submissions.get(0).request;
+    assertEquals("10.0.0.9:50201", request.getLaunchReportAddress());
+    assertTrue(!request.getJobId().equals(client.submissions.get(1).request.getJobId()));
+
+    // Once B is unreachable, jobs go to A, including the one that was being submitted to B.
+    // The jobs that B had accepted are resubmitted together once B has missed enough
+    // heartbeats.
+    client.down.clear();
+    client.checkSchedulers(System.currentTimeMillis());
+    client.down.add(SCHEDULER_B);
+    assertTrue(client.submitJob(APP + 0, tasks(1), new TUserGroupInfo("user", "group")));
+    assertEquals(5, client.submissions.size());
+    assertEquals(SCHEDULER_A, client.submissions.get(4).scheduler);
+    client.checkSchedulers(System.currentTimeMillis());
+    client.checkSchedulers(System.currentTimeMillis());
+    assertEquals(5, client.submissions.size());
+    client.checkSchedulers(System.currentTimeMillis());
+    assertEquals(9, client.submissions.size());
+    Set<String> jobIds = Sets.newHashSet();
+    Set<String> resubmittedJobIds = Sets.newHashSet();
+    for (int i = 0; i < 4; ++i) {
+      jobIds.add(client.submissions.get(i).request.getJobId());
+      assertEquals(SCHEDULER_A, client.submissions.get(5 + i).scheduler);
+      resubmittedJobIds.add(client.submissions.get(5 + i).request.getJobId());
+    }
+    assertEquals(jobIds, resubmittedJobIds);
+  }
+
+  @Test
+  public void testApplicationsStickToCheapSchedulers() {
+    // Neither scheduler has been sent a job yet, so their costs come from their load hints.
+    client.loadHints.put(SCHEDULER_A, 0);
+    client.loadHints.put(SCHEDULER_B, 10000);
+    client.checkSchedulers(System.currentTimeMillis());
+    long now = System.currentTimeMillis();
+    for (int i = 0; i < 10; ++i) {
+      assertEquals(SCHEDULER_A, client.chooseScheduler(APP + i, now).address);
+    }
+    assertEquals(SCHEDULER_A, client.chooseScheduler(APP, now).address);
+
+    // A becomes a little more loaded than B, which isn't enough to move the application.
+    client.loadHints.put(SCHEDULER_A, 1500);
+    client.loadHints.put(SCHEDULER_B, 1000);
+    client.checkSchedulers(now);
+    assertEquals(SCHEDULER_A, client.chooseScheduler(APP, now).address);
+    // Once A is much more loaded, the application moves to B, and stays there.
+    client.loadHints.put(SCHEDULER_A, 5000);
+    client.checkSchedulers(now);
+    assertEquals(SCHEDULER_B, client.chooseScheduler(APP, now).address);
+    client.loadHints.put(SCHEDULER_A, 1500);
+    client.checkSchedulers(now);
+    assertEquals(SCHEDULER_B, client.chooseScheduler(APP, now).address);
+  }
+
+  @Test
+  public void testOverloadedSchedulerIsSkipped() throws TException {
+    client.loadHints.put(SCHEDULER_B, 10000);
+    client.checkSchedulers(System.currentTimeMillis());
+    client.overloaded.add(SCHEDULER_A);
+    long start = System.currentTimeMillis();
+    assertTrue(client.submitJob(APP, tasks(1), new TUserGroupInfo("user", "group")));
+    // The job goes to B right away, rather than waiting as long as A asks.
+    assertTrue(System.currentTimeMillis() - start < 60000);
+    assertEquals(1, client.submissions.size());
+    assertEquals(SCHEDULER_B, client.submissions.get(0).scheduler);
+    // A is avoided until it asked to be retried, even though it is less loaded.
+    for (int i = 0; i < 10; ++i) {
+      assertEquals(SCHEDULER_B,
+                   client.chooseScheduler(APP + i, System.currentTimeMillis()).address);
+    }
+  }
+
+  @Test
+  public void testUnlaunchedTasksAreResubmittedWhenSchedulerFails() throws TException {
+    assertTrue(client.submitJob(APP, tasks(3), new TUserGroupInfo("user", "group")));
+    TSchedulingRequest request = client.submissions.get(0).request;
+    InetSocketAddress scheduler = client.submissions.get(0).scheduler;
+    client.tasksLaunched(launched(request.getJobId(), "0"));
+    assertEquals(1, client.getPendingJobs());
+
+    client.down.add(scheduler);
+    failOver();
+    assertEquals(2, client.submissions.size());
+    Submission resubmission = client.submissions.get(1);
+    assertEquals(other(scheduler), resubmission.scheduler);
+    assertEquals(request.getJobId(), resubmission.request.getJobId());
+    assertEquals(Sets.newHashSet("1", "2"), taskIds(resubmission.request));
+
+    // Once every task has been launched, the job is no longer tracked.
+    client.tasksLaunched(launched(request.getJobId(), "1", "2"));
+    assertEquals(0, client.getPendingJobs());
+    client.down.add(other(scheduler));
+    failOver();
+    assertEquals(2, client.submissions.size());
+  }
+
+  @Test
+  public void testSlowSchedulerKeepsItsJobs() throws TException {
+    assertTrue(client.submitJob(APP, tasks(2), new TUserGroupInfo("user", "group")));
+    InetSocketAddress scheduler = client.submissions.get(0).scheduler;
+
+    // A scheduler that misses a couple of heartbeats (e.g., while paused for garbage
+    // collection) isn't sent new jobs, but its jobs aren't resubmitted.
+    client.down.add(scheduler);
+    client.checkSchedulers(System.currentTimeMillis());
+    client.checkSchedulers(System.currentTimeMillis());
+    assertEquals(1, client.submissions.size());
+    assertEquals(other(scheduler),
+                 client.chooseScheduler(APP, System.currentTimeMillis()).address);
+    client.down.clear();
+    client.checkSchedulers(System.currentTimeMillis());
+    client.down.add(other(scheduler));
+    client.checkSchedulers(System.currentTimeMillis());
+    assertEquals(1, client.submissions.size());
+    assertEquals(0, client.cancelledJobIds.size());
+  }
+
+  @Test
+  public void testFailedSchedulerCancelsResubmittedJobs() throws TException {
+    assertTrue(client.submitJob(APP, tasks(2), new TUserGroupInfo("user", "group")));
+    TSchedulingRequest request = client.submissions.get(0).request;
+    InetSocketAddress scheduler = client.submissions.get(0).scheduler;
+    client.down.add(scheduler);
+    failOver();
+    assertEquals(2, client.submissions.size());
+
+    // When the scheduler comes back, it cancels the job before it is sent new jobs.
+    client.down.clear();
+    client.checkSchedulers(System.currentTimeMillis());
+    assertEquals(Sets.newHashSet(request.getJobId()), client.cancelledJobIds.get(scheduler));
+    client.cancelledJobIds.clear();
+    client.checkSchedulers(System.currentTimeMillis());
+    assertEquals(0, client.cancelledJobIds.size());
+  }
+
+  @Test
+  public void testFailedSubmissionIsCancelled() throws TException {
+    client.loadHints.put(SCHEDULER_B, 10000);
+    client.checkSchedulers(System.currentTimeMillis());
+    client.down.add(SCHEDULER_A);
+    // The call to A fails, but A may have accepted the job, so A cancels it when it comes back.
+    assertTrue(client.submitJob(APP, tasks(1), new TUserGroupInfo("user", "group")));
+    assertEquals(SCHEDULER_B, client.submissions.get(0).scheduler);
+    client.down.clear();
+    client.checkSchedulers(System.currentTimeMillis());
+    assertEquals(Sets.newHashSet(client.submissions.get(0).request.getJobId()),
+                 client.cancelledJobIds.get(SCHEDULER_A));
+  }
+
+  @Test
+  public void testEmptyBatch() throws TException {
+    assertTrue(client.submitJobs(Lists.<TSchedulingRequest>newArrayList()));
+    assertEquals(0, client.submissions.size());
+  }
+
+  @Test
+  public void testJobsWaitForAScheduler() throws TException {
+    assertTrue(client.submitJob(APP, tasks(2), new TUserGroupInfo("user", "group")));
+    TSchedulingRequest request = client.submissions.get(0).request;
+
+    // With every scheduler down, the job is kept until one comes back.
+    client.down.add(SCHEDULER_A);
+    client.down.add(SCHEDULER_B);
+    failOver();
+    assertEquals(1, client.submissions.size());
+    assertEquals(1, client.getPendingJobs());
+
+    client.down.remove(SCHEDULER_B);
+    client.checkSchedulers(System.currentTimeMillis());
+    assertEquals(2, client.submissions.size());
+    assertEquals(SCHEDULER_B, client.submissions.get(1).scheduler);
+    assertEquals(request.getJobId(), client.submissions.get(1).request.getJobId());
+  }
+
+  @Test
+  public void testOldJobsAreForgotten() throws TException {
+    assertTrue(client.submitJobs(Collections.singletonList(
+        new TSchedulingRequest(APP, tasks(1), new TUserGroupInfo("user", "group")))));
+    assertEquals(1, client.getPendingJobs());
+    client.checkSchedulers(System.currentTimeMillis() + 60 * 60 * 1000);
+    assertEquals(0, client.getPendingJobs());
+  }
+}
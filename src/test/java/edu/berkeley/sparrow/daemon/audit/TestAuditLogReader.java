@@ -0,0 +1,75 @@
+package edu.berkeley.sparrow.daemon.audit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+
+import org.junit.Test;
+
+import edu.berkeley.sparrow.daemon.util.BinaryAuditLog;
+
+public class TestAuditLogReader {
+  /** Ensures that partially written lines are only returned once they are complete. */
+  @Test
+  public void testFollowTextLog() throws Exception {
+    File file = File.createTempFile("sparrow_audit", ".log");
+    file.deleteOnExit();
+    FileOutputStream out = new FileOutputStream(file);
+    out.write("audit.Scheduler\t1000\tarrived:r1:2:10.0.0.1:20503:user\naudit.Sch".getBytes());
+    out.flush();
+
+    AuditLogReader reader = AuditLogReader.open(file);
+    assertTrue(reader instanceof TextAuditLogReader);
+    AuditEvent event = reader.next();
+    assertEquals("audit.Scheduler", event.category);
+    assertEquals(1000, event.timeMillis);
+    assertEquals("arrived", event.name);
+    assertEquals(5, event.params.length);
+    assertEquals("r1", event.getParam(0));
+    assertEquals("", event.getParam(5));
+    assertNull(reader.next());
+
+    out.write("eduler\t1001\tscheduler_get_task_no_task:r1\n".getBytes());
+    out.close();
+    event = reader.next();
+    assertEquals("audit.Scheduler\t1001\tscheduler_get_task_no_task:r1", event.toString());
+    assertNull(reader.next());
+    reader.close();
+  }
+
+  @Test
+  public void testReadBinaryLog() throws Exception {
+    File file = File.createTempFile("sparrow_audit", ".bin");
+    file.deleteOnExit();
+    long start = System.currentTimeMillis();
+    BinaryAuditLog log = new BinaryAuditLog(file, 16);
+    log.log("audit.Scheduler", "arrived", "r1", 3, "10.0.0.1", 20503L, "user");
+
+    // Events can be read while the log is still being written.
+    AuditLogReader reader = AuditLogReader.open(file);
+    assertTrue(reader instanceof BinaryAuditLogReader);
+    AuditEvent event = null;
+    for (int i = 0; i < 1000 && event == null; ++i) {
+      event = reader.next();
+      if (event == null) {
+        Thread.sleep(10);
+      }
+    }
+    assertEquals("audit.Scheduler", event.category);
+    assertTrue(event.timeMillis >= start && event.timeMillis <= System.currentTimeMillis());
+    assertEquals("arrived:r1:3:10.0.0.1:20503:user",
+                 event.toString().substring(event.toString().lastIndexOf('\t') + 1));
+    assertNull(reader.next());
+
+    log.log("audit.TaskScheduler", "task_completed", "r1", "0");
+    log.close();
+    event = reader.next();
+    assertEquals("task_completed", event.name);
+    assertEquals("0", event.getParam(1));
+    assertNull(reader.next());
+    reader.close();
+  }
+}
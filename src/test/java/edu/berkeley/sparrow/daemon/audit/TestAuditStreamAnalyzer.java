@@ -0,0 +1,157 @@
+package edu.berkeley.sparrow.daemon.audit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import org.junit.Test;
+
+public class TestAuditStreamAnalyzer {
+  private static final String SCHEDULER = "audit.edu.berkeley.sparrow.daemon.scheduler.Scheduler";
+  private static final String NODE_MONITOR =
+      "audit.edu.berkeley.sparrow.daemon.nodemonitor.TaskScheduler";
+
+  private ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+  private AuditStreamAnalyzer newAnalyzer(long timeoutMillis, int maxPendingRequests) {
+    return new AuditStreamAnalyzer(new PrintStream(output), 10000, 1000, timeoutMillis,
+                                   maxPendingRequests);
+  }
+
+  private static AuditEvent event(String category, long time, String name, String... params) {
+    return new AuditEvent(category, time, name, params);
+  }
+
+  /** Sends the events for a job with one task, which ran on node monitor {@code nm}. */
+  private static void runJob(AuditStreamAnalyzer analyzer, String requestId, long arrival,
+                             long assigned, long launched, long completed, String nm) {
+    analyzer.process(event(SCHEDULER, arrival, "arrived", requestId, "1", "10.0.0.1", "20503",
+                           "user"));
+    analyzer.process(event(NODE_MONITOR, assigned - 1, "node_monitor_get_task", requestId, nm));
+    analyzer.process(event(SCHEDULER, assigned, "scheduler_assigned_task", requestId, "0", nm));
+    analyzer.process(event(NODE_MONITOR, launched, "node_monitor_task_launch", requestId, nm,
+                           "0", "", ""));
+    analyzer.process(event(NODE_MONITOR, completed, "task_completed", requestId, "0"));
+  }
+
+  @Test
+  public void testJoinsEventsPerJob() {
+    AuditStreamAnalyzer analyzer = newAnalyzer(60000, 1000);
+    runJob(analyzer, "r1", 100000, 100010, 100011, 100111, "10.0.0.2");
+    runJob(analyzer, "r2", 100200, 100230, 100231, 100431, "10.0.0.3");
+
+    assertEquals(0, analyzer.getPendingRequests());
+    assertEquals(2, analyzer.getTotalResponseTimes().getCount());
+    assertEquals(111 + 231, analyzer.getTotalResponseTimes().getSum());
+    assertEquals(10 + 30, analyzer.getTotalQueueTimes().getSum());
+    assertEquals(100 + 200, analyzer.getTotalServiceTimes().getSum());
+  }
+
+  /** Events for a task may be seen before the job's arrival (e.g., if logs are skewed). */
+  @Test
+  public void testOutOfOrderEvents() {
+    AuditStreamAnalyzer analyzer = newAnalyzer(60000, 1000);
+    analyzer.process(event(NODE_MONITOR, 1050, "node_monitor_task_launch", "r1", "nm", "0",
+                           "", ""));
+    analyzer.process(event(NODE_MONITOR, 1080, "task_completed", "r1", "0"));
+    analyzer.process(event(SCHEDULER, 1050, "scheduler_assigned_task", "r1", "0", "nm"));
+    assertEquals(1, analyzer.getPendingRequests());
+    analyzer.process(event(SCHEDULER, 1000, "arrived", "r1", "1", "10.0.0.1", "20503", ""));
+
+    assertEquals(0, analyzer.getPendingRequests());
+    assertEquals(80, analyzer.getTotalResponseTimes().getMax());
+    assertEquals(50, analyzer.getTotalQueueTimes().getMax());
+  }
+
+  /** Ensures that completion times are adjusted for skew between the scheduler and worker. */
+  @Test
+  public void testClockSkew() {
+    AuditStreamAnalyzer analyzer = newAnalyzer(60000, 1000);
+    // The node monitor's clock is 500 ms ahead of the scheduler's, so the task finished 115 ms
+    // after the job arrived, according to the scheduler's clock.
+    analyzer.process(event(SCHEDULER, 1000, "arrived", "r1", "1", "10.0.0.1", "20503", ""));
+    analyzer.process(event(NODE_MONITOR, 1505, "node_monitor_get_task", "r1", "nm"));
+    analyzer.process(event(SCHEDULER, 1010, "scheduler_assigned_task", "r1", "0", "nm"));
+    analyzer.process(event(NODE_MONITOR, 1515, "node_monitor_task_launch", "r1", "nm", "0",
+                           "", ""));
+    analyzer.process(event(NODE_MONITOR, 1615, "task_completed", "r1", "0"));
+    assertEquals(115, analyzer.getTotalResponseTimes().getMax());
+  }
+
+  @Test
+  public void testIncompleteJobsExpire() {
+    AuditStreamAnalyzer analyzer = newAnalyzer(5000, 2);
+    analyzer.process(event(SCHEDULER, 1000, "arrived", "r1", "2", "10.0.0.1", "20503", ""));
+    analyzer.process(event(SCHEDULER, 1000, "arrived", "r2", "2", "10.0.0.1", "20503", ""));
+    analyzer.process(event(SCHEDULER, 1000, "arrived", "r3", "2", "10.0.0.1", "20503", ""));
+    // Only two jobs fit.
+    assertEquals(2, analyzer.getPendingRequests());
+    assertEquals(1, analyzer.getExpiredRequests());
+
+    runJob(analyzer, "r4", 7000, 7001, 7002, 7003, "nm");
+    // r2 and r3 have timed out.
+    assertEquals(0, analyzer.getPendingRequests());
+    assertEquals(3, analyzer.getExpiredRequests());
+    assertEquals(1, analyzer.getTotalResponseTimes().getCount());
+  }
+
+  @Test
+  public void testReports() {
+    AuditStreamAnalyzer analyzer = newAnalyzer(60000, 1000);
+    runJob(analyzer, "r1", 100000, 100010, 100011, 100111, "nm");
+    runJob(analyzer, "r2", 101500, 101510, 101511, 101611, "nm");
+    runJob(analyzer, "r3", 102500, 102510, 102511, 102611, "nm");
+    analyzer.printSummary();
+
+    String[] lines = output.toString().split("\n");
+    assertTrue(lines[0].startsWith("  time_s"));
+    // Reports for the windows ending at 101 s and 102 s.
+    assertTrue(lines[1].trim().startsWith("1.0      1"));
+    assertTrue(lines[2].trim().startsWith("2.0      2"));
+    assertTrue(output.toString().contains("response_time_ms count=3"));
+  }
+
+  /** Processes audit log lines as schedulers and node monitors write them. */
+  @Test
+  public void testLogLines() {
+    AuditStreamAnalyzer analyzer = newAnalyzer(60000, 1000);
+    // A request ID as generated by a scheduler.
+    String requestId = "10.0.0.1_20503_5";
+    String[] lines = {
+        SCHEDULER + "\t1000\tarrived:" + requestId + ":2:10.0.0.1:20503:user",
+        NODE_MONITOR + "\t1009\tnode_monitor_get_task:" + requestId + ":10.0.0.2",
+        SCHEDULER + "\t1010\tscheduler_assigned_task:" + requestId + ":0:10.0.0.2",
+        NODE_MONITOR + "\t1011\tnode_monitor_task_launch:" + requestId + ":10.0.0.2:0::",
+        NODE_MONITOR + "\t1019\tnode_monitor_get_task:" + requestId + ":10.0.0.3",
+        SCHEDULER + "\t1020\tscheduler_assigned_task:" + requestId + ":1:10.0.0.3",
+        NODE_MONITOR + "\t1021\tnode_monitor_task_launch:" + requestId + ":10.0.0.3:1:" +
+            requestId + ":0",
+        NODE_MONITOR + "\t1111\ttask_completed:" + requestId + ":0",
+        NODE_MONITOR + "\t1221\ttask_completed:" + requestId + ":1"};
+    for (String line : lines) {
+      analyzer.process(AuditEvent.parse(line));
+    }
+
+    assertEquals(0, analyzer.getPendingRequests());
+    assertEquals(0, analyzer.getMalformedEvents());
+    assertEquals(1, analyzer.getTotalResponseTimes().getCount());
+    assertEquals(221, analyzer.getTotalResponseTimes().getMax());
+    assertEquals(10 + 20, analyzer.getTotalQueueTimes().getSum());
+    assertEquals(100 + 200, analyzer.getTotalServiceTimes().getSum());
+  }
+
+  /**
+   * Request IDs from older schedulers contain ':', so they are split into several parameters;
+   * ensures that such events are counted as malformed rather than misread.
+   */
+  @Test
+  public void testRequestIdsContainingColons() {
+    AuditStreamAnalyzer analyzer = newAnalyzer(60000, 1000);
+    analyzer.process(AuditEvent.parse(
+        SCHEDULER + "\t1000\tarrived:10.0.0.1:20503_5:1:10.0.0.1:20503:user"));
+    assertEquals(1, analyzer.getMalformedEvents());
+    assertEquals(0, analyzer.getPendingRequests());
+  }
+}
@@ -0,0 +1,46 @@
+package edu.berkeley.sparrow.daemon.audit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import edu.berkeley.sparrow.daemon.metrics.Histogram;
+
+public class TestSlidingWindowHistogram {
+  @Test
+  public void testWindowSlides() {
+    // A 3 second window of 1 second slots.
+    SlidingWindowHistogram histogram = new SlidingWindowHistogram("test", 1000, 3);
+    assertEquals(3000, histogram.getWindowMillis());
+    histogram.record(10000, 1);
+    histogram.record(10999, 2);
+    histogram.record(11500, 3);
+    histogram.record(12000, 4);
+
+    Histogram window = histogram.getWindow(12000);
+    assertEquals(3, window.getCount());
+    assertEquals(6, window.getSum());
+    assertEquals(4, histogram.getWindow(13000).getCount());
+    // The slot for 10 s has left the window.
+    assertEquals(2, histogram.getWindow(14000).getCount());
+
+    // Recording in the slot for 13 s replaces the slot for 10 s (which shares its storage).
+    histogram.record(13000, 5);
+    assertEquals(3, histogram.getWindow(14000).getCount());
+    assertEquals(12, histogram.getWindow(14000).getSum());
+  }
+
+  @Test
+  public void testLateValues() {
+    SlidingWindowHistogram histogram = new SlidingWindowHistogram("test", 1000, 2);
+    histogram.record(5000, 1);
+    // Still within the window.
+    assertTrue(histogram.record(4000, 2));
+    histogram.record(6000, 3);
+    // The slot for 4 s has been reused for 6 s.
+    assertFalse(histogram.record(4500, 4));
+    assertEquals(4, histogram.getWindow(7000).getSum());
+  }
+}
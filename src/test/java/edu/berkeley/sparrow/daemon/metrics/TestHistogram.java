@@ -0,0 +1,86 @@
+package edu.berkeley.sparrow.daemon.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+public class TestHistogram {
+  /** Ensures that every value falls in a bucket whose range contains it. */
+  @Test
+  public void testBuckets() {
+    int lastBucket = -1;
+    for (long value = 0; value < 1000000; ++value) {
+      int bucket = Histogram.getBucket(value);
+      assertTrue(bucket == lastBucket || bucket == lastBucket + 1);
+      assertTrue(Histogram.getBucketHighestValue(bucket) >= value);
+      lastBucket = bucket;
+    }
+    assertEquals(Long.MAX_VALUE, Histogram.getBucketHighestValue(
+        Histogram.getBucket(Long.MAX_VALUE)));
+  }
+
+  @Test
+  public void testPercentiles() {
+    Histogram histogram = new Histogram("test");
+    assertEquals(0, histogram.get99thPercentile());
+    for (int i = 1; i <= 10000; ++i) {
+      histogram.record(i);
+    }
+    assertEquals(10000, histogram.getCount());
+    assertEquals(10000, histogram.getMax());
+    assertEquals(5000.5, histogram.getMean(), 0.001);
+    assertWithinPrecision(5000, histogram.get50thPercentile());
+    assertWithinPrecision(9000, histogram.get90thPercentile());
+    assertWithinPrecision(9900, histogram.get99thPercentile());
+    assertEquals(10000, histogram.getPercentile(100));
+  }
+
+  @Test
+  public void testAdd() {
+    Histogram first = new Histogram("test");
+    Histogram second = new Histogram("test");
+    for (int i = 1; i <= 100; ++i) {
+      first.record(i);
+      second.record(i + 100);
+    }
+    first.add(second);
+    assertEquals(200, first.getCount());
+    assertEquals(200 * 201 / 2, first.getSum());
+    assertEquals(200, first.getMax());
+    assertWithinPrecision(100, first.get50thPercentile());
+  }
+
+  @Test
+  public void testConcurrentRecording() throws Exception {
+    final Histogram histogram = new Histogram("test");
+    List<Thread> threads = Lists.newArrayList();
+    for (int i = 0; i < 4; ++i) {
+      threads.add(new Thread() {
+        @Override
+        public void run() {
+          for (int j = 0; j < 100000; ++j) {
+            histogram.record(j);
+          }
+        }
+      });
+    }
+    for (Thread thread : threads) {
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    assertEquals(400000, histogram.getCount());
+    assertEquals(99999, histogram.getMax());
+  }
+
+  private void assertWithinPrecision(long expected, long actual) {
+    assertTrue("Expected " + expected + " but got " + actual,
+               actual >= expected && actual <= expected + expected / 64);
+  }
+}
@@ -0,0 +1,68 @@
+package edu.berkeley.sparrow.daemon.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.net.URL;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+public class TestMetricsRegistry {
+  @Test
+  public void testGetMetrics() {
+    MetricsRegistry metrics = new MetricsRegistry("Test", 1);
+    Histogram histogram = metrics.getHistogram("latency_us");
+    assertSame(histogram, metrics.getHistogram("latency_us"));
+    Counter counter = metrics.getCounter("empty");
+    assertSame(counter, metrics.getCounter("empty"));
+    assertEquals(Lists.newArrayList("latency_us", "empty"), metrics.getNames());
+  }
+
+  @Test
+  public void testExportToJmx() throws Exception {
+    MetricsRegistry metrics = new MetricsRegistry("Test", 2);
+    metrics.getHistogram("latency_us").record(10);
+    metrics.export();
+    // Metrics created after the registry is exported should also be registered.
+    metrics.getCounter("empty").increment();
+
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    ObjectName histogramName = new ObjectName(
+        MetricsRegistry.JMX_DOMAIN + ":type=Test,port=2,name=latency_us");
+    assertEquals(1L, server.getAttribute(histogramName, "Count"));
+    assertEquals(10L, server.getAttribute(histogramName, "Max"));
+    ObjectName counterName = new ObjectName(
+        MetricsRegistry.JMX_DOMAIN + ":type=Test,port=2,name=empty");
+    assertEquals(1L, server.getAttribute(counterName, "Count"));
+  }
+
+  @Test
+  public void testHttpServer() throws Exception {
+    MetricsRegistry metrics = new MetricsRegistry("Test", 3);
+    metrics.getCounter("empty").increment();
+    metrics.export();
+    MetricsHttpServer server = new MetricsHttpServer(0);
+    try {
+      URL url = new URL("http://localhost:" + server.getPort() + "/");
+      BufferedReader in = new BufferedReader(new InputStreamReader(url.openStream()));
+      boolean found = false;
+      String line;
+      while ((line = in.readLine()) != null) {
+        found = found || line.equals("Test.3.empty count=1");
+      }
+      in.close();
+      assertTrue(found);
+    } finally {
+      server.close();
+    }
+  }
+}
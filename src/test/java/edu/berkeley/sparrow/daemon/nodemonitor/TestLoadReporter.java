@@ -0,0 +1,105 @@
+package edu.berkeley.sparrow.daemon.nodemonitor;
+
+import static org.junit.Assert.assertEquals;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.commons.configuration.PropertiesConfiguration;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+import edu.berkeley.sparrow.daemon.SparrowConf;
+import edu.berkeley.sparrow.daemon.metrics.MetricsRegistry;
+import edu.berkeley.sparrow.daemon.util.TResources;
+import edu.berkeley.sparrow.thrift.TResourceUsage;
+
+public class TestLoadReporter {
+  /** Reports the load it is given, and records the reports it would have sent. */
+  private static class FakeLoadReporter extends LoadReporter {
+    Map<String, TResourceUsage> load = Maps.newHashMap();
+    List<Map<String, TResourceUsage>> sent = Lists.newArrayList();
+
+    FakeLoadReporter(Configuration conf) {
+      super(null, "127.0.0.1:20502", Lists.<InetSocketAddress>newArrayList(), conf,
+            new MetricsRegistry("TestLoadReporter", 0));
+    }
+
+    void setLoad(String app, int queueLength, int cores, int memory) {
+      load.put(app, TResources.createResourceUsage(
+          TResources.createResourceVector(memory, cores), queueLength));
+    }
+
+    @Override
+    protected Map<String, TResourceUsage> getLoad() {
+      return Maps.newHashMap(load);
+    }
+
+    @Override
+    protected boolean send(Map<String, TResourceUsage> load) {
+      sent.add(load);
+      return true;
+    }
+  }
+
+  private FakeLoadReporter reporter;
+
+  @Before
+  public void setUp() {
+    Configuration conf = new PropertiesConfiguration();
+    conf.setProperty(SparrowConf.LOAD_REPORT_MAX_INTERVAL_MS, 1000);
+    conf.setProperty(SparrowConf.LOAD_REPORT_QUEUE_THRESHOLD, 2);
+    conf.setProperty(SparrowConf.LOAD_REPORT_CORES_THRESHOLD, 1);
+    conf.setProperty(SparrowConf.LOAD_REPORT_MEMORY_THRESHOLD_MB, 512);
+    reporter = new FakeLoadReporter(conf);
+  }
+
+  @Test
+  public void testOnlyReportsLargeChanges() {
+    reporter.setLoad("app", 0, 0, 0);
+    reporter.reportIfNeeded(0);
+    assertEquals(1, reporter.sent.size());
+
+    // Below every threshold.
+    reporter.setLoad("app", 1, 0, 511);
+    reporter.reportIfNeeded(10);
+    assertEquals(1, reporter.sent.size());
+
+    // The queue has grown by 2 since the last report.
+    reporter.setLoad("app", 2, 0, 511);
+    reporter.reportIfNeeded(20);
+    assertEquals(2, reporter.sent.size());
+    assertEquals(2, reporter.sent.get(1).get("app").getQueueLength());
+
+    reporter.setLoad("app", 2, 1, 511);
+    reporter.reportIfNeeded(30);
+    assertEquals(3, reporter.sent.size());
+
+    reporter.setLoad("app", 2, 1, 1023);
+    reporter.reportIfNeeded(40);
+    assertEquals(4, reporter.sent.size());
+
+    // A new application.
+    reporter.setLoad("app2", 0, 1, 1023);
+    reporter.reportIfNeeded(50);
+    assertEquals(5, reporter.sent.size());
+  }
+
+  /** Ensures that the load is reported once per max interval even if it hasn't changed. */
+  @Test
+  public void testReportsAtMaxInterval() {
+    reporter.setLoad("app", 0, 0, 0);
+    reporter.reportIfNeeded(0);
+    reporter.reportIfNeeded(999);
+    assertEquals(1, reporter.sent.size());
+    reporter.reportIfNeeded(1000);
+    assertEquals(2, reporter.sent.size());
+    reporter.reportIfNeeded(1500);
+    assertEquals(2, reporter.sent.size());
+  }
+}
@@ -0,0 +1,93 @@
+package edu.berkeley.sparrow.daemon.nodemonitor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.commons.configuration.PropertiesConfiguration;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+import edu.berkeley.sparrow.daemon.SparrowConf;
+import edu.berkeley.sparrow.daemon.nodemonitor.TaskScheduler.TaskSpec;
+import edu.berkeley.sparrow.daemon.util.TResources;
+import edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest;
+import edu.berkeley.sparrow.thrift.THostPort;
+import edu.berkeley.sparrow.thrift.TResourceVector;
+import edu.berkeley.sparrow.thrift.TUserGroupInfo;
+
+public class TestPerUserReservationLimit {
+  private static final String APP = "app";
+  private static final InetSocketAddress BACKEND = new InetSocketAddress("127.0.0.1", 20101);
+  private static final THostPort SCHEDULER = new THostPort("10.0.0.1", 20503);
+
+  /** Records the reservations for which getTask() would have been called. */
+  private static class RecordingHandler implements TaskScheduler.GetTaskHandler {
+    List<TaskSpec> reservations = Lists.newArrayList();
+
+    @Override
+    public void getTask(TaskSpec taskReservation) {
+      reservations.add(taskReservation);
+    }
+  }
+
+  private FifoTaskScheduler scheduler;
+  private RecordingHandler handler;
+
+  private static TEnqueueTaskReservationsRequest request(String user, String requestId,
+                                                         int numTasks) {
+    TEnqueueTaskReservationsRequest request = new TEnqueueTaskReservationsRequest(
+        APP, new TUserGroupInfo(user, "group"), requestId, new TResourceVector(1, 1),
+        SCHEDULER, numTasks);
+    request.setStealable(true);
+    return request;
+  }
+
+  @Before
+  public void setUp() {
+    handler = new RecordingHandler();
+    scheduler = new FifoTaskScheduler(1);
+    scheduler.setGetTaskHandler(handler);
+    Configuration conf = new PropertiesConfiguration();
+    conf.setProperty(SparrowConf.MAX_QUEUED_RESERVATIONS_PER_USER, 2);
+    scheduler.initialize(TResources.createResourceVector(1024, 1), conf, 20502);
+  }
+
+  @Test
+  public void testReservationsOverLimitAreParked() {
+    scheduler.submitTaskReservations(request("alice", "running", 1), BACKEND);
+    scheduler.submitTaskReservations(request("alice", "alice", 4), BACKEND);
+    // The running reservation doesn't count toward the limit.
+    assertEquals(2, scheduler.taskReservations.size());
+    assertEquals(2, scheduler.getParkedReservations());
+
+    // Another user's reservations are queued alongside alice's.
+    scheduler.submitTaskReservations(request("bob", "bob", 1), BACKEND);
+    assertEquals(3, scheduler.taskReservations.size());
+    assertEquals(2, scheduler.getParkedReservations());
+
+    // When one of alice's queued reservations starts, one of her parked ones takes its place,
+    // behind bob's.
+    scheduler.noTaskForRequest(handler.reservations.get(0));
+    assertEquals(2, handler.reservations.size());
+    assertEquals("alice", handler.reservations.get(1).requestId);
+    assertEquals(3, scheduler.taskReservations.size());
+    assertEquals(1, scheduler.getParkedReservations());
+    List<TaskSpec> queued = Lists.newArrayList(scheduler.taskReservations);
+    assertEquals("bob", queued.get(1).requestId);
+    assertEquals("alice", queued.get(2).requestId);
+
+    // Stolen reservations make room too, once the thief confirms that it received them.
+    assertEquals(1, scheduler.stealTaskReservations(Sets.newHashSet(APP), 1, "lease").size());
+    assertEquals(1, scheduler.getParkedReservations());
+    assertTrue(scheduler.confirmStolenReservations("lease"));
+    assertEquals(0, scheduler.getParkedReservations());
+    assertEquals(3, scheduler.taskReservations.size());
+  }
+}
@@ -0,0 +1,36 @@
+package edu.berkeley.sparrow.daemon.nodemonitor;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class TestRuntimeEstimator {
+  private static final String APP = "app";
+
+  @Test
+  public void testFallsBackToApplicationThenDefault() {
+    RuntimeEstimator estimator = new RuntimeEstimator(0.5, 100);
+    assertEquals(100, estimator.estimate(APP, "map"));
+
+    estimator.record(APP, "map", 20);
+    assertEquals(20, estimator.estimate(APP, "map"));
+    // A signature that hasn't been seen gets the application's average.
+    assertEquals(20, estimator.estimate(APP, "reduce"));
+    assertEquals(100, estimator.estimate("other app", "map"));
+
+    estimator.record(APP, "reduce", 1000);
+    assertEquals(1000, estimator.estimate(APP, "reduce"));
+    assertEquals(20, estimator.estimate(APP, "map"));
+    assertEquals(510, estimator.estimate(APP, RuntimeEstimator.NO_SIGNATURE));
+  }
+
+  @Test
+  public void testMovingAverage() {
+    RuntimeEstimator estimator = new RuntimeEstimator(0.25, 100);
+    estimator.record(APP, "map", 100);
+    estimator.record(APP, "map", 500);
+    assertEquals(200, estimator.estimate(APP, "map"));
+    estimator.record(APP, "map", 200);
+    assertEquals(200, estimator.estimate(APP, "map"));
+  }
+}
@@ -0,0 +1,112 @@
+package edu.berkeley.sparrow.daemon.nodemonitor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.commons.configuration.PropertiesConfiguration;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+import edu.berkeley.sparrow.daemon.SparrowConf;
+import edu.berkeley.sparrow.daemon.nodemonitor.TaskScheduler.TaskSpec;
+import edu.berkeley.sparrow.daemon.util.TResources;
+import edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest;
+import edu.berkeley.sparrow.thrift.TFullTaskId;
+import edu.berkeley.sparrow.thrift.THostPort;
+import edu.berkeley.sparrow.thrift.TResourceVector;
+import edu.berkeley.sparrow.thrift.TTaskLaunchSpec;
+import edu.berkeley.sparrow.thrift.TUserGroupInfo;
+
+public class TestShortestExpectedFirstTaskScheduler {
+  private static final String APP = "app";
+  private static final InetSocketAddress BACKEND = new InetSocketAddress("127.0.0.1", 20101);
+  private static final THostPort SCHEDULER = new THostPort("10.0.0.1", 20503);
+  private static final int STARVATION_MS = 1000;
+
+  /** Records the reservations for which getTask() would have been called. */
+  private static class RecordingHandler implements TaskScheduler.GetTaskHandler {
+    List<TaskSpec> reservations = Lists.newArrayList();
+
+    @Override
+    public void getTask(TaskSpec taskReservation) {
+      reservations.add(taskReservation);
+    }
+  }
+
+  private ShortestExpectedFirstTaskScheduler scheduler;
+  private RecordingHandler handler;
+
+  private static TEnqueueTaskReservationsRequest request(String requestId, String signature) {
+    TEnqueueTaskReservationsRequest request = new TEnqueueTaskReservationsRequest(
+        APP, new TUserGroupInfo("user", "group"), requestId, new TResourceVector(1, 1),
+        SCHEDULER, 1);
+    request.setJobSignature(signature);
+    return request;
+  }
+
+  @Before
+  public void setUp() {
+    handler = new RecordingHandler();
+    scheduler = new ShortestExpectedFirstTaskScheduler(1);
+    scheduler.setGetTaskHandler(handler);
+    Configuration conf = new PropertiesConfiguration();
+    conf.setProperty(SparrowConf.SEF_STARVATION_MS, STARVATION_MS);
+    scheduler.initialize(TResources.createResourceVector(1024, 1), conf, 20502);
+    scheduler.runtimeEstimator.record(APP, "short", 10);
+    scheduler.runtimeEstimator.record(APP, "long", 1000);
+  }
+
+  @Test
+  public void testShortestExpectedReservationIsLaunchedFirst() {
+    scheduler.submitTaskReservations(request("running", "long"), BACKEND);
+    scheduler.submitTaskReservations(request("long", "long"), BACKEND);
+    scheduler.submitTaskReservations(request("short", "short"), BACKEND);
+    assertEquals(1, handler.reservations.size());
+    assertEquals(2, scheduler.queueLength());
+    // Each slot is expected to be busy with the queued tasks for 1010ms.
+    assertEquals(1010, scheduler.getResourceUsage(APP).getExpectedWaitMillis());
+
+    // The running reservation's slot frees up, so the shorter queued task is launched first.
+    scheduler.noTaskForRequest(handler.reservations.get(0));
+    assertEquals(2, handler.reservations.size());
+    assertEquals("short", handler.reservations.get(1).requestId);
+    scheduler.noTaskForRequest(handler.reservations.get(1));
+    assertEquals("long", handler.reservations.get(2).requestId);
+    assertEquals(0, scheduler.queueLength());
+  }
+
+  @Test
+  public void testStarvedReservationIsLaunchedFirst() {
+    scheduler.submitTaskReservations(request("running", "long"), BACKEND);
+    scheduler.submitTaskReservations(request("long", "long"), BACKEND);
+    scheduler.submitTaskReservations(request("short", "short"), BACKEND);
+
+    long later = System.nanoTime() + 2L * STARVATION_MS * 1000000;
+    assertEquals("long", scheduler.nextReservation(later).requestId);
+    assertEquals("short", scheduler.nextReservation(later).requestId);
+    assertEquals(null, scheduler.nextReservation(later));
+  }
+
+  @Test
+  public void testRuntimesAreLearnedFromFinishedTasks() throws Exception {
+    scheduler.submitTaskReservations(request("new", "new"), BACKEND);
+    TaskSpec reservation = handler.reservations.get(0);
+    // Nothing is known about the "new" signature, so the application's average is used.
+    assertEquals(208, reservation.expectedRuntimeMillis);
+
+    scheduler.getTaskResponseReceived(reservation, Lists.newArrayList(
+        new TTaskLaunchSpec("t0", ByteBuffer.allocate(0))));
+    assertEquals(reservation, scheduler.pollNextTask());
+    Thread.sleep(20);
+    scheduler.tasksFinished(Lists.newArrayList(new TFullTaskId("t0", "new", APP, SCHEDULER)));
+    long estimate = scheduler.runtimeEstimator.estimate(APP, "new");
+    assertTrue("Estimate was " + estimate, estimate >= 20 && estimate < 208);
+  }
+}
@@ -0,0 +1,191 @@
+package edu.berkeley.sparrow.daemon.nodemonitor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.commons.configuration.PropertiesConfiguration;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+import edu.berkeley.sparrow.daemon.metrics.MetricsRegistry;
+import edu.berkeley.sparrow.daemon.nodemonitor.TaskScheduler.TaskSpec;
+import edu.berkeley.sparrow.daemon.util.TResources;
+import edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest;
+import edu.berkeley.sparrow.thrift.THostPort;
+import edu.berkeley.sparrow.thrift.TResourceVector;
+import edu.berkeley.sparrow.thrift.TUserGroupInfo;
+
+public class TestWorkStealer {
+  private static final String APP = "app";
+  private static final String OTHER_APP = "other app";
+  private static final InetSocketAddress BACKEND = new InetSocketAddress("127.0.0.1", 20101);
+  private static final THostPort SCHEDULER = new THostPort("10.0.0.1", 20503);
+
+  /** Steals from a task scheduler in the same process, and enqueues into another. */
+  private static class FakeWorkStealer extends WorkStealer {
+    TaskScheduler thief;
+    TaskScheduler victim;
+    /** Whether confirmations are lost on the way to the victim. */
+    boolean loseConfirmations = false;
+    String lastLeaseId;
+
+    FakeWorkStealer(TaskScheduler thief, TaskScheduler victim) {
+      super(null, thief, Lists.newArrayList(new InetSocketAddress("10.0.0.2", 20502)),
+            new PropertiesConfiguration(), new MetricsRegistry("TestWorkStealer", 0));
+      this.thief = thief;
+      this.victim = victim;
+    }
+
+    @Override
+    protected List<String> getAppIds() {
+      return Lists.newArrayList(APP);
+    }
+
+    @Override
+    protected void enqueue(TEnqueueTaskReservationsRequest request) {
+      thief.submitTaskReservations(request, BACKEND);
+    }
+
+    @Override
+    protected List<TEnqueueTaskReservationsRequest> steal(InetSocketAddress peer,
+                                                          List<String> appIds,
+                                                          int maxReservations,
+                                                          String leaseId) {
+      lastLeaseId = leaseId;
+      return victim.stealTaskReservations(Sets.newHashSet(appIds), maxReservations, leaseId);
+    }
+
+    @Override
+    protected boolean confirm(InetSocketAddress peer, String leaseId) {
+      return !loseConfirmations && victim.confirmStolenReservations(leaseId);
+    }
+  }
+
+  /** Records the reservations for which getTask() would have been called. */
+  private static class RecordingHandler implements TaskScheduler.GetTaskHandler {
+    List<TaskSpec> reservations = Lists.newArrayList();
+
+    @Override
+    public void getTask(TaskSpec taskReservation) {
+      reservations.add(taskReservation);
+    }
+  }
+
+  private FifoTaskScheduler victim;
+  private FifoTaskScheduler thief;
+  private RecordingHandler thiefHandler;
+
+  private static FifoTaskScheduler newScheduler(int slots, RecordingHandler handler) {
+    FifoTaskScheduler scheduler = new FifoTaskScheduler(slots);
+    scheduler.setGetTaskHandler(handler);
+    Configuration conf = new PropertiesConfiguration();
+    scheduler.initialize(TResources.createResourceVector(1024, slots), conf, 20502);
+    return scheduler;
+  }
+
+  private static TEnqueueTaskReservationsRequest request(String app, String requestId,
+                                                         int numTasks, boolean stealable) {
+    TEnqueueTaskReservationsRequest request = new TEnqueueTaskReservationsRequest(
+        app, new TUserGroupInfo("user", "group"), requestId, new TResourceVector(1, 1),
+        SCHEDULER, numTasks);
+    if (stealable) {
+      request.setStealable(true);
+    }
+    return request;
+  }
+
+  @Before
+  public void setUp() {
+    victim = newScheduler(1, new RecordingHandler());
+    thiefHandler = new RecordingHandler();
+    thief = newScheduler(2, thiefHandler);
+  }
+
+  @Test
+  public void testOnlyStealableReservationsAreStolen() {
+    // Fills the victim's only slot, then queues 3 stealable reservations, 1 that isn't stealable
+    // and 1 for an application the thief doesn't run.
+    victim.submitTaskReservations(request(APP, "running", 1, true), BACKEND);
+    victim.submitTaskReservations(request(APP, "stealable", 3, true), BACKEND);
+    victim.submitTaskReservations(request(APP, "constrained", 1, false), BACKEND);
+    victim.submitTaskReservations(request(OTHER_APP, "other", 1, true), BACKEND);
+    assertEquals(5, victim.taskReservations.size());
+
+    List<TEnqueueTaskReservationsRequest> stolen =
+        victim.stealTaskReservations(Sets.newHashSet(APP), 10, "lease");
+    // At most half of the queue is given up.
+    assertEquals(3, stolen.size());
+    for (TEnqueueTaskReservationsRequest request : stolen) {
+      assertEquals("stealable", request.getRequestId());
+      assertEquals(SCHEDULER, request.getSchedulerAddress());
+      assertEquals(1, request.getNumTasks());
+      // The scheduler accounts for the reservation at the victim, which it enqueued it on.
+      assertEquals(20502, request.getOriginalNodeMonitor().getPort());
+    }
+    assertEquals(2, victim.taskReservations.size());
+    for (TaskSpec reservation : victim.taskReservations) {
+      assertFalse(reservation.requestId.equals("stealable"));
+    }
+
+    // Nothing more is stealable.
+    assertEquals(0, victim.stealTaskReservations(Sets.newHashSet(APP), 10, "another").size());
+
+    // The reservations are given up once, when the thief confirms that it received them.
+    assertTrue(victim.confirmStolenReservations("lease"));
+    assertFalse(victim.confirmStolenReservations("lease"));
+    assertFalse(victim.confirmStolenReservations("another"));
+  }
+
+  @Test
+  public void testIdleNodeMonitorStealsUpToItsIdleSlots() {
+    victim.submitTaskReservations(request(APP, "running", 1, true), BACKEND);
+    victim.submitTaskReservations(request(APP, "queued", 6, true), BACKEND);
+    assertEquals(6, victim.taskReservations.size());
+
+    FakeWorkStealer stealer = new FakeWorkStealer(thief, victim);
+    assertEquals(2, stealer.stealIfIdle());
+    assertEquals(4, victim.taskReservations.size());
+    // The thief fetches the stolen tasks from the original scheduler.
+    assertEquals(2, thiefHandler.reservations.size());
+    for (TaskSpec reservation : thiefHandler.reservations) {
+      assertEquals("queued", reservation.requestId);
+      assertEquals(SCHEDULER.getPort(), reservation.schedulerAddress.getPort());
+    }
+
+    // The thief has no idle slots left.
+    assertEquals(0, stealer.stealIfIdle());
+  }
+
+  @Test
+  public void testUnconfirmedStolenReservationsArePutBack() {
+    victim.submitTaskReservations(request(APP, "running", 1, true), BACKEND);
+    victim.submitTaskReservations(request(APP, "queued", 4, true), BACKEND);
+
+    // The steal RPC returns, but the confirmation never reaches the victim.
+    FakeWorkStealer stealer = new FakeWorkStealer(thief, victim);
+    stealer.loseConfirmations = true;
+    assertEquals(0, stealer.stealIfIdle());
+    assertEquals(0, thiefHandler.reservations.size());
+    assertEquals(2, victim.taskReservations.size());
+
+    // When the lease expires, the victim gets its reservations back, and a late confirmation
+    // fails, so the thief won't launch them too.
+    victim.stealLeaseExpired(stealer.lastLeaseId);
+    assertEquals(4, victim.taskReservations.size());
+    assertFalse(victim.confirmStolenReservations(stealer.lastLeaseId));
+
+    // The returned reservations can be stolen again.
+    stealer.loseConfirmations = false;
+    assertEquals(2, stealer.stealIfIdle());
+    assertEquals(2, victim.taskReservations.size());
+    assertEquals(2, thiefHandler.reservations.size());
+  }
+}
@@ -0,0 +1,190 @@
+package edu.berkeley.sparrow.daemon.scheduler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.net.InetSocketAddress;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+import edu.berkeley.sparrow.thrift.SchedulerOverloadedException;
+import edu.berkeley.sparrow.thrift.TSchedulingRequest;
+import edu.berkeley.sparrow.thrift.TTaskSpec;
+import edu.berkeley.sparrow.thrift.TUserGroupInfo;
+
+public class TestAdmissionController {
+  private static final String APP = "app";
+  private static final String OTHER_APP = "other app";
+
+  /** Returns the same value from every nextDouble() call. */
+  private static class FixedRandom extends Random {
+    double value;
+
+    FixedRandom(double value) {
+      this.value = value;
+    }
+
+    @Override
+    public double nextDouble() {
+      return value;
+    }
+  }
+
+  private static TSchedulingRequest job(String app, int numTasks) {
+    List<TTaskSpec> tasks = Lists.newArrayList();
+    for (int i = 0; i < numTasks; ++i) {
+      tasks.add(new TTaskSpec());
+    }
+    return new TSchedulingRequest(app, tasks, new TUserGroupInfo("user", "group"));
+  }
+
+  private static void admit(AdmissionController controller, String requestId,
+                            TSchedulingRequest job) throws SchedulerOverloadedException {
+    controller.admit(Collections.singletonMap(requestId, job));
+  }
+
+  private static void assertRejected(AdmissionController controller, String requestId,
+                                     TSchedulingRequest job) {
+    try {
+      admit(controller, requestId, job);
+      fail("Expected job " + requestId + " to be rejected");
+    } catch (SchedulerOverloadedException e) {
+      // Retry after between 1 and 2 times the configured retry-after.
+      assertTrue(e.getRetryAfterMillis() >= 100 && e.getRetryAfterMillis() <= 200);
+    }
+  }
+
+  @Test
+  public void testSchedulerLimit() throws SchedulerOverloadedException {
+    AdmissionController controller = new AdmissionController(10, 0, 1.0, 100,
+                                                             new FixedRandom(0.5));
+    admit(controller, "a", job(APP, 6));
+    admit(controller, "b", job(OTHER_APP, 4));
+    assertEquals(10, controller.getOutstandingTasks());
+    assertRejected(controller, "c", job(APP, 1));
+
+    // Launching tasks frees up room.
+    controller.taskLaunched("a");
+    controller.taskLaunched("a");
+    assertEquals(8, controller.getOutstandingTasks());
+    assertEquals(4, controller.getOutstandingTasks(APP));
+    admit(controller, "c", job(APP, 2));
+    assertRejected(controller, "d", job(APP, 1));
+
+    // A finished request releases the tasks it didn't launch.
+    controller.requestFinished("a");
+    assertEquals(6, controller.getOutstandingTasks());
+    controller.requestFinished("b");
+    controller.requestFinished("c");
+    assertEquals(0, controller.getOutstandingTasks());
+    assertEquals(0, controller.getOutstandingTasks(APP));
+
+    // A job larger than the limit is admitted when nothing else is outstanding.
+    admit(controller, "e", job(APP, 25));
+    assertRejected(controller, "f", job(APP, 1));
+  }
+
+  @Test
+  public void testPerApplicationLimit() throws SchedulerOverloadedException {
+    AdmissionController controller = new AdmissionController(0, 5, 1.0, 100,
+                                                             new FixedRandom(0.5));
+    admit(controller, "a", job(APP, 5));
+    assertRejected(controller, "b", job(APP, 1));
+    // Other applications aren't affected.
+    admit(controller, "c", job(OTHER_APP, 5));
+    controller.taskLaunched("a");
+    admit(controller, "b", job(APP, 1));
+  }
+
+  @Test
+  public void testLoadShedding() throws SchedulerOverloadedException {
+    FixedRandom random = new FixedRandom(0.5);
+    AdmissionController controller = new AdmissionController(100, 0, 0.5, 100, random);
+    admit(controller, "a", job(APP, 50));
+    // At the shed threshold, nothing is shed.
+    admit(controller, "b", job(APP, 20));
+    // With 70 tasks outstanding, 40% of jobs are shed.
+    random.value = 0.39;
+    assertRejected(controller, "c", job(APP, 1));
+    random.value = 0.41;
+    admit(controller, "c", job(APP, 1));
+  }
+
+  @Test
+  public void testBatchIsAdmittedAtomically() throws SchedulerOverloadedException {
+    AdmissionController controller = new AdmissionController(10, 0, 1.0, 100,
+                                                             new FixedRandom(0.5));
+    admit(controller, "a", job(APP, 5));
+    Map<String, TSchedulingRequest> batch = Maps.newLinkedHashMap();
+    batch.put("b", job(APP, 3));
+    batch.put("c", job(APP, 3));
+    try {
+      controller.admit(batch);
+      fail("Expected the batch to be rejected");
+    } catch (SchedulerOverloadedException e) {
+      // Expected.
+    }
+    assertEquals(5, controller.getOutstandingTasks());
+    batch.remove("c");
+    controller.admit(batch);
+    assertEquals(8, controller.getOutstandingTasks());
+  }
+
+  @Test
+  public void testLostReservations() throws SchedulerOverloadedException {
+    AdmissionController controller = new AdmissionController(10, 0, 1.0, 100,
+                                                             new FixedRandom(0.5));
+    InetSocketAddress node1 = new InetSocketAddress("127.0.0.1", 1);
+    InetSocketAddress node2 = new InetSocketAddress("127.0.0.1", 2);
+    admit(controller, "a", job(APP, 3));
+    Map<InetSocketAddress, Integer> reservations = Maps.newHashMap();
+    reservations.put(node1, 2);
+    reservations.put(node2, 2);
+    controller.reservationsSent("a", reservations);
+
+    // With 2 reservations left, at most 2 tasks can be launched.
+    assertFalse(controller.reservationsLost("a", node1, 2));
+    assertEquals(2, controller.getOutstandingTasks());
+    controller.taskLaunched("a");
+    assertFalse(controller.reservationAnswered("a", node2));
+    assertEquals(1, controller.getOutstandingTasks());
+    assertTrue(controller.reservationsLost("a", node2, 1));
+    assertEquals(0, controller.getOutstandingTasks());
+    assertEquals(0, controller.getOutstandingTasks(APP));
+  }
+
+  @Test
+  public void testFailedNodeMonitor() throws SchedulerOverloadedException {
+    AdmissionController controller = new AdmissionController(10, 0, 1.0, 100,
+                                                             new FixedRandom(0.5));
+    InetSocketAddress node1 = new InetSocketAddress("127.0.0.1", 1);
+    InetSocketAddress node2 = new InetSocketAddress("127.0.0.1", 2);
+    admit(controller, "a", job(APP, 1));
+    controller.reservationsSent("a", Collections.singletonMap(node1, 1));
+    admit(controller, "b", job(APP, 2));
+    Map<InetSocketAddress, Integer> reservations = Maps.newHashMap();
+    reservations.put(node1, 1);
+    reservations.put(node2, 2);
+    controller.reservationsSent("b", reservations);
+
+    assertEquals(Lists.newArrayList("a"), controller.nodeFailed(node1));
+    assertEquals(2, controller.getOutstandingTasks());
+    // Gang-scheduled jobs launch tasks in answered reservations, so they are finished by the
+    // scheduler rather than when their reservations are lost.
+    TSchedulingRequest gang = job(APP, 2);
+    gang.setGang(true);
+    admit(controller, "c", gang);
+    controller.reservationsSent("c", Collections.singletonMap(node1, 2));
+    assertEquals(0, controller.nodeFailed(node1).size());
+    assertEquals(4, controller.getOutstandingTasks());
+  }
+}
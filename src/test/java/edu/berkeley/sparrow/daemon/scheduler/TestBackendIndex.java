@@ -0,0 +1,62 @@
+package edu.berkeley.sparrow.daemon.scheduler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.net.InetSocketAddress;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import edu.berkeley.sparrow.thrift.TResourceVector;
+
+public class TestBackendIndex {
+  private static final InetSocketAddress NODE_1 = new InetSocketAddress("10.0.0.1", 20502);
+  private static final InetSocketAddress NODE_2 = new InetSocketAddress("10.0.0.2", 20502);
+
+  /** Ensures that updates publish new snapshots without changing existing ones. */
+  @Test
+  public void testSnapshotsAreImmutable() {
+    BackendIndex index = new BackendIndex();
+    assertSame(BackendIndex.EMPTY, index.getBackends("app"));
+
+    index.addBackend("app", NODE_1, new TResourceVector(1, 1));
+    BackendIndex.Snapshot first = index.getBackends("app");
+    assertSame(first, index.getBackends("app"));
+    index.addBackend("app", NODE_2, new TResourceVector(2, 2));
+    index.addBackend("app", NODE_1, new TResourceVector(3, 3));
+    BackendIndex.Snapshot second = index.getBackends("app");
+
+    assertEquals(1, first.size());
+    assertEquals(new TResourceVector(1, 1), first.getResources(0));
+    assertEquals(2, second.size());
+    assertEquals(NODE_1, second.getNode(0));
+    assertEquals(new TResourceVector(3, 3), second.getResources(0));
+    assertTrue(second.getVersion() > first.getVersion());
+
+    index.removeBackend("app", NODE_1);
+    assertEquals(2, second.size());
+    assertEquals(1, index.getBackends("app").size());
+    assertEquals(NODE_2, index.getBackends("app").getNode(0));
+  }
+
+  /** Ensures that each application only sees its own backends. */
+  @Test
+  public void testApplicationsAreSeparate() {
+    BackendIndex index = new BackendIndex();
+    index.addBackend("app1", NODE_1, new TResourceVector());
+    index.addBackend("app2", NODE_2, new TResourceVector());
+    assertEquals(NODE_1, index.getBackends("app1").getNodes().get(0));
+    assertEquals(1, index.getBackends("app1").size());
+
+    Map<String, Map<InetSocketAddress, TResourceVector>> backends =
+        new HashMap<String, Map<InetSocketAddress, TResourceVector>>();
+    backends.put("app2", new HashMap<InetSocketAddress, TResourceVector>());
+    backends.get("app2").put(NODE_1, new TResourceVector());
+    index.replaceAll(backends);
+    assertEquals(0, index.getBackends("app1").size());
+    assertEquals(NODE_1, index.getBackends("app2").getNode(0));
+  }
+}
@@ -0,0 +1,163 @@
+package edu.berkeley.sparrow.daemon.scheduler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.apache.log4j.BasicConfigurator;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+import edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest;
+import edu.berkeley.sparrow.thrift.THostPort;
+import edu.berkeley.sparrow.thrift.TPlacementPreference;
+import edu.berkeley.sparrow.thrift.TResourceVector;
+import edu.berkeley.sparrow.thrift.TSchedulingRequest;
+import edu.berkeley.sparrow.thrift.TTaskLaunchSpec;
+import edu.berkeley.sparrow.thrift.TTaskSpec;
+import edu.berkeley.sparrow.thrift.TUserGroupInfo;
+
+public class TestGangTaskPlacer {
+  private static final String APP_ID = "test app";
+  private static final String USER = "user";
+  private static final String GROUP = "group";
+  private static final String REQUEST_ID = "request id";
+  private static final int MEMORY = 10;
+  private static final int CORES = 1;
+  private static final THostPort SCHEDULER_ADDRESS = new THostPort("localhost", 12345);
+
+  /** Records the releases made by a {@link GangTaskPlacer}. */
+  private class RecordingReleaser implements GangTaskPlacer.GangReleaser {
+    public int releasedSlots = 0;
+    public List<TTaskLaunchSpec> launchedTasks = Lists.newArrayList();
+
+    @Override
+    public void release(String requestId, THostPort nodeMonitorAddress, int numReservations,
+                        List<TTaskLaunchSpec> tasks) {
+      assertEquals(REQUEST_ID, requestId);
+      assertTrue(tasks.size() <= numReservations);
+      releasedSlots += numReservations;
+      launchedTasks.addAll(tasks);
+    }
+  }
+
+  private RecordingReleaser releaser;
+  private TSchedulingRequest schedulingRequest;
+  private List<InetSocketAddress> backendNodes;
+
+  @Before
+  public void setUp() {
+    // Set up a simple configuration that logs on the console.
+    BasicConfigurator.configure();
+    releaser = new RecordingReleaser();
+
+    List<TTaskSpec> tasks = Lists.newArrayList();
+    ByteBuffer message = ByteBuffer.allocate(1);
+    TResourceVector estimatedResources = new TResourceVector(MEMORY, CORES);
+    for (int i = 0; i < 3; ++i) {
+      tasks.add(new TTaskSpec("test task " + i, new TPlacementPreference(), estimatedResources,
+                              message));
+    }
+    schedulingRequest = new TSchedulingRequest(APP_ID, tasks, new TUserGroupInfo(USER, GROUP));
+    schedulingRequest.setGang(true);
+
+    backendNodes = Lists.newArrayList();
+    backendNodes.add(new InetSocketAddress("127.0.0.1", 22));
+    backendNodes.add(new InetSocketAddress("123.4.5.6", 20000));
+  }
+
+  /** Returns one THostPort per reservation in {@code requests}. */
+  private List<THostPort> reservationSlots(
+      Map<InetSocketAddress, TEnqueueTaskReservationsRequest> requests) {
+    List<THostPort> slots = Lists.newArrayList();
+    for (Entry<InetSocketAddress, TEnqueueTaskReservationsRequest> entry : requests.entrySet()) {
+      assertTrue(entry.getValue().isGang());
+      for (int i = 0; i < entry.getValue().getNumTasks(); ++i) {
+        slots.add(new THostPort(entry.getKey().getAddress().getHostAddress(),
+                                entry.getKey().getPort()));
+      }
+    }
+    return slots;
+  }
+
+  /**
+   * Ensures that no tasks are launched until every task has a slot, and that all tasks are then
+   * launched together, even when there are fewer nodes than tasks.
+   */
+  @Test
+  public void testLaunchesAllTasksTogether() {
+    GangTaskPlacer taskPlacer = new GangTaskPlacer(REQUEST_ID, 1.5, 3, releaser);
+    Map<InetSocketAddress, TEnqueueTaskReservationsRequest> requests =
+        taskPlacer.getEnqueueTaskReservationsRequests(schedulingRequest, REQUEST_ID,
+                                                      backendNodes, SCHEDULER_ADDRESS);
+    List<THostPort> slots = reservationSlots(requests);
+    assertEquals(5, slots.size());
+
+    for (int i = 0; i < slots.size(); ++i) {
+      assertEquals(0, taskPlacer.assignTask(slots.get(i)).size());
+      if (i < 2) {
+        assertEquals(0, releaser.launchedTasks.size());
+        assertFalse(taskPlacer.allResponsesReceived());
+      } else {
+        assertEquals(3, releaser.launchedTasks.size());
+      }
+    }
+    // Surplus reservations are released as they arrive.
+    assertEquals(5, releaser.releasedSlots);
+    assertTrue(taskPlacer.allResponsesReceived());
+
+    Set<String> taskIds = Sets.newHashSet();
+    for (TTaskLaunchSpec spec : releaser.launchedTasks) {
+      taskIds.add(spec.getTaskId());
+    }
+    assertEquals(3, taskIds.size());
+  }
+
+  /**
+   * Ensures that cancelling an incomplete gang releases held slots without launching tasks, and
+   * that the job is re-probed until it runs out of attempts.
+   */
+  @Test
+  public void testCancel() {
+    final int maxAttempts = 2;
+    GangTaskPlacer taskPlacer = new GangTaskPlacer(REQUEST_ID, 1.0, maxAttempts, releaser);
+    List<THostPort> slots = reservationSlots(taskPlacer.getEnqueueTaskReservationsRequests(
+        schedulingRequest, REQUEST_ID, backendNodes, SCHEDULER_ADDRESS));
+    assertEquals(3, slots.size());
+    taskPlacer.assignTask(slots.get(0));
+    taskPlacer.assignTask(slots.get(1));
+
+    assertTrue(taskPlacer.cancel());
+    assertEquals(2, releaser.releasedSlots);
+    assertEquals(0, releaser.launchedTasks.size());
+    assertFalse(taskPlacer.hasFailed());
+
+    List<THostPort> retrySlots =
+        reservationSlots(taskPlacer.getRetryEnqueueTaskReservationsRequests());
+    assertEquals(3, retrySlots.size());
+
+    assertTrue(taskPlacer.cancel());
+    assertTrue(taskPlacer.hasFailed());
+    assertNull(taskPlacer.getRetryEnqueueTaskReservationsRequests());
+
+    // Outstanding reservations from both attempts are given up as they arrive.
+    taskPlacer.assignTask(slots.get(2));
+    for (THostPort slot : retrySlots) {
+      taskPlacer.assignTask(slot);
+    }
+    assertEquals(6, releaser.releasedSlots);
+    assertEquals(0, releaser.launchedTasks.size());
+    assertTrue(taskPlacer.allResponsesReceived());
+  }
+}
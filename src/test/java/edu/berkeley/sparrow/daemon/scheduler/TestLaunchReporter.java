@@ -0,0 +1,95 @@
+package edu.berkeley.sparrow.daemon.scheduler;
+
+import static org.junit.Assert.assertEquals;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+import edu.berkeley.sparrow.thrift.TSchedulingRequest;
+import edu.berkeley.sparrow.thrift.TTaskSpec;
+import edu.berkeley.sparrow.thrift.TUserGroupInfo;
+
+public class TestLaunchReporter {
+  private static final InetSocketAddress FRONTEND = new InetSocketAddress("10.0.0.9", 50201);
+
+  /** Records reports instead of sending them; each stays in flight until completed. */
+  private static class RecordingLaunchReporter extends LaunchReporter {
+    List<Map<String, List<String>>> reports = Lists.newArrayList();
+
+    @Override
+    protected void send(InetSocketAddress frontend, Map<String, List<String>> launchedTasks) {
+      assertEquals(FRONTEND, frontend);
+      reports.add(launchedTasks);
+    }
+  }
+
+  private RecordingLaunchReporter reporter;
+
+  private static TSchedulingRequest job(String jobId) {
+    TSchedulingRequest request = new TSchedulingRequest(
+        "app", Lists.<TTaskSpec>newArrayList(), new TUserGroupInfo("user", "group"));
+    if (jobId != null) {
+      request.setJobId(jobId);
+      request.setLaunchReportAddress("10.0.0.9:50201");
+    }
+    return request;
+  }
+
+  @Before
+  public void setUp() {
+    reporter = new RecordingLaunchReporter();
+  }
+
+  @Test
+  public void testLaunchesAreBatchedWhileAReportIsInFlight() {
+    reporter.register("request1", job("job1"));
+    reporter.register("request2", job("job2"));
+    reporter.taskLaunched("request1", "0");
+    assertEquals(1, reporter.reports.size());
+    assertEquals(Lists.newArrayList("0"), reporter.reports.get(0).get("job1"));
+
+    reporter.taskLaunched("request1", "1");
+    reporter.taskLaunched("request2", "0");
+    reporter.taskLaunched("request1", "2");
+    assertEquals(1, reporter.reports.size());
+
+    reporter.reportSent(FRONTEND);
+    assertEquals(2, reporter.reports.size());
+    assertEquals(Lists.newArrayList("1", "2"), reporter.reports.get(1).get("job1"));
+    assertEquals(Lists.newArrayList("0"), reporter.reports.get(1).get("job2"));
+
+    // Nothing is sent when there is nothing new to report.
+    reporter.reportSent(FRONTEND);
+    assertEquals(2, reporter.reports.size());
+  }
+
+  @Test
+  public void testOnlyRegisteredRequestsAreReported() {
+    reporter.register("request1", job(null));
+    reporter.taskLaunched("request1", "0");
+    reporter.taskLaunched("unknown", "0");
+    assertEquals(0, reporter.reports.size());
+
+    reporter.register("request2", job("job2"));
+    reporter.requestFinished("request2");
+    reporter.taskLaunched("request2", "0");
+    assertEquals(0, reporter.reports.size());
+  }
+
+  @Test
+  public void testRequestsAreFoundByJobId() {
+    reporter.register("request1", job("job1"));
+    reporter.register("request2", job("job2"));
+    assertEquals(Lists.newArrayList("request2"),
+                 reporter.getRequestIds(Sets.newHashSet("job2", "job3")));
+    reporter.requestFinished("request2");
+    assertEquals(0, reporter.getRequestIds(Sets.newHashSet("job2")).size());
+  }
+}
@@ -0,0 +1,177 @@
+package edu.berkeley.sparrow.daemon.scheduler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.log4j.BasicConfigurator;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+import edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest;
+import edu.berkeley.sparrow.thrift.THostPort;
+import edu.berkeley.sparrow.thrift.TPlacementPreference;
+import edu.berkeley.sparrow.thrift.TResourceVector;
+import edu.berkeley.sparrow.thrift.TSchedulingRequest;
+import edu.berkeley.sparrow.thrift.TTaskLaunchSpec;
+import edu.berkeley.sparrow.thrift.TTaskSpec;
+import edu.berkeley.sparrow.thrift.TUserGroupInfo;
+
+public class TestLocalityTaskPlacer {
+  private static final String APP_ID = "test app";
+  private static final String REQUEST_ID = "request id";
+  private static final int PORT = 20502;
+  private static final THostPort SCHEDULER_ADDRESS = new THostPort("localhost", 12345);
+
+  /** Nodes 1.0.0.1 and 1.0.0.2 are in rack A; 2.0.0.1 and 2.0.0.2 are in rack B. */
+  private static final String[] RACK_A = {"1.0.0.1", "1.0.0.2"};
+  private static final String[] RACK_B = {"2.0.0.1", "2.0.0.2"};
+
+  private RackTopology topology;
+  private List<InetSocketAddress> backendNodes;
+
+  @Before
+  public void setUp() {
+    // Set up a simple configuration that logs on the console.
+    BasicConfigurator.configure();
+    topology = new RackTopology();
+    backendNodes = Lists.newArrayList();
+    for (String node : RACK_A) {
+      topology.addNode(node, "A");
+      backendNodes.add(new InetSocketAddress(node, PORT));
+    }
+    for (String node : RACK_B) {
+      topology.addNode(node, "B");
+      backendNodes.add(new InetSocketAddress(node, PORT));
+    }
+  }
+
+  private TSchedulingRequest createRequest(String preferredNode, int delayThreshold) {
+    TPlacementPreference preference = new TPlacementPreference();
+    preference.addToNodes(preferredNode);
+    preference.setDelayThreshold(delayThreshold);
+    List<TTaskSpec> tasks = Lists.newArrayList();
+    tasks.add(new TTaskSpec("task", preference, new TResourceVector(10, 1),
+                            ByteBuffer.allocate(1)));
+    return new TSchedulingRequest(APP_ID, tasks, new TUserGroupInfo("user", "group"));
+  }
+
+  /**
+   * Ensures that a task gets reservations on its preferred node, on another node in the same
+   * rack, and on one other node.
+   */
+  @Test
+  public void testReservations() {
+    for (int i = 0; i < 100; ++i) {
+      LocalityTaskPlacer taskPlacer = new LocalityTaskPlacer(REQUEST_ID, 1, topology);
+      Map<InetSocketAddress, TEnqueueTaskReservationsRequest> requests =
+          taskPlacer.getEnqueueTaskReservationsRequests(createRequest(RACK_A[0], 1000),
+              REQUEST_ID, backendNodes, SCHEDULER_ADDRESS);
+      assertEquals(3, requests.size());
+      assertTrue(requests.containsKey(new InetSocketAddress(RACK_A[0], PORT)));
+      assertTrue(requests.containsKey(new InetSocketAddress(RACK_A[1], PORT)));
+    }
+  }
+
+  /**
+   * Ensures that slots that are not on the preferred node are turned down while the task is
+   * within its delay threshold, as long as other reservations remain.
+   */
+  @Test
+  public void testDelayScheduling() {
+    LocalityTaskPlacer taskPlacer = new LocalityTaskPlacer(REQUEST_ID, 1, topology);
+    InetSocketAddress offRackNode = getOffRackNode(taskPlacer.getEnqueueTaskReservationsRequests(
+        createRequest(RACK_A[0], 60000), REQUEST_ID, backendNodes, SCHEDULER_ADDRESS));
+
+    assertEquals(0, taskPlacer.assignTask(
+        new THostPort(offRackNode.getAddress().getHostAddress(), PORT)).size());
+    assertEquals(0, taskPlacer.assignTask(new THostPort(RACK_A[1], PORT)).size());
+    List<TTaskLaunchSpec> specs = taskPlacer.assignTask(new THostPort(RACK_A[0], PORT));
+    assertEquals(1, specs.size());
+    assertEquals("task", specs.get(0).getTaskId());
+    assertTrue(taskPlacer.allResponsesReceived());
+  }
+
+  /**
+   * Ensures that a task takes a slot that isn't node-local, rather than waiting, when there are
+   * no other reservations left.
+   */
+  @Test
+  public void testLastReservationIsUsed() {
+    // The preferred node is in rack A but isn't running a node monitor.
+    topology.addNode("1.0.0.3", "A");
+    LocalityTaskPlacer taskPlacer = new LocalityTaskPlacer(REQUEST_ID, 1, topology);
+    Map<InetSocketAddress, TEnqueueTaskReservationsRequest> requests =
+        taskPlacer.getEnqueueTaskReservationsRequests(createRequest("1.0.0.3", 60000),
+            REQUEST_ID, backendNodes, SCHEDULER_ADDRESS);
+    assertEquals(2, requests.size());
+
+    List<InetSocketAddress> nodes = Lists.newArrayList(requests.keySet());
+    assertEquals(0, taskPlacer.assignTask(
+        new THostPort(nodes.get(0).getAddress().getHostAddress(), PORT)).size());
+    assertEquals(1, taskPlacer.assignTask(
+        new THostPort(nodes.get(1).getAddress().getHostAddress(), PORT)).size());
+    assertTrue(taskPlacer.allResponsesReceived());
+  }
+
+  /**
+   * Without a rack topology, every node is in the default rack, which shouldn't count as a rack
+   * match: a task that prefers a node should get no rack-local reservation, and should only take
+   * a slot on another node once it has waited long enough to launch anywhere.
+   */
+  @Test
+  public void testNoTopologySkipsRackLevel() throws Exception {
+    LocalityTaskPlacer taskPlacer = new LocalityTaskPlacer(REQUEST_ID, 1, new RackTopology());
+    TPlacementPreference preference = new TPlacementPreference();
+    preference.addToNodes(RACK_A[0]);
+    preference.setDelayThreshold(200);
+    List<TTaskSpec> tasks = Lists.newArrayList();
+    for (int i = 0; i < 2; ++i) {
+      tasks.add(new TTaskSpec("task " + i, preference, new TResourceVector(10, 1),
+                              ByteBuffer.allocate(1)));
+    }
+    Map<InetSocketAddress, TEnqueueTaskReservationsRequest> requests =
+        taskPlacer.getEnqueueTaskReservationsRequests(
+            new TSchedulingRequest(APP_ID, tasks, new TUserGroupInfo("user", "group")),
+            REQUEST_ID, backendNodes, SCHEDULER_ADDRESS);
+    // Each task has a reservation on the preferred node and one anywhere else.
+    int totalReservations = 0;
+    for (TEnqueueTaskReservationsRequest request : requests.values()) {
+      totalReservations += request.getNumTasks();
+    }
+    assertEquals(4, totalReservations);
+    assertEquals(2, requests.get(new InetSocketAddress(RACK_A[0], PORT)).getNumTasks());
+
+    // Past the rack-local delay, but not yet the delay for launching anywhere.
+    Thread.sleep(250);
+    assertEquals(0, taskPlacer.assignTask(new THostPort(RACK_B[0], PORT)).size());
+    Thread.sleep(200);
+    assertEquals(1, taskPlacer.assignTask(new THostPort(RACK_B[0], PORT)).size());
+  }
+
+  private InetSocketAddress getOffRackNode(
+      Map<InetSocketAddress, TEnqueueTaskReservationsRequest> requests) {
+    for (InetSocketAddress node : requests.keySet()) {
+      if (topology.getRack(node.getAddress().getHostAddress()).equals("B")) {
+        return node;
+      }
+    }
+    throw new AssertionError("Expected a reservation outside of rack A");
+  }
+
+  /** Ensures that a task takes any slot once it has waited twice its delay threshold. */
+  @Test
+  public void testDelayThresholdExpires() throws Exception {
+    LocalityTaskPlacer taskPlacer = new LocalityTaskPlacer(REQUEST_ID, 1, topology);
+    taskPlacer.getEnqueueTaskReservationsRequests(createRequest(RACK_A[0], 10),
+        REQUEST_ID, backendNodes, SCHEDULER_ADDRESS);
+    Thread.sleep(30);
+    assertEquals(1, taskPlacer.assignTask(new THostPort(RACK_B[0], PORT)).size());
+  }
+}
@@ -0,0 +1,86 @@
+package edu.berkeley.sparrow.daemon.scheduler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+import edu.berkeley.sparrow.thrift.THostPort;
+import edu.berkeley.sparrow.thrift.TNodeLoad;
+import edu.berkeley.sparrow.thrift.TResourceVector;
+
+public class TestNodeLoadCache {
+  private static final InetSocketAddress NODE_A = new InetSocketAddress("127.0.0.1", 20501);
+  private static final InetSocketAddress NODE_B = new InetSocketAddress("127.0.0.2", 20501);
+  private static final InetSocketAddress NODE_C = new InetSocketAddress("127.0.0.3", 20501);
+
+  private static TNodeLoad load(int queueLength) {
+    return new TNodeLoad(queueLength, new TResourceVector(1024, 4));
+  }
+
+  @Test
+  public void testStaleLoadsAreIgnored() {
+    NodeLoadCache cache = new NodeLoadCache(1000);
+    assertNull(cache.get(NODE_A, 0));
+
+    cache.update(NODE_A, load(3), 5000);
+    assertEquals(3, cache.get(NODE_A, 5500).getQueueLength());
+    assertEquals(3, cache.get(NODE_A, 6000).getQueueLength());
+    assertNull(cache.get(NODE_A, 6001));
+
+    // A newer sample replaces the old one.
+    cache.update(NODE_A, load(1), 7000);
+    assertEquals(1, cache.get(NODE_A, 7500).getQueueLength());
+  }
+
+  @Test
+  public void testUpdateByHostPort() {
+    NodeLoadCache cache = new NodeLoadCache(60000);
+    cache.update(new THostPort("127.0.0.2", 20501), load(7));
+    assertEquals(7, cache.get(NODE_B).getQueueLength());
+    assertNull(cache.get(NODE_A));
+  }
+
+  @Test
+  public void testSortByLoad() {
+    NodeLoadCache cache = new NodeLoadCache(60000);
+    cache.update(NODE_A, load(5));
+    cache.update(NODE_B, load(2));
+    // NODE_C is unknown, so it is assumed to be idle.
+    List<InetSocketAddress> nodes = Lists.newArrayList(NODE_A, NODE_B, NODE_C);
+    cache.sortByLoad(nodes);
+    assertEquals(Lists.newArrayList(NODE_C, NODE_B, NODE_A), nodes);
+
+    // Nodes with equal loads keep their order.
+    cache.update(NODE_A, load(2));
+    nodes = Lists.newArrayList(NODE_A, NODE_B);
+    cache.sortByLoad(nodes);
+    assertEquals(Lists.newArrayList(NODE_A, NODE_B), nodes);
+  }
+
+  @Test
+  public void testSortByExpectedWait() {
+    NodeLoadCache cache = new NodeLoadCache(60000);
+    // NODE_A has the longer queue, but its tasks are short.
+    TNodeLoad loadA = load(5);
+    loadA.setExpectedWaitMillis(50);
+    TNodeLoad loadB = load(2);
+    loadB.setExpectedWaitMillis(400);
+    cache.update(NODE_A, loadA);
+    cache.update(NODE_B, loadB);
+    List<InetSocketAddress> nodes = Lists.newArrayList(NODE_B, NODE_A, NODE_C);
+    cache.sortByLoad(nodes);
+    assertEquals(Lists.newArrayList(NODE_C, NODE_A, NODE_B), nodes);
+
+    // Once a node monitor doesn't report its expected wait, queue lengths are compared instead.
+    cache.update(NODE_C, load(3));
+    nodes = Lists.newArrayList(NODE_A, NODE_B, NODE_C);
+    cache.sortByLoad(nodes);
+    assertEquals(Lists.newArrayList(NODE_B, NODE_C, NODE_A), nodes);
+  }
+}
@@ -0,0 +1,94 @@
+package edu.berkeley.sparrow.daemon.scheduler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.net.InetSocketAddress;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+public class TestNodeMonitorHealth {
+  private static final InetSocketAddress NODE_A = new InetSocketAddress("127.0.0.1", 20501);
+  private static final InetSocketAddress NODE_B = new InetSocketAddress("127.0.0.2", 20501);
+  private static final InetSocketAddress NODE_C = new InetSocketAddress("127.0.0.3", 20501);
+
+  /** Failure threshold 3, slow threshold 100ms, alpha 0.5, backoff from 1s up to 4s. */
+  private static NodeMonitorHealth newHealth() {
+    return new NodeMonitorHealth(3, 100, 0.5, 1000, 4000);
+  }
+
+  @Test
+  public void testQuarantineAfterConsecutiveFailures() {
+    NodeMonitorHealth health = newHealth();
+    health.recordFailure(NODE_A, 0);
+    health.recordFailure(NODE_A, 0);
+    // A success resets the failure count.
+    health.recordSuccess(NODE_A, 10, 0);
+    health.recordFailure(NODE_A, 0);
+    health.recordFailure(NODE_A, 0);
+    assertFalse(health.isQuarantined(NODE_A, 0));
+    health.recordFailure(NODE_A, 0);
+    assertTrue(health.isQuarantined(NODE_A, 0));
+    assertTrue(health.isQuarantined(NODE_A, 999));
+    assertFalse(health.isQuarantined(NODE_A, 1000));
+    assertFalse(health.isQuarantined(NODE_B, 0));
+  }
+
+  @Test
+  public void testBackoffDoublesUntilSuccess() {
+    NodeMonitorHealth health = newHealth();
+    for (int i = 0; i < 3; ++i) {
+      health.recordFailure(NODE_A, 0);
+    }
+    // After the quarantine, a single failure quarantines the node again, for twice as long.
+    health.recordFailure(NODE_A, 1000);
+    assertTrue(health.isQuarantined(NODE_A, 2999));
+    assertFalse(health.isQuarantined(NODE_A, 3000));
+    health.recordFailure(NODE_A, 3000);
+    assertFalse(health.isQuarantined(NODE_A, 7000));
+    // The backoff is capped at the max.
+    health.recordFailure(NODE_A, 7000);
+    assertFalse(health.isQuarantined(NODE_A, 11000));
+
+    // A success restores the node, and the next quarantine uses the initial backoff again.
+    health.recordSuccess(NODE_A, 10, 11000);
+    health.recordFailure(NODE_A, 11000);
+    assertFalse(health.isQuarantined(NODE_A, 11000));
+    health.recordFailure(NODE_A, 11000);
+    health.recordFailure(NODE_A, 11000);
+    assertTrue(health.isQuarantined(NODE_A, 11999));
+    assertFalse(health.isQuarantined(NODE_A, 12000));
+  }
+
+  @Test
+  public void testQuarantineWhenSlow() {
+    NodeMonitorHealth health = newHealth();
+    health.recordSuccess(NODE_A, 50, 0);
+    // The average is now 125ms.
+    health.recordSuccess(NODE_A, 200, 0);
+    assertTrue(health.isQuarantined(NODE_A, 0));
+    assertFalse(health.isQuarantined(NODE_A, 1000));
+  }
+
+  @Test
+  public void testExcludeQuarantined() {
+    NodeMonitorHealth health = newHealth();
+    long now = System.currentTimeMillis();
+    for (int i = 0; i < 3; ++i) {
+      health.recordFailure(NODE_B, now);
+    }
+    List<InetSocketAddress> nodes = Lists.newArrayList(NODE_A, NODE_B, NODE_C);
+    Collection<InetSocketAddress> healthy = health.excludeQuarantined(nodes, 2);
+    assertEquals(Lists.newArrayList(NODE_A, NODE_C), Lists.newArrayList(healthy));
+    // If there aren't enough healthy nodes, the quarantined ones are used too.
+    assertEquals(nodes, health.excludeQuarantined(nodes, 3));
+
+    health.sortHealthyFirst(nodes);
+    assertEquals(Lists.newArrayList(NODE_A, NODE_C, NODE_B), nodes);
+  }
+}
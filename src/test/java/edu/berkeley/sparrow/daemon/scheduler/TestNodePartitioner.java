@@ -0,0 +1,73 @@
+package edu.berkeley.sparrow.daemon.scheduler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+import edu.berkeley.sparrow.thrift.IncompleteRequestException;
+import edu.berkeley.sparrow.thrift.TPartitionPreference;
+
+public class TestNodePartitioner {
+  private static final int NUM_NODES = 50;
+  private static final int NUM_PARTITIONS = 4;
+
+  private NodePartitioner partitioner;
+  private List<InetSocketAddress> nodes;
+
+  @Before
+  public void setUp() {
+    partitioner = new NodePartitioner();
+    nodes = Lists.newArrayList();
+    for (int i = 0; i < NUM_NODES; ++i) {
+      nodes.add(new InetSocketAddress("10.0.0." + i, 20502));
+    }
+  }
+
+  /** Ensures that every node is in exactly one partition. */
+  @Test
+  public void testPartitionsAreDisjoint() {
+    Set<InetSocketAddress> seen = Sets.newHashSet();
+    for (int i = 0; i < NUM_PARTITIONS; ++i) {
+      List<InetSocketAddress> partition =
+          partitioner.getNodes(nodes, new TPartitionPreference(NUM_PARTITIONS, i));
+      assertFalse(partition.isEmpty());
+      for (InetSocketAddress node : partition) {
+        assertTrue(seen.add(node));
+      }
+    }
+    assertEquals(NUM_NODES, seen.size());
+  }
+
+  /**
+   * Ensures that removing a node doesn't change the partitions of other nodes, and that an
+   * empty partition falls back to the next non-empty one.
+   */
+  @Test
+  public void testStableAssignment() {
+    TPartitionPreference preference = new TPartitionPreference(NUM_PARTITIONS, 0);
+    List<InetSocketAddress> partition = partitioner.getNodes(nodes, preference);
+    List<InetSocketAddress> remaining = Lists.newArrayList(nodes);
+    remaining.remove(partition.get(0));
+    List<InetSocketAddress> newPartition = partitioner.getNodes(remaining, preference);
+    assertEquals(partition.subList(1, partition.size()), newPartition);
+
+    remaining.removeAll(partition);
+    assertEquals(partitioner.getNodes(remaining, new TPartitionPreference(NUM_PARTITIONS, 1)),
+                 partitioner.getNodes(remaining, preference));
+  }
+
+  @Test(expected = IncompleteRequestException.class)
+  public void testInvalidPartition() throws IncompleteRequestException {
+    NodePartitioner.validate(new TPartitionPreference(NUM_PARTITIONS, NUM_PARTITIONS));
+  }
+}
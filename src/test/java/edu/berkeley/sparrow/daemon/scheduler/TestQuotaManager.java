@@ -0,0 +1,147 @@
+package edu.berkeley.sparrow.daemon.scheduler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.net.InetSocketAddress;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.commons.configuration.PropertiesConfiguration;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+import edu.berkeley.sparrow.daemon.SparrowConf;
+import edu.berkeley.sparrow.thrift.SchedulerOverloadedException;
+import edu.berkeley.sparrow.thrift.TQuotaReconciliation;
+import edu.berkeley.sparrow.thrift.TSchedulingRequest;
+import edu.berkeley.sparrow.thrift.TTaskSpec;
+import edu.berkeley.sparrow.thrift.TUserGroupInfo;
+
+public class TestQuotaManager {
+  private static final double EPSILON = 0.0001;
+
+  private QuotaManager manager;
+  private long now;
+
+  private static Collection<TSchedulingRequest> job(String user, String group, int numTasks) {
+    List<TTaskSpec> tasks = Lists.newArrayList();
+    for (int i = 0; i < numTasks; ++i) {
+      tasks.add(new TTaskSpec());
+    }
+    return Collections.singletonList(
+        new TSchedulingRequest("app", tasks, new TUserGroupInfo(user, group)));
+  }
+
+  private long assertRejected(Collection<TSchedulingRequest> jobs, long nowMillis) {
+    try {
+      manager.acquire(jobs, nowMillis);
+      fail("Expected jobs to be rejected");
+    } catch (SchedulerOverloadedException e) {
+      return e.getRetryAfterMillis();
+    }
+    return 0;
+  }
+
+  @Before
+  public void setUp() {
+    // Alice may launch 10 tasks per second, in bursts of up to 20 tasks.
+    Map<String, Double> quotas = Maps.newHashMap();
+    quotas.put(QuotaManager.userPrincipal("alice"), 10.0);
+    quotas.put(QuotaManager.groupPrincipal("analysts"), 100.0);
+    manager = new QuotaManager(quotas, 2.0, 1000, "scheduler",
+                               Lists.<InetSocketAddress>newArrayList());
+    now = System.currentTimeMillis();
+  }
+
+  @Test
+  public void testBurstThenRejectUntilRefilled() throws SchedulerOverloadedException {
+    manager.acquire(job("alice", "engineers", 15), now);
+    // A job may take the bucket into debt, as long as there is a token left when it arrives.
+    manager.acquire(job("alice", "engineers", 10), now);
+    assertEquals(600, assertRejected(job("alice", "engineers", 1), now));
+    assertEquals(100, assertRejected(job("alice", "engineers", 1), now + 500));
+    manager.acquire(job("alice", "engineers", 1), now + 600);
+
+    // Users without a quota are never rejected.
+    manager.acquire(job("bob", "engineers", 1000), now);
+  }
+
+  @Test
+  public void testGroupQuota() throws SchedulerOverloadedException {
+    manager.acquire(job("bob", "analysts", 200), now);
+    assertRejected(job("carol", "analysts", 1), now);
+    // Alice's own bucket is full, but her group's isn't, so none of her tokens are taken.
+    assertRejected(job("alice", "analysts", 1), now);
+    manager.acquire(job("alice", "engineers", 20), now);
+  }
+
+  @Test
+  public void testRelease() throws SchedulerOverloadedException {
+    manager.acquire(job("alice", "engineers", 20), now);
+    assertRejected(job("alice", "engineers", 1), now);
+    manager.release(job("alice", "engineers", 5));
+    manager.acquire(job("alice", "engineers", 1), now);
+  }
+
+  @Test
+  public void testReconciliationSharesQuotaByDemand() throws SchedulerOverloadedException {
+    manager.acquire(job("alice", "engineers", 3), now);
+    manager.acquire(job("bob", "analysts", 1000), now);
+    assertRejected(job("bob", "analysts", 5), now);
+    Map<String, Long> demand = manager.takeDemand();
+    assertEquals(3, (long) demand.get(QuotaManager.userPrincipal("alice")));
+    // Rejected tasks count toward demand.
+    assertEquals(1005, (long) demand.get(QuotaManager.groupPrincipal("analysts")));
+    assertEquals(0, (long) manager.takeDemand().get(QuotaManager.userPrincipal("alice")));
+
+    // Another scheduler saw 6 of alice's tasks, and none of the group's.
+    Map<String, Long> totalDemand = Maps.newHashMap();
+    totalDemand.put(QuotaManager.userPrincipal("alice"), 9L);
+    totalDemand.put(QuotaManager.groupPrincipal("analysts"), 1005L);
+    manager.applyReconciliation(demand, new TQuotaReconciliation(totalDemand, 2), now);
+    assertEquals(10.0 * 4 / 11, manager.getRate(QuotaManager.userPrincipal("alice")), EPSILON);
+    assertEquals(100.0 * 1006 / 1007, manager.getRate(QuotaManager.groupPrincipal("analysts")),
+                 EPSILON);
+
+    // Without any demand, schedulers split the quota evenly.
+    manager.applyReconciliation(Maps.<String, Long>newHashMap(),
+        new TQuotaReconciliation(Maps.<String, Long>newHashMap(), 4), now);
+    assertEquals(2.5, manager.getRate(QuotaManager.userPrincipal("alice")), EPSILON);
+    assertEquals(Double.POSITIVE_INFINITY, manager.getRate(QuotaManager.userPrincipal("bob")),
+                 EPSILON);
+  }
+
+  @Test
+  public void testRetriedJobsCountTowardDemandOnce() throws SchedulerOverloadedException {
+    manager.acquire(job("alice", "engineers", 20), now);
+    Collection<TSchedulingRequest> retried = job("alice", "engineers", 5);
+    retried.iterator().next().setJobId("frontend_1");
+    assertRejected(retried, now);
+    assertRejected(retried, now);
+    assertEquals(25, (long) manager.takeDemand().get(QuotaManager.userPrincipal("alice")));
+
+    // A job that is still being retried after a reconciliation counts again.
+    assertRejected(retried, now);
+    manager.acquire(retried, now + 600);
+    assertEquals(5, (long) manager.takeDemand().get(QuotaManager.userPrincipal("alice")));
+  }
+
+  @Test
+  public void testParseQuotas() {
+    Configuration conf = new PropertiesConfiguration();
+    conf.setProperty(SparrowConf.QUOTA_USERS, "alice:10,bob:2.5,bad entry,carol:x");
+    conf.setProperty(SparrowConf.QUOTA_GROUPS, "analysts:100");
+    Map<String, Double> quotas = QuotaManager.parseQuotas(conf);
+    assertEquals(3, quotas.size());
+    assertEquals(10.0, quotas.get("user:alice"), EPSILON);
+    assertEquals(2.5, quotas.get("user:bob"), EPSILON);
+    assertEquals(100.0, quotas.get("group:analysts"), EPSILON);
+  }
+}
@@ -0,0 +1,255 @@
+package edu.berkeley.sparrow.daemon.scheduler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.commons.configuration.PropertiesConfiguration;
+import org.apache.log4j.BasicConfigurator;
+import org.apache.thrift.async.AsyncMethodCallback;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+import edu.berkeley.sparrow.daemon.SparrowConf;
+import edu.berkeley.sparrow.daemon.util.ThriftClientPool;
+import edu.berkeley.sparrow.thrift.InternalService;
+import edu.berkeley.sparrow.thrift.InternalService.AsyncClient.enqueueTaskReservations_call;
+import edu.berkeley.sparrow.thrift.InternalService.AsyncClient.releaseGangReservations_call;
+import edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest;
+import edu.berkeley.sparrow.thrift.THostPort;
+import edu.berkeley.sparrow.thrift.TPlacementPreference;
+import edu.berkeley.sparrow.thrift.TResourceVector;
+import edu.berkeley.sparrow.thrift.TSchedulingRequest;
+import edu.berkeley.sparrow.thrift.TTaskLaunchSpec;
+import edu.berkeley.sparrow.thrift.TTaskSpec;
+import edu.berkeley.sparrow.thrift.TUserGroupInfo;
+
+public class TestScheduler {
+  private static final String APP_ID = "test app";
+  private static final String NODE_MONITORS = "127.0.0.1:20501,127.0.0.2:20501,127.0.0.3:20501";
+
+  private Scheduler scheduler;
+
+  /** A node monitor client pool that can't connect to any node monitor. */
+  private static class FailingClientPool extends ThriftClientPool<InternalService.AsyncClient> {
+    FailingClientPool() {
+      super(new ThriftClientPool.InternalServiceMakerFactory());
+    }
+
+    @Override
+    public InternalService.AsyncClient borrowClient(InetSocketAddress socket) throws Exception {
+      throw new IOException("Unable to connect to " + socket);
+    }
+  }
+
+  /**
+   * A node monitor client pool whose clients record the reservations they are asked to enqueue
+   * and the gang tasks they are asked to launch, rather than sending them, and that can't
+   * connect to the node monitors in failedNodes.
+   */
+  private static class RecordingClientPool
+  extends ThriftClientPool<InternalService.AsyncClient> {
+    Set<InetSocketAddress> failedNodes = Sets.newHashSet();
+    Map<InetSocketAddress, List<TEnqueueTaskReservationsRequest>> reservations =
+        Maps.newHashMap();
+    List<TTaskLaunchSpec> releasedTasks = Lists.newArrayList();
+
+    RecordingClientPool() {
+      super(new ThriftClientPool.InternalServiceMakerFactory());
+    }
+
+    @Override
+    public InternalService.AsyncClient borrowClient(final InetSocketAddress socket)
+        throws Exception {
+      if (failedNodes.contains(socket)) {
+        throw new IOException("Unable to connect to " + socket);
+      }
+      return new InternalService.AsyncClient(null, null, null) {
+        @Override
+        public void enqueueTaskReservations(
+            TEnqueueTaskReservationsRequest request,
+            AsyncMethodCallback<enqueueTaskReservations_call> resultHandler) {
+          if (!reservations.containsKey(socket)) {
+            reservations.put(socket, Lists.<TEnqueueTaskReservationsRequest>newArrayList());
+          }
+          reservations.get(socket).add(request);
+        }
+
+        @Override
+        public void releaseGangReservations(
+            String requestId, int numReservations, List<TTaskLaunchSpec> tasks,
+            AsyncMethodCallback<releaseGangReservations_call> resultHandler) {
+          releasedTasks.addAll(tasks);
+        }
+      };
+    }
+  }
+
+  private static TSchedulingRequest job(int numTasks) {
+    List<TTaskSpec> tasks = Lists.newArrayList();
+    for (int i = 0; i < numTasks; ++i) {
+      tasks.add(new TTaskSpec("task " + i, new TPlacementPreference(), new TResourceVector(10, 1),
+                              ByteBuffer.allocate(1)));
+    }
+    return new TSchedulingRequest(APP_ID, tasks, new TUserGroupInfo("user", "group"));
+  }
+
+  @Before
+  public void setUp() throws Exception {
+    BasicConfigurator.configure();
+    Configuration conf = new PropertiesConfiguration();
+    conf.setProperty(SparrowConf.DEPLYOMENT_MODE, "configbased");
+    conf.setProperty(SparrowConf.STATIC_APP_NAME, APP_ID);
+    conf.setProperty(SparrowConf.STATIC_NODE_MONITORS, NODE_MONITORS);
+    conf.setProperty(SparrowConf.STATIC_MEM_PER_NM, 1024);
+    conf.setProperty(SparrowConf.STATIC_CPU_PER_NM, 4);
+    scheduler = new Scheduler();
+    scheduler.initialize(conf, new InetSocketAddress("127.0.0.1", 20503));
+  }
+
+  /**
+   * Submits jobs whose enqueueTaskReservations() RPCs all fail, and ensures that the jobs' tasks
+   * stop counting against admission control.
+   */
+  @Test
+  public void testFailedEnqueueReleasesAdmittedTasks() throws Exception {
+    scheduler.nodeMonitorClientPool = new FailingClientPool();
+    scheduler.submitJob(job(2));
+    assertEquals(0, scheduler.getLoadHint());
+    scheduler.submitJobs(Lists.newArrayList(job(1), job(3)));
+    assertEquals(0, scheduler.getLoadHint());
+  }
+
+  /**
+   * Ensures that a node monitor that was quarantined for being slow, and then failed an enqueue
+   * RPC, is still given a task when it answers a reservation it already held.
+   */
+  @Test
+  public void testQuarantinedNodeMonitorStillLaunchesTasks() throws Exception {
+    RecordingClientPool clientPool = new RecordingClientPool();
+    scheduler.nodeMonitorClientPool = clientPool;
+    TSchedulingRequest request = job(1);
+    request.setProbeRatio(1);
+    scheduler.submitJob(request);
+    assertEquals(1, clientPool.reservations.size());
+    InetSocketAddress node = clientPool.reservations.keySet().iterator().next();
+    String requestId = clientPool.reservations.get(node).get(0).getRequestId();
+
+    scheduler.nodeMonitorHealth.recordSuccess(node, 60000);
+    assertTrue(scheduler.nodeMonitorHealth.isQuarantined(node));
+    clientPool.failedNodes.add(node);
+    TSchedulingRequest other = job(1);
+    other.setProbeRatio(3);
+    scheduler.submitJob(other);
+    // The first job's reservation was given up, so only the second job counts.
+    assertEquals(1, scheduler.getLoadHint());
+
+    THostPort nodeAddress = hostPort(node);
+    assertEquals(1, scheduler.getTask(requestId, nodeAddress, null, null, null).size());
+    assertEquals(0, scheduler.getTask(requestId, nodeAddress, null, null, null).size());
+  }
+
+  /**
+   * Ensures that a reservation stolen from a node monitor still launches its task after that node
+   * monitor fails, and that it is accounted for at that node monitor rather than at the thief.
+   */
+  @Test
+  public void testStolenReservationIsAccountedAtVictim() throws Exception {
+    RecordingClientPool clientPool = new RecordingClientPool();
+    scheduler.nodeMonitorClientPool = clientPool;
+    TSchedulingRequest request = job(3);
+    request.setProbeRatio(1);
+    scheduler.submitJob(request);
+    assertEquals(3, clientPool.reservations.size());
+    List<InetSocketAddress> nodes = Lists.newArrayList(clientPool.reservations.keySet());
+    String requestId = clientPool.reservations.get(nodes.get(0)).get(0).getRequestId();
+    THostPort victim = hostPort(nodes.get(0));
+    THostPort thief = hostPort(nodes.get(2));
+
+    // The thief steals the victim's reservation, and the victim fails before the thief calls
+    // getTask() for it.
+    clientPool.failedNodes.add(nodes.get(0));
+    TSchedulingRequest other = job(1);
+    other.setProbeRatio(3);
+    scheduler.submitJob(other);
+    assertEquals(1, scheduler.getTask(requestId, thief, null, null, victim).size());
+
+    // The thief's own reservation must still count, so the request isn't finished when the
+    // remaining node monitor fails.
+    clientPool.failedNodes.add(nodes.get(1));
+    other = job(1);
+    other.setProbeRatio(3);
+    scheduler.submitJob(other);
+    assertEquals(3, scheduler.getLoadHint());
+    assertEquals(1, scheduler.getTask(requestId, thief, null, null, null).size());
+    assertEquals(2, scheduler.getLoadHint());
+  }
+
+  /**
+   * Ensures that a gang's tasks stop counting against admission control once they are released,
+   * even though some of the gang's reservations haven't been answered yet.
+   */
+  @Test
+  public void testReleasedGangTasksCountAsLaunched() throws Exception {
+    RecordingClientPool clientPool = new RecordingClientPool();
+    scheduler.nodeMonitorClientPool = clientPool;
+    TSchedulingRequest request = job(2);
+    request.setGang(true);
+    request.setProbeRatio(2);
+    scheduler.submitJob(request);
+    assertEquals(2, scheduler.getLoadHint());
+    List<InetSocketAddress> nodes = Lists.newArrayList(clientPool.reservations.keySet());
+    String requestId = clientPool.reservations.get(nodes.get(0)).get(0).getRequestId();
+
+    scheduler.getTask(requestId, hostPort(nodes.get(0)), null, null, null);
+    scheduler.getTask(requestId, hostPort(nodes.get(1)), null, null, null);
+    assertEquals(2, clientPool.releasedTasks.size());
+    assertEquals(0, scheduler.getLoadHint());
+  }
+
+  /**
+   * Ensures that a gang's task placer is removed once the gang has launched, even though some of
+   * its reservations were given up because an enqueue RPC failed.
+   */
+  @Test
+  public void testGangTaskPlacerRemovedAfterFailedEnqueue() throws Exception {
+    RecordingClientPool clientPool = new RecordingClientPool();
+    scheduler.nodeMonitorClientPool = clientPool;
+    clientPool.failedNodes.add(new InetSocketAddress("127.0.0.1", 20501));
+    TSchedulingRequest request = job(2);
+    request.setGang(true);
+    request.setProbeRatio(2);
+    scheduler.submitJob(request);
+    assertEquals(1, scheduler.requestTaskPlacers.size());
+
+    // Answer every reservation that was enqueued; the gang launches, and the task placer isn't
+    // left waiting for the reservations on the failed node monitor.
+    for (Entry<InetSocketAddress, List<TEnqueueTaskReservationsRequest>> entry :
+         clientPool.reservations.entrySet()) {
+      for (TEnqueueTaskReservationsRequest reservation : entry.getValue()) {
+        for (int i = 0; i < reservation.getNumTasks(); ++i) {
+          scheduler.getTask(reservation.getRequestId(), hostPort(entry.getKey()), null, null,
+                            null);
+        }
+      }
+    }
+    assertEquals(2, clientPool.releasedTasks.size());
+    assertEquals(0, scheduler.requestTaskPlacers.size());
+  }
+
+  private static THostPort hostPort(InetSocketAddress node) {
+    return new THostPort(node.getAddress().getHostAddress(), node.getPort());
+  }
+}
@@ -0,0 +1,63 @@
+package edu.berkeley.sparrow.daemon.scheduler;
+
+import static org.junit.Assert.assertEquals;
+
+import java.net.InetSocketAddress;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+import edu.berkeley.sparrow.daemon.util.TResources;
+import edu.berkeley.sparrow.thrift.TNodeState;
+
+public class TestStateStoreSchedulerState {
+  private static final String APP = "app";
+
+  private static TNodeState node(int memory) {
+    TNodeState state = new TNodeState(TResources.createResourceVector(memory, 1),
+                                      TResources.none());
+    state.setApps(Lists.newArrayList(APP));
+    return state;
+  }
+
+  private static InetSocketAddress address(String nodeMonitor) {
+    return new InetSocketAddress(nodeMonitor.split(":")[0],
+                                 Integer.parseInt(nodeMonitor.split(":")[1]));
+  }
+
+  /** Ensures that the snapshots from each shard are merged. */
+  @Test
+  public void testMergesShards() throws Exception {
+    StateStoreSchedulerState state = new StateStoreSchedulerState();
+    state.watchApplication(APP);
+
+    Map<String, TNodeState> shard1 = Maps.newHashMap();
+    shard1.put("127.0.0.1:1", node(100));
+    shard1.put("127.0.0.1:2", node(200));
+    state.updateNodeState(shard1, "10.1.0.1:20506");
+    assertEquals(2, state.getBackends(APP).size());
+
+    Map<String, TNodeState> shard2 = Maps.newHashMap();
+    shard2.put("127.0.0.1:3", node(300));
+    // Node monitor 2 has moved to shard 2, which has more recent state for it.
+    shard2.put("127.0.0.1:2", node(250));
+    Thread.sleep(2);
+    state.updateNodeState(shard2, "10.1.0.2:20506");
+    BackendIndex.Snapshot backends = state.getBackends(APP);
+    assertEquals(3, backends.size());
+    for (int i = 0; i < backends.size(); ++i) {
+      if (backends.getNode(i).equals(address("127.0.0.1:2"))) {
+        assertEquals(250, backends.getResources(i).getMemory());
+      }
+    }
+
+    // A new snapshot from a shard replaces its previous one.
+    shard1.remove("127.0.0.1:2");
+    shard1.remove("127.0.0.1:1");
+    state.updateNodeState(shard1, "10.1.0.1:20506");
+    assertEquals(2, state.getBackends(APP).size());
+  }
+}
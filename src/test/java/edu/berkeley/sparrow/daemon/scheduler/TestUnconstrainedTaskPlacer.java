@@ -20,6 +20,7 @@ import com.google.common.collect.Sets;
 
 import edu.berkeley.sparrow.thrift.TEnqueueTaskReservationsRequest;
 import edu.berkeley.sparrow.thrift.THostPort;
+import edu.berkeley.sparrow.thrift.TNodeLoad;
 import edu.berkeley.sparrow.thrift.TPlacementPreference;
 import edu.berkeley.sparrow.thrift.TResourceVector;
 import edu.berkeley.sparrow.thrift.TSchedulingRequest;
@@ -230,4 +231,149 @@ public class TestUnconstrainedTaskPlacer {
       assertTrue(taskPlacer.allResponsesReceived());
     } 
   }
+
+  /**
+   * With a load cache and enough candidates to consider every node, reservations should go to
+   * the nodes with the shortest queues.
+   */
+  @Test
+  public void testPlacementPrefersLightlyLoadedNodes() {
+    List<TTaskSpec> tasks = Lists.newArrayList();
+    TResourceVector estimatedResources = new TResourceVector(MEMORY, CORES);
+    for (int i = 0; i < 2; ++i) {
+      tasks.add(new TTaskSpec("test task " + i, new TPlacementPreference(), estimatedResources,
+                              ByteBuffer.allocate(1)));
+    }
+    TSchedulingRequest schedulingRequest =
+        new TSchedulingRequest(APP_ID, tasks, new TUserGroupInfo(USER, GROUP));
+
+    NodeLoadCache loadCache = new NodeLoadCache(60000);
+    List<InetSocketAddress> backendNodes = Lists.newArrayList();
+    for (int i = 0; i < 6; ++i) {
+      InetSocketAddress node = new InetSocketAddress("10.0.0." + i, 20501);
+      backendNodes.add(node);
+      // Nodes 1 and 4 are idle; the others are busy.
+      loadCache.update(node, new TNodeLoad(i == 1 || i == 4 ? 0 : 10, estimatedResources));
+    }
+
+    for (int i = 0; i < 20; ++i) {
+      UnconstrainedTaskPlacer taskPlacer = new UnconstrainedTaskPlacer(REQUEST_ID, 1.0);
+      taskPlacer.setLoadCache(loadCache, 3.0);
+      Map<InetSocketAddress, TEnqueueTaskReservationsRequest> requests =
+          taskPlacer.getEnqueueTaskReservationsRequests(schedulingRequest, REQUEST_ID,
+                                                        backendNodes, SCHEDULER_ADDRESS);
+      assertEquals(Sets.newHashSet(backendNodes.get(1), backendNodes.get(4)), requests.keySet());
+    }
+  }
+
+  /**
+   * A job with more reservations than there are nodes should get a single multi-task request on
+   * every node, with more reservations on nodes with more free capacity.
+   */
+  @Test
+  public void testJobLargerThanCluster() {
+    final int numTasks = 100;
+    List<TTaskSpec> tasks = Lists.newArrayList();
+    TResourceVector estimatedResources = new TResourceVector(MEMORY, CORES);
+    for (int i = 0; i < numTasks; ++i) {
+      tasks.add(new TTaskSpec("test task " + i, new TPlacementPreference(), estimatedResources,
+                              ByteBuffer.allocate(1)));
+    }
+    TSchedulingRequest schedulingRequest =
+        new TSchedulingRequest(APP_ID, tasks, new TUserGroupInfo(USER, GROUP));
+
+    NodeLoadCache loadCache = new NodeLoadCache(60000);
+    List<InetSocketAddress> backendNodes = Lists.newArrayList();
+    for (int i = 0; i < 10; ++i) {
+      backendNodes.add(new InetSocketAddress("10.0.0." + i, 20501));
+    }
+    // Node 0 has 8 free cores; the rest are fully used but have empty queues.
+    loadCache.update(backendNodes.get(0), new TNodeLoad(0, new TResourceVector(1024, 8)));
+    for (int i = 1; i < 10; ++i) {
+      loadCache.update(backendNodes.get(i), new TNodeLoad(0, new TResourceVector(0, 0)));
+    }
+
+    UnconstrainedTaskPlacer taskPlacer = new UnconstrainedTaskPlacer(REQUEST_ID, 1.5);
+    taskPlacer.setLoadCache(loadCache, 2.0);
+    Map<InetSocketAddress, TEnqueueTaskReservationsRequest> requests =
+        taskPlacer.getEnqueueTaskReservationsRequests(schedulingRequest, REQUEST_ID,
+                                                      backendNodes, SCHEDULER_ADDRESS);
+    assertEquals(10, requests.size());
+    int totalReservations = 0;
+    for (TEnqueueTaskReservationsRequest request : requests.values()) {
+      totalReservations += request.getNumTasks();
+    }
+    assertEquals(150, totalReservations);
+    // 140 reservations beyond the first on each node are split 9:1:...:1.
+    assertEquals(1 + 70, requests.get(backendNodes.get(0)).getNumTasks());
+    for (int i = 1; i < 10; ++i) {
+      int reservations = requests.get(backendNodes.get(i)).getNumTasks();
+      assertTrue(reservations == 8 || reservations == 9);
+    }
+
+    // Every reservation should be able to fetch a task until the tasks run out.
+    THostPort node = new THostPort("10.0.0.0", 20501);
+    for (int i = 0; i < numTasks; ++i) {
+      assertEquals(1, taskPlacer.assignTask(node).size());
+    }
+    for (int i = numTasks; i < totalReservations; ++i) {
+      assertEquals(0, taskPlacer.assignTask(node).size());
+    }
+    assertTrue(taskPlacer.allResponsesReceived());
+  }
+
+  /**
+   * A job with more reservations than there are nodes should still avoid quarantined nodes,
+   * spreading its reservations over the healthy ones.
+   */
+  @Test
+  public void testJobLargerThanClusterAvoidsQuarantinedNodes() {
+    List<TTaskSpec> tasks = Lists.newArrayList();
+    TResourceVector estimatedResources = new TResourceVector(MEMORY, CORES);
+    for (int i = 0; i < 10; ++i) {
+      tasks.add(new TTaskSpec("test task " + i, new TPlacementPreference(), estimatedResources,
+                              ByteBuffer.allocate(1)));
+    }
+    TSchedulingRequest schedulingRequest =
+        new TSchedulingRequest(APP_ID, tasks, new TUserGroupInfo(USER, GROUP));
+
+    List<InetSocketAddress> backendNodes = Lists.newArrayList();
+    for (int i = 0; i < 4; ++i) {
+      backendNodes.add(new InetSocketAddress("10.0.0." + i, 20501));
+    }
+    NodeMonitorHealth health = new NodeMonitorHealth(3, 100, 0.5, 60000, 60000);
+    for (int i = 0; i < 3; ++i) {
+      health.recordFailure(backendNodes.get(2));
+    }
+    assertTrue(health.isQuarantined(backendNodes.get(2)));
+
+    UnconstrainedTaskPlacer taskPlacer = new UnconstrainedTaskPlacer(REQUEST_ID, 2.0);
+    taskPlacer.setHealth(health);
+    Map<InetSocketAddress, TEnqueueTaskReservationsRequest> requests =
+        taskPlacer.getEnqueueTaskReservationsRequests(schedulingRequest, REQUEST_ID,
+                                                      backendNodes, SCHEDULER_ADDRESS);
+    assertEquals(Sets.newHashSet(backendNodes.get(0), backendNodes.get(1), backendNodes.get(3)),
+                 requests.keySet());
+    int totalReservations = 0;
+    for (TEnqueueTaskReservationsRequest request : requests.values()) {
+      totalReservations += request.getNumTasks();
+    }
+    assertEquals(20, totalReservations);
+  }
+
+  @Test
+  public void testApportion() {
+    int[] shares = UnconstrainedTaskPlacer.apportion(new double[] {1, 1, 1}, 10);
+    assertEquals(4, shares[0]);
+    assertEquals(3, shares[1]);
+    assertEquals(3, shares[2]);
+
+    shares = UnconstrainedTaskPlacer.apportion(new double[] {3, 1}, 7);
+    assertEquals(5, shares[0]);
+    assertEquals(2, shares[1]);
+
+    shares = UnconstrainedTaskPlacer.apportion(new double[] {2, 0}, 5);
+    assertEquals(5, shares[0]);
+    assertEquals(0, shares[1]);
+  }
 }
@@ -0,0 +1,60 @@
+package edu.berkeley.sparrow.daemon.trace;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+public class TestCriticalPath {
+  private static final String SCHEDULER = "10.0.0.1:20503";
+  private static final String NODE_1 = "10.0.0.2:20502";
+  private static final String NODE_2 = "10.0.0.3:20502";
+
+  /**
+   * Builds the spans of a two-task job where the second node monitor's queue is slower, so its
+   * task finishes last.
+   */
+  @Test
+  public void testCriticalPath() {
+    List<Span> spans = Lists.newArrayList(
+        new Span(1, 10, 0, "submit", SCHEDULER, 0, 100, "request"),
+        new Span(1, 20, 10, "probe", SCHEDULER, 50, 300, NODE_1),
+        new Span(1, 21, 10, "probe", SCHEDULER, 60, 310, NODE_2),
+        new Span(1, 30, 20, "queue", NODE_1, 200, 250, "request"),
+        new Span(1, 31, 21, "queue", NODE_2, 210, 5000, "request"),
+        new Span(1, 40, 30, "fetch", NODE_1, 250, 450, SCHEDULER),
+        new Span(1, 41, 31, "fetch", NODE_2, 5000, 5200, SCHEDULER),
+        new Span(1, 45, 40, "assign", SCHEDULER, 300, 320, "0"),
+        new Span(1, 46, 41, "assign", SCHEDULER, 5050, 5070, "1"),
+        new Span(1, 50, 40, "launch", NODE_1, 450, 500, "0"),
+        new Span(1, 51, 41, "launch", NODE_2, 5200, 5300, "1"),
+        new Span(1, 60, 50, "run", NODE_1, 500, 1500, "0"),
+        new Span(1, 61, 51, "run", NODE_2, 5300, 6300, "1"));
+    CriticalPath path = new CriticalPath(spans);
+
+    List<String> names = Lists.newArrayList();
+    List<Long> ids = Lists.newArrayList();
+    for (Span span : path.getSpans()) {
+      names.add(span.name);
+      ids.add(span.spanId);
+    }
+    assertEquals(Lists.newArrayList("submit", "probe", "queue", "fetch", "launch", "run"), names);
+    assertEquals(Lists.newArrayList(10L, 21L, 31L, 41L, 51L, 61L), ids);
+    assertEquals(6300, path.getDurationMicros());
+  }
+
+  /** Spans whose parents weren't collected (e.g., from a daemon that wasn't queried). */
+  @Test
+  public void testMissingParent() {
+    List<Span> spans = Lists.newArrayList(
+        new Span(1, 40, 30, "fetch", NODE_1, 250, 450, SCHEDULER),
+        new Span(1, 50, 40, "launch", NODE_1, 450, 500, "0"));
+    CriticalPath path = new CriticalPath(spans);
+    assertEquals(2, path.getSpans().size());
+    assertEquals(250, path.getDurationMicros());
+    assertEquals(0, new CriticalPath(Lists.<Span>newArrayList()).getDurationMicros());
+  }
+}
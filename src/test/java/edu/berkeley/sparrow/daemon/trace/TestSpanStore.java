@@ -0,0 +1,50 @@
+package edu.berkeley.sparrow.daemon.trace;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+public class TestSpanStore {
+  private Span span(long traceId, long spanId) {
+    return new Span(traceId, spanId, 0, "submit", "10.0.0.1:20503", 0, 1, "");
+  }
+
+  @Test
+  public void testGetSpans() {
+    SpanStore store = new SpanStore(10);
+    Span first = span(1, 11);
+    store.add(first);
+    store.add(span(2, 21));
+    store.add(span(1, 12));
+    assertEquals(2, store.getSpans(1).size());
+    assertEquals(0, store.getSpans(3).size());
+    assertSame(first, store.getSpan(11));
+    assertNull(store.getSpan(13));
+    assertEquals(Lists.newArrayList(1L, 2L), store.getTraceIds());
+  }
+
+  /** Ensures that whole traces are evicted, oldest first, once the store is full. */
+  @Test
+  public void testEviction() {
+    SpanStore store = new SpanStore(3);
+    store.add(span(1, 11));
+    store.add(span(1, 12));
+    store.add(span(2, 21));
+    store.add(span(3, 31));
+    assertEquals(Lists.newArrayList(2L, 3L), store.getTraceIds());
+    assertEquals(2, store.size());
+    assertNull(store.getSpan(11));
+  }
+
+  @Test
+  public void testParse() {
+    Span span = new Span(1, 2, 3, "fetch", "10.0.0.1:20502", 100, 250, "task 1");
+    Span parsed = Span.parse(span.toString());
+    assertEquals(span.toString(), parsed.toString());
+    assertEquals(150, parsed.getDurationMicros());
+  }
+}
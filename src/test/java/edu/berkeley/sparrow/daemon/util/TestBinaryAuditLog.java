@@ -0,0 +1,110 @@
+package edu.berkeley.sparrow.daemon.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.StringWriter;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.google.common.base.Splitter;
+import com.google.common.collect.Lists;
+
+public class TestBinaryAuditLog {
+  private List<String> writeAndConvert(BinaryAuditLog log, File file) throws Exception {
+    log.close();
+    StringWriter text = new StringWriter();
+    FileInputStream in = new FileInputStream(file);
+    try {
+      BinaryAuditLogConverter.convert(in, text);
+    } finally {
+      in.close();
+    }
+    return Lists.newArrayList(Splitter.on('\n').omitEmptyStrings().split(text.toString()));
+  }
+
+  /** Ensures that events are converted to the same text that the text audit log writes. */
+  @Test
+  public void testConvertToText() throws Exception {
+    File file = File.createTempFile("audit", ".bin");
+    file.deleteOnExit();
+    long start = System.currentTimeMillis();
+    BinaryAuditLog log = new BinaryAuditLog(file, 16);
+    log.log("audit.Scheduler", "arrived", "request_1", 3, "10.0.0.1", 20503L, "user");
+    log.log("audit.TaskScheduler", "task_completed", "request_1", "0");
+    log.log("audit.Scheduler", "scheduler_get_task_no_task", "request_1");
+    List<String> lines = writeAndConvert(log, file);
+    long end = System.currentTimeMillis();
+
+    assertEquals(3, lines.size());
+    List<String> fields = Lists.newArrayList(Splitter.on('\t').split(lines.get(0)));
+    assertEquals("audit.Scheduler", fields.get(0));
+    long time = Long.parseLong(fields.get(1));
+    assertTrue(time >= start && time <= end);
+    assertEquals("arrived:request_1:3:10.0.0.1:20503:user", fields.get(2));
+    assertTrue(lines.get(1).startsWith("audit.TaskScheduler\t"));
+    assertTrue(lines.get(1).endsWith("\ttask_completed:request_1:0"));
+    assertTrue(lines.get(2).endsWith("\tscheduler_get_task_no_task:request_1"));
+  }
+
+  /** Logs more events, from several threads, than fit in the buffer at once. */
+  @Test
+  public void testConcurrentLogging() throws Exception {
+    File file = File.createTempFile("audit", ".bin");
+    file.deleteOnExit();
+    final BinaryAuditLog log = new BinaryAuditLog(file, 1024);
+    final int eventsPerThread = 10000;
+    List<Thread> threads = Lists.newArrayList();
+    for (int i = 0; i < 4; ++i) {
+      final String thread = "thread" + i;
+      threads.add(new Thread() {
+        @Override
+        public void run() {
+          for (int j = 0; j < eventsPerThread; ++j) {
+            while (!log.log("audit.Test", "event", thread, j)) {
+              Thread.yield();
+            }
+          }
+        }
+      });
+    }
+    for (Thread thread : threads) {
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    List<String> lines = writeAndConvert(log, file);
+
+    assertEquals(4 * eventsPerThread, lines.size());
+    // Each thread's events should appear in order.
+    int[] nextEvent = new int[4];
+    for (String line : lines) {
+      List<String> params = Lists.newArrayList(Splitter.on(':').split(line));
+      int thread = Integer.parseInt(params.get(1).substring("thread".length()));
+      assertEquals(nextEvent[thread]++, Integer.parseInt(params.get(2)));
+    }
+  }
+
+  /** Ensures that parameters that don't fit in a record are truncated. */
+  @Test
+  public void testTruncation() throws Exception {
+    File file = File.createTempFile("audit", ".bin");
+    file.deleteOnExit();
+    BinaryAuditLog log = new BinaryAuditLog(file, 16);
+    StringBuilder longString = new StringBuilder();
+    for (int i = 0; i < 2 * BinaryAuditLog.SLOT_SIZE; ++i) {
+      longString.append('x');
+    }
+    log.log("audit.Test", "event", longString.toString(), 1);
+    List<String> lines = writeAndConvert(log, file);
+
+    assertEquals(1, lines.size());
+    String params = lines.get(0).substring(lines.get(0).indexOf("event:"));
+    assertTrue(params.length() < BinaryAuditLog.SLOT_SIZE);
+    assertTrue(params.startsWith("event:xxxx"));
+  }
+}
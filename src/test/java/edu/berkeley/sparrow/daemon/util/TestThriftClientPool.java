@@ -52,6 +52,28 @@ public class TestThriftClientPool {
     assertEquals(client1, client2);
   }
   
+  /** An invalidated client, and any idle clients for the same address, should be destroyed. */
+  @Test
+  public void testInvalidateClient() throws Exception {
+    InetSocketAddress sock = new InetSocketAddress(12345);
+    ThriftClientPool<TAsyncClient> pool = new ThriftClientPool<TAsyncClient>(
+        new MockedMakerFactory());
+
+    TAsyncClient client1 = pool.borrowClient(sock);
+    TAsyncClient client2 = pool.borrowClient(sock);
+    pool.returnClient(sock, client1);
+    assertEquals(1, pool.getNumIdle(sock));
+    assertEquals(1, pool.getNumActive(sock));
+
+    pool.invalidateClient(sock, client2);
+    assertEquals(0, pool.getNumIdle(sock));
+    assertEquals(0, pool.getNumActive(sock));
+
+    TAsyncClient client3 = pool.borrowClient(sock);
+    assertNotSame(client1, client3);
+    assertNotSame(client2, client3);
+  }
+
   @Test
   public void testPoolExpiration() throws Exception {
     // Makes sure that a thrift client gets evicted (and therefore closed) if it is not 
@@ -0,0 +1,51 @@
+package edu.berkeley.sparrow.daemon.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.commons.configuration.PropertiesConfiguration;
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+import org.junit.After;
+import org.junit.Test;
+
+import edu.berkeley.sparrow.daemon.SparrowConf;
+
+public class TestTracing {
+  private static final Logger LOG = Logger.getLogger(TestTracing.class);
+
+  @After
+  public void tearDown() {
+    LOG.setLevel(null);
+    Tracing.configure(new PropertiesConfiguration());
+  }
+
+  @Test
+  public void testNotTracedBelowTraceLevel() {
+    LOG.setLevel(Level.DEBUG);
+    for (int i = 0; i < 100; ++i) {
+      assertFalse(Tracing.isTraced(LOG));
+    }
+  }
+
+  @Test
+  public void testSampling() {
+    LOG.setLevel(Level.TRACE);
+    Configuration conf = new PropertiesConfiguration();
+    conf.setProperty(SparrowConf.TRACE_SAMPLE_EVERY, 10);
+    Tracing.configure(conf);
+    int traced = 0;
+    for (int i = 0; i < 1000; ++i) {
+      if (Tracing.isTraced(LOG)) {
+        traced++;
+      }
+    }
+    assertEquals(100, traced);
+  }
+
+  @Test
+  public void testCall() {
+    assertEquals("getTask: [request_1,null,3]", Tracing.call("getTask", "request_1", null, 3));
+  }
+}
@@ -0,0 +1,59 @@
+package edu.berkeley.sparrow.simulation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class TestEventQueue {
+  /** Ensures that events are returned in time order, and in insertion order for ties. */
+  @Test
+  public void testOrdering() {
+    EventQueue events = new EventQueue();
+    events.add(5, 1, 0, "a");
+    events.add(3, 2, 1, null);
+    events.add(5, 3, 2, "b");
+    events.add(1, 4, 3, null);
+
+    assertTrue(events.next());
+    assertEquals(1, events.time());
+    assertEquals(4, events.type());
+    assertTrue(events.next());
+    assertEquals(3, events.time());
+    assertEquals(1, events.argument());
+    assertTrue(events.next());
+    assertEquals(5, events.time());
+    assertEquals("a", events.payload());
+    assertTrue(events.next());
+    assertEquals(5, events.time());
+    assertEquals("b", events.payload());
+    assertFalse(events.next());
+  }
+
+  /** Interleaves adds and removals, so that the queue grows and slots are reused. */
+  @Test
+  public void testManyEvents() {
+    EventQueue events = new EventQueue();
+    Random random = new Random(0);
+    long now = 0;
+    int numAdded = 0;
+    int numRemoved = 0;
+    for (int i = 0; i < 10000; ++i) {
+      events.add(now + random.nextInt(1000), 0, i, null);
+      events.add(now + random.nextInt(1000), 0, i, null);
+      numAdded += 2;
+      assertTrue(events.next());
+      assertTrue(events.time() >= now);
+      now = events.time();
+      numRemoved++;
+    }
+    assertEquals(numAdded - numRemoved, events.size());
+    while (events.next()) {
+      assertTrue(events.time() >= now);
+      now = events.time();
+    }
+  }
+}
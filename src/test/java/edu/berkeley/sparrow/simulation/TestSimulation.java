@@ -0,0 +1,36 @@
+package edu.berkeley.sparrow.simulation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.apache.commons.configuration.PropertiesConfiguration;
+import org.junit.Test;
+
+import edu.berkeley.sparrow.daemon.SparrowConf;
+
+public class TestSimulation {
+  /**
+   * Runs a lightly loaded cluster with enough probes that tasks shouldn't queue, in which case
+   * each job's response time is its task duration plus three network delays (reservation,
+   * getTask() and response).
+   */
+  @Test
+  public void testLightlyLoadedCluster() {
+    PropertiesConfiguration conf = new PropertiesConfiguration();
+    conf.setProperty(Simulation.NUM_NODES, 100);
+    conf.setProperty(Simulation.NUM_SCHEDULERS, 2);
+    conf.setProperty(Simulation.SLOTS_PER_NODE, 1);
+    conf.setProperty(Simulation.NUM_JOBS, 200);
+    conf.setProperty(Simulation.TASKS_PER_JOB, 2);
+    conf.setProperty(Simulation.LOAD, 0.01);
+    conf.setProperty(Simulation.TASK_DURATION_MS, 10);
+    conf.setProperty(Simulation.NETWORK_DELAY_MS, 1);
+    conf.setProperty(Simulation.WARMUP_FRACTION, 0);
+    conf.setProperty(SparrowConf.SAMPLE_RATIO, 2);
+
+    Simulation.Result result = new Simulation(conf).run();
+    assertEquals(200, result.measuredJobs);
+    assertEquals(13, result.responseTimeP50Ms, 0.01);
+    assertTrue(result.responseTimeP99Ms < 25);
+  }
+}
@@ -0,0 +1,112 @@
+package edu.berkeley.sparrow.statestore;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.net.InetSocketAddress;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.commons.configuration.PropertiesConfiguration;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+import edu.berkeley.sparrow.daemon.SparrowConf;
+
+public class TestDurableStateStoreState {
+  private File file;
+
+  @Before
+  public void setUp() throws Exception {
+    file = File.createTempFile("membership", ".log");
+    file.delete();
+    file.deleteOnExit();
+    new File(file.getPath() + ".tmp").deleteOnExit();
+  }
+
+  private DurableStateStoreState open(int compactRecords) throws Exception {
+    Configuration conf = new PropertiesConfiguration();
+    conf.setProperty(SparrowConf.STATE_STORE_MEMBERSHIP_LOG, file.getPath());
+    conf.setProperty(SparrowConf.STATE_STORE_COMPACT_RECORDS, compactRecords);
+    DurableStateStoreState state = new DurableStateStoreState();
+    state.initialize(conf);
+    return state;
+  }
+
+  private static InetSocketAddress address(int port) {
+    return new InetSocketAddress("127.0.0.1", port);
+  }
+
+  @Test
+  public void testRecoversMembership() throws Exception {
+    DurableStateStoreState state = open(1000);
+    assertTrue(state.getInitialNodeMonitors().isEmpty());
+    state.signalActiveScheduer(address(20503));
+    state.signalActiveNodeMonitor(address(20501));
+    state.signalActiveNodeMonitor(address(20502));
+    state.signalActiveNodeMonitor(address(20504));
+    state.signalActiveNodeMonitor(address(20502));
+    state.signalInactiveNodeMonitor(address(20501));
+    assertEquals(5, state.getNumRecords());
+    state.close();
+
+    state = open(1000);
+    assertEquals(Lists.newArrayList(address(20503)), state.getInitialSchedulers());
+    assertEquals(Lists.newArrayList(address(20502), address(20504)),
+                 state.getInitialNodeMonitors());
+    // The log was compacted when it was opened.
+    assertEquals(3, state.getNumRecords());
+    state.signalInactiveScheduler(address(20503));
+    state.close();
+
+    state = open(1000);
+    assertTrue(state.getInitialSchedulers().isEmpty());
+    assertEquals(2, state.getInitialNodeMonitors().size());
+    state.close();
+  }
+
+  @Test
+  public void testCompaction() throws Exception {
+    DurableStateStoreState state = open(10);
+    state.signalActiveNodeMonitor(address(30000));
+    for (int i = 0; i < 5000; ++i) {
+      state.signalActiveNodeMonitor(address(20000 + i));
+      state.signalInactiveNodeMonitor(address(20000 + i));
+      assertTrue(state.getNumRecords() <= 11);
+    }
+    state.close();
+    assertTrue(file.length() < 1024 * 1024);
+
+    state = open(10);
+    assertEquals(Lists.newArrayList(address(30000)), state.getInitialNodeMonitors());
+    state.close();
+  }
+
+  /** Ensures that a record that was only partly written when the state store failed is ignored. */
+  @Test
+  public void testIgnoresTornRecord() throws Exception {
+    DurableStateStoreState state = open(1000);
+    state.signalActiveNodeMonitor(address(20501));
+    state.close();
+
+    // Header, then one record for "127.0.0.1:20501".
+    int end = 8 + 6 + 15;
+    RandomAccessFile out = new RandomAccessFile(file, "rw");
+    out.seek(end);
+    out.write(new byte[] {3, 15});
+    out.write("127.0.0.1:20502".getBytes("US-ASCII"));
+    out.writeInt(12345);
+    out.close();
+
+    state = open(1000);
+    assertEquals(Lists.newArrayList(address(20501)), state.getInitialNodeMonitors());
+    state.signalActiveNodeMonitor(address(20502));
+    state.close();
+    state = open(1000);
+    assertEquals(2, state.getInitialNodeMonitors().size());
+    state.close();
+  }
+}
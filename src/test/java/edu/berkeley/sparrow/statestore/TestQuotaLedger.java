@@ -0,0 +1,49 @@
+package edu.berkeley.sparrow.statestore;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.google.common.collect.Maps;
+
+import edu.berkeley.sparrow.thrift.TQuotaReconciliation;
+
+public class TestQuotaLedger {
+  private static Map<String, Long> demand(String principal, long tasks) {
+    Map<String, Long> demand = Maps.newHashMap();
+    demand.put(principal, tasks);
+    return demand;
+  }
+
+  @Test
+  public void testSumsLatestReports() {
+    QuotaLedger ledger = new QuotaLedger(5000);
+    TQuotaReconciliation result = ledger.report("s1", demand("user:alice", 3), 0);
+    assertEquals(1, result.getNumSchedulers());
+    assertEquals(3, (long) result.getTotalDemand().get("user:alice"));
+
+    ledger.report("s2", demand("user:alice", 4), 100);
+    // A newer report from a scheduler replaces its older one.
+    result = ledger.report("s1", demand("user:bob", 5), 200);
+    assertEquals(2, result.getNumSchedulers());
+    assertEquals(4, (long) result.getTotalDemand().get("user:alice"));
+    assertEquals(5, (long) result.getTotalDemand().get("user:bob"));
+  }
+
+  @Test
+  public void testExpiresSilentSchedulers() {
+    QuotaLedger ledger = new QuotaLedger(5000);
+    ledger.report("s1", demand("user:alice", 3), 0);
+    ledger.report("s2", demand("user:alice", 4), 4000);
+    TQuotaReconciliation result = ledger.report("s2", demand("user:alice", 4), 6000);
+    assertEquals(1, result.getNumSchedulers());
+    assertEquals(4, (long) result.getTotalDemand().get("user:alice"));
+
+    result = ledger.report("s3", demand("user:bob", 1), 20000);
+    assertEquals(1, result.getNumSchedulers());
+    assertFalse(result.getTotalDemand().containsKey("user:alice"));
+  }
+}
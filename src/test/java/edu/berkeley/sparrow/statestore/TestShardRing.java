@@ -0,0 +1,76 @@
+package edu.berkeley.sparrow.statestore;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+public class TestShardRing {
+  private static final int NUM_NODE_MONITORS = 10000;
+
+  private static List<InetSocketAddress> nodeMonitors() {
+    List<InetSocketAddress> nodeMonitors = Lists.newArrayList();
+    for (int i = 0; i < NUM_NODE_MONITORS; ++i) {
+      nodeMonitors.add(new InetSocketAddress("10.0." + (i / 250) + "." + (i % 250), 20501));
+    }
+    return nodeMonitors;
+  }
+
+  @Test
+  public void testEmptyRing() {
+    ShardRing ring = new ShardRing(Lists.<String>newArrayList());
+    assertNull(ring.getOwner(new InetSocketAddress("10.0.0.1", 20501)));
+  }
+
+  @Test
+  public void testBalanced() {
+    ShardRing ring = new ShardRing(Lists.newArrayList(
+        "10.1.0.1:20506", "10.1.0.2:20506", "10.1.0.3:20506", "10.1.0.4:20506"));
+    Map<String, Integer> counts = Maps.newHashMap();
+    for (InetSocketAddress nodeMonitor : nodeMonitors()) {
+      String owner = ring.getOwner(nodeMonitor);
+      Integer count = counts.get(owner);
+      counts.put(owner, count == null ? 1 : count + 1);
+    }
+    assertEquals(4, counts.size());
+    for (int count : counts.values()) {
+      // Within 25% of an even split.
+      assertTrue("Unbalanced: " + counts, Math.abs(count - NUM_NODE_MONITORS / 4) <
+          NUM_NODE_MONITORS / 16);
+    }
+  }
+
+  /** Ensures that only node monitors that move to a joining shard change owner. */
+  @Test
+  public void testMinimalMovement() {
+    List<String> shards = Lists.newArrayList("10.1.0.1:20506", "10.1.0.2:20506",
+                                             "10.1.0.3:20506");
+    ShardRing before = new ShardRing(shards);
+    shards.add("10.1.0.4:20506");
+    // The order the shards are given in doesn't matter.
+    ShardRing after = new ShardRing(Lists.reverse(shards));
+    int moved = 0;
+    for (InetSocketAddress nodeMonitor : nodeMonitors()) {
+      String owner = after.getOwner(nodeMonitor);
+      if (!owner.equals(before.getOwner(nodeMonitor))) {
+        assertEquals("10.1.0.4:20506", owner);
+        moved++;
+      }
+    }
+    assertTrue(moved > NUM_NODE_MONITORS / 8 && moved < NUM_NODE_MONITORS * 3 / 8);
+
+    // And when it leaves again, they move back.
+    ShardRing removed = new ShardRing(shards.subList(0, 3));
+    for (InetSocketAddress nodeMonitor : nodeMonitors()) {
+      assertEquals(before.getOwner(nodeMonitor), removed.getOwner(nodeMonitor));
+    }
+  }
+}